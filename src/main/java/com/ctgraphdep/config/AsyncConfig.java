@@ -1,8 +1,10 @@
 package com.ctgraphdep.config;
 
 import com.ctgraphdep.utils.LoggerUtil;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -81,4 +83,137 @@ public class AsyncConfig {
 
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * Executor for streamed HTTP responses (Excel exports written directly to the response).
+     * Kept small and separate so large exports cannot starve the general async pool.
+     */
+    @Bean(name = "exportStreamingTaskExecutor")
+    public AsyncTaskExecutor exportStreamingTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(20);
+        executor.setKeepAliveSeconds(60);
+        executor.setThreadNamePrefix("export-stream-");
+
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        executor.initialize();
+
+        LoggerUtil.info(this.getClass(),
+                "Initialized export streaming task executor with core pool size: " + executor.getCorePoolSize() +
+                        ", max pool size: " + executor.getMaxPoolSize());
+
+        return executor;
+    }
+
+    /**
+     * Executor generating workbooks for bulk (team x period) exports.
+     * BulkExportService never submits more than its configured parallelism per job, so the pool
+     * only needs room for a couple of concurrent jobs.
+     */
+    @Bean(name = "bulkExportTaskExecutor")
+    public TaskExecutor bulkExportTaskExecutor(@Value("${app.export.bulk.parallelism:3}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(Math.max(1, parallelism));
+        executor.setMaxPoolSize(Math.max(1, parallelism) * 2);
+        executor.setQueueCapacity(50);
+        executor.setKeepAliveSeconds(60);
+        executor.setThreadNamePrefix("bulk-export-");
+
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        executor.initialize();
+
+        LoggerUtil.info(this.getClass(),
+                "Initialized bulk export task executor with core pool size: " + executor.getCorePoolSize() +
+                        ", max pool size: " + executor.getMaxPoolSize());
+
+        return executor;
+    }
+
+    /**
+     * Executor running the coordinator of each bulk export written to file (one thread per running job).
+     * Kept apart from the general taskExecutor, whose CallerRunsPolicy and small pool are shared with
+     * request handling; a full queue rejects the job instead of running it on the request thread.
+     */
+    @Bean(name = "bulkExportJobTaskExecutor")
+    public TaskExecutor bulkExportJobTaskExecutor(@Value("${app.export.bulk.max-jobs:2}") int maxJobs) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(Math.max(1, maxJobs));
+        executor.setMaxPoolSize(Math.max(1, maxJobs));
+        executor.setQueueCapacity(10);
+        executor.setKeepAliveSeconds(60);
+        executor.setThreadNamePrefix("bulk-export-job-");
+
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        executor.initialize();
+
+        LoggerUtil.info(this.getClass(),
+                "Initialized bulk export job task executor with pool size: " + executor.getCorePoolSize());
+
+        return executor;
+    }
+
+    /**
+     * Executor for the per-user merges of admin worktime consolidation.
+     * Bounded like the bulk export executor; CallerRunsPolicy keeps a full queue from failing a consolidation.
+     */
+    @Bean(name = "consolidationTaskExecutor")
+    public TaskExecutor consolidationTaskExecutor(@Value("${app.worktime.consolidation.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(Math.max(1, parallelism));
+        executor.setMaxPoolSize(Math.max(1, parallelism));
+        executor.setQueueCapacity(200);
+        executor.setKeepAliveSeconds(60);
+        executor.setThreadNamePrefix("consolidation-");
+
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        executor.initialize();
+
+        LoggerUtil.info(this.getClass(),
+                "Initialized consolidation task executor with pool size: " + executor.getCorePoolSize());
+
+        return executor;
+    }
+
+    /**
+     * Executor prefetching and computing team member statistics; its pool size bounds the network fan-out of a refresh.
+     */
+    @Bean(name = "teamStatsTaskExecutor")
+    public TaskExecutor teamStatsTaskExecutor(@Value("${app.team.stats.parallelism:8}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(Math.max(1, parallelism));
+        executor.setMaxPoolSize(Math.max(1, parallelism));
+        executor.setQueueCapacity(200);
+        executor.setKeepAliveSeconds(60);
+        executor.setThreadNamePrefix("team-stats-");
+
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        executor.initialize();
+
+        LoggerUtil.info(this.getClass(),
+                "Initialized team statistics task executor with pool size: " + executor.getCorePoolSize());
+
+        return executor;
+    }
+}
@@ -20,6 +20,7 @@ public final class FileTypeConstants {
     public static final String JSON_EXTENSION = ".json";
     public static final String BACKUP_EXTENSION = ".bak";
     public static final String LOG_EXTENSION = ".log";
+    public static final String GZIP_EXTENSION = ".gz";
     public static final String FLAG_EXTENSION = ".flag";
 
     // ===== LOGICAL FILE TYPE IDENTIFIERS (used in UI, APIs, controllers) =====
@@ -28,6 +29,7 @@ public final class FileTypeConstants {
     public static final String SESSION_TARGET = "session";
     public static final String CHECK_REGISTER_TARGET = "check_register";
     public static final String TIMEOFF_TRACKER_TARGET = "timeoff_tracker";
+    public static final String MONTH_SUMMARY_TARGET = "month_summary";
     public static final String ADMIN_WORKTIME_TARGET = "admin_worktime";
     public static final String ADMIN_REGISTER_TARGET = "admin_register";
     public static final String ADMIN_BONUS_TARGET = "admin_bonus";
@@ -41,6 +43,7 @@ public final class FileTypeConstants {
     public static final String SESSION_PREFIX = "session";
     public static final String CHECK_REGISTER_PREFIX = "check_registru";  // Romanian
     public static final String TIMEOFF_TRACKER_PREFIX = "timeoff_tracker";
+    public static final String MONTH_SUMMARY_PREFIX = "month_summary";
     public static final String ADMIN_WORKTIME_PREFIX = "general_worktime";
     public static final String ADMIN_REGISTER_PREFIX = "admin_registru";  // Romanian
     public static final String ADMIN_BONUS_PREFIX = "admin_bonus";
@@ -82,6 +85,7 @@ public final class FileTypeConstants {
             Map.entry(SESSION_TARGET, SESSION_PREFIX),
             Map.entry(CHECK_REGISTER_TARGET, CHECK_REGISTER_PREFIX),
             Map.entry(TIMEOFF_TRACKER_TARGET, TIMEOFF_TRACKER_PREFIX),
+            Map.entry(MONTH_SUMMARY_TARGET, MONTH_SUMMARY_PREFIX),
             Map.entry(ADMIN_WORKTIME_TARGET, ADMIN_WORKTIME_PREFIX),
             Map.entry(ADMIN_REGISTER_TARGET, ADMIN_REGISTER_PREFIX),
             Map.entry(ADMIN_BONUS_TARGET, ADMIN_BONUS_PREFIX),
@@ -97,6 +101,7 @@ public final class FileTypeConstants {
             Map.entry(REGISTER_TARGET, CriticalityLevel.LEVEL3_HIGH),
             Map.entry(CHECK_REGISTER_TARGET, CriticalityLevel.LEVEL3_HIGH),
             Map.entry(TIMEOFF_TRACKER_TARGET, CriticalityLevel.LEVEL1_LOW),
+            Map.entry(MONTH_SUMMARY_TARGET, CriticalityLevel.LEVEL1_LOW),
             Map.entry(ADMIN_WORKTIME_TARGET, CriticalityLevel.LEVEL1_LOW),
             Map.entry(ADMIN_REGISTER_TARGET, CriticalityLevel.LEVEL1_LOW),
             Map.entry(ADMIN_BONUS_TARGET, CriticalityLevel.LEVEL1_LOW),
@@ -118,6 +123,7 @@ public final class FileTypeConstants {
             Map.entry(SESSION_PREFIX, SESSION_TARGET),
             Map.entry(CHECK_REGISTER_PREFIX, CHECK_REGISTER_TARGET),
             Map.entry(TIMEOFF_TRACKER_PREFIX, TIMEOFF_TRACKER_TARGET),
+            Map.entry(MONTH_SUMMARY_PREFIX, MONTH_SUMMARY_TARGET),
             Map.entry(ADMIN_WORKTIME_PREFIX, ADMIN_WORKTIME_TARGET),
             Map.entry(ADMIN_REGISTER_PREFIX, ADMIN_REGISTER_TARGET),
             Map.entry(ADMIN_BONUS_PREFIX, ADMIN_BONUS_TARGET),
@@ -1,5 +1,6 @@
 package com.ctgraphdep.config;
 
+import com.ctgraphdep.scheduling.ScheduledJobRuntime;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
@@ -9,21 +10,28 @@ import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
 /**
  * Configuration for task scheduling.
- * Explicitly configures which TaskScheduler to use for scheduled tasks.
+ * Explicitly configures which TaskScheduler to use for scheduled tasks
+ * and hands all @Scheduled tasks to the ScheduledJobRuntime.
  */
 @Configuration
 @EnableScheduling
 public class SchedulingConfiguration implements SchedulingConfigurer {
 
     private final TaskScheduler generalTaskScheduler;
+    private final ScheduledJobRuntime jobRuntime;
 
-    public SchedulingConfiguration(@Qualifier("generalTaskScheduler") TaskScheduler generalTaskScheduler) {
+    public SchedulingConfiguration(@Qualifier("generalTaskScheduler") TaskScheduler generalTaskScheduler,
+                                   ScheduledJobRuntime jobRuntime) {
         this.generalTaskScheduler = generalTaskScheduler;
+        this.jobRuntime = jobRuntime;
     }
 
     @Override
     public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
         // Use general scheduler for @Scheduled annotations (except SessionMonitor)
         taskRegistrar.setScheduler(generalTaskScheduler);
+
+        // Wrap, name and stagger the collected @Scheduled tasks before the registrar schedules them
+        jobRuntime.registerAll(taskRegistrar);
     }
 }
\ No newline at end of file
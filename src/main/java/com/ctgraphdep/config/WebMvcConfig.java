@@ -1,9 +1,13 @@
 package com.ctgraphdep.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.http.CacheControl;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -13,6 +17,16 @@ import java.util.concurrent.TimeUnit;
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    // Streamed log queries (StreamingResponseBody) may take a while over large log files.
+    // Exports set their own executor and timeout per response (ExportStreamingSupport).
+    private static final long ASYNC_REQUEST_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(5);
+
+    private final TaskExecutor taskExecutor;
+
+    public WebMvcConfig(@Qualifier("taskExecutor") TaskExecutor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
 
@@ -29,6 +43,12 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS));
     }
 
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new TaskExecutorAdapter(taskExecutor));
+        configurer.setDefaultTimeout(ASYNC_REQUEST_TIMEOUT_MS);
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
 
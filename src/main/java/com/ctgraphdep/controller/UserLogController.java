@@ -1,11 +1,16 @@
 package com.ctgraphdep.controller;
 
+import com.ctgraphdep.model.dto.log.LogFileSummaryDTO;
+import com.ctgraphdep.model.dto.log.LogQuery;
+import com.ctgraphdep.service.UserLogReaderService;
 import com.ctgraphdep.service.UserLogService;
 import com.ctgraphdep.utils.LoggerUtil;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.*;
 
@@ -16,9 +21,11 @@ import java.util.*;
 @RequestMapping("/logs")
 public class UserLogController {
     private final UserLogService userLogService;
+    private final UserLogReaderService userLogReaderService;
 
-    public UserLogController(UserLogService userLogService) {
+    public UserLogController(UserLogService userLogService, UserLogReaderService userLogReaderService) {
         this.userLogService = userLogService;
+        this.userLogReaderService = userLogReaderService;
     }
 
     /**
@@ -50,6 +57,72 @@ public class UserLogController {
         return content.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    /**
+     * Get line count, time span and level counts of a user's log from its index
+     */
+    @GetMapping("/{username}/summary")
+    @ResponseBody
+    public ResponseEntity<LogFileSummaryDTO> getUserLogSummary(@PathVariable String username) {
+        try {
+            return userLogReaderService.getSummary(username)
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error indexing log for " + username + ": " + e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Stream the last lines of a user's log
+     */
+    @GetMapping("/{username}/tail")
+    public ResponseEntity<StreamingResponseBody> getUserLogTail(@PathVariable String username,
+                                                                @RequestParam(defaultValue = "1000") int limit) {
+        if (!userLogReaderService.hasLog(username)) {
+            return ResponseEntity.notFound().build();
+        }
+        return streamJson(output -> userLogReaderService.writeTail(username, limit, output));
+    }
+
+    /**
+     * Stream a page of lines starting at a line number
+     */
+    @GetMapping("/{username}/lines")
+    public ResponseEntity<StreamingResponseBody> getUserLogLines(@PathVariable String username,
+                                                                 @RequestParam(defaultValue = "0") int from,
+                                                                 @RequestParam(defaultValue = "1000") int limit) {
+        if (!userLogReaderService.hasLog(username)) {
+            return ResponseEntity.notFound().build();
+        }
+        return streamJson(output -> userLogReaderService.writePage(username, from, limit, output));
+    }
+
+    /**
+     * Stream lines of a user's log matching time range, minimum level and text
+     */
+    @GetMapping("/{username}/query")
+    public ResponseEntity<StreamingResponseBody> queryUserLog(@PathVariable String username, @ModelAttribute LogQuery query) {
+        if (!userLogReaderService.hasLog(username)) {
+            return ResponseEntity.notFound().build();
+        }
+        return streamJson(output -> userLogReaderService.writeQuery(username, query, output));
+    }
+
+    /**
+     * Search all users' logs in parallel, streaming each user's matches as they are found
+     */
+    @GetMapping("/search")
+    public ResponseEntity<StreamingResponseBody> searchAllLogs(@ModelAttribute LogQuery query) {
+        return streamJson(output -> userLogReaderService.writeSearch(query, output));
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamJson(StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     /**
      * Manually trigger sync for all logs with graceful network handling
      */
@@ -2,6 +2,7 @@ package com.ctgraphdep.controller.admin;
 
 import com.ctgraphdep.config.SecurityConstants;
 import com.ctgraphdep.controller.base.BaseController;
+import com.ctgraphdep.controller.base.ExportStreamingSupport;
 import com.ctgraphdep.model.dto.bonus.BonusEntryDTO;
 import com.ctgraphdep.register.service.AdminBonusService;
 import com.ctgraphdep.model.FolderStatus;
@@ -9,6 +10,7 @@ import com.ctgraphdep.service.UserService;
 import com.ctgraphdep.utils.LoggerUtil;
 import com.ctgraphdep.utils.MonthFormatter;
 import com.ctgraphdep.validation.TimeValidationService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -16,6 +18,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.Month;
 import java.util.LinkedHashMap;
@@ -26,9 +30,11 @@ import java.util.Map;
 @PreAuthorize("hasRole('ROLE_ADMIN')")
 public class AdminBonusController extends BaseController {
     private final AdminBonusService adminBonusService;
+    private final ExportStreamingSupport exportStreaming;
 
-    public AdminBonusController(UserService userService, FolderStatus folderStatus, AdminBonusService adminBonusService, TimeValidationService timeValidationService) {
+    public AdminBonusController(UserService userService, FolderStatus folderStatus, AdminBonusService adminBonusService, TimeValidationService timeValidationService, ExportStreamingSupport exportStreaming) {
         super(userService, folderStatus, timeValidationService);
+        this.exportStreaming = exportStreaming;
         this.adminBonusService = adminBonusService;
     }
 
@@ -87,34 +93,34 @@ public class AdminBonusController extends BaseController {
     }
 
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exportBonusData(@RequestParam int year, @RequestParam int month) {
+    public WebAsyncTask<ResponseEntity<?>> exportBonusData(@RequestParam int year, @RequestParam int month, HttpServletResponse response) {
         try {
-            byte[] excelData = adminBonusService.exportBonusData(year, month);
+            StreamingResponseBody excelData = outputStream -> adminBonusService.writeBonusData(year, month, outputStream);
             String filename = String.format("bonus_data_%d_%02d.xlsx", year, month);
 
-            return ResponseEntity.ok()
+            return exportStreaming.respond(ResponseEntity.ok()
                     .header("Content-Disposition", "attachment; filename=\"" + filename + "\"")
                     .header("Content-Type", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-                    .body(excelData);
+                    .body(excelData), response, "bonus data");
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Error exporting bonus data: " + e.getMessage());
-            return ResponseEntity.internalServerError().build();
+            return exportStreaming.respond(ResponseEntity.internalServerError().build(), response, "bonus data");
         }
     }
 
     @GetMapping("/export/user")
-    public ResponseEntity<byte[]> exportUserBonusData(@RequestParam int year, @RequestParam int month) {
+    public WebAsyncTask<ResponseEntity<?>> exportUserBonusData(@RequestParam int year, @RequestParam int month, HttpServletResponse response) {
         try {
-            byte[] excelData = adminBonusService.exportUserBonusData(year, month);
+            StreamingResponseBody excelData = outputStream -> adminBonusService.writeUserBonusData(year, month, outputStream);
             String filename = String.format("user_bonus_data_%d_%02d.xlsx", year, month);
 
-            return ResponseEntity.ok()
+            return exportStreaming.respond(ResponseEntity.ok()
                     .header("Content-Disposition", "attachment; filename=\"" + filename + "\"")
                     .header("Content-Type", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-                    .body(excelData);
+                    .body(excelData), response, "user bonus data");
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Error exporting user bonus data: " + e.getMessage());
-            return ResponseEntity.internalServerError().build();
+            return exportStreaming.respond(ResponseEntity.internalServerError().build(), response, "user bonus data");
         }
     }
 }
@@ -0,0 +1,129 @@
+package com.ctgraphdep.controller.admin;
+
+import com.ctgraphdep.controller.base.BaseController;
+import com.ctgraphdep.controller.base.ExportStreamingSupport;
+import com.ctgraphdep.model.FolderStatus;
+import com.ctgraphdep.model.dto.export.BulkExportJobStatus;
+import com.ctgraphdep.model.dto.export.BulkExportRequest;
+import com.ctgraphdep.service.BulkExportService;
+import com.ctgraphdep.service.UserService;
+import com.ctgraphdep.service.result.ServiceResult;
+import com.ctgraphdep.utils.LoggerUtil;
+import com.ctgraphdep.validation.TimeValidationService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bulk export of team workbooks (worktime, register, check register, bonus) for a whole period as one ZIP.
+ * Small exports are streamed directly; large ones run as background jobs whose progress is polled.
+ */
+@Controller
+@RequestMapping("/admin/bulk-export")
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+public class AdminBulkExportController extends BaseController {
+
+    private final BulkExportService bulkExportService;
+    private final ExportStreamingSupport exportStreaming;
+
+    public AdminBulkExportController(UserService userService, FolderStatus folderStatus, TimeValidationService timeValidationService,
+                                     BulkExportService bulkExportService,
+                                     ExportStreamingSupport exportStreaming) {
+        super(userService, folderStatus, timeValidationService);
+        this.exportStreaming = exportStreaming;
+        this.bulkExportService = bulkExportService;
+        LoggerUtil.initialize(this.getClass(), null);
+    }
+
+    /**
+     * Streams the ZIP directly to the browser. Refused when the export exceeds the streaming limit.
+     * The job id is returned in X-Export-Job-Id so progress can still be polled, and is written to the ZIP's
+     * export_summary.txt and to any JSON error body.
+     */
+    @GetMapping("/download")
+    public WebAsyncTask<ResponseEntity<?>> streamExport(@AuthenticationPrincipal UserDetails userDetails,
+                                                        @ModelAttribute BulkExportRequest request,
+                                                        HttpServletResponse response) {
+        ServiceResult<String> prepared = bulkExportService.prepareStreamedExport(request, userDetails.getUsername());
+        if (prepared.isFailure()) {
+            LoggerUtil.warn(this.getClass(), "Bulk export refused: " + prepared.getErrorMessage());
+            String errorCode = prepared.getErrorCode() != null ? prepared.getErrorCode() : "bulk_export_failed";
+            return exportStreaming.respond(ResponseEntity.badRequest()
+                    .header("X-Export-Error", errorCode)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of(
+                            "success", false,
+                            "message", prepared.getErrorMessage(),
+                            "errorCode", errorCode)), response, "bulk export");
+        }
+
+        String jobId = prepared.getData();
+        StreamingResponseBody zipData = outputStream -> bulkExportService.writeStreamedExport(jobId, outputStream);
+        String filename = buildFilename(request);
+
+        return exportStreaming.respond(ResponseEntity.ok()
+                .header("Content-Disposition", "attachment; filename=\"" + filename + "\"")
+                .header("Content-Type", "application/zip")
+                .header("X-Export-Job-Id", jobId)
+                .body(zipData), response, "bulk export", Map.of("jobId", jobId));
+    }
+
+    /**
+     * Starts a background export written to the local exports folder.
+     */
+    @PostMapping("/jobs")
+    @ResponseBody
+    public ResponseEntity<?> startExportJob(@AuthenticationPrincipal UserDetails userDetails,
+                                            @RequestBody BulkExportRequest request) {
+        ServiceResult<BulkExportJobStatus> result = bulkExportService.startFileExport(request, userDetails.getUsername());
+        if (result.isFailure()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", result.getErrorMessage(),
+                    "errorCode", result.getErrorCode() != null ? result.getErrorCode() : "bulk_export_failed"));
+        }
+        return ResponseEntity.accepted()
+                .header("X-Export-Job-Id", result.getData().getJobId())
+                .body(result.getData());
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @ResponseBody
+    public ResponseEntity<BulkExportJobStatus> getJobStatus(@PathVariable String jobId) {
+        return bulkExportService.getJobStatus(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/jobs/{jobId}/download")
+    public ResponseEntity<Resource> downloadJobResult(@PathVariable String jobId) {
+        Optional<Path> file = bulkExportService.getCompletedFile(jobId);
+        if (file.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok()
+                .header("Content-Disposition", "attachment; filename=\"" + file.get().getFileName() + "\"")
+                .header("Content-Type", "application/zip")
+                .body(new FileSystemResource(file.get()));
+    }
+
+    private String buildFilename(BulkExportRequest request) {
+        int fromMonth = request.getFromMonth() != null ? request.getFromMonth() : 1;
+        int toMonth = request.getToMonth() != null ? request.getToMonth() : 12;
+        return String.format("bulk_export_%d_%02d-%02d.zip", request.getYear(), fromMonth, toMonth);
+    }
+}
@@ -2,6 +2,7 @@ package com.ctgraphdep.controller.admin;
 
 import com.ctgraphdep.config.SecurityConstants;
 import com.ctgraphdep.controller.base.BaseController;
+import com.ctgraphdep.controller.base.ExportStreamingSupport;
 import com.ctgraphdep.model.*;
 import com.ctgraphdep.model.dto.bonus.BonusCalculationResultDTO;
 import com.ctgraphdep.model.dto.RegisterSummaryDTO;
@@ -14,6 +15,7 @@ import com.ctgraphdep.utils.AdminRegisterExcelExporter;
 import com.ctgraphdep.utils.LoggerUtil;
 import com.ctgraphdep.validation.TimeValidationService;
 import com.ctgraphdep.worktime.service.WorktimeOperationService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.*;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,6 +24,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -46,13 +50,15 @@ public class AdminRegisterController extends BaseController {
     private final AdminRegisterService adminRegisterService;
     private final WorktimeOperationService worktimeOperationService;
     private final AdminRegisterExcelExporter adminRegisterExcelExporter;
+    private final ExportStreamingSupport exportStreaming;
 
     @Autowired
     public AdminRegisterController(UserService userService, FolderStatus folderStatus, TimeValidationService timeValidationService,
-                                   AdminRegisterService adminRegisterService, WorktimeOperationService worktimeOperationService, AdminRegisterExcelExporter adminRegisterExcelExporter) {
+                                   AdminRegisterService adminRegisterService, WorktimeOperationService worktimeOperationService, AdminRegisterExcelExporter adminRegisterExcelExporter, ExportStreamingSupport exportStreaming) {
         super(userService, folderStatus, timeValidationService);
         this.adminRegisterService = adminRegisterService;
         this.worktimeOperationService = worktimeOperationService;
+        this.exportStreaming = exportStreaming;
         this.adminRegisterExcelExporter = adminRegisterExcelExporter;
         LoggerUtil.initialize(this.getClass(), null);
     }
@@ -263,6 +269,36 @@ public class AdminRegisterController extends BaseController {
         }
     }
 
+    /**
+     * Calculate bonus for all users of a month in one request
+     */
+    @PostMapping("/calculate-month-bonuses")
+    public ResponseEntity<Map<Integer, BonusCalculationResultDTO>> calculateMonthBonuses(@AuthenticationPrincipal UserDetails userDetails, @RequestBody Map<String, Object> request) {
+
+        try {
+            User currentUser = validateUserAccess(userDetails, SecurityConstants.ROLE_ADMIN);
+            if (currentUser == null) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+
+            ServiceResult<Map<Integer, BonusCalculationResultDTO>> calculationResult = adminRegisterService.calculateMonthBonusesFromRequest(request);
+
+            if (calculationResult.isSuccess()) {
+                if (calculationResult.hasWarnings()) {
+                    LoggerUtil.warn(this.getClass(), "Month bonus calculation warnings: " + String.join(", ", calculationResult.getWarnings()));
+                }
+                return ResponseEntity.ok(calculationResult.getData());
+            } else {
+                LoggerUtil.error(this.getClass(), "Failed to calculate month bonuses: " + calculationResult.getErrorMessage());
+                return handleServiceResultErrorResponse(calculationResult);
+            }
+
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Unexpected error calculating month bonuses: " + e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * Get register summary - SIMPLIFIED to delegate to service
      */
@@ -300,13 +336,13 @@ public class AdminRegisterController extends BaseController {
      * Export to Excel - SIMPLIFIED with service delegation
      */
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exportToExcel(@AuthenticationPrincipal UserDetails userDetails, @RequestParam Integer userId, @RequestParam Integer year, @RequestParam Integer month) {
+    public WebAsyncTask<ResponseEntity<?>> exportToExcel(@AuthenticationPrincipal UserDetails userDetails, @RequestParam Integer userId, @RequestParam Integer year, @RequestParam Integer month, HttpServletResponse response) {
 
         try {
             // Use validateUserAccess for REST controllers
             User currentUser = validateUserAccess(userDetails, SecurityConstants.ROLE_ADMIN);
             if (currentUser == null) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+                return exportStreaming.respond(ResponseEntity.status(HttpStatus.FORBIDDEN).build(), response, "admin register");
             }
 
             LoggerUtil.info(this.getClass(), String.format("Exporting register to Excel for user %d - %d/%d", userId, year, month));
@@ -315,7 +351,7 @@ public class AdminRegisterController extends BaseController {
             ServiceResult<User> userResult = adminRegisterService.getUserById(userId);
             if (userResult.isFailure()) {
                 LoggerUtil.error(this.getClass(), "Failed to get user details for export: " + userResult.getErrorMessage());
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+                return exportStreaming.respond(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build(), response, "admin register");
             }
 
             User user = userResult.getData();
@@ -324,7 +360,7 @@ public class AdminRegisterController extends BaseController {
             ServiceResult<List<RegisterEntry>> entriesResult = adminRegisterService.loadUserRegisterEntries(user.getUsername(), userId, year, month);
             if (entriesResult.isFailure()) {
                 LoggerUtil.error(this.getClass(), String.format("Failed to load entries for export for %s: %s", user.getUsername(), entriesResult.getErrorMessage()));
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+                return exportStreaming.respond(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build(), response, "admin register");
             }
 
             List<RegisterEntry> entries = entriesResult.getData();
@@ -346,8 +382,9 @@ public class AdminRegisterController extends BaseController {
                 LoggerUtil.info(this.getClass(), String.format("No saved bonus result found for user %d: %s", userId, e.getMessage()));
             }
 
-            // Generate Excel file
-            byte[] excelBytes = adminRegisterExcelExporter.exportToExcel(user, entries, bonusConfig, bonusResult, year, month);
+            // Generate Excel file (streamed to the response)
+            BonusCalculationResultDTO exportBonusResult = bonusResult;
+            StreamingResponseBody excelBytes = outputStream -> adminRegisterExcelExporter.writeToExcel(user, entries, bonusConfig, exportBonusResult, year, month, outputStream);
 
             // Set up response headers
             String filename = String.format("register_report_%s_%d_%02d.xlsx", user.getUsername(), year, month);
@@ -360,11 +397,11 @@ public class AdminRegisterController extends BaseController {
 
             LoggerUtil.info(this.getClass(), String.format("Successfully exported Excel for user %s with %d entries", user.getUsername(), entries.size()));
 
-            return new ResponseEntity<>(excelBytes, headers, HttpStatus.OK);
+            return exportStreaming.respond(new ResponseEntity<>(excelBytes, headers, HttpStatus.OK), response, "admin register");
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Unexpected error exporting Excel: " + e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            return exportStreaming.respond(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build(), response, "admin register");
         }
     }
 
@@ -2,17 +2,25 @@ package com.ctgraphdep.controller.admin;
 
 import com.ctgraphdep.config.SecurityConstants;
 import com.ctgraphdep.controller.base.BaseController;
+import com.ctgraphdep.controller.base.ExportStreamingSupport;
 import com.ctgraphdep.model.FolderStatus;
 import com.ctgraphdep.model.User;
 import com.ctgraphdep.model.WorkTimeTable;
+import com.ctgraphdep.model.dto.worktime.WorkTimeGridDTO;
 import com.ctgraphdep.service.*;
+import com.ctgraphdep.service.cache.FragmentCacheService;
 import com.ctgraphdep.utils.LoggerUtil;
 import com.ctgraphdep.utils.WorkTimeExcelExporter;
 import com.ctgraphdep.validation.TimeValidationService;
 import com.ctgraphdep.validation.ValidationResult;
+import com.ctgraphdep.worktime.commands.BulkTimeOffCommand;
 import com.ctgraphdep.worktime.display.WorktimeDisplayService;
 import com.ctgraphdep.worktime.service.WorktimeOperationService;
+import com.ctgraphdep.worktime.model.AdminWorktimeMonth;
 import com.ctgraphdep.worktime.model.OperationResult;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -20,9 +28,13 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -31,18 +43,28 @@ import java.util.stream.Collectors;
 @PreAuthorize("hasRole('ROLE_ADMIN')")
 public class AdminWorkTimeController extends BaseController {
 
+    // Bump when the grid JSON changes shape, so clients do not revalidate an old payload
+    private static final String GRID_FORMAT_VERSION = "1";
+
     private final WorktimeOperationService worktimeOperationService;
     private final UserManagementService userManagementService;
     private final WorktimeDisplayService worktimeDisplayService;
     private final WorkTimeExcelExporter excelExporter;
+    private final FragmentCacheService fragmentCacheService;
+    private final boolean clientRenderedGrid;
+    private final ExportStreamingSupport exportStreaming;
 
     protected AdminWorkTimeController(UserService userService, FolderStatus folderStatus, TimeValidationService timeValidationService, WorktimeOperationService worktimeOperationService,
-                                      UserManagementService userManagementService, WorktimeDisplayService worktimeDisplayService, WorkTimeExcelExporter excelExporter) {
+                                      UserManagementService userManagementService, WorktimeDisplayService worktimeDisplayService, WorkTimeExcelExporter excelExporter,
+                                      FragmentCacheService fragmentCacheService, @Value("${app.worktime.grid.client-render:true}") boolean clientRenderedGrid, ExportStreamingSupport exportStreaming) {
         super(userService, folderStatus, timeValidationService);
         this.worktimeOperationService = worktimeOperationService;
         this.userManagementService = userManagementService;
         this.worktimeDisplayService = worktimeDisplayService;
         this.excelExporter = excelExporter;
+        this.exportStreaming = exportStreaming;
+        this.fragmentCacheService = fragmentCacheService;
+        this.clientRenderedGrid = clientRenderedGrid;
     }
 
     // ========================================================================
@@ -50,11 +72,13 @@ public class AdminWorkTimeController extends BaseController {
     // ========================================================================
 
     /**
-     * Display admin worktime management page (using DTO-based display)
+     * Display admin worktime management page (using DTO-based display).
+     * With client rendering the page only holds the grid shell and the grid is loaded from /grid-data;
+     * render=server forces the server rendered grid (e.g. to compare both).
      */
     @GetMapping
     public String getWorktimePage(@RequestParam(required = false) Integer year, @RequestParam(required = false) Integer month, @RequestParam(required = false) Integer selectedUserId,
-                                  Model model, RedirectAttributes redirectAttributes) {
+                                  @RequestParam(required = false) String render, Model model, RedirectAttributes redirectAttributes) {
 
         try {
             LoggerUtil.info(this.getClass(), String.format(
@@ -94,20 +118,39 @@ public class AdminWorkTimeController extends BaseController {
                 return "redirect:/admin";
             }
 
+            // Client rendered grid - month data is loaded by the page from /grid-data
+            if (clientRenderedGrid && !"server".equalsIgnoreCase(render)) {
+                YearMonth yearMonth = YearMonth.of(selectedYear, selectedMonth);
+                model.addAttribute("clientGrid", true);
+                model.addAttribute("currentYear", selectedYear);
+                model.addAttribute("currentMonth", selectedMonth);
+                model.addAttribute("users", nonAdminUsers);
+                model.addAttribute("daysInMonth", yearMonth.lengthOfMonth());
+
+                LoggerUtil.info(this.getClass(), String.format("Loaded admin worktime page shell for %d/%d (client rendered grid)", selectedMonth, selectedYear));
+                return "admin/worktime";
+            }
+
             // Load existing data only - no consolidation
             LoggerUtil.info(this.getClass(), String.format(
                     "Loading existing admin worktime data for %d/%d (no consolidation)", selectedMonth, selectedYear));
 
-            List<WorkTimeTable> viewableEntries = worktimeOperationService.getViewableEntries(selectedYear, selectedMonth);
-            Map<Integer, Map<LocalDate, WorkTimeTable>> userEntriesMap = convertToUserEntriesMap(viewableEntries);
+            AdminWorktimeMonth viewableMonth = worktimeOperationService.getViewableAdminMonth(selectedYear, selectedMonth);
+            Map<Integer, Map<LocalDate, WorkTimeTable>> userEntriesMap = viewableMonth.toUserEntriesMap();
 
             // NEW: Prepare model data using DTO-based approach for consistent display
             worktimeDisplayService.prepareWorkTimeModelWithDTOs(
                     model, selectedYear, selectedMonth, selectedUserId, nonAdminUsers, userEntriesMap);
 
+            // Grid HTML from the fragment cache (same users and month data render the same grid)
+            FragmentCacheService.FragmentKey tableKey = FragmentCacheService.FragmentKey.of(
+                    "admin/worktime", nonAdminUsers, selectedYear, selectedMonth, viewableMonth.toList());
+            model.addAttribute("worktimeTableHtml", fragmentCacheService.getOrRender(
+                    tableKey, "admin/fragments/worktime-table", "worktimeTable", model.asMap()));
+
             LoggerUtil.info(this.getClass(), String.format(
                     "Successfully loaded admin worktime page for %d/%d with %d entries",
-                    selectedMonth, selectedYear, viewableEntries.size()));
+                    selectedMonth, selectedYear, viewableMonth.size()));
 
             return "admin/worktime";
 
@@ -195,6 +238,34 @@ public class AdminWorkTimeController extends BaseController {
         return String.format("redirect:/admin/worktime?year=%d&month=%d", year, month);
     }
 
+    /**
+     * Apply a batch of time off / national holiday changes (JSON list of userId, startDate, endDate, timeOffType;
+     * userId null with type SN means a national holiday for all users). The batch is validated as a whole before anything is saved.
+     */
+    @PostMapping("/bulk-timeoff")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> applyBulkTimeOff(@RequestBody List<BulkTimeOffCommand.TimeOffChange> changes) {
+        try {
+            if (changes == null || changes.isEmpty()) {
+                return ResponseEntity.badRequest().body(Map.of("success", false, "message", "No changes provided"));
+            }
+
+            OperationResult result = worktimeOperationService.applyBulkTimeOff(changes);
+
+            if (result.isSuccess()) {
+                LoggerUtil.info(this.getClass(), "Bulk time off applied: " + result.getMessage());
+                return ResponseEntity.ok(Map.of("success", true, "message", result.getMessage()));
+            }
+
+            LoggerUtil.warn(this.getClass(), "Bulk time off failed: " + result.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", result.getMessage()));
+
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error applying bulk time off: " + e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(Map.of("success", false, "message", "Bulk time off failed"));
+        }
+    }
+
     /**
      * Finalize worktime entries for a period
      */
@@ -284,30 +355,29 @@ public class AdminWorkTimeController extends BaseController {
     // ========================================================================
 
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exportToExcel(@RequestParam int year, @RequestParam int month) {
+    public WebAsyncTask<ResponseEntity<?>> exportToExcel(@RequestParam int year, @RequestParam int month, HttpServletResponse response) {
 
         try {
             LoggerUtil.info(this.getClass(), String.format("Exporting admin worktime for %d/%d", year, month));
 
             // Get users and load existing data
             List<User> nonAdminUsers = userManagementService.getNonAdminUsers();
-            List<WorkTimeTable> viewableEntries = worktimeOperationService.getViewableEntries(year, month);
-            Map<Integer, Map<LocalDate, WorkTimeTable>> userEntriesMap = convertToUserEntriesMap(viewableEntries);
+            Map<Integer, Map<LocalDate, WorkTimeTable>> userEntriesMap = worktimeOperationService.getViewableAdminMonth(year, month).toUserEntriesMap();
 
             if (userEntriesMap.isEmpty()) {
                 LoggerUtil.warn(this.getClass(), "No data available for export");
-                return ResponseEntity.noContent().build();
+                return exportStreaming.respond(ResponseEntity.noContent().build(), response, "admin worktime");
             }
 
-            // Use existing WorkTimeExcelExporter.exportToExcel method
-            byte[] excelData = excelExporter.exportToExcel(nonAdminUsers, userEntriesMap, year, month);
+            // Workbook is streamed straight to the response
+            StreamingResponseBody excelData = outputStream -> excelExporter.writeToExcel(nonAdminUsers, userEntriesMap, year, month, outputStream);
 
-            return ResponseEntity.ok().header(HttpHeaders.CONTENT_DISPOSITION, String.format("attachment; filename=\"admin_worktime_%d_%02d.xlsx\"", year, month))
-                    .contentType(MediaType.APPLICATION_OCTET_STREAM).body(excelData);
+            return exportStreaming.respond(ResponseEntity.ok().header(HttpHeaders.CONTENT_DISPOSITION, String.format("attachment; filename=\"admin_worktime_%d_%02d.xlsx\"", year, month))
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM).body(excelData), response, "admin worktime");
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Error exporting admin worktime: " + e.getMessage(), e);
-            return ResponseEntity.internalServerError().build();
+            return exportStreaming.respond(ResponseEntity.internalServerError().build(), response, "admin worktime");
         }
     }
 
@@ -335,6 +405,43 @@ public class AdminWorkTimeController extends BaseController {
         }
     }
 
+    /**
+     * Month grid for the client rendered worktime table. The ETag is derived from the users shown and the month data,
+     * so an unchanged month is answered with 304 before any display data is built.
+     */
+    @GetMapping("/grid-data")
+    @ResponseBody
+    public ResponseEntity<WorkTimeGridDTO> getGridData(@RequestParam int year, @RequestParam int month, WebRequest webRequest) {
+
+        try {
+            var validateCommand = getTimeValidationService().getValidationFactory().createValidatePeriodCommand(year, month, 24);
+            getTimeValidationService().execute(validateCommand);
+
+            List<User> nonAdminUsers = userManagementService.getNonAdminUsers();
+            AdminWorktimeMonth viewableMonth = worktimeOperationService.getViewableAdminMonth(year, month);
+
+            FragmentCacheService.FragmentKey version = FragmentCacheService.FragmentKey.of(
+                    "admin/worktime/grid", nonAdminUsers, year, month, viewableMonth.toList());
+            String eTag = String.format("grid-%s-%d-%02d-%s-%s", GRID_FORMAT_VERSION, year, month,
+                    version.userSetVersion(), version.dataVersion());
+            if (webRequest.checkNotModified(eTag)) {
+                LoggerUtil.debug(this.getClass(), String.format("Worktime grid %d/%d not modified", month, year));
+                return null;
+            }
+
+            WorkTimeGridDTO grid = worktimeDisplayService.prepareWorkTimeGrid(year, month, nonAdminUsers, viewableMonth.toUserEntriesMap());
+            return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(grid);
+
+        } catch (IllegalArgumentException e) {
+            LoggerUtil.warn(this.getClass(), String.format("Invalid request for worktime grid: %s", e.getMessage()));
+            return ResponseEntity.badRequest().build();
+
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), String.format("Error preparing worktime grid for %d/%d: %s", month, year, e.getMessage()), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * Get available users for dropdown
      */
@@ -363,20 +470,4 @@ public class AdminWorkTimeController extends BaseController {
             return ResponseEntity.internalServerError().build();
         }
     }
-
-    // ========================================================================
-    // HELPER METHODS
-    // ========================================================================
-
-    /**
-     * Convert list of entries to user entries map (existing implementation)
-     */
-    private Map<Integer, Map<LocalDate, WorkTimeTable>> convertToUserEntriesMap(List<WorkTimeTable> entries) {
-        return entries.stream().collect(Collectors.groupingBy(
-                WorkTimeTable::getUserId,
-                Collectors.toMap(WorkTimeTable::getWorkDate, entry -> entry,
-                        (existing, replacement) -> replacement, TreeMap::new)
-        ));
-    }
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.ctgraphdep.controller.base;
+
+import com.ctgraphdep.utils.LoggerUtil;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes streamed downloads (Excel workbooks, bulk export ZIPs) on the dedicated exportStreamingTaskExecutor.
+ * Controllers build the response as before - a ResponseEntity with a StreamingResponseBody on success, or an
+ * error response with a JSON message - and return it through respond(). Only these responses use the export
+ * executor; other async requests keep the default MVC executor.
+ * Failures while writing are logged. If nothing was sent yet the client gets a JSON error instead of the file.
+ */
+@Component
+public class ExportStreamingSupport {
+
+    // Year-long or whole-team exports may take a while
+    private static final long EXPORT_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(5);
+
+    private final AsyncTaskExecutor exportStreamingTaskExecutor;
+
+    public ExportStreamingSupport(@Qualifier("exportStreamingTaskExecutor") AsyncTaskExecutor exportStreamingTaskExecutor) {
+        this.exportStreamingTaskExecutor = exportStreamingTaskExecutor;
+        LoggerUtil.initialize(this.getClass(), null);
+    }
+
+    /**
+     * Returns the prepared response from the export executor. A successful response with a StreamingResponseBody
+     * is written there directly to the servlet response; any other response (errors, no content) is returned as is.
+     *
+     * @param prepared   Response built by the controller
+     * @param response   Servlet response of the request (the handler method must declare it)
+     * @param exportName Name used in log and error messages
+     */
+    public WebAsyncTask<ResponseEntity<?>> respond(ResponseEntity<?> prepared, HttpServletResponse response, String exportName) {
+        return respond(prepared, response, exportName, Map.of());
+    }
+
+    /**
+     * Same as respond(prepared, response, exportName), adding errorDetails (e.g. a job id) to the JSON error body
+     * sent when writing fails.
+     */
+    public WebAsyncTask<ResponseEntity<?>> respond(ResponseEntity<?> prepared, HttpServletResponse response, String exportName,
+                                                   Map<String, ?> errorDetails) {
+        Callable<ResponseEntity<?>> task;
+        if (prepared.getBody() instanceof StreamingResponseBody body && prepared.getStatusCode().is2xxSuccessful()) {
+            task = () -> write(prepared, body, response, exportName, errorDetails);
+        } else {
+            task = () -> prepared;
+        }
+
+        WebAsyncTask<ResponseEntity<?>> asyncTask = new WebAsyncTask<>(EXPORT_TIMEOUT_MS, exportStreamingTaskExecutor, task);
+        asyncTask.onTimeout(() -> {
+            LoggerUtil.warn(this.getClass(), String.format("Export %s timed out after %d ms", exportName, EXPORT_TIMEOUT_MS));
+            return null;
+        });
+        return asyncTask;
+    }
+
+    private ResponseEntity<?> write(ResponseEntity<?> prepared, StreamingResponseBody body, HttpServletResponse response,
+                                    String exportName, Map<String, ?> errorDetails) {
+        response.setStatus(prepared.getStatusCode().value());
+        prepared.getHeaders().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+
+        try {
+            OutputStream outputStream = response.getOutputStream();
+            body.writeTo(outputStream);
+            outputStream.flush();
+            return null;
+
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), String.format("Error streaming export %s: %s", exportName, e.getMessage()), e);
+
+            if (response.isCommitted()) {
+                // Part of the file was already sent - the download ends truncated
+                return null;
+            }
+            response.reset();
+            Map<String, Object> error = new LinkedHashMap<>();
+            error.put("message", "Failed to export " + exportName + ": " + e.getMessage());
+            error.putAll(errorDetails);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(error);
+        }
+    }
+}
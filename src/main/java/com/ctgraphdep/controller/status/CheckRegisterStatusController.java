@@ -1,6 +1,7 @@
 package com.ctgraphdep.controller.status;
 
 import com.ctgraphdep.controller.base.BaseController;
+import com.ctgraphdep.controller.base.ExportStreamingSupport;
 import com.ctgraphdep.enums.ApprovalStatusType;
 import com.ctgraphdep.enums.CheckType;
 import com.ctgraphdep.model.FolderStatus;
@@ -14,6 +15,7 @@ import com.ctgraphdep.validation.commands.ValidatePeriodCommand;
 import com.ctgraphdep.worktime.commands.status.LoadUserCheckRegisterStatusCommand;
 import com.ctgraphdep.worktime.context.WorktimeOperationContext;
 import com.ctgraphdep.worktime.model.OperationResult;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -28,6 +30,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -48,13 +52,16 @@ public class CheckRegisterStatusController extends BaseController {
 
     private final WorktimeOperationContext worktimeContext;
     private final CheckRegisterStatusExcelExporter checkRegisterExcelExporter;
+    private final ExportStreamingSupport exportStreaming;
 
     public CheckRegisterStatusController(UserService userService,
                                         FolderStatus folderStatus,
                                         TimeValidationService timeValidationService,
                                         WorktimeOperationContext worktimeContext,
-                                        CheckRegisterStatusExcelExporter checkRegisterExcelExporter) {
+                                        CheckRegisterStatusExcelExporter checkRegisterExcelExporter,
+                                        ExportStreamingSupport exportStreaming) {
         super(userService, folderStatus, timeValidationService);
+        this.exportStreaming = exportStreaming;
         this.worktimeContext = worktimeContext;
         this.checkRegisterExcelExporter = checkRegisterExcelExporter;
     }
@@ -168,7 +175,7 @@ public class CheckRegisterStatusController extends BaseController {
      * REFACTORED: Now uses LoadUserCheckRegisterStatusCommand
      */
     @GetMapping("/check-register-status/export")
-    public ResponseEntity<byte[]> exportCheckRegister(
+    public WebAsyncTask<ResponseEntity<?>> exportCheckRegister(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam(required = false) String username,
             @RequestParam(required = false) Integer year,
@@ -178,7 +185,8 @@ public class CheckRegisterStatusController extends BaseController {
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
             @RequestParam(required = false) String checkType,
             @RequestParam(required = false) String designerName,
-            @RequestParam(required = false) String approvalStatus) {
+            @RequestParam(required = false) String approvalStatus,
+            HttpServletResponse response) {
 
         try {
             LoggerUtil.info(this.getClass(), "Exporting check register at " + getStandardCurrentDateTime());
@@ -186,7 +194,7 @@ public class CheckRegisterStatusController extends BaseController {
             // Get current authenticated user
             User currentUser = getUser(userDetails);
             if (currentUser == null) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+                return exportStreaming.respond(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build(), response, "check register status");
             }
 
             // Determine target user
@@ -203,23 +211,22 @@ public class CheckRegisterStatusController extends BaseController {
 
             OperationResult result = command.execute();
 
-            List<RegisterCheckEntry> entries = new ArrayList<>();
-            if (result.isSuccess() && result.getData() instanceof LoadUserCheckRegisterStatusCommand.CheckRegisterStatusData statusData) {
-                entries = statusData.getEntries();
-            }
+            List<RegisterCheckEntry> entries =
+                    result.isSuccess() && result.getData() instanceof LoadUserCheckRegisterStatusCommand.CheckRegisterStatusData statusData
+                            ? statusData.getEntries() : new ArrayList<>();
 
             // Use our exporter
-            byte[] excelData = checkRegisterExcelExporter.exportToExcel(targetUser, entries, selectedYear, selectedMonth);
+            StreamingResponseBody excelData = outputStream -> checkRegisterExcelExporter.writeToExcel(targetUser, entries, selectedYear, selectedMonth, outputStream);
 
-            return ResponseEntity.ok()
+            return exportStreaming.respond(ResponseEntity.ok()
                     .header(HttpHeaders.CONTENT_DISPOSITION, String.format("attachment; filename=\"check_register_%s_%d_%02d.xlsx\"",
                             targetUser.getUsername(), selectedYear, selectedMonth))
                     .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .body(excelData);
+                    .body(excelData), response, "check register status");
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Error exporting check register: " + e.getMessage());
-            return ResponseEntity.internalServerError().build();
+            return exportStreaming.respond(ResponseEntity.internalServerError().build(), response, "check register status");
         }
     }
 
@@ -1,6 +1,7 @@
 package com.ctgraphdep.controller.status;
 
 import com.ctgraphdep.controller.base.BaseController;
+import com.ctgraphdep.controller.base.ExportStreamingSupport;
 import com.ctgraphdep.enums.ActionType;
 import com.ctgraphdep.enums.PrintPrepTypes;
 import com.ctgraphdep.model.FolderStatus;
@@ -14,6 +15,7 @@ import com.ctgraphdep.validation.commands.ValidatePeriodCommand;
 import com.ctgraphdep.worktime.commands.status.LoadUserRegisterStatusCommand;
 import com.ctgraphdep.worktime.context.WorktimeOperationContext;
 import com.ctgraphdep.worktime.model.OperationResult;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -27,6 +29,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -49,13 +53,16 @@ public class RegisterSearchController extends BaseController {
 
     private final WorktimeOperationContext worktimeContext;
     private final UserRegisterExcelExporter excelExporter;
+    private final ExportStreamingSupport exportStreaming;
 
     public RegisterSearchController(UserService userService,
                                    FolderStatus folderStatus,
                                    TimeValidationService timeValidationService,
                                    WorktimeOperationContext worktimeContext,
-                                   UserRegisterExcelExporter excelExporter) {
+                                   UserRegisterExcelExporter excelExporter,
+                                   ExportStreamingSupport exportStreaming) {
         super(userService, folderStatus, timeValidationService);
+        this.exportStreaming = exportStreaming;
         this.worktimeContext = worktimeContext;
         this.excelExporter = excelExporter;
     }
@@ -159,7 +166,7 @@ public class RegisterSearchController extends BaseController {
      * REFACTORED: Now uses LoadUserRegisterStatusCommand
      */
     @GetMapping("/register-search/export")
-    public ResponseEntity<byte[]> exportSearchResults(
+    public WebAsyncTask<ResponseEntity<?>> exportSearchResults(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam(required = false) String searchTerm,
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
@@ -169,7 +176,8 @@ public class RegisterSearchController extends BaseController {
             @RequestParam(required = false) String clientName,
             @RequestParam(required = false) Integer year,
             @RequestParam(required = false) Integer month,
-            @RequestParam(required = false) String username) {
+            @RequestParam(required = false) String username,
+            HttpServletResponse response) {
 
         try {
             LoggerUtil.info(this.getClass(), "Exporting register search results at " + getStandardCurrentDateTime());
@@ -188,23 +196,22 @@ public class RegisterSearchController extends BaseController {
 
             OperationResult result = command.execute();
 
-            List<RegisterEntry> filteredEntries = new ArrayList<>();
-            if (result.isSuccess() && result.getData() instanceof LoadUserRegisterStatusCommand.RegisterStatusData statusData) {
-                filteredEntries = statusData.getEntries();
-            }
+            List<RegisterEntry> filteredEntries =
+                    result.isSuccess() && result.getData() instanceof LoadUserRegisterStatusCommand.RegisterStatusData statusData
+                            ? statusData.getEntries() : new ArrayList<>();
 
             // Generate Excel file
-            byte[] excelData = excelExporter.exportToExcel(targetUser, filteredEntries, selectedYear, selectedMonth);
+            StreamingResponseBody excelData = outputStream -> excelExporter.writeToExcel(targetUser, filteredEntries, selectedYear, selectedMonth, outputStream);
 
-            return ResponseEntity.ok()
+            return exportStreaming.respond(ResponseEntity.ok()
                     .header(HttpHeaders.CONTENT_DISPOSITION, String.format("attachment; filename=\"register_search_results_%s.xlsx\"",
                             targetUser.getUsername()))
                     .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .body(excelData);
+                    .body(excelData), response, "register search results");
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Error exporting search results: " + e.getMessage(), e);
-            return ResponseEntity.internalServerError().build();
+            return exportStreaming.respond(ResponseEntity.internalServerError().build(), response, "register search results");
         }
     }
 
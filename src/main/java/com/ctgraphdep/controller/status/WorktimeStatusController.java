@@ -2,6 +2,7 @@ package com.ctgraphdep.controller.status;
 
 import com.ctgraphdep.config.SecurityConstants;
 import com.ctgraphdep.controller.base.BaseController;
+import com.ctgraphdep.controller.base.ExportStreamingSupport;
 import com.ctgraphdep.model.FolderStatus;
 import com.ctgraphdep.model.User;
 import com.ctgraphdep.model.WorkTimeTable;
@@ -16,6 +17,7 @@ import com.ctgraphdep.worktime.commands.status.LoadUserWorktimeStatusCommand;
 import com.ctgraphdep.worktime.context.WorktimeOperationContext;
 import com.ctgraphdep.worktime.display.WorktimeDisplayService;
 import com.ctgraphdep.worktime.model.OperationResult;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -28,6 +30,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -50,16 +54,19 @@ public class WorktimeStatusController extends BaseController {
     private final WorktimeOperationContext worktimeContext;
     private final WorktimeDisplayService worktimeDisplayService;
     private final UserWorktimeExcelExporter userWorktimeExcelExporter;
+    private final ExportStreamingSupport exportStreaming;
 
     public WorktimeStatusController(UserService userService,
                                    FolderStatus folderStatus,
                                    TimeValidationService timeValidationService,
                                    WorktimeOperationContext worktimeContext,
                                    WorktimeDisplayService worktimeDisplayService,
-                                   UserWorktimeExcelExporter userWorktimeExcelExporter) {
+                                   UserWorktimeExcelExporter userWorktimeExcelExporter,
+                                   ExportStreamingSupport exportStreaming) {
         super(userService, folderStatus, timeValidationService);
         this.worktimeContext = worktimeContext;
         this.worktimeDisplayService = worktimeDisplayService;
+        this.exportStreaming = exportStreaming;
         this.userWorktimeExcelExporter = userWorktimeExcelExporter;
     }
 
@@ -151,11 +158,12 @@ public class WorktimeStatusController extends BaseController {
      * REFACTORED: Now uses LoadUserWorktimeStatusCommand
      */
     @GetMapping("/worktime-status/export")
-    public ResponseEntity<byte[]> exportWorktimeData(
+    public WebAsyncTask<ResponseEntity<?>> exportWorktimeData(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam(required = false) String username,
             @RequestParam(required = false) Integer year,
-            @RequestParam(required = false) Integer month) {
+            @RequestParam(required = false) Integer month,
+            HttpServletResponse response) {
         try {
             LoggerUtil.info(this.getClass(), "Exporting worktime data at " + getStandardCurrentDateTime());
 
@@ -190,17 +198,17 @@ public class WorktimeStatusController extends BaseController {
             WorkTimeSummaryDTO summaryDTO = (WorkTimeSummaryDTO) displayData.get("summary");
 
             // Use the updated exporter to generate Excel data with DTOs
-            byte[] excelData = userWorktimeExcelExporter.exportToExcel(targetUser, entryDTOs, summaryDTO, selectedYear, selectedMonth);
+            StreamingResponseBody excelData = outputStream -> userWorktimeExcelExporter.writeToExcel(targetUser, entryDTOs, summaryDTO, selectedYear, selectedMonth, outputStream);
 
-            return ResponseEntity.ok()
+            return exportStreaming.respond(ResponseEntity.ok()
                     .header(HttpHeaders.CONTENT_DISPOSITION, String.format("attachment; filename=\"worktime_%s_%d_%02d.xlsx\"",
                             targetUser.getUsername(), selectedYear, selectedMonth))
                     .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .body(excelData);
+                    .body(excelData), response, "worktime status");
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Error exporting to Excel: " + e.getMessage());
-            return ResponseEntity.internalServerError().build();
+            return exportStreaming.respond(ResponseEntity.internalServerError().build(), response, "worktime status");
         }
     }
 
@@ -1,6 +1,7 @@
 package com.ctgraphdep.controller.team;
 
 import com.ctgraphdep.controller.base.BaseController;
+import com.ctgraphdep.controller.base.ExportStreamingSupport;
 import com.ctgraphdep.model.CheckBonusEntry;
 import com.ctgraphdep.model.FolderStatus;
 import com.ctgraphdep.model.User;
@@ -10,6 +11,7 @@ import com.ctgraphdep.service.result.ServiceResult;
 import com.ctgraphdep.utils.ExportCheckBonusExcel;
 import com.ctgraphdep.utils.LoggerUtil;
 import com.ctgraphdep.validation.TimeValidationService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -21,8 +23,11 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -43,15 +48,18 @@ public class TeamCheckBonusController extends BaseController {
 
     @Autowired
     private com.ctgraphdep.service.WorkScheduleService workScheduleService;
+    private final ExportStreamingSupport exportStreaming;
 
     public TeamCheckBonusController(UserService userService, FolderStatus folderStatus,
                                      TimeValidationService timeValidationService,
                                      CheckBonusService checkBonusService,
                                      ExportCheckBonusExcel exportCheckBonusExcel,
-                                     com.ctgraphdep.service.WorkScheduleService workScheduleService) {
+                                     com.ctgraphdep.service.WorkScheduleService workScheduleService,
+                                     ExportStreamingSupport exportStreaming) {
         super(userService, folderStatus, timeValidationService);
         this.checkBonusService = checkBonusService;
         this.exportCheckBonusExcel = exportCheckBonusExcel;
+        this.exportStreaming = exportStreaming;
         this.workScheduleService = workScheduleService;
         LoggerUtil.initialize(this.getClass(), null);
     }
@@ -141,6 +149,65 @@ public class TeamCheckBonusController extends BaseController {
         }
     }
 
+    /**
+     * Calculate bonus for all check users in one request
+     * POST /team/check-register/calculate-team-bonus
+     */
+    @PostMapping("/calculate-team-bonus")
+    @ResponseBody
+    public ResponseEntity<?> calculateTeamBonus(@RequestBody Map<String, Object> request) {
+        try {
+            // Extract parameters
+            Integer year = (Integer) request.get("year");
+            Integer month = (Integer) request.get("month");
+            Double bonusSum = request.get("bonusSum") != null ?
+                ((Number) request.get("bonusSum")).doubleValue() : null;
+            String hoursOption = (String) request.get("hoursOption");
+
+            // Validate parameters
+            if (year == null || month == null || bonusSum == null) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of("message", "Missing required parameters"));
+            }
+
+            // Default hoursOption to "standard" if not provided
+            if (hoursOption == null || hoursOption.isEmpty()) {
+                hoursOption = "standard";
+            }
+
+            // Manual hours keyed by user ID (JSON object keys arrive as strings)
+            Map<Integer, Double> manualHours = new HashMap<>();
+            if (request.get("manualHours") instanceof Map<?, ?> manualHoursMap) {
+                manualHoursMap.forEach((key, value) -> {
+                    if (value instanceof Number number) {
+                        manualHours.put(Integer.valueOf(key.toString()), number.doubleValue());
+                    }
+                });
+            }
+
+            LoggerUtil.info(this.getClass(), String.format(
+                "Calculate team bonus request for year: %d, month: %d, hoursOption: %s", year, month, hoursOption));
+
+            ServiceResult<List<CheckBonusEntry>> result = checkBonusService.calculateTeamBonus(
+                year, month, bonusSum, hoursOption, manualHours);
+
+            if (!result.isSuccess()) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("message", result.getErrorMessage()));
+            }
+
+            return ResponseEntity.ok(Map.of(
+                "entries", result.getData(),
+                "warnings", result.getWarnings() != null ? result.getWarnings() : List.of()
+            ));
+
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error calculating team bonus: " + e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("message", "Failed to calculate team bonus: " + e.getMessage()));
+        }
+    }
+
     /**
      * Save bonus data
      * POST /team/check-register/save-bonus
@@ -253,8 +320,9 @@ public class TeamCheckBonusController extends BaseController {
      * GET /team/check-register/export-bonus
      */
     @GetMapping("/export-bonus")
-    public ResponseEntity<?> exportBonus(@RequestParam("year") int year,
-                                          @RequestParam("month") int month) {
+    public WebAsyncTask<ResponseEntity<?>> exportBonus(@RequestParam("year") int year,
+                                                       @RequestParam("month") int month,
+                                                       HttpServletResponse response) {
         try {
             LoggerUtil.info(this.getClass(), String.format(
                 "Export bonus request for year: %d, month: %d", year, month));
@@ -263,12 +331,12 @@ public class TeamCheckBonusController extends BaseController {
             ServiceResult<List<CheckBonusEntry>> result = checkBonusService.loadBonusData(year, month);
 
             if (!result.isSuccess() || result.getData() == null || result.getData().isEmpty()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(Map.of("message", "No bonus data to export"));
+                return exportStreaming.respond(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("message", "No bonus data to export")), response, "bonus");
             }
 
             // Export to Excel
-            byte[] excelData = exportCheckBonusExcel.exportToExcel(result.getData(), year, month);
+            StreamingResponseBody excelData = outputStream -> exportCheckBonusExcel.writeToExcel(result.getData(), year, month, false, outputStream);
 
             // Prepare response headers
             HttpHeaders headers = new HttpHeaders();
@@ -279,14 +347,14 @@ public class TeamCheckBonusController extends BaseController {
             LoggerUtil.info(this.getClass(), String.format(
                 "Successfully exported %d bonus entries to Excel", result.getData().size()));
 
-            return ResponseEntity.ok()
+            return exportStreaming.respond(ResponseEntity.ok()
                     .headers(headers)
-                    .body(excelData);
+                    .body(excelData), response, "bonus");
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Error exporting bonus: " + e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("message", "Failed to export bonus: " + e.getMessage()));
+            return exportStreaming.respond(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("message", "Failed to export bonus: " + e.getMessage())), response, "bonus");
         }
     }
 
@@ -295,8 +363,9 @@ public class TeamCheckBonusController extends BaseController {
      * GET /team/check-register/export-bonus-user
      */
     @GetMapping("/export-bonus-user")
-    public ResponseEntity<?> exportBonusForUser(@RequestParam("year") int year,
-                                                 @RequestParam("month") int month) {
+    public WebAsyncTask<ResponseEntity<?>> exportBonusForUser(@RequestParam("year") int year,
+                                                              @RequestParam("month") int month,
+                                                              HttpServletResponse response) {
         try {
             LoggerUtil.info(this.getClass(), String.format(
                 "Export user bonus request for year: %d, month: %d", year, month));
@@ -305,12 +374,12 @@ public class TeamCheckBonusController extends BaseController {
             ServiceResult<List<CheckBonusEntry>> result = checkBonusService.loadBonusData(year, month);
 
             if (!result.isSuccess() || result.getData() == null || result.getData().isEmpty()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(Map.of("message", "No bonus data to export"));
+                return exportStreaming.respond(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("message", "No bonus data to export")), response, "user bonus");
             }
 
             // Export to Excel for user (without bonus amounts)
-            byte[] excelData = exportCheckBonusExcel.exportToExcelForUser(result.getData(), year, month);
+            StreamingResponseBody excelData = outputStream -> exportCheckBonusExcel.writeToExcel(result.getData(), year, month, true, outputStream);
 
             // Prepare response headers
             HttpHeaders headers = new HttpHeaders();
@@ -321,14 +390,14 @@ public class TeamCheckBonusController extends BaseController {
             LoggerUtil.info(this.getClass(), String.format(
                 "Successfully exported %d performance entries to Excel (user version)", result.getData().size()));
 
-            return ResponseEntity.ok()
+            return exportStreaming.respond(ResponseEntity.ok()
                     .headers(headers)
-                    .body(excelData);
+                    .body(excelData), response, "user bonus");
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Error exporting user bonus: " + e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("message", "Failed to export user bonus: " + e.getMessage()));
+            return exportStreaming.respond(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("message", "Failed to export user bonus: " + e.getMessage())), response, "user bonus");
         }
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.ctgraphdep.controller.team;
 
 import com.ctgraphdep.controller.base.BaseController;
+import com.ctgraphdep.controller.base.ExportStreamingSupport;
 import com.ctgraphdep.enums.ApprovalStatusType;
 import com.ctgraphdep.enums.CheckType;
 import com.ctgraphdep.model.*;
@@ -13,6 +14,7 @@ import com.ctgraphdep.service.result.ServiceResult;
 import com.ctgraphdep.utils.CheckRegisterWithCalculationExporter;
 import com.ctgraphdep.utils.LoggerUtil;
 import com.ctgraphdep.validation.TimeValidationService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
@@ -26,6 +28,8 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -44,14 +48,16 @@ public class TeamCheckRegisterController extends BaseController {
     private final CheckValuesService checkValuesService;
     private final WorkScheduleService workScheduleService;
     private final CheckRegisterWithCalculationExporter checkRegisterWithCalculationExporter;
+    private final ExportStreamingSupport exportStreaming;
 
     public TeamCheckRegisterController(UserService userService, FolderStatus folderStatus, TimeValidationService timeValidationService, CheckRegisterService checkRegisterService,
-                                       CheckValuesService checkValuesService, WorkScheduleService workScheduleService, CheckRegisterWithCalculationExporter checkRegisterWithCalculationExporter) {
+                                       CheckValuesService checkValuesService, WorkScheduleService workScheduleService, CheckRegisterWithCalculationExporter checkRegisterWithCalculationExporter, ExportStreamingSupport exportStreaming) {
         super(userService, folderStatus, timeValidationService);
         this.checkRegisterService = checkRegisterService;
         this.checkValuesService = checkValuesService;
         this.workScheduleService = workScheduleService;
         this.checkRegisterWithCalculationExporter = checkRegisterWithCalculationExporter;
+        this.exportStreaming = exportStreaming;
         LoggerUtil.initialize(this.getClass(), null);
     }
 
@@ -639,12 +645,13 @@ public class TeamCheckRegisterController extends BaseController {
      * GET /team/check-register/export
      */
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exportToExcel(
+    public WebAsyncTask<ResponseEntity<?>> exportToExcel(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam String username,
             @RequestParam Integer userId,
             @RequestParam int year,
-            @RequestParam int month) {
+            @RequestParam int month,
+            HttpServletResponse response) {
 
         try {
             LoggerUtil.info(this.getClass(), String.format(
@@ -655,7 +662,7 @@ public class TeamCheckRegisterController extends BaseController {
             User targetUser = getUserService().getUserById(userId).orElse(null);
             if (targetUser == null) {
                 LoggerUtil.error(this.getClass(), "User not found: " + username);
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+                return exportStreaming.respond(ResponseEntity.status(HttpStatus.NOT_FOUND).build(), response, "team check register");
             }
 
             // Load team check register entries for the selected user
@@ -665,7 +672,7 @@ public class TeamCheckRegisterController extends BaseController {
             if (entriesResult.isFailure()) {
                 LoggerUtil.error(this.getClass(), String.format("Failed to load entries for export for %s: %s",
                         username, entriesResult.getErrorMessage()));
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+                return exportStreaming.respond(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build(), response, "team check register");
             }
 
             List<RegisterCheckEntry> entries = entriesResult.getData();
@@ -684,25 +691,20 @@ public class TeamCheckRegisterController extends BaseController {
             }
 
             // Generate Excel with two sheets using the exporter
-            byte[] excelData = checkRegisterWithCalculationExporter.exportToExcel(targetUser, entries, checkValues, year, month);
-
-            if (excelData.length == 0) {
-                LoggerUtil.error(this.getClass(), "Excel export returned empty byte array");
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-            }
+            StreamingResponseBody excelData = outputStream -> checkRegisterWithCalculationExporter.writeToExcel(targetUser, entries, checkValues, year, month, outputStream);
 
             LoggerUtil.info(this.getClass(), String.format("Successfully exported %d entries to Excel for %s",
                     entries.size(), username));
 
-            return ResponseEntity.ok()
+            return exportStreaming.respond(ResponseEntity.ok()
                     .header(HttpHeaders.CONTENT_DISPOSITION, String.format("attachment; filename=\"check_register_%s_%d_%02d.xlsx\"",
                             username, year, month))
                     .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .body(excelData);
+                    .body(excelData), response, "team check register");
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Unexpected error exporting check register to Excel: " + e.getMessage(), e);
-            return ResponseEntity.internalServerError().build();
+            return exportStreaming.respond(ResponseEntity.internalServerError().build(), response, "team check register");
         }
     }
 
@@ -2,6 +2,7 @@ package com.ctgraphdep.controller.user;
 
 import com.ctgraphdep.config.SecurityConstants;
 import com.ctgraphdep.controller.base.BaseController;
+import com.ctgraphdep.controller.base.ExportStreamingSupport;
 import com.ctgraphdep.enums.ApprovalStatusType;
 import com.ctgraphdep.enums.CheckType;
 import com.ctgraphdep.model.FolderStatus;
@@ -19,6 +20,7 @@ import com.ctgraphdep.model.CheckValuesEntry;
 import com.ctgraphdep.utils.CheckRegisterWithCalculationExporter;
 import com.ctgraphdep.utils.LoggerUtil;
 import com.ctgraphdep.validation.TimeValidationService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -31,6 +33,8 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -52,16 +56,19 @@ public class CheckRegisterController extends BaseController {
     private final WorkScheduleService workScheduleService;
     private final CheckValuesCacheManager checkValuesCacheManager;
     private final CheckValuesService checkValuesService;
+    private final ExportStreamingSupport exportStreaming;
 
     public CheckRegisterController(UserService userService, FolderStatus folderStatus, CheckRegisterService checkRegisterService, TimeValidationService timeValidationService,
                                    CheckRegisterWithCalculationExporter checkRegisterWithCalculationExporter,
                                    WorkScheduleService workScheduleService, CheckValuesCacheManager checkValuesCacheManager,
-                                   CheckValuesService checkValuesService) {
+                                   CheckValuesService checkValuesService,
+                                   ExportStreamingSupport exportStreaming) {
         super(userService, folderStatus, timeValidationService);
         this.checkRegisterService = checkRegisterService;
         this.checkRegisterWithCalculationExporter = checkRegisterWithCalculationExporter;
         this.workScheduleService = workScheduleService;
         this.checkValuesCacheManager = checkValuesCacheManager;
+        this.exportStreaming = exportStreaming;
         this.checkValuesService = checkValuesService;
     }
 
@@ -503,7 +510,7 @@ public class CheckRegisterController extends BaseController {
      * Export to Excel with two sheets (Registry + Calculation) - ENHANCED with ServiceResult handling
      */
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exportToExcel(@AuthenticationPrincipal UserDetails userDetails, @RequestParam int year, @RequestParam int month) {
+    public WebAsyncTask<ResponseEntity<?>> exportToExcel(@AuthenticationPrincipal UserDetails userDetails, @RequestParam int year, @RequestParam int month, HttpServletResponse response) {
 
         try {
             LoggerUtil.info(this.getClass(), "Exporting check register to Excel at " + getStandardCurrentDateTime());
@@ -511,7 +518,7 @@ public class CheckRegisterController extends BaseController {
             // Get the user
             User currentUser = getUser(userDetails);
             if (currentUser == null) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+                return exportStreaming.respond(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build(), response, "check register");
             }
 
             // Load entries using ServiceResult pattern
@@ -521,7 +528,7 @@ public class CheckRegisterController extends BaseController {
             if (entriesResult.isFailure()) {
                 LoggerUtil.error(this.getClass(), String.format("Failed to load entries for export for %s: %s",
                         currentUser.getUsername(), entriesResult.getErrorMessage()));
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+                return exportStreaming.respond(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build(), response, "check register");
             }
 
             List<RegisterCheckEntry> entries = entriesResult.getData();
@@ -540,25 +547,20 @@ public class CheckRegisterController extends BaseController {
             }
 
             // Generate Excel with two sheets using the new exporter
-            byte[] excelData = checkRegisterWithCalculationExporter.exportToExcel(currentUser, entries, checkValues, year, month);
-
-            if (excelData.length == 0) {
-                LoggerUtil.error(this.getClass(), "Excel export returned empty byte array");
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-            }
+            StreamingResponseBody excelData = outputStream -> checkRegisterWithCalculationExporter.writeToExcel(currentUser, entries, checkValues, year, month, outputStream);
 
             LoggerUtil.info(this.getClass(), String.format("Successfully exported %d entries to Excel for %s",
                     entries.size(), currentUser.getUsername()));
 
-            return ResponseEntity.ok()
+            return exportStreaming.respond(ResponseEntity.ok()
                     .header(HttpHeaders.CONTENT_DISPOSITION, String.format("attachment; filename=\"check_register_%s_%d_%02d.xlsx\"",
                             currentUser.getUsername(), year, month))
                     .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .body(excelData);
+                    .body(excelData), response, "check register");
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Unexpected error exporting check register to Excel: " + e.getMessage(), e);
-            return ResponseEntity.internalServerError().build();
+            return exportStreaming.respond(ResponseEntity.internalServerError().build(), response, "check register");
         }
     }
 
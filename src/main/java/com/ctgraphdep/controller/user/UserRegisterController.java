@@ -1,6 +1,7 @@
 package com.ctgraphdep.controller.user;
 
 import com.ctgraphdep.controller.base.BaseController;
+import com.ctgraphdep.controller.base.ExportStreamingSupport;
 import com.ctgraphdep.enums.ActionType;
 import com.ctgraphdep.enums.PrintPrepTypes;
 import com.ctgraphdep.merge.constants.MergingStatusConstants;
@@ -16,6 +17,7 @@ import com.ctgraphdep.utils.UserRegisterExcelExporter;
 import com.ctgraphdep.validation.TimeValidationFactory;
 import com.ctgraphdep.validation.TimeValidationService;
 import com.ctgraphdep.validation.commands.ValidatePeriodCommand;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -28,6 +30,8 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -52,15 +56,18 @@ public class UserRegisterController extends BaseController {
 
     private final UserRegisterService userRegisterService;
     private final UserRegisterExcelExporter userRegisterExcelExporter;
+    private final ExportStreamingSupport exportStreaming;
 
     public UserRegisterController(UserService userService,
                                   FolderStatus folderStatus,
                                   UserRegisterService userRegisterService,
                                   UserRegisterExcelExporter userRegisterExcelExporter,
-                                  TimeValidationService timeValidationService) {
+                                  TimeValidationService timeValidationService,
+                                  ExportStreamingSupport exportStreaming) {
         super(userService, folderStatus, timeValidationService);
         this.userRegisterService = userRegisterService;
         this.userRegisterExcelExporter = userRegisterExcelExporter;
+        this.exportStreaming = exportStreaming;
         LoggerUtil.initialize(this.getClass(), null);
     }
 
@@ -421,10 +428,11 @@ public class UserRegisterController extends BaseController {
      * Export to Excel - ENHANCED with ServiceResult handling
      */
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exportToExcel(
+    public WebAsyncTask<ResponseEntity<?>> exportToExcel(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam int year,
-            @RequestParam int month) {
+            @RequestParam int month,
+            HttpServletResponse response) {
 
         try {
             LoggerUtil.info(this.getClass(), "Exporting register to Excel at " + getStandardCurrentDateTime());
@@ -432,7 +440,7 @@ public class UserRegisterController extends BaseController {
             // Get the user
             User currentUser = getUser(userDetails);
             if (currentUser == null) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+                return exportStreaming.respond(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build(), response, "register");
             }
 
             // Load entries using ServiceResult pattern
@@ -440,24 +448,24 @@ public class UserRegisterController extends BaseController {
 
             if (entriesResult.isFailure()) {
                 LoggerUtil.error(this.getClass(), String.format("Failed to load entries for export for %s: %s", currentUser.getUsername(), entriesResult.getErrorMessage()));
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+                return exportStreaming.respond(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build(), response, "register");
             }
 
             List<RegisterEntry> entries = entriesResult.getData();
 
             // Generate Excel using our exporter
-            byte[] excelData = userRegisterExcelExporter.exportToExcel(currentUser, entries, year, month);
+            StreamingResponseBody excelData = outputStream -> userRegisterExcelExporter.writeToExcel(currentUser, entries, year, month, outputStream);
 
             LoggerUtil.info(this.getClass(), String.format("Successfully exported %d entries to Excel for %s", entries.size(), currentUser.getUsername()));
 
-            return ResponseEntity.ok()
+            return exportStreaming.respond(ResponseEntity.ok()
                     .header(HttpHeaders.CONTENT_DISPOSITION, String.format("attachment; filename=\"register_%d_%02d.xlsx\"", year, month))
                     .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .body(excelData);
+                    .body(excelData), response, "register");
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Unexpected error exporting register to Excel: " + e.getMessage(), e);
-            return ResponseEntity.internalServerError().build();
+            return exportStreaming.respond(ResponseEntity.internalServerError().build(), response, "register");
         }
     }
 
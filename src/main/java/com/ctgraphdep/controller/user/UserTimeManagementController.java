@@ -1,6 +1,7 @@
 package com.ctgraphdep.controller.user;
 
 import com.ctgraphdep.controller.base.BaseController;
+import com.ctgraphdep.controller.base.ExportStreamingSupport;
 import com.ctgraphdep.model.FolderStatus;
 import com.ctgraphdep.model.User;
 import com.ctgraphdep.model.WorkTimeTable;
@@ -14,6 +15,7 @@ import com.ctgraphdep.validation.ValidationResult;
 import com.ctgraphdep.worktime.service.WorktimeOperationService;
 import com.ctgraphdep.worktime.model.OperationResult;
 import com.ctgraphdep.worktime.display.WorktimeDisplayService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -25,6 +27,8 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
@@ -41,13 +45,16 @@ public class UserTimeManagementController extends BaseController {
     private final WorktimeDisplayService worktimeDisplayService;
     private final UserWorktimeExcelExporter userWorktimeExcelExporter;
     private final com.ctgraphdep.worktime.rules.TimeOffOperationRules timeOffRules;
+    private final ExportStreamingSupport exportStreaming;
 
     public UserTimeManagementController(UserService userService, FolderStatus folderStatus, TimeValidationService validationService, WorktimeOperationService worktimeOperationService,
                                         WorktimeDisplayService worktimeDisplayService, UserWorktimeExcelExporter userWorktimeExcelExporter,
-                                        com.ctgraphdep.worktime.rules.TimeOffOperationRules timeOffRules) {
+                                        com.ctgraphdep.worktime.rules.TimeOffOperationRules timeOffRules,
+                                        ExportStreamingSupport exportStreaming) {
         super(userService, folderStatus, validationService);
         this.worktimeOperationService = worktimeOperationService;
         this.worktimeDisplayService = worktimeDisplayService;
+        this.exportStreaming = exportStreaming;
         this.userWorktimeExcelExporter = userWorktimeExcelExporter;
         this.timeOffRules = timeOffRules;
     }
@@ -380,13 +387,14 @@ public class UserTimeManagementController extends BaseController {
     // ========================================================================
 
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exportToExcel(@AuthenticationPrincipal UserDetails userDetails, @RequestParam(required = false) Integer year,
-                                                @RequestParam(required = false) Integer month) {
+    public WebAsyncTask<ResponseEntity<?>> exportToExcel(@AuthenticationPrincipal UserDetails userDetails, @RequestParam(required = false) Integer year,
+                                                @RequestParam(required = false) Integer month,
+                                                HttpServletResponse response) {
 
         try {
             User currentUser = getUser(userDetails);
             if (currentUser == null) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+                return exportStreaming.respond(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build(), response, "worktime");
             }
 
             int selectedYear = determineYear(year);
@@ -403,16 +411,16 @@ public class UserTimeManagementController extends BaseController {
             List<WorkTimeEntryDTO> entryDTOs = (List<WorkTimeEntryDTO>) displayData.get("worktimeData");
             WorkTimeSummaryDTO summaryDTO = (WorkTimeSummaryDTO) displayData.get("summary");
 
-            byte[] excelData = userWorktimeExcelExporter.exportToExcel(currentUser, entryDTOs, summaryDTO, selectedYear, selectedMonth);
+            StreamingResponseBody excelData = outputStream -> userWorktimeExcelExporter.writeToExcel(currentUser, entryDTOs, summaryDTO, selectedYear, selectedMonth, outputStream);
 
-            return ResponseEntity.ok().header(HttpHeaders.CONTENT_DISPOSITION, String.format("attachment; filename=\"worktime_%s_%d_%02d.xlsx\"",
+            return exportStreaming.respond(ResponseEntity.ok().header(HttpHeaders.CONTENT_DISPOSITION, String.format("attachment; filename=\"worktime_%s_%d_%02d.xlsx\"",
                             currentUser.getUsername(), selectedYear, selectedMonth))
                     .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .body(excelData);
+                    .body(excelData), response, "worktime");
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Error exporting to Excel: " + e.getMessage(), e);
-            return ResponseEntity.internalServerError().build();
+            return exportStreaming.respond(ResponseEntity.internalServerError().build(), response, "worktime");
         }
     }
 
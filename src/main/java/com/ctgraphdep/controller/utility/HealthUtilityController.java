@@ -1,10 +1,14 @@
 package com.ctgraphdep.controller.utility;
 
 import com.ctgraphdep.controller.base.BaseController;
+import com.ctgraphdep.fileOperations.service.OutboundSyncQueueService;
 import com.ctgraphdep.model.FolderStatus;
 import com.ctgraphdep.model.User;
 import com.ctgraphdep.monitoring.MonitoringStateService;
+import com.ctgraphdep.monitoring.NetworkStatusMonitor;
 import com.ctgraphdep.monitoring.SchedulerHealthMonitor;
+import com.ctgraphdep.notification.service.NotificationEventBus;
+import com.ctgraphdep.scheduling.ScheduledJobRuntime;
 import com.ctgraphdep.service.UserService;
 import com.ctgraphdep.utils.LoggerUtil;
 import com.ctgraphdep.validation.TimeValidationService;
@@ -28,17 +32,29 @@ public class HealthUtilityController extends BaseController {
 
     private final SchedulerHealthMonitor schedulerHealthMonitor;
     private final MonitoringStateService monitoringStateService;
+    private final NotificationEventBus notificationEventBus;
+    private final ScheduledJobRuntime scheduledJobRuntime;
+    private final NetworkStatusMonitor networkStatusMonitor;
+    private final OutboundSyncQueueService outboundSyncQueueService;
 
     public HealthUtilityController(
             UserService userService,
             FolderStatus folderStatus,
             TimeValidationService timeValidationService,
             SchedulerHealthMonitor schedulerHealthMonitor,
-            MonitoringStateService monitoringStateService) {
+            MonitoringStateService monitoringStateService,
+            NotificationEventBus notificationEventBus,
+            ScheduledJobRuntime scheduledJobRuntime,
+            NetworkStatusMonitor networkStatusMonitor,
+            OutboundSyncQueueService outboundSyncQueueService) {
 
         super(userService, folderStatus, timeValidationService);
         this.schedulerHealthMonitor = schedulerHealthMonitor;
         this.monitoringStateService = monitoringStateService;
+        this.notificationEventBus = notificationEventBus;
+        this.scheduledJobRuntime = scheduledJobRuntime;
+        this.networkStatusMonitor = networkStatusMonitor;
+        this.outboundSyncQueueService = outboundSyncQueueService;
     }
 
     // ========================================================================
@@ -113,6 +129,94 @@ public class HealthUtilityController extends BaseController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Get notification dispatch queue depth and drop/coalesce counters
+     */
+    @GetMapping("/notification-queue")
+    public ResponseEntity<Map<String, Object>> getNotificationQueueStats() {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            response.put("success", true);
+            response.put("stats", notificationEventBus.getDispatchStats());
+            response.put("timestamp", getStandardCurrentDateTime());
+
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error getting notification queue stats: " + e.getMessage(), e);
+            response.put("success", false);
+            response.put("message", "Error getting notification queue stats: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get per-job scheduler metrics (runs, skips, overruns, durations, lag)
+     */
+    @GetMapping("/scheduled-jobs")
+    public ResponseEntity<Map<String, Object>> getScheduledJobStats() {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            response.put("success", true);
+            response.put("jobs", scheduledJobRuntime.getJobStats());
+            response.put("timestamp", getStandardCurrentDateTime());
+
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error getting scheduled job stats: " + e.getMessage(), e);
+            response.put("success", false);
+            response.put("message", "Error getting scheduled job stats: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get network share health (level, latency EWMA/percentiles, throughput, probe interval)
+     */
+    @GetMapping("/network")
+    public ResponseEntity<Map<String, Object>> getNetworkHealth() {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            response.put("success", true);
+            response.put("network", networkStatusMonitor.getProbeStats());
+            response.put("timestamp", getStandardCurrentDateTime());
+
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error getting network health: " + e.getMessage(), e);
+            response.put("success", false);
+            response.put("message", "Error getting network health: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get outbound sync queue status (writes waiting for the network share, oldest age)
+     */
+    @GetMapping("/sync-queue")
+    public ResponseEntity<Map<String, Object>> getSyncQueueStats() {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            response.put("success", true);
+            response.put("stats", outboundSyncQueueService.getStats());
+            response.put("timestamp", getStandardCurrentDateTime());
+
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error getting sync queue stats: " + e.getMessage(), e);
+            response.put("success", false);
+            response.put("message", "Error getting sync queue stats: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Get monitoring state for current user
      */
@@ -60,8 +60,9 @@ public class FileOperationsConfig {
     public SyncFilesService syncFilesService(
             BackupService backupService,
             TimeValidationService timeValidationService,
-            FilePathResolver filePathResolver) {
-        return new SyncFilesService(backupService, timeValidationService, filePathResolver);
+            FilePathResolver filePathResolver,
+            PathConfig pathConfig) {
+        return new SyncFilesService(backupService, timeValidationService, filePathResolver, pathConfig);
     }
 
     /**
@@ -93,8 +94,9 @@ public class FileOperationsConfig {
     public BackupEventListener backupEventListener(
             BackupService backupService,
             ApplicationEventPublisher applicationEventPublisher,
-            BackupEventMonitor backupEventMonitor) {  // ADDED: BackupEventMonitor dependency
-        return new BackupEventListener(backupService, applicationEventPublisher, backupEventMonitor);
+            BackupEventMonitor backupEventMonitor,  // ADDED: BackupEventMonitor dependency
+            BackupReplicationService backupReplicationService) {
+        return new BackupEventListener(backupService, applicationEventPublisher, backupEventMonitor, backupReplicationService);
     }
 
     // ===== READER AND WRITER SERVICES =====
@@ -124,9 +126,10 @@ public class FileOperationsConfig {
             PathConfig pathConfig,
             FileObfuscationService fileObfuscationService,
             FileEventPublisher fileEventPublisher,
-            @Lazy MainDefaultUserContextCache mainDefaultUserContextCache) {
+            @Lazy MainDefaultUserContextCache mainDefaultUserContextCache,
+            OutboundSyncQueueService outboundSyncQueueService) {
         return new FileWriterService(objectMapper, filePathResolver, syncFilesService,
-                pathConfig, fileObfuscationService, fileEventPublisher, mainDefaultUserContextCache);
+                pathConfig, fileObfuscationService, fileEventPublisher, mainDefaultUserContextCache, outboundSyncQueueService);
     }
 
     // ===== DOMAIN-SPECIFIC DATA SERVICES =====
@@ -140,8 +143,9 @@ public class FileOperationsConfig {
             FileReaderService fileReaderService,
             FilePathResolver pathResolver,
             PathConfig pathConfig,
-            ObjectMapper objectMapper) {
-        return new UserDataService(fileWriterService, fileReaderService, pathConfig);
+            ObjectMapper objectMapper,
+            UserRegistryDataService userRegistryDataService) {
+        return new UserDataService(fileWriterService, fileReaderService, pathConfig, userRegistryDataService);
     }
 
     /**
@@ -152,8 +156,8 @@ public class FileOperationsConfig {
             FileWriterService fileWriterService,
             FileReaderService fileReaderService,
             FilePathResolver pathResolver,
-            PathConfig pathConfig, SyncFilesService syncFilesService) {
-        return new WorktimeDataService(fileWriterService, fileReaderService, pathResolver, pathConfig, syncFilesService);
+            PathConfig pathConfig, SyncFilesService syncFilesService, ObjectMapper objectMapper) {
+        return new WorktimeDataService(fileWriterService, fileReaderService, pathResolver, pathConfig, syncFilesService, objectMapper);
     }
 
     /**
@@ -176,8 +180,8 @@ public class FileOperationsConfig {
             FileWriterService fileWriterService,
             FileReaderService fileReaderService,
             FilePathResolver pathResolver,
-            PathConfig pathConfig) {
-        return new SessionDataService(fileWriterService, fileReaderService, pathResolver, pathConfig);
+            PathConfig pathConfig, LogShippingService logShippingService) {
+        return new SessionDataService(fileWriterService, fileReaderService, pathResolver, pathConfig, logShippingService);
     }
 
     /**
@@ -1,7 +1,10 @@
 package com.ctgraphdep.fileOperations.config;
 
+import com.ctgraphdep.config.FileTypeConstants;
 import com.ctgraphdep.fileOperations.core.FilePath;
+import com.ctgraphdep.monitoring.NetworkHealthLevel;
 import com.ctgraphdep.monitoring.events.NetworkStatusChangedEvent;
+import com.ctgraphdep.monitoring.model.NetworkProbeStats;
 import com.ctgraphdep.utils.LoggerUtil;
 import jakarta.annotation.PostConstruct;
 import lombok.Getter;
@@ -22,6 +25,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -37,6 +41,7 @@ public class PathConfig {
 
     // This flag will be controlled by NetworkStatusMonitor
     private final AtomicBoolean networkAvailable = new AtomicBoolean(false);
+    private final AtomicReference<NetworkHealthLevel> networkHealthLevel = new AtomicReference<>(NetworkHealthLevel.DOWN);
     private final AtomicBoolean localAvailable = new AtomicBoolean(false);
     // Cache for FilePath objects for commonly used paths
     private final Map<String, FilePath> filePathCache = new HashMap<>();
@@ -114,6 +119,12 @@ public class PathConfig {
     @Value("${dbj.dir.format.timeoff}")
     private String timeoffFormat;
 
+    //User Month Summary Path and Format
+    @Value("${dbj.user.summary}")
+    private String userSummary;
+    @Value("${dbj.dir.format.summary}")
+    private String summaryFormat;
+
     //User Register Path and Format
     @Value("${dbj.user.register}")
     private String userRegister;
@@ -224,7 +235,7 @@ public class PathConfig {
             // Create all required local directories
             List<String> directories = Arrays.asList(
                     loginPath, usersPath, userSession, userStatus,
-                    userWorktime, userRegister, userTimeoff, adminWorktime,
+                    userWorktime, userRegister, userTimeoff, userSummary, adminWorktime,
                     adminRegister, adminBonus, networkLogsPath, backupPath
             );
 
@@ -275,6 +286,16 @@ public class PathConfig {
         return getNetworkLogDirectory().resolve(formattedLogFilename);
     }
 
+    /**
+     * Gets the network path of the incrementally shipped (gzip member appended) log for a user and version
+     * @param username The username
+     * @param version The application version
+     * @return Path to the user's shipped log file (ctgraphdep-logger_username_vX.Y.Z.log.gz)
+     */
+    public Path getNetworkShippedLogPath(String username, String version) {
+        return getNetworkLogDirectory().resolve(String.format(logFileFormat, username, version) + FileTypeConstants.GZIP_EXTENSION);
+    }
+
     /**
      * Extracts version from log filename
      * @param filename The log filename
@@ -285,8 +306,8 @@ public class PathConfig {
             return "Unknown";
         }
 
-        // Pattern to match ctgraphdep-logger_username_vX.Y.Z.log
-        Pattern pattern = Pattern.compile("ctgraphdep-logger_(.+)_v([\\d.]+)\\.log$");
+        // Pattern to match ctgraphdep-logger_username_vX.Y.Z.log (or .log.gz for shipped logs)
+        Pattern pattern = Pattern.compile("ctgraphdep-logger_(.+)_v([\\d.]+)\\.log(\\.gz)?$");
         Matcher matcher = pattern.matcher(filename);
 
         if (matcher.find()) {
@@ -388,23 +409,60 @@ public class PathConfig {
         return networkPath.resolve(userTimeoff).resolve(String.format(timeoffFormat, username, userId, year));
     }
 
+    //Month summary path - local and network for sync
+    public Path getLocalMonthSummaryPath(String username, int year, int month) {
+        return localPath.resolve(userSummary).resolve(String.format(summaryFormat, username, year, month));
+    }
+    public Path getNetworkMonthSummaryPath(String username, int year, int month) {
+        return networkPath.resolve(userSummary).resolve(String.format(summaryFormat, username, year, month));
+    }
+
     public boolean isNetworkAvailable() {
         return networkAvailable.get();
     }
     public void setNetworkAvailable(boolean available) {
-        boolean previous = networkAvailable.getAndSet(available);
-        if (previous != available) {
-            String reason = available ? "Network became available" : "Network became unavailable";
-            LoggerUtil.info(this.getClass(), String.format("Network status updated to: %s", available ? "Available" : "Unavailable"));
-
-            // Publish event for any interested services
-            try {
-                NetworkStatusChangedEvent event = new NetworkStatusChangedEvent(this, available, reason);
-                eventPublisher.publishEvent(event);
-                LoggerUtil.debug(this.getClass(), "Published network status event: " + event);
-            } catch (Exception e) {
-                LoggerUtil.error(this.getClass(), "Error publishing network status event: " + e.getMessage());
-            }
+        if (available) {
+            // Coming up keeps a DEGRADED share degraded; only the probe decides it is healthy again
+            NetworkHealthLevel current = networkHealthLevel.get();
+            updateNetworkHealth(current == NetworkHealthLevel.DOWN ? NetworkHealthLevel.HEALTHY : current, "Network became available", null);
+        } else {
+            updateNetworkHealth(NetworkHealthLevel.DOWN, "Network became unavailable", null);
+        }
+    }
+
+    public NetworkHealthLevel getNetworkHealthLevel() {
+        return networkHealthLevel.get();
+    }
+    public boolean isNetworkDegraded() {
+        return networkHealthLevel.get() == NetworkHealthLevel.DEGRADED;
+    }
+
+    /**
+     * Sets the network health level (availability follows it) and publishes a NetworkStatusChangedEvent when it changes.
+     *
+     * @param level      New health level
+     * @param reason     Reason shown in logs and in the event
+     * @param probeStats Probe measurements behind the change, or null
+     */
+    public void updateNetworkHealth(NetworkHealthLevel level, String reason, NetworkProbeStats probeStats) {
+        NetworkHealthLevel previous;
+        synchronized (networkHealthLevel) {
+            previous = networkHealthLevel.getAndSet(level);
+            networkAvailable.set(level.isAvailable());
+        }
+        if (previous == level) {
+            return;
+        }
+
+        LoggerUtil.info(this.getClass(), "Network status updated to: {} (was {}, reason: {})", level, previous, reason);
+
+        // Publish event for any interested services
+        try {
+            NetworkStatusChangedEvent event = new NetworkStatusChangedEvent(this, level, previous, reason, probeStats);
+            eventPublisher.publishEvent(event);
+            LoggerUtil.debug(this.getClass(), "Published network status event: {}", event);
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error publishing network status event: " + e.getMessage());
         }
     }
 
@@ -0,0 +1,163 @@
+package com.ctgraphdep.fileOperations.data;
+
+import com.ctgraphdep.fileOperations.config.PathConfig;
+import com.ctgraphdep.fileOperations.core.FileOperationResult;
+import com.ctgraphdep.fileOperations.core.FilePath;
+import com.ctgraphdep.fileOperations.service.FilePathResolver;
+import com.ctgraphdep.fileOperations.service.FileReaderService;
+import com.ctgraphdep.fileOperations.service.FileWriterService;
+import com.ctgraphdep.model.UserMonthSummary;
+import com.ctgraphdep.utils.LoggerUtil;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Data service for published per-user month summaries.
+ * Key Principles:
+ * - The owner writes locally and the summary is synced to network (no backup - it is derived data)
+ * - Readers only trust a network summary that is at least as recent as the user's network data files;
+ *   otherwise the caller falls back to reading the full month
+ * - Network summaries are cached by last modified time, so an unchanged summary is only stat-ed
+ */
+@Service
+public class MonthSummaryDataService {
+
+    // Source files a summary is built from
+    private static final FilePathResolver.FileType[] SOURCE_TYPES = {
+            FilePathResolver.FileType.WORKTIME,
+            FilePathResolver.FileType.REGISTER,
+            FilePathResolver.FileType.CHECK_REGISTER
+    };
+    private static final int MAX_CACHED_SUMMARIES = 2000;
+
+    private final FileWriterService fileWriterService;
+    private final FileReaderService fileReaderService;
+    private final FilePathResolver pathResolver;
+    private final PathConfig pathConfig;
+
+    private final Map<Path, CachedSummary> networkSummaryCache = new ConcurrentHashMap<>();
+
+    public MonthSummaryDataService(FileWriterService fileWriterService, FileReaderService fileReaderService,
+                                   FilePathResolver pathResolver, PathConfig pathConfig) {
+        this.fileWriterService = fileWriterService;
+        this.fileReaderService = fileReaderService;
+        this.pathResolver = pathResolver;
+        this.pathConfig = pathConfig;
+        LoggerUtil.initialize(this.getClass(), null);
+    }
+
+    /**
+     * Writes the summary locally and queues it for the network.
+     * Pattern: Local First -> Network Overwrite (no backup)
+     *
+     * @param summary Summary of the owner's month
+     */
+    public void writeMonthSummaryWithSync(UserMonthSummary summary) {
+        try {
+            Map<String, Object> params = FilePathResolver.createYearMonthParams(summary.getYear(), summary.getMonth());
+            FilePath localPath = pathResolver.getLocalPath(summary.getUsername(), summary.getUserId(), FilePathResolver.FileType.MONTH_SUMMARY, params);
+
+            FileOperationResult result = fileWriterService.writeWithNetworkSyncNoBackup(localPath, summary, true);
+            if (!result.isSuccess()) {
+                throw new RuntimeException("Failed to write month summary: " + result.getErrorMessage().orElse("Unknown error"));
+            }
+
+            LoggerUtil.debug(this.getClass(), String.format("Published month summary for %s - %d/%d",
+                    summary.getUsername(), summary.getYear(), summary.getMonth()));
+
+        } catch (Exception e) {
+            LoggerUtil.logAndThrow(this.getClass(), String.format("Error writing month summary for %s - %d/%d: %s",
+                    summary.getUsername(), summary.getYear(), summary.getMonth(), e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Reads a user's published summary from network when it is current.
+     *
+     * @param username Username
+     * @param userId User ID
+     * @param year Year
+     * @param month Month
+     * @return The summary, or empty if missing, of another version, older than the user's data or the network is unavailable
+     */
+    public Optional<UserMonthSummary> readNetworkMonthSummaryIfCurrent(String username, Integer userId, int year, int month) {
+        if (!pathConfig.isNetworkAvailable()) {
+            return Optional.empty();
+        }
+
+        try {
+            Map<String, Object> params = FilePathResolver.createYearMonthParams(year, month);
+            FilePath summaryPath = pathResolver.getNetworkPath(username, userId, FilePathResolver.FileType.MONTH_SUMMARY, params);
+            if (!Files.exists(summaryPath.getPath())) {
+                return Optional.empty();
+            }
+
+            long summaryModified = Files.getLastModifiedTime(summaryPath.getPath()).toMillis();
+            for (FilePathResolver.FileType sourceType : SOURCE_TYPES) {
+                Path sourcePath = pathResolver.getNetworkPath(username, userId, sourceType, params).getPath();
+                if (Files.exists(sourcePath) && Files.getLastModifiedTime(sourcePath).toMillis() > summaryModified) {
+                    LoggerUtil.debug(this.getClass(), String.format("Month summary of %s - %d/%d is older than its %s file",
+                            username, year, month, sourceType));
+                    return Optional.empty();
+                }
+            }
+
+            CachedSummary cached = networkSummaryCache.get(summaryPath.getPath());
+            if (cached != null && cached.lastModified == summaryModified) {
+                return Optional.of(cached.summary);
+            }
+
+            Optional<UserMonthSummary> summary = fileReaderService.readNetworkFile(summaryPath, new TypeReference<>() {}, true);
+            if (summary.isEmpty() || !summary.get().isCurrentVersion()) {
+                return Optional.empty();
+            }
+
+            if (networkSummaryCache.size() >= MAX_CACHED_SUMMARIES) {
+                networkSummaryCache.clear();
+            }
+            networkSummaryCache.put(summaryPath.getPath(), new CachedSummary(summaryModified, summary.get()));
+            return summary;
+
+        } catch (Exception e) {
+            LoggerUtil.debug(this.getClass(), String.format("Error reading month summary for %s - %d/%d: %s", username, year, month, e.getMessage()));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Checks whether the owner's local summary exists and is at least as recent as all local source files.
+     *
+     * @return true if no source file exists (nothing to publish) or the local summary is current
+     */
+    public boolean isLocalMonthSummaryCurrent(String username, Integer userId, int year, int month) {
+        try {
+            Map<String, Object> params = FilePathResolver.createYearMonthParams(year, month);
+            long newestSource = -1;
+            for (FilePathResolver.FileType sourceType : SOURCE_TYPES) {
+                Path sourcePath = pathResolver.getLocalPath(username, userId, sourceType, params).getPath();
+                if (Files.exists(sourcePath)) {
+                    newestSource = Math.max(newestSource, Files.getLastModifiedTime(sourcePath).toMillis());
+                }
+            }
+            if (newestSource < 0) {
+                return true;
+            }
+
+            Path summaryPath = pathResolver.getLocalPath(username, userId, FilePathResolver.FileType.MONTH_SUMMARY, params).getPath();
+            return Files.exists(summaryPath) && Files.getLastModifiedTime(summaryPath).toMillis() >= newestSource;
+
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private record CachedSummary(long lastModified, UserMonthSummary summary) {
+    }
+}
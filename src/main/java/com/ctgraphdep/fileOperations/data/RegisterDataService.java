@@ -208,6 +208,16 @@ public class RegisterDataService {
         }
     }
 
+    /**
+     * Cheap change stamp (size and last modified) of a user's network register file, without reading it.
+     *
+     * @return "size:lastModifiedMillis", "missing" if there is no file, or null if the network cannot be checked
+     */
+    public String getUserNetworkFileStamp(String username, Integer userId, int year, int month) {
+        Map<String, Object> params = FilePathResolver.createYearMonthParams(year, month);
+        return fileReaderService.getNetworkFileStamp(pathResolver.getNetworkPath(username, userId, FilePathResolver.FileType.REGISTER, params));
+    }
+
     /**
      * Finds register files across multiple months.
      */
@@ -7,6 +7,7 @@ import com.ctgraphdep.fileOperations.core.FileOperationResult;
 import com.ctgraphdep.fileOperations.service.FilePathResolver;
 import com.ctgraphdep.fileOperations.service.FileReaderService;
 import com.ctgraphdep.fileOperations.service.FileWriterService;
+import com.ctgraphdep.fileOperations.service.LogShippingService;
 import com.ctgraphdep.model.LocalStatusCache;
 import com.ctgraphdep.model.WorkUsersSessionsStates;
 import com.ctgraphdep.utils.LoggerUtil;
@@ -14,9 +15,10 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
@@ -33,16 +35,19 @@ public class SessionDataService {
     private final FileReaderService fileReaderService;
     private final FilePathResolver pathResolver;
     private final PathConfig pathConfig;
+    private final LogShippingService logShippingService;
 
     public SessionDataService(
             FileWriterService fileWriterService,
             FileReaderService fileReaderService,
             FilePathResolver pathResolver,
-            PathConfig pathConfig) {
+            PathConfig pathConfig,
+            LogShippingService logShippingService) {
         this.fileWriterService = fileWriterService;
         this.fileReaderService = fileReaderService;
         this.pathResolver = pathResolver;
         this.pathConfig = pathConfig;
+        this.logShippingService = logShippingService;
         LoggerUtil.initialize(this.getClass(), null);
     }
 
@@ -108,6 +113,15 @@ public class SessionDataService {
         }
     }
 
+    /**
+     * Cheap change stamp (size and last modified) of a user's network session file, without reading it.
+     *
+     * @return "size:lastModifiedMillis", "missing" if there is no file, or null if the network cannot be checked
+     */
+    public String getNetworkSessionFileStamp(String username, Integer userId) {
+        return fileReaderService.getNetworkFileStamp(pathResolver.getNetworkPath(username, userId, FilePathResolver.FileType.SESSION, FilePathResolver.createParams()));
+    }
+
     /**
      * Reads a session file from local storage in read-only mode (no locking).
      */
@@ -271,13 +285,11 @@ public class SessionDataService {
 
             try (Stream<Path> files = Files.list(logDir)) {
                 return files
-                        .filter(path -> path.getFileName().toString().startsWith("ctgraphdep-logger_") &&
-                                path.getFileName().toString().endsWith(FileTypeConstants.LOG_EXTENSION))
-                        .map(path -> {
-                            String filename = path.getFileName().toString();
-                            // Extract username from filename format: ctgraphdep-logger_username.log
-                            return filename.substring(18, filename.length() - 4);
-                        })
+                        .map(path -> path.getFileName().toString())
+                        .filter(filename -> filename.startsWith("ctgraphdep-logger_") && logStemLength(filename) > 0)
+                        // Extract username from filename format: ctgraphdep-logger_username.log (or .log.gz when shipped)
+                        .map(filename -> filename.substring(18, logStemLength(filename)))
+                        .distinct()
                         .collect(Collectors.toList());
             }
         } catch (IOException e) {
@@ -291,21 +303,9 @@ public class SessionDataService {
      */
     public Optional<String> getUserLogContent(String username) {
         try {
-            // First try to find existing log files for this user (either format)
-            String logFilename = getLogFilename(username);
-
-            if (!logFilename.isEmpty()) {
-                // If we found a filename, use it directly
-                Path logPath = pathConfig.getNetworkLogDirectory().resolve(logFilename);
-                if (Files.exists(logPath)) {
-                    return Optional.of(Files.readString(logPath));
-                }
-            }
-
-            // If no file found by name search, try the default path with Unknown version
-            Path defaultLogPath = pathConfig.getNetworkLogPath(username, "Unknown");
-            if (Files.exists(defaultLogPath)) {
-                return Optional.of(Files.readString(defaultLogPath));
+            Optional<Path> logPath = getUserLogPath(username);
+            if (logPath.isPresent()) {
+                return Optional.of(readLogText(logPath.get()));
             }
 
             // No log file found
@@ -317,6 +317,29 @@ public class SessionDataService {
         }
     }
 
+    /**
+     * Resolves the network log file of a specific user (shipped .log.gz, versioned or legacy .log).
+     */
+    public Optional<Path> getUserLogPath(String username) {
+        // First try to find existing log files for this user (either format)
+        String logFilename = getLogFilename(username);
+
+        if (!logFilename.isEmpty()) {
+            // If we found a filename, use it directly
+            Path logPath = pathConfig.getNetworkLogDirectory().resolve(logFilename);
+            if (Files.exists(logPath)) {
+                return Optional.of(logPath);
+            }
+        }
+
+        // If no file found by name search, try the default path with Unknown version
+        Path defaultLogPath = pathConfig.getNetworkLogPath(username, "Unknown");
+        if (Files.exists(defaultLogPath)) {
+            return Optional.of(defaultLogPath);
+        }
+        return Optional.empty();
+    }
+
     /**
      * Gets the log filename for a specific user.
      */
@@ -329,15 +352,16 @@ public class SessionDataService {
 
             try (Stream<Path> files = Files.list(logDir)) {
                 return files
-                        .filter(path -> {
-                            String filename = path.getFileName().toString();
-                            // Match both old format (ctgraphdep-logger_username.log)
-                            // and new format with version (ctgraphdep-logger_username_vX.Y.Z.log)
+                        .map(path -> path.getFileName().toString())
+                        .filter(filename -> {
+                            // Match both old format (ctgraphdep-logger_username.log),
+                            // format with version (ctgraphdep-logger_username_vX.Y.Z.log) and shipped logs (.log.gz)
                             return filename.contains("_" + username + "_") ||
-                                    filename.equals("ctgraphdep-logger_" + username + FileTypeConstants.LOG_EXTENSION);
+                                    filename.equals("ctgraphdep-logger_" + username + FileTypeConstants.LOG_EXTENSION) ||
+                                    filename.equals("ctgraphdep-logger_" + username + FileTypeConstants.LOG_EXTENSION + FileTypeConstants.GZIP_EXTENSION);
                         })
-                        .map(path -> path.getFileName().toString())
-                        .findFirst()
+                        // Prefer the incrementally shipped log over a leftover full copy
+                        .min((first, second) -> Boolean.compare(!first.endsWith(FileTypeConstants.GZIP_EXTENSION), !second.endsWith(FileTypeConstants.GZIP_EXTENSION)))
                         .orElse("");
             }
         } catch (IOException e) {
@@ -354,48 +378,30 @@ public class SessionDataService {
     }
 
     /**
-     * Syncs the local log file to the network for a specific user with version information.
+     * Ships the new part of the local log to the network for a specific user with version information.
+     * Only bytes not yet shipped are appended (compressed) to the user's network log.
      */
     public void syncLogToNetwork(String username, String version) throws IOException {
-        Path sourceLogPath = pathConfig.getLocalLogPath();
-        Path targetLogPath = pathConfig.getNetworkLogPath(username, version);
+        logShippingService.shipLog(username, version);
+    }
 
-        // First, try to delete any existing logs for this user (regardless of version)
-        try {
-            Path logDir = pathConfig.getNetworkLogDirectory();
-            if (Files.exists(logDir)) {
-                try (Stream<Path> files = Files.list(logDir)) {
-                    files.filter(path -> {
-                        String filename = path.getFileName().toString();
-                        return filename.startsWith("ctgraphdep-logger_" + username + "_") ||
-                                filename.equals("ctgraphdep-logger_" + username + FileTypeConstants.LOG_EXTENSION);
-                    }).forEach(path -> {
-                        try {
-                            Files.deleteIfExists(path);
-                            LoggerUtil.debug(this.getClass(), "Deleted old log file: " + path.getFileName());
-                        } catch (IOException e) {
-                            LoggerUtil.warn(this.getClass(), "Could not delete old log file: " + e.getMessage());
-                        }
-                    });
-                }
-            }
-        } catch (Exception e) {
-            LoggerUtil.warn(this.getClass(), "Error cleaning up old log files: " + e.getMessage());
-            // Continue with sync even if cleanup fails
+    // Reads a network log as text, decompressing shipped .gz logs
+    private String readLogText(Path logPath) throws IOException {
+        try (InputStream input = logShippingService.openLogStream(logPath)) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
         }
+    }
 
-        // Ensure target directory exists
-        Path networkLogsDir = targetLogPath.getParent();
-        if (!Files.exists(networkLogsDir)) {
-            Files.createDirectories(networkLogsDir);
+    // Length of the filename without its log extension, 0 if it is not a log file
+    private int logStemLength(String filename) {
+        String shippedExtension = FileTypeConstants.LOG_EXTENSION + FileTypeConstants.GZIP_EXTENSION;
+        if (filename.endsWith(shippedExtension)) {
+            return filename.length() - shippedExtension.length();
         }
-
-        // Copy log file with new name containing version
-        Files.copy(sourceLogPath, targetLogPath, StandardCopyOption.REPLACE_EXISTING);
-
-        LoggerUtil.info(this.getClass(),
-                String.format("Synced log for user %s with version %s to %s",
-                        username, version, targetLogPath));
+        if (filename.endsWith(FileTypeConstants.LOG_EXTENSION)) {
+            return filename.length() - FileTypeConstants.LOG_EXTENSION.length();
+        }
+        return 0;
     }
 
     // ===== UTILITY METHODS =====
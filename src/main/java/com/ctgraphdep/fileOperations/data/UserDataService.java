@@ -7,6 +7,7 @@ import com.ctgraphdep.fileOperations.core.FileOperationResult;
 import com.ctgraphdep.fileOperations.service.FileReaderService;
 import com.ctgraphdep.fileOperations.service.FileWriterService;
 import com.ctgraphdep.model.User;
+import com.ctgraphdep.model.UserRegistryIndex;
 import com.ctgraphdep.model.UsersCheckValueEntry;
 import com.ctgraphdep.utils.LoggerUtil;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -15,8 +16,12 @@ import org.springframework.stereotype.Service;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 /**
@@ -27,6 +32,8 @@ import java.util.stream.Stream;
  * - Clear admin vs user operation patterns
  * - Smart fallback with sync-to-local when needed (using SyncFilesService)
  * - Individual user file focus (no batch operations)
+ * - Network user files are found through the users registry index (UserRegistryDataService);
+ *   the directory is only listed when the index is missing or stale
  * File Patterns:
  * - Admin domain: user_[username]_[userId].json (network login files)
  * - User domain: local_user_[username]_[userId].json (working copies)
@@ -42,20 +49,26 @@ public class UserDataService {
     private final FileWriterService fileWriterService;
     private final FileReaderService fileReaderService;
     private final PathConfig pathConfig;
+    private final UserRegistryDataService userRegistryDataService;
+
+    // Network user file name -> user as last read, reused while the file stamp is unchanged
+    private final Map<String, CachedNetworkUser> networkUserCache = new ConcurrentHashMap<>();
 
     public UserDataService(
             FileWriterService fileWriterService,
             FileReaderService fileReaderService,
-            PathConfig pathConfig) {
+            PathConfig pathConfig,
+            UserRegistryDataService userRegistryDataService) {
         this.fileWriterService = fileWriterService;
         this.fileReaderService = fileReaderService;
         this.pathConfig = pathConfig;
+        this.userRegistryDataService = userRegistryDataService;
         LoggerUtil.initialize(this.getClass(), null);
     }
 
     /**
-     * Gets all users from network by scanning individual files (for StatusCache).
-     * Pattern: Network-only scan for cache population
+     * Gets all users from network (for StatusCache).
+     * Pattern: Network-only registry read (directory scan fallback) for cache population
      * Files: user_[username]_[userId].json
      *
      * @return List of all users from network files
@@ -142,6 +155,10 @@ public class UserDataService {
                 throw new RuntimeException("Failed to write user to network: " + result.getErrorMessage().orElse("Unknown error"));
             }
 
+            // Keep the registry index in step with the written file
+            userRegistryDataService.updateEntries(Map.of(user.getUsername(), UserRegistryIndex.Entry.of(user,
+                    networkPath.getPath().getFileName().toString(), fileReaderService.getNetworkFileStamp(networkPath))), List.of());
+
             LoggerUtil.info(this.getClass(), String.format("Admin wrote user to network: %s (ID: %d)", user.getUsername(), user.getUserId()));
 
         } catch (Exception e) {
@@ -183,48 +200,33 @@ public class UserDataService {
     }
 
     /**
-     * Reads all users from network by scanning individual files (admin operations).
-     * Pattern: Network-only scan, no local involvement
-     * Files: user_[username]_[userId].json
+     * Reads all users from network (admin operations).
+     * Pattern: Network-only, no local involvement. Reads the registry index and only the user files whose
+     * fingerprint changed; scans the directory into a fresh in-memory index when the index is missing or stale.
+     * Files: users_registry.json, user_[username]_[userId].json
      *
      * @return List of all users from network files
      */
     public List<User> adminReadAllUsersNetworkOnly() {
-        List<User> allUsers = new ArrayList<>();
-
         try {
             if (!pathConfig.isNetworkAvailable()) {
                 LoggerUtil.debug(this.getClass(), "Network not available for admin user scan");
-                return allUsers;
+                return new ArrayList<>();
             }
 
-            Path networkUsersDir = pathConfig.getNetworkPath().resolve(pathConfig.getUsersPath());
-
-            if (Files.exists(networkUsersDir) && Files.isDirectory(networkUsersDir)) {
-                try (Stream<Path> files = Files.list(networkUsersDir)) {
-                    files.filter(path -> {
-                                String fileName = path.getFileName().toString();
-                                return fileName.startsWith("user_") &&
-                                        fileName.endsWith(FileTypeConstants.JSON_EXTENSION);
-                            })
-                            .forEach(path -> {
-                                try {
-                                    FilePath filePath = FilePath.network(path);
-                                    Optional<User> user = fileReaderService.readNetworkFile(filePath, new TypeReference<>() {}, true);
-                                    user.ifPresent(allUsers::add);
-                                } catch (Exception e) {
-                                    LoggerUtil.warn(this.getClass(), "Error reading network user file " + path + ": " + e.getMessage());
-                                }
-                            });
+            Optional<UserRegistryIndex> registry = userRegistryDataService.readRegistry();
+            if (registry.isPresent()) {
+                Optional<List<User>> indexedUsers = readAllUsersFromRegistry(registry.get());
+                if (indexedUsers.isPresent()) {
+                    return indexedUsers.get();
                 }
             }
 
-            LoggerUtil.info(this.getClass(), String.format("Admin scanned network users: found %d users", allUsers.size()));
-            return allUsers;
+            return scanAllUsersNetworkOnly();
 
         } catch (Exception e) {
-            LoggerUtil.error(this.getClass(), "Error scanning network user files: " + e.getMessage(), e);
-            return allUsers;
+            LoggerUtil.error(this.getClass(), "Error reading network users: " + e.getMessage(), e);
+            return new ArrayList<>();
         }
     }
 
@@ -256,6 +258,8 @@ public class UserDataService {
             boolean deleted = Files.deleteIfExists(networkPath.getPath());
 
             if (deleted) {
+                networkUserCache.remove(networkPath.getPath().getFileName().toString());
+                userRegistryDataService.updateEntries(Map.of(), List.of(username));
                 LoggerUtil.info(this.getClass(), String.format("Admin deleted user from network: %s (ID: %d)", username, userId));
             }
 
@@ -494,6 +498,33 @@ public class UserDataService {
         }
     }
 
+    /**
+     * Stamp of a user's network file, for checking that a user read earlier is still current.
+     * Pattern: Network stat only, no read
+     * File: user_[username]_[userId].json
+     *
+     * @return "size:lastModifiedMillis", "missing" if the file does not exist, or null if the network is unavailable
+     */
+    public String getNetworkUserFileStamp(String username, Integer userId) {
+        return fileReaderService.getNetworkFileStamp(FilePath.network(pathConfig.getNetworkUsersPath(username, userId)));
+    }
+
+    /**
+     * Stamp of the network user file as it was just before this user was last read from it.
+     * If the file is still at that stamp (see getNetworkUserFileStamp), the user is current.
+     *
+     * @param user User as returned by a network read
+     * @return The stamp, or null if this user was not the last one read from its network file (e.g. local fallback)
+     */
+    public String getNetworkStampOfLastRead(User user) {
+        if (user == null || user.getUsername() == null || user.getUserId() == null) {
+            return null;
+        }
+        String fileName = pathConfig.getNetworkUsersPath(user.getUsername(), user.getUserId()).getFileName().toString();
+        CachedNetworkUser cached = networkUserCache.get(fileName);
+        return cached != null && cached.user().equals(user) ? cached.stamp() : null;
+    }
+
     /**
      * Get all local users for offline authentication.
      * Pattern: Local scan only, returns complete User objects with passwords
@@ -825,6 +856,23 @@ public class UserDataService {
                 return Optional.empty();
             }
 
+            // Keyed lookup through the registry index
+            Optional<UserRegistryIndex> registry = userRegistryDataService.readRegistry();
+            if (registry.isPresent()) {
+                UserRegistryIndex.Entry entry = registry.get().getUsers().get(username);
+                if (entry != null) {
+                    FilePath networkPath = FilePath.network(getNetworkUsersDir().resolve(entry.getFileName()));
+                    Optional<User> user = readNetworkUserFile(networkPath, fileReaderService.getNetworkFileStamp(networkPath));
+                    if (user.isPresent() && username.equals(user.get().getUsername())) {
+                        LoggerUtil.debug(this.getClass(), String.format(
+                                "Found user by username from network registry: %s", username));
+                        return user;
+                    }
+                }
+                LoggerUtil.debug(this.getClass(), String.format(
+                        "User %s not found through registry, scanning network users directory", username));
+            }
+
             // Scan all network user files to find matching username
             Path networkUsersDir = pathConfig.getNetworkPath().resolve(pathConfig.getUsersPath());
 
@@ -849,7 +897,7 @@ public class UserDataService {
 
                 if (userFile.isPresent()) {
                     FilePath networkPath = FilePath.network(userFile.get());
-                    Optional<User> user = fileReaderService.readNetworkFile(networkPath, new TypeReference<>() {}, true);
+                    Optional<User> user = readNetworkUserFile(networkPath, fileReaderService.getNetworkFileStamp(networkPath));
 
                     // Verify username matches (double-check)
                     if (user.isPresent() && username.equals(user.get().getUsername())) {
@@ -920,4 +968,133 @@ public class UserDataService {
             return Optional.empty();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Reads all users through the registry index, re-reading only files whose stamp changed.
+     * Entries whose stamp, role, schedule or ID changed are corrected in this instance's index only;
+     * the shared index is written by the admin write/delete paths alone.
+     *
+     * @return Users, or empty when the index is stale (an indexed file is missing or unreadable)
+     */
+    private Optional<List<User>> readAllUsersFromRegistry(UserRegistryIndex registry) {
+        Path networkUsersDir = getNetworkUsersDir();
+        List<User> users = new ArrayList<>();
+        Map<String, UserRegistryIndex.Entry> changedEntries = new HashMap<>();
+        int filesRead = 0;
+
+        for (Map.Entry<String, UserRegistryIndex.Entry> indexed : registry.getUsers().entrySet()) {
+            UserRegistryIndex.Entry entry = indexed.getValue();
+            if (entry.getFileName() == null) {
+                return Optional.empty();
+            }
+
+            FilePath filePath = FilePath.network(networkUsersDir.resolve(entry.getFileName()));
+            String stamp = fileReaderService.getNetworkFileStamp(filePath);
+            if (stamp == null || "missing".equals(stamp)) {
+                LoggerUtil.info(this.getClass(), String.format("Users registry is stale (%s not readable), rescanning directory", entry.getFileName()));
+                return Optional.empty();
+            }
+
+            CachedNetworkUser cached = networkUserCache.get(entry.getFileName());
+            if (cached == null || !stamp.equals(cached.stamp())) {
+                filesRead++;
+            }
+            Optional<User> user = readNetworkUserFile(filePath, stamp);
+            if (user.isEmpty() || !indexed.getKey().equals(user.get().getUsername())) {
+                LoggerUtil.info(this.getClass(), String.format("Users registry is stale (%s does not hold %s), rescanning directory",
+                        entry.getFileName(), indexed.getKey()));
+                return Optional.empty();
+            }
+
+            UserRegistryIndex.Entry current = UserRegistryIndex.Entry.of(user.get(), entry.getFileName(), stamp);
+            if (!current.equals(entry)) {
+                changedEntries.put(indexed.getKey(), current);
+            }
+            users.add(user.get());
+        }
+
+        userRegistryDataService.updateCachedEntries(changedEntries);
+        LoggerUtil.info(this.getClass(), String.format("Admin read network users from registry: %d users, %d files read", users.size(), filesRead));
+        return Optional.of(users);
+    }
+
+    /**
+     * Lists the network users directory, reads every user file and keeps the result as this instance's registry index.
+     */
+    private List<User> scanAllUsersNetworkOnly() {
+        List<User> allUsers = new ArrayList<>();
+        Path networkUsersDir = getNetworkUsersDir();
+
+        try {
+            if (Files.exists(networkUsersDir) && Files.isDirectory(networkUsersDir)) {
+                Map<String, UserRegistryIndex.Entry> entries = new LinkedHashMap<>();
+                // Taken before the listing, so a file added during the scan invalidates the result
+                long directoryModified = userRegistryDataService.getUsersDirectoryModified();
+                try (Stream<Path> files = Files.list(networkUsersDir)) {
+                    files.filter(path -> {
+                                String fileName = path.getFileName().toString();
+                                return fileName.startsWith("user_") &&
+                                        fileName.endsWith(FileTypeConstants.JSON_EXTENSION);
+                            })
+                            .forEach(path -> {
+                                try {
+                                    FilePath filePath = FilePath.network(path);
+                                    String stamp = fileReaderService.getNetworkFileStamp(filePath);
+                                    Optional<User> user = readNetworkUserFile(filePath, stamp);
+                                    if (user.isPresent()) {
+                                        allUsers.add(user.get());
+                                        if (user.get().getUsername() != null && entries.putIfAbsent(user.get().getUsername(),
+                                                UserRegistryIndex.Entry.of(user.get(), path.getFileName().toString(), stamp)) != null) {
+                                            LoggerUtil.warn(this.getClass(), String.format("Duplicate network user file for %s: %s",
+                                                    user.get().getUsername(), path.getFileName()));
+                                        }
+                                    }
+                                } catch (Exception e) {
+                                    LoggerUtil.warn(this.getClass(), "Error reading network user file " + path + ": " + e.getMessage());
+                                }
+                            });
+                }
+                userRegistryDataService.keepScan(entries, directoryModified);
+            }
+
+            LoggerUtil.info(this.getClass(), String.format("Admin scanned network users: found %d users", allUsers.size()));
+            return allUsers;
+
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error scanning network user files: " + e.getMessage(), e);
+            return allUsers;
+        }
+    }
+
+    /**
+     * Reads a network user file, reusing the last read user while the file stamp is unchanged.
+     * Returns a copy, so callers can modify the user freely.
+     */
+    private Optional<User> readNetworkUserFile(FilePath filePath, String stamp) {
+        String fileName = filePath.getPath().getFileName().toString();
+        CachedNetworkUser cached = networkUserCache.get(fileName);
+        if (stamp != null && cached != null && stamp.equals(cached.stamp())) {
+            return Optional.of(copyOf(cached.user()));
+        }
+
+        Optional<User> user = fileReaderService.readNetworkFile(filePath, new TypeReference<>() {}, true);
+        if (user.isPresent() && stamp != null) {
+            networkUserCache.put(fileName, new CachedNetworkUser(stamp, copyOf(user.get())));
+        } else {
+            networkUserCache.remove(fileName);
+        }
+        return user;
+    }
+
+    private Path getNetworkUsersDir() {
+        return pathConfig.getNetworkPath().resolve(pathConfig.getUsersPath());
+    }
+
+    private static User copyOf(User user) {
+        return new User(user.getUserId(), user.getName(), user.getEmployeeId(), user.getSchedule(),
+                user.getPaidHolidayDays(), user.getUsername(), user.getPassword(), user.getRole());
+    }
+
+    private record CachedNetworkUser(String stamp, User user) {
+    }
+}
@@ -0,0 +1,258 @@
+package com.ctgraphdep.fileOperations.data;
+
+import com.ctgraphdep.fileOperations.config.PathConfig;
+import com.ctgraphdep.model.UserRegistryIndex;
+import com.ctgraphdep.utils.LoggerUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Data service for the users registry index on the share (see UserRegistryIndex).
+ * Key Principles:
+ * - The shared index is only written by the admin user write/delete paths (updateEntries). Clients never write it,
+ *   so a client refresh can not drop an entry an admin just added
+ * - Written directly with a unique temp file + atomic move, so readers on other machines never see a partial index
+ *   (not through FileWriterService: back-to-back admin writes must not be dropped as duplicates, and the index needs no backup)
+ * - Directory scans and fingerprint drift found by a refresh are kept in this instance's memory only
+ * - An index older than the last change of the users directory (a user file added, removed or replaced) may miss
+ *   a user, so it is reported as missing and callers fall back to the directory scan. The directory's last modified
+ *   time is one stat, so unchanged indexes cost no listing
+ * - An index of another version or whose last full scan is older than the rescan interval is reported as missing too
+ */
+@Service
+public class UserRegistryDataService {
+
+    // Does not start with "user_", so directory scans of user files skip it
+    private static final String REGISTRY_FILENAME = "users_registry.json";
+    // Writing the index itself touches the directory right after the file; changes within this window are not told apart
+    private static final long DIRECTORY_STAMP_TOLERANCE_MS = 2000;
+
+    private final PathConfig pathConfig;
+    private final ObjectMapper objectMapper;
+    private final long rescanMinutes;
+
+    // Shared index as last read or written, keyed by its last modified time
+    private CachedRegistry cached;
+    // Index this instance works with, valid while the users directory keeps the last modified time it was built at
+    private CachedRegistry current;
+
+    public UserRegistryDataService(PathConfig pathConfig, ObjectMapper objectMapper,
+                                   @Value("${app.users.registry.rescan.minutes:60}") long rescanMinutes) {
+        this.pathConfig = pathConfig;
+        this.objectMapper = objectMapper;
+        this.rescanMinutes = rescanMinutes;
+        LoggerUtil.initialize(this.getClass(), null);
+    }
+
+    /**
+     * Reads the registry index: this instance's index while the users directory is unchanged, otherwise the shared one.
+     * The returned index is shared with the cache and must not be modified - use updateCachedEntries or updateEntries.
+     *
+     * @return The index, or empty if missing, unreadable, of another version, older than the users directory,
+     *         due for a full rescan or the network is unavailable
+     */
+    public synchronized Optional<UserRegistryIndex> readRegistry() {
+        long directoryModified = getUsersDirectoryModified();
+        if (directoryModified < 0) {
+            return Optional.empty();
+        }
+
+        if (current != null && current.lastModified == directoryModified && !isRescanDue(current.registry)) {
+            return Optional.of(current.registry);
+        }
+
+        Optional<UserRegistryIndex> registry = readSharedRegistry();
+        if (registry.isEmpty()) {
+            return Optional.empty();
+        }
+        if (directoryModified > cached.lastModified + DIRECTORY_STAMP_TOLERANCE_MS) {
+            LoggerUtil.debug(this.getClass(), "Users directory changed after the users registry was written");
+            return Optional.empty();
+        }
+        if (isRescanDue(registry.get())) {
+            LoggerUtil.debug(this.getClass(), "Users registry is due for a full rescan");
+            return Optional.empty();
+        }
+
+        current = new CachedRegistry(directoryModified, registry.get());
+        return registry;
+    }
+
+    /**
+     * Last modified time of the network users directory; take it before a scan and pass it to keepScan.
+     *
+     * @return Millis, or -1 if the directory can not be read or the network is unavailable
+     */
+    public long getUsersDirectoryModified() {
+        if (!pathConfig.isNetworkAvailable()) {
+            return -1;
+        }
+        try {
+            return Files.getLastModifiedTime(getRegistryPath().getParent()).toMillis();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Keeps the result of a full scan of the users directory as this instance's index. Not written to the share.
+     *
+     * @param entries Username -> entry of every user file found
+     * @param directoryModified Users directory last modified time taken before the scan
+     */
+    public synchronized void keepScan(Map<String, UserRegistryIndex.Entry> entries, long directoryModified) {
+        UserRegistryIndex registry = new UserRegistryIndex();
+        registry.setVersion(UserRegistryIndex.CURRENT_VERSION);
+        registry.setScannedAt(LocalDateTime.now());
+        registry.setUpdatedAt(registry.getScannedAt());
+        registry.setUsers(new TreeMap<>(entries));
+        current = new CachedRegistry(directoryModified, registry);
+        LoggerUtil.debug(this.getClass(), String.format("Kept users registry scan with %d users", entries.size()));
+    }
+
+    /**
+     * Applies entries found to differ from their files (fingerprint, role, schedule or ID drift) to this
+     * instance's index. Not written to the share.
+     *
+     * @param changed Username -> new entry
+     */
+    public synchronized void updateCachedEntries(Map<String, UserRegistryIndex.Entry> changed) {
+        if (changed.isEmpty() || current == null) {
+            return;
+        }
+        current = new CachedRegistry(current.lastModified, copyWith(current.registry, changed, List.of()));
+    }
+
+    /**
+     * Admin user write/delete path: applies entry changes to the latest index and writes it to the share.
+     * Starts from the shared index, or from this instance's index when that holds a more recent full scan.
+     * Skipped when there is neither; the next admin write after a refresh publishes it.
+     *
+     * @param changed Username -> new entry
+     * @param removed Usernames to remove
+     */
+    public synchronized void updateEntries(Map<String, UserRegistryIndex.Entry> changed, Collection<String> removed) {
+        if (changed.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+
+        UserRegistryIndex base = readSharedRegistry().orElse(null);
+        if (current != null && (base == null || isScannedLater(current.registry, base))) {
+            base = current.registry;
+        }
+        if (base == null) {
+            LoggerUtil.debug(this.getClass(), "No users registry to update, next refresh rescans the users directory");
+            return;
+        }
+
+        UserRegistryIndex registry = copyWith(base, changed, removed);
+        if (save(registry)) {
+            current = new CachedRegistry(getUsersDirectoryModified(), registry);
+            LoggerUtil.debug(this.getClass(), String.format("Updated users registry: %d changed, %d removed", changed.size(), removed.size()));
+        }
+    }
+
+    // Latest index from network, whatever its scan age
+    private Optional<UserRegistryIndex> readSharedRegistry() {
+        if (!pathConfig.isNetworkAvailable()) {
+            return Optional.empty();
+        }
+
+        Path path = getRegistryPath();
+        try {
+            if (!Files.exists(path)) {
+                return Optional.empty();
+            }
+
+            long lastModified = Files.getLastModifiedTime(path).toMillis();
+            if (cached != null && cached.lastModified == lastModified) {
+                return Optional.of(cached.registry);
+            }
+
+            UserRegistryIndex registry = objectMapper.readValue(path.toFile(), UserRegistryIndex.class);
+            if (!registry.isCurrentVersion() || registry.getUsers() == null) {
+                LoggerUtil.info(this.getClass(), String.format("Ignoring users registry of version %d", registry.getVersion()));
+                return Optional.empty();
+            }
+
+            cached = new CachedRegistry(lastModified, registry);
+            return Optional.of(registry);
+
+        } catch (IOException e) {
+            LoggerUtil.warn(this.getClass(), "Unreadable users registry, falling back to directory scan: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private boolean isRescanDue(UserRegistryIndex registry) {
+        return registry.getScannedAt() == null || registry.getScannedAt().plusMinutes(rescanMinutes).isBefore(LocalDateTime.now());
+    }
+
+    private static boolean isScannedLater(UserRegistryIndex registry, UserRegistryIndex other) {
+        return registry.getScannedAt() != null && (other.getScannedAt() == null || registry.getScannedAt().isAfter(other.getScannedAt()));
+    }
+
+    private static UserRegistryIndex copyWith(UserRegistryIndex base, Map<String, UserRegistryIndex.Entry> changed, Collection<String> removed) {
+        UserRegistryIndex registry = new UserRegistryIndex();
+        registry.setVersion(UserRegistryIndex.CURRENT_VERSION);
+        registry.setScannedAt(base.getScannedAt());
+        registry.setUpdatedAt(LocalDateTime.now());
+        registry.setUsers(new TreeMap<>(base.getUsers()));
+        registry.getUsers().putAll(changed);
+        removed.forEach(registry.getUsers()::remove);
+        return registry;
+    }
+
+    private boolean save(UserRegistryIndex registry) {
+        if (!pathConfig.isNetworkAvailable()) {
+            return false;
+        }
+
+        Path path = getRegistryPath();
+        Path tempPath = null;
+        try {
+            Files.createDirectories(path.getParent());
+            // Unique per write, so two writers never interleave their bytes in one temp file
+            tempPath = Files.createTempFile(path.getParent(), REGISTRY_FILENAME + ".", ".tmp");
+            Files.write(tempPath, objectMapper.writeValueAsBytes(registry));
+            try {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            cached = new CachedRegistry(Files.getLastModifiedTime(path).toMillis(), registry);
+            return true;
+        } catch (IOException e) {
+            // Only costs directory scans until the next successful save
+            LoggerUtil.warn(this.getClass(), "Failed to save users registry: " + e.getMessage());
+            if (tempPath != null) {
+                try {
+                    Files.deleteIfExists(tempPath);
+                } catch (IOException ignored) {
+                    // Stray temp file only; user file scans skip it
+                }
+            }
+            return false;
+        }
+    }
+
+    private Path getRegistryPath() {
+        return pathConfig.getNetworkPath().resolve(pathConfig.getUsersPath()).resolve(REGISTRY_FILENAME);
+    }
+
+    private record CachedRegistry(long lastModified, UserRegistryIndex registry) {
+    }
+}
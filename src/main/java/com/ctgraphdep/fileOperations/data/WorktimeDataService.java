@@ -9,7 +9,9 @@ import com.ctgraphdep.fileOperations.service.FileWriterService;
 import com.ctgraphdep.fileOperations.service.SyncFilesService;
 import com.ctgraphdep.model.WorkTimeTable;
 import com.ctgraphdep.utils.LoggerUtil;
+import com.ctgraphdep.worktime.model.AdminWorktimeMonth;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -38,18 +40,21 @@ public class WorktimeDataService {
     private final FilePathResolver pathResolver;
     private final PathConfig pathConfig;
     private final SyncFilesService syncFilesService;
+    private final ObjectMapper objectMapper;
 
     public WorktimeDataService(
             FileWriterService fileWriterService,
             FileReaderService fileReaderService,
             FilePathResolver pathResolver,
             PathConfig pathConfig,
-            SyncFilesService syncFilesService) {
+            SyncFilesService syncFilesService,
+            ObjectMapper objectMapper) {
         this.fileWriterService = fileWriterService;
         this.fileReaderService = fileReaderService;
         this.pathResolver = pathResolver;
         this.pathConfig = pathConfig;
         this.syncFilesService = syncFilesService;
+        this.objectMapper = objectMapper;
         LoggerUtil.initialize(this.getClass(), null);
     }
 
@@ -229,6 +234,20 @@ public class WorktimeDataService {
         }
     }
 
+    /**
+     * Cheap change stamp (size and last modified) of a user's network worktime file, without reading it.
+     * Used to skip users whose file did not change since the last consolidation or team statistics refresh.
+     *
+     * @param username Username
+     * @param year Year
+     * @param month Month
+     * @return "size:lastModifiedMillis", "missing" if there is no file, or null if the network cannot be checked
+     */
+    public String getUserNetworkFileStamp(String username, int year, int month) {
+        Map<String, Object> params = FilePathResolver.createYearMonthParams(year, month);
+        return fileReaderService.getNetworkFileStamp(pathResolver.getNetworkPath(username, null, FilePathResolver.FileType.WORKTIME, params));
+    }
+
     // ========================================================================
     // ADMIN WORKTIME OPERATIONS
     // ========================================================================
@@ -274,14 +293,17 @@ public class WorktimeDataService {
      * @return Admin worktime entries
      */
     public List<WorkTimeTable> readAdminLocalReadOnly(int year, int month) {
+        return readAdminLocal(year, month, new TypeReference<>() {});
+    }
+
+    // Local first, bootstrapping local from network when missing; element type decides how entries are parsed
+    private <T> List<T> readAdminLocal(int year, int month, TypeReference<List<T>> typeRef) {
         try {
             Map<String, Object> params = FilePathResolver.createYearMonthParams(year, month);
             FilePath localPath = pathResolver.getLocalPath(null, null, FilePathResolver.FileType.ADMIN_WORKTIME, params);
 
             // Try local first
-            Optional<List<WorkTimeTable>> localEntries = fileReaderService.readLocalFile(
-                    localPath, new TypeReference<>() {}, true);
-
+            Optional<List<T>> localEntries = fileReaderService.readLocalFile(localPath, typeRef, true);
             if (localEntries.isPresent() && !localEntries.get().isEmpty()) {
                 LoggerUtil.debug(this.getClass(), String.format(
                         "Found local admin worktime data for %d/%d (%d entries)",
@@ -293,8 +315,7 @@ public class WorktimeDataService {
             if (pathConfig.isNetworkAvailable()) {
                 FilePath networkPath = pathResolver.getNetworkPath(null, null, FilePathResolver.FileType.ADMIN_WORKTIME, params);
 
-                Optional<List<WorkTimeTable>> networkEntries = fileReaderService.readNetworkFile(
-                        networkPath, new TypeReference<>() {}, true);
+                Optional<List<T>> networkEntries = fileReaderService.readNetworkFile(networkPath, typeRef, true);
 
                 if (networkEntries.isPresent() && !networkEntries.get().isEmpty()) {
                     LoggerUtil.info(this.getClass(), String.format(
@@ -343,6 +364,10 @@ public class WorktimeDataService {
      * @return Admin worktime entries from network, or empty if not found
      */
     public List<WorkTimeTable> readAdminByUserNetworkReadOnly(int year, int month) {
+        return readAdminNetwork(year, month, new TypeReference<>() {});
+    }
+
+    private <T> List<T> readAdminNetwork(int year, int month, TypeReference<List<T>> typeRef) {
         try {
             if (!pathConfig.isNetworkAvailable()) {
                 LoggerUtil.debug(this.getClass(), String.format(
@@ -354,8 +379,7 @@ public class WorktimeDataService {
             Map<String, Object> params = FilePathResolver.createYearMonthParams(year, month);
             FilePath networkPath = pathResolver.getNetworkPath(null, null, FilePathResolver.FileType.ADMIN_WORKTIME, params);
 
-            Optional<List<WorkTimeTable>> networkEntries = fileReaderService.readNetworkFile(
-                    networkPath, new TypeReference<>() {}, true);
+            Optional<List<T>> networkEntries = fileReaderService.readNetworkFile(networkPath, typeRef, true);
 
             if (networkEntries.isPresent()) {
                 LoggerUtil.debug(this.getClass(), String.format(
@@ -376,4 +400,89 @@ public class WorktimeDataService {
             return new ArrayList<>();
         }
     }
-}
\ No newline at end of file
+
+    // ========================================================================
+    // INDEXED ADMIN MONTH
+    // ========================================================================
+
+    /**
+     * Reads the admin month indexed by user and day, for display and lookups.
+     * Same local-first logic as readAdminLocalReadOnly.
+     *
+     * @param year Year
+     * @param month Month
+     * @return Indexed admin month, empty if no data
+     */
+    public AdminWorktimeMonth readAdminMonthLocalReadOnly(int year, int month) {
+        return AdminWorktimeMonth.of(year, month, readAdminLocalReadOnly(year, month));
+    }
+
+    /**
+     * Reads the admin month for a read-modify-write operation.
+     * Each user's JSON is kept, so writeAdminMonthLocalWithSyncAndBackup only serializes the users that changed.
+     *
+     * @param year Year
+     * @param month Month
+     * @return Indexed admin month, empty if no data
+     */
+    public AdminWorktimeMonth readAdminMonthLocalForUpdate(int year, int month) {
+        try {
+            return AdminWorktimeMonth.fromJson(year, month, readAdminLocal(year, month, new TypeReference<>() {}), objectMapper);
+        } catch (Exception e) {
+            LoggerUtil.warn(this.getClass(), String.format(
+                    "Could not index admin worktime JSON for %d/%d, reading entries instead: %s", year, month, e.getMessage()));
+            return readAdminMonthLocalReadOnly(year, month);
+        }
+    }
+
+    /**
+     * Reads the admin month from network only, indexed by user and day (see readAdminByUserNetworkReadOnly).
+     *
+     * @param year Year
+     * @param month Month
+     * @return Indexed admin month, empty if not found
+     */
+    public AdminWorktimeMonth readAdminMonthNetworkReadOnly(int year, int month) {
+        return AdminWorktimeMonth.of(year, month, readAdminByUserNetworkReadOnly(year, month));
+    }
+
+    /**
+     * Writes the admin month if anything changed, with backup and sync.
+     * Users without changes are written back from the JSON kept at read time.
+     *
+     * @param adminMonth Indexed admin month
+     * @return true if the file was written, false if there was nothing to save
+     */
+    public boolean writeAdminMonthLocalWithSyncAndBackup(AdminWorktimeMonth adminMonth) {
+        int year = adminMonth.getYear();
+        int month = adminMonth.getMonth();
+        if (!adminMonth.isDirty()) {
+            LoggerUtil.debug(this.getClass(), String.format("Admin worktime %d/%d unchanged, nothing to write", year, month));
+            return false;
+        }
+
+        try {
+            Map<String, Object> params = FilePathResolver.createYearMonthParams(year, month);
+            FilePath localPath = pathResolver.getLocalPath(null, null, FilePathResolver.FileType.ADMIN_WORKTIME, params);
+
+            FileOperationResult result = fileWriterService.writeWithNetworkSync(localPath, adminMonth, true);
+
+            if (!result.isSuccess()) {
+                throw new RuntimeException("Failed to write admin worktime: " +
+                        result.getErrorMessage().orElse("Unknown error"));
+            }
+
+            LoggerUtil.info(this.getClass(), String.format(
+                    "Successfully wrote %d admin worktime entries for %d/%d (%d users changed, with backup and sync)",
+                    adminMonth.size(), year, month, adminMonth.getDirtyUsers().size()));
+            adminMonth.markSaved();
+            return true;
+
+        } catch (Exception e) {
+            LoggerUtil.logAndThrow(this.getClass(), String.format(
+                    "Error writing admin worktime for %d/%d: %s",
+                    year, month, e.getMessage()), e);
+            return false;
+        }
+    }
+}
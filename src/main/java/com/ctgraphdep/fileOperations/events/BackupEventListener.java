@@ -4,6 +4,7 @@ import com.ctgraphdep.config.FileTypeConstants;
 import com.ctgraphdep.config.FileTypeConstants.CriticalityLevel;
 import com.ctgraphdep.fileOperations.core.FileOperationResult;
 import com.ctgraphdep.fileOperations.core.FilePath;
+import com.ctgraphdep.fileOperations.service.BackupReplicationService;
 import com.ctgraphdep.fileOperations.service.BackupService;
 import com.ctgraphdep.monitoring.BackupEventMonitor;
 import com.ctgraphdep.utils.LoggerUtil;
@@ -13,9 +14,6 @@ import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * REFACTORED: Event listener that handles file operation events and creates backups accordingly.
  * This component decouples backup creation from file writing operations.
@@ -32,15 +30,17 @@ public class BackupEventListener {
     private final BackupService backupService;
     private final ApplicationEventPublisher eventPublisher;
     private final BackupEventMonitor backupEventMonitor;
-    private final ConcurrentHashMap<String, Boolean> userBackupSyncedThisSession = new ConcurrentHashMap<>();
+    private final BackupReplicationService backupReplicationService;
 
     @Autowired
     public BackupEventListener(BackupService backupService,
                                ApplicationEventPublisher eventPublisher,
-                               BackupEventMonitor backupEventMonitor) {
+                               BackupEventMonitor backupEventMonitor,
+                               BackupReplicationService backupReplicationService) {
         this.backupService = backupService;
         this.eventPublisher = eventPublisher;
         this.backupEventMonitor = backupEventMonitor;
+        this.backupReplicationService = backupReplicationService;
         LoggerUtil.initialize(this.getClass(), null);
     }
 
@@ -97,48 +97,10 @@ public class BackupEventListener {
                         backupPath, criticalityLevel, FileTypeConstants.getMaxBackups(criticalityLevel),
                         event.getUsername(), event.getEventId()));
 
-                // For high criticality files, also sync backups to network
+                // For high criticality files, journal the backup for network replication
                 if (criticalityLevel == CriticalityLevel.LEVEL3_HIGH && event.getUsername() != null) {
-                    String username = event.getUsername();
-
-                    // Check if we've already synced backups for this user in this session
-                    boolean alreadySynced = userBackupSyncedThisSession.getOrDefault(username, false);
-
-                    if (!alreadySynced) {
-                        try {
-                            LoggerUtil.info(this.getClass(), String.format(
-                                    "First Level 3 backup for user %s this session - syncing to network (Event ID: %s)",
-                                    username, event.getEventId()));
-
-                            // Mark this user as having synced backups this session
-                            userBackupSyncedThisSession.put(username, true);
-
-                            // Add a small delay to ensure backup files are completely written
-                            CompletableFuture.runAsync(() -> {
-                                try {
-                                    Thread.sleep(1000); // 1-second delay
-
-                                    // Pass the file type to sync only the relevant subdirectory
-                                    backupService.syncBackupsToNetworkByType(event.getUsername(), criticalityLevel, fileType);
-                                    LoggerUtil.info(this.getClass(), String.format(
-                                            "Synced %s backups to network for user %s (Event ID: %s)",
-                                            fileType, event.getUsername(), event.getEventId()));
-                                } catch (Exception syncException) {
-                                    LoggerUtil.warn(this.getClass(), String.format(
-                                            "Failed to sync %s backups to network: %s (Event ID: %s)",
-                                            fileType, syncException.getMessage(), event.getEventId()));
-                                }
-                            });
-                        } catch (Exception syncException) {
-                            LoggerUtil.warn(this.getClass(), String.format(
-                                    "Failed to schedule backup sync: %s (Event ID: %s)",
-                                    syncException.getMessage(), event.getEventId()));
-                        }
-                    } else {
-                        LoggerUtil.debug(this.getClass(), String.format(
-                                "Skipping backup sync for user %s - already synced this session (Event ID: %s)",
-                                username, event.getEventId()));
-                    }
+                    backupReplicationService.recordBackup(event.getUsername(), criticalityLevel, backupResult.getFilePath());
+                    backupReplicationService.replicatePendingBackups();
                 }
             } else {
                 errorMessage = backupResult.getErrorMessage().orElse("Unknown backup error");
@@ -278,22 +240,10 @@ public class BackupEventListener {
         // Add event-specific information
         CriticalityLevel level = determineCriticalityLevel(filePath);
         diag.append("\nEvent Processing:\n");
-        diag.append("Will sync to network: ").append(level == CriticalityLevel.LEVEL3_HIGH ? "Yes" : "No").append("\n");
+        diag.append("Will sync to network: ").append(level == CriticalityLevel.LEVEL3_HIGH ? "Yes (journaled)" : "No").append("\n");
+        diag.append("Pending journaled backups: ").append(backupReplicationService.getPendingCount()).append("\n");
         diag.append("Async executor: backupTaskExecutor\n");
 
         return diag.toString();
     }
-
-    // Add this method to BackupEventListener class to clear the session cache on logout
-    public void clearUserBackupSyncCache(String username) {
-        userBackupSyncedThisSession.remove(username);
-        LoggerUtil.debug(this.getClass(), String.format("Cleared backup sync cache for user: %s", username));
-    }
-
-    // Add this method to clear all session caches (for app restart/midnight reset)
-    public void clearAllBackupSyncCaches() {
-        int count = userBackupSyncedThisSession.size();
-        userBackupSyncedThisSession.clear();
-        LoggerUtil.info(this.getClass(), String.format("Cleared backup sync cache for %d users", count));
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package com.ctgraphdep.fileOperations.model;
+
+import com.ctgraphdep.config.FileTypeConstants.CriticalityLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Single record of the local backup replication journal.
+ * Each entry describes one backup file created by the event-driven backup system
+ * that still has to be shipped to the network share.
+ * The relative path is relative to the criticality level directory, so the same
+ * value resolves both the local source and the network target.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackupJournalEntry {
+    private long sequence;
+    private LocalDateTime createdAt;
+    private String username;
+    private CriticalityLevel level;
+    private String relativePath;
+}
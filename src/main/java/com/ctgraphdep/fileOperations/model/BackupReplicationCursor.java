@@ -0,0 +1,23 @@
+package com.ctgraphdep.fileOperations.model;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Persisted position of the backup replicator inside the local journal.
+ * Survives restarts so only entries past the cursor are shipped to the network.
+ */
+@Data
+public class BackupReplicationCursor {
+    // Sequence of the last journal entry shipped (or skipped) successfully
+    private long lastShippedSequence = 0;
+    // Byte offset in the journal file of the first entry not yet shipped
+    private long journalOffset = 0;
+    private LocalDateTime lastReplicationTime;
+    private LocalDateTime lastReconciliationTime;
+    // Users seen in the journal, used by the periodic walk-based consistency check
+    private Set<String> knownUsernames = new HashSet<>();
+}
@@ -0,0 +1,28 @@
+package com.ctgraphdep.fileOperations.model;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persisted position of the log shipper inside the current local log segment.
+ * A segment is identified by a CRC of its first bytes, so a logback rollover (new file, same name) is detected
+ * even when the new file has already grown past the old offset.
+ */
+@Data
+public class LogShippingCursor {
+    // Network file the shipped bytes are appended to (per user and version)
+    private String networkFile;
+    // Size of the network file after the last successful append, used to repair interrupted appends
+    private long networkFileSize = 0;
+    // Uncompressed bytes shipped into the network file, used to cap its size
+    private long networkShippedBytes = 0;
+
+    // Identity of the local segment being shipped
+    private long segmentFingerprint = 0;
+    private int segmentFingerprintLength = 0;
+    // Bytes of the local segment already shipped
+    private long segmentOffset = 0;
+
+    private LocalDateTime lastShipTime;
+}
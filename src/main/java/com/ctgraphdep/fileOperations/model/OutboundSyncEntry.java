@@ -0,0 +1,29 @@
+package com.ctgraphdep.fileOperations.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Single record of the outbound sync queue journal (see OutboundSyncQueueService).
+ * QUEUED records a local write that still has to reach the network share; DONE records that the
+ * write with that sequence (or a later one) was synced. The path is relative to the local root,
+ * so the network target is resolved from the current configuration at replay time.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboundSyncEntry {
+    public enum Action { QUEUED, DONE }
+
+    private long sequence;
+    private Action action;
+    private String relativePath;
+    private String username;
+    private Integer userId;
+    // First time the file was queued since it was last synced, kept when later writes are deduplicated
+    private LocalDateTime firstQueuedAt;
+    private LocalDateTime queuedAt;
+}
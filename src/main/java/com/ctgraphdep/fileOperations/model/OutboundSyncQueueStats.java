@@ -0,0 +1,27 @@
+package com.ctgraphdep.fileOperations.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Snapshot of the outbound sync queue (see OutboundSyncQueueService).
+ */
+@Getter
+@Builder
+public class OutboundSyncQueueStats {
+    private final int pending;
+    private final LocalDateTime oldestQueuedAt;
+    // Seconds the oldest pending write has been waiting, 0 when the queue is empty
+    private final long oldestAgeSeconds;
+    private final boolean replaying;
+
+    private final long queued;
+    // Writes folded into a file that was already waiting
+    private final long deduplicated;
+    private final long synced;
+    private final long failed;
+    private final LocalDateTime lastReplayTime;
+    private final String lastError;
+}
@@ -16,4 +16,6 @@ public class BackupSyncContext {
     private final CriticalityLevel level;
     private final Path localBackupDir;
     private final Path networkBackupDir;
+    // Full walk used as consistency check - does not skip older backup files
+    private final boolean fullReconciliation;
 }
\ No newline at end of file
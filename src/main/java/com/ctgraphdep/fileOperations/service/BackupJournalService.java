@@ -0,0 +1,271 @@
+package com.ctgraphdep.fileOperations.service;
+
+import com.ctgraphdep.config.FileTypeConstants.CriticalityLevel;
+import com.ctgraphdep.fileOperations.config.PathConfig;
+import com.ctgraphdep.fileOperations.model.BackupJournalEntry;
+import com.ctgraphdep.fileOperations.model.BackupReplicationCursor;
+import com.ctgraphdep.utils.LoggerUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only local journal of backups that must be replicated to the network share,
+ * plus the persisted replication cursor.
+ * Journal format is one compact JSON object per line. Readers start at the byte offset
+ * stored in the cursor, so a replication run only touches entries it has not shipped yet.
+ * A trailing line without newline (crash during append) is ignored until it is completed.
+ */
+@Service
+public class BackupJournalService {
+
+    private static final String JOURNAL_FILENAME = "replication_journal.jsonl";
+    private static final String CURSOR_FILENAME = "replication_cursor.json";
+    // Journal is truncated once fully shipped and larger than this
+    private static final long COMPACTION_THRESHOLD_BYTES = 256 * 1024;
+
+    private final PathConfig pathConfig;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter lineWriter;
+    private final AtomicLong sequence = new AtomicLong(0);
+    private final Object journalLock = new Object();
+
+    @Autowired
+    public BackupJournalService(PathConfig pathConfig, ObjectMapper objectMapper) {
+        this.pathConfig = pathConfig;
+        this.objectMapper = objectMapper;
+        this.lineWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        LoggerUtil.initialize(this.getClass(), null);
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            BackupReplicationCursor cursor = loadCursor();
+            long lastSequence = cursor.getLastShippedSequence();
+
+            // Continue numbering after the newest entry still in the journal
+            List<BackupJournalEntry> pending = readEntries(cursor.getJournalOffset(), Integer.MAX_VALUE).entries();
+            if (!pending.isEmpty()) {
+                lastSequence = Math.max(lastSequence, pending.get(pending.size() - 1).getSequence());
+            }
+            sequence.set(lastSequence);
+
+            LoggerUtil.info(this.getClass(), String.format("Backup journal ready: %d pending entries, last sequence %d",
+                    pending.size(), lastSequence));
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error initializing backup journal: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Appends a backup to the journal.
+     *
+     * @param username Owner of the backup
+     * @param level Criticality level of the backup
+     * @param relativePath Path of the backup file relative to its level directory
+     * @return The appended entry, or null if the append failed
+     */
+    public BackupJournalEntry append(String username, CriticalityLevel level, String relativePath) {
+        synchronized (journalLock) {
+            // The sequence only advances once the line is on disk, so a failed append leaves no gap
+            BackupJournalEntry entry = new BackupJournalEntry(sequence.get() + 1, LocalDateTime.now(),
+                    username, level, relativePath);
+            try {
+                Path journalPath = getJournalPath();
+                Files.createDirectories(journalPath.getParent());
+
+                byte[] line = (lineWriter.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+                Files.write(journalPath, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+                sequence.set(entry.getSequence());
+
+                LoggerUtil.debug(this.getClass(), String.format("Journaled backup #%d for %s: %s",
+                        entry.getSequence(), username, relativePath));
+                return entry;
+            } catch (IOException e) {
+                LoggerUtil.error(this.getClass(), String.format("Failed to journal backup %s: %s", relativePath, e.getMessage()), e);
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Reads up to maxEntries complete entries starting at the given byte offset.
+     *
+     * @param offset Byte offset of the first entry to read
+     * @param maxEntries Maximum number of entries to return
+     * @return The entries read together with the offset that follows each of them
+     */
+    public JournalBatch readEntries(long offset, int maxEntries) throws IOException {
+        synchronized (journalLock) {
+            Path journalPath = getJournalPath();
+            List<BackupJournalEntry> entries = new ArrayList<>();
+            List<Long> endOffsets = new ArrayList<>();
+
+            if (!Files.exists(journalPath) || Files.size(journalPath) <= offset) {
+                return new JournalBatch(entries, endOffsets);
+            }
+
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+                channel.position(offset);
+                InputStream in = new BufferedInputStream(Channels.newInputStream(channel));
+                ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+                long position = offset;
+                int b;
+
+                while (entries.size() < maxEntries && (b = in.read()) != -1) {
+                    position++;
+                    if (b != '\n') {
+                        line.write(b);
+                        continue;
+                    }
+
+                    String json = line.toString(StandardCharsets.UTF_8).trim();
+                    line.reset();
+                    if (json.isEmpty()) {
+                        continue;
+                    }
+
+                    try {
+                        entries.add(objectMapper.readValue(json, BackupJournalEntry.class));
+                        endOffsets.add(position);
+                    } catch (IOException e) {
+                        // A corrupt line must not block the journal forever
+                        LoggerUtil.warn(this.getClass(), "Skipping unreadable journal line at offset " + position + ": " + e.getMessage());
+                    }
+                }
+            }
+            return new JournalBatch(entries, endOffsets);
+        }
+    }
+
+    /**
+     * Truncates the journal when every entry has been shipped and the file grew past the threshold.
+     * The cursor is rewound to 0 and persisted before the truncate, so a crash in between only
+     * re-ships already shipped entries instead of leaving an offset past the end of the new journal.
+     */
+    public void compactIfFullyShipped(BackupReplicationCursor cursor) {
+        synchronized (journalLock) {
+            try {
+                Path journalPath = getJournalPath();
+                if (!Files.exists(journalPath)) {
+                    return;
+                }
+                long size = Files.size(journalPath);
+                if (cursor.getJournalOffset() != size || size < COMPACTION_THRESHOLD_BYTES) {
+                    return;
+                }
+
+                long shippedOffset = cursor.getJournalOffset();
+                cursor.setJournalOffset(0);
+                if (!saveCursor(cursor)) {
+                    cursor.setJournalOffset(shippedOffset);
+                    return;
+                }
+
+                try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                    channel.truncate(0);
+                }
+                LoggerUtil.info(this.getClass(), String.format("Compacted fully shipped backup journal (%d bytes)", size));
+            } catch (IOException e) {
+                LoggerUtil.warn(this.getClass(), "Could not compact backup journal: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Loads the persisted replication cursor, or a fresh cursor if none exists yet.
+     * An offset past the end of the journal (journal truncated or replaced behind the cursor's back)
+     * is reset to the journal start, otherwise replication would stall until the journal outgrows it.
+     */
+    public BackupReplicationCursor loadCursor() {
+        Path cursorPath = getCursorPath();
+        if (!Files.exists(cursorPath)) {
+            return new BackupReplicationCursor();
+        }
+        synchronized (journalLock) {
+            BackupReplicationCursor cursor;
+            try {
+                cursor = objectMapper.readValue(cursorPath.toFile(), BackupReplicationCursor.class);
+            } catch (IOException e) {
+                LoggerUtil.warn(this.getClass(), "Unreadable replication cursor, restarting from journal start: " + e.getMessage());
+                return new BackupReplicationCursor();
+            }
+
+            try {
+                Path journalPath = getJournalPath();
+                long size = Files.exists(journalPath) ? Files.size(journalPath) : 0;
+                if (cursor.getJournalOffset() > size) {
+                    LoggerUtil.warn(this.getClass(), String.format(
+                            "Replication cursor offset %d is past the journal end (%d bytes), restarting from journal start",
+                            cursor.getJournalOffset(), size));
+                    cursor.setJournalOffset(0);
+                    saveCursor(cursor);
+                }
+            } catch (IOException e) {
+                LoggerUtil.warn(this.getClass(), "Could not check replication cursor against the journal: " + e.getMessage());
+            }
+            return cursor;
+        }
+    }
+
+    /**
+     * Persists the cursor atomically (temp file + move) so a crash never leaves a half-written cursor.
+     *
+     * @return true if the cursor was written
+     */
+    public boolean saveCursor(BackupReplicationCursor cursor) {
+        Path cursorPath = getCursorPath();
+        Path tempPath = cursorPath.resolveSibling(CURSOR_FILENAME + ".tmp");
+        try {
+            Files.createDirectories(cursorPath.getParent());
+            Files.write(tempPath, objectMapper.writeValueAsBytes(cursor));
+            try {
+                Files.move(tempPath, cursorPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, cursorPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            LoggerUtil.error(this.getClass(), "Failed to persist replication cursor: " + e.getMessage(), e);
+            return false;
+        }
+    }
+
+    public long getLastSequence() {
+        return sequence.get();
+    }
+
+    private Path getJournalPath() {
+        return pathConfig.getLocalPath().resolve(pathConfig.getBackupPath()).resolve(JOURNAL_FILENAME);
+    }
+
+    private Path getCursorPath() {
+        return pathConfig.getLocalPath().resolve(pathConfig.getBackupPath()).resolve(CURSOR_FILENAME);
+    }
+
+    /**
+     * Entries read from the journal; endOffsets.get(i) is the byte offset right after entries.get(i).
+     */
+    public record JournalBatch(List<BackupJournalEntry> entries, List<Long> endOffsets) {
+        public boolean isEmpty() {
+            return entries.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.ctgraphdep.fileOperations.service;
+
+import com.ctgraphdep.config.FileTypeConstants.CriticalityLevel;
+import com.ctgraphdep.fileOperations.config.PathConfig;
+import com.ctgraphdep.fileOperations.model.BackupJournalEntry;
+import com.ctgraphdep.fileOperations.model.BackupReplicationCursor;
+import com.ctgraphdep.fileOperations.model.dto.BackupSyncResult;
+import com.ctgraphdep.scheduling.JobIoClass;
+import com.ctgraphdep.scheduling.ScheduledJob;
+import com.ctgraphdep.utils.LoggerUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Journal-driven replication of local backups to the network share.
+ * Flow:
+ * 1. BackupEventListener records each new Level 3 backup in the local journal (BackupJournalService)
+ * 2. This service ships only the entries past the persisted cursor, in batches, with retry
+ * 3. Cursor advances only after an entry is on the network (or its source no longer exists)
+ * 4. An occasional walk-based reconciliation (BackupService) acts as consistency check
+ * Replacing the per-write directory walk means the normal path never lists the backup tree.
+ */
+@Service
+public class BackupReplicationService {
+
+    @Value("${app.backup.replication.batch.size:50}")
+    private int batchSize;
+
+    @Value("${app.backup.replication.retry.max:3}")
+    private int maxRetries;
+
+    @Value("${app.backup.replication.retry.delay:500}")
+    private long retryDelayMs;
+
+    @Value("${app.backup.reconcile.interval.hours:24}")
+    private long reconcileIntervalHours;
+
+    private final PathConfig pathConfig;
+    private final BackupService backupService;
+    private final BackupJournalService journalService;
+    private final AtomicBoolean replicationRunning = new AtomicBoolean(false);
+
+    @Autowired
+    public BackupReplicationService(PathConfig pathConfig, BackupService backupService, BackupJournalService journalService) {
+        this.pathConfig = pathConfig;
+        this.backupService = backupService;
+        this.journalService = journalService;
+        LoggerUtil.initialize(this.getClass(), null);
+    }
+
+    /**
+     * Records a freshly created backup file in the journal.
+     *
+     * @param username Owner of the backup
+     * @param level Criticality level used for the backup
+     * @param backupFile The backup file created under the level directory
+     */
+    public void recordBackup(String username, CriticalityLevel level, Path backupFile) {
+        if (username == null || backupFile == null) {
+            return;
+        }
+
+        Path levelDir = backupService.getLocalLevelDirectory(level);
+        if (!backupFile.startsWith(levelDir)) {
+            LoggerUtil.debug(this.getClass(), "Backup outside level directory, not journaled: " + backupFile);
+            return;
+        }
+
+        String relativePath = levelDir.relativize(backupFile).toString().replace('\\', '/');
+        journalService.append(username, level, relativePath);
+    }
+
+    /**
+     * Scheduled replication pass. Also called right after a backup is journaled.
+     * Only one pass runs at a time; concurrent triggers simply return.
+     */
+    @Scheduled(initialDelayString = "${app.backup.replication.initial.delay:120000}",
+            fixedDelayString = "${app.backup.replication.interval:60000}")
+    @ScheduledJob(name = "backup-replication", io = JobIoClass.NETWORK)
+    public void replicatePendingBackups() {
+        if (!pathConfig.isNetworkAvailable()) {
+            return;
+        }
+        if (!replicationRunning.compareAndSet(false, true)) {
+            LoggerUtil.debug(this.getClass(), "Backup replication already running - skipping trigger");
+            return;
+        }
+
+        try {
+            BackupReplicationCursor cursor = journalService.loadCursor();
+            BackupSyncResult result = new BackupSyncResult();
+            boolean blocked = false;
+
+            while (!blocked) {
+                BackupJournalService.JournalBatch batch = journalService.readEntries(cursor.getJournalOffset(), batchSize);
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                List<BackupJournalEntry> entries = batch.entries();
+                for (int i = 0; i < entries.size(); i++) {
+                    BackupJournalEntry entry = entries.get(i);
+
+                    // Entries are shipped in order; a failure stops the pass so the cursor never skips it
+                    if (!shipEntry(entry, result)) {
+                        blocked = true;
+                        break;
+                    }
+
+                    cursor.setLastShippedSequence(entry.getSequence());
+                    cursor.setJournalOffset(batch.endOffsets().get(i));
+                    cursor.getKnownUsernames().add(entry.getUsername());
+                }
+
+                cursor.setLastReplicationTime(LocalDateTime.now());
+                journalService.saveCursor(cursor);
+            }
+
+            journalService.compactIfFullyShipped(cursor);
+
+            if (result.hasFiles()) {
+                LoggerUtil.info(this.getClass(), String.format(
+                        "Backup replication pass: %d shipped, %d skipped, %d failed (cursor at #%d)",
+                        result.getSyncedCount(), result.getSkippedCount(), result.getFailedCount(),
+                        cursor.getLastShippedSequence()));
+            }
+
+            reconcileIfDue(cursor);
+
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error during backup replication: " + e.getMessage(), e);
+        } finally {
+            replicationRunning.set(false);
+        }
+    }
+
+    /**
+     * Copies a single journaled backup to the network with bounded retry.
+     *
+     * @return true if the cursor may advance past this entry
+     */
+    private boolean shipEntry(BackupJournalEntry entry, BackupSyncResult result) {
+        Path source = backupService.getLocalLevelDirectory(entry.getLevel()).resolve(entry.getRelativePath());
+
+        // Rotation may already have removed the backup - nothing left to ship
+        if (!Files.exists(source)) {
+            LoggerUtil.debug(this.getClass(), "Journaled backup no longer exists locally, skipping: " + entry.getRelativePath());
+            result.incrementSkipped();
+            return true;
+        }
+
+        Path target = backupService.getNetworkLevelDirectory(entry.getUsername(), entry.getLevel()).resolve(entry.getRelativePath());
+
+        for (int attempt = 1; attempt <= maxRetries; attempt++) {
+            try {
+                Files.createDirectories(target.getParent());
+                Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+                result.incrementSynced();
+                return true;
+            } catch (IOException e) {
+                LoggerUtil.debug(this.getClass(), String.format("Backup replication attempt %d/%d failed for %s: %s",
+                        attempt, maxRetries, entry.getRelativePath(), e.getMessage()));
+
+                if (attempt < maxRetries) {
+                    try {
+                        Thread.sleep(retryDelayMs * (1L << (attempt - 1)));
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+        }
+
+        LoggerUtil.warn(this.getClass(), String.format("Backup replication failed for #%d (%s) - will retry next pass",
+                entry.getSequence(), entry.getRelativePath()));
+        result.incrementFailed();
+        return false;
+    }
+
+    /**
+     * Runs the walk-based consistency check when the configured interval has elapsed.
+     */
+    private void reconcileIfDue(BackupReplicationCursor cursor) {
+        LocalDateTime lastReconciliation = cursor.getLastReconciliationTime();
+        if (lastReconciliation != null && lastReconciliation.plusHours(reconcileIntervalHours).isAfter(LocalDateTime.now())) {
+            return;
+        }
+        if (cursor.getKnownUsernames().isEmpty()) {
+            return;
+        }
+
+        LoggerUtil.info(this.getClass(), "Running backup reconciliation for " + cursor.getKnownUsernames().size() + " user(s)");
+        for (String username : cursor.getKnownUsernames()) {
+            backupService.reconcileBackupsWithNetwork(username, CriticalityLevel.LEVEL3_HIGH);
+        }
+
+        cursor.setLastReconciliationTime(LocalDateTime.now());
+        journalService.saveCursor(cursor);
+    }
+
+    /**
+     * Number of journaled backups not yet shipped to the network.
+     */
+    public long getPendingCount() {
+        return Math.max(0, journalService.getLastSequence() - journalService.loadCursor().getLastShippedSequence());
+    }
+}
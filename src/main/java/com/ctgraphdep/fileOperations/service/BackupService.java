@@ -7,6 +7,9 @@ import com.ctgraphdep.fileOperations.core.FileOperationResult;
 import com.ctgraphdep.fileOperations.core.FilePath;
 import com.ctgraphdep.fileOperations.model.dto.BackupSyncContext;
 import com.ctgraphdep.fileOperations.model.dto.BackupSyncResult;
+import com.ctgraphdep.scheduling.JobIoClass;
+import com.ctgraphdep.scheduling.JobPriority;
+import com.ctgraphdep.scheduling.ScheduledJob;
 import com.ctgraphdep.utils.LoggerUtil;
 import jakarta.annotation.PostConstruct;
 import org.jetbrains.annotations.NotNull;
@@ -264,6 +267,24 @@ public class BackupService {
         return baseBackupDir.resolve(levelDir);
     }
 
+    /**
+     * Gets the local directory holding all backups of the given criticality level.
+     */
+    public Path getLocalLevelDirectory(CriticalityLevel level) {
+        return getPath(level);
+    }
+
+    /**
+     * Gets the network directory mirroring a user's local backups of the given criticality level.
+     * Layout: backup/{username}/{levelDir}/...
+     */
+    public Path getNetworkLevelDirectory(String username, CriticalityLevel level) {
+        return pathConfig.getNetworkPath()
+                .resolve(pathConfig.getBackupPath())
+                .resolve(username)
+                .resolve(resolveLevelDirectory(level));
+    }
+
     /**
      * Restores a file from its simple backup
      * @param originalPath The file to restore
@@ -502,128 +523,36 @@ public class BackupService {
     }
 
     /**
-     * Syncs specific file type backups to network.
-     * Only syncs the subdirectory for the specified file type.
-     */
-    public void syncBackupsToNetworkByType(String username, CriticalityLevel level, String fileType) {
-        if (!pathConfig.isNetworkAvailable()) {
-            LoggerUtil.warn(this.getClass(), "Network not available, cannot sync backups");
-            return;
-        }
-
-        if (fileType == null) {
-            LoggerUtil.warn(this.getClass(), "File type is null, falling back to full sync");
-            syncBackupsToNetwork(username, level); // Fallback to original method
-            return;
-        }
-
-        BackupSyncContext context = initializeSyncContextByType(username, level, fileType);
-        if (context == null) {
-            return; // Initialization failed, already logged
-        }
-
-        LoggerUtil.info(this.getClass(), String.format(
-                "Starting %s backup sync for user %s, level %s", fileType, username, level));
-
-        try {
-            BackupSyncResult result = performBackupSync(context);
-            logSyncCompletionByType(context, result, fileType);
-        } catch (Exception e) {
-            LoggerUtil.error(this.getClass(), String.format(
-                    "Error syncing %s backups to network for user %s, level %s: %s",
-                    fileType, username, level, e.getMessage()), e);
-        }
-    }
-
-    /**
-     * Initializes sync context for specific file type.
-     */
-    private BackupSyncContext initializeSyncContextByType(String username, CriticalityLevel level, String fileType) {
-        try {
-            String levelDir = resolveLevelDirectory(level);
-
-            // Map file type to subdirectory
-            String fileTypeDir = mapFileTypeToDirectory(fileType);
-            if (fileTypeDir == null) {
-                LoggerUtil.warn(this.getClass(), "Unknown file type: " + fileType);
-                return null;
-            }
-
-            // Source: level3_high/check_register/ (for example)
-            Path localBackupDir = pathConfig.getLocalPath()
-                    .resolve(pathConfig.getBackupPath())
-                    .resolve(levelDir)
-                    .resolve(fileTypeDir);
-
-            if (!Files.exists(localBackupDir)) {
-                LoggerUtil.debug(this.getClass(),
-                        String.format("Local %s backup directory doesn't exist for user %s, level %s: %s",
-                                fileType, username, level, localBackupDir));
-                return null;
-            }
-
-            // Target: backup/oana/level3_high/check_register/ (for example)
-            Path networkBackupDir = pathConfig.getNetworkPath()
-                    .resolve(pathConfig.getBackupPath())
-                    .resolve(username)
-                    .resolve(levelDir)
-                    .resolve(fileTypeDir);
-
-            Files.createDirectories(networkBackupDir);
-
-            return new BackupSyncContext(username, level, localBackupDir, networkBackupDir);
-
-        } catch (Exception e) {
-            LoggerUtil.error(this.getClass(), String.format(
-                    "Failed to initialize %s sync context for user %s, level %s: %s",
-                    fileType, username, level, e.getMessage()), e);
-            return null;
-        }
-    }
-
-    /**
-     * Maps file type to backup subdirectory name.
-     */
-    private String mapFileTypeToDirectory(String fileType) {
-        return switch (fileType) {
-            case FileTypeConstants.CHECK_REGISTER_TARGET -> FileTypeConstants.CHECK_REGISTER_TARGET ;
-            case FileTypeConstants.REGISTER_TARGET  -> FileTypeConstants.REGISTER_TARGET;
-            case FileTypeConstants.WORKTIME_TARGET -> FileTypeConstants.WORKTIME_TARGET;
-            case FileTypeConstants.TIMEOFF_TRACKER_TARGET -> FileTypeConstants.WORKTIME_TARGET; // Group with worktime
-            default -> null;
-        };
-    }
-
-    /**
-     * Logs completion with file type information.
+     * Syncs local backups to network with enhanced file access detection and modular design.
+     * Now uses FileTypeConstants.CriticalityLevel.
+     *
+     * @param username The username for the backup
+     * @param level The criticality level (from FileTypeConstants)
      */
-    private void logSyncCompletionByType(BackupSyncContext context, BackupSyncResult result, String fileType) {
-        if (result.hasFiles()) {
-            LoggerUtil.info(this.getClass(), String.format(
-                    "%s backup sync completed for user %s, level %s: %d synced, %d skipped, %d failed",
-                    fileType, context.getUsername(), context.getLevel(),
-                    result.getSyncedCount(), result.getSkippedCount(), result.getFailedCount()));
-        } else {
-            LoggerUtil.debug(this.getClass(), String.format(
-                    "No %s backup files found for user %s, level %s",
-                    fileType, context.getUsername(), context.getLevel()));
-        }
+    public void syncBackupsToNetwork(String username, CriticalityLevel level) {
+        syncBackupsToNetwork(username, level, false);
     }
 
     /**
-     * Syncs local backups to network with enhanced file access detection and modular design.
-     * Now uses FileTypeConstants.CriticalityLevel.
+     * Walk-based consistency check between the local backup tree and the network copy.
+     * Regular replication is journal-driven (see BackupReplicationService); this full walk
+     * only runs occasionally to catch anything the journal missed (e.g. backups created
+     * before the journal existed or entries lost with a deleted journal).
      *
      * @param username The username for the backup
      * @param level The criticality level (from FileTypeConstants)
      */
-    public void syncBackupsToNetwork(String username, CriticalityLevel level) {
+    public void reconcileBackupsWithNetwork(String username, CriticalityLevel level) {
+        syncBackupsToNetwork(username, level, true);
+    }
+
+    private void syncBackupsToNetwork(String username, CriticalityLevel level, boolean fullReconciliation) {
         if (!pathConfig.isNetworkAvailable()) {
             LoggerUtil.warn(this.getClass(), "Network not available, cannot sync backups");
             return;
         }
 
-        BackupSyncContext context = initializeSyncContext(username, level);
+        BackupSyncContext context = initializeSyncContext(username, level, fullReconciliation);
         if (context == null) {
             return; // Initialization failed, already logged
         }
@@ -644,7 +573,7 @@ public class BackupService {
     /**
      * Initializes the sync context with paths and validation.
      */
-    private BackupSyncContext initializeSyncContext(String username, CriticalityLevel level) {
+    private BackupSyncContext initializeSyncContext(String username, CriticalityLevel level, boolean fullReconciliation) {
         try {
             // Get the appropriate level directory based on criticality
             String levelDir = resolveLevelDirectory(level);
@@ -670,7 +599,7 @@ public class BackupService {
             // Ensure network directory exists
             Files.createDirectories(networkBackupDir);
 
-            return new BackupSyncContext(username, level, localBackupDir, networkBackupDir);
+            return new BackupSyncContext(username, level, localBackupDir, networkBackupDir, fullReconciliation);
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), String.format(
@@ -701,7 +630,7 @@ public class BackupService {
             @Override
             public @NotNull FileVisitResult visitFile(@NotNull Path file, @NotNull BasicFileAttributes attrs) {
                 // Enhanced file accessibility check
-                if (!isFileAccessibleForSync(file)) {
+                if (!isFileAccessibleForSync(file, context.isFullReconciliation())) {
                     result.incrementSkipped();
                     return FileVisitResult.CONTINUE;
                 }
@@ -757,7 +686,7 @@ public class BackupService {
      * Enhanced method to check if a file is accessible for syncing.
      * Uses multiple approaches to detect file access conflicts.
      */
-    private boolean isFileAccessibleForSync(Path file) {
+    private boolean isFileAccessibleForSync(Path file, boolean fullReconciliation) {
         // Method 1: Basic file checks
         if (!Files.exists(file) || !Files.isReadable(file)) {
             LoggerUtil.debug(this.getClass(), "File doesn't exist or isn't readable: " + file.getFileName());
@@ -776,7 +705,7 @@ public class BackupService {
         }
 
         // Method 3: Check if file was recently modified (might still be writing)
-        if (!isFileStable(file)) {
+        if (!isFileStable(file, fullReconciliation)) {
             return false;
         }
 
@@ -791,8 +720,9 @@ public class BackupService {
 
     /**
      * Checks if file is stable (not recently modified).
+     * The one-hour age cap is skipped for full reconciliation runs.
      */
-    private boolean isFileStable(Path file) {
+    private boolean isFileStable(Path file, boolean fullReconciliation) {
         try {
             long lastModified = Files.getLastModifiedTime(file).toMillis();
             long timeSinceModified = System.currentTimeMillis() - lastModified;
@@ -805,7 +735,7 @@ public class BackupService {
 
             // NEW: Skip files older than 1 hour (only sync recent backups)
             long oneHourInMs = 60 * 60 * 1000; // 1 hour
-            if (timeSinceModified > oneHourInMs) {
+            if (!fullReconciliation && timeSinceModified > oneHourInMs) {
                 LoggerUtil.debug(this.getClass(), "Skipping old backup file (>1 hour): " + file.getFileName());
                 return false;
             }
@@ -907,6 +837,7 @@ public class BackupService {
      * Scheduled job to clean up old backups based on retention policy
      */
     @Scheduled(cron = "0 0 3 * * ?") // Run at 3 AM every day
+    @ScheduledJob(name = "local-backup-cleanup", priority = JobPriority.LOW, io = JobIoClass.LOCAL_DISK)
     public void cleanupOldBackups() {
         try {
             Path baseBackupDir = pathConfig.getLocalPath().resolve(pathConfig.getBackupPath());
@@ -121,6 +121,9 @@ public class FilePathResolver {
             case TIMEOFF_TRACKER -> isLocal ?
                     pathConfig.getLocalTimeOffTrackerPath(username, userId, year) :
                     pathConfig.getNetworkTimeOffTrackerPath(username, userId, year);
+            case MONTH_SUMMARY -> isLocal ?
+                    pathConfig.getLocalMonthSummaryPath(username, year, month) :
+                    pathConfig.getNetworkMonthSummaryPath(username, year, month);
             case TEAM ->
                     pathConfig.getTeamJsonPath(username, year, month);
             case REGISTER -> isLocal ?
@@ -170,6 +173,7 @@ public class FilePathResolver {
         WORKTIME,
         REGISTER,
         TIMEOFF_TRACKER,
+        MONTH_SUMMARY,
         TEAM,
         CHECK_REGISTER,
         LEAD_CHECK_REGISTER,
@@ -183,6 +183,27 @@ public class FileReaderService {
         return readFile(localPath, typeRef, skipDeobfuscation);
     }
 
+    /**
+     * Cheap change stamp (size and last modified) of a network file, without reading it.
+     * @param networkPath The network file path
+     * @return "size:lastModifiedMillis", "missing" if there is no file, or null if the network cannot be checked
+     */
+    public String getNetworkFileStamp(FilePath networkPath) {
+        if (!networkPath.isNetwork() || !isNetworkAvailable()) {
+            return null;
+        }
+        try {
+            Path path = networkPath.getPath();
+            if (!Files.exists(path)) {
+                return "missing";
+            }
+            return Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            LoggerUtil.debug(this.getClass(), String.format("Could not stamp network file %s: %s", networkPath.getPath().getFileName(), e.getMessage()));
+            return null;
+        }
+    }
+
     /**
      * Checks if the network is available
      * @return True if the network is available
@@ -40,6 +40,7 @@ public class FileWriterService {
     private final FileObfuscationService obfuscationService;
     private final FileEventPublisher fileEventPublisher;
     private final MainDefaultUserContextCache mainDefaultUserContextCache;
+    private final OutboundSyncQueueService outboundSyncQueue;
 
     // === FILE LOCKING SYSTEM ===
     // Per-file locks to prevent concurrent access to same file
@@ -68,7 +69,8 @@ public class FileWriterService {
             PathConfig pathConfig,
             FileObfuscationService obfuscationService,
             FileEventPublisher fileEventPublisher,
-            MainDefaultUserContextCache mainDefaultUserContextCache) {
+            MainDefaultUserContextCache mainDefaultUserContextCache,
+            OutboundSyncQueueService outboundSyncQueue) {
         this.objectMapper = objectMapper;
         this.pathResolver = pathResolver;
         this.syncService = syncService;
@@ -76,6 +78,7 @@ public class FileWriterService {
         this.obfuscationService = obfuscationService;
         this.fileEventPublisher = fileEventPublisher;
         this.mainDefaultUserContextCache = mainDefaultUserContextCache;
+        this.outboundSyncQueue = outboundSyncQueue;
         LoggerUtil.initialize(this.getClass(), null);
     }
 
@@ -140,9 +143,9 @@ public class FileWriterService {
         // Write the file with backup enabled
         FileOperationResult writeResult = writeFileWithBackupControl(localPath, data, skipObfuscation, true);
 
-        // If write successful, trigger async network sync
-        if (writeResult.isSuccess() && isNetworkAvailable()) {
-            triggerAsyncNetworkSync(localPath, getCurrentUsername());
+        // If write successful, queue it for the network and sync right away when online
+        if (writeResult.isSuccess()) {
+            queueNetworkSync(localPath);
         }
 
         return writeResult;
@@ -165,9 +168,9 @@ public class FileWriterService {
         // Write the file with backup enabled
         FileOperationResult writeResult = writeFileWithBackupControl(localPath, data, skipObfuscation, false);
 
-        // If write successful, trigger async network sync
-        if (writeResult.isSuccess() && isNetworkAvailable()) {
-            triggerAsyncNetworkSync(localPath, getCurrentUsername());
+        // If write successful, queue it for the network and sync right away when online
+        if (writeResult.isSuccess()) {
+            queueNetworkSync(localPath);
         }
 
         return writeResult;
@@ -191,8 +194,8 @@ public class FileWriterService {
         for (int attempt = 0; attempt < MAX_RETRIES; attempt++) {
             try {
                 if (attempt > 0) {
-                    LoggerUtil.info(this.getClass(), String.format(
-                            "Retry #%d for file write: %s (user: %s)", attempt, path.getFileName(), username));
+                    LoggerUtil.info(this.getClass(), "Retry #{} for file write: {} (user: {})",
+                            attempt, path.getFileName(), username);
                 }
 
                 // Execute the actual write with locking
@@ -202,8 +205,8 @@ public class FileWriterService {
                 if (result.isSuccess()) {
                     // Write attempt was already recorded atomically in canAttemptWrite()
                     if (attempt > 0) {
-                        LoggerUtil.info(this.getClass(), String.format(
-                                "Write succeeded on retry #%d for file: %s", attempt, path.getFileName()));
+                        LoggerUtil.info(this.getClass(), "Write succeeded on retry #{} for file: {}",
+                                attempt, path.getFileName());
                     }
 
                     return result;
@@ -262,9 +265,8 @@ public class FileWriterService {
         Path path = filePath.getPath();
         long operationStartTime = System.currentTimeMillis();
 
-        LoggerUtil.info(this.getClass(), String.format(
-                "Starting file write operation: %s (user: %s, backup: %s)",
-                path.getFileName(), username, shouldCreateBackup));
+        LoggerUtil.info(this.getClass(), "Starting file write operation: {} (user: {}, backup: {})",
+                path.getFileName(), username, shouldCreateBackup);
 
         // Publish write start event
         fileEventPublisher.publishFileWriteStart(filePath, username, userId, shouldCreateBackup, data);
@@ -330,8 +332,7 @@ public class FileWriterService {
         // Calculate operation duration
         long operationDuration = System.currentTimeMillis() - operationStartTime;
 
-        LoggerUtil.info(this.getClass(), String.format(
-                "Successfully wrote file: %s (duration: %dms)", path, operationDuration));
+        LoggerUtil.info(this.getClass(), "Successfully wrote file: {} (duration: {}ms)", path, operationDuration);
 
         // Create success result
         FileOperationResult result = FileOperationResult.success(path);
@@ -346,18 +347,32 @@ public class FileWriterService {
     // ASYNC NETWORK SYNC COORDINATION
     // ========================================================================
 
+    /**
+     * Records the write in the persistent outbound sync queue, then syncs it immediately if the network is up.
+     * Offline (or when the immediate sync fails) the write stays queued and is replayed once the share is back.
+     */
+    private void queueNetworkSync(FilePath localPath) {
+        long sequence = outboundSyncQueue.enqueue(localPath);
+
+        if (isNetworkAvailable()) {
+            triggerAsyncNetworkSync(localPath, getCurrentUsername(), sequence);
+        } else {
+            LoggerUtil.debug(this.getClass(), "Network unavailable - queued {} for sync", localPath.getPath().getFileName());
+        }
+    }
+
     /**
      * Trigger async network sync without blocking current operation.
      * Coordinates with ongoing sync operations to avoid conflicts.
      */
-    private void triggerAsyncNetworkSync(FilePath localPath, String username) {
+    private void triggerAsyncNetworkSync(FilePath localPath, String username, long queueSequence) {
         String syncKey = username + ":" + localPath.getPath().getFileName().toString();
 
         // Check if sync is already in progress for this file
         CompletableFuture<Void> existingSync = pendingSyncs.get(syncKey);
         if (existingSync != null && !existingSync.isDone()) {
-            LoggerUtil.debug(this.getClass(), String.format(
-                    "Network sync already in progress for: %s - skipping duplicate sync request", localPath.getPath().getFileName()));
+            LoggerUtil.debug(this.getClass(), "Network sync already in progress for: {} - this write stays queued for replay",
+                    localPath.getPath().getFileName());
             return;
         }
 
@@ -368,8 +383,8 @@ public class FileWriterService {
         // Atomically register the sync - if another thread already registered, use theirs
         CompletableFuture<Void> registeredFuture = pendingSyncs.putIfAbsent(syncKey, syncFuture);
         if (registeredFuture != null) {
-            LoggerUtil.debug(this.getClass(), String.format(
-                    "Network sync already registered for: %s - skipping duplicate", localPath.getPath().getFileName()));
+            LoggerUtil.debug(this.getClass(), "Network sync already registered for: {} - skipping duplicate",
+                    localPath.getPath().getFileName());
             return;
         }
 
@@ -381,10 +396,16 @@ public class FileWriterService {
 
                 FilePath networkPath = pathResolver.toNetworkPath(localPath);
 
-                // Perform the sync
-                syncService.syncToNetwork(localPath, networkPath);
+                // Perform the sync; only a successful sync takes the write out of the queue
+                FileOperationResult result = syncService.syncToNetwork(localPath, networkPath).join();
+                if (result.isSuccess()) {
+                    outboundSyncQueue.markSynced(localPath, queueSequence);
+                } else {
+                    LoggerUtil.debug(this.getClass(), "Network sync failed for {} - left in sync queue: {}",
+                            localPath.getPath().getFileName(), result.getErrorMessage().orElse("unknown error"));
+                }
 
-                // Mark as successfully completed
+                // Mark as completed
                 syncFuture.complete(null);
 
             } catch (Exception e) {
@@ -405,8 +426,7 @@ public class FileWriterService {
             }
         });
 
-        LoggerUtil.info(this.getClass(), String.format(
-                "Network sync initiated for: %s", localPath.getPath().getFileName()));
+        LoggerUtil.info(this.getClass(), "Network sync initiated for: {}", localPath.getPath().getFileName());
     }
 
     /**
@@ -523,7 +543,7 @@ public class FileWriterService {
     private String getCurrentUsername() {
         try {
             String username = mainDefaultUserContextCache.getCurrentUsername();
-            LoggerUtil.debug(this.getClass(), "Current username resolved to: " + username);
+            LoggerUtil.debug(this.getClass(), "Current username resolved to: {}", username);
             return username;
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Error getting current username: " + e.getMessage(), e);
@@ -0,0 +1,342 @@
+package com.ctgraphdep.fileOperations.service;
+
+import com.ctgraphdep.config.FileTypeConstants;
+import com.ctgraphdep.fileOperations.config.PathConfig;
+import com.ctgraphdep.fileOperations.model.LogShippingCursor;
+import com.ctgraphdep.utils.LoggerUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Incremental shipping of the local application log to the network share.
+ * Flow:
+ * 1. Only bytes past the persisted offset of the current local segment are shipped
+ * 2. New bytes are gzip-compressed in chunks; each chunk is appended as its own gzip member to
+ *    ctgraphdep-logger_username_vX.Y.Z.log.gz, so the network file is always one readable gzip stream
+ * 3. A logback rollover is detected by the segment fingerprint; the unshipped tail of the sealed segment is
+ *    taken from the archived folder before shipping of the new segment starts
+ * 4. The network directory is only listed when the target file changes (new user or version)
+ */
+@Service
+public class LogShippingService {
+
+    private static final String CURSOR_FILENAME = "log_shipping_cursor.json";
+    private static final String ARCHIVED_FOLDER = "archived";
+    private static final int FINGERPRINT_BYTES = 512;
+    // Newest archived files checked when looking for a sealed segment
+    private static final int MAX_ARCHIVE_CANDIDATES = 3;
+
+    private final PathConfig pathConfig;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.logs.ship.chunk-size:1048576}")
+    private int chunkSize;
+
+    // Network file is restarted from the current segment once it holds more than this (uncompressed)
+    @Value("${app.logs.ship.max-network-bytes:20971520}")
+    private long maxNetworkBytes;
+
+    @Autowired
+    public LogShippingService(PathConfig pathConfig, ObjectMapper objectMapper) {
+        this.pathConfig = pathConfig;
+        this.objectMapper = objectMapper;
+        LoggerUtil.initialize(this.getClass(), null);
+    }
+
+    /**
+     * Ships the new part of the local log to the user's network log file.
+     * @return number of uncompressed bytes shipped in this run
+     */
+    public synchronized long shipLog(String username, String version) throws IOException {
+        Path localLog = pathConfig.getLocalLogPath();
+        if (!Files.exists(localLog)) {
+            throw new NoSuchFileException(localLog.toString(), null, "Local log file not found");
+        }
+
+        Path target = pathConfig.getNetworkShippedLogPath(username, version);
+        LogShippingCursor cursor = loadCursor(localLog);
+
+        if (!target.toString().equals(cursor.getNetworkFile())) {
+            startNetworkFile(cursor, target, username);
+        } else {
+            verifyNetworkFile(cursor, target);
+        }
+
+        long shipped = 0;
+        try (FileChannel channel = FileChannel.open(localLog, StandardOpenOption.READ)) {
+            long size = channel.size();
+
+            if (isSegmentRolledOver(cursor, channel, size)) {
+                shipped += shipSealedSegment(cursor, target, localLog);
+                cursor.setSegmentOffset(0);
+                cursor.setSegmentFingerprintLength(0);
+                cursor.setSegmentFingerprint(0);
+            }
+
+            if (cursor.getSegmentFingerprintLength() == 0 && size > 0) {
+                int length = (int) Math.min(FINGERPRINT_BYTES, size);
+                cursor.setSegmentFingerprintLength(length);
+                cursor.setSegmentFingerprint(fingerprint(channel, length));
+            }
+
+            // Keep the network file bounded: restart it with the current segment only
+            if (cursor.getNetworkShippedBytes() + (size - cursor.getSegmentOffset()) > maxNetworkBytes) {
+                LoggerUtil.info(this.getClass(), "Network log reached its size limit, restarting it from the current segment: " + target.getFileName());
+                Files.deleteIfExists(target);
+                cursor.setNetworkFileSize(0);
+                cursor.setNetworkShippedBytes(0);
+                cursor.setSegmentOffset(Math.max(0, size - maxNetworkBytes));
+            }
+
+            shipped += appendRange(channel, cursor.getSegmentOffset(), size, cursor, target, localLog);
+        }
+
+        cursor.setLastShipTime(LocalDateTime.now());
+        saveCursor(localLog, cursor);
+
+        LoggerUtil.info(this.getClass(), String.format("Shipped %d new log bytes for user %s to %s", shipped, username, target.getFileName()));
+        return shipped;
+    }
+
+    /**
+     * Opens a network log for reading; shipped .gz logs are decompressed transparently.
+     */
+    public InputStream openLogStream(Path logPath) throws IOException {
+        InputStream input = Files.newInputStream(logPath);
+        if (!logPath.getFileName().toString().endsWith(FileTypeConstants.GZIP_EXTENSION)) {
+            return input;
+        }
+        return new TolerantGzipInputStream(input);
+    }
+
+    // ========================================================================
+    // SHIPPING STEPS
+    // ========================================================================
+
+    // First run for this user/version: remove older network copies (one directory listing) and ship the segment from its start
+    private void startNetworkFile(LogShippingCursor cursor, Path target, String username) throws IOException {
+        Path logDir = target.getParent();
+        Files.createDirectories(logDir);
+
+        try (Stream<Path> files = Files.list(logDir)) {
+            List<Path> stale = files.filter(path -> {
+                String filename = path.getFileName().toString();
+                return filename.startsWith("ctgraphdep-logger_" + username + "_") ||
+                        filename.equals("ctgraphdep-logger_" + username + FileTypeConstants.LOG_EXTENSION);
+            }).collect(Collectors.toList());
+
+            for (Path path : stale) {
+                try {
+                    Files.deleteIfExists(path);
+                    LoggerUtil.debug(this.getClass(), "Deleted old log file: " + path.getFileName());
+                } catch (IOException e) {
+                    LoggerUtil.warn(this.getClass(), "Could not delete old log file: " + e.getMessage());
+                }
+            }
+        }
+
+        cursor.setNetworkFile(target.toString());
+        cursor.setNetworkFileSize(0);
+        cursor.setNetworkShippedBytes(0);
+        cursor.setSegmentOffset(0);
+    }
+
+    // Repairs the network file when an append was interrupted or the file was removed on the share
+    private void verifyNetworkFile(LogShippingCursor cursor, Path target) throws IOException {
+        long actualSize = Files.exists(target) ? Files.size(target) : -1;
+        if (actualSize == cursor.getNetworkFileSize()) {
+            return;
+        }
+
+        if (actualSize > cursor.getNetworkFileSize()) {
+            // Partial gzip member from an interrupted append - cut it off
+            try (FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+                channel.truncate(cursor.getNetworkFileSize());
+            }
+            LoggerUtil.warn(this.getClass(), "Truncated interrupted append in network log " + target.getFileName());
+        } else {
+            // Missing or shorter than shipped - restart it from the current segment
+            Files.deleteIfExists(target);
+            cursor.setNetworkFileSize(0);
+            cursor.setNetworkShippedBytes(0);
+            cursor.setSegmentOffset(0);
+            LoggerUtil.warn(this.getClass(), "Network log " + target.getFileName() + " changed outside the shipper, restarting it");
+        }
+    }
+
+    private boolean isSegmentRolledOver(LogShippingCursor cursor, FileChannel channel, long size) throws IOException {
+        int length = cursor.getSegmentFingerprintLength();
+        if (length == 0) {
+            return false;
+        }
+        return size < length || size < cursor.getSegmentOffset() || fingerprint(channel, length) != cursor.getSegmentFingerprint();
+    }
+
+    // Ships the unshipped tail of the segment logback has just rolled into the archived folder
+    private long shipSealedSegment(LogShippingCursor cursor, Path target, Path localLog) throws IOException {
+        Path archivedDir = localLog.getParent().resolve(ARCHIVED_FOLDER);
+        if (!Files.isDirectory(archivedDir)) {
+            LoggerUtil.warn(this.getClass(), "Log rolled over but no archived folder found, unshipped tail of the old segment is skipped");
+            return 0;
+        }
+
+        List<Path> candidates;
+        try (Stream<Path> files = Files.list(archivedDir)) {
+            candidates = files.filter(Files::isRegularFile)
+                    .sorted(Comparator.comparingLong(this::lastModifiedMillis).reversed())
+                    .limit(MAX_ARCHIVE_CANDIDATES)
+                    .collect(Collectors.toList());
+        }
+
+        for (Path candidate : candidates) {
+            try (FileChannel channel = FileChannel.open(candidate, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size < cursor.getSegmentFingerprintLength() || size < cursor.getSegmentOffset() ||
+                        fingerprint(channel, cursor.getSegmentFingerprintLength()) != cursor.getSegmentFingerprint()) {
+                    continue;
+                }
+                LoggerUtil.info(this.getClass(), "Sealing rolled over log segment " + candidate.getFileName());
+                return appendRange(channel, cursor.getSegmentOffset(), size, cursor, target, localLog);
+            }
+        }
+
+        LoggerUtil.warn(this.getClass(), "Rolled over log segment not found in archived folder, unshipped tail is skipped");
+        return 0;
+    }
+
+    // Appends [from, to) of the segment as gzip members, persisting the cursor after every chunk
+    private long appendRange(FileChannel source, long from, long to, LogShippingCursor cursor, Path target, Path localLog) throws IOException {
+        long position = from;
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(chunkSize, Math.max(to - from, 1)));
+
+        while (position < to) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), to - position));
+            while (buffer.hasRemaining()) {
+                if (source.read(buffer, position + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            int length = buffer.position();
+            if (length == 0) {
+                break;
+            }
+
+            byte[] member = compress(buffer.array(), length);
+            Files.write(target, member, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+            position += length;
+            cursor.setNetworkFileSize(cursor.getNetworkFileSize() + member.length);
+            cursor.setNetworkShippedBytes(cursor.getNetworkShippedBytes() + length);
+            cursor.setSegmentOffset(position);
+            saveCursor(localLog, cursor);
+        }
+        return position - from;
+    }
+
+    private byte[] compress(byte[] data, int length) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(data, 0, length);
+        }
+        return output.toByteArray();
+    }
+
+    private long fingerprint(FileChannel channel, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                break;
+            }
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        return crc.getValue();
+    }
+
+    private long lastModifiedMillis(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    // ========================================================================
+    // CURSOR PERSISTENCE
+    // ========================================================================
+
+    private LogShippingCursor loadCursor(Path localLog) {
+        Path cursorPath = getCursorPath(localLog);
+        if (!Files.exists(cursorPath)) {
+            return new LogShippingCursor();
+        }
+        try {
+            return objectMapper.readValue(cursorPath.toFile(), LogShippingCursor.class);
+        } catch (IOException e) {
+            LoggerUtil.warn(this.getClass(), "Unreadable log shipping cursor, shipping the current segment again: " + e.getMessage());
+            return new LogShippingCursor();
+        }
+    }
+
+    // Persists the cursor atomically (temp file + move)
+    private void saveCursor(Path localLog, LogShippingCursor cursor) {
+        Path cursorPath = getCursorPath(localLog);
+        Path tempPath = cursorPath.resolveSibling(CURSOR_FILENAME + ".tmp");
+        try {
+            Files.write(tempPath, objectMapper.writeValueAsBytes(cursor));
+            try {
+                Files.move(tempPath, cursorPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, cursorPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LoggerUtil.error(this.getClass(), "Failed to persist log shipping cursor: " + e.getMessage(), e);
+        }
+    }
+
+    private Path getCursorPath(Path localLog) {
+        return localLog.getParent().resolve(CURSOR_FILENAME);
+    }
+
+    /**
+     * Gzip stream that ends quietly at a member still being appended instead of failing the whole read.
+     */
+    private static class TolerantGzipInputStream extends GZIPInputStream {
+        TolerantGzipInputStream(InputStream input) throws IOException {
+            super(input, 64 * 1024);
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            try {
+                return super.read(buffer, offset, length);
+            } catch (EOFException e) {
+                return -1;
+            }
+        }
+    }
+}
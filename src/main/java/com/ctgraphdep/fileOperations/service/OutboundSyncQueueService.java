@@ -0,0 +1,423 @@
+package com.ctgraphdep.fileOperations.service;
+
+import com.ctgraphdep.fileOperations.config.PathConfig;
+import com.ctgraphdep.fileOperations.core.FileOperationResult;
+import com.ctgraphdep.fileOperations.core.FilePath;
+import com.ctgraphdep.fileOperations.model.OutboundSyncEntry;
+import com.ctgraphdep.fileOperations.model.OutboundSyncQueueStats;
+import com.ctgraphdep.monitoring.events.NetworkStatusChangedEvent;
+import com.ctgraphdep.scheduling.JobIoClass;
+import com.ctgraphdep.scheduling.ScheduledJob;
+import com.ctgraphdep.scheduling.ScheduledJobRuntime;
+import com.ctgraphdep.utils.LoggerUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Persistent queue of local writes that still have to reach the network share.
+ * Flow:
+ * 1. FileWriterService queues every local write that needs network propagation, online or not
+ * 2. A successful sync marks the write done; a file written again while waiting keeps one entry
+ *    (latest write) at its original place in the queue
+ * 3. Pending writes are replayed oldest first as soon as the share is back, and by a periodic job,
+ *    a limited batch per run with a pause between files (smaller batch while the share is degraded)
+ * The queue is journaled locally (one JSON object per line, QUEUED / DONE records) so it survives
+ * restarts; the journal is rewritten with only the pending entries once enough DONE records pile up.
+ * Records are appended under the queue lock, but forced to disk outside it: enqueue waits for a flush
+ * that covers its record, and one flush covers every record appended before it (group commit).
+ */
+@Service
+public class OutboundSyncQueueService {
+
+    private static final String JOURNAL_FILENAME = "outbound_sync_queue.jsonl";
+    // Journal is rewritten with only the pending entries after this many DONE records
+    private static final int COMPACTION_DONE_RECORDS = 500;
+    private static final String REPLAY_JOB = "outbound-sync-replay";
+
+    @Value("${app.sync.outbound.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.sync.outbound.degraded-batch-size:5}")
+    private int degradedBatchSize;
+
+    @Value("${app.sync.outbound.throttle-ms:200}")
+    private long throttleMs;
+
+    @Value("${app.sync.outbound.sync-timeout-ms:30000}")
+    private long syncTimeoutMs;
+
+    private final PathConfig pathConfig;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter lineWriter;
+    private final SyncFilesService syncFilesService;
+    private final FilePathResolver pathResolver;
+    private final ScheduledJobRuntime scheduledJobRuntime;
+
+    // Pending writes by relative path, in queue order; guarded by queueLock (journal writes too)
+    private final Map<String, OutboundSyncEntry> pending = new LinkedHashMap<>();
+    private final Object queueLock = new Object();
+    private int doneRecords = 0;
+
+    // Records appended to the journal / covered by the last flush; flushedRecords is guarded by flushLock
+    private final AtomicLong appendedRecords = new AtomicLong();
+    private final Object flushLock = new Object();
+    private long flushedRecords = 0;
+
+    private final AtomicLong sequence = new AtomicLong(0);
+    private final AtomicBoolean replayRunning = new AtomicBoolean(false);
+    private final AtomicLong queuedCount = new AtomicLong();
+    private final AtomicLong deduplicatedCount = new AtomicLong();
+    private final AtomicLong syncedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private volatile LocalDateTime lastReplayTime;
+    private volatile String lastError;
+
+    @Autowired
+    public OutboundSyncQueueService(PathConfig pathConfig, ObjectMapper objectMapper,
+                                    SyncFilesService syncFilesService, FilePathResolver pathResolver,
+                                    @Lazy ScheduledJobRuntime scheduledJobRuntime) {
+        this.pathConfig = pathConfig;
+        this.objectMapper = objectMapper;
+        this.lineWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.syncFilesService = syncFilesService;
+        this.pathResolver = pathResolver;
+        this.scheduledJobRuntime = scheduledJobRuntime;
+        LoggerUtil.initialize(this.getClass(), null);
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            synchronized (queueLock) {
+                loadJournal();
+                compactJournal();
+            }
+            LoggerUtil.info(this.getClass(), "Outbound sync queue ready: {} pending writes, last sequence {}",
+                    pending.size(), sequence.get());
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error initializing outbound sync queue: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Queues a local write for network propagation.
+     *
+     * @param localPath Local file that was written
+     * @return Sequence of the queued write (pass it to markSynced), or -1 if the file is outside the local root
+     */
+    public long enqueue(FilePath localPath) {
+        String relativePath = toRelativePath(localPath.getPath());
+        if (relativePath == null) {
+            LoggerUtil.warn(this.getClass(), "Not queuing sync for file outside the local root: {}", localPath.getPath());
+            return -1;
+        }
+
+        OutboundSyncEntry entry;
+        long record;
+        synchronized (queueLock) {
+            LocalDateTime now = LocalDateTime.now();
+            OutboundSyncEntry existing = pending.get(relativePath);
+            entry = new OutboundSyncEntry(sequence.incrementAndGet(), OutboundSyncEntry.Action.QUEUED,
+                    relativePath, localPath.getUsername().orElse(null), localPath.getUserId().orElse(null),
+                    existing != null ? existing.getFirstQueuedAt() : now, now);
+
+            record = appendRecord(entry);
+            // Replacing an existing key keeps its place in the queue
+            pending.put(relativePath, entry);
+
+            queuedCount.incrementAndGet();
+            if (existing != null) {
+                deduplicatedCount.incrementAndGet();
+            }
+        }
+
+        // QUEUED records must be on disk before the write is reported as queued
+        flushJournal(record);
+        return entry.getSequence();
+    }
+
+    /**
+     * Marks a queued write as synced. A newer write of the same file queued meanwhile stays pending.
+     *
+     * @param localPath Local file that was synced
+     * @param syncedSequence Sequence returned by enqueue for the write that was synced
+     * @return true if the file left the queue
+     */
+    public boolean markSynced(FilePath localPath, long syncedSequence) {
+        String relativePath = toRelativePath(localPath.getPath());
+        return relativePath != null && complete(relativePath, syncedSequence);
+    }
+
+    /**
+     * Replays pending writes oldest first, one limited batch per run.
+     */
+    @Scheduled(fixedDelayString = "${app.sync.outbound.interval:30000}")
+    @ScheduledJob(name = REPLAY_JOB, io = JobIoClass.NETWORK)
+    public void replayPending() {
+        if (!pathConfig.isNetworkAvailable() || !replayRunning.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            int limit = pathConfig.isNetworkDegraded() ? Math.max(1, degradedBatchSize) : Math.max(1, batchSize);
+            List<OutboundSyncEntry> batch;
+            synchronized (queueLock) {
+                batch = pending.values().stream().limit(limit).toList();
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            LoggerUtil.info(this.getClass(), "Replaying {} of {} pending network syncs", batch.size(), getPendingCount());
+            int replayed = 0;
+            for (OutboundSyncEntry entry : batch) {
+                if (!pathConfig.isNetworkAvailable()) {
+                    LoggerUtil.info(this.getClass(), "Network lost during sync replay, {} writes stay queued", getPendingCount());
+                    break;
+                }
+                if (replayEntry(entry)) {
+                    replayed++;
+                }
+                if (throttleMs > 0) {
+                    Thread.sleep(throttleMs);
+                }
+            }
+
+            lastReplayTime = LocalDateTime.now();
+            LoggerUtil.info(this.getClass(), "Sync replay finished: {} synced, {} still pending", replayed, getPendingCount());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            replayRunning.set(false);
+        }
+    }
+
+    /**
+     * Starts a replay as soon as the share is back (or healthy again after being degraded).
+     */
+    @EventListener
+    public void handleNetworkStatusChanged(NetworkStatusChangedEvent event) {
+        if (!event.isNetworkAvailable() || (event.isDegraded() && !event.isAvailabilityChanged()) || getPendingCount() == 0) {
+            return;
+        }
+
+        LoggerUtil.info(this.getClass(), "Network available - replaying {} queued writes", getPendingCount());
+        // Same job as the periodic replay, so it waits for a network permit like every other network job
+        if (!scheduledJobRuntime.runNow(REPLAY_JOB)) {
+            LoggerUtil.debug(this.getClass(), "Replay job not registered, pending writes wait for the next scheduled run");
+        }
+    }
+
+    public int getPendingCount() {
+        synchronized (queueLock) {
+            return pending.size();
+        }
+    }
+
+    public OutboundSyncQueueStats getStats() {
+        int pendingCount;
+        LocalDateTime oldest = null;
+        synchronized (queueLock) {
+            pendingCount = pending.size();
+            for (OutboundSyncEntry entry : pending.values()) {
+                if (oldest == null || entry.getFirstQueuedAt().isBefore(oldest)) {
+                    oldest = entry.getFirstQueuedAt();
+                }
+            }
+        }
+
+        return OutboundSyncQueueStats.builder()
+                .pending(pendingCount)
+                .oldestQueuedAt(oldest)
+                .oldestAgeSeconds(oldest != null ? Math.max(0, Duration.between(oldest, LocalDateTime.now()).getSeconds()) : 0)
+                .replaying(replayRunning.get())
+                .queued(queuedCount.get())
+                .deduplicated(deduplicatedCount.get())
+                .synced(syncedCount.get())
+                .failed(failedCount.get())
+                .lastReplayTime(lastReplayTime)
+                .lastError(lastError)
+                .build();
+    }
+
+    // Syncs one pending write; false when it has to stay queued
+    private boolean replayEntry(OutboundSyncEntry entry) throws InterruptedException {
+        Path localFile = pathConfig.getLocalPath().resolve(entry.getRelativePath());
+        if (!Files.exists(localFile)) {
+            // Nothing left to propagate
+            LoggerUtil.debug(this.getClass(), "Queued file no longer exists locally, dropping: {}", entry.getRelativePath());
+            complete(entry.getRelativePath(), entry.getSequence());
+            return true;
+        }
+
+        FilePath localPath = FilePath.local(localFile, entry.getUsername(), entry.getUserId());
+        try {
+            FileOperationResult result = syncFilesService.syncToNetwork(localPath, pathResolver.toNetworkPath(localPath))
+                    .get(syncTimeoutMs, TimeUnit.MILLISECONDS);
+            if (result.isSuccess()) {
+                complete(entry.getRelativePath(), entry.getSequence());
+                return true;
+            }
+            recordFailure(entry, result.getErrorMessage().orElse("Unknown sync error"));
+        } catch (TimeoutException e) {
+            recordFailure(entry, "Sync timed out after " + syncTimeoutMs + " ms");
+        } catch (ExecutionException e) {
+            recordFailure(entry, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+        }
+        return false;
+    }
+
+    private void recordFailure(OutboundSyncEntry entry, String error) {
+        failedCount.incrementAndGet();
+        lastError = entry.getRelativePath() + ": " + error;
+        LoggerUtil.warn(this.getClass(), "Queued sync failed for {}: {}", entry.getRelativePath(), error);
+    }
+
+    private boolean complete(String relativePath, long syncedSequence) {
+        synchronized (queueLock) {
+            OutboundSyncEntry entry = pending.get(relativePath);
+            if (entry == null || entry.getSequence() > syncedSequence) {
+                return false;
+            }
+
+            pending.remove(relativePath);
+            // Not flushed: a lost DONE record only causes a repeated sync
+            appendRecord(new OutboundSyncEntry(entry.getSequence(), OutboundSyncEntry.Action.DONE, relativePath,
+                    entry.getUsername(), entry.getUserId(), entry.getFirstQueuedAt(), LocalDateTime.now()));
+            syncedCount.incrementAndGet();
+
+            if (++doneRecords >= COMPACTION_DONE_RECORDS) {
+                compactJournal();
+            }
+            return true;
+        }
+    }
+
+    // Called with queueLock held. Appends without forcing to disk; returns the record number to pass to flushJournal
+    private long appendRecord(OutboundSyncEntry entry) {
+        try {
+            Path journalPath = getJournalPath();
+            Files.createDirectories(journalPath.getParent());
+
+            byte[] line = (lineWriter.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+            Files.write(journalPath, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LoggerUtil.error(this.getClass(), String.format("Failed to journal sync %s for %s: %s",
+                    entry.getAction(), entry.getRelativePath(), e.getMessage()), e);
+        }
+        return appendedRecords.incrementAndGet();
+    }
+
+    // Forces the journal to disk unless a flush since the given record was appended already did.
+    // Callers arriving during a flush wait for it and then usually find their record covered
+    private void flushJournal(long record) {
+        synchronized (flushLock) {
+            if (flushedRecords >= record) {
+                return;
+            }
+            long covered = appendedRecords.get();
+            try (FileChannel channel = FileChannel.open(getJournalPath(), StandardOpenOption.WRITE)) {
+                channel.force(false);
+                flushedRecords = covered;
+            } catch (IOException e) {
+                LoggerUtil.error(this.getClass(), "Failed to flush sync queue journal: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    // Called with queueLock held
+    private void loadJournal() throws IOException {
+        Path journalPath = getJournalPath();
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        long lastSequence = 0;
+        for (String line : Files.readAllLines(journalPath, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            OutboundSyncEntry entry;
+            try {
+                entry = objectMapper.readValue(line, OutboundSyncEntry.class);
+            } catch (IOException e) {
+                // A torn or corrupt line must not block the queue
+                LoggerUtil.warn(this.getClass(), "Skipping unreadable sync queue line: " + e.getMessage());
+                continue;
+            }
+
+            lastSequence = Math.max(lastSequence, entry.getSequence());
+            if (entry.getAction() == OutboundSyncEntry.Action.QUEUED) {
+                pending.put(entry.getRelativePath(), entry);
+            } else {
+                OutboundSyncEntry queued = pending.get(entry.getRelativePath());
+                if (queued != null && queued.getSequence() <= entry.getSequence()) {
+                    pending.remove(entry.getRelativePath());
+                }
+            }
+        }
+        sequence.set(lastSequence);
+    }
+
+    // Called with queueLock held. Rewrites the journal with the pending entries only (temp file + move)
+    private void compactJournal() {
+        Path journalPath = getJournalPath();
+        Path tempPath = journalPath.resolveSibling(JOURNAL_FILENAME + ".tmp");
+        try {
+            Files.createDirectories(journalPath.getParent());
+            List<String> lines = new ArrayList<>(pending.size());
+            for (OutboundSyncEntry entry : pending.values()) {
+                lines.add(lineWriter.writeValueAsString(entry));
+            }
+            Files.write(tempPath, lines, StandardCharsets.UTF_8);
+            // Pending records may not have been flushed yet - the rewritten journal must hold them durably
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+                channel.force(false);
+            }
+            try {
+                Files.move(tempPath, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, journalPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            doneRecords = 0;
+        } catch (IOException e) {
+            LoggerUtil.warn(this.getClass(), "Could not compact sync queue journal: " + e.getMessage());
+        }
+    }
+
+    private String toRelativePath(Path path) {
+        Path localRoot = pathConfig.getLocalPath();
+        if (path == null || !path.startsWith(localRoot)) {
+            return null;
+        }
+        return localRoot.relativize(path).toString().replace('\\', '/');
+    }
+
+    private Path getJournalPath() {
+        return pathConfig.getLocalPath().resolve(pathConfig.getBackupPath()).resolve(JOURNAL_FILENAME);
+    }
+}
@@ -1,10 +1,13 @@
 package com.ctgraphdep.fileOperations.service;
 
+import com.ctgraphdep.fileOperations.config.PathConfig;
 import com.ctgraphdep.fileOperations.core.FilePath;
 import com.ctgraphdep.fileOperations.core.FileOperationResult;
 import com.ctgraphdep.fileOperations.model.SyncMetadata;
 import com.ctgraphdep.fileOperations.model.SyncStatus;
 
+import com.ctgraphdep.scheduling.JobIoClass;
+import com.ctgraphdep.scheduling.ScheduledJob;
 import com.ctgraphdep.utils.LoggerUtil;
 import com.ctgraphdep.validation.GetStandardTimeValuesCommand;
 import com.ctgraphdep.validation.TimeValidationService;
@@ -13,8 +16,6 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import jakarta.annotation.PreDestroy;
-
 import java.io.IOException;
 import java.nio.file.*;
 import java.time.LocalDateTime;
@@ -35,19 +36,24 @@ public class SyncFilesService {
     @Value("${app.sync.metadata.path:sync_metadata}")
     private String metadataPath;
 
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    @Value("${app.sync.retry.degraded-batch:5}")
+    private int degradedRetryBatch; // Max retries per run while the network is degraded
+
     private final BackupService backupService;
     private final TimeValidationService timeValidationService;
     private final FilePathResolver pathResolver;
+    private final PathConfig pathConfig;
     private final Map<String, SyncStatus> syncStatusMap = new ConcurrentHashMap<>();
 
     public SyncFilesService(
             BackupService backupService,
             TimeValidationService timeValidationService,
-            FilePathResolver pathResolver) {
+            FilePathResolver pathResolver,
+            PathConfig pathConfig) {
         this.backupService = backupService;
         this.timeValidationService = timeValidationService;
         this.pathResolver = pathResolver;
+        this.pathConfig = pathConfig;
         LoggerUtil.initialize(this.getClass(), null);
     }
 
@@ -191,10 +197,14 @@ public class SyncFilesService {
      * Periodically retry failed syncs
      */
     @Scheduled(fixedRateString = "${app.sync.retry.interval:3600000}")
+    @ScheduledJob(name = "failed-sync-retry", io = JobIoClass.NETWORK)
     public void retryFailedSyncs() {
+        // Slow share: retry a small batch per run, the rest waits for the next run
+        long limit = pathConfig.isNetworkDegraded() ? Math.max(1, degradedRetryBatch) : Long.MAX_VALUE;
         List<SyncStatus> failedSyncs = syncStatusMap.values().stream()
                 .filter(s -> s.isSyncPending() && !s.isSyncInProgress())
                 .filter(this::shouldRetrySync)
+                .limit(limit)
                 .toList();
 
         if (!failedSyncs.isEmpty()) {
@@ -389,18 +399,4 @@ public class SyncFilesService {
             }
         }
     }
-
-    @PreDestroy
-    public void shutdown() {
-        scheduler.shutdown();
-        try {
-            if (!scheduler.awaitTermination(60, TimeUnit.SECONDS)) {
-                scheduler.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            scheduler.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
-        LoggerUtil.info(this.getClass(), "File sync service scheduler shutdown completed");
-    }
 }
\ No newline at end of file
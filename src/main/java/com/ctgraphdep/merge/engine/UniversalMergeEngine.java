@@ -4,8 +4,6 @@ import com.ctgraphdep.merge.enums.EntityType;
 import com.ctgraphdep.merge.constants.MergingStatusConstants;
 import com.ctgraphdep.utils.LoggerUtil;
 
-import java.util.Arrays;
-
 /**
  * Universal Merge Engine - Enhanced with proper admin-wins conflict resolution.
  * Core Principles:
@@ -37,10 +35,12 @@ public enum UniversalMergeEngine {
                         return entry2;
                     }
                 } else if (isFinalState(entry1)) {
-                    LoggerUtil.debug(UniversalMergeEngine.class, String.format("Final state rule: entry1 is final (%s)", getStatusString(entry1)));
+                    LoggerUtil.debug(UniversalMergeEngine.class, "Final state rule: entry1 is final ({})",
+                            getStatusString(entry1));
                     return entry1;
                 } else {
-                    LoggerUtil.debug(UniversalMergeEngine.class, String.format("Final state rule: entry2 is final (%s)", getStatusString(entry2)));
+                    LoggerUtil.debug(UniversalMergeEngine.class, "Final state rule: entry2 is final ({})",
+                            getStatusString(entry2));
                     return entry2;
                 }
             }
@@ -63,15 +63,15 @@ public enum UniversalMergeEngine {
                     winner = resolveTimestampConflict(entry1, entry2);
 
                     LoggerUtil.info(UniversalMergeEngine.class,
-                            String.format("Timestamp conflict resolved: timestamp=%d, winner=%s (admin-wins rule)",
-                                    timestamp1, getStatusString(winner)));
+                            "Timestamp conflict resolved: timestamp={}, winner={} (admin-wins rule)",
+                            timestamp1, getStatusString(winner));
                 } else {
                     // Different timestamps: newest wins
                     winner = timestamp1 > timestamp2 ? entry1 : entry2;
 
                     LoggerUtil.debug(UniversalMergeEngine.class,
-                            String.format("Versioned edit rule: timestamp1=%d, timestamp2=%d, winner timestamp=%d",
-                                    timestamp1, timestamp2, extractTimestamp(winner)));
+                            "Versioned edit rule: timestamp1={}, timestamp2={}, winner timestamp={}",
+                            timestamp1, timestamp2, extractTimestamp(winner));
                 }
 
                 return winner;
@@ -129,10 +129,8 @@ public enum UniversalMergeEngine {
                 UniversalMergeableEntity winner = priority1 >= priority2 ? entry1 : entry2;
 
                 LoggerUtil.debug(UniversalMergeEngine.class,
-                        String.format("Base input rule: %s(priority=%d) vs %s(priority=%d), winner=%s",
-                                getStatusString(entry1), priority1,
-                                getStatusString(entry2), priority2,
-                                getStatusString(winner)));
+                        "Base input rule: {}(priority={}) vs {}(priority={}), winner={}",
+                        getStatusString(entry1), priority1, getStatusString(entry2), priority2, getStatusString(winner));
 
                 return winner;
             }
@@ -176,7 +174,7 @@ public enum UniversalMergeEngine {
             (entry1, entry2, entityType) -> {
                 UniversalMergeableEntity result = entry1 != null ? entry1 : entry2;
                 LoggerUtil.debug(UniversalMergeEngine.class,
-                        String.format("Single entry fallback: returning %s", getStatusString(result)));
+                        "Single entry fallback: returning {}", getStatusString(result));
                 return result;
             }
     ),
@@ -195,6 +193,9 @@ public enum UniversalMergeEngine {
     // ENUM INFRASTRUCTURE
     // ========================================================================
 
+    // values() clones the array on every call, merge() runs once per entry pair
+    private static final UniversalMergeEngine[] RULES = values();
+
     private final TriPredicate<UniversalMergeableEntity, UniversalMergeableEntity, EntityType> condition;
     private final TriFunction<UniversalMergeableEntity, UniversalMergeableEntity, EntityType, UniversalMergeableEntity> action;
 
@@ -214,23 +215,26 @@ public enum UniversalMergeEngine {
      */
     public static <T extends UniversalMergeableEntity> T merge(T entry1, T entry2, EntityType entityType) {
         LoggerUtil.debug(UniversalMergeEngine.class,
-                String.format("Universal merge [%s]: entry1=%s, entry2=%s",
-                        entityType, getStatusString(entry1), getStatusString(entry2)));
+                "Universal merge [{}]: entry1={}, entry2={}", entityType, getStatusString(entry1), getStatusString(entry2));
 
         if (entry1 == null && entry2 == null) {
             LoggerUtil.debug(UniversalMergeEngine.class, "Both entries null, returning null");
             return null;
         }
 
-        @SuppressWarnings("unchecked")
-        T result = (T) Arrays.stream(values())
-                .filter(rule -> rule.condition.test(entry1, entry2, entityType))
-                .findFirst()
-                .map(rule -> rule.action.apply(entry1, entry2, entityType))
-                .orElse(null);
+        // First matching rule wins (rules are declared in priority order)
+        T result = null;
+        for (UniversalMergeEngine rule : RULES) {
+            if (rule.condition.test(entry1, entry2, entityType)) {
+                @SuppressWarnings("unchecked")
+                T winner = (T) rule.action.apply(entry1, entry2, entityType);
+                result = winner;
+                break;
+            }
+        }
 
         LoggerUtil.debug(UniversalMergeEngine.class,
-                String.format("Merge result [%s]: %s", entityType, getStatusString(result)));
+                "Merge result [{}]: {}", entityType, getStatusString(result));
 
         return result;
     }
@@ -297,13 +301,11 @@ public enum UniversalMergeEngine {
         // Rule 1: Latest timestamp wins
         if (timestamp1 > timestamp2) {
             LoggerUtil.debug(UniversalMergeEngine.class,
-                    String.format("Latest timestamp wins: %s (t=%d) beats %s (t=%d)",
-                            status1, timestamp1, status2, timestamp2));
+                    "Latest timestamp wins: {} (t={}) beats {} (t={})", status1, timestamp1, status2, timestamp2);
             return entry1;
         } else if (timestamp2 > timestamp1) {
             LoggerUtil.debug(UniversalMergeEngine.class,
-                    String.format("Latest timestamp wins: %s (t=%d) beats %s (t=%d)",
-                            status2, timestamp2, status1, timestamp1));
+                    "Latest timestamp wins: {} (t={}) beats {} (t={})", status2, timestamp2, status1, timestamp1);
             return entry2;
         }
 
@@ -313,18 +315,18 @@ public enum UniversalMergeEngine {
 
         if (priority1 > priority2) {
             LoggerUtil.debug(UniversalMergeEngine.class,
-                    String.format("Equal timestamps, editor priority wins: %s (priority=%d) beats %s (priority=%d)",
-                            status1, priority1, status2, priority2));
+                    "Equal timestamps, editor priority wins: {} (priority={}) beats {} (priority={})",
+                    status1, priority1, status2, priority2);
             return entry1;
         } else if (priority2 > priority1) {
             LoggerUtil.debug(UniversalMergeEngine.class,
-                    String.format("Equal timestamps, editor priority wins: %s (priority=%d) beats %s (priority=%d)",
-                            status2, priority2, status1, priority1));
+                    "Equal timestamps, editor priority wins: {} (priority={}) beats {} (priority={})",
+                    status2, priority2, status1, priority1);
             return entry2;
         } else {
             // Same timestamp AND same editor type - default to entry1
             LoggerUtil.debug(UniversalMergeEngine.class,
-                    String.format("Identical timestamps and priorities (%d), defaulting to entry1", priority1));
+                    "Identical timestamps and priorities ({}), defaulting to entry1", priority1);
             return entry1;
         }
     }
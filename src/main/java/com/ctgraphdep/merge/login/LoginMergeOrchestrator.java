@@ -234,6 +234,11 @@ public class LoginMergeOrchestrator implements LoginMergeService, ApplicationLis
     @Override
     public void onApplicationEvent(NetworkStatusChangedEvent event) {
         if (event.isNetworkAvailable()) {
+            // Healthy -> degraded is not a reason to retry; degraded -> healthy is
+            if (!event.isAvailabilityChanged() && event.isDegraded()) {
+                LoggerUtil.info(this.getClass(), "Network degraded - login merges continue, pending retries wait for recovery");
+                return;
+            }
             LoggerUtil.info(this.getClass(), "Network available - retrying pending merge operations");
             retryPendingMerges();
         } else {
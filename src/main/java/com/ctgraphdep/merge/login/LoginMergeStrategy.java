@@ -3,6 +3,7 @@ package com.ctgraphdep.merge.login;
 import com.ctgraphdep.utils.LoggerUtil;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -20,6 +21,9 @@ public class LoginMergeStrategy {
     // Thread-safe login counter, starts at 0 each day/app restart
     private final AtomicInteger dailyLoginCount = new AtomicInteger(0);
 
+    // Date of the last counted login (null before the first one)
+    private volatile LocalDate lastLoginDate;
+
     public LoginMergeStrategy() {
         LoggerUtil.initialize(this.getClass(), null);
         LoggerUtil.info(this.getClass(), "LoginMergeStrategy initialized - daily login counter reset to 0");
@@ -37,6 +41,7 @@ public class LoginMergeStrategy {
      */
     public int incrementAndGetLoginCount() {
         int newCount = dailyLoginCount.incrementAndGet();
+        lastLoginDate = LocalDate.now();
         LoggerUtil.info(this.getClass(), String.format("Daily login count incremented to: %d", newCount));
         return newCount;
     }
@@ -50,6 +55,14 @@ public class LoginMergeStrategy {
         return dailyLoginCount.get();
     }
 
+    /**
+     * Whether a login was counted on a day after the given one (e.g. a late day rollover must not reset it).
+     */
+    public boolean hasLoginAfter(LocalDate date) {
+        LocalDate last = lastLoginDate;
+        return last != null && last.isAfter(date);
+    }
+
     /**
      * Reset login count to 0.
      * Called by SessionMidnightHandler at midnight.
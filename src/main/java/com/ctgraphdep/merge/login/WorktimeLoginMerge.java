@@ -8,7 +8,9 @@ import com.ctgraphdep.model.WorkTimeTable;
 import com.ctgraphdep.model.TimeOffTracker;
 import com.ctgraphdep.model.TimeOffRequest;
 import com.ctgraphdep.service.cache.MainDefaultUserContextCache;
+import com.ctgraphdep.service.cache.TimeOffLedger;
 import com.ctgraphdep.utils.LoggerUtil;
+import com.ctgraphdep.worktime.model.AdminWorktimeMonth;
 import com.ctgraphdep.utils.CalculateWorkHoursUtil;
 import com.ctgraphdep.worktime.service.WorktimeMergeService;
 import com.ctgraphdep.worktime.util.StatusCleanupUtil;
@@ -25,7 +27,6 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 @Service
 public class WorktimeLoginMerge {
@@ -190,14 +191,9 @@ public class WorktimeLoginMerge {
                 userEntries = new ArrayList<>();
             }
 
-            // Load admin network worktime entries for this user
-            List<WorkTimeTable> allAdminEntries = worktimeDataService.readAdminByUserNetworkReadOnly(year, month);
-            if (allAdminEntries == null) {
-                allAdminEntries = new ArrayList<>();
-            }
-
-            // Filter admin entries for this specific user
-            List<WorkTimeTable> userAdminEntries = filterAdminEntriesForUser(allAdminEntries, userId);
+            // Load admin network worktime indexed by user, then take this user's entries
+            AdminWorktimeMonth adminMonth = worktimeDataService.readAdminMonthNetworkReadOnly(year, month);
+            List<WorkTimeTable> userAdminEntries = adminMonth.getUserEntries(userId);
 
             // OPTIMIZATION 3: Complete status cleanup BEFORE merge (perpetuates changes to files)
             boolean userCleanupNeeded = StatusCleanupUtil.cleanupStatuses(
@@ -312,18 +308,16 @@ public class WorktimeLoginMerge {
             }
 
             // Compare and add missing entries
-            List<TimeOffRequest> newRequests = findMissingTimeOffRequests(timeOffEntries, tracker);
+            TimeOffLedger ledger = TimeOffLedger.of(tracker);
+            List<TimeOffRequest> newRequests = findMissingTimeOffRequests(timeOffEntries, ledger);
 
             if (newRequests.isEmpty()) {
                 LoggerUtil.debug(this.getClass(), String.format("No missing time off entries to add to tracker for %s - %d", username, year));
                 return false;
             }
 
-            // Add new requests to tracker
-            if (tracker.getRequests() == null) {
-                tracker.setRequests(new ArrayList<>());
-            }
-            tracker.getRequests().addAll(newRequests);
+            // Add new requests to tracker (a request of another type on the same date is replaced)
+            newRequests.forEach(ledger::put);
 
             // Update tracker metadata
             tracker.setLastSyncTime(LocalDateTime.now());
@@ -361,24 +355,17 @@ public class WorktimeLoginMerge {
     }
 
     // Find time off entries that are missing from the tracker.
-    private List<TimeOffRequest> findMissingTimeOffRequests(Map<LocalDate, String> timeOffEntries, TimeOffTracker tracker) {
+    private List<TimeOffRequest> findMissingTimeOffRequests(Map<LocalDate, String> timeOffEntries, TimeOffLedger ledger) {
         List<TimeOffRequest> newRequests = new ArrayList<>();
 
-        // Create lookup map of existing tracker requests
-        Map<LocalDate, String> existingRequests = new HashMap<>();
-        if (tracker.getRequests() != null) {
-            for (TimeOffRequest request : tracker.getRequests()) {
-                existingRequests.put(request.getDate(), request.getTimeOffType());
-            }
-        }
-
         // Find missing entries
         for (Map.Entry<LocalDate, String> entry : timeOffEntries.entrySet()) {
             LocalDate date = entry.getKey();
             String timeOffType = entry.getValue();
 
             // Check if tracker already has same date + same timeOffType
-            String existingType = existingRequests.get(date);
+            TimeOffRequest existing = ledger.get(date);
+            String existingType = existing != null ? existing.getTimeOffType() : null;
             if (!timeOffType.equals(existingType)) {
                 // Missing or different - create new request
                 TimeOffRequest newRequest = createTimeOffRequest(date, timeOffType);
@@ -438,15 +425,6 @@ public class WorktimeLoginMerge {
         }
     }
 
-    // Filter admin entries for specific user by userId
-    private List<WorkTimeTable> filterAdminEntriesForUser(List<WorkTimeTable> adminEntries, Integer userId) {
-        if (userId == null) {
-            return new ArrayList<>();
-        }
-
-        return adminEntries.stream().filter(entry -> userId.equals(entry.getUserId())).collect(Collectors.toList());
-    }
-
     // ========================================================================
     // POST-MERGE ZS (SHORT DAY) VALIDATION
     // ========================================================================
@@ -0,0 +1,152 @@
+package com.ctgraphdep.model;
+
+import com.ctgraphdep.enums.ActionType;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Column-oriented view of one month of admin register entries for all users.
+ * Entries are stored as parallel primitive arrays and grouped per user into contiguous segments:
+ * entries of users[i] occupy the range [segmentStart[i], segmentStart[i + 1]).
+ * Built once per month so bonus and summary kernels can process every user in a single pass
+ * instead of walking List<RegisterEntry> objects user by user.
+ */
+@Getter
+public final class RegisterMonthColumns {
+
+    // Code stored for action types that are not part of ActionType
+    public static final byte UNKNOWN_ACTION_TYPE = -1;
+
+    private static final ActionType[] ACTION_TYPES = ActionType.values();
+
+    private final int year;
+    private final int month;
+
+    // Per user (segment)
+    private final int[] userIds;
+    private final int[] segmentStart;
+
+    // Per entry
+    private final int[] entryUserIds;
+    private final int[] dates;
+    private final int[] articleNumbers;
+    private final double[] graphicComplexity;
+    private final byte[] actionTypeCodes;
+
+    private RegisterMonthColumns(Builder builder) {
+        this.year = builder.year;
+        this.month = builder.month;
+        this.userIds = Arrays.copyOf(builder.userIds, builder.userCount);
+        this.segmentStart = Arrays.copyOf(builder.segmentStart, builder.userCount + 1);
+        this.entryUserIds = Arrays.copyOf(builder.entryUserIds, builder.size);
+        this.dates = Arrays.copyOf(builder.dates, builder.size);
+        this.articleNumbers = Arrays.copyOf(builder.articleNumbers, builder.size);
+        this.graphicComplexity = Arrays.copyOf(builder.graphicComplexity, builder.size);
+        this.actionTypeCodes = Arrays.copyOf(builder.actionTypeCodes, builder.size);
+    }
+
+    public static Builder builder(int year, int month) {
+        return new Builder(year, month);
+    }
+
+    public int size() {
+        return entryUserIds.length;
+    }
+
+    public int userCount() {
+        return userIds.length;
+    }
+
+    /**
+     * Maps an action type value (as stored in the register files) to its column code.
+     */
+    public static byte actionTypeCode(String actionType) {
+        if (actionType != null) {
+            for (ActionType type : ACTION_TYPES) {
+                if (type.getValue().equals(actionType)) {
+                    return (byte) type.ordinal();
+                }
+            }
+        }
+        return UNKNOWN_ACTION_TYPE;
+    }
+
+    /**
+     * Lookup table indexed by action type code, true for codes that count towards the bonus.
+     */
+    public static boolean[] bonusEligibleCodes() {
+        boolean[] eligible = new boolean[ACTION_TYPES.length];
+        List<String> eligibleValues = ActionType.getBonusEligibleValues();
+        for (ActionType type : ACTION_TYPES) {
+            eligible[type.ordinal()] = eligibleValues.contains(type.getValue());
+        }
+        return eligible;
+    }
+
+    public static final class Builder {
+        private final int year;
+        private final int month;
+
+        private int[] userIds = new int[16];
+        private int[] segmentStart = new int[17];
+        private int userCount = 0;
+
+        private int[] entryUserIds = new int[256];
+        private int[] dates = new int[256];
+        private int[] articleNumbers = new int[256];
+        private double[] graphicComplexity = new double[256];
+        private byte[] actionTypeCodes = new byte[256];
+        private int size = 0;
+
+        private Builder(int year, int month) {
+            this.year = year;
+            this.month = month;
+        }
+
+        /**
+         * Appends one user's entries as a new segment. Missing numeric values are stored as 0.
+         */
+        public Builder addUser(int userId, List<RegisterEntry> entries) {
+            if (userCount == userIds.length) {
+                userIds = Arrays.copyOf(userIds, userIds.length * 2);
+                segmentStart = Arrays.copyOf(segmentStart, userIds.length + 1);
+            }
+            userIds[userCount] = userId;
+            segmentStart[userCount] = size;
+
+            if (entries != null) {
+                ensureCapacity(size + entries.size());
+                for (RegisterEntry entry : entries) {
+                    entryUserIds[size] = userId;
+                    dates[size] = entry.getDate() != null ? (int) entry.getDate().toEpochDay() : 0;
+                    articleNumbers[size] = entry.getArticleNumbers() != null ? entry.getArticleNumbers() : 0;
+                    graphicComplexity[size] = entry.getGraphicComplexity() != null ? entry.getGraphicComplexity() : 0.0;
+                    actionTypeCodes[size] = actionTypeCode(entry.getActionType());
+                    size++;
+                }
+            }
+
+            userCount++;
+            segmentStart[userCount] = size;
+            return this;
+        }
+
+        public RegisterMonthColumns build() {
+            return new RegisterMonthColumns(this);
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= entryUserIds.length) {
+                return;
+            }
+            int capacity = Math.max(required, entryUserIds.length * 2);
+            entryUserIds = Arrays.copyOf(entryUserIds, capacity);
+            dates = Arrays.copyOf(dates, capacity);
+            articleNumbers = Arrays.copyOf(articleNumbers, capacity);
+            graphicComplexity = Arrays.copyOf(graphicComplexity, capacity);
+            actionTypeCodes = Arrays.copyOf(actionTypeCodes, capacity);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.ctgraphdep.model;
+
+import com.ctgraphdep.config.WorkCode;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Small per-user month summary published by each user's instance next to its data files
+ * (worktime, register, check register and the last session state). Admin and team lead views read these
+ * instead of the users' full month files. Readers ignore summaries of another version and fall back to the raw files.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserMonthSummary {
+
+    // Bump when a section changes meaning; readers only trust summaries of their own version
+    public static final int CURRENT_VERSION = 1;
+
+    private int version;
+    private String username;
+    private Integer userId;
+    private int year;
+    private int month;
+    private LocalDateTime generatedAt;
+
+    private WorktimeSummary worktime;
+    private RegisterSummary register;
+    private CheckRegisterSummary checkRegister;
+    private SessionSnapshot session;
+
+    @JsonIgnore
+    public boolean isCurrentVersion() {
+        return version == CURRENT_VERSION;
+    }
+
+    // ========================================================================
+    // SECTIONS
+    // ========================================================================
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class WorktimeSummary {
+        private int entries;
+        private int workedDays;
+        private long totalWorkedMinutes;
+        private long totalOvertimeMinutes;
+
+        // Averages of the hour and minute parts, as the team statistics compute them; null without data
+        private Double averageStartHour;
+        private Double averageStartMinute;
+        private Double averageEndHour;
+        private Double averageEndMinute;
+
+        private Map<String, Integer> timeOffCounts = new TreeMap<>();
+        private Map<String, List<LocalDate>> timeOffDays = new TreeMap<>();
+
+        public static WorktimeSummary of(List<WorkTimeTable> entries) {
+            WorktimeSummary summary = new WorktimeSummary();
+            if (entries == null) {
+                return summary;
+            }
+
+            long startHours = 0, startMinutes = 0, endHours = 0, endMinutes = 0;
+            int starts = 0, ends = 0;
+
+            for (WorkTimeTable entry : entries) {
+                summary.entries++;
+                if (entry.getDayStartTime() != null) {
+                    startHours += entry.getDayStartTime().getHour();
+                    startMinutes += entry.getDayStartTime().getMinute();
+                    starts++;
+                }
+                if (entry.getDayEndTime() != null) {
+                    endHours += entry.getDayEndTime().getHour();
+                    endMinutes += entry.getDayEndTime().getMinute();
+                    ends++;
+                }
+                if (entry.getTotalWorkedMinutes() != null && entry.getTotalWorkedMinutes() > 0) {
+                    summary.workedDays++;
+                    summary.totalWorkedMinutes += entry.getTotalWorkedMinutes();
+                }
+                if (entry.getTotalOvertimeMinutes() != null) {
+                    summary.totalOvertimeMinutes += entry.getTotalOvertimeMinutes();
+                }
+                if (entry.getTimeOffType() != null) {
+                    summary.timeOffCounts.merge(entry.getTimeOffType(), 1, Integer::sum);
+                    summary.timeOffDays.computeIfAbsent(entry.getTimeOffType(), k -> new ArrayList<>()).add(entry.getWorkDate());
+                }
+            }
+
+            if (starts > 0) {
+                summary.averageStartHour = (double) startHours / starts;
+                summary.averageStartMinute = (double) startMinutes / starts;
+            }
+            if (ends > 0) {
+                summary.averageEndHour = (double) endHours / ends;
+                summary.averageEndMinute = (double) endMinutes / ends;
+            }
+            return summary;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class RegisterSummary {
+        private int totalEntries;
+        private long articleSum;
+        private double complexitySum;
+        // Entries that are not IMPOSTARE / SPIZED, and all SPIZED entries
+        private int regularEntries;
+        private int spizedEntries;
+
+        private Map<String, Integer> clientCounts = new TreeMap<>();
+        private Map<String, Integer> actionTypeCounts = new TreeMap<>();
+        private Map<String, Integer> printPrepTypeCounts = new TreeMap<>();
+        // Day of month -> entries, IMPOSTARE excluded
+        private Map<Integer, Integer> dailyCounts = new TreeMap<>();
+
+        public static RegisterSummary of(List<RegisterEntry> entries) {
+            RegisterSummary summary = empty();
+            if (entries == null) {
+                return summary;
+            }
+
+            for (RegisterEntry entry : entries) {
+                summary.totalEntries++;
+                summary.articleSum += entry.getArticleNumbers() != null ? entry.getArticleNumbers() : 0;
+                summary.complexitySum += entry.getGraphicComplexity() != null ? entry.getGraphicComplexity() : 0.0;
+
+                String actionType = entry.getActionType();
+                boolean impostare = WorkCode.AT_IMPOSTARE.equals(actionType);
+                boolean spized = actionType != null && actionType.contains(WorkCode.AT_SPIZED);
+                if (spized) {
+                    summary.spizedEntries++;
+                } else if (!impostare) {
+                    summary.regularEntries++;
+                }
+                if (!impostare && entry.getDate() != null) {
+                    summary.dailyCounts.merge(entry.getDate().getDayOfMonth(), 1, Integer::sum);
+                }
+
+                count(summary.clientCounts, entry.getClientName());
+                count(summary.actionTypeCounts, actionType);
+                if (entry.getPrintPrepTypes() != null) {
+                    entry.getPrintPrepTypes().forEach(type -> count(summary.printPrepTypeCounts, type));
+                }
+            }
+            return summary;
+        }
+
+        public static RegisterSummary empty() {
+            return new RegisterSummary();
+        }
+
+        // Adds another user's register summary into this one (used to aggregate a month over all users)
+        public RegisterSummary add(RegisterSummary other) {
+            if (other == null) {
+                return this;
+            }
+            totalEntries += other.totalEntries;
+            articleSum += other.articleSum;
+            complexitySum += other.complexitySum;
+            regularEntries += other.regularEntries;
+            spizedEntries += other.spizedEntries;
+            other.clientCounts.forEach((key, value) -> clientCounts.merge(key, value, Integer::sum));
+            other.actionTypeCounts.forEach((key, value) -> actionTypeCounts.merge(key, value, Integer::sum));
+            other.printPrepTypeCounts.forEach((key, value) -> printPrepTypeCounts.merge(key, value, Integer::sum));
+            other.dailyCounts.forEach((key, value) -> dailyCounts.merge(key, value, Integer::sum));
+            return this;
+        }
+
+        @JsonIgnore
+        public double getAverageArticles() {
+            return totalEntries > 0 ? (double) articleSum / totalEntries : 0.0;
+        }
+
+        @JsonIgnore
+        public double getAverageComplexity() {
+            return totalEntries > 0 ? complexitySum / totalEntries : 0.0;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class CheckRegisterSummary {
+        private int totalEntries;
+        private long articleSum;
+        private long filesSum;
+        private double orderValueSum;
+
+        private Map<String, Integer> checkTypeCounts = new TreeMap<>();
+        private Map<String, Integer> approvalStatusCounts = new TreeMap<>();
+
+        public static CheckRegisterSummary of(List<RegisterCheckEntry> entries) {
+            CheckRegisterSummary summary = new CheckRegisterSummary();
+            if (entries == null) {
+                return summary;
+            }
+
+            for (RegisterCheckEntry entry : entries) {
+                summary.totalEntries++;
+                summary.articleSum += entry.getArticleNumbers() != null ? entry.getArticleNumbers() : 0;
+                summary.filesSum += entry.getFilesNumbers() != null ? entry.getFilesNumbers() : 0;
+                summary.orderValueSum += entry.getOrderValue() != null ? entry.getOrderValue() : 0.0;
+                count(summary.checkTypeCounts, entry.getCheckType());
+                count(summary.approvalStatusCounts, entry.getApprovalStatus());
+            }
+            return summary;
+        }
+    }
+
+    // Session state when the summary was published - the live session file stays authoritative
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class SessionSnapshot {
+        private String sessionStatus;
+        private LocalDateTime dayStartTime;
+        private LocalDateTime dayEndTime;
+        private LocalDateTime lastActivity;
+
+        public static SessionSnapshot of(WorkUsersSessionsStates session) {
+            if (session == null) {
+                return null;
+            }
+            return new SessionSnapshot(session.getSessionStatus(), session.getDayStartTime(), session.getDayEndTime(), session.getLastActivity());
+        }
+    }
+
+    private static void count(Map<String, Integer> counts, String key) {
+        if (key != null) {
+            counts.merge(key, 1, Integer::sum);
+        }
+    }
+}
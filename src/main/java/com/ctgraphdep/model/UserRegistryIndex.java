@@ -0,0 +1,54 @@
+package com.ctgraphdep.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compact index of the network user files, stored next to them on the share.
+ * Maps each username to its user file and the file's fingerprint (size and last modified), so cache refreshes
+ * only re-read changed user files and authentication goes straight to one file instead of listing the directory.
+ * Holds no passwords. Readers ignore an index of another version and fall back to the directory scan.
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserRegistryIndex {
+
+    // Bump when an entry changes meaning; readers only trust indexes of their own version
+    public static final int CURRENT_VERSION = 1;
+
+    private int version;
+    // Last full scan of the users directory
+    private LocalDateTime scannedAt;
+    private LocalDateTime updatedAt;
+    private Map<String, Entry> users = new TreeMap<>();
+
+    @JsonIgnore
+    public boolean isCurrentVersion() {
+        return version == CURRENT_VERSION;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Entry {
+        private Integer userId;
+        private String role;
+        private Integer schedule;
+        private String fileName;
+        // "size:lastModifiedMillis" of the user file, null when unknown (always re-read)
+        private String fingerprint;
+
+        public static Entry of(User user, String fileName, String fingerprint) {
+            return new Entry(user.getUserId(), user.getRole(), user.getSchedule(), fileName, fingerprint);
+        }
+    }
+}
@@ -7,6 +7,8 @@ import com.ctgraphdep.model.dto.team.TimeOffListDTO;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.*;
 
+import java.util.Map;
+
 /**
  * Represents a detailed Team Member model with comprehensive information
  */
@@ -45,4 +47,8 @@ public class TeamMemberDTO {
 
     @JsonProperty("registerStats")
     private TeamMemberRegisterStatsDTO registerStats;
+
+    // Stamps of the source files the statistics were last computed from (input -> "size:lastModified")
+    @JsonProperty("sourceStamps")
+    private Map<String, String> sourceStamps;
 }
\ No newline at end of file
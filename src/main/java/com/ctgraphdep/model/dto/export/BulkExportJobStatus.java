@@ -0,0 +1,37 @@
+package com.ctgraphdep.model.dto.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress snapshot of a bulk export job, returned by the polling endpoint.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkExportJobStatus {
+
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private String jobId;
+    private State state;
+    private boolean toFile;
+    private int totalWorkbooks;
+    private int completedWorkbooks;
+    private int skippedWorkbooks;
+    private int failedWorkbooks;
+    private int progressPercent;
+    private String requestedBy;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Long fileSizeBytes;
+    private String errorMessage;
+}
@@ -0,0 +1,39 @@
+package com.ctgraphdep.model.dto.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bulk export selection: a period inside one year, a set of users and the workbook types to generate.
+ * Empty userIds means all non-admin users; empty types means every type.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkExportRequest {
+
+    public enum WorkbookType {
+        WORKTIME,        // one team workbook per month
+        REGISTER,        // one workbook per user and month
+        CHECK_REGISTER,  // one workbook per check user and month
+        BONUS,           // admin bonus report per month
+        CHECK_BONUS      // check bonus report per month
+    }
+
+    private Integer year;
+    private Integer fromMonth;
+    private Integer toMonth;
+    private List<Integer> userIds;
+    private Set<WorkbookType> types;
+
+    public Set<WorkbookType> getEffectiveTypes() {
+        return types == null || types.isEmpty() ? EnumSet.allOf(WorkbookType.class) : EnumSet.copyOf(types);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ctgraphdep.model.dto.log;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Overview of a user's network log taken from its line index.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogFileSummaryDTO {
+    private String username;
+    private String filename;
+    private long sizeBytes;
+    private int totalLines;
+    private LocalDateTime firstTimestamp;
+    private LocalDateTime lastTimestamp;
+    private int errorCount;
+    private int warnCount;
+    private int infoCount;
+    private int debugCount;
+}
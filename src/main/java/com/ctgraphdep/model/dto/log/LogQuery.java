@@ -0,0 +1,28 @@
+package com.ctgraphdep.model.dto.log;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filtered log query. All filters are optional; results start at fromLine and stop after limit matching lines.
+ * level is the minimum level (WARN returns WARN and ERROR); text is matched case-insensitively.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogQuery {
+    private Integer fromLine;
+    private Integer limit;
+    private String level;
+    private String text;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime fromTime;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime toTime;
+}
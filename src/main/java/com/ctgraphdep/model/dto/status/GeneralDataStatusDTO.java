@@ -238,6 +238,16 @@ public class GeneralDataStatusDTO {
         return base;
     }
 
+    /**
+     * Removes this status' relative edit time ("5m ago") from a text built with it, e.g. a cell tooltip.
+     * Used for markup cached beyond the request, where the page adds the current value from editedDateTime.
+     */
+    public String withoutEditedTimeAgo(String text) {
+        if (text == null || editedTimeAgo == null) return text;
+
+        return text.replace(" (" + editedTimeAgo + ")", "");
+    }
+
     /**
      * Check if this status indicates the entry is locked for editing
      */
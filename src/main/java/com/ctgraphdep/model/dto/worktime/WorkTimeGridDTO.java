@@ -0,0 +1,45 @@
+package com.ctgraphdep.model.dto.worktime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact month grid of the admin worktime table, rendered client side.
+ * Day values are sent as arrays per user instead of one object per cell: the display code of each day
+ * (null when there is no entry) and an index into the legend of CSS classes (0 = no class).
+ * Tooltips and entry details are not included - the editor loads them per cell from /admin/worktime/entry-details.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WorkTimeGridDTO {
+
+    private int year;
+    private int month;
+    private int daysInMonth;
+
+    // Per day (index 0 = day 1)
+    private List<String> dayInitials = new ArrayList<>();
+    private List<Boolean> weekend = new ArrayList<>();
+
+    // CSS classes referenced by the rows' styles, index 0 is always ""
+    private List<String> legend = new ArrayList<>();
+
+    private List<Row> rows = new ArrayList<>();
+
+    @Data
+    public static class Row {
+        private Integer userId;
+        private String name;
+        private Integer employeeId;
+
+        // Per day (index 0 = day 1): display code or null, legend index
+        private List<String> codes = new ArrayList<>();
+        private List<Integer> styles = new ArrayList<>();
+
+        // Regular minutes, overtime minutes, days worked, time off days
+        private int[] totals;
+    }
+}
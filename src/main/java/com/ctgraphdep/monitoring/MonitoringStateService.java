@@ -1,6 +1,8 @@
 package com.ctgraphdep.monitoring;
 
 import com.ctgraphdep.config.WorkCode;
+import com.ctgraphdep.scheduling.JobPriority;
+import com.ctgraphdep.scheduling.ScheduledJob;
 import com.ctgraphdep.utils.LoggerUtil;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,9 +15,12 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
 
 /**
  * Centralized service for managing all monitoring state across the application.
@@ -34,6 +39,8 @@ public class MonitoringStateService {
     private final Map<String, Map<String, Integer>> notificationCountMap = new ConcurrentHashMap<>();
     // Rate limiting for notifications by type
     private final Map<String, LocalDateTime> lastNotificationTimes = new ConcurrentHashMap<>();
+    // Listeners told about state transitions so event deadlines can be re-armed
+    private final List<Consumer<String>> stateChangeListeners = new CopyOnWriteArrayList<>();
 
     // Comprehensive monitoring state object
     @Getter
@@ -86,6 +93,7 @@ public class MonitoringStateService {
         state.setContinuedAfterSchedule(false);
 
         logStateTransition(username, oldMode, MonitoringMode.SCHEDULE);
+        notifyStateChanged(username);
     }
 
     // Transitions to hourly overtime monitoring.Called when a user continues working after schedule completion.
@@ -100,6 +108,7 @@ public class MonitoringStateService {
         state.setLastHourlyWarning(timestamp);
 
         logStateTransition(username, oldMode, MonitoringMode.HOURLY);
+        notifyStateChanged(username);
     }
 
     // Starts temporary stop monitoring.Called when a user starts a temporary stop.
@@ -112,6 +121,7 @@ public class MonitoringStateService {
         state.setTempStopStart(tempStopStart);
 
         logStateTransition(username, oldMode, MonitoringMode.TEMP_STOP);
+        notifyStateChanged(username);
     }
 
     // Resume from temporary stop based on schedule completion status.If schedule is completed, transitions to hourly monitoring, otherwise transitions back to schedule monitoring.
@@ -137,6 +147,7 @@ public class MonitoringStateService {
         // Clear temporary stop state
         state.setTempStopStart(null);
         state.setLastTempStopNotification(null);
+        notifyStateChanged(username);
     }
 
     // Stops all monitoring for a user. Called when a session ends or at midnight reset.
@@ -155,6 +166,7 @@ public class MonitoringStateService {
         userMonitoringStates.remove(username);
 
         LoggerUtil.info(this.getClass(), String.format("Stopped all monitoring for user %s", username));
+        notifyStateChanged(username);
     }
 
     //=============================================
@@ -197,6 +209,12 @@ public class MonitoringStateService {
         return state != null && state.isContinuedAfterSchedule();
     }
 
+    // Gets the time of the last hourly warning (or of continuing after schedule), null if not in overtime.
+    public LocalDateTime getLastHourlyWarning(String username) {
+        MonitoringState state = userMonitoringStates.get(username);
+        return state != null && state.isContinuedAfterSchedule() ? state.getLastHourlyWarning() : null;
+    }
+
     // Checks if an hourly notification is due.
     public boolean isHourlyNotificationDue(String username, LocalDateTime currentTime) {
         MonitoringState state = userMonitoringStates.get(username);
@@ -415,6 +433,7 @@ public class MonitoringStateService {
                     String.format("Successfully scheduled end session for user %s at %s (in %d minutes)",
                             username, endTime, delayMillis / 60000));
 
+            notifyStateChanged(username);
             return true;
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(),
@@ -506,6 +525,9 @@ public class MonitoringStateService {
                 state.setScheduledEndTime(null);
             }
 
+            if (task != null) {
+                notifyStateChanged(username);
+            }
             return successful;
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(),
@@ -540,10 +562,12 @@ public class MonitoringStateService {
         cancelScheduledEnd(username);
 
         LoggerUtil.info(this.getClass(), String.format("Cleared all monitoring state for user %s", username));
+        notifyStateChanged(username);
     }
 
     // Periodic state verification to detect and log inconsistencies.
     @Scheduled(fixedRate = 300000) // Every 5 minutes
+    @ScheduledJob(name = "monitoring-state-verification", priority = JobPriority.LOW)
     public void verifyConsistentState() {
         LoggerUtil.debug(this.getClass(), "Performing monitoring state verification");
 
@@ -604,6 +628,22 @@ public class MonitoringStateService {
     // Helper Methods
     //=============================================
 
+    // Registers a listener called with the username after each monitoring state transition.
+    public void addStateChangeListener(Consumer<String> listener) {
+        stateChangeListeners.add(listener);
+    }
+
+    // Notifies listeners of a state transition. Listener errors never break the transition itself.
+    private void notifyStateChanged(String username) {
+        for (Consumer<String> listener : stateChangeListeners) {
+            try {
+                listener.accept(username);
+            } catch (Exception e) {
+                LoggerUtil.error(this.getClass(), String.format("Error notifying state change for user %s: %s", username, e.getMessage()), e);
+            }
+        }
+    }
+
     // Ensures that a monitoring state exists for a user.
     private void ensureStateExists(String username) {
         userMonitoringStates.computeIfAbsent(username, k -> new MonitoringState());
@@ -2,6 +2,9 @@ package com.ctgraphdep.monitoring;
 
 import com.ctgraphdep.config.FileTypeConstants;
 import com.ctgraphdep.fileOperations.config.PathConfig;
+import com.ctgraphdep.scheduling.JobIoClass;
+import com.ctgraphdep.scheduling.JobPriority;
+import com.ctgraphdep.scheduling.ScheduledJob;
 import com.ctgraphdep.utils.LoggerUtil;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -20,6 +23,7 @@ public class NetworkCleanupService {
     }
 
     @Scheduled(fixedRate = 3600000) // Run every 60 minutes
+    @ScheduledJob(name = "network-orphaned-backup-cleanup", priority = JobPriority.LOW, io = JobIoClass.NETWORK)
     public void cleanupOrphanedBackups() {
         if (!pathConfig.isNetworkAvailable()) {
             return;
@@ -0,0 +1,16 @@
+package com.ctgraphdep.monitoring;
+
+/**
+ * Health of the network share as seen by the NetworkStatusMonitor probes.
+ * DEGRADED means the share answers but slowly (latency or throughput past the configured limits,
+ * or probe writes failing); callers should keep to local data and reduce network fan-out.
+ */
+public enum NetworkHealthLevel {
+    HEALTHY,
+    DEGRADED,
+    DOWN;
+
+    public boolean isAvailable() {
+        return this != DOWN;
+    }
+}
@@ -0,0 +1,74 @@
+package com.ctgraphdep.monitoring;
+
+import java.util.Arrays;
+
+/**
+ * Rolling latency / throughput statistics for the network probes.
+ * Keeps an exponentially weighted moving average of both and a fixed window of recent latencies for percentiles.
+ * Thread-safe; all methods are synchronized (one probe at a time, so there is no contention).
+ */
+class NetworkLatencyTracker {
+
+    private final double alpha;
+    private final long[] window;
+    private int windowCount = 0;
+    private int windowNext = 0;
+
+    private double ewmaLatencyMs = -1;
+    private double ewmaThroughputKbps = -1;
+    private long lastLatencyMs = -1;
+    private double lastThroughputKbps = -1;
+    private long samples = 0;
+
+    NetworkLatencyTracker(double alpha, int windowSize) {
+        this.alpha = alpha;
+        this.window = new long[Math.max(1, windowSize)];
+    }
+
+    synchronized void recordLatency(long latencyMs) {
+        lastLatencyMs = latencyMs;
+        ewmaLatencyMs = ewmaLatencyMs < 0 ? latencyMs : alpha * latencyMs + (1 - alpha) * ewmaLatencyMs;
+        window[windowNext] = latencyMs;
+        windowNext = (windowNext + 1) % window.length;
+        windowCount = Math.min(windowCount + 1, window.length);
+        samples++;
+    }
+
+    synchronized void recordThroughput(double throughputKbps) {
+        lastThroughputKbps = throughputKbps;
+        ewmaThroughputKbps = ewmaThroughputKbps < 0 ? throughputKbps : alpha * throughputKbps + (1 - alpha) * ewmaThroughputKbps;
+    }
+
+    /**
+     * Latency percentile over the window (nearest rank), -1 without samples.
+     */
+    synchronized long percentile(double percentile) {
+        if (windowCount == 0) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(window, windowCount);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * windowCount);
+        return sorted[Math.max(0, Math.min(windowCount - 1, rank - 1))];
+    }
+
+    synchronized double getEwmaLatencyMs() {
+        return ewmaLatencyMs;
+    }
+
+    synchronized double getEwmaThroughputKbps() {
+        return ewmaThroughputKbps;
+    }
+
+    synchronized long getLastLatencyMs() {
+        return lastLatencyMs;
+    }
+
+    synchronized double getLastThroughputKbps() {
+        return lastThroughputKbps;
+    }
+
+    synchronized long getSamples() {
+        return samples;
+    }
+}
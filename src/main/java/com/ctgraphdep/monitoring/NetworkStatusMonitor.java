@@ -1,6 +1,10 @@
 package com.ctgraphdep.monitoring;
 
 import com.ctgraphdep.fileOperations.config.PathConfig;
+import com.ctgraphdep.monitoring.model.NetworkProbeStats;
+import com.ctgraphdep.scheduling.JobIoClass;
+import com.ctgraphdep.scheduling.JobPriority;
+import com.ctgraphdep.scheduling.ScheduledJob;
 import com.ctgraphdep.utils.LoggerUtil;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -9,23 +13,33 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.net.InetAddress;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 
 /**
  * Enhanced service responsible for monitoring network availability and managing network-related status.
  * This implementation includes debouncing, jitter prevention, and consolidated network checks.
+ * Each probe measures the round-trip latency of reaching the share and, when enabled, the throughput of
+ * a small probe file write + read back. Latency / throughput are tracked as EWMA and percentiles and
+ * classify the share as HEALTHY, DEGRADED (slow) or DOWN. The probe frequency adapts to the state:
+ * slow while healthy, faster while degraded or while a status change is being confirmed, and with
+ * exponential backoff while down (which also replaces the fixed initial detection sequence).
  */
 @Service
 public class NetworkStatusMonitor {
 
-    @Value("${app.sync.interval:3600000}")
-    private long monitorInterval; // Default 5 minutes
+    // A degraded share must get this much below the limits before it counts as healthy again
+    private static final double RECOVERY_FACTOR = 0.75;
+    private static final double EWMA_ALPHA = 0.3;
+    private static final int PROBE_WINDOW = 64;
 
     @Value("${app.network.debounce.ms:10000}")
     private long debounceIntervalMs; // Default 10 seconds debounce
@@ -36,137 +50,286 @@ public class NetworkStatusMonitor {
     @Value("${app.network.check.retry:3}")
     private int networkCheckRetries; // Number of retries for each network check
 
+    // Probe intervals per state; the scheduled tick only runs a probe once it is due
+    @Value("${app.network.probe.healthy-ms:300000}")
+    private long healthyProbeIntervalMs;
+
+    @Value("${app.network.probe.degraded-ms:60000}")
+    private long degradedProbeIntervalMs;
+
+    @Value("${app.network.probe.confirm-ms:10000}")
+    private long confirmProbeIntervalMs;
+
+    @Value("${app.network.probe.down-min-ms:5000}")
+    private long downMinProbeIntervalMs;
+
+    @Value("${app.network.probe.down-max-ms:60000}")
+    private long downMaxProbeIntervalMs;
+
+    @Value("${app.network.probe.startup-delay-ms:5000}")
+    private long startupDelayMs;
+
+    @Value("${app.network.probe.initial-attempts:5}")
+    private int initialDetectionAttempts;
+
+    // Degraded limits: latency EWMA above, or throughput EWMA below (0 = no throughput limit)
+    @Value("${app.network.probe.degraded-latency-ms:400}")
+    private long degradedLatencyMs;
+
+    @Value("${app.network.probe.min-throughput-kbps:128}")
+    private double minThroughputKbps;
+
+    // Size of the probe file written and read back (0 = latency probe only)
+    @Value("${app.network.probe.transfer-bytes:65536}")
+    private int transferBytes;
+
+    @Value("${app.network.probe.transfer-timeout-ms:10000}")
+    private long transferTimeoutMs;
+
     private final PathConfig pathConfig;
+    private final NetworkLatencyTracker latencyTracker = new NetworkLatencyTracker(EWMA_ALPHA, PROBE_WINDOW);
+    private final String probeFileName;
+    private byte[] probePayload;
 
-    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
     private volatile boolean isRunning = false;
 
     // Network status tracking
-    private final AtomicBoolean networkStatus = new AtomicBoolean(false);
+    private final AtomicReference<NetworkHealthLevel> healthLevel = new AtomicReference<>(NetworkHealthLevel.DOWN);
     private volatile long lastStatusChangeTimestamp = 0;
     private final AtomicInteger consecutiveFailures = new AtomicInteger(0);
     private final AtomicInteger stabilityCounter = new AtomicInteger(0);
 
+    // Probe scheduling and counters
+    private volatile boolean initialDetectionDone = false;
+    private final AtomicInteger initialDetectionAttempt = new AtomicInteger(0);
+    private volatile long nextProbeAt = 0;
+    private volatile long currentProbeIntervalMs = 0;
+    private volatile LocalDateTime lastProbeTime;
+    private volatile boolean lastTransferFailed = false;
+    private final AtomicLong failedProbes = new AtomicLong(0);
+    private final AtomicLong transferFailures = new AtomicLong(0);
+
     // Synchronization object for network status changes
     private final Object networkStatusLock = new Object();
 
     public NetworkStatusMonitor(
             PathConfig pathConfig) {
         this.pathConfig = pathConfig;
+        this.probeFileName = ".netprobe_" + resolveHostName() + ".tmp";
         LoggerUtil.initialize(this.getClass(), null);
     }
 
     @PostConstruct
     public void init() {
-        startMonitoring();
+        if (transferBytes > 0) {
+            probePayload = new byte[transferBytes];
+            for (int i = 0; i < probePayload.length; i++) {
+                probePayload[i] = (byte) i;
+            }
+        }
 
-        // Use a separate thread with proper backoff for initial detection
-        scheduler.execute(this::performInitialNetworkDetection);
+        // Give time for application to initialize; the first probes run the initial detection
+        currentProbeIntervalMs = startupDelayMs;
+        nextProbeAt = System.currentTimeMillis() + startupDelayMs;
+        startMonitoring();
     }
 
     /**
-     * Scheduled method called at regular intervals to check network status
+     * Scheduled tick; runs a probe when one is due according to the adaptive probe interval.
+     * Does not take a network job permit, so a long sync replay or backup transfer cannot hold back the
+     * probe those jobs depend on to notice that the share went offline or came back.
      */
-    @Scheduled(fixedDelayString = "${app.sync.interval:3600000}")
+    @Scheduled(fixedDelayString = "${app.network.probe.tick-ms:5000}")
+    @ScheduledJob(name = "network-status-check", priority = JobPriority.HIGH, io = JobIoClass.NETWORK, pauseWhenOffline = false,
+            limitNetworkConcurrency = false)
     public void performScheduledNetworkCheck() {
-        try {
-            LoggerUtil.debug(this.getClass(), "Performing scheduled network status check");
+        if (!isRunning || System.currentTimeMillis() < nextProbeAt) {
+            return;
+        }
 
-            // Perform the actual network check
-            boolean currentStatus = performNetworkCheck();
+        try {
+            LoggerUtil.debug(this.getClass(), "Performing scheduled network probe");
 
-            // Update the status with debouncing
-            updateNetworkStatus(currentStatus);
+            // Perform the actual network probe
+            NetworkHealthLevel observed = probeNetwork();
 
-            // Attempt to sync pending files if network is available
-            if (currentStatus) {
-                attemptPendingSyncs();
+            if (initialDetectionDone) {
+                // Update the status with debouncing
+                updateNetworkStatus(observed);
+            } else {
+                handleInitialDetection(observed);
             }
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Error during scheduled network check: " + e.getMessage(), e);
             consecutiveFailures.incrementAndGet();
+        } finally {
+            scheduleNextProbe();
         }
     }
 
     /**
-     * Initial network detection with progressive backoff
+     * Initial network detection: the first available probe result is applied immediately (no jitter
+     * prevention); unavailable results are retried with the down backoff until the attempts run out.
      */
-    private void performInitialNetworkDetection() {
-        try {
-            // Give time for application to initialize
-            Thread.sleep(5000);
-
+    private void handleInitialDetection(NetworkHealthLevel observed) {
+        int attempt = initialDetectionAttempt.incrementAndGet();
+        if (attempt == 1) {
             LoggerUtil.info(this.getClass(), "Starting initial network detection sequence");
+        }
 
-            // Initial backoff parameters
-            int attempt = 0;
-            long[] backoffIntervals = {5000, 10000, 20000, 30000, 60000}; // Increasing backoff
-
-            // Try to establish initial network status
-            boolean connected = false;
-            while (attempt < backoffIntervals.length) {
-                connected = performNetworkCheck();
-
-                if (connected) {
-                    // Network is available - finish initial detection
-                    // IMPORTANT: Force immediate update without jitter prevention for initial detection
-                    forceNetworkStatusUpdate(true, "Initial detection");
-                    LoggerUtil.info(this.getClass(), "Network detected as available during initial detection");
-                    break;
-                }
-
-                // If we reach here, we know connected is false
-                // Wait before next attempt
-                if (attempt < backoffIntervals.length - 1) { // Only sleep if not the last attempt
-                    long interval = backoffIntervals[attempt];
-                    LoggerUtil.info(this.getClass(), String.format(
-                            "Network unavailable during initial detection (attempt %d), waiting %d ms",
-                            attempt + 1, interval));
-                    Thread.sleep(interval);
-                }
-                attempt++;
-            }
-
-            if (!connected) {
-                LoggerUtil.warn(this.getClass(), "Network remained unavailable after initial detection sequence");
-                forceNetworkStatusUpdate(false, "Initial detection completion");
-            }
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            LoggerUtil.warn(this.getClass(), "Initial network detection interrupted: " + e.getMessage());
-        } catch (Exception e) {
-            LoggerUtil.error(this.getClass(), "Error during initial network detection: " + e.getMessage());
+        if (observed.isAvailable()) {
+            initialDetectionDone = true;
+            // IMPORTANT: Force immediate update without jitter prevention for initial detection
+            forceNetworkStatusUpdate(observed, "Initial detection");
+            LoggerUtil.info(this.getClass(), "Network detected as {} during initial detection", observed);
+        } else if (attempt >= initialDetectionAttempts) {
+            initialDetectionDone = true;
+            LoggerUtil.warn(this.getClass(), "Network remained unavailable after initial detection sequence");
+            forceNetworkStatusUpdate(NetworkHealthLevel.DOWN, "Initial detection completion");
+        } else {
+            LoggerUtil.info(this.getClass(), "Network unavailable during initial detection (attempt {}), waiting {} ms",
+                    attempt, downBackoffMs());
         }
     }
 
     /**
-     * Starts/Stops regular network monitoring
+     * Starts/Stops regular network monitoring.
+     * The probes themselves run from the "network-status-check" scheduled job.
      */
     public void startMonitoring() {
         if (!isRunning) {
             isRunning = true;
-            scheduler.scheduleWithFixedDelay(
-                    this::performScheduledNetworkCheck,
-                    monitorInterval,
-                    monitorInterval,
-                    TimeUnit.MILLISECONDS
-            );
-            LoggerUtil.info(this.getClass(), "Network monitoring started with interval: " + monitorInterval + "ms");
+            LoggerUtil.info(this.getClass(), "Network monitoring started (probe every {}ms healthy, {}ms degraded, {}-{}ms down)",
+                    healthyProbeIntervalMs, degradedProbeIntervalMs, downMinProbeIntervalMs, downMaxProbeIntervalMs);
         }
     }
     public void stopMonitoring() {
         isRunning = false;
+        LoggerUtil.info(this.getClass(), "Network monitoring stopped");
+    }
+
+    /**
+     * Runs one probe: reachability + latency, then the transfer probe, and classifies the share.
+     */
+    private NetworkHealthLevel probeNetwork() {
+        long start = System.nanoTime();
+        boolean reachable = performNetworkCheck();
+        long latencyMs = (System.nanoTime() - start) / 1_000_000;
+        lastProbeTime = LocalDateTime.now();
+
+        if (!reachable) {
+            failedProbes.incrementAndGet();
+            consecutiveFailures.incrementAndGet();
+            return NetworkHealthLevel.DOWN;
+        }
+
+        consecutiveFailures.set(0);
+        latencyTracker.recordLatency(latencyMs);
+
+        boolean transferOk = performTransferProbe();
+        lastTransferFailed = !transferOk;
+        if (!transferOk) {
+            transferFailures.incrementAndGet();
+        }
+
+        NetworkHealthLevel observed = classify(transferOk);
+        LoggerUtil.debug(this.getClass(), "Network probe: {} (latency {}ms, ewma {}ms, throughput {} KB/s)", observed,
+                latencyMs, Math.round(latencyTracker.getEwmaLatencyMs()), Math.round(latencyTracker.getLastThroughputKbps()));
+        return observed;
+    }
+
+    /**
+     * HEALTHY or DEGRADED for a reachable share. While degraded the limits are tightened by RECOVERY_FACTOR
+     * (lower latency, higher throughput needed to recover) so the level does not flap around the threshold.
+     */
+    private NetworkHealthLevel classify(boolean transferOk) {
+        if (!transferOk) {
+            return NetworkHealthLevel.DEGRADED;
+        }
+
+        boolean degraded = healthLevel.get() == NetworkHealthLevel.DEGRADED;
+        double latencyLimit = degraded ? degradedLatencyMs * RECOVERY_FACTOR : degradedLatencyMs;
+        if (latencyTracker.getEwmaLatencyMs() >= latencyLimit) {
+            return NetworkHealthLevel.DEGRADED;
+        }
+
+        double throughput = latencyTracker.getEwmaThroughputKbps();
+        double throughputLimit = degraded ? minThroughputKbps / RECOVERY_FACTOR : minThroughputKbps;
+        if (minThroughputKbps > 0 && throughput >= 0 && throughput < throughputLimit) {
+            return NetworkHealthLevel.DEGRADED;
+        }
+        return NetworkHealthLevel.HEALTHY;
+    }
+
+    /**
+     * Writes the probe file to the share and reads it back, recording throughput.
+     * Returns false when the transfer fails or times out; true when disabled.
+     */
+    private boolean performTransferProbe() {
+        if (probePayload == null) {
+            return true;
+        }
+
+        Path probePath = pathConfig.getNetworkPath().resolve(probeFileName);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
         try {
-            scheduler.shutdown();
-            if (!scheduler.awaitTermination(60, TimeUnit.SECONDS)) {
-                scheduler.shutdownNow();
+            long start = System.nanoTime();
+            CompletableFuture<Boolean> transferTask = CompletableFuture.supplyAsync(() -> {
+                try {
+                    Files.write(probePath, probePayload);
+                    return Files.readAllBytes(probePath).length == probePayload.length;
+                } catch (IOException e) {
+                    LoggerUtil.debug(this.getClass(), "Network transfer probe failed: {}", e.getMessage());
+                    return false;
+                }
+            }, executor);
+
+            if (!transferTask.get(transferTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return false;
             }
+
+            long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            latencyTracker.recordThroughput((2.0 * probePayload.length / 1024) / (elapsedMs / 1000.0));
+            return true;
+        } catch (TimeoutException e) {
+            LoggerUtil.debug(this.getClass(), "Network transfer probe timed out after {} ms", transferTimeoutMs);
+            return false;
         } catch (InterruptedException e) {
-            scheduler.shutdownNow();
             Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            LoggerUtil.debug(this.getClass(), "Network transfer probe threw exception: {}", e.getCause().getMessage());
+            return false;
+        } finally {
+            executor.shutdownNow();
         }
-        LoggerUtil.info(this.getClass(), "Network monitoring stopped");
+    }
+
+    /**
+     * Picks the next probe time from the current state
+     */
+    private void scheduleNextProbe() {
+        long interval;
+        NetworkHealthLevel level = healthLevel.get();
+        if (stabilityCounter.get() > 0) {
+            // A status change is waiting for confirmation
+            interval = confirmProbeIntervalMs;
+        } else if (!initialDetectionDone || level == NetworkHealthLevel.DOWN) {
+            interval = downBackoffMs();
+        } else if (level == NetworkHealthLevel.DEGRADED) {
+            interval = degradedProbeIntervalMs;
+        } else {
+            interval = healthyProbeIntervalMs;
+        }
+        currentProbeIntervalMs = interval;
+        nextProbeAt = System.currentTimeMillis() + interval;
+    }
+
+    // Exponential backoff on consecutive failed probes, between the down min and max intervals
+    private long downBackoffMs() {
+        int failures = Math.max(1, consecutiveFailures.get());
+        long backoff = downMinProbeIntervalMs << Math.min(failures - 1, 20);
+        return Math.min(backoff, downMaxProbeIntervalMs);
     }
 
     /**
@@ -273,45 +436,25 @@ public class NetworkStatusMonitor {
      * Force immediate update of network status without jitter prevention
      * Used for initial detection and critical status changes
      */
-    private void forceNetworkStatusUpdate(boolean newStatus, String reason) {
+    private void forceNetworkStatusUpdate(NetworkHealthLevel newLevel, String reason) {
         synchronized (networkStatusLock) {
-            boolean currentStatus = networkStatus.get();
-
             // Skip if no change
-            if (newStatus == currentStatus) {
+            if (newLevel == healthLevel.get()) {
                 return;
             }
 
             // Update immediately without jitter prevention or debouncing
-            networkStatus.set(newStatus);
-            lastStatusChangeTimestamp = System.currentTimeMillis();
-            stabilityCounter.set(0);  // Reset stability counter
-
-            // Reset failure counter on success
-            if (newStatus) {
-                consecutiveFailures.set(0);
-            }
-
-            // Log the change
-            LoggerUtil.info(this.getClass(), String.format("Network status FORCED to: %s (reason: %s)", newStatus ? "Available" : "Unavailable", reason));
-
-            // IMPORTANT: Update the PathConfig status
-            pathConfig.setNetworkAvailable(newStatus);
-
-            // Additional immediate notification to ensure all components are aware
-            broadcastNetworkStatusChange(newStatus);
+            applyHealthLevel(newLevel, reason, true);
         }
     }
 
     /**
      * Updates network status with debouncing and jitter prevention
      */
-    private void updateNetworkStatus(boolean newStatus) {
+    private void updateNetworkStatus(NetworkHealthLevel newLevel) {
         synchronized (networkStatusLock) {
-            boolean currentStatus = networkStatus.get();
-
             // Check if the status is actually changing
-            if (newStatus == currentStatus) {
+            if (newLevel == healthLevel.get()) {
                 // Status is the same - reset stability counter
                 stabilityCounter.set(0);
                 return;
@@ -322,7 +465,7 @@ public class NetworkStatusMonitor {
 
             // Only log the first observation of a potential status change
             if (stability == 1) {
-                LoggerUtil.debug(this.getClass(), String.format("Potential network status change to %s observed (%s) - waiting for stability", newStatus ? "available" : "unavailable", "Scheduled check"));
+                LoggerUtil.debug(this.getClass(), "Potential network status change to {} observed (Scheduled check) - waiting for stability", newLevel);
             }
 
             // Only apply the change after reaching the stability threshold
@@ -331,41 +474,43 @@ public class NetworkStatusMonitor {
             }
 
             // Apply debouncing - only change status after the debounce interval
-            long now = System.currentTimeMillis();
-            if (now - lastStatusChangeTimestamp < debounceIntervalMs) {
-                LoggerUtil.debug(this.getClass(), String.format("Ignoring network status change to %s - within debounce period (%s)", newStatus ? "available" : "unavailable", "Scheduled check"));
+            if (System.currentTimeMillis() - lastStatusChangeTimestamp < debounceIntervalMs) {
+                LoggerUtil.debug(this.getClass(), "Ignoring network status change to {} - within debounce period (Scheduled check)", newLevel);
                 return;
             }
 
             // We can now change the status
-            networkStatus.set(newStatus);
-            lastStatusChangeTimestamp = now;
-            stabilityCounter.set(0);  // Reset stability counter
+            applyHealthLevel(newLevel, "Scheduled check", false);
+        }
+    }
 
-            // Reset failure counter on success
-            if (newStatus) {
-                consecutiveFailures.set(0);
-            }
+    // Called with networkStatusLock held
+    private void applyHealthLevel(NetworkHealthLevel newLevel, String reason, boolean forced) {
+        NetworkHealthLevel previous = healthLevel.getAndSet(newLevel);
+        lastStatusChangeTimestamp = System.currentTimeMillis();
+        stabilityCounter.set(0);  // Reset stability counter
+
+        // Log the change
+        LoggerUtil.info(this.getClass(), String.format("Network status %s to: %s (was %s, reason: %s)",
+                forced ? "FORCED" : "changed", newLevel, previous, reason));
 
-            // Log the change
-            LoggerUtil.info(this.getClass(), String.format("Network status changed to: %s (reason: %s)", newStatus ? "Available" : "Unavailable", "Scheduled check"));
+        // IMPORTANT: Update the PathConfig status; it publishes the NetworkStatusChangedEvent
+        pathConfig.updateNetworkHealth(newLevel, reason, getProbeStats());
 
-            // IMPORTANT: Directly set the PathConfig status
-            pathConfig.setNetworkAvailable(newStatus);
+        // Additional broadcast to ensure all components are aware
+        broadcastNetworkStatusChange(newLevel);
 
-            // Additional broadcast to ensure all components are aware
-            broadcastNetworkStatusChange(newStatus);
+        if (!previous.isAvailable() && newLevel.isAvailable()) {
+            attemptPendingSyncs();
         }
     }
 
     /**
      * Broadcast network status change to ensure all components are aware
      */
-    private void broadcastNetworkStatusChange(boolean status) {
+    private void broadcastNetworkStatusChange(NetworkHealthLevel level) {
         // Log a clear, prominent message about the network status
-        LoggerUtil.info(this.getClass(), "==== NETWORK STATUS BROADCAST: " + (status ? "AVAILABLE" : "UNAVAILABLE") + " ====");
-
-        // This could be extended to use a Spring ApplicationEvent if needed
+        LoggerUtil.info(this.getClass(), "==== NETWORK STATUS BROADCAST: " + level + " ====");
     }
 
     /**
@@ -388,11 +533,55 @@ public class NetworkStatusMonitor {
      * that need to check network availability.
      */
     public boolean isNetworkAvailable() {
-        return networkStatus.get();
+        return healthLevel.get().isAvailable();
+    }
+
+    /**
+     * Current health level (HEALTHY, DEGRADED or DOWN)
+     */
+    public NetworkHealthLevel getHealthLevel() {
+        return healthLevel.get();
+    }
+
+    /**
+     * Current probe measurements
+     */
+    public NetworkProbeStats getProbeStats() {
+        return NetworkProbeStats.builder()
+                .healthLevel(healthLevel.get())
+                .lastLatencyMs(latencyTracker.getLastLatencyMs())
+                .ewmaLatencyMs(latencyTracker.getEwmaLatencyMs())
+                .p50LatencyMs(latencyTracker.percentile(50))
+                .p95LatencyMs(latencyTracker.percentile(95))
+                .lastThroughputKbps(latencyTracker.getLastThroughputKbps())
+                .ewmaThroughputKbps(latencyTracker.getEwmaThroughputKbps())
+                .samples(latencyTracker.getSamples())
+                .failedProbes(failedProbes.get())
+                .consecutiveFailures(consecutiveFailures.get())
+                .transferFailures(transferFailures.get())
+                .lastTransferFailed(lastTransferFailed)
+                .probeIntervalMs(currentProbeIntervalMs)
+                .lastProbeTime(lastProbeTime)
+                .build();
     }
 
     @PreDestroy
     public void shutdown() {
         stopMonitoring();
+        if (probePayload != null && isNetworkAvailable()) {
+            try {
+                Files.deleteIfExists(pathConfig.getNetworkPath().resolve(probeFileName));
+            } catch (IOException e) {
+                LoggerUtil.debug(this.getClass(), "Could not remove network probe file: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName().replaceAll("[^A-Za-z0-9_-]", "_");
+        } catch (Exception e) {
+            return "local";
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package com.ctgraphdep.monitoring;
 
+import com.ctgraphdep.scheduling.JobPriority;
+import com.ctgraphdep.scheduling.ScheduledJob;
 import com.ctgraphdep.service.cache.MainDefaultUserContextService;
 import com.ctgraphdep.utils.LoggerUtil;
 import lombok.Getter;
@@ -68,6 +70,38 @@ public class SchedulerHealthMonitor {
         }
     }
 
+    /**
+     * Records a completed run of a scheduled job with its run time and start lag (see ScheduledJobRuntime)
+     *
+     * @param taskId     Unique identifier for the task
+     * @param durationMs How long the run took
+     * @param lagMs      How late the run started compared to its schedule
+     */
+    public void recordTaskRun(String taskId, long durationMs, long lagMs) {
+        TaskStatus status = monitoredTasks.get(taskId);
+        if (status != null) {
+            status.recordExecution();
+            status.resetConsecutiveFailures();
+            status.recordTiming(durationMs, lagMs);
+            LoggerUtil.debug(this.getClass(), "Recorded run for task: {} ({} ms, started {} ms late)", taskId, durationMs, lagMs);
+        }
+    }
+
+    /**
+     * Records a scheduled run that was intentionally skipped (e.g. network offline).
+     * The task counts as alive; failure counters are left as they are.
+     *
+     * @param taskId Unique identifier for the task
+     * @param reason Why the run was skipped
+     */
+    public void recordTaskSkipped(String taskId, String reason) {
+        TaskStatus status = monitoredTasks.get(taskId);
+        if (status != null) {
+            status.recordSkip();
+            LoggerUtil.debug(this.getClass(), "Recorded skipped run for task: {} ({})", taskId, reason);
+        }
+    }
+
     /**
      * Records a task failure
      *
@@ -148,6 +182,7 @@ public class SchedulerHealthMonitor {
      * and triggers recovery actions for unhealthy tasks
      */
     @Scheduled(fixedRate = 60000) // Check every minute
+    @ScheduledJob(name = "scheduler-health-check", priority = JobPriority.HIGH)
     public void checkTaskHealth() {
         LoggerUtil.debug(this.getClass(), "Running scheduled task health check");
 
@@ -173,6 +208,7 @@ public class SchedulerHealthMonitor {
         });
     }
     @Scheduled(fixedRate = 300000) // 5 minutes
+    @ScheduledJob(name = "user-context-health-check", priority = JobPriority.HIGH)
     public void checkUserContextHealth() {
         boolean healthy = mainDefaultUserContextService.isCacheHealthy();
         if (!healthy) {
@@ -215,7 +251,11 @@ public class SchedulerHealthMonitor {
         private final AtomicLong executionCount = new AtomicLong(0);
         private final AtomicLong consecutiveFailures = new AtomicLong(0);
         private final AtomicLong warningCount = new AtomicLong(0);
+        private final AtomicLong skippedCount = new AtomicLong(0);
         private final int expectedIntervalMinutes;
+        private volatile long lastDurationMs;
+        private volatile long maxDurationMs;
+        private volatile long lastLagMs;
         private String lastError;
         private String lastWarning;
 
@@ -229,6 +269,21 @@ public class SchedulerHealthMonitor {
             executionCount.incrementAndGet();
         }
 
+        public void recordTiming(long durationMs, long lagMs) {
+            lastDurationMs = durationMs;
+            maxDurationMs = Math.max(maxDurationMs, durationMs);
+            lastLagMs = lagMs;
+        }
+
+        public void recordSkip() {
+            lastExecutionTime = LocalDateTime.now();
+            skippedCount.incrementAndGet();
+        }
+
+        public long getSkippedCount() {
+            return skippedCount.get();
+        }
+
         public void incrementFailures() {
             consecutiveFailures.incrementAndGet();
         }
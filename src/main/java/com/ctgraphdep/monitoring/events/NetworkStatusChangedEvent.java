@@ -1,25 +1,50 @@
 package com.ctgraphdep.monitoring.events;
 
+import com.ctgraphdep.monitoring.NetworkHealthLevel;
+import com.ctgraphdep.monitoring.model.NetworkProbeStats;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
 /**
  * Event published when network status changes.
  * Can be used by any service that needs to react to network availability changes.
+ * Published for availability changes (up/down) and for health changes while up (healthy/degraded);
+ * availabilityChanged tells the two apart. probeStats is null when the change did not come from a probe.
  */
 @Getter
 public class NetworkStatusChangedEvent extends ApplicationEvent {
     private final boolean networkAvailable;
     private final String reason;
+    private final NetworkHealthLevel healthLevel;
+    private final NetworkHealthLevel previousHealthLevel;
+    private final NetworkProbeStats probeStats;
 
     public NetworkStatusChangedEvent(Object source, boolean networkAvailable, String reason) {
+        this(source, networkAvailable ? NetworkHealthLevel.HEALTHY : NetworkHealthLevel.DOWN,
+                networkAvailable ? NetworkHealthLevel.DOWN : NetworkHealthLevel.HEALTHY, reason, null);
+    }
+
+    public NetworkStatusChangedEvent(Object source, NetworkHealthLevel healthLevel, NetworkHealthLevel previousHealthLevel,
+                                     String reason, NetworkProbeStats probeStats) {
         super(source);
-        this.networkAvailable = networkAvailable;
+        this.networkAvailable = healthLevel.isAvailable();
         this.reason = reason;
+        this.healthLevel = healthLevel;
+        this.previousHealthLevel = previousHealthLevel;
+        this.probeStats = probeStats;
+    }
+
+    public boolean isAvailabilityChanged() {
+        return healthLevel.isAvailable() != previousHealthLevel.isAvailable();
+    }
+
+    public boolean isDegraded() {
+        return healthLevel == NetworkHealthLevel.DEGRADED;
     }
 
     @Override
     public String toString() {
-        return String.format("NetworkStatusChangedEvent{available=%s, reason='%s'}", networkAvailable, reason);
+        return String.format("NetworkStatusChangedEvent{available=%s, health=%s, previous=%s, reason='%s'}",
+                networkAvailable, healthLevel, previousHealthLevel, reason);
     }
 }
@@ -0,0 +1,36 @@
+package com.ctgraphdep.monitoring.model;
+
+import com.ctgraphdep.monitoring.NetworkHealthLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Snapshot of the network probe measurements (see NetworkStatusMonitor).
+ * Latency is the time to reach and list the share root; throughput comes from the small
+ * probe file write + read back. Percentiles cover the last probeWindow successful probes.
+ */
+@Getter
+@Builder
+public class NetworkProbeStats {
+    private final NetworkHealthLevel healthLevel;
+
+    private final long lastLatencyMs;
+    private final double ewmaLatencyMs;
+    private final long p50LatencyMs;
+    private final long p95LatencyMs;
+    // KB/s, -1 when the transfer probe is disabled or has not run yet
+    private final double lastThroughputKbps;
+    private final double ewmaThroughputKbps;
+
+    private final long samples;
+    private final long failedProbes;
+    private final int consecutiveFailures;
+    private final long transferFailures;
+    private final boolean lastTransferFailed;
+
+    // Current adaptive probe interval and when the last probe ran
+    private final long probeIntervalMs;
+    private final LocalDateTime lastProbeTime;
+}
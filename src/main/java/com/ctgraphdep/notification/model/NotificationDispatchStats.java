@@ -0,0 +1,27 @@
+package com.ctgraphdep.notification.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Snapshot of the notification dispatch queue counters (see NotificationEventBus).
+ */
+@Getter
+@Builder
+public class NotificationDispatchStats {
+    // Events waiting for delivery (at most one per user + notification type)
+    private final int queueDepth;
+    // Keys with a delivery currently running
+    private final int inFlight;
+    private final int maxPendingEvents;
+
+    private final long published;
+    private final long delivered;
+    // Events replaced by a newer event for the same user + type before delivery
+    private final long coalesced;
+    // Events rejected because the queue was full
+    private final long dropped;
+    // Events skipped because the same type was shown to the user too recently
+    private final long rateLimited;
+    private final long failed;
+}
@@ -20,12 +20,15 @@ public class NotificationRequest {
     private Integer timeoutPeriod;
     private LocalDateTime tempStopStart;
     private int priority;
+    // When the originating event was published, for display latency logging
+    private LocalDateTime publishedAt;
 
     private NotificationRequest(NotificationType type, String username, Integer userId) {
         this.type = type;
         this.username = username;
         this.userId = userId;
         this.priority = type.getDefaultPriority();
+        this.publishedAt = LocalDateTime.now();
     }
 
     /**
@@ -80,6 +83,11 @@ public class NotificationRequest {
             return this;
         }
 
+        public Builder publishedAt(LocalDateTime publishedAt) {
+            request.publishedAt = publishedAt;
+            return this;
+        }
+
         public NotificationRequest build() {
             // Validation logic can be added here
             return request;
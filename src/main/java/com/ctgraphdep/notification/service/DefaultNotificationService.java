@@ -6,6 +6,7 @@ import com.ctgraphdep.monitoring.SchedulerHealthMonitor;
 import com.ctgraphdep.notification.api.NotificationEventPublisher;
 import com.ctgraphdep.notification.api.NotificationService;
 import com.ctgraphdep.notification.events.*;
+import com.ctgraphdep.scheduling.ScheduledJob;
 import com.ctgraphdep.utils.LoggerUtil;
 import com.ctgraphdep.validation.GetStandardTimeValuesCommand;
 import com.ctgraphdep.validation.TimeValidationService;
@@ -199,6 +200,7 @@ public class DefaultNotificationService implements NotificationService {
      * Heartbeat to check service health
      */
     @Scheduled(fixedRate = 300000) // Run every 5 minutes
+    @ScheduledJob(name = "notification-service-heartbeat")
     public void heartbeat() {
         try {
             // Record that the service is alive
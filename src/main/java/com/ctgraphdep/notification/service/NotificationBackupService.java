@@ -6,6 +6,7 @@ import com.ctgraphdep.monitoring.MonitoringStateService;
 import com.ctgraphdep.monitoring.SchedulerHealthMonitor;
 import com.ctgraphdep.notification.api.NotificationEventPublisher;
 import com.ctgraphdep.notification.events.*;
+import com.ctgraphdep.scheduling.ScheduledJob;
 import com.ctgraphdep.utils.LoggerUtil;
 import com.ctgraphdep.validation.GetStandardTimeValuesCommand;
 import com.ctgraphdep.validation.TimeValidationService;
@@ -268,6 +269,7 @@ public class NotificationBackupService {
      * Regular heartbeat to indicate the service is healthy
      */
     @Scheduled(fixedRate = 300000) // Run every 5 minutes
+    @ScheduledJob(name = "notification-backup-heartbeat")
     public void heartbeat() {
         try {
             // Record that the service is alive
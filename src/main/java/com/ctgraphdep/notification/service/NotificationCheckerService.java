@@ -6,6 +6,9 @@ import com.ctgraphdep.model.User;
 import com.ctgraphdep.model.WorkUsersSessionsStates;
 import com.ctgraphdep.monitoring.SchedulerHealthMonitor;
 import com.ctgraphdep.notification.api.NotificationService;
+import com.ctgraphdep.scheduling.JobIoClass;
+import com.ctgraphdep.scheduling.JobPriority;
+import com.ctgraphdep.scheduling.ScheduledJob;
 import com.ctgraphdep.service.CalculationService;
 import com.ctgraphdep.service.cache.MainDefaultUserContextService;
 import com.ctgraphdep.service.UserService;
@@ -105,6 +108,7 @@ public class NotificationCheckerService {
 
     //Main check method that runs every 2 minutes. This is more frequent than the session monitor (which runs every 5/30 minutes and allows notifications to be shown more promptly
     @Scheduled(fixedRate = 120000)
+    @ScheduledJob(name = "notification-check", priority = JobPriority.HIGH, io = JobIoClass.LOCAL_DISK)
     public void checkForNotifications() {
         if (!isInitialized) {
             return;
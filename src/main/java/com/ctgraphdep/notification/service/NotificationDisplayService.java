@@ -11,6 +11,8 @@ import com.ctgraphdep.notification.model.NotificationType;
 import com.ctgraphdep.notification.ui.ButtonFactory;
 import com.ctgraphdep.notification.ui.DialogComponents;
 import com.ctgraphdep.notification.ui.NotificationBackgroundFactory;
+import com.ctgraphdep.notification.ui.PooledNotificationDialog;
+import com.ctgraphdep.scheduling.ScheduledJob;
 import com.ctgraphdep.session.SessionCommandFactory;
 import com.ctgraphdep.session.SessionCommandService;
 import com.ctgraphdep.session.commands.EndDayCommand;
@@ -23,7 +25,8 @@ import com.ctgraphdep.utils.LoggerUtil;
 import com.ctgraphdep.validation.GetStandardTimeValuesCommand;
 import com.ctgraphdep.validation.TimeValidationService;
 import jakarta.annotation.PostConstruct;
-import org.jetbrains.annotations.NotNull;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -37,6 +40,9 @@ import java.awt.image.BufferedImage;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -45,6 +51,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 /**
  * Service for displaying notification dialogs and managing UI presentation.
  * It handles both the UI display of notifications and tracking user responses.
+ * Notification windows are pooled per notification type and reused; backgrounds are rendered
+ * before the work is handed to the EDT, so the EDT only swaps content, adds buttons and shows the window.
  */
 @Service
 public class NotificationDisplayService implements NotificationEventSubscriber {
@@ -59,8 +67,12 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
     private final SchedulerHealthMonitor healthMonitor;
     private final NotificationConfigService configService;
 
-    private final Map<String, JDialog> activeDialogs = new ConcurrentHashMap<>();
+    private final Map<String, PooledNotificationDialog> activeDialogs = new ConcurrentHashMap<>();
     private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    // Idle notification windows per notification type, EDT only
+    private final Map<String, Deque<PooledNotificationDialog>> dialogPool = new HashMap<>();
+    private final int poolSizePerType;
+    private final boolean prewarmPool;
 
     private static final int NOTIFICATION_WIDTH = 600;
     private static final int NOTIFICATION_HEIGHT = 400;
@@ -71,7 +83,9 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
     public NotificationDisplayService(CTTTSystemTray systemTray,
                                       @Lazy SessionCommandService commandService, @Lazy SessionCommandFactory commandFactory, TimeValidationService timeValidationService,
                                       NotificationMonitorService monitorService, NotificationBackupService backupService,
-                                      SchedulerHealthMonitor healthMonitor, NotificationConfigService configService) {
+                                      SchedulerHealthMonitor healthMonitor, NotificationConfigService configService,
+                                      @Value("${app.notification.pool.size-per-type:1}") int poolSizePerType,
+                                      @Value("${app.notification.pool.prewarm:true}") boolean prewarmPool) {
 
         this.systemTray = systemTray;
         this.commandService = commandService;
@@ -81,6 +95,8 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
         this.backupService = backupService;
         this.healthMonitor = healthMonitor;
         this.configService = configService;
+        this.poolSizePerType = Math.max(1, poolSizePerType);
+        this.prewarmPool = prewarmPool;
         LoggerUtil.initialize(this.getClass(), null);
     }
 
@@ -99,9 +115,43 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
 
         // Record initial execution
         healthMonitor.recordTaskExecution("notification-display-service");
+
+        // Build the notification windows up front so the first notification does not pay for them
+        if (prewarmPool && !GraphicsEnvironment.isHeadless()) {
+            prewarmDialogPool();
+        }
         LoggerUtil.info(this.getClass(), "Notification display service initialized");
     }
 
+    /**
+     * Releases the native windows of pooled and active notifications
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (Timer timer : timers.values()) {
+            timer.stop();
+        }
+        timers.clear();
+        if (GraphicsEnvironment.isHeadless()) {
+            return;
+        }
+        Runnable destroyWindows = () -> {
+            activeDialogs.values().forEach(PooledNotificationDialog::destroy);
+            activeDialogs.clear();
+            dialogPool.values().forEach(pool -> pool.forEach(PooledNotificationDialog::destroy));
+            dialogPool.clear();
+        };
+        try {
+            if (SwingUtilities.isEventDispatchThread()) {
+                destroyWindows.run();
+            } else {
+                SwingUtilities.invokeAndWait(destroyWindows);
+            }
+        } catch (Exception e) {
+            LoggerUtil.warn(this.getClass(), "Could not release notification windows on shutdown: {}", e.getMessage());
+        }
+    }
+
     @Override
     public void onNotificationEvent(NotificationEvent event) {
         try {
@@ -156,8 +206,8 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
             // Check for existing dialog first
             String existingDialogKey = findExistingDialogKey(request.getUsername(), request.getType().getTypeId());
             if (existingDialogKey != null) {
-                JDialog existingDialog = activeDialogs.get(existingDialogKey);
-                if (existingDialog != null && existingDialog.isDisplayable()) {
+                PooledNotificationDialog existingDialog = activeDialogs.get(existingDialogKey);
+                if (existingDialog != null && existingDialog.isLeased()) {
                     // If dialog exists but isn't visible, make it visible again
                     if (!existingDialog.isVisible()) {
                         existingDialog.setVisible(true);
@@ -173,15 +223,19 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
                 }
             }
 
+            // Render the background here, off the EDT; the EDT only swaps it into a pooled window
+            BufferedImage notificationImage = NotificationBackgroundFactory.createNotificationBackground(request.getTitle(), request.getMessage());
+            long preparedAt = System.currentTimeMillis();
+
             // Use invokeLater for EDT thread safety - we don't wait for the result
             // This is fire-and-forget because the event-driven architecture handles success/failure
             SwingUtilities.invokeLater(() -> {
                 try {
                     // Check if we're on the EDT now
-                    LoggerUtil.debug(this.getClass(), "UI thread: " + Thread.currentThread().getName() + ", is EDT: " + SwingUtilities.isEventDispatchThread());
+                    LoggerUtil.debug(this.getClass(), "UI thread: {}, is EDT: {}", Thread.currentThread().getName(), SwingUtilities.isEventDispatchThread());
 
                     // Try to show dialog first
-                    boolean dialogShown = showNotificationDialog(request, notificationId);
+                    boolean dialogShown = showNotificationDialog(request, notificationId, notificationImage, preparedAt);
 
                     // ONLY attempt tray notification if dialog fails
                     if (!dialogShown && systemTray.getTrayIcon() != null) {
@@ -209,9 +263,9 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
     }
 
     private String findExistingDialogKey(String username, String notificationType) {
-        for (Map.Entry<String, JDialog> entry : activeDialogs.entrySet()) {
-            JDialog dialog = entry.getValue();
-            if (dialog.isDisplayable()) {
+        for (Map.Entry<String, PooledNotificationDialog> entry : activeDialogs.entrySet()) {
+            PooledNotificationDialog dialog = entry.getValue();
+            if (dialog.isLeased()) {
                 Object dialogUsername = dialog.getRootPane().getClientProperty("username");
                 Object dialogType = dialog.getRootPane().getClientProperty("notificationType");
 
@@ -237,6 +291,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
                     .trayMessage(WorkCode.SESSION_WARNING_TRAY)
                     .timeoutPeriod(event.getTimeoutPeriod())
                     .priority(event.getPriority())
+                    .publishedAt(event.getTimestamp())
                     .build();
 
             // Show notification
@@ -277,6 +332,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
                     .trayMessage(WorkCode.HOURLY_WARNING_TRAY)
                     .timeoutPeriod(event.getTimeoutPeriod())
                     .priority(event.getPriority())
+                    .publishedAt(event.getTimestamp())
                     .build();
 
             // Show notification
@@ -318,6 +374,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
                     .trayMessage(String.format(WorkCode.LONG_TEMP_STOP_WARNING_TRAY, hours, minutes))
                     .timeoutPeriod(event.getTimeoutPeriod())
                     .priority(event.getPriority())
+                    .publishedAt(event.getTimestamp())
                     .build();
 
             // Show notification
@@ -352,6 +409,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
                     .trayMessage(WorkCode.START_DAY_MESSAGE_TRAY)
                     .timeoutPeriod(event.getTimeoutPeriod())
                     .priority(event.getPriority())
+                    .publishedAt(event.getTimestamp())
                     .build();
 
             // Show notification
@@ -380,6 +438,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
                     .trayMessage(event.getTrayMessage())
                     .timeoutPeriod(event.getTimeoutPeriod())
                     .priority(event.getPriority())
+                    .publishedAt(event.getTimestamp())
                     .build();
 
             // Show notification
@@ -403,16 +462,22 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
         try {
             LoggerUtil.info(this.getClass(), "Attempting to show test notification for user.");
 
+            // Render the background off the EDT
+            BufferedImage notificationImage = NotificationBackgroundFactory.createNotificationBackground(WorkCode.TEST_NOTICE_TITLE, WorkCode.TEST_MESSAGE);
+            long preparedAt = System.currentTimeMillis();
+
             // Use invokeLater for EDT thread safety - fire-and-forget pattern
             SwingUtilities.invokeLater(() -> {
+                long edtStartedAt = System.currentTimeMillis();
                 try {
                     // Try to create and show dialog first
-                    DialogComponents components = createDialog(WorkCode.TEST_NOTICE_TITLE, WorkCode.TEST_MESSAGE);
+                    DialogComponents components = createDialog(event.getNotificationType(), notificationImage);
 
                     // Add test-specific buttons
                     addTestButtons(components, userResponded);
 
                     try {
+                        trackTimeToScreen(components.dialog(), event.getNotificationType(), "Test", event.getTimestamp(), preparedAt, edtStartedAt);
                         showDialog(components.dialog(), "Test", event.getNotificationType());
 
                         // Generate unique ID for test notification
@@ -452,7 +517,9 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
     }
 
     // Core display methods
-    private boolean showNotificationDialog(NotificationRequest request, String notificationId) {
+    private boolean showNotificationDialog(NotificationRequest request, String notificationId, BufferedImage notificationImage, long preparedAt) {
+        long edtStartedAt = System.currentTimeMillis();
+
         // Sanity check - make sure we're on EDT
         if (!SwingUtilities.isEventDispatchThread()) {
             LoggerUtil.error(this.getClass(), "showNotificationDialog called from non-EDT thread!");
@@ -492,13 +559,14 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
         boolean dialogDisplayed;
 
         try {
-            // Create the dialog
-            DialogComponents components = createDialog(request.getTitle(), request.getMessage());
+            // Take a pooled window for this notification type
+            DialogComponents components = createDialog(request.getType().getTypeId(), notificationImage);
 
             // Add buttons based on notification type
             addButtonsForNotificationType(components, request);
 
             // Show the dialog
+            trackTimeToScreen(components.dialog(), request.getType().getTypeId(), request.getUsername(), request.getPublishedAt(), preparedAt, edtStartedAt);
             showDialog(components.dialog(), request.getUsername(), request.getType().getTypeId());
             dialogDisplayed = true;
 
@@ -516,7 +584,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
         return dialogDisplayed;
     }
 
-    private void showDialog(JDialog dialog, String username, String notificationType) {
+    private void showDialog(PooledNotificationDialog dialog, String username, String notificationType) {
         // Skip if notifications are disabled - MOVED TO EARLIER IN THE FLOW
         // This check is now redundant but kept for safety
         if (!configService.isNotificationsEnabled()) {
@@ -532,6 +600,9 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
         dialog.getRootPane().putClientProperty("notificationType", notificationType);
         dialog.getRootPane().putClientProperty("creationTime", System.currentTimeMillis());
 
+        // Lay out the buttons added for this notification
+        dialog.validate();
+
         // Calculate dialog position based on configuration
         positionDialogBasedOnConfig(dialog);
 
@@ -545,55 +616,31 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
     }
 
     /**
-     * Creates a dialog with the specified title and message
+     * Takes a notification window from the pool of the given type (or builds one) and puts the
+     * pre-rendered background on it. Must run on the EDT.
      */
-    private DialogComponents createDialog(String title, String message) {
-        JDialog dialog = createNotificationDialog();
-        dialog.setLayout(new BorderLayout());
-
-        BufferedImage notificationImage = NotificationBackgroundFactory.createNotificationBackground(title, message);
-
-        // Set proper styling
-        dialog.setUndecorated(true);
-        dialog.setAlwaysOnTop(true);
-        dialog.setType(Window.Type.UTILITY);
-        dialog.setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
-        dialog.setLayout(new BorderLayout());
-        dialog.setBackground(new Color(0, 0, 0, 0)); // Transparent background
-
-        JPanel contentPanel = getJPanel(notificationImage, dialog);
-
-        JPanel buttonsPanel = new JPanel();
-        buttonsPanel.setOpaque(false);
-        buttonsPanel.setPreferredSize(new Dimension(NOTIFICATION_WIDTH, BUTTONS_PANEL_HEIGHT));
-        buttonsPanel.setLayout(new FlowLayout(FlowLayout.CENTER, BUTTON_SPACING, 10));
-
-        dialog.add(contentPanel, BorderLayout.CENTER);
-        dialog.add(buttonsPanel, BorderLayout.SOUTH);
-
-        dialog.pack();
+    private DialogComponents createDialog(String poolKey, BufferedImage notificationImage) {
+        Deque<PooledNotificationDialog> pool = dialogPool.get(poolKey);
+        PooledNotificationDialog dialog = pool != null ? pool.pollFirst() : null;
+        if (dialog == null) {
+            dialog = createPooledDialog(poolKey);
+            LoggerUtil.debug(this.getClass(), "Notification window pool for {} empty, built a new window", poolKey);
+        }
 
-        // This is crucial for correctly displaying the shaped window
-        dialog.setShape(new RoundRectangle2D.Double(0, 0, dialog.getWidth(), dialog.getHeight(), 20, 20));
+        // Opacity may have changed in the configuration since the window was built
+        applyConfiguredOpacity(dialog);
+        dialog.lease(notificationImage, this::returnToPool);
 
-        return new DialogComponents(dialog, buttonsPanel);
+        return new DialogComponents(dialog, dialog.getButtonsPanel());
     }
 
-    private @NotNull JPanel getJPanel(BufferedImage notificationImage, JDialog dialog) {
-        JPanel contentPanel = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                g.drawImage(notificationImage, 0, 0, this);
-            }
-
-            @Override
-            public boolean isOpaque() {
-                return false;
-            }
-        };
-
-        contentPanel.setPreferredSize(new Dimension(NOTIFICATION_WIDTH, NOTIFICATION_HEIGHT - BUTTONS_PANEL_HEIGHT));
-        contentPanel.setLayout(null); // Use absolute positioning for close button
+    /**
+     * Builds a notification window: content panel with close button and drag support, empty buttons panel.
+     * The native window is created here (pack), so pooled windows show without that cost.
+     */
+    private PooledNotificationDialog createPooledDialog(String poolKey) {
+        PooledNotificationDialog dialog = createNotificationDialog(poolKey);
+        JPanel contentPanel = dialog.getContentPanel();
 
         // Add close button (this will appear on top of the background)
         addCloseButton(contentPanel, dialog);
@@ -629,17 +676,70 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
 
                 // Log dragging activity at debug level
                 if (Math.random() < 0.1) { // Log only occasionally to avoid spamming logs
-                    LoggerUtil.debug(this.getClass(), String.format("User dragging notification to X: %d, Y: %d", X, Y));
+                    LoggerUtil.debug(this.getClass(), "User dragging notification to X: {}, Y: {}", X, Y);
                 }
             }
         };
 
         contentPanel.addMouseListener(dragAdapter);
         contentPanel.addMouseMotionListener(dragAdapter);
-        return contentPanel;
+
+        dialog.pack();
+
+        // This is crucial for correctly displaying the shaped window
+        dialog.setShape(new RoundRectangle2D.Double(0, 0, dialog.getWidth(), dialog.getHeight(), 20, 20));
+
+        return dialog;
+    }
+
+    /**
+     * Release handler of pooled windows (EDT): keeps up to poolSizePerType idle windows per type.
+     */
+    private void returnToPool(PooledNotificationDialog dialog) {
+        Deque<PooledNotificationDialog> pool = dialogPool.computeIfAbsent(dialog.getPoolKey(), key -> new ArrayDeque<>());
+        if (pool.size() < poolSizePerType) {
+            pool.addFirst(dialog);
+        } else {
+            dialog.destroy();
+        }
+    }
+
+    /**
+     * Renders the shared background layer on the calling thread and builds one window per notification type on the EDT.
+     */
+    private void prewarmDialogPool() {
+        NotificationBackgroundFactory.preload();
+        SwingUtilities.invokeLater(() -> {
+            try {
+                for (NotificationType type : NotificationType.values()) {
+                    Deque<PooledNotificationDialog> pool = dialogPool.computeIfAbsent(type.getTypeId(), key -> new ArrayDeque<>());
+                    while (pool.size() < poolSizePerType) {
+                        pool.addFirst(createPooledDialog(type.getTypeId()));
+                    }
+                }
+                LoggerUtil.info(this.getClass(), "Notification window pool ready ({} per type)", poolSizePerType);
+            } catch (Exception e) {
+                LoggerUtil.error(this.getClass(), "Error pre-building notification windows: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Logs the time from event publish to the notification being painted, split into
+     * background preparation (caller thread), waiting for the EDT and building/showing the window.
+     */
+    private void trackTimeToScreen(PooledNotificationDialog dialog, String notificationType, String username,
+                                   LocalDateTime publishedAt, long preparedAt, long edtStartedAt) {
+        long publishedAtMillis = publishedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        dialog.onFirstPaint(() -> {
+            long paintedAt = System.currentTimeMillis();
+            LoggerUtil.info(this.getClass(), "{} notification for {} on screen {} ms after publish (prepare: {} ms, EDT wait: {} ms, show: {} ms)",
+                    notificationType, username, paintedAt - publishedAtMillis, preparedAt - publishedAtMillis,
+                    edtStartedAt - preparedAt, paintedAt - edtStartedAt);
+        });
     }
 
-    private void positionDialogBasedOnConfig(JDialog dialog) {
+    private void positionDialogBasedOnConfig(PooledNotificationDialog dialog) {
         try {
             // Get the screen device where the dialog should appear
             GraphicsDevice screen = getGraphicsDevice();
@@ -729,7 +829,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
     /**
      * Adds a close button to the top left corner of the notification (moved from right for better visibility on laptops)
      */
-    private void addCloseButton(JPanel contentPanel, JDialog dialog) {
+    private void addCloseButton(JPanel contentPanel, PooledNotificationDialog dialog) {
         // Create close button with × symbol
         JButton closeButton = new JButton("×");
         closeButton.setFont(new Font("Arial", Font.BOLD, 20));
@@ -779,7 +879,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
      * Dismisses the notification dialog without affecting backup tasks or business logic.
      * This allows the notification to reappear if the underlying condition still exists.
      */
-    private void dismissNotificationOnly(JDialog dialog) {
+    private void dismissNotificationOnly(PooledNotificationDialog dialog) {
         try {
             // Get dialog info for logging
             String username = "unknown";
@@ -802,7 +902,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
 
             // Remove from active dialogs map
             activeDialogs.entrySet().removeIf(entry ->
-                    entry.getValue() == dialog || entry.getValue() == null || !entry.getValue().isDisplayable());
+                    entry.getValue() == dialog || entry.getValue() == null || !entry.getValue().isLeased());
 
             // Clean up visibility timers for this specific dialog
             if (dialog.getRootPane() != null) {
@@ -835,12 +935,13 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
     /**
      * Ensures dialog is visible by checking display status and repositioning if needed
      */
-    private void ensureDialogVisible(JDialog dialog) {
-        SwingUtilities.invokeLater(() -> {
+    private void ensureDialogVisible(PooledNotificationDialog dialog) {
+        // Check once the dialog has had time to render, without holding the EDT meanwhile
+        Timer visibilityCheck = new Timer(500, e -> {
             try {
-                // Wait briefly to ensure dialog has been rendered
-                Thread.sleep(500);
-
+                if (!dialog.isLeased()) {
+                    return;
+                }
                 if (!dialog.isShowing() || !isDialogFullyVisible(dialog)) {
                     LoggerUtil.warn(this.getClass(),
                             "Dialog may not be fully visible, repositioning to center screen");
@@ -848,17 +949,20 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
                     // Fallback to center screen position
                     centerDialogOnScreen(dialog);
                 }
-            } catch (Exception e) {
+            } catch (Exception ex) {
                 LoggerUtil.error(this.getClass(),
-                        "Error checking dialog visibility: " + e.getMessage());
+                        "Error checking dialog visibility: " + ex.getMessage());
             }
         });
+        visibilityCheck.setRepeats(false);
+        dialog.addLeaseTimer(visibilityCheck);
+        visibilityCheck.start();
     }
 
     /**
      * Checks if dialog is fully visible on any screen
      */
-    private boolean isDialogFullyVisible(JDialog dialog) {
+    private boolean isDialogFullyVisible(PooledNotificationDialog dialog) {
         try {
             if (!dialog.isShowing()) {
                 return false;
@@ -898,7 +1002,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
     /**
      * Centers dialog on the screen where most of its area is visible
      */
-    private void centerDialogOnScreen(JDialog dialog) {
+    private void centerDialogOnScreen(PooledNotificationDialog dialog) {
         try {
             GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
             GraphicsDevice[] screens = ge.getScreenDevices();
@@ -948,14 +1052,10 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
     /**
      * Creates a dialog with size adapted to the screen constraints
      */
-    private JDialog createNotificationDialog() {
-        JDialog dialog = new JDialog();
-
-        // Don't make any changes to the dialog until we've set up all properties
-        dialog.setUndecorated(true);
-        dialog.setAlwaysOnTop(true);
-        dialog.setType(Window.Type.UTILITY);
-        dialog.setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
+    private PooledNotificationDialog createNotificationDialog(String poolKey) {
+        PooledNotificationDialog dialog = new PooledNotificationDialog(poolKey,
+                new Dimension(NOTIFICATION_WIDTH, NOTIFICATION_HEIGHT - BUTTONS_PANEL_HEIGHT),
+                new Dimension(NOTIFICATION_WIDTH, BUTTONS_PANEL_HEIGHT), BUTTON_SPACING);
 
         // Get the screen where the dialog will appear
         GraphicsConfiguration gc = dialog.getGraphicsConfiguration();
@@ -976,27 +1076,28 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
 
         dialog.setSize(width, height);
 
-        // Apply opacity if configured (only if > 0)
-        float opacity = configService.getNotificationOpacity();
-        if (opacity > 0.0f && opacity < 1.0f) {
-            dialog.setOpacity(opacity);
-        }
-
-        // Make sure background is transparent
-        dialog.setBackground(new Color(0, 0, 0, 0));
-
-        LoggerUtil.debug(this.getClass(),
-                String.format("Created dialog with dimensions: %dx%d (config: %dx%d, opacity: %.1f)",
-                        width, height, configWidth, configHeight, opacity));
+        LoggerUtil.debug(this.getClass(), "Created {} notification window with dimensions: {}x{} (config: {}x{})",
+                poolKey, width, height, configWidth, configHeight);
 
         return dialog;
     }
 
+    /**
+     * Applies the configured opacity (only if > 0 and < 1)
+     */
+    private void applyConfiguredOpacity(PooledNotificationDialog dialog) {
+        float opacity = configService.getNotificationOpacity();
+        float target = opacity > 0.0f && opacity < 1.0f ? opacity : 1.0f;
+        if (dialog.getOpacity() != target) {
+            dialog.setOpacity(target);
+        }
+    }
+
     /**
      * Enhances notification dialog visibility for long-duration notifications
      * This method keeps a dialog visible during business hours
      */
-    private void enhanceLongDurationVisibility(JDialog dialog, String username, String notificationType) {
+    private void enhanceLongDurationVisibility(PooledNotificationDialog dialog, String username, String notificationType) {
         // Only apply to START_DAY_TYPE and RESOLUTION_REMINDER_TYPE
         if (!WorkCode.START_DAY_TYPE.equals(notificationType) &&
                 !WorkCode.RESOLUTION_REMINDER_TYPE.equals(notificationType)) {
@@ -1007,7 +1108,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
         Timer visibilityTimer = new Timer(30000, e -> { // Check every 30 seconds (increased frequency from 60s)
             try {
                 // Only proceed if dialog still exists
-                if (dialog == null || !dialog.isDisplayable()) {
+                if (dialog == null || !dialog.isLeased()) {
                     return;
                 }
 
@@ -1057,6 +1158,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
         dialog.getRootPane().putClientProperty("isPersistentNotification", Boolean.TRUE);
 
         visibilityTimer.setRepeats(true);
+        dialog.addLeaseTimer(visibilityTimer);
         visibilityTimer.start();
 
         // Store timer reference for cleanup
@@ -1069,7 +1171,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
     /**
      * Sets up an auto-close timer for a notification dialog
      */
-    private void setupAutoCloseTimer(JDialog dialog, String username,Integer userId, int timeoutPeriod, String notificationType, AtomicBoolean respondedFlag) {
+    private void setupAutoCloseTimer(PooledNotificationDialog dialog, String username,Integer userId, int timeoutPeriod, String notificationType, AtomicBoolean respondedFlag) {
 
         if (timeoutPeriod == WorkCode.ON_FOR_TWELVE_HOURS) {
             // Setup enhanced visibility for long-duration notifications
@@ -1091,7 +1193,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
         final int MAX_NOTIFICATION_COUNT = 8;
 
         Timer autoCloseTimer = new Timer(timeoutPeriod, e -> {
-            if (!respondedFlag.get() && dialog.isDisplayable()) {
+            if (!respondedFlag.get() && dialog.isLeased()) {
                 LoggerUtil.info(this.getClass(), String.format("Auto-dismissing %s notification for %s after timeout (%d ms), count: %d/%d",
                         notificationType, username, timeoutPeriod, currentCount + 1, MAX_NOTIFICATION_COUNT));
 
@@ -1123,6 +1225,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
         });
 
         autoCloseTimer.setRepeats(false);
+        dialog.addLeaseTimer(autoCloseTimer);
         autoCloseTimer.start();
 
         LoggerUtil.debug(this.getClass(), String.format("Set auto-dismiss timer for %s notification, user: %s, timeout: %d ms, count: %d/%d",
@@ -1216,7 +1319,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
      */
     private void addTestButtons(DialogComponents components, AtomicBoolean respondedFlag) {
         JPanel buttonsPanel = components.buttonsPanel();
-        JDialog dialog = components.dialog();
+        PooledNotificationDialog dialog = components.dialog();
 
         // Open Website Button using ButtonFactory
         JButton openWebsiteButton = ButtonFactory.createButton(
@@ -1256,7 +1359,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
      */
     private void addStandardButtons(DialogComponents components, String username, Integer userId, Integer finalMinutes, boolean isHourly) {
         JPanel buttonsPanel = components.buttonsPanel();
-        JDialog dialog = components.dialog();
+        PooledNotificationDialog dialog = components.dialog();
 
         String notificationType = isHourly ? WorkCode.HOURLY_TYPE : WorkCode.SCHEDULE_END_TYPE;
 
@@ -1301,7 +1404,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
      * Example of using the handleNotificationResponse helper in a button handler.
      * This shows how the continueWorkingButton would be implemented using the helper.
      */
-    private JButton createContinueWorkingButton(String username, Integer userId, boolean isHourly, JDialog dialog) {
+    private JButton createContinueWorkingButton(String username, Integer userId, boolean isHourly, PooledNotificationDialog dialog) {
         return ButtonFactory.createButton(
                 WorkCode.CONTINUE_WORKING,
                 ButtonFactory.BUTTON_PRIMARY,
@@ -1335,7 +1438,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
      * @param notificationType The type of notification being handled
      * @param dialog           The dialog being closed
      */
-    private void handleNotificationResponse(String username, Integer userId, String notificationType, JDialog dialog) {
+    private void handleNotificationResponse(String username, Integer userId, String notificationType, PooledNotificationDialog dialog) {
         try {
             // 1. Cancel any pending backup tasks
             backupService.cancelBackupTask(username);
@@ -1365,7 +1468,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
      */
     private void addTempStopButtons(DialogComponents components, String username, Integer userId) {
         JPanel buttonsPanel = components.buttonsPanel();
-        JDialog dialog = components.dialog();
+        PooledNotificationDialog dialog = components.dialog();
 
         // Continue Break Button using ButtonFactory
         JButton continueBreakButton = ButtonFactory.createButton(
@@ -1459,7 +1562,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
      */
     private void addStartDayButtons(DialogComponents components, String username, Integer userId) {
         JPanel buttonsPanel = components.buttonsPanel();
-        JDialog dialog = components.dialog();
+        PooledNotificationDialog dialog = components.dialog();
 
         // Start Work Button using ButtonFactory
         JButton startWorkButton = ButtonFactory.createButton(
@@ -1513,7 +1616,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
      */
     private void addResolutionButtons(DialogComponents components) {
         JPanel buttonsPanel = components.buttonsPanel();
-        JDialog dialog = components.dialog();
+        PooledNotificationDialog dialog = components.dialog();
 
         // Resolve Session Button using ButtonFactory
         JButton resolveSessionButton = ButtonFactory.createButton(
@@ -1560,16 +1663,16 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
     /**
      * Performs a focused cleanup of notification UI resources
      */
-    private void cleanupNotificationResources(JDialog dialog) {
+    private void cleanupNotificationResources(PooledNotificationDialog dialog) {
         try {
             // Make sure the dialog is disposed
-            if (dialog != null && dialog.isDisplayable()) {
+            if (dialog != null && dialog.isLeased()) {
                 dialog.dispose();
             }
 
             // Remove from active dialogs
             activeDialogs.entrySet().removeIf(entry ->
-                    entry.getValue() == dialog || entry.getValue() == null || !entry.getValue().isDisplayable());
+                    entry.getValue() == dialog || entry.getValue() == null || !entry.getValue().isLeased());
 
             // Cleanup visibility timers associated with this dialog
             // Get dialog identifier from client properties if available
@@ -1588,11 +1691,6 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
                 }
             }
 
-            // Give a hint to garbage collector (optional)
-            if (Math.random() < 0.25) { // Only trigger occasionally to avoid performance impact
-                System.gc();
-            }
-
             LoggerUtil.debug(this.getClass(), "Notification resources cleaned up");
 
         } catch (Exception e) {
@@ -1607,8 +1705,8 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
         SwingUtilities.invokeLater(() -> {
             try {
                 // Dispose any visible dialogs
-                for (JDialog dialog : activeDialogs.values()) {
-                    if (dialog.isDisplayable()) {
+                for (PooledNotificationDialog dialog : activeDialogs.values()) {
+                    if (dialog.isLeased()) {
                         dialog.dispose();
                     }
                 }
@@ -1616,9 +1714,6 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
                 // Clear the map
                 activeDialogs.clear();
 
-                // Force a garbage collection hint (optional, system may ignore)
-                System.gc();
-
                 LoggerUtil.debug(this.getClass(), "UI resources cleanup completed");
 
             } catch (Exception e) {
@@ -1669,6 +1764,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
      * Heartbeat to ensure the service is still functioning
      */
     @Scheduled(fixedRate = 240000) // Run every 4 minutes
+    @ScheduledJob(name = "notification-display-heartbeat")
     public void heartbeat() {
         try {
             // Record that the service is still alive
@@ -1697,10 +1793,10 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
 
         // Remove dialogs from the active dialogs map based on specific criteria
         activeDialogs.entrySet().removeIf(entry -> {
-            JDialog dialog = entry.getValue();
+            PooledNotificationDialog dialog = entry.getValue();
 
             // Check if dialog is still displayed
-            if (dialog.isDisplayable()) {
+            if (dialog.isLeased()) {
                 // Get dialog creation time and notification type from client properties
                 Object creationTimeObj = dialog.getRootPane().getClientProperty("creationTime");
                 Object typeObj = dialog.getRootPane().getClientProperty("notificationType");
@@ -1749,10 +1845,10 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
                 int removedCount = 0;
 
                 // Check each dialog
-                for (Map.Entry<String, JDialog> entry : activeDialogs.entrySet()) {
-                    JDialog dialog = entry.getValue();
+                for (Map.Entry<String, PooledNotificationDialog> entry : activeDialogs.entrySet()) {
+                    PooledNotificationDialog dialog = entry.getValue();
 
-                    if (dialog.isDisplayable()) {
+                    if (dialog.isLeased()) {
                         // Get notification type if available
                         Object typeObj = dialog.getRootPane().getClientProperty("notificationType");
                         String notificationType = (typeObj instanceof String) ? (String) typeObj : null;
@@ -1773,7 +1869,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
                 }
 
                 // Remove disposed dialogs from map
-                activeDialogs.entrySet().removeIf(entry -> !entry.getValue().isDisplayable());
+                activeDialogs.entrySet().removeIf(entry -> !entry.getValue().isLeased());
 
                 LoggerUtil.debug(this.getClass(), String.format("Cleaned up %d non-long-duration dialogs, preserved long-duration dialogs", removedCount));
 
@@ -1798,16 +1894,22 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
         try {
             LoggerUtil.info(this.getClass(), "Showing mockup notification for user: " + event.getUsername());
 
+            // Render the background off the EDT
+            BufferedImage notificationImage = NotificationBackgroundFactory.createNotificationBackground(event.getTitle(), event.getMessage());
+            long preparedAt = System.currentTimeMillis();
+
             // Use invokeLater for EDT thread safety - fire-and-forget pattern
             SwingUtilities.invokeLater(() -> {
+                long edtStartedAt = System.currentTimeMillis();
                 try {
                     // Try to create and show dialog first
-                    DialogComponents components = createDialog(event.getTitle(), event.getMessage());
+                    DialogComponents components = createDialog(event.getNotificationType(), notificationImage);
 
                     // Add mockup buttons based on the mockup type
                     addMockupButtons(components, event.getMockupType());
 
                     try {
+                        trackTimeToScreen(components.dialog(), event.getNotificationType(), event.getUsername(), event.getTimestamp(), preparedAt, edtStartedAt);
                         showDialog(components.dialog(), event.getUsername(), event.getNotificationType());
 
                         // Generate unique ID for the notification
@@ -1852,7 +1954,7 @@ public class NotificationDisplayService implements NotificationEventSubscriber {
      */
     private void addMockupButtons(DialogComponents components, String mockupType) {
         JPanel buttonsPanel = components.buttonsPanel();
-        JDialog dialog = components.dialog();
+        PooledNotificationDialog dialog = components.dialog();
 
         switch (mockupType) {
             case WorkCode.SCHEDULE_END_TYPE:
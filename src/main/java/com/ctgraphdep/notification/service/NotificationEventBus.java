@@ -1,29 +1,74 @@
 package com.ctgraphdep.notification.service;
 
+import com.ctgraphdep.config.WorkCode;
+import com.ctgraphdep.monitoring.MonitoringStateService;
 import com.ctgraphdep.notification.api.NotificationEventPublisher;
 import com.ctgraphdep.notification.api.NotificationEventSubscriber;
 import com.ctgraphdep.notification.events.NotificationEvent;
+import com.ctgraphdep.notification.model.NotificationDispatchStats;
 import com.ctgraphdep.utils.LoggerUtil;
 import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Implementation of NotificationEventPublisher using a simple event bus pattern.
- * This manages subscribers and delivers events to them asynchronously.
+ * Implementation of NotificationEventPublisher using a keyed dispatch queue.
+ * Events are keyed by user + notification type:
+ * - a newer event replaces the one still waiting for the same key (coalescing),
+ * - deliveries for the same key never overlap and follow publish order,
+ * - waiting keys are served by event priority, then publish order,
+ * - an event is skipped when the same type was shown to the user within the minimum interval
+ *   (MonitoringStateService notification times); test and mockup notifications are exempt,
+ * - at most maxPendingEvents events wait at a time; when full, the lowest priority waiting event is
+ *   evicted for a higher priority one, otherwise the new event is dropped.
  */
 @Component
 public class NotificationEventBus implements NotificationEventPublisher {
 
+    // User-initiated notifications, never rate limited
+    private static final Set<String> UNLIMITED_TYPES = Set.of(WorkCode.TEST_TYPE, WorkCode.MOCKUP_TYPE);
+
+    private static final Comparator<DispatchSlot> DISPATCH_ORDER = Comparator
+            .comparingInt((DispatchSlot slot) -> slot.priority).reversed()
+            .thenComparingLong(slot -> slot.sequence);
+
     private final Set<NotificationEventSubscriber> subscribers = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final MonitoringStateService monitoringStateService;
     private final ExecutorService executorService;
+    private final int maxPendingEvents;
+    private final int minIntervalMinutes;
+
+    // Dispatch state, guarded by this
+    private final Map<String, DispatchSlot> slots = new HashMap<>();
+    private final PriorityQueue<DispatchSlot> readyQueue = new PriorityQueue<>(DISPATCH_ORDER);
+    private int pendingCount = 0;
+    private int inFlightCount = 0;
+    private long sequence = 0;
 
-    public NotificationEventBus() {
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong rateLimitedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    public NotificationEventBus(MonitoringStateService monitoringStateService,
+                                @Value("${app.notification.dispatch.max-pending:64}") int maxPendingEvents,
+                                @Value("${app.notification.dispatch.min-interval-minutes:1}") int minIntervalMinutes) {
+        this.monitoringStateService = monitoringStateService;
+        this.maxPendingEvents = Math.max(1, maxPendingEvents);
+        this.minIntervalMinutes = minIntervalMinutes;
         // Use a dedicated thread pool for notification events
         this.executorService = Executors.newFixedThreadPool(2);
         LoggerUtil.initialize(this.getClass(), null);
@@ -36,36 +81,51 @@ public class NotificationEventBus implements NotificationEventPublisher {
             return;
         }
 
-        LoggerUtil.info(this.getClass(),
-                String.format("Publishing notification event: %s for user: %s",
-                        event.getClass().getSimpleName(), event.getUsername()));
+        publishedCount.incrementAndGet();
+        String key = event.getUsername() + ":" + event.getNotificationType();
 
-        // Find subscribers that can handle this event type
-        Class<? extends NotificationEvent> eventType = event.getClass();
+        synchronized (this) {
+            DispatchSlot slot = slots.computeIfAbsent(key, DispatchSlot::new);
 
-        // Deliver to matching subscribers asynchronously
-        for (NotificationEventSubscriber subscriber : subscribers) {
-            if (subscriber.canHandle(eventType)) {
-                executorService.submit(() -> {
-                    try {
-                        subscriber.onNotificationEvent(event);
-                    } catch (Exception e) {
-                        LoggerUtil.error(this.getClass(),
-                                String.format("Error delivering event to subscriber %s: %s",
-                                        subscriber.getClass().getSimpleName(),
-                                        e.getMessage()), e);
-                    }
-                });
+            if (slot.pending != null) {
+                // Same user + type still waiting: keep its place (and priority) in the queue, deliver the newest event
+                slot.pending = event;
+                coalescedCount.incrementAndGet();
+                LoggerUtil.debug(this.getClass(), "Coalesced notification event: {} for user: {}",
+                        event.getClass().getSimpleName(), event.getUsername());
+                return;
+            }
+
+            if (pendingCount >= maxPendingEvents && !evictLowerPriorityThan(event)) {
+                droppedCount.incrementAndGet();
+                if (!slot.inFlight) {
+                    slots.remove(key);
+                }
+                LoggerUtil.warn(this.getClass(), "Notification queue full ({} events), dropped {} for user: {}",
+                        pendingCount, event.getClass().getSimpleName(), event.getUsername());
+                return;
+            }
+
+            slot.pending = event;
+            slot.priority = event.getPriority();
+            slot.sequence = sequence++;
+            pendingCount++;
+
+            if (!slot.inFlight) {
+                readyQueue.add(slot);
+                executorService.execute(this::deliverNext);
             }
         }
+
+        LoggerUtil.info(this.getClass(), "Publishing notification event: {} for user: {}",
+                event.getClass().getSimpleName(), event.getUsername());
     }
 
     @Override
     public void registerSubscriber(NotificationEventSubscriber subscriber) {
         if (subscriber != null) {
             subscribers.add(subscriber);
-            LoggerUtil.info(this.getClass(),
-                    "Registered subscriber: " + subscriber.getClass().getSimpleName());
+            LoggerUtil.info(this.getClass(), "Registered subscriber: {}", subscriber.getClass().getSimpleName());
         }
     }
 
@@ -73,11 +133,27 @@ public class NotificationEventBus implements NotificationEventPublisher {
     public void unregisterSubscriber(NotificationEventSubscriber subscriber) {
         if (subscriber != null) {
             subscribers.remove(subscriber);
-            LoggerUtil.info(this.getClass(),
-                    "Unregistered subscriber: " + subscriber.getClass().getSimpleName());
+            LoggerUtil.info(this.getClass(), "Unregistered subscriber: {}", subscriber.getClass().getSimpleName());
         }
     }
 
+    /**
+     * Current queue depth and dispatch counters.
+     */
+    public synchronized NotificationDispatchStats getDispatchStats() {
+        return NotificationDispatchStats.builder()
+                .queueDepth(pendingCount)
+                .inFlight(inFlightCount)
+                .maxPendingEvents(maxPendingEvents)
+                .published(publishedCount.get())
+                .delivered(deliveredCount.get())
+                .coalesced(coalescedCount.get())
+                .dropped(droppedCount.get())
+                .rateLimited(rateLimitedCount.get())
+                .failed(failedCount.get())
+                .build();
+    }
+
     /**
      * Shutdown method to clean up resources
      */
@@ -85,4 +161,98 @@ public class NotificationEventBus implements NotificationEventPublisher {
     public void shutdown() {
         executorService.shutdown();
     }
-}
\ No newline at end of file
+
+    // Runs on the pool, once per slot added to the ready queue
+    private void deliverNext() {
+        DispatchSlot slot;
+        NotificationEvent event;
+        synchronized (this) {
+            slot = readyQueue.poll();
+            if (slot == null) {
+                return;
+            }
+            event = slot.pending;
+            slot.pending = null;
+            slot.inFlight = true;
+            pendingCount--;
+            inFlightCount++;
+        }
+
+        try {
+            deliver(event);
+        } finally {
+            synchronized (this) {
+                slot.inFlight = false;
+                inFlightCount--;
+                if (slot.pending != null) {
+                    // Published while this one was being delivered
+                    readyQueue.add(slot);
+                    executorService.execute(this::deliverNext);
+                } else {
+                    slots.remove(slot.key);
+                }
+            }
+        }
+    }
+
+    private void deliver(NotificationEvent event) {
+        String notificationType = event.getNotificationType();
+        if (minIntervalMinutes > 0 && event.getUsername() != null && !UNLIMITED_TYPES.contains(notificationType)
+                && !monitoringStateService.canShowNotification(event.getUsername(), notificationType, minIntervalMinutes)) {
+            rateLimitedCount.incrementAndGet();
+            LoggerUtil.debug(this.getClass(), "Rate limited notification event: {} for user: {} (shown less than {} min ago)",
+                    event.getClass().getSimpleName(), event.getUsername(), minIntervalMinutes);
+            return;
+        }
+
+        // Deliver to subscribers that can handle this event type, in turn
+        Class<? extends NotificationEvent> eventType = event.getClass();
+        for (NotificationEventSubscriber subscriber : subscribers) {
+            if (subscriber.canHandle(eventType)) {
+                try {
+                    subscriber.onNotificationEvent(event);
+                    deliveredCount.incrementAndGet();
+                } catch (Exception e) {
+                    failedCount.incrementAndGet();
+                    LoggerUtil.error(this.getClass(), String.format("Error delivering event to subscriber %s: %s",
+                            subscriber.getClass().getSimpleName(), e.getMessage()), e);
+                }
+            }
+        }
+    }
+
+    // Called with the queue full: evicts the lowest priority waiting event if it ranks below the new one
+    private boolean evictLowerPriorityThan(NotificationEvent event) {
+        DispatchSlot lowest = null;
+        for (DispatchSlot candidate : readyQueue) {
+            if (lowest == null || DISPATCH_ORDER.compare(candidate, lowest) > 0) {
+                lowest = candidate;
+            }
+        }
+        if (lowest == null || lowest.priority >= event.getPriority()) {
+            return false;
+        }
+
+        readyQueue.remove(lowest);
+        LoggerUtil.warn(this.getClass(), "Notification queue full, evicted {} for user: {}",
+                lowest.pending.getClass().getSimpleName(), lowest.pending.getUsername());
+        lowest.pending = null;
+        slots.remove(lowest.key);
+        pendingCount--;
+        droppedCount.incrementAndGet();
+        // The delivery task submitted for the evicted slot stays queued and serves whichever slot is next
+        return true;
+    }
+
+    private static final class DispatchSlot {
+        private final String key;
+        private NotificationEvent pending;
+        private int priority;
+        private long sequence;
+        private boolean inFlight;
+
+        private DispatchSlot(String key) {
+            this.key = key;
+        }
+    }
+}
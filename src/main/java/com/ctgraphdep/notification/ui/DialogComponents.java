@@ -2,5 +2,5 @@ package com.ctgraphdep.notification.ui;
 
 import javax.swing.*;
 
-public record DialogComponents(JDialog dialog, JPanel buttonsPanel) {
-}
\ No newline at end of file
+public record DialogComponents(PooledNotificationDialog dialog, JPanel buttonsPanel) {
+}
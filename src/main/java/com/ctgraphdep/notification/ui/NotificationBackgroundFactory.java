@@ -11,28 +11,82 @@ import javax.imageio.ImageIO;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Renders notification backgrounds.
+ * The parts shared by every notification (gradient, logo, content box, warning sign) are rendered once into
+ * a base layer; each notification copies it and draws only its title and message. Thread-safe, so backgrounds
+ * can be prepared off the EDT.
+ */
 public class NotificationBackgroundFactory {
     private static final int WIDTH = 600;
     private static final int HEIGHT = 400;
     private static final int CORNER_RADIUS = 20;
     private static final int CONTENT_PADDING = 20;
 
+    private static final int CONTENT_X = 30;
+    private static final int CONTENT_Y = 70;
+    private static final int CONTENT_WIDTH = WIDTH - (2 * CONTENT_X);
+    private static final int CONTENT_HEIGHT = 230;
+
+    private static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 20);
+    private static final Font MESSAGE_FONT = new Font("Arial", Font.PLAIN, 14);
+
+    private static volatile BufferedImage baseLayer;
+
     public static BufferedImage createNotificationBackground(String title, String message) {
         BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
         Graphics2D g2d = image.createGraphics();
 
+        // Start from the shared layer
+        g2d.drawImage(getBaseLayer(), 0, 0, null);
+
         // Enable antialiasing
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
         g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 
+        addTitle(g2d, title);
+        addMessage(g2d, message);
+
+        g2d.dispose();
+        return image;
+    }
+
+    /**
+     * Renders the shared layer ahead of the first notification.
+     */
+    public static void preload() {
+        getBaseLayer();
+    }
+
+    private static BufferedImage getBaseLayer() {
+        BufferedImage layer = baseLayer;
+        if (layer == null) {
+            synchronized (NotificationBackgroundFactory.class) {
+                layer = baseLayer;
+                if (layer == null) {
+                    layer = createBaseLayer();
+                    baseLayer = layer;
+                }
+            }
+        }
+        return layer;
+    }
+
+    private static BufferedImage createBaseLayer() {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+
+        // Enable antialiasing
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+
         // Create background
         createBackgroundGradient(g2d);
 
-        // Add logo and content
+        // Add logo and content area
         addProgramLogo(g2d);
-        addTitle(g2d, title);
-        addContentArea(g2d, message);
+        addContentArea(g2d);
 
         g2d.dispose();
         return image;
@@ -73,22 +127,17 @@ public class NotificationBackgroundFactory {
 
     private static void addTitle(Graphics2D g2d, String title) {
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 20));
+        g2d.setFont(TITLE_FONT);
 
         FontMetrics fm = g2d.getFontMetrics();
         int titleWidth = fm.stringWidth(title);
         g2d.drawString(title, (WIDTH - titleWidth) / 2, 40);
     }
 
-    private static void addContentArea(Graphics2D g2d, String message) {
-        int contentX = 30;
-        int contentY = 70;
-        int contentWidth = WIDTH - (2 * contentX);
-        int contentHeight = 230;
-
+    private static void addContentArea(Graphics2D g2d) {
         // Draw content background
         RoundRectangle2D contentRectangle = new RoundRectangle2D.Double(
-                contentX, contentY, contentWidth, contentHeight,
+                CONTENT_X, CONTENT_Y, CONTENT_WIDTH, CONTENT_HEIGHT,
                 CORNER_RADIUS, CORNER_RADIUS
         );
         g2d.setColor(new Color(255, 255, 255, 220));
@@ -108,21 +157,23 @@ public class NotificationBackgroundFactory {
                 // Position warning sign at bottom right
                 g2d.drawImage(
                         scaledWarningSign,
-                        contentX + contentWidth - signWidth - CONTENT_PADDING,
-                        contentY + contentHeight - signHeight - CONTENT_PADDING,
+                        CONTENT_X + CONTENT_WIDTH - signWidth - CONTENT_PADDING,
+                        CONTENT_Y + CONTENT_HEIGHT - signHeight - CONTENT_PADDING,
                         null
                 );
-
-                // Draw message text
-                g2d.setColor(Color.BLACK);
-                g2d.setFont(new Font("Arial", Font.PLAIN, 14));
-                drawCenteredMultilineText(g2d, message, contentX, contentY, contentWidth, contentHeight);
             }
         } catch (IOException e) {
             LoggerUtil.error(NotificationBackgroundFactory.class, "Failed to load warning sign", e);
         }
     }
 
+    private static void addMessage(Graphics2D g2d, String message) {
+        // Draw message text
+        g2d.setColor(Color.BLACK);
+        g2d.setFont(MESSAGE_FONT);
+        drawCenteredMultilineText(g2d, message, CONTENT_X, CONTENT_Y, CONTENT_WIDTH, CONTENT_HEIGHT);
+    }
+
     private static void drawCenteredMultilineText(Graphics2D g2d, String text, int x, int y, int width, int height) {
         FontMetrics fm = g2d.getFontMetrics();
         int lineHeight = fm.getHeight();
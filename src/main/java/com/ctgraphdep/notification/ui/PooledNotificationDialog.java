@@ -0,0 +1,165 @@
+package com.ctgraphdep.notification.ui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Notification window that is built once and reused.
+ * The window, its content panel and buttons panel stay alive between notifications; a lease only swaps
+ * the pre-rendered background and the buttons. dispose() hands the window back to its pool instead of
+ * destroying it, so existing dispose() calls keep working; destroy() releases the native window.
+ * A window is live while leased (isLeased), a hidden pooled window is still displayable.
+ * Must be used on the EDT, except dispose() which may be called from any thread.
+ */
+public class PooledNotificationDialog extends JDialog {
+
+    private final String poolKey;
+    private final JPanel contentPanel;
+    private final JPanel buttonsPanel;
+    private final List<Timer> leaseTimers = new ArrayList<>();
+
+    private Consumer<PooledNotificationDialog> releaseHandler;
+    private BufferedImage backgroundImage;
+    private Runnable firstPaintCallback;
+    private volatile boolean leased;
+    private boolean destroyed;
+
+    public PooledNotificationDialog(String poolKey, Dimension contentSize, Dimension buttonsSize, int buttonSpacing) {
+        this.poolKey = poolKey;
+
+        setUndecorated(true);
+        setAlwaysOnTop(true);
+        setType(Window.Type.UTILITY);
+        setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
+        setLayout(new BorderLayout());
+        setBackground(new Color(0, 0, 0, 0)); // Transparent background
+
+        contentPanel = new JPanel() {
+            @Override
+            protected void paintComponent(Graphics g) {
+                if (backgroundImage != null) {
+                    g.drawImage(backgroundImage, 0, 0, this);
+                }
+                if (firstPaintCallback != null) {
+                    Runnable callback = firstPaintCallback;
+                    firstPaintCallback = null;
+                    callback.run();
+                }
+            }
+
+            @Override
+            public boolean isOpaque() {
+                return false;
+            }
+        };
+        contentPanel.setPreferredSize(contentSize);
+        contentPanel.setLayout(null); // Absolute positioning for the close button
+
+        buttonsPanel = new JPanel();
+        buttonsPanel.setOpaque(false);
+        buttonsPanel.setPreferredSize(buttonsSize);
+        buttonsPanel.setLayout(new FlowLayout(FlowLayout.CENTER, buttonSpacing, 10));
+
+        add(contentPanel, BorderLayout.CENTER);
+        add(buttonsPanel, BorderLayout.SOUTH);
+    }
+
+    /**
+     * Takes the window out of the pool for one notification.
+     *
+     * @param background     Pre-rendered notification background
+     * @param releaseHandler Called on the EDT when the notification is disposed
+     */
+    public void lease(BufferedImage background, Consumer<PooledNotificationDialog> releaseHandler) {
+        this.backgroundImage = background;
+        this.releaseHandler = releaseHandler;
+        this.leased = true;
+        contentPanel.repaint();
+    }
+
+    public boolean isLeased() {
+        return leased;
+    }
+
+    public String getPoolKey() {
+        return poolKey;
+    }
+
+    public JPanel getContentPanel() {
+        return contentPanel;
+    }
+
+    public JPanel getButtonsPanel() {
+        return buttonsPanel;
+    }
+
+    /**
+     * Registers a timer belonging to the current notification; it is stopped when the window is released.
+     */
+    public void addLeaseTimer(Timer timer) {
+        leaseTimers.add(timer);
+    }
+
+    /**
+     * Runs the callback once, the next time the notification content is painted.
+     */
+    public void onFirstPaint(Runnable callback) {
+        this.firstPaintCallback = callback;
+    }
+
+    /**
+     * Ends the current notification and returns the window to its pool.
+     */
+    @Override
+    public void dispose() {
+        if (destroyed || !leased) {
+            return;
+        }
+        leased = false;
+
+        if (SwingUtilities.isEventDispatchThread()) {
+            release();
+        } else {
+            SwingUtilities.invokeLater(this::release);
+        }
+    }
+
+    /**
+     * Destroys the native window; the dialog cannot be used afterwards.
+     */
+    public void destroy() {
+        destroyed = true;
+        leased = false;
+        stopLeaseTimers();
+        super.dispose();
+    }
+
+    private void release() {
+        setVisible(false);
+        stopLeaseTimers();
+
+        // username / notificationType stay readable for cleanup done after dispose(); the next lease overwrites them
+        getRootPane().putClientProperty("isPersistentNotification", null);
+
+        buttonsPanel.removeAll();
+        backgroundImage = null;
+        firstPaintCallback = null;
+
+        Consumer<PooledNotificationDialog> handler = releaseHandler;
+        releaseHandler = null;
+        if (handler != null) {
+            handler.accept(this);
+        }
+    }
+
+    private void stopLeaseTimers() {
+        for (Timer timer : leaseTimers) {
+            timer.stop();
+        }
+        leaseTimers.clear();
+    }
+}
@@ -10,6 +10,8 @@ import com.ctgraphdep.utils.LoggerUtil;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
 
 @Service
@@ -67,23 +69,19 @@ public class AdminBonusService {
         }
     }
 
-    public byte[] exportBonusData(Integer year, Integer month) {
-        try {
-            Map<Integer, BonusEntryDTO> bonusData = loadBonusData(year, month);
-            return adminBonusExcelExporter.exportToExcel(bonusData, year, month);
-        } catch (Exception e) {
-            LoggerUtil.logAndThrow(this.getClass(), String.format("Error exporting bonus data for %d/%d: %s", year, month, e.getMessage()), e);
-        }
-        return null;
+    /**
+     * Streams the admin bonus report (e.g. directly to the HTTP response).
+     */
+    public void writeBonusData(Integer year, Integer month, OutputStream outputStream) throws IOException {
+        Map<Integer, BonusEntryDTO> bonusData = loadBonusData(year, month);
+        adminBonusExcelExporter.writeToExcel(bonusData, year, month, outputStream);
     }
 
-    public byte[] exportUserBonusData(Integer year, Integer month) {
-        try {
-            Map<Integer, BonusEntryDTO> bonusData = loadBonusData(year, month);
-            return adminBonusExcelExporter.exportUserToExcel(bonusData, year, month);
-        } catch (Exception e) {
-            LoggerUtil.logAndThrow(this.getClass(), String.format("Error exporting user bonus data for %d/%d: %s", year, month, e.getMessage()), e);
-        }
-        return null;
+    /**
+     * Streams the user performance report (without bonus amounts).
+     */
+    public void writeUserBonusData(Integer year, Integer month, OutputStream outputStream) throws IOException {
+        Map<Integer, BonusEntryDTO> bonusData = loadBonusData(year, month);
+        adminBonusExcelExporter.writeUserToExcel(bonusData, year, month, outputStream);
     }
 }
\ No newline at end of file
@@ -13,13 +13,19 @@ import com.ctgraphdep.enums.ActionType;
 import com.ctgraphdep.utils.LoggerUtil;
 import com.ctgraphdep.worktime.service.WorktimeOperationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -34,15 +40,18 @@ public class AdminRegisterService {
     private final UserService userService;
     private final RegisterDataService registerDataService;
     private final RegisterMergeService registerMergeService;
+    private final TaskExecutor taskExecutor;
 
     @Autowired
     public AdminRegisterService(BonusCalculatorUtil bonusCalculator, WorktimeOperationService worktimeOperationService, UserService userService,
-                                RegisterDataService registerDataService, RegisterMergeService registerMergeService) {
+                                RegisterDataService registerDataService, RegisterMergeService registerMergeService,
+                                @Qualifier("taskExecutor") TaskExecutor taskExecutor) {
         this.bonusCalculator = bonusCalculator;
         this.worktimeOperationService = worktimeOperationService;
         this.userService = userService;
         this.registerDataService = registerDataService;
         this.registerMergeService = registerMergeService;
+        this.taskExecutor = taskExecutor;
         LoggerUtil.initialize(this.getClass(), null);
     }
 
@@ -699,28 +708,19 @@ public class AdminRegisterService {
     }
 
     /**
-     * Calculate register summary with error handling
+     * Calculate register summary with error handling.
+     * Runs the columnar summary kernel on a one-user column set, so single-user and month summaries share one formula.
      */
-    public ServiceResult<RegisterSummaryDTO> calculateRegisterSummary(List<RegisterEntry> entries) {
+    public ServiceResult<RegisterSummaryDTO> calculateRegisterSummary(Integer userId, int year, int month, List<RegisterEntry> entries) {
         try {
             if (entries == null) {
                 return ServiceResult.validationError("Entries cannot be null", "null_entries");
             }
 
-            // Filter valid entries
-            List<RegisterEntry> validEntries = filterValidEntriesForBonus(entries);
-
-            RegisterSummaryDTO summary = RegisterSummaryDTO.builder()
-                    .totalEntries(validEntries.size())
-                    .averageArticleNumbers(validEntries.stream()
-                            .mapToDouble(RegisterEntry::getArticleNumbers)
-                            .average()
-                            .orElse(0.0))
-                    .averageGraphicComplexity(validEntries.stream()
-                            .mapToDouble(RegisterEntry::getGraphicComplexity)
-                            .average()
-                            .orElse(0.0))
+            RegisterMonthColumns columns = RegisterMonthColumns.builder(year, month)
+                    .addUser(userId != null ? userId : 0, entries)
                     .build();
+            RegisterSummaryDTO summary = bonusCalculator.calculateRegisterSummaries(columns)[0];
 
             return ServiceResult.success(summary);
 
@@ -751,7 +751,7 @@ public class AdminRegisterService {
             List<RegisterEntry> entries = entriesResult.getData();
 
             // Calculate summary
-            ServiceResult<RegisterSummaryDTO> summaryResult = calculateRegisterSummary(entries);
+            ServiceResult<RegisterSummaryDTO> summaryResult = calculateRegisterSummary(userId, year, month, entries);
             if (summaryResult.isSuccess()) {
                 LoggerUtil.info(this.getClass(), String.format("Successfully calculated summary for %s", username));
             }
@@ -764,6 +764,147 @@ public class AdminRegisterService {
         }
     }
 
+    // ========================================================================
+    // MONTH (ALL USERS) BONUS METHODS
+    // ========================================================================
+
+    /**
+     * Builds the columnar model of a month from the merged admin register files, one read per user.
+     * The files are read in parallel; users are added to the columns in their original order.
+     */
+    public ServiceResult<RegisterMonthColumns> loadMonthColumns(List<User> users, int year, int month) {
+        try {
+            Executor executor = new DelegatingSecurityContextExecutor(taskExecutor, SecurityContextHolder.getContext());
+            List<CompletableFuture<ServiceResult<List<RegisterEntry>>>> reads = users.stream()
+                    .map(user -> CompletableFuture.supplyAsync(
+                            () -> readMergedAdminEntries(user.getUsername(), user.getUserId(), year, month), executor))
+                    .toList();
+
+            RegisterMonthColumns.Builder builder = RegisterMonthColumns.builder(year, month);
+            List<String> warnings = new ArrayList<>();
+
+            for (int i = 0; i < users.size(); i++) {
+                User user = users.get(i);
+                ServiceResult<List<RegisterEntry>> entriesResult = reads.get(i).join();
+                if (entriesResult.isFailure()) {
+                    warnings.add("Register not available for " + user.getUsername());
+                    builder.addUser(user.getUserId(), List.of());
+                } else {
+                    builder.addUser(user.getUserId(), entriesResult.getData());
+                }
+            }
+
+            RegisterMonthColumns columns = builder.build();
+            LoggerUtil.debug(this.getClass(), String.format("Built month columns for %d/%d: %d users, %d entries", year, month, columns.userCount(), columns.size()));
+
+            return warnings.isEmpty() ? ServiceResult.success(columns) : ServiceResult.successWithWarnings(columns, warnings);
+
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), String.format("Error building month columns for %d/%d: %s", year, month, e.getMessage()), e);
+            return ServiceResult.systemError("Failed to load month register data", "load_month_columns_failed");
+        }
+    }
+
+    /**
+     * Calculate month bonuses from HTTP request (year, month, bonusConfig).
+     * The configuration is optional; the default configuration is used when missing.
+     */
+    public ServiceResult<Map<Integer, BonusCalculationResultDTO>> calculateMonthBonusesFromRequest(Map<String, Object> request) {
+        if (request == null) {
+            return ServiceResult.validationError("Request cannot be null", "null_request");
+        }
+
+        ValidationServiceResult validation = ValidationServiceResult.create()
+                .requireNotNull(request.get("year"), "Year", "missing_year")
+                .requireNotNull(request.get("month"), "Month", "missing_month");
+        if (validation.hasErrors()) {
+            return ServiceResult.validationError(validation.getFirstError(), validation.getFirstErrorCode());
+        }
+
+        BonusConfiguration config = BonusConfiguration.getDefaultConfig();
+        if (request.get("bonusConfig") != null) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> configValues = (Map<String, Object>) request.get("bonusConfig");
+            ServiceResult<BonusConfiguration> configResult = convertRequestToBonusConfiguration(configValues);
+            if (configResult.isFailure()) {
+                return ServiceResult.validationError(configResult.getErrorMessage(), configResult.getErrorCode());
+            }
+            config = configResult.getData();
+        }
+
+        return calculateMonthBonuses(convertToInteger(request.get("year")), convertToInteger(request.get("month")), config);
+    }
+
+    /**
+     * Calculate bonus for all non-admin users of a month in one pass.
+     * Registers, worktime and previous bonus files are each read once for the whole month
+     * instead of once per user (see calculateBonus for the single-user path).
+     *
+     * @return Bonus results keyed by user ID
+     */
+    public ServiceResult<Map<Integer, BonusCalculationResultDTO>> calculateMonthBonuses(int year, int month, BonusConfiguration config) {
+        try {
+            if (config == null) {
+                return ServiceResult.validationError("Bonus configuration is required", "missing_bonus_config");
+            }
+
+            List<User> users = userService.getNonAdminUsers(userService.getAllUsers());
+            ServiceResult<RegisterMonthColumns> columnsResult = loadMonthColumns(users, year, month);
+            if (columnsResult.isFailure()) {
+                return ServiceResult.systemError(columnsResult.getErrorMessage(), columnsResult.getErrorCode());
+            }
+            RegisterMonthColumns columns = columnsResult.getData();
+
+            // Worked days aligned with the column segments
+            int[] userIds = columns.getUserIds();
+            Map<Integer, Integer> workedDaysByUser = worktimeOperationService.getWorkedDaysByUser(
+                    Arrays.stream(userIds).boxed().toList(), year, month);
+            int[] workedDays = new int[userIds.length];
+            for (int i = 0; i < userIds.length; i++) {
+                workedDays[i] = workedDaysByUser.getOrDefault(userIds[i], 0);
+            }
+
+            BonusCalculationResultDTO[] results = bonusCalculator.calculateBonuses(columns, workedDays, config);
+
+            // Previous months: three bonus files read once for all users
+            Map<Integer, Integer> employeeIds = users.stream()
+                    .collect(Collectors.toMap(User::getUserId, user -> user.getEmployeeId() != null ? user.getEmployeeId() : user.getUserId(), (a, b) -> a));
+            YearMonth currentMonth = YearMonth.of(year, month);
+            Map<Integer, Double> bonus1 = loadMonthBonuses(currentMonth.minusMonths(1));
+            Map<Integer, Double> bonus2 = loadMonthBonuses(currentMonth.minusMonths(2));
+            Map<Integer, Double> bonus3 = loadMonthBonuses(currentMonth.minusMonths(3));
+
+            Map<Integer, BonusCalculationResultDTO> bonuses = new LinkedHashMap<>();
+            for (int i = 0; i < userIds.length; i++) {
+                Integer employeeId = employeeIds.getOrDefault(userIds[i], userIds[i]);
+                BonusCalculationResultDTO result = results[i];
+                bonuses.put(userIds[i], BonusCalculationResultDTO.builder()
+                        .entries(result.getEntries())
+                        .articleNumbers(result.getArticleNumbers())
+                        .graphicComplexity(result.getGraphicComplexity())
+                        .misc(result.getMisc())
+                        .workedDays(result.getWorkedDays())
+                        .workedPercentage(result.getWorkedPercentage())
+                        .bonusPercentage(result.getBonusPercentage())
+                        .bonusAmount(result.getBonusAmount())
+                        .previousMonths(PreviousMonthsBonuses.builder()
+                                .month1(bonus1.getOrDefault(employeeId, 0.0))
+                                .month2(bonus2.getOrDefault(employeeId, 0.0))
+                                .month3(bonus3.getOrDefault(employeeId, 0.0))
+                                .build())
+                        .build());
+            }
+
+            LoggerUtil.info(this.getClass(), String.format("Calculated month bonuses for %d/%d: %d users, %d register entries", year, month, userIds.length, columns.size()));
+
+            return columnsResult.hasWarnings() ? ServiceResult.successWithWarnings(bonuses, columnsResult.getWarnings()) : ServiceResult.success(bonuses);
+
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), String.format("Error calculating month bonuses for %d/%d: %s", year, month, e.getMessage()), e);
+            return ServiceResult.systemError("Failed to calculate month bonuses", "month_bonus_calculation_failed");
+        }
+    }
+
     /**
      * Reads already-merged admin register entries without triggering new merge operations.
      */
@@ -921,6 +1062,18 @@ public class AdminRegisterService {
         }
     }
 
+    // Bonus amount per employee ID for one month
+    private Map<Integer, Double> loadMonthBonuses(YearMonth month) {
+        try {
+            return registerDataService.readAdminBonus(month.getYear(), month.getMonthValue()).stream()
+                    .filter(entry -> entry.getEmployeeId() != null && entry.getBonusAmount() != null)
+                    .collect(Collectors.toMap(BonusEntry::getEmployeeId, BonusEntry::getBonusAmount, (first, second) -> first));
+        } catch (Exception e) {
+            LoggerUtil.info(this.getClass(), String.format("No bonus entries found for %s: %s", month, e.getMessage()));
+            return Map.of();
+        }
+    }
+
     private Integer convertToInteger(Object value) {
         if (value == null) return 0;
         if (value instanceof Integer) return (Integer) value;
@@ -7,21 +7,47 @@ import com.ctgraphdep.model.CheckValuesEntry;
 import com.ctgraphdep.model.RegisterCheckEntry;
 import com.ctgraphdep.model.User;
 import com.ctgraphdep.model.UsersCheckValueEntry;
+import com.ctgraphdep.model.WorkTimeTable;
 import com.ctgraphdep.service.UserService;
+import com.ctgraphdep.service.cache.MetricsCacheService;
 import com.ctgraphdep.service.result.ServiceResult;
 import com.ctgraphdep.utils.DateFormatUtil;
 import com.ctgraphdep.utils.LoggerUtil;
 import com.ctgraphdep.worktime.service.WorktimeOperationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * Service for calculating and managing check register bonuses for team leads.
  * Handles bonus calculation based on work units, working hours, and efficiency.
+ * Per-user inputs (Total WU/M, live/standard hours, target WU/HR) are kept as aggregates keyed by the
+ * versions (modification time and size) of the files they were read from. A team calculation loads the
+ * stale users in parallel and reuses the rest, so editing one user's register only reloads that user.
+ * Network stamps for a team calculation come from one listing per network directory, not one stat per file.
  */
 @Service
 public class CheckBonusService {
@@ -50,6 +76,19 @@ public class CheckBonusService {
     @Autowired
     private com.ctgraphdep.service.WorkScheduleService workScheduleService;
 
+    @Autowired
+    private MetricsCacheService metricsCacheService;
+
+    @Autowired
+    @Qualifier("taskExecutor")
+    private TaskExecutor taskExecutor;
+
+    // Aggregates are also refreshed after this age, covering writes that keep the file stamp (cache-only edits)
+    private static final long AGGREGATE_MAX_AGE_MINUTES = 15;
+    private static final double DEFAULT_TARGET_WUHR = 4.5;
+
+    private final Map<String, UserBonusAggregate> aggregateCache = new ConcurrentHashMap<>();
+
     /**
      * Calculate bonus for a single user
      *
@@ -69,80 +108,279 @@ public class CheckBonusService {
             LoggerUtil.info(this.getClass(), String.format(
                 "Calculating bonus for user: %s (ID: %d) for %d-%02d", username, userId, year, month));
 
-            // 1. Get Total WU/M (sum of all check register entry orderValues)
-            Double totalWUM = calculateTotalWUM(username, userId, year, month);
-            if (totalWUM == null) {
+            // A single user needs three network stamps - stat the files directly instead of listing their directories
+            DataVersion version = currentVersion(username, userId, year, month, this::fileStamp);
+            UserBonusAggregate aggregate = getCachedAggregate(userId, year, month, version);
+            if (aggregate == null) {
+                aggregate = loadAggregate(username, userId, getUserName(username, userId), year, month, version);
+            }
+            if (aggregate.totalWUM() == null) {
                 return ServiceResult.systemError("Failed to calculate Total WU/M for user", "calc_total_wum_failed");
             }
 
-            // 2. Calculate ALL THREE hour options
-            Double liveHours = calculateLiveHours(username, userId, year, month);
-            Double standardHours = calculateStandardHours(username, userId, year, month);
-
-            // 3. Determine which hours to use based on hoursOption
-            Double workingHours;
-            if ("live".equals(hoursOption)) {
-                workingHours = liveHours;
-            } else if ("standard".equals(hoursOption)) {
-                workingHours = standardHours;
-            } else if ("manual".equals(hoursOption)) {
-                workingHours = manualHours != null ? manualHours : 0.0;
-            } else {
-                // Default to standard if invalid option
-                workingHours = standardHours;
-                hoursOption = "standard";
-                LoggerUtil.warn(this.getClass(), "Invalid hoursOption, defaulting to 'standard'");
+            CheckBonusEntry bonusEntry = buildBonusEntry(aggregate, year, month, bonusSum, hoursOption, manualHours);
+
+            LoggerUtil.info(this.getClass(), String.format(
+                "Bonus calculated for %s: WU/M=%.2f, Hours=%.2f, Efficiency=%d%%, Bonus=%.2f",
+                username, bonusEntry.getTotalWUM(), bonusEntry.getWorkingHours(), bonusEntry.getEfficiencyPercent(), bonusEntry.getBonusAmount()));
+
+            return ServiceResult.success(bonusEntry);
+
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error calculating bonus for user: " + e.getMessage(), e);
+            return ServiceResult.systemError("Failed to calculate bonus: " + e.getMessage(), "calc_bonus_failed");
+        }
+    }
+
+    /**
+     * Calculate bonus for every check user in one pass.
+     * Users whose register, worktime or check values changed since the last calculation are loaded
+     * in parallel; everyone else is served from the aggregate cache.
+     *
+     * @param year Year for calculation
+     * @param month Month for calculation
+     * @param bonusSum Base bonus sum
+     * @param hoursOption Hours option applied to all users: "live", "standard", or "manual"
+     * @param manualHoursByUser Manual hours per user ID (only used if hoursOption is "manual")
+     * @return ServiceResult containing one CheckBonusEntry per user, with warnings for users that failed
+     */
+    public ServiceResult<List<CheckBonusEntry>> calculateTeamBonus(int year, int month, Double bonusSum,
+                                                                   String hoursOption, Map<Integer, Double> manualHoursByUser) {
+        try {
+            ServiceResult<List<User>> usersResult = checkRegisterService.getAllCheckUsers();
+            if (usersResult.isFailure() || usersResult.getData() == null) {
+                return ServiceResult.systemError("Failed to load check users", "load_check_users_failed");
             }
 
-            // 4. Get Target WU/HR from CheckValues
-            Double targetWUHR = getTargetWUHR(username, userId);
-            if (targetWUHR == null) {
-                targetWUHR = 4.5; // Default value
-                LoggerUtil.warn(this.getClass(), "Target WU/HR not found, using default 4.5");
+            List<User> users = usersResult.getData().stream()
+                .filter(user -> user.getUserId() != null && user.getUsername() != null)
+                .toList();
+
+            // Only users with changed inputs are reloaded; loads run in parallel under the caller's security context
+            Executor executor = new DelegatingSecurityContextExecutor(taskExecutor, SecurityContextHolder.getContext());
+            NetworkStampListing networkStamps = new NetworkStampListing();
+            Map<User, CompletableFuture<UserBonusAggregate>> pending = new LinkedHashMap<>();
+            int reused = 0;
+            for (User user : users) {
+                DataVersion version = currentVersion(user.getUsername(), user.getUserId(), year, month, networkStamps::stamp);
+                UserBonusAggregate cached = getCachedAggregate(user.getUserId(), year, month, version);
+                if (cached != null) {
+                    pending.put(user, CompletableFuture.completedFuture(cached));
+                    reused++;
+                } else {
+                    pending.put(user, CompletableFuture.supplyAsync(
+                        () -> loadAggregate(user.getUsername(), user.getUserId(), displayName(user), year, month, version), executor));
+                }
             }
 
-            // Create bonus entry with ALL values
-            CheckBonusEntry bonusEntry = new CheckBonusEntry();
-            bonusEntry.setUsername(username);
-            bonusEntry.setEmployeeId(userId);
-            bonusEntry.setName(getUserName(username, userId));
-            bonusEntry.setTotalWUM(totalWUM);
+            List<CheckBonusEntry> bonusEntries = new ArrayList<>();
+            List<String> warnings = new ArrayList<>();
+            for (Map.Entry<User, CompletableFuture<UserBonusAggregate>> entry : pending.entrySet()) {
+                User user = entry.getKey();
+                try {
+                    UserBonusAggregate aggregate = entry.getValue().join();
+                    if (aggregate.totalWUM() == null) {
+                        warnings.add("Failed to calculate Total WU/M for " + user.getUsername());
+                        continue;
+                    }
+                    Double manualHours = manualHoursByUser != null ? manualHoursByUser.get(user.getUserId()) : null;
+                    bonusEntries.add(buildBonusEntry(aggregate, year, month, bonusSum, hoursOption, manualHours));
+                } catch (Exception e) {
+                    LoggerUtil.error(this.getClass(), "Error calculating bonus for " + user.getUsername() + ": " + e.getMessage(), e);
+                    warnings.add("Failed to calculate bonus for " + user.getUsername());
+                }
+            }
 
-            // Set all 3 hour options
-            bonusEntry.setLiveHours(liveHours);
-            bonusEntry.setStandardHours(standardHours);
-            bonusEntry.setManualHours(manualHours);
-            bonusEntry.setHoursOption(hoursOption);
+            LoggerUtil.info(this.getClass(), String.format(
+                "Team bonus calculated for %d-%02d: %d users (%d reloaded, %d from cache, %d failed)",
+                year, month, bonusEntries.size(), users.size() - reused, reused, warnings.size()));
 
-            // Set the selected working hours for calculation
-            bonusEntry.setWorkingHours(workingHours);
+            return warnings.isEmpty() ? ServiceResult.success(bonusEntries) : ServiceResult.successWithWarnings(bonusEntries, warnings);
 
-            bonusEntry.setTargetWUHR(targetWUHR);
-            bonusEntry.setYear(year);
-            bonusEntry.setMonth(month);
-            bonusEntry.setCalculationDate(DateFormatUtil.formatForDisplay(LocalDate.now()));
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error calculating team bonus: " + e.getMessage(), e);
+            return ServiceResult.systemError("Failed to calculate team bonus: " + e.getMessage(), "calc_team_bonus_failed");
+        }
+    }
 
-            // 4. Calculate Total WU/HR/M (Working Hours × Target WU/HR)
-            bonusCalculationService.calculateTotalWUHRM(bonusEntry);
+    /**
+     * Builds the bonus entry from a user's aggregate and the lead's inputs (bonus sum, hours option).
+     */
+    private CheckBonusEntry buildBonusEntry(UserBonusAggregate aggregate, int year, int month,
+                                            Double bonusSum, String hoursOption, Double manualHours) {
+        // Determine which hours to use based on hoursOption
+        Double workingHours;
+        if ("live".equals(hoursOption)) {
+            workingHours = aggregate.liveHours();
+        } else if ("standard".equals(hoursOption)) {
+            workingHours = aggregate.standardHours();
+        } else if ("manual".equals(hoursOption)) {
+            workingHours = manualHours != null ? manualHours : 0.0;
+        } else {
+            // Default to standard if invalid option
+            workingHours = aggregate.standardHours();
+            hoursOption = "standard";
+            LoggerUtil.warn(this.getClass(), "Invalid hoursOption, defaulting to 'standard'");
+        }
 
-            // 5. Calculate Efficiency %
-            bonusCalculationService.calculateEfficiency(bonusEntry);
+        // Create bonus entry with ALL values
+        CheckBonusEntry bonusEntry = new CheckBonusEntry();
+        bonusEntry.setUsername(aggregate.username());
+        bonusEntry.setEmployeeId(aggregate.userId());
+        bonusEntry.setName(aggregate.name());
+        bonusEntry.setTotalWUM(aggregate.totalWUM());
 
-            // 6. Calculate Bonus Amount
-            bonusCalculationService.calculateBonus(bonusEntry, bonusSum);
+        // Set all 3 hour options
+        bonusEntry.setLiveHours(aggregate.liveHours());
+        bonusEntry.setStandardHours(aggregate.standardHours());
+        bonusEntry.setManualHours(manualHours);
+        bonusEntry.setHoursOption(hoursOption);
 
-            LoggerUtil.info(this.getClass(), String.format(
-                "Bonus calculated for %s: WU/M=%.2f, Hours=%.2f, Efficiency=%d%%, Bonus=%.2f",
-                username, totalWUM, workingHours, bonusEntry.getEfficiencyPercent(), bonusEntry.getBonusAmount()));
+        // Set the selected working hours for calculation
+        bonusEntry.setWorkingHours(workingHours);
 
-            return ServiceResult.success(bonusEntry);
+        bonusEntry.setTargetWUHR(aggregate.targetWUHR());
+        bonusEntry.setYear(year);
+        bonusEntry.setMonth(month);
+        bonusEntry.setCalculationDate(DateFormatUtil.formatForDisplay(LocalDate.now()));
+
+        // Calculate Total WU/HR/M (Working Hours × Target WU/HR)
+        bonusCalculationService.calculateTotalWUHRM(bonusEntry);
+
+        // Calculate Efficiency %
+        bonusCalculationService.calculateEfficiency(bonusEntry);
+
+        // Calculate Bonus Amount
+        bonusCalculationService.calculateBonus(bonusEntry, bonusSum);
+
+        return bonusEntry;
+    }
+
+    // ========================================================================
+    // PER-USER AGGREGATES
+    // ========================================================================
+
+    /**
+     * Returns the cached aggregate if none of its source files changed and it is not too old.
+     */
+    private UserBonusAggregate getCachedAggregate(Integer userId, int year, int month, DataVersion version) {
+        UserBonusAggregate cached = aggregateCache.get(aggregateKey(userId, year, month));
+        if (cached == null || cached.loadedAt().isBefore(LocalDateTime.now().minusMinutes(AGGREGATE_MAX_AGE_MINUTES))) {
+            return null;
+        }
+        return cached.version().equals(version) ? cached : null;
+    }
+
+    /**
+     * Reads register, worktime and check values once and derives every bonus input from them.
+     *
+     * @param version Stamps taken before reading, so a write during the load makes the next lookup reload
+     */
+    private UserBonusAggregate loadAggregate(String username, Integer userId, String name, int year, int month,
+                                             DataVersion version) {
+        // 1. Get Total WU/M (sum of all check register entry orderValues)
+        Double totalWUM = calculateTotalWUM(username, userId, year, month);
+
+        // 2. Live and standard hours - from the metrics cache unless the worktime files changed since the last load
+        double[] hours = getHours(username, userId, year, month, version);
+        double liveHours = hours[0];
+        double standardHours = hours[1];
+
+        // 3. Get Target WU/HR from CheckValues
+        Double targetWUHR = getTargetWUHR(username, userId);
+        if (targetWUHR == null) {
+            targetWUHR = DEFAULT_TARGET_WUHR;
+            LoggerUtil.warn(this.getClass(), "Target WU/HR not found, using default 4.5");
+        }
+
+        UserBonusAggregate aggregate = new UserBonusAggregate(username, userId, name, totalWUM, liveHours, standardHours,
+                targetWUHR, version, LocalDateTime.now());
+        if (totalWUM != null) {
+            aggregateCache.put(aggregateKey(userId, year, month), aggregate);
+        }
+        return aggregate;
+    }
+
+    /**
+     * Live and standard hours (in that order), shared with WorkScheduleService through the metrics cache.
+     * Both are recalculated from one worktime read when either is missing or the worktime files changed
+     * since the cached aggregate, and the fresh values are written back to the metrics cache.
+     */
+    private double[] getHours(String username, Integer userId, int year, int month, DataVersion version) {
+        UserBonusAggregate previous = aggregateCache.get(aggregateKey(userId, year, month));
+        boolean worktimeChanged = previous != null && !previous.version().sameWorktime(version);
+
+        Double cachedLive = metricsCacheService.getCachedLiveWorkHours(username, year, month);
+        Double cachedStandard = metricsCacheService.getCachedStandardHours(username, year, month);
+        if (!worktimeChanged && cachedLive != null && cachedStandard != null) {
+            LoggerUtil.debug(this.getClass(), String.format(
+                "Using cached hours for %s (%d-%02d): live %.2f, standard %.2f", username, year, month, cachedLive, cachedStandard));
+            return new double[]{cachedLive, cachedStandard};
+        }
+
+        try {
+            User user = userService.getUserById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
+            int userSchedule = user.getSchedule() != null ? user.getSchedule() : 8;
+
+            List<WorkTimeTable> worktimeData = workScheduleService.loadMonthWorktime(username, userId, year, month);
+            double liveHours = workScheduleService.calculateLiveWorkHours(worktimeData, userSchedule);
+            double standardHours = workScheduleService.calculateStandardWorkHours(worktimeData, userSchedule, year, month);
 
+            metricsCacheService.cacheLiveWorkHours(username, year, month, liveHours);
+            metricsCacheService.cacheStandardHours(username, year, month, standardHours);
+
+            LoggerUtil.debug(this.getClass(), String.format(
+                "Hours for %s (%d-%02d): live %.2f, standard %.2f (schedule: %d hrs/day)",
+                username, year, month, liveHours, standardHours, userSchedule));
+            return new double[]{liveHours, standardHours};
         } catch (Exception e) {
-            LoggerUtil.error(this.getClass(), "Error calculating bonus for user: " + e.getMessage(), e);
-            return ServiceResult.systemError("Failed to calculate bonus: " + e.getMessage(), "calc_bonus_failed");
+            LoggerUtil.error(this.getClass(), "Error calculating hours for " + username + ": " + e.getMessage(), e);
+            return new double[]{0.0, 0.0};
+        }
+    }
+
+    /**
+     * Stamps of every file a user's aggregate depends on. Only file metadata is read.
+     *
+     * @param networkStamp Stamp lookup for the network files (direct stat, or a directory listing shared by the team)
+     */
+    private DataVersion currentVersion(String username, Integer userId, int year, int month, Function<Path, Long> networkStamp) {
+        boolean networkAvailable = pathConfig.isNetworkAvailable();
+        return new DataVersion(
+            fileStamp(pathConfig.getLocalCheckLeadRegisterPath(username, userId, year, month)),
+            networkAvailable ? networkStamp.apply(pathConfig.getNetworkCheckLeadRegisterPath(username, userId, year, month)) : 0L,
+            fileStamp(pathConfig.getLocalWorktimePath(username, year, month)),
+            networkAvailable ? networkStamp.apply(pathConfig.getNetworkWorktimePath(username, year, month)) : 0L,
+            fileStamp(pathConfig.getLocalCheckValuesPath(username, userId)),
+            networkAvailable ? networkStamp.apply(pathConfig.getNetworkCheckValuesPath(username, userId)) : 0L);
+    }
+
+    private long fileStamp(Path file) {
+        try {
+            return fileStamp(Files.readAttributes(file, BasicFileAttributes.class));
+        } catch (IOException e) {
+            // Missing or unreadable
+            return -1L;
         }
     }
 
+    private static long fileStamp(BasicFileAttributes attributes) {
+        // Combine time and size so two writes within the timestamp resolution still differ
+        return attributes.lastModifiedTime().toMillis() * 31 + attributes.size();
+    }
+
+    private String aggregateKey(Integer userId, int year, int month) {
+        return userId + ":" + year + ":" + month;
+    }
+
+    private String displayName(User user) {
+        if (user.getName() != null && !user.getName().isEmpty()) {
+            return user.getName();
+        }
+        return user.getUsername().substring(0, 1).toUpperCase() + user.getUsername().substring(1);
+    }
+
     /**
      * Calculate Total WU/M (sum of all check register entry orderValues)
      */
@@ -176,61 +414,6 @@ public class CheckBonusService {
         }
     }
 
-    /**
-     * Calculate Live Hours - Option 1
-     * Actual hours worked including overtime from worktime file
-     * Uses WorkScheduleService.calculateLiveWorkHours() which:
-     * - Reads from worktime file (network for team members, cache for own data)
-     * - Counts all worked hours including overtime
-     * - Skips time-off days without work
-     * - Includes special day overtime (CO/CM/SN/W with work)
-     */
-    private Double calculateLiveHours(String username, Integer userId, int year, int month) {
-        try {
-            // Use existing WorkScheduleService method
-            double liveHours = workScheduleService.calculateLiveWorkHours(username, userId, year, month);
-
-            LoggerUtil.info(this.getClass(), String.format(
-                "Live hours for %s (%d-%02d): %.2f hours", username, year, month, liveHours));
-
-            return liveHours;
-
-        } catch (Exception e) {
-            LoggerUtil.error(this.getClass(), "Error calculating live hours: " + e.getMessage(), e);
-            return 0.0; // Default to 0 on error
-        }
-    }
-
-    /**
-     * Calculate Standard Hours - Option 2
-     * Expected hours based on workdays minus time-off days
-     * Formula: (total_workdays_in_month - timeoff_days) × user_schedule
-     * Time-off days counted: CO, CM, SN, W (WorkCode constants)
-     * Only counts days with NO work done (pure time-off)
-     */
-    private Double calculateStandardHours(String username, Integer userId, int year, int month) {
-        try {
-            // Get user to determine schedule
-            User user = userService.getUserById(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
-            int userSchedule = user.getSchedule() != null ? user.getSchedule() : 8;
-
-            // Use existing WorkScheduleService method to get standard hours WITH cache
-            // This already calculates workdays and subtracts time-off
-            double standardHours = workScheduleService.calculateStandardWorkHoursWithCache(username, userId, year, month);
-
-            LoggerUtil.info(this.getClass(), String.format(
-                "Standard hours for %s (%d-%02d): %.2f hours (schedule: %d hrs/day)",
-                username, year, month, standardHours, userSchedule));
-
-            return standardHours;
-
-        } catch (Exception e) {
-            LoggerUtil.error(this.getClass(), "Error calculating standard hours: " + e.getMessage(), e);
-            return 0.0; // Default to 0 on error
-        }
-    }
-
     /**
      * Get Target WU/HR from CheckValues
      */
@@ -354,4 +537,55 @@ public class CheckBonusService {
     // REMOVED: calculateAllBonuses() - Never used since creation
     // UI calculates bonuses one user at a time using calculateUserBonus()
     // Git history: Added in commit 328942e but never called from any controller
-}
\ No newline at end of file
+
+    private record DataVersion(long localRegister, long networkRegister, long localWorktime, long networkWorktime,
+                               long localCheckValues, long networkCheckValues) {
+
+        boolean sameWorktime(DataVersion other) {
+            return localWorktime == other.localWorktime && networkWorktime == other.networkWorktime;
+        }
+    }
+
+    /**
+     * Network stamps for one team calculation. Each network directory is listed once and the stamps of all
+     * its files are kept, so checking N users costs one listing per directory instead of N stat calls
+     * (on Windows shares the listing already carries size and modification time).
+     */
+    private static class NetworkStampListing {
+        private final Map<Path, Map<Path, Long>> stampsByDirectory = new HashMap<>();
+
+        long stamp(Path file) {
+            Path directory = file.getParent();
+            if (directory == null) {
+                return -1L;
+            }
+            return stampsByDirectory.computeIfAbsent(directory, NetworkStampListing::list).getOrDefault(file, -1L);
+        }
+
+        private static Map<Path, Long> list(Path directory) {
+            Map<Path, Long> stamps = new HashMap<>();
+            try {
+                Files.walkFileTree(directory, EnumSet.noneOf(FileVisitOption.class), 1, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                        stamps.put(file, fileStamp(attributes));
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException e) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+                LoggerUtil.warn(CheckBonusService.class, "Could not list " + directory + ": " + e.getMessage());
+            }
+            return stamps;
+        }
+    }
+
+    private record UserBonusAggregate(String username, Integer userId, String name, Double totalWUM,
+                                      double liveHours, double standardHours, Double targetWUHR,
+                                      DataVersion version, LocalDateTime loadedAt) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.ctgraphdep.scheduling;
+
+/**
+ * Kind of I/O a scheduled job does.
+ * NETWORK jobs are paused while the network share is offline and limited in how many run at the same time.
+ */
+public enum JobIoClass {
+    // In-memory work only
+    CPU,
+    // Reads / writes local files
+    LOCAL_DISK,
+    // Touches the network share
+    NETWORK
+}
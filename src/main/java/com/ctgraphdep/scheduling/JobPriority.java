@@ -0,0 +1,12 @@
+package com.ctgraphdep.scheduling;
+
+/**
+ * Priority of a scheduled job.
+ * Decides the start order when jobs are staggered at startup; LOW priority runs are
+ * skipped while the scheduler pool has no idle thread.
+ */
+public enum JobPriority {
+    HIGH,
+    NORMAL,
+    LOW
+}
@@ -0,0 +1,38 @@
+package com.ctgraphdep.scheduling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Describes a @Scheduled method to the ScheduledJobRuntime.
+ * Methods without it run as "ClassName.method", NORMAL priority, CPU.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ScheduledJob {
+
+    /**
+     * Job name used in logs, metrics and SchedulerHealthMonitor
+     */
+    String name();
+
+    JobPriority priority() default JobPriority.NORMAL;
+
+    JobIoClass io() default JobIoClass.CPU;
+
+    /**
+     * Whether a NETWORK job is skipped while the network is unavailable.
+     * Disable for jobs that detect the network state themselves.
+     */
+    boolean pauseWhenOffline() default true;
+
+    /**
+     * Whether a NETWORK job takes one of the shared network permits before it runs.
+     * Disable for short probes that must not queue behind bulk transfers.
+     */
+    boolean limitNetworkConcurrency() default true;
+}
@@ -0,0 +1,486 @@
+package com.ctgraphdep.scheduling;
+
+import com.ctgraphdep.fileOperations.config.PathConfig;
+import com.ctgraphdep.monitoring.SchedulerHealthMonitor;
+import com.ctgraphdep.scheduling.model.ScheduledJobStats;
+import com.ctgraphdep.utils.LoggerUtil;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.CronTask;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.FixedRateTask;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.scheduling.config.TriggerTask;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.scheduling.support.ScheduledMethodRunnable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runtime for all @Scheduled methods.
+ * SchedulingConfiguration hands it the registrar before the tasks are scheduled; every task is
+ * registered under a name, priority and I/O class (@ScheduledJob) and wrapped so that:
+ * - a run is skipped while the previous run of the same job is still going,
+ * - fixed-rate catch-up runs after an overrun (or a system sleep) are skipped instead of fired back to back,
+ * - interval jobs without an initial delay start staggered (HIGH priority first, network jobs last),
+ * - NETWORK jobs are skipped while the network is offline, and at most maxConcurrentNetworkJobs touch the share at once,
+ * - LOW priority runs are skipped while the scheduler pool has no idle thread,
+ * - run time, start lag and failures are recorded here and in SchedulerHealthMonitor.
+ * runNow() starts a registered job immediately (e.g. on an event) under the same rules, outside its schedule.
+ * Tasks of beans created after startup are scheduled by Spring directly and are not covered.
+ */
+@Component
+public class ScheduledJobRuntime {
+
+    // Intervals above this (one-shot "fixedDelay = Long.MAX_VALUE" jobs) are not health monitored
+    private static final long MAX_MONITORED_INTERVAL_MS = Duration.ofDays(7).toMillis();
+
+    private static final Comparator<Job> START_ORDER = Comparator
+            .comparing((Job job) -> job.priority)
+            .thenComparing(job -> job.io);
+
+    private final PathConfig pathConfig;
+    private final SchedulerHealthMonitor healthMonitor;
+    private final TaskScheduler generalTaskScheduler;
+    private final long staggerMs;
+    private final long networkWaitMs;
+    private final Semaphore networkPermits;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public ScheduledJobRuntime(PathConfig pathConfig, SchedulerHealthMonitor healthMonitor,
+                               @Qualifier("generalTaskScheduler") TaskScheduler generalTaskScheduler,
+                               @Value("${app.scheduler.stagger-ms:2000}") long staggerMs,
+                               @Value("${app.scheduler.network.max-concurrent:1}") int maxConcurrentNetworkJobs,
+                               @Value("${app.scheduler.network.wait-ms:30000}") long networkWaitMs) {
+        this.pathConfig = pathConfig;
+        this.healthMonitor = healthMonitor;
+        this.generalTaskScheduler = generalTaskScheduler;
+        this.staggerMs = Math.max(0, staggerMs);
+        this.networkWaitMs = Math.max(0, networkWaitMs);
+        this.networkPermits = new Semaphore(Math.max(1, maxConcurrentNetworkJobs));
+        LoggerUtil.initialize(this.getClass(), null);
+    }
+
+    /**
+     * Replaces the registrar's tasks with wrapped, staggered ones. Called before the registrar schedules them.
+     */
+    public void registerAll(ScheduledTaskRegistrar registrar) {
+        long now = System.currentTimeMillis();
+        long nowNanos = System.nanoTime();
+
+        List<Job> fixedRateJobs = new ArrayList<>();
+        for (IntervalTask task : registrar.getFixedRateTaskList()) {
+            fixedRateJobs.add(register(task.getRunnable(), Schedule.FIXED_RATE,
+                    task.getIntervalDuration().toMillis(), task.getInitialDelayDuration().toMillis(), null));
+        }
+        List<Job> fixedDelayJobs = new ArrayList<>();
+        for (IntervalTask task : registrar.getFixedDelayTaskList()) {
+            fixedDelayJobs.add(register(task.getRunnable(), Schedule.FIXED_DELAY,
+                    task.getIntervalDuration().toMillis(), task.getInitialDelayDuration().toMillis(), null));
+        }
+
+        List<CronTask> cronTasks = new ArrayList<>();
+        for (CronTask task : registrar.getCronTaskList()) {
+            CronExpression cron = CronExpression.parse(task.getExpression());
+            Job job = register(task.getRunnable(), Schedule.CRON, cronInterval(cron), 0, cron);
+            job.nextExpectedAt = nextCronTime(cron, now);
+            cronTasks.add(new CronTask(job.wrapped, task.getExpression()));
+        }
+
+        List<TriggerTask> triggerTasks = new ArrayList<>();
+        for (TriggerTask task : registrar.getTriggerTaskList()) {
+            Job job = register(task.getRunnable(), Schedule.TRIGGER, 0, 0, null);
+            triggerTasks.add(new TriggerTask(job.wrapped, task.getTrigger()));
+        }
+
+        // Spread interval jobs that would otherwise all start at once
+        List<Job> intervalJobs = new ArrayList<>(fixedRateJobs);
+        intervalJobs.addAll(fixedDelayJobs);
+        intervalJobs.sort(START_ORDER);
+        int staggered = 0;
+        for (Job job : intervalJobs) {
+            if (job.initialDelayMs <= 0) {
+                job.initialDelayMs = staggered++ * staggerMs;
+            }
+            job.nextExpectedNanos = nowNanos + TimeUnit.MILLISECONDS.toNanos(job.initialDelayMs);
+        }
+
+        List<IntervalTask> fixedRateTasks = new ArrayList<>();
+        for (Job job : fixedRateJobs) {
+            fixedRateTasks.add(new FixedRateTask(job.wrapped, Duration.ofMillis(job.intervalMs), Duration.ofMillis(job.initialDelayMs)));
+        }
+        List<IntervalTask> fixedDelayTasks = new ArrayList<>();
+        for (Job job : fixedDelayJobs) {
+            fixedDelayTasks.add(new FixedDelayTask(job.wrapped, Duration.ofMillis(job.intervalMs), Duration.ofMillis(job.initialDelayMs)));
+        }
+
+        registrar.setFixedRateTasksList(fixedRateTasks);
+        registrar.setFixedDelayTasksList(fixedDelayTasks);
+        registrar.setCronTasksList(cronTasks);
+        registrar.setTriggerTasksList(triggerTasks);
+
+        LoggerUtil.info(this.getClass(), "Registered {} scheduled jobs ({} staggered by {} ms)", jobs.size(), staggered, staggerMs);
+        for (Job job : jobs.values().stream().sorted(START_ORDER).toList()) {
+            LoggerUtil.debug(this.getClass(), "Job {}: {} {} {} {} ms, start after {} ms", job.name, job.priority, job.io,
+                    job.schedule.label, job.intervalMs, job.initialDelayMs);
+        }
+    }
+
+    /**
+     * Runs a registered job now on the scheduler pool, with the same overlap, offline and network permit checks
+     * as a scheduled run. Its schedule (and lag tracking) is unaffected.
+     *
+     * @return false if no job of that name is registered
+     */
+    public boolean runNow(String name) {
+        Job job = jobs.get(name);
+        if (job == null) {
+            return false;
+        }
+        generalTaskScheduler.schedule(() -> execute(job, true), Instant.now());
+        return true;
+    }
+
+    /**
+     * Counters of all registered jobs, by name
+     */
+    public List<ScheduledJobStats> getJobStats() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(job -> job.name))
+                .map(Job::toStats)
+                .toList();
+    }
+
+    // ========================================================================
+    // Registration
+    // ========================================================================
+
+    private Job register(Runnable runnable, Schedule schedule, long intervalMs, long initialDelayMs, CronExpression cron) {
+        String name;
+        JobPriority priority = JobPriority.NORMAL;
+        JobIoClass io = JobIoClass.CPU;
+        boolean pauseWhenOffline = true;
+        boolean limitNetworkConcurrency = true;
+
+        if (runnable instanceof ScheduledMethodRunnable methodRunnable) {
+            Class<?> targetClass = AopUtils.getTargetClass(methodRunnable.getTarget());
+            Method method = AopUtils.getMostSpecificMethod(methodRunnable.getMethod(), targetClass);
+            ScheduledJob annotation = AnnotatedElementUtils.findMergedAnnotation(method, ScheduledJob.class);
+            if (annotation != null) {
+                name = annotation.name();
+                priority = annotation.priority();
+                io = annotation.io();
+                pauseWhenOffline = annotation.pauseWhenOffline();
+                limitNetworkConcurrency = annotation.limitNetworkConcurrency();
+            } else {
+                name = ClassUtils.getUserClass(targetClass).getSimpleName() + "." + method.getName();
+            }
+        } else {
+            name = runnable.toString();
+        }
+
+        // Same name twice (e.g. two beans of one class): keep both apart
+        String uniqueName = name;
+        for (int i = 2; jobs.containsKey(uniqueName); i++) {
+            uniqueName = name + "#" + i;
+        }
+
+        Job job = new Job(uniqueName, priority, io, pauseWhenOffline, limitNetworkConcurrency, schedule, intervalMs,
+                initialDelayMs, cron, runnable);
+        jobs.put(uniqueName, job);
+        return job;
+    }
+
+    private static long cronInterval(CronExpression cron) {
+        LocalDateTime first = cron.next(LocalDateTime.now());
+        LocalDateTime second = first != null ? cron.next(first) : null;
+        return second != null ? Duration.between(first, second).toMillis() : 0;
+    }
+
+    private static long addSaturated(long time, long interval) {
+        return interval > Long.MAX_VALUE - time ? Long.MAX_VALUE : time + interval;
+    }
+
+    private static long nextCronTime(CronExpression cron, long afterMillis) {
+        LocalDateTime after = LocalDateTime.ofInstant(Instant.ofEpochMilli(afterMillis), ZoneId.systemDefault());
+        LocalDateTime next = cron.next(after);
+        return next != null ? next.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : Long.MAX_VALUE;
+    }
+
+    // ========================================================================
+    // Execution
+    // ========================================================================
+
+    // onDemand: started by runNow(), so there is no expected start to measure lag against
+    private void execute(Job job, boolean onDemand) {
+        long startedAt = System.currentTimeMillis();
+        long lag = onDemand ? 0 : job.beginInvocation(startedAt, System.nanoTime());
+
+        if (!onDemand && job.schedule == Schedule.FIXED_RATE && job.intervalMs > 0 && lag >= job.intervalMs) {
+            // The executor fires missed fixed-rate runs back to back; only the one that is on time runs
+            job.skippedCatchUp.incrementAndGet();
+            LoggerUtil.debug(this.getClass(), "Skipped catch-up run of {} ({} ms late)", job.name, lag);
+            return;
+        }
+
+        if (!job.running.compareAndSet(false, true)) {
+            job.skippedOverlap.incrementAndGet();
+            LoggerUtil.warn(this.getClass(), "Skipped {}: previous run still in progress", job.name);
+            return;
+        }
+
+        boolean networkPermit = false;
+        try {
+            ensureHealthRegistration(job);
+
+            if (job.io == JobIoClass.NETWORK && job.pauseWhenOffline && !pathConfig.isNetworkAvailable()) {
+                job.skippedOffline.incrementAndGet();
+                healthMonitor.recordTaskSkipped(job.name, "network offline");
+                LoggerUtil.debug(this.getClass(), "Paused {}: network offline", job.name);
+                return;
+            }
+
+            if (job.priority == JobPriority.LOW && isPoolSaturated()) {
+                job.skippedPoolBusy.incrementAndGet();
+                healthMonitor.recordTaskSkipped(job.name, "scheduler pool busy");
+                LoggerUtil.debug(this.getClass(), "Deferred low priority job {}: scheduler pool busy", job.name);
+                return;
+            }
+
+            if (job.io == JobIoClass.NETWORK && job.limitNetworkConcurrency) {
+                networkPermit = networkPermits.tryAcquire(networkWaitMs, TimeUnit.MILLISECONDS);
+                if (!networkPermit) {
+                    job.skippedNetworkBusy.incrementAndGet();
+                    healthMonitor.recordTaskSkipped(job.name, "other network jobs running");
+                    LoggerUtil.debug(this.getClass(), "Skipped {}: other network jobs still running after {} ms", job.name, networkWaitMs);
+                    return;
+                }
+            }
+
+            long runStart = System.currentTimeMillis();
+            try {
+                job.delegate.run();
+            } catch (RuntimeException | Error e) {
+                job.recordFailure(e);
+                healthMonitor.recordTaskFailure(job.name, e.getMessage());
+                // Rethrow so the scheduler's error handler still logs it
+                throw e;
+            }
+            long duration = System.currentTimeMillis() - runStart;
+            job.recordRun(startedAt, duration, lag);
+            healthMonitor.recordTaskRun(job.name, duration, lag);
+
+            if (job.schedule != Schedule.TRIGGER && job.intervalMs > 0 && duration > job.intervalMs) {
+                job.overruns.incrementAndGet();
+                LoggerUtil.warn(this.getClass(), "Job {} overran its interval: {} ms (interval {} ms)", job.name, duration, job.intervalMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (networkPermit) {
+                networkPermits.release();
+            }
+            if (!onDemand) {
+                job.endInvocation(System.currentTimeMillis(), System.nanoTime());
+            }
+            job.running.set(false);
+        }
+    }
+
+    private void ensureHealthRegistration(Job job) {
+        // Registered on first run, so initial delays and staggering do not count as missed runs
+        if (!job.healthRegistered && job.intervalMs > 0 && job.intervalMs <= MAX_MONITORED_INTERVAL_MS) {
+            job.healthRegistered = true;
+            int expectedMinutes = (int) Math.max(1, (job.intervalMs + 59_999) / 60_000);
+            healthMonitor.registerTask(job.name, expectedMinutes, null);
+        }
+    }
+
+    private boolean isPoolSaturated() {
+        if (generalTaskScheduler instanceof ThreadPoolTaskScheduler pool) {
+            // The calling job holds one of the threads
+            return pool.getActiveCount() >= pool.getPoolSize();
+        }
+        return false;
+    }
+
+    private enum Schedule {
+        FIXED_RATE("fixed-rate"),
+        FIXED_DELAY("fixed-delay"),
+        CRON("cron"),
+        TRIGGER("trigger");
+
+        private final String label;
+
+        Schedule(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Runnable handed to the scheduler in place of the original task
+     */
+    private final class JobRunnable implements Runnable {
+        private final Job job;
+
+        private JobRunnable(Job job) {
+            this.job = job;
+        }
+
+        @Override
+        public void run() {
+            execute(job, false);
+        }
+
+        @Override
+        public String toString() {
+            return job.name;
+        }
+    }
+
+    /**
+     * One registered job: definition, state and counters
+     */
+    private final class Job {
+        private final String name;
+        private final JobPriority priority;
+        private final JobIoClass io;
+        private final boolean pauseWhenOffline;
+        private final boolean limitNetworkConcurrency;
+        private final Schedule schedule;
+        private final long intervalMs;
+        private final CronExpression cron;
+        private final Runnable delegate;
+        private final JobRunnable wrapped;
+        private long initialDelayMs;
+
+        private final AtomicBoolean running = new AtomicBoolean(false);
+        private volatile boolean healthRegistered;
+
+        private final AtomicLong runs = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong skippedOverlap = new AtomicLong();
+        private final AtomicLong skippedOffline = new AtomicLong();
+        private final AtomicLong skippedNetworkBusy = new AtomicLong();
+        private final AtomicLong skippedPoolBusy = new AtomicLong();
+        private final AtomicLong skippedCatchUp = new AtomicLong();
+        private final AtomicLong overruns = new AtomicLong();
+
+        // Guarded by this
+        // Cron jobs: wall clock millis. Interval jobs: System.nanoTime(), the clock the executor schedules them with,
+        // so clock changes do not show up as lag
+        private long nextExpectedAt;
+        private long nextExpectedNanos;
+        private long lastDurationMs;
+        private long maxDurationMs;
+        private long totalDurationMs;
+        private long lastLagMs;
+        private long maxLagMs;
+        private long lastRunStart;
+        private String lastError;
+
+        private Job(String name, JobPriority priority, JobIoClass io, boolean pauseWhenOffline, boolean limitNetworkConcurrency,
+                    Schedule schedule, long intervalMs, long initialDelayMs, CronExpression cron, Runnable delegate) {
+            this.name = name;
+            this.priority = priority;
+            this.io = io;
+            this.pauseWhenOffline = pauseWhenOffline;
+            this.limitNetworkConcurrency = limitNetworkConcurrency;
+            this.schedule = schedule;
+            this.intervalMs = intervalMs;
+            this.initialDelayMs = initialDelayMs;
+            this.cron = cron;
+            this.delegate = delegate;
+            this.wrapped = new JobRunnable(this);
+        }
+
+        // Lag (ms) against the expected start; fixed-rate expectations advance on every invocation, skipped or not,
+        // like the executor's own schedule - so after a catch-up burst they are back in step
+        private synchronized long beginInvocation(long now, long nowNanos) {
+            if (schedule == Schedule.TRIGGER) {
+                return 0;
+            }
+            if (schedule == Schedule.CRON) {
+                return Math.max(0, now - nextExpectedAt);
+            }
+            long lag = TimeUnit.NANOSECONDS.toMillis(Math.max(0, nowNanos - nextExpectedNanos));
+            if (schedule == Schedule.FIXED_RATE) {
+                nextExpectedNanos = addSaturated(nextExpectedNanos, TimeUnit.MILLISECONDS.toNanos(intervalMs));
+            }
+            return lag;
+        }
+
+        private synchronized void endInvocation(long now, long nowNanos) {
+            if (schedule == Schedule.FIXED_DELAY) {
+                nextExpectedNanos = addSaturated(nowNanos, TimeUnit.MILLISECONDS.toNanos(intervalMs));
+            } else if (schedule == Schedule.CRON) {
+                nextExpectedAt = nextCronTime(cron, now);
+            }
+        }
+
+        private synchronized void recordRun(long startedAt, long durationMs, long lagMs) {
+            runs.incrementAndGet();
+            lastRunStart = startedAt;
+            lastDurationMs = durationMs;
+            maxDurationMs = Math.max(maxDurationMs, durationMs);
+            totalDurationMs += durationMs;
+            lastLagMs = lagMs;
+            maxLagMs = Math.max(maxLagMs, lagMs);
+        }
+
+        private synchronized void recordFailure(Throwable error) {
+            failures.incrementAndGet();
+            lastError = error.getClass().getSimpleName() + ": " + error.getMessage();
+        }
+
+        private synchronized ScheduledJobStats toStats() {
+            long completedRuns = runs.get();
+            return ScheduledJobStats.builder()
+                    .name(name)
+                    .priority(priority)
+                    .io(io)
+                    .schedule(schedule.label)
+                    .intervalMs(intervalMs)
+                    .initialDelayMs(initialDelayMs)
+                    .running(running.get())
+                    .runs(completedRuns)
+                    .failures(failures.get())
+                    .skippedOverlap(skippedOverlap.get())
+                    .skippedOffline(skippedOffline.get())
+                    .skippedNetworkBusy(skippedNetworkBusy.get())
+                    .skippedPoolBusy(skippedPoolBusy.get())
+                    .skippedCatchUp(skippedCatchUp.get())
+                    .overruns(overruns.get())
+                    .lastDurationMs(lastDurationMs)
+                    .maxDurationMs(maxDurationMs)
+                    .averageDurationMs(completedRuns > 0 ? totalDurationMs / completedRuns : 0)
+                    .lastLagMs(lastLagMs)
+                    .maxLagMs(maxLagMs)
+                    .lastRunStart(lastRunStart > 0
+                            ? LocalDateTime.ofInstant(Instant.ofEpochMilli(lastRunStart), ZoneId.systemDefault()) : null)
+                    .lastError(lastError)
+                    .build();
+        }
+    }
+}
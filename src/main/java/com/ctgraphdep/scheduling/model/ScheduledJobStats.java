@@ -0,0 +1,45 @@
+package com.ctgraphdep.scheduling.model;
+
+import com.ctgraphdep.scheduling.JobIoClass;
+import com.ctgraphdep.scheduling.JobPriority;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Snapshot of one scheduled job's counters (see ScheduledJobRuntime).
+ */
+@Getter
+@Builder
+public class ScheduledJobStats {
+    private final String name;
+    private final JobPriority priority;
+    private final JobIoClass io;
+    // fixed-rate / fixed-delay / cron / trigger
+    private final String schedule;
+    private final long intervalMs;
+    private final long initialDelayMs;
+    private final boolean running;
+
+    private final long runs;
+    private final long failures;
+    // Skipped: previous run still going, network offline, too many network jobs, pool saturated (LOW only),
+    // or a fixed-rate catch-up run after an overrun
+    private final long skippedOverlap;
+    private final long skippedOffline;
+    private final long skippedNetworkBusy;
+    private final long skippedPoolBusy;
+    private final long skippedCatchUp;
+    // Runs that took longer than the job's interval
+    private final long overruns;
+
+    private final long lastDurationMs;
+    private final long maxDurationMs;
+    private final long averageDurationMs;
+    // How late the last run started compared to its schedule
+    private final long lastLagMs;
+    private final long maxLagMs;
+    private final LocalDateTime lastRunStart;
+    private final String lastError;
+}
@@ -15,6 +15,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -36,6 +37,7 @@ public class AuthenticationService {
     private final UserDataService userDataService;      // Primary user data operations
     private final PasswordEncoder passwordEncoder;
     private final CustomUserDetailsService userDetailsService;
+    private final LocalCredentialStore credentialStore;
     private final MainDefaultUserContextService mainDefaultUserContextService;
     private final AllUsersCacheService allUsersCacheService;
     private final LoginMergeStrategy loginMergeStrategy;
@@ -52,6 +54,7 @@ public class AuthenticationService {
             UserDataService userDataService,
             PasswordEncoder passwordEncoder,
             CustomUserDetailsService userDetailsService,
+            LocalCredentialStore credentialStore,
             MainDefaultUserContextService mainDefaultUserContextService,
             AllUsersCacheService allUsersCacheService,
             LoginMergeStrategy loginMergeStrategy,
@@ -61,6 +64,7 @@ public class AuthenticationService {
         this.userDataService = userDataService;
         this.passwordEncoder = passwordEncoder;
         this.userDetailsService = userDetailsService;
+        this.credentialStore = credentialStore;
         this.mainDefaultUserContextService = mainDefaultUserContextService;
         this.allUsersCacheService = allUsersCacheService;
         this.loginMergeStrategy = loginMergeStrategy;
@@ -119,7 +123,19 @@ public class AuthenticationService {
 
         LoggerUtil.debug(this.getClass(), String.format("Authenticating user: %s", username));
 
-        if (passwordEncoder.matches(password, userDetails.getPassword())) {
+        boolean matches = !offlineMode ? verifyPassword(username, password, userDetails) : passwordEncoder.matches(password, userDetails.getPassword());
+
+        // A stored credential may be behind the network (e.g. password just changed) - re-check before rejecting
+        if (!matches && userDetails instanceof CustomUserDetailsService.StoredUserDetails) {
+            UserDetails sourceDetails = userDetailsService.loadUserByUsernameFromSource(username);
+            if (!Objects.equals(sourceDetails.getPassword(), userDetails.getPassword())) {
+                LoggerUtil.info(this.getClass(), String.format("Stored credential of %s was out of date, verifying against network", username));
+                userDetails = sourceDetails;
+                matches = verifyPassword(username, password, userDetails);
+            }
+        }
+
+        if (matches) {
             // ADD: Cache the user to avoid duplicate fetch in handleSuccessfulLogin
             try {
                 if (userDetails instanceof CustomUserDetails) {
@@ -345,6 +361,22 @@ public class AuthenticationService {
     // HELPER METHODS (UNCHANGED/CORRECTED)
     // ========================================================================
 
+    /**
+     * Checks the password, skipping BCrypt when the same password was already verified against the stored hash
+     */
+    private boolean verifyPassword(String username, String password, UserDetails userDetails) {
+        if (credentialStore.isVerified(username, userDetails.getPassword(), password)) {
+            LoggerUtil.debug(this.getClass(), String.format("Reused credential verification for %s", username));
+            return true;
+        }
+
+        if (passwordEncoder.matches(password, userDetails.getPassword())) {
+            credentialStore.recordVerified(username, userDetails.getPassword(), password);
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Retrieve and validate user data from UserDataService
      */
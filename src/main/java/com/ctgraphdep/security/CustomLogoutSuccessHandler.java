@@ -1,6 +1,5 @@
 package com.ctgraphdep.security;
 
-import com.ctgraphdep.fileOperations.events.BackupEventListener;
 import com.ctgraphdep.fileOperations.service.BackupService;
 import com.ctgraphdep.register.service.UserRegisterService;
 import com.ctgraphdep.service.cache.CheckValuesCacheManager;
@@ -22,16 +21,14 @@ public class CustomLogoutSuccessHandler implements LogoutSuccessHandler {
     private final RegisterCacheService registerCacheService;
     private final UserRegisterService userRegisterService;
     private final MainDefaultUserContextService mainDefaultUserContextService;
-    private final BackupEventListener backupEventListener;
     private final BackupService backupService;
 
 
-    public CustomLogoutSuccessHandler(CheckValuesCacheManager checkValuesCacheManager, RegisterCacheService registerCacheService, UserRegisterService userRegisterService, MainDefaultUserContextService mainDefaultUserContextService, BackupEventListener backupEventListener, BackupService backupService) {
+    public CustomLogoutSuccessHandler(CheckValuesCacheManager checkValuesCacheManager, RegisterCacheService registerCacheService, UserRegisterService userRegisterService, MainDefaultUserContextService mainDefaultUserContextService, BackupService backupService) {
         this.checkValuesCacheManager = checkValuesCacheManager;
         this.registerCacheService = registerCacheService;
         this.userRegisterService = userRegisterService;
         this.mainDefaultUserContextService = mainDefaultUserContextService;
-        this.backupEventListener = backupEventListener;
         this.backupService = backupService;
         LoggerUtil.initialize(this.getClass(), null);
     }
@@ -61,7 +58,6 @@ public class CustomLogoutSuccessHandler implements LogoutSuccessHandler {
                 String username = authentication.getName();
 
                 // Clear user-specific backup sync caches
-                backupEventListener.clearUserBackupSyncCache(username);
                 backupService.clearSyncedBackupFilesForUser(username);
 
                 LoggerUtil.info(this.getClass(), "User logged out and cleared all caches including backup sync: " + username);
@@ -14,27 +14,48 @@ import java.util.Optional;
 /**
  * REFACTORED CustomUserDetailsService using UserDataService for authentication.
  * Handles both online (network first) and offline (local only) authentication modes.
+ * Online lookups are served from the LocalCredentialStore while the user's network file is unchanged since it was read;
+ * otherwise they go to the network and the result is stored.
  * All password-related operations go through UserDataService for security.
  */
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserDataService userDataService;
+    private final LocalCredentialStore credentialStore;
 
-    public CustomUserDetailsService(UserDataService userDataService) {
+    public CustomUserDetailsService(UserDataService userDataService, LocalCredentialStore credentialStore) {
         this.userDataService = userDataService;
+        this.credentialStore = credentialStore;
         LoggerUtil.initialize(this.getClass(), null);
     }
 
     /**
-     * Load user for online authentication (network first, local fallback).
-     * This is the main Spring Security authentication method.
+     * Load user for online authentication (stored credential, then network first, local fallback).
+     * This is the main Spring Security authentication method (login and remember-me).
      * @param username Username to authenticate
      * @return UserDetails for authentication
      * @throws UsernameNotFoundException if user not found
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        Optional<User> storedUser = credentialStore.find(username);
+        if (storedUser.isPresent()) {
+            LoggerUtil.debug(this.getClass(), String.format("Loaded user for online authentication from stored credentials: %s", username));
+            return new StoredUserDetails(storedUser.get());
+        }
+
+        return loadUserByUsernameFromSource(username);
+    }
+
+    /**
+     * Load user for online authentication from its files (network first, local fallback), bypassing the stored
+     * credentials. The result is stored for the next lookups.
+     * @param username Username to authenticate
+     * @return UserDetails for authentication
+     * @throws UsernameNotFoundException if user not found
+     */
+    public UserDetails loadUserByUsernameFromSource(String username) throws UsernameNotFoundException {
         LoggerUtil.debug(this.getClass(), String.format("Loading user for online authentication: %s", username));
 
         try {
@@ -44,6 +65,7 @@ public class CustomUserDetailsService implements UserDetailsService {
             if (userOptional.isPresent()) {
                 User user = userOptional.get();
                 LoggerUtil.debug(this.getClass(), String.format("Successfully loaded user for authentication: %s (ID: %d, Role: %s)", user.getUsername(), user.getUserId(), user.getRole()));
+                credentialStore.record(user);
 
                 return new CustomUserDetails(user);
             } else {
@@ -101,4 +123,13 @@ public class CustomUserDetailsService implements UserDetailsService {
             throw new UsernameNotFoundException("Error accessing local user data for authentication", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * UserDetails served from the stored credentials (network file unchanged since the user was read).
+     */
+    public static class StoredUserDetails extends CustomUserDetails {
+        public StoredUserDetails(User user) {
+            super(user);
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.ctgraphdep.security;
+
+import com.ctgraphdep.fileOperations.config.PathConfig;
+import com.ctgraphdep.fileOperations.data.UserDataService;
+import com.ctgraphdep.fileOperations.data.UserRegistryDataService;
+import com.ctgraphdep.model.User;
+import com.ctgraphdep.model.UserRegistryIndex;
+import com.ctgraphdep.utils.LoggerUtil;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.*;
+
+/**
+ * Login credentials already read from the network, so repeated logins and remember-me checks do not re-read user files.
+ * Key Principles:
+ * - An entry is the complete user as read from its network file (password hash, role) plus the file's stamp taken
+ *   before that read; users found only through the local fallback are not stored
+ * - An entry is only served while the network file is still at that stamp (one stat per lookup). A changed, deleted
+ *   or unreachable file means the caller reads the user again, so password, role and account changes apply at once
+ * - Only this machine's own (non-admin) user is persisted, next to its local user file and readable by the owner only;
+ *   other users' hashes stay in memory. After a restart the persisted entry is only served if it also matches the
+ *   local user file (which offline login already trusts) and the role in the users registry
+ * - Successful password checks are remembered for a while (bounded, tied to the entry version), so a repeated login
+ *   skips BCrypt; a changed hash or role drops them
+ * - A wrong password against a stored entry is never final: callers re-check the network
+ */
+@Service
+public class LocalCredentialStore {
+
+    // Does not start with "local_user_", so local user scans skip it
+    private static final String STORE_FILENAME = "local_credentials.json";
+    private static final String MISSING_STAMP = "missing";
+    private static final int MAX_VERIFIED_RESULTS = 256;
+    private static final long VERIFIED_RESULT_TTL_MS = 12 * 60 * 60 * 1000L;
+
+    private final UserDataService userDataService;
+    private final UserRegistryDataService userRegistryDataService;
+    private final PathConfig pathConfig;
+    private final ObjectMapper objectMapper;
+
+    // Username -> stored credential, the persisted one loaded on first use
+    private Map<String, StoredCredential> credentials;
+
+    // Username -> last successful verification, least recently used dropped first
+    private final Map<String, VerifiedResult> verifiedResults = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, VerifiedResult> eldest) {
+            return size() > MAX_VERIFIED_RESULTS;
+        }
+    };
+
+    // Per-process salt, so remembered verifications are useless outside this process
+    private final byte[] verificationSalt = new byte[16];
+
+    public LocalCredentialStore(UserDataService userDataService, UserRegistryDataService userRegistryDataService,
+                                PathConfig pathConfig, ObjectMapper objectMapper) {
+        this.userDataService = userDataService;
+        this.userRegistryDataService = userRegistryDataService;
+        this.pathConfig = pathConfig;
+        this.objectMapper = objectMapper;
+        new SecureRandom().nextBytes(verificationSalt);
+        LoggerUtil.initialize(this.getClass(), null);
+    }
+
+    /**
+     * Stored user for authentication, if its network file is unchanged since it was read.
+     *
+     * @param username Username
+     * @return Copy of the stored user with password hash, or empty if not stored or no longer current
+     */
+    public Optional<User> find(String username) {
+        StoredCredential stored;
+        synchronized (this) {
+            stored = getCredentials().get(username);
+            if (stored == null) {
+                return Optional.empty();
+            }
+            stored = new StoredCredential(copyOf(stored.getUser()), stored.getVersion(), stored.getFingerprint(), stored.isConfirmed());
+        }
+
+        // Checked outside the lock - a slow share must not block other lookups
+        String stamp = userDataService.getNetworkUserFileStamp(username, stored.getUser().getUserId());
+        if (stamp == null || !stamp.equals(stored.getFingerprint())) {
+            LoggerUtil.debug(this.getClass(), String.format("Stored credential of %s is not current (%s), reading user again", username, stamp));
+            if (MISSING_STAMP.equals(stamp)) {
+                remove(username);
+            }
+            return Optional.empty();
+        }
+
+        if (!stored.isConfirmed()) {
+            if (!matchesLocalUserAndRegistry(stored.getUser())) {
+                LoggerUtil.warn(this.getClass(), String.format("Persisted credential of %s does not match local user or registry, reading user again", username));
+                return Optional.empty();
+            }
+            synchronized (this) {
+                StoredCredential current = getCredentials().get(username);
+                if (current != null && current.getVersion() == stored.getVersion()) {
+                    current.setConfirmed(true);
+                }
+            }
+        }
+
+        return Optional.of(stored.getUser());
+    }
+
+    /**
+     * Stores a user just read from its network file. Bumps the version if the hash or role changed.
+     * Users not read from network (local fallback) are ignored.
+     */
+    public void record(User user) {
+        if (user == null || user.getUsername() == null || user.getPassword() == null) {
+            return;
+        }
+
+        String fingerprint = userDataService.getNetworkStampOfLastRead(user);
+        if (fingerprint == null || MISSING_STAMP.equals(fingerprint)) {
+            LoggerUtil.debug(this.getClass(), String.format("User %s was not read from network, not storing credential", user.getUsername()));
+            return;
+        }
+
+        synchronized (this) {
+            if (recordWithoutSave(user, fingerprint) && isOwnUser(user.getUsername())) {
+                save(user.getUsername());
+            }
+        }
+    }
+
+    /**
+     * Forgets a user, e.g. when it no longer exists on network.
+     */
+    public synchronized void remove(String username) {
+        if (getCredentials().remove(username) != null) {
+            verifiedResults.remove(username);
+            deletePersisted(username);
+        }
+    }
+
+    /**
+     * Checks whether this password was already verified against the stored hash.
+     *
+     * @param username Username
+     * @param passwordHash Hash the caller is about to check against - must be the stored one
+     * @param rawPassword Entered password
+     * @return true if a remembered verification of the current entry version matches
+     */
+    public synchronized boolean isVerified(String username, String passwordHash, String rawPassword) {
+        StoredCredential stored = getCredentials().get(username);
+        VerifiedResult result = verifiedResults.get(username);
+        if (stored == null || result == null || !Objects.equals(stored.getUser().getPassword(), passwordHash)) {
+            return false;
+        }
+        if (result.version() != stored.getVersion() || System.currentTimeMillis() - result.verifiedAt() > VERIFIED_RESULT_TTL_MS) {
+            verifiedResults.remove(username);
+            return false;
+        }
+        return MessageDigest.isEqual(result.digest(), digest(username, rawPassword));
+    }
+
+    /**
+     * Remembers a successful verification against the stored hash. Ignored if the hash is not the stored one.
+     */
+    public synchronized void recordVerified(String username, String passwordHash, String rawPassword) {
+        StoredCredential stored = getCredentials().get(username);
+        if (stored != null && Objects.equals(stored.getUser().getPassword(), passwordHash)) {
+            verifiedResults.put(username, new VerifiedResult(stored.getVersion(), digest(username, rawPassword), System.currentTimeMillis()));
+        }
+    }
+
+    // True if the stored entry changed
+    private boolean recordWithoutSave(User user, String fingerprint) {
+        StoredCredential stored = getCredentials().get(user.getUsername());
+        if (stored == null) {
+            credentials.put(user.getUsername(), new StoredCredential(copyOf(user), 1, fingerprint, true));
+            return true;
+        }
+
+        boolean changed = !fingerprint.equals(stored.getFingerprint()) || !stored.isConfirmed() || !stored.getUser().equals(user);
+        boolean credentialChanged = !Objects.equals(stored.getUser().getPassword(), user.getPassword())
+                || !Objects.equals(stored.getUser().getRole(), user.getRole());
+        if (credentialChanged) {
+            stored.setVersion(stored.getVersion() + 1);
+            verifiedResults.remove(user.getUsername());
+        }
+        stored.setUser(copyOf(user));
+        stored.setFingerprint(fingerprint);
+        stored.setConfirmed(true);
+        return changed;
+    }
+
+    // A persisted entry must agree with this machine's local user file and with the registry role
+    private boolean matchesLocalUserAndRegistry(User user) {
+        Optional<User> localUser = userDataService.getAllLocalUsersForAuthentication().stream()
+                .filter(local -> user.getUsername().equals(local.getUsername())).findFirst();
+        if (localUser.isEmpty() || !Objects.equals(localUser.get().getPassword(), user.getPassword())
+                || !Objects.equals(localUser.get().getRole(), user.getRole())) {
+            return false;
+        }
+
+        Optional<UserRegistryIndex> registry = userRegistryDataService.readRegistry();
+        if (registry.isEmpty()) {
+            return true;
+        }
+        UserRegistryIndex.Entry entry = registry.get().getUsers().get(user.getUsername());
+        return entry != null && Objects.equals(entry.getRole(), user.getRole()) && Objects.equals(entry.getUserId(), user.getUserId());
+    }
+
+    // This machine's own user - the non-admin user of the local user file
+    private boolean isOwnUser(String username) {
+        return userDataService.scanForAnyLocalUser().map(local -> username.equals(local.getUsername())).orElse(false);
+    }
+
+    private Map<String, StoredCredential> getCredentials() {
+        if (credentials == null) {
+            credentials = new HashMap<>();
+            Path path = getStorePath();
+            if (Files.exists(path)) {
+                try {
+                    Map<String, StoredCredential> persisted = objectMapper.readValue(path.toFile(), new TypeReference<Map<String, StoredCredential>>() {});
+                    if (persisted.size() == 1 && persisted.values().iterator().next().getFingerprint() != null) {
+                        credentials.putAll(persisted);
+                    } else {
+                        // Earlier format held every user's credentials - not kept
+                        LoggerUtil.info(this.getClass(), String.format("Deleting stored credentials of %d users (old format)", persisted.size()));
+                        Files.deleteIfExists(path);
+                    }
+                } catch (IOException e) {
+                    LoggerUtil.warn(this.getClass(), "Unreadable stored credentials, logins read users from network: " + e.getMessage());
+                }
+            }
+        }
+        return credentials;
+    }
+
+    // Persists the entry of this machine's own user, replacing any other
+    private void save(String username) {
+        Path path = getStorePath();
+        Path tempPath = path.resolveSibling(STORE_FILENAME + ".tmp");
+        try {
+            Files.createDirectories(path.getParent());
+            Files.write(tempPath, objectMapper.writeValueAsBytes(Map.of(username, credentials.get(username))));
+            restrictToOwner(tempPath);
+            try {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // Only costs a network read after a restart
+            LoggerUtil.warn(this.getClass(), "Failed to persist stored credential: " + e.getMessage());
+        }
+    }
+
+    private void deletePersisted(String username) {
+        Path path = getStorePath();
+        try {
+            if (Files.exists(path) && objectMapper.readValue(path.toFile(), new TypeReference<Map<String, Object>>() {}).containsKey(username)) {
+                Files.delete(path);
+            }
+        } catch (IOException e) {
+            LoggerUtil.warn(this.getClass(), "Failed to delete stored credential: " + e.getMessage());
+        }
+    }
+
+    // Best effort: owner read/write only (POSIX permissions or an owner-only ACL on Windows)
+    private void restrictToOwner(Path path) {
+        try {
+            PosixFileAttributeView posix = Files.getFileAttributeView(path, PosixFileAttributeView.class);
+            if (posix != null) {
+                posix.setPermissions(PosixFilePermissions.fromString("rw-------"));
+                return;
+            }
+            AclFileAttributeView acl = Files.getFileAttributeView(path, AclFileAttributeView.class);
+            if (acl != null) {
+                acl.setAcl(List.of(AclEntry.newBuilder()
+                        .setType(AclEntryType.ALLOW)
+                        .setPrincipal(acl.getOwner())
+                        .setPermissions(EnumSet.allOf(AclEntryPermission.class))
+                        .build()));
+            }
+        } catch (IOException | UnsupportedOperationException e) {
+            LoggerUtil.warn(this.getClass(), "Could not restrict stored credential file to its owner: " + e.getMessage());
+        }
+    }
+
+    private byte[] digest(String username, String rawPassword) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(verificationSalt);
+            digest.update(username.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(rawPassword.getBytes(StandardCharsets.UTF_8));
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private Path getStorePath() {
+        return pathConfig.getLocalPath().resolve(pathConfig.getUsersPath()).resolve(STORE_FILENAME);
+    }
+
+    private static User copyOf(User user) {
+        return new User(user.getUserId(), user.getName(), user.getEmployeeId(), user.getSchedule(),
+                user.getPaidHolidayDays(), user.getUsername(), user.getPassword(), user.getRole());
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class StoredCredential {
+        private User user;
+        private long version;
+        // Stamp of the network user file taken before the user was read from it
+        private String fingerprint;
+        // Read from network in this process; a persisted entry is not until checked against the local user and registry
+        @JsonIgnore
+        private boolean confirmed;
+    }
+
+    private record VerifiedResult(long version, byte[] digest, long verifiedAt) {
+    }
+}
@@ -1,9 +1,12 @@
 package com.ctgraphdep.service;
 
 import com.ctgraphdep.config.WorkCode;
+import com.ctgraphdep.fileOperations.data.MonthSummaryDataService;
 import com.ctgraphdep.fileOperations.data.RegisterDataService;
 import com.ctgraphdep.model.RegisterEntry;
 import com.ctgraphdep.model.User;
+import com.ctgraphdep.model.UserMonthSummary;
+import com.ctgraphdep.model.UserMonthSummary.RegisterSummary;
 import com.ctgraphdep.model.dto.statistics.ChartDataDTO;
 import com.ctgraphdep.model.dto.statistics.RegisterStatisticsDTO;
 import com.ctgraphdep.utils.LoggerUtil;
@@ -13,83 +16,69 @@ import org.springframework.stereotype.Service;
 
 import java.time.YearMonth;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminStatisticsService {
 
     private final RegisterDataService registerDataService;
+    private final MonthSummaryDataService monthSummaryDataService;
     private final UserService userService;
 
     @Autowired
-    public AdminStatisticsService(RegisterDataService registerDataService, UserService userService) {
+    public AdminStatisticsService(RegisterDataService registerDataService, MonthSummaryDataService monthSummaryDataService, UserService userService) {
         this.registerDataService = registerDataService;
+        this.monthSummaryDataService = monthSummaryDataService;
         this.userService = userService;
         LoggerUtil.initialize(this.getClass(), null);
     }
 
     public RegisterStatisticsDTO calculateStatistics(Integer year, Integer month) {
-        List<RegisterEntry> allEntries = getAllEntriesForMonth(year, month);
+        RegisterSummary monthSummary = getRegisterSummaryForMonth(year, month);
 
         return RegisterStatisticsDTO.builder()
-                .clientDistribution(calculateClientDistribution(allEntries))
-                .actionTypeDistribution(calculateActionTypeDistribution(allEntries))
-                .printPrepTypeDistribution(calculatePrintPrepTypeDistribution(allEntries))
-                .totalEntries(allEntries.size())
-                .averageArticles(calculateAverageArticles(allEntries))
-                .averageComplexity(calculateAverageComplexity(allEntries))
+                .clientDistribution(toChartData(monthSummary.getClientCounts()))
+                .actionTypeDistribution(toChartData(monthSummary.getActionTypeCounts()))
+                .printPrepTypeDistribution(toChartData(monthSummary.getPrintPrepTypeCounts()))
+                .totalEntries(monthSummary.getTotalEntries())
+                .averageArticles(monthSummary.getAverageArticles())
+                .averageComplexity(monthSummary.getAverageComplexity())
                 .build();
     }
 
-    private List<RegisterEntry> getAllEntriesForMonth(Integer year, Integer month) {
-        List<RegisterEntry> allEntries = new ArrayList<>();
+    // Register aggregates of all non-admin users for a month - from the users' published summaries when current,
+    // otherwise from their full register files
+    private RegisterSummary getRegisterSummaryForMonth(Integer year, Integer month) {
+        RegisterSummary monthSummary = RegisterSummary.empty();
         List<User> users = userService.getAllUsers().stream().filter(user -> !user.isAdmin()).toList();
+        int fromSummaries = 0;
 
         for (User user : users) {
             try {
+                Optional<UserMonthSummary> published = monthSummaryDataService.readNetworkMonthSummaryIfCurrent(user.getUsername(), user.getUserId(), year, month);
+                if (published.isPresent() && published.get().getRegister() != null) {
+                    monthSummary.add(published.get().getRegister());
+                    fromSummaries++;
+                    continue;
+                }
+
                 // Use readUserRegister method with isAdmin set to true to read from network path
                 List<RegisterEntry> userEntries = registerDataService.readUserFromNetworkOnly(user.getUsername(), user.getUserId(), year, month);
-
-                if (userEntries != null) {
-                    allEntries.addAll(userEntries);
-                }
+                monthSummary.add(RegisterSummary.of(userEntries));
             } catch (Exception e) {
                 LoggerUtil.error(this.getClass(), String.format("Error reading register for user %s: %s", user.getUsername(), e.getMessage()));
             }
         }
-        return allEntries;
-    }
 
-    private ChartDataDTO calculateClientDistribution(List<RegisterEntry> entries) {
-        Map<String, Integer> distribution = entries.stream()
-                .collect(Collectors.groupingBy(RegisterEntry::getClientName, Collectors.collectingAndThen(Collectors.counting(), Long::intValue)));
-
-        return ChartDataDTO.builder().labels(new ArrayList<>(distribution.keySet())).data(new ArrayList<>(distribution.values())).build();
+        LoggerUtil.debug(this.getClass(), String.format("Register statistics %d/%d: %d of %d users from published summaries",
+                month, year, fromSummaries, users.size()));
+        return monthSummary;
     }
 
-    private ChartDataDTO calculateActionTypeDistribution(List<RegisterEntry> entries) {
-        Map<String, Integer> distribution = entries.stream()
-                .collect(Collectors.groupingBy(RegisterEntry::getActionType, Collectors.collectingAndThen(Collectors.counting(), Long::intValue)));
-
+    private ChartDataDTO toChartData(Map<String, Integer> distribution) {
         return ChartDataDTO.builder().labels(new ArrayList<>(distribution.keySet())).data(new ArrayList<>(distribution.values())).build();
     }
 
-    private ChartDataDTO calculatePrintPrepTypeDistribution(List<RegisterEntry> entries) {
-        Map<String, Integer> distribution = entries.stream().flatMap(entry -> entry.getPrintPrepTypes().stream())
-                .collect(Collectors.groupingBy(type -> type, Collectors.collectingAndThen(Collectors.counting(), Long::intValue)));
-
-        return ChartDataDTO.builder().labels(new ArrayList<>(distribution.keySet())).data(new ArrayList<>(distribution.values())).build();
-    }
-
-    private double calculateAverageArticles(List<RegisterEntry> entries) {
-        return entries.stream().mapToInt(RegisterEntry::getArticleNumbers).average().orElse(0.0);
-    }
-
-    private double calculateAverageComplexity(List<RegisterEntry> entries) {
-        return entries.stream().mapToDouble(RegisterEntry::getGraphicComplexity).average().orElse(0.0);
-    }
-
     public Map<String, Map<String, Integer>> getMonthlyEntriesForYear(Integer year) {
         Map<String, Map<String, Integer>> result = new HashMap<>();
         Map<String, Integer> regularEntries = new LinkedHashMap<>();
@@ -101,21 +90,11 @@ public class AdminStatisticsService {
 
         // For each month
         for (int month = 1; month <= 12; month++) {
-            List<RegisterEntry> entries = getAllEntriesForMonth(year, month);
-
-            // Count regular entries (excluding IMPOSTARE and all SPIZED types)
-            int regularCount = (int) entries.stream()
-                    .filter(entry -> !WorkCode.AT_IMPOSTARE.equals(entry.getActionType())
-                                  && !entry.getActionType().contains(WorkCode.AT_SPIZED))
-                    .count();
+            RegisterSummary monthSummary = getRegisterSummaryForMonth(year, month);
 
-            // Count all SPIZED entries (ORDIN_SPIZED, CAMPION_SPIZED, PROBA_S_SPIZED)
-            int spizedCount = (int) entries.stream()
-                    .filter(entry -> entry.getActionType().contains(WorkCode.AT_SPIZED))
-                    .count();
-
-            regularEntries.put(WorkCode.MONTH_NAMES_SHORT[month - 1], regularCount);
-            spizedEntries.put(WorkCode.MONTH_NAMES_SHORT[month - 1], spizedCount);
+            // Regular entries exclude IMPOSTARE and all SPIZED types; SPIZED covers ORDIN_SPIZED, CAMPION_SPIZED, PROBA_S_SPIZED
+            regularEntries.put(WorkCode.MONTH_NAMES_SHORT[month - 1], monthSummary.getRegularEntries());
+            spizedEntries.put(WorkCode.MONTH_NAMES_SHORT[month - 1], monthSummary.getSpizedEntries());
         }
 
         result.put(WorkCode.REGULAR_NAME, regularEntries);
@@ -127,21 +106,15 @@ public class AdminStatisticsService {
     public Map<Integer, Integer> getDailyEntriesForMonth(Integer year, Integer month) {
         Map<Integer, Integer> dailyEntries = new TreeMap<>(); // Using TreeMap to maintain order by day
 
-        // Get all entries for the month
-        List<RegisterEntry> entries = getAllEntriesForMonth(year, month);
-
         // Initialize all days with 0
         YearMonth yearMonth = YearMonth.of(year, month);
         for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
             dailyEntries.put(day, 0);
         }
 
-        // Count entries per day
-        entries.stream().filter(entry -> !WorkCode.AT_IMPOSTARE.equals(entry.getActionType())).forEach(entry -> {
-                    Integer day = entry.getDate().getDayOfMonth();
-                    dailyEntries.merge(day, 1, Integer::sum);
-                });
+        // Count entries per day (IMPOSTARE excluded)
+        getRegisterSummaryForMonth(year, month).getDailyCounts().forEach((day, count) -> dailyEntries.merge(day, count, Integer::sum));
 
         return dailyEntries;
     }
-}
\ No newline at end of file
+}
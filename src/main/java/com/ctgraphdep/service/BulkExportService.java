@@ -0,0 +1,606 @@
+package com.ctgraphdep.service;
+
+import com.ctgraphdep.fileOperations.config.PathConfig;
+import com.ctgraphdep.model.*;
+import com.ctgraphdep.model.dto.bonus.BonusCalculationResultDTO;
+import com.ctgraphdep.model.dto.bonus.BonusEntryDTO;
+import com.ctgraphdep.model.dto.export.BulkExportJobStatus;
+import com.ctgraphdep.model.dto.export.BulkExportRequest;
+import com.ctgraphdep.model.dto.export.BulkExportRequest.WorkbookType;
+import com.ctgraphdep.register.service.*;
+import com.ctgraphdep.scheduling.JobIoClass;
+import com.ctgraphdep.scheduling.JobPriority;
+import com.ctgraphdep.scheduling.ScheduledJob;
+import com.ctgraphdep.service.result.ServiceResult;
+import com.ctgraphdep.utils.*;
+import com.ctgraphdep.worktime.service.WorktimeOperationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Bulk export of worktime, register, check register and bonus workbooks for a period and a set of users.
+ * Flow:
+ * 1. The request is planned into one task per workbook (team workbooks per month, user workbooks per user and month)
+ * 2. Tasks load their data through the existing services and build the workbook on bulkExportTaskExecutor
+ * 3. At most "parallelism" workbooks are in flight; each finished one is written to the ZIP and released
+ * 4. Small runs stream the ZIP straight into the HTTP response, large runs write it to the local exports folder
+ * Every run is registered as a job so the UI can poll its progress.
+ */
+@Service
+public class BulkExportService {
+
+    private static final String EXPORT_DIRECTORY = "exports";
+    private static final String SUMMARY_ENTRY = "export_summary.txt";
+
+    @Value("${app.export.bulk.parallelism:3}")
+    private int parallelism;
+
+    @Value("${app.export.bulk.stream.max-workbooks:60}")
+    private int maxStreamedWorkbooks;
+
+    @Value("${app.export.bulk.retention.hours:24}")
+    private long retentionHours;
+
+    @Value("${app.export.bulk.queued.expiry.minutes:30}")
+    private long queuedExpiryMinutes;
+
+    private final PathConfig pathConfig;
+    private final UserManagementService userManagementService;
+    private final WorktimeOperationService worktimeOperationService;
+    private final AdminRegisterService adminRegisterService;
+    private final AdminBonusService adminBonusService;
+    private final CheckRegisterService checkRegisterService;
+    private final CheckValuesService checkValuesService;
+    private final CheckBonusService checkBonusService;
+    private final WorkTimeExcelExporter workTimeExcelExporter;
+    private final AdminRegisterExcelExporter adminRegisterExcelExporter;
+    private final CheckRegisterWithCalculationExporter checkRegisterExporter;
+    private final AdminBonusExcelExporter adminBonusExcelExporter;
+    private final ExportCheckBonusExcel exportCheckBonusExcel;
+    private final TaskExecutor bulkExportTaskExecutor;
+    private final TaskExecutor jobTaskExecutor;
+
+    private final Map<String, BulkExportJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BulkExportService(PathConfig pathConfig, UserManagementService userManagementService,
+                             WorktimeOperationService worktimeOperationService, AdminRegisterService adminRegisterService,
+                             AdminBonusService adminBonusService, CheckRegisterService checkRegisterService,
+                             CheckValuesService checkValuesService, CheckBonusService checkBonusService,
+                             WorkTimeExcelExporter workTimeExcelExporter, AdminRegisterExcelExporter adminRegisterExcelExporter,
+                             CheckRegisterWithCalculationExporter checkRegisterExporter, AdminBonusExcelExporter adminBonusExcelExporter,
+                             ExportCheckBonusExcel exportCheckBonusExcel,
+                             @Qualifier("bulkExportTaskExecutor") TaskExecutor bulkExportTaskExecutor,
+                             @Qualifier("bulkExportJobTaskExecutor") TaskExecutor jobTaskExecutor) {
+        this.pathConfig = pathConfig;
+        this.userManagementService = userManagementService;
+        this.worktimeOperationService = worktimeOperationService;
+        this.adminRegisterService = adminRegisterService;
+        this.adminBonusService = adminBonusService;
+        this.checkRegisterService = checkRegisterService;
+        this.checkValuesService = checkValuesService;
+        this.checkBonusService = checkBonusService;
+        this.workTimeExcelExporter = workTimeExcelExporter;
+        this.adminRegisterExcelExporter = adminRegisterExcelExporter;
+        this.checkRegisterExporter = checkRegisterExporter;
+        this.adminBonusExcelExporter = adminBonusExcelExporter;
+        this.exportCheckBonusExcel = exportCheckBonusExcel;
+        this.bulkExportTaskExecutor = bulkExportTaskExecutor;
+        this.jobTaskExecutor = jobTaskExecutor;
+        LoggerUtil.initialize(this.getClass(), null);
+    }
+
+    // ========================================================================
+    // JOB CONTROL
+    // ========================================================================
+
+    /**
+     * Plans the export and starts writing the ZIP to the local exports folder in the background.
+     */
+    public ServiceResult<BulkExportJobStatus> startFileExport(BulkExportRequest request, String requestedBy) {
+        ServiceResult<List<WorkbookTask>> plan = planWorkbooks(request);
+        if (plan.isFailure()) {
+            return ServiceResult.validationError(plan.getErrorMessage(), plan.getErrorCode());
+        }
+
+        BulkExportJob job = registerJob(plan.getData(), requestedBy, true);
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        try {
+            jobTaskExecutor.execute(new DelegatingSecurityContextRunnable(() -> runFileExport(job), securityContext));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.id);
+            LoggerUtil.warn(this.getClass(), String.format("Bulk export by %s refused: too many export jobs queued", requestedBy));
+            return ServiceResult.validationError("Too many bulk exports in progress, please try again later", "export_jobs_busy");
+        }
+
+        LoggerUtil.info(this.getClass(), String.format("Bulk export job %s queued by %s: %d workbooks to file",
+                job.id, requestedBy, job.total));
+        return ServiceResult.success(job.toStatus());
+    }
+
+    /**
+     * Plans a small export whose ZIP is streamed straight into the response.
+     * Larger runs are refused so they go through startFileExport instead.
+     *
+     * @return The job id to pass to writeStreamedExport and to poll for progress
+     */
+    public ServiceResult<String> prepareStreamedExport(BulkExportRequest request, String requestedBy) {
+        ServiceResult<List<WorkbookTask>> plan = planWorkbooks(request);
+        if (plan.isFailure()) {
+            return ServiceResult.validationError(plan.getErrorMessage(), plan.getErrorCode());
+        }
+        if (plan.getData().size() > maxStreamedWorkbooks) {
+            return ServiceResult.validationError(String.format(
+                    "Export contains %d workbooks (streaming limit %d) - start it as a file export job",
+                    plan.getData().size(), maxStreamedWorkbooks), "bulk_export_too_large");
+        }
+
+        BulkExportJob job = registerJob(plan.getData(), requestedBy, false);
+        return ServiceResult.success(job.id);
+    }
+
+    /**
+     * Writes the ZIP of a prepared streamed export. The stream is finished but not closed.
+     */
+    public void writeStreamedExport(String jobId, OutputStream outputStream) throws IOException {
+        BulkExportJob job = jobs.get(jobId);
+        if (job == null || job.toFile) {
+            throw new IllegalArgumentException("Unknown streamed export job: " + jobId);
+        }
+
+        if (!job.start()) {
+            throw new IllegalStateException("Streamed export job " + jobId + " is no longer queued (" + job.state + ")");
+        }
+
+        try {
+            ZipOutputStream zip = new ZipOutputStream(outputStream);
+            writeWorkbooks(job, zip);
+            zip.finish();
+            outputStream.flush();
+            job.complete(null);
+        } catch (IOException | RuntimeException e) {
+            job.fail(e.getMessage());
+            LoggerUtil.error(this.getClass(), "Streamed bulk export " + jobId + " failed: " + e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    public Optional<BulkExportJobStatus> getJobStatus(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(BulkExportJob::toStatus);
+    }
+
+    /**
+     * Path of a finished file export, if the job exists and its file is still present.
+     */
+    public Optional<Path> getCompletedFile(String jobId) {
+        BulkExportJob job = jobs.get(jobId);
+        if (job == null || job.state != BulkExportJobStatus.State.COMPLETED || job.file == null || !Files.exists(job.file)) {
+            return Optional.empty();
+        }
+        return Optional.of(job.file);
+    }
+
+    /**
+     * Fails jobs that were never started (e.g. a streamed export whose response was never written) and drops
+     * finished jobs past the retention period together with their files.
+     */
+    @Scheduled(fixedDelayString = "${app.export.bulk.cleanup.interval:3600000}")
+    @ScheduledJob(name = "bulk-export-cleanup", priority = JobPriority.LOW, io = JobIoClass.LOCAL_DISK)
+    public void cleanupExpiredJobs() {
+        LocalDateTime queuedCutoff = LocalDateTime.now().minusMinutes(queuedExpiryMinutes);
+        for (BulkExportJob job : jobs.values()) {
+            if (job.createdAt.isBefore(queuedCutoff) && job.expireIfQueued()) {
+                LoggerUtil.warn(this.getClass(), String.format("Bulk export job %s of %s was never started - expired",
+                        job.id, job.requestedBy));
+            }
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        jobs.values().removeIf(job -> {
+            if (job.finishedAt == null || job.finishedAt.isAfter(cutoff)) {
+                return false;
+            }
+            deleteQuietly(job.file);
+            LoggerUtil.debug(this.getClass(), "Removed expired bulk export job " + job.id);
+            return true;
+        });
+    }
+
+    private BulkExportJob registerJob(List<WorkbookTask> tasks, String requestedBy, boolean toFile) {
+        BulkExportJob job = new BulkExportJob(UUID.randomUUID().toString(), requestedBy, toFile, tasks);
+        jobs.put(job.id, job);
+        return job;
+    }
+
+    private void runFileExport(BulkExportJob job) {
+        Path exportDir = pathConfig.getLocalPath().resolve(EXPORT_DIRECTORY);
+        Path target = exportDir.resolve("bulk_export_" + job.id + ".zip");
+        Path partial = exportDir.resolve("bulk_export_" + job.id + ".zip.part");
+
+        if (!job.start()) {
+            LoggerUtil.warn(this.getClass(), "Bulk export job " + job.id + " expired before it started");
+            return;
+        }
+
+        try {
+            Files.createDirectories(exportDir);
+            try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(partial))) {
+                writeWorkbooks(job, zip);
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING);
+            job.complete(target);
+
+            LoggerUtil.info(this.getClass(), String.format("Bulk export job %s finished: %d written, %d skipped, %d failed (%d bytes)",
+                    job.id, job.completed.get(), job.skipped.get(), job.failed.get(), Files.size(target)));
+        } catch (Exception e) {
+            deleteQuietly(partial);
+            job.fail(e.getMessage());
+            LoggerUtil.error(this.getClass(), "Bulk export job " + job.id + " failed: " + e.getMessage(), e);
+        }
+    }
+
+    // ========================================================================
+    // PARALLEL GENERATION
+    // ========================================================================
+
+    /**
+     * Generates the job's workbooks on the bounded executor and appends each one to the ZIP as soon as it is ready.
+     * Only "parallelism" workbooks exist in memory at any time; the ZIP itself is written by the calling thread.
+     */
+    private void writeWorkbooks(BulkExportJob job, ZipOutputStream zip) throws IOException {
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        List<String> failedEntries = new ArrayList<>();
+        CompletionService<GeneratedWorkbook> completionService = new ExecutorCompletionService<>(bulkExportTaskExecutor);
+        Iterator<WorkbookTask> pending = job.takeTasks().iterator();
+        int inFlight = 0;
+
+        while (inFlight < Math.max(1, parallelism) && pending.hasNext()) {
+            completionService.submit(new DelegatingSecurityContextCallable<>(generator(pending.next()), securityContext));
+            inFlight++;
+        }
+
+        while (inFlight > 0) {
+            GeneratedWorkbook workbook = awaitNext(completionService);
+            inFlight--;
+
+            if (workbook.content != null) {
+                zip.putNextEntry(new ZipEntry(workbook.entryName));
+                zip.write(workbook.content);
+                zip.closeEntry();
+                job.completed.incrementAndGet();
+            } else if (workbook.failed) {
+                job.failed.incrementAndGet();
+                failedEntries.add(workbook.entryName);
+            } else {
+                job.skipped.incrementAndGet();
+            }
+
+            if (pending.hasNext()) {
+                completionService.submit(new DelegatingSecurityContextCallable<>(generator(pending.next()), securityContext));
+                inFlight++;
+            }
+        }
+
+        writeSummary(job, failedEntries, zip);
+    }
+
+    /**
+     * Last ZIP entry: the job id and counts, so a saved download can be matched with its job and logs.
+     */
+    private void writeSummary(BulkExportJob job, List<String> failedEntries, ZipOutputStream zip) throws IOException {
+        StringBuilder summary = new StringBuilder()
+                .append("Job id: ").append(job.id).append(System.lineSeparator())
+                .append("Requested by: ").append(job.requestedBy).append(System.lineSeparator())
+                .append("Created at: ").append(job.createdAt).append(System.lineSeparator())
+                .append(String.format("Workbooks: %d written, %d skipped (no data), %d failed of %d",
+                        job.completed.get(), job.skipped.get(), job.failed.get(), job.total))
+                .append(System.lineSeparator());
+        for (String entryName : failedEntries) {
+            summary.append("Failed: ").append(entryName).append(System.lineSeparator());
+        }
+
+        zip.putNextEntry(new ZipEntry(SUMMARY_ENTRY));
+        zip.write(summary.toString().getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private GeneratedWorkbook awaitNext(CompletionService<GeneratedWorkbook> completionService) throws IOException {
+        try {
+            return completionService.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Bulk export interrupted", e);
+        } catch (ExecutionException e) {
+            // generator() never throws, kept for completeness
+            throw new IOException("Workbook generation failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private Callable<GeneratedWorkbook> generator(WorkbookTask task) {
+        return () -> {
+            try {
+                return new GeneratedWorkbook(task.entryName(), task.generator().call(), false);
+            } catch (Exception e) {
+                LoggerUtil.warn(this.getClass(), String.format("Bulk export could not generate %s: %s", task.entryName(), e.getMessage()));
+                return new GeneratedWorkbook(task.entryName(), null, true);
+            }
+        };
+    }
+
+    // ========================================================================
+    // PLANNING
+    // ========================================================================
+
+    private ServiceResult<List<WorkbookTask>> planWorkbooks(BulkExportRequest request) {
+        if (request == null || request.getYear() == null) {
+            return ServiceResult.validationError("Year is required", "missing_year");
+        }
+        int fromMonth = request.getFromMonth() != null ? request.getFromMonth() : 1;
+        int toMonth = request.getToMonth() != null ? request.getToMonth() : 12;
+        if (fromMonth < 1 || toMonth > 12 || fromMonth > toMonth) {
+            return ServiceResult.validationError("Invalid month range " + fromMonth + "-" + toMonth, "invalid_month_range");
+        }
+
+        Set<Integer> selectedIds = request.getUserIds() == null || request.getUserIds().isEmpty()
+                ? null : new HashSet<>(request.getUserIds());
+        List<User> users = userManagementService.getNonAdminUsers().stream()
+                .filter(user -> selectedIds == null || selectedIds.contains(user.getUserId()))
+                .toList();
+        if (users.isEmpty()) {
+            return ServiceResult.validationError("No users selected for export", "no_users");
+        }
+
+        Set<WorkbookType> types = request.getEffectiveTypes();
+        List<User> checkUsers = types.contains(WorkbookType.CHECK_REGISTER) ? selectCheckUsers(selectedIds) : List.of();
+        Set<Integer> userIds = users.stream().map(User::getUserId).collect(Collectors.toSet());
+        Set<String> usernames = users.stream().map(User::getUsername).collect(Collectors.toSet());
+        int year = request.getYear();
+
+        List<WorkbookTask> tasks = new ArrayList<>();
+        for (int month = fromMonth; month <= toMonth; month++) {
+            final int m = month;
+
+            if (types.contains(WorkbookType.WORKTIME)) {
+                tasks.add(new WorkbookTask(String.format("worktime/admin_worktime_%d_%02d.xlsx", year, m),
+                        () -> generateWorktime(users, userIds, year, m)));
+            }
+            if (types.contains(WorkbookType.BONUS)) {
+                tasks.add(new WorkbookTask(String.format("bonus/bonus_data_%d_%02d.xlsx", year, m),
+                        () -> generateBonus(userIds, year, m)));
+            }
+            if (types.contains(WorkbookType.CHECK_BONUS)) {
+                tasks.add(new WorkbookTask(String.format("check-bonus/check_bonus_%d_%02d.xlsx", year, m),
+                        () -> generateCheckBonus(usernames, year, m)));
+            }
+            if (types.contains(WorkbookType.REGISTER)) {
+                for (User user : users) {
+                    tasks.add(new WorkbookTask(String.format("register/%s/register_report_%s_%d_%02d.xlsx",
+                            user.getUsername(), user.getUsername(), year, m),
+                            () -> generateRegister(user, year, m)));
+                }
+            }
+            for (User user : checkUsers) {
+                tasks.add(new WorkbookTask(String.format("check-register/%s/check_register_%s_%d_%02d.xlsx",
+                        user.getUsername(), user.getUsername(), year, m),
+                        () -> generateCheckRegister(user, year, m)));
+            }
+        }
+
+        if (tasks.isEmpty()) {
+            return ServiceResult.validationError("Nothing to export for the selected options", "empty_export");
+        }
+        return ServiceResult.success(tasks);
+    }
+
+    private List<User> selectCheckUsers(Set<Integer> selectedIds) {
+        ServiceResult<List<User>> checkUsers = checkRegisterService.getAllCheckUsers();
+        if (checkUsers.isFailure() || checkUsers.getData() == null) {
+            return List.of();
+        }
+        return checkUsers.getData().stream()
+                .filter(user -> selectedIds == null || selectedIds.contains(user.getUserId()))
+                .toList();
+    }
+
+    // ========================================================================
+    // WORKBOOK GENERATORS (return null when there is nothing to export)
+    // ========================================================================
+
+    private byte[] generateWorktime(List<User> users, Set<Integer> userIds, int year, int month) {
+        Map<Integer, Map<LocalDate, WorkTimeTable>> userEntriesMap = worktimeOperationService.getViewableAdminMonth(year, month).toUserEntriesMap();
+        userEntriesMap.keySet().retainAll(userIds);
+        if (userEntriesMap.isEmpty()) {
+            return null;
+        }
+        return workTimeExcelExporter.exportToExcel(users, userEntriesMap, year, month);
+    }
+
+    private byte[] generateRegister(User user, int year, int month) {
+        ServiceResult<List<RegisterEntry>> entries = adminRegisterService.loadUserRegisterEntries(user.getUsername(), user.getUserId(), year, month);
+        if (entries.isFailure()) {
+            throw new IllegalStateException(entries.getErrorMessage());
+        }
+        if (entries.getData() == null || entries.getData().isEmpty()) {
+            return null;
+        }
+
+        ServiceResult<BonusCalculationResultDTO> bonusResult = adminRegisterService.loadSavedBonusResult(user.getUserId(), year, month);
+        return adminRegisterExcelExporter.exportToExcel(user, entries.getData(), BonusConfiguration.getDefaultConfig(),
+                bonusResult.isSuccess() ? bonusResult.getData() : null, year, month);
+    }
+
+    private byte[] generateCheckRegister(User user, int year, int month) {
+        ServiceResult<List<RegisterCheckEntry>> entries = checkRegisterService.loadTeamCheckRegister(user.getUsername(), user.getUserId(), year, month);
+        if (entries.isFailure()) {
+            throw new IllegalStateException(entries.getErrorMessage());
+        }
+        if (entries.getData() == null || entries.getData().isEmpty()) {
+            return null;
+        }
+
+        UsersCheckValueEntry userCheckValues = checkValuesService.getUserCheckValues(user.getUsername(), user.getUserId());
+        CheckValuesEntry checkValues = userCheckValues != null && userCheckValues.getCheckValuesEntry() != null
+                ? userCheckValues.getCheckValuesEntry() : CheckValuesEntry.createDefault();
+        return checkRegisterExporter.exportToExcel(user, entries.getData(), checkValues, year, month);
+    }
+
+    private byte[] generateBonus(Set<Integer> userIds, int year, int month) {
+        Map<Integer, BonusEntryDTO> bonusData = adminBonusService.loadBonusData(year, month).entrySet().stream()
+                .filter(entry -> userIds.contains(entry.getKey()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+        if (bonusData.isEmpty()) {
+            return null;
+        }
+        return adminBonusExcelExporter.exportToExcel(bonusData, year, month);
+    }
+
+    private byte[] generateCheckBonus(Set<String> usernames, int year, int month) {
+        ServiceResult<List<CheckBonusEntry>> result = checkBonusService.loadBonusData(year, month);
+        if (result.isFailure() || result.getData() == null) {
+            return null;
+        }
+        List<CheckBonusEntry> bonusData = result.getData().stream()
+                .filter(entry -> usernames.contains(entry.getUsername()))
+                .toList();
+        if (bonusData.isEmpty()) {
+            return null;
+        }
+        return exportCheckBonusExcel.exportToExcel(bonusData, year, month);
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LoggerUtil.warn(this.getClass(), "Could not delete bulk export file " + file + ": " + e.getMessage());
+        }
+    }
+
+    // ========================================================================
+    // INTERNAL MODEL
+    // ========================================================================
+
+    private record WorkbookTask(String entryName, Callable<byte[]> generator) {
+    }
+
+    private record GeneratedWorkbook(String entryName, byte[] content, boolean failed) {
+    }
+
+    private static class BulkExportJob {
+        private final String id;
+        private final String requestedBy;
+        private final boolean toFile;
+        private final int total;
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private List<WorkbookTask> tasks;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile BulkExportJobStatus.State state = BulkExportJobStatus.State.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile Path file;
+        private volatile String errorMessage;
+
+        private BulkExportJob(String id, String requestedBy, boolean toFile, List<WorkbookTask> tasks) {
+            this.id = id;
+            this.requestedBy = requestedBy;
+            this.toFile = toFile;
+            this.tasks = tasks;
+            this.total = tasks.size();
+        }
+
+        // The plan is only needed once; releasing it lets the loaded data go with it
+        private synchronized List<WorkbookTask> takeTasks() {
+            List<WorkbookTask> taken = tasks != null ? tasks : List.of();
+            tasks = null;
+            return taken;
+        }
+
+        // False when the job already expired (or ran) - it must not start then
+        private synchronized boolean start() {
+            if (state != BulkExportJobStatus.State.QUEUED) {
+                return false;
+            }
+            startedAt = LocalDateTime.now();
+            state = BulkExportJobStatus.State.RUNNING;
+            return true;
+        }
+
+        private synchronized boolean expireIfQueued() {
+            if (state != BulkExportJobStatus.State.QUEUED) {
+                return false;
+            }
+            tasks = null;
+            fail("Export was never started");
+            return true;
+        }
+
+        private void complete(Path file) {
+            this.file = file;
+            finishedAt = LocalDateTime.now();
+            state = BulkExportJobStatus.State.COMPLETED;
+        }
+
+        private void fail(String message) {
+            errorMessage = message;
+            finishedAt = LocalDateTime.now();
+            state = BulkExportJobStatus.State.FAILED;
+        }
+
+        private BulkExportJobStatus toStatus() {
+            int done = completed.get() + skipped.get() + failed.get();
+            Long fileSize = null;
+            if (file != null) {
+                try {
+                    fileSize = Files.size(file);
+                } catch (IOException ignored) {
+                    // File removed in the meantime
+                }
+            }
+            return BulkExportJobStatus.builder()
+                    .jobId(id)
+                    .state(state)
+                    .toFile(toFile)
+                    .totalWorkbooks(total)
+                    .completedWorkbooks(completed.get())
+                    .skippedWorkbooks(skipped.get())
+                    .failedWorkbooks(failed.get())
+                    .progressPercent(total == 0 ? 100 : (int) Math.round(done * 100.0 / total))
+                    .requestedBy(requestedBy)
+                    .createdAt(createdAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .fileSizeBytes(fileSize)
+                    .errorMessage(errorMessage)
+                    .build();
+        }
+    }
+}
@@ -49,10 +49,8 @@ public class CalculationService {
             // Always update last activity
             session.setLastActivity(currentTime);
 
-            LoggerUtil.debug(this.getClass(), String.format(
-                    "Updated session calculations for %s: status=%s, totalMinutes=%d, overtime=%d",
-                    session.getUsername(), session.getSessionStatus(),
-                    session.getTotalWorkedMinutes(), session.getTotalOvertimeMinutes()));
+            LoggerUtil.debug(this.getClass(), "Updated session calculations for {}: status={}, totalMinutes={}, overtime={}",
+                    session.getUsername(), session.getSessionStatus(), session.getTotalWorkedMinutes(), session.getTotalOvertimeMinutes());
 
             return session;
 
@@ -84,10 +82,8 @@ public class CalculationService {
                     .lunchBreakDeducted(result.isLunchDeducted())
                     .workdayCompleted(workdayCompleted));
 
-            LoggerUtil.debug(this.getClass(), String.format(
-                    "Online session updated: raw=%d, processed=%d, overtime=%d, lunch=%s, complete=%s",
-                    rawWorkedMinutes, result.getProcessedMinutes(), result.getOvertimeMinutes(),
-                    result.isLunchDeducted(), workdayCompleted));
+            LoggerUtil.debug(this.getClass(), "Online session updated: raw={}, processed={}, overtime={}, lunch={}, complete={}",
+                    rawWorkedMinutes, result.getProcessedMinutes(), result.getOvertimeMinutes(), result.isLunchDeducted(), workdayCompleted);
 
             return session;
 
@@ -112,9 +108,8 @@ public class CalculationService {
             SessionEntityBuilder.updateSession(session, builder -> builder
                     .totalTemporaryStopMinutes(totalTempStopMinutes));
 
-            LoggerUtil.debug(this.getClass(), String.format(
-                    "Temp stop updated for %s: total=%d minutes",
-                    session.getUsername(), totalTempStopMinutes));
+            LoggerUtil.debug(this.getClass(), "Temp stop updated for {}: total={} minutes",
+                    session.getUsername(), totalTempStopMinutes);
 
             return session;
 
@@ -148,10 +143,8 @@ public class CalculationService {
                     .lunchBreakDeducted(result.isLunchDeducted())
                     .workdayCompleted(true));
 
-            LoggerUtil.info(this.getClass(), String.format(
-                    "End day calculated for %s: total=%d, processed=%d, overtime=%d, ended at %s",
-                    session.getUsername(), totalMinutes, result.getProcessedMinutes(),
-                    result.getOvertimeMinutes(), endTime));
+            LoggerUtil.info(this.getClass(), "End day calculated for {}: total={}, processed={}, overtime={}, ended at {}",
+                    session.getUsername(), totalMinutes, result.getProcessedMinutes(), result.getOvertimeMinutes(), endTime);
 
             return session;
 
@@ -183,7 +176,8 @@ public class CalculationService {
             // Update session status to temporary stop
             SessionEntityBuilder.updateSession(session, builder -> builder.status(WorkCode.WORK_TEMPORARY_STOP).currentStartTime(stopTime));
 
-            LoggerUtil.info(this.getClass(), String.format("Temporary stop started for %s at %s (count: %d)", session.getUsername(), stopTime, currentCount + 1));
+            LoggerUtil.info(this.getClass(), "Temporary stop started for {} at {} (count: {})",
+                    session.getUsername(), stopTime, currentCount + 1);
 
             return session;
 
@@ -226,9 +220,8 @@ public class CalculationService {
                 // Clear temporary stop tracking
                 session.setLastTemporaryStopTime(null);
 
-                LoggerUtil.info(this.getClass(), String.format(
-                        "Resumed from temporary stop for %s: duration=%d minutes (total: %d)",
-                        session.getUsername(), stopMinutes, newTotal));
+                LoggerUtil.info(this.getClass(), "Resumed from temporary stop for {}: duration={} minutes (total: {})",
+                        session.getUsername(), stopMinutes, newTotal);
             }
 
             // ✅ FIX: Preserve totalTemporaryStopMinutes in status update
@@ -287,10 +280,8 @@ public class CalculationService {
                             .sum() : 0;
             session.setTotalTemporaryStopMinutes(totalStopMinutes);
 
-            LoggerUtil.info(this.getClass(), String.format(
-                    "Added break as temp stop for %s: %d minutes (%s to %s), total stops: %d, total minutes: %d",
-                    session.getUsername(), temporaryStop.getDuration(), startTime, endTime,
-                    newStopCount, totalStopMinutes));
+            LoggerUtil.info(this.getClass(), "Added break as temp stop for {}: {} minutes ({} to {}), total stops: {}, total minutes: {}",
+                    session.getUsername(), temporaryStop.getDuration(), startTime, endTime, newStopCount, totalStopMinutes);
 
             return session;
 
@@ -538,7 +529,7 @@ public class CalculationService {
             DayOfWeek day = date.getDayOfWeek();
             boolean weekend = day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY;
 
-            LoggerUtil.debug(this.getClass(), String.format("Date %s is %s", date, weekend ? "weekend" : "weekday"));
+            LoggerUtil.debug(this.getClass(), "Date {} is {}", date, weekend ? "weekend" : "weekday");
             return weekend;
 
         } catch (Exception e) {
@@ -557,7 +548,7 @@ public class CalculationService {
             return WorkCode.INTERVAL_HOURS_C; // Default to 8 hours
         }
 
-        LoggerUtil.debug(this.getClass(), String.format("Normalized schedule: %d hours", schedule));
+        LoggerUtil.debug(this.getClass(), "Normalized schedule: {} hours", schedule);
         return schedule;
     }
 
@@ -577,7 +568,7 @@ public class CalculationService {
                 duration = schedule * WorkCode.HOUR_DURATION;
             }
 
-            LoggerUtil.debug(this.getClass(), String.format("Full day duration for %d hour schedule: %d minutes", schedule, duration));
+            LoggerUtil.debug(this.getClass(), "Full day duration for {} hour schedule: {} minutes", schedule, duration);
             return duration;
 
         } catch (Exception e) {
@@ -0,0 +1,201 @@
+package com.ctgraphdep.service;
+
+import com.ctgraphdep.config.FileTypeConstants;
+import com.ctgraphdep.fileOperations.data.CheckRegisterDataService;
+import com.ctgraphdep.fileOperations.data.MonthSummaryDataService;
+import com.ctgraphdep.fileOperations.data.RegisterDataService;
+import com.ctgraphdep.fileOperations.data.SessionDataService;
+import com.ctgraphdep.fileOperations.data.WorktimeDataService;
+import com.ctgraphdep.fileOperations.events.FileWriteSuccessEvent;
+import com.ctgraphdep.fileOperations.service.FilePathResolver;
+import com.ctgraphdep.model.User;
+import com.ctgraphdep.model.UserMonthSummary;
+import com.ctgraphdep.scheduling.JobIoClass;
+import com.ctgraphdep.scheduling.JobPriority;
+import com.ctgraphdep.scheduling.ScheduledJob;
+import com.ctgraphdep.service.cache.MainDefaultUserContextService;
+import com.ctgraphdep.utils.LoggerUtil;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publishes the month summaries of this instance's user (see UserMonthSummary).
+ * Writes of the user's own worktime, register and check register files mark their month as pending; the pending
+ * months are summarized from the local files and published on a short delay, so a burst of edits publishes once.
+ * On the first run for a user, recent months without a current local summary are published too.
+ */
+@Service
+public class MonthSummaryPublisher {
+
+    // Months checked on the first run for a user
+    private static final int BACKFILL_MONTHS = 12;
+
+    private static final Map<String, FilePathResolver.FileType> SOURCE_FILE_TYPES = Map.of(
+            FileTypeConstants.WORKTIME_TARGET, FilePathResolver.FileType.WORKTIME,
+            FileTypeConstants.REGISTER_TARGET, FilePathResolver.FileType.REGISTER,
+            FileTypeConstants.CHECK_REGISTER_TARGET, FilePathResolver.FileType.CHECK_REGISTER);
+
+    private final MonthSummaryDataService monthSummaryDataService;
+    private final WorktimeDataService worktimeDataService;
+    private final RegisterDataService registerDataService;
+    private final CheckRegisterDataService checkRegisterDataService;
+    private final SessionDataService sessionDataService;
+    private final FilePathResolver pathResolver;
+    private final MainDefaultUserContextService mainDefaultUserContextService;
+
+    private final Set<YearMonth> pendingMonths = ConcurrentHashMap.newKeySet();
+    private volatile String backfilledFor;
+
+    public MonthSummaryPublisher(MonthSummaryDataService monthSummaryDataService,
+                                 WorktimeDataService worktimeDataService,
+                                 RegisterDataService registerDataService,
+                                 CheckRegisterDataService checkRegisterDataService,
+                                 SessionDataService sessionDataService,
+                                 FilePathResolver pathResolver,
+                                 MainDefaultUserContextService mainDefaultUserContextService) {
+        this.monthSummaryDataService = monthSummaryDataService;
+        this.worktimeDataService = worktimeDataService;
+        this.registerDataService = registerDataService;
+        this.checkRegisterDataService = checkRegisterDataService;
+        this.sessionDataService = sessionDataService;
+        this.pathResolver = pathResolver;
+        this.mainDefaultUserContextService = mainDefaultUserContextService;
+        LoggerUtil.initialize(this.getClass(), null);
+    }
+
+    /**
+     * Marks the month of a written local source file of this instance's user as pending.
+     */
+    @EventListener
+    public void onFileWritten(FileWriteSuccessEvent event) {
+        if (!event.getFilePath().isLocal()) {
+            return;
+        }
+
+        Path path = event.getFilePath().getPath();
+        String fileName = path.getFileName().toString();
+        FilePathResolver.FileType fileType = SOURCE_FILE_TYPES.get(FileTypeConstants.extractFileTypeFromFilename(fileName));
+        if (fileType == null) {
+            return;
+        }
+
+        User owner = getOwner();
+        YearMonth month = parseYearMonth(fileName);
+        if (owner == null || month == null) {
+            return;
+        }
+
+        // Only the owner's own files - the expected path also rules out other users' local copies
+        Path ownerPath = pathResolver.getLocalPath(owner.getUsername(), owner.getUserId(), fileType,
+                FilePathResolver.createYearMonthParams(month.getYear(), month.getMonthValue())).getPath();
+        if (ownerPath.equals(path)) {
+            pendingMonths.add(month);
+        }
+    }
+
+    /**
+     * Publishes the summaries of all pending months.
+     */
+    @Scheduled(fixedDelayString = "${app.summary.publish.interval:30000}")
+    @ScheduledJob(name = "month-summary-publish", priority = JobPriority.LOW, io = JobIoClass.LOCAL_DISK)
+    public void publishPending() {
+        User owner = getOwner();
+        if (owner == null) {
+            return;
+        }
+
+        if (!owner.getUsername().equals(backfilledFor)) {
+            queueBackfill(owner);
+            backfilledFor = owner.getUsername();
+        }
+
+        if (pendingMonths.isEmpty()) {
+            return;
+        }
+
+        List<YearMonth> months = new ArrayList<>(pendingMonths);
+        pendingMonths.removeAll(months);
+        for (YearMonth month : months) {
+            try {
+                publish(owner, month.getYear(), month.getMonthValue());
+            } catch (Exception e) {
+                LoggerUtil.warn(this.getClass(), String.format("Failed to publish month summary for %s - %s, retrying next run: %s",
+                        owner.getUsername(), month, e.getMessage()));
+                pendingMonths.add(month);
+            }
+        }
+    }
+
+    /**
+     * Builds the summary of one month from the owner's local files and publishes it.
+     */
+    public UserMonthSummary publish(User owner, int year, int month) {
+        String username = owner.getUsername();
+        Integer userId = owner.getUserId();
+
+        UserMonthSummary summary = UserMonthSummary.builder()
+                .version(UserMonthSummary.CURRENT_VERSION)
+                .username(username)
+                .userId(userId)
+                .year(year)
+                .month(month)
+                .generatedAt(LocalDateTime.now())
+                .worktime(UserMonthSummary.WorktimeSummary.of(worktimeDataService.readUserLocalReadOnly(username, year, month, username)))
+                .register(UserMonthSummary.RegisterSummary.of(registerDataService.readUserLocalReadOnly(username, userId, username, year, month)))
+                .checkRegister(UserMonthSummary.CheckRegisterSummary.of(checkRegisterDataService.readUserCheckRegisterLocalReadOnly(username, userId, year, month)))
+                .session(UserMonthSummary.SessionSnapshot.of(sessionDataService.readLocalSessionFileReadOnly(username, userId)))
+                .build();
+
+        monthSummaryDataService.writeMonthSummaryWithSync(summary);
+        return summary;
+    }
+
+    // Queue recent months whose local summary is missing or older than their source files
+    private void queueBackfill(User owner) {
+        YearMonth current = YearMonth.now();
+        int queued = 0;
+        for (int i = 0; i < BACKFILL_MONTHS; i++) {
+            YearMonth month = current.minusMonths(i);
+            if (!monthSummaryDataService.isLocalMonthSummaryCurrent(owner.getUsername(), owner.getUserId(), month.getYear(), month.getMonthValue())) {
+                pendingMonths.add(month);
+                queued++;
+            }
+        }
+        if (queued > 0) {
+            LoggerUtil.info(this.getClass(), String.format("Queued %d month summaries to publish for %s", queued, owner.getUsername()));
+        }
+    }
+
+    private User getOwner() {
+        if (!mainDefaultUserContextService.isCacheHealthy()) {
+            return null;
+        }
+        User user = mainDefaultUserContextService.getOriginalUser();
+        return user != null && user.getUserId() != null && !"system".equals(user.getUsername()) ? user : null;
+    }
+
+    // Month data files end with "_<year>_<MM>.json"
+    private static YearMonth parseYearMonth(String fileName) {
+        String[] parts = fileName.replace(FileTypeConstants.JSON_EXTENSION, "").split("_");
+        if (parts.length < 3) {
+            return null;
+        }
+        try {
+            int month = Integer.parseInt(parts[parts.length - 1]);
+            int year = Integer.parseInt(parts[parts.length - 2]);
+            return month >= 1 && month <= 12 ? YearMonth.of(year, month) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
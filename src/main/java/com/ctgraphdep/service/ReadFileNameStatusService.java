@@ -8,6 +8,9 @@ import com.ctgraphdep.model.FlagInfo;
 import com.ctgraphdep.model.User;
 import com.ctgraphdep.model.WorkUsersSessionsStates;
 import com.ctgraphdep.model.dto.UserStatusDTO;
+import com.ctgraphdep.scheduling.JobIoClass;
+import com.ctgraphdep.scheduling.JobPriority;
+import com.ctgraphdep.scheduling.ScheduledJob;
 import com.ctgraphdep.service.cache.MainDefaultUserContextService;
 import com.ctgraphdep.service.cache.AllUsersCacheService;
 import com.ctgraphdep.service.cache.SessionCacheService;
@@ -78,6 +81,7 @@ public class ReadFileNameStatusService {
 
     //AllUsersCacheService handles most of the work
     @Scheduled(initialDelay = 5000, fixedDelay = Long.MAX_VALUE)
+    @ScheduledJob(name = "status-initialization", io = JobIoClass.LOCAL_DISK)
     public void initialize() {
         try {
             LoggerUtil.info(this.getClass(), "Initializing ReadFileNameStatusService");
@@ -210,6 +214,7 @@ public class ReadFileNameStatusService {
 
     //Periodically updates the current user's timestamp based on session. Now uses SessionCacheService with fallback to SessionDataService.
     @Scheduled(fixedRateString = "${app.status.time.update.interval:1200000}")
+    @ScheduledJob(name = "status-timestamp-update", io = JobIoClass.NETWORK)
     public void updateCurrentUserTimestamp() {
         User user = getCurrentOriginalUser();
         if (user == null) {
@@ -248,6 +253,7 @@ public class ReadFileNameStatusService {
 
     // Scheduled task to check for pending status updates that are old and clean them up if they're over 24 hours old
     @Scheduled(fixedRate = 3600000) // Run hourly
+    @ScheduledJob(name = "pending-status-cleanup", priority = JobPriority.LOW)
     public void cleanPendingStatusUpdates() {
         synchronized (pendingStatusUpdates) {
             LocalDateTime cutoff = getStandardCurrentTime().minusHours(24);
@@ -269,6 +275,7 @@ public class ReadFileNameStatusService {
 
     //Cleans up stale status flag files on the network using SessionDataService.
     @Scheduled(fixedRate = 3600000)
+    @ScheduledJob(name = "stale-status-flag-cleanup", priority = JobPriority.LOW, io = JobIoClass.NETWORK)
     public void cleanupStaleFlags() {
         try {
             if (!systemAvailabilityService.isNetworkAvailable()) {
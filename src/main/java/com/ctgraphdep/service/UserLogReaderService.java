@@ -0,0 +1,734 @@
+package com.ctgraphdep.service;
+
+import com.ctgraphdep.config.FileTypeConstants;
+import com.ctgraphdep.fileOperations.config.PathConfig;
+import com.ctgraphdep.fileOperations.data.SessionDataService;
+import com.ctgraphdep.fileOperations.service.LogShippingService;
+import com.ctgraphdep.model.dto.log.LogFileSummaryDTO;
+import com.ctgraphdep.model.dto.log.LogQuery;
+import com.ctgraphdep.utils.LoggerUtil;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.stream.Stream;
+
+/**
+ * Random-access reader for the users' network logs used by the admin log viewer.
+ * Flow:
+ * 1. On first open a line index is built in one sequential pass: line start offsets, entry timestamp and level
+ *    (continuation lines such as stack traces inherit them from their entry). Shipped .log.gz logs are
+ *    decompressed once into a local cache file during the same pass.
+ * 2. Indexes are cached by source size and modification time, so unchanged logs are never scanned again.
+ *    Queries hold a reader reference on the index; a decompressed cache file is deleted only once its index
+ *    was dropped from the cache and its last reader finished. Leftover cache files are purged on startup.
+ * 3. Tail, page, time-range and level/text queries read only the byte ranges they need and stream JSON.
+ * 4. Cross-user search runs the same query for every user in parallel and streams each result as it completes.
+ */
+@Service
+public class UserLogReaderService {
+
+    public static final int DEFAULT_PAGE_LINES = 1000;
+    public static final int MAX_PAGE_LINES = 5000;
+
+    private static final String CACHE_FOLDER = "log_cache";
+    private static final int MAX_CACHED_INDEXES = 8;
+    // Lines read per positional read while scanning for matches
+    private static final int SCAN_BATCH_LINES = 2000;
+    // Header bytes kept per line for timestamp/level parsing: "yyyy-MM-dd HH:mm:ss,SSS LEVEL "
+    private static final int HEADER_BYTES = 32;
+    private static final int TIMESTAMP_LENGTH = 23;
+
+    // Level codes stored in the index, ordered by severity
+    private static final byte LEVEL_UNKNOWN = -1;
+    private static final String[] LEVEL_NAMES = {"TRACE", "DEBUG", "INFO", "WARN", "ERROR"};
+    private static final byte[][] LEVEL_BYTES = Arrays.stream(LEVEL_NAMES).map(name -> name.getBytes(StandardCharsets.US_ASCII)).toArray(byte[][]::new);
+
+    private final SessionDataService sessionDataService;
+    private final LogShippingService logShippingService;
+    private final PathConfig pathConfig;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor taskExecutor;
+
+    // Access-ordered so the least recently viewed log is dropped first
+    private final Map<Path, LogIndex> indexCache = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Path, Object> indexLocks = new ConcurrentHashMap<>();
+
+    @Value("${app.logs.search.max-matches-per-user:200}")
+    private int maxMatchesPerUser;
+
+    public UserLogReaderService(SessionDataService sessionDataService, LogShippingService logShippingService, PathConfig pathConfig,
+                                ObjectMapper objectMapper, @Qualifier("taskExecutor") TaskExecutor taskExecutor) {
+        this.sessionDataService = sessionDataService;
+        this.logShippingService = logShippingService;
+        this.pathConfig = pathConfig;
+        this.objectMapper = objectMapper;
+        this.taskExecutor = taskExecutor;
+        LoggerUtil.initialize(this.getClass(), null);
+    }
+
+    /**
+     * Removes decompressed logs left in the cache folder by a previous run; no index refers to them anymore.
+     */
+    @PostConstruct
+    public void purgeCacheFolder() {
+        Path cacheDir = pathConfig.getLocalPath().resolve(CACHE_FOLDER);
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+        int deleted = 0;
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                try {
+                    Files.deleteIfExists(file);
+                    deleted++;
+                } catch (IOException e) {
+                    LoggerUtil.debug(this.getClass(), "Could not delete log cache file " + file.getFileName() + ": " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            LoggerUtil.warn(this.getClass(), "Could not purge log cache folder: " + e.getMessage());
+            return;
+        }
+        if (deleted > 0) {
+            LoggerUtil.info(this.getClass(), String.format("Purged %d leftover log cache files", deleted));
+        }
+    }
+
+    // ========================================================================
+    // QUERIES
+    // ========================================================================
+
+    public boolean hasLog(String username) {
+        return sessionDataService.getUserLogPath(username).isPresent();
+    }
+
+    /**
+     * Summary of a user's log (line count, time span, level counts), empty if the user has no log.
+     */
+    public Optional<LogFileSummaryDTO> getSummary(String username) throws IOException {
+        Optional<LogIndex> found = findIndex(username);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        LogIndex index = found.get();
+        // Only the in-memory index is read, the reference is not needed past this point
+        release(index);
+        return Optional.of(LogFileSummaryDTO.builder()
+                .username(username)
+                .filename(index.source.getFileName().toString())
+                .sizeBytes(index.dataLength())
+                .totalLines(index.lineCount)
+                .firstTimestamp(index.lineCount > 0 ? toDateTime(index.firstTimestamp()) : null)
+                .lastTimestamp(index.lineCount > 0 ? toDateTime(index.timestamps[index.lineCount - 1]) : null)
+                .errorCount(index.levelCounts[4])
+                .warnCount(index.levelCounts[3])
+                .infoCount(index.levelCounts[2])
+                .debugCount(index.levelCounts[1] + index.levelCounts[0])
+                .build());
+    }
+
+    /**
+     * Streams lines [fromLine, fromLine + limit) as a JSON page. Returns false if the user has no log.
+     */
+    public boolean writePage(String username, int fromLine, int limit, OutputStream output) throws IOException {
+        Optional<LogIndex> found = findIndex(username);
+        if (found.isEmpty()) {
+            return false;
+        }
+        try {
+            writeLines(username, found.get(), fromLine, limit, output);
+        } finally {
+            release(found.get());
+        }
+        return true;
+    }
+
+    /**
+     * Streams the last lines of a user's log as a JSON page.
+     */
+    public boolean writeTail(String username, int limit, OutputStream output) throws IOException {
+        Optional<LogIndex> found = findIndex(username);
+        if (found.isEmpty()) {
+            return false;
+        }
+        try {
+            int lines = clampLimit(limit);
+            writeLines(username, found.get(), Math.max(0, found.get().lineCount - lines), lines, output);
+        } finally {
+            release(found.get());
+        }
+        return true;
+    }
+
+    private void writeLines(String username, LogIndex index, int fromLine, int limit, OutputStream output) throws IOException {
+        int from = Math.max(0, Math.min(fromLine, index.lineCount));
+        int to = Math.min(index.lineCount, from + clampLimit(limit));
+
+        try (JsonGenerator generator = createGenerator(output)) {
+            generator.writeStartObject();
+            generator.writeStringField("username", username);
+            generator.writeNumberField("totalLines", index.lineCount);
+            generator.writeNumberField("fromLine", from);
+            generator.writeArrayFieldStart("lines");
+            try (FileChannel channel = FileChannel.open(index.dataFile, StandardOpenOption.READ)) {
+                for (int batchStart = from; batchStart < to; batchStart += SCAN_BATCH_LINES) {
+                    int batchEnd = Math.min(to, batchStart + SCAN_BATCH_LINES);
+                    byte[] block = readBlock(channel, index, batchStart, batchEnd);
+                    for (int line = batchStart; line < batchEnd; line++) {
+                        writeLine(generator, index, line, decodeLine(block, index, batchStart, line));
+                    }
+                }
+            }
+            generator.writeEndArray();
+            generator.writeNumberField("nextLine", to);
+            generator.writeBooleanField("hasMore", to < index.lineCount);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Streams lines matching the query (time range, minimum level, text) as a JSON page.
+     * nextLine is where a follow-up query continues when hasMore is true.
+     */
+    public boolean writeQuery(String username, LogQuery query, OutputStream output) throws IOException {
+        Optional<LogIndex> found = findIndex(username);
+        if (found.isEmpty()) {
+            return false;
+        }
+
+        try (JsonGenerator generator = createGenerator(output)) {
+            generator.writeStartObject();
+            generator.writeStringField("username", username);
+            generator.writeNumberField("totalLines", found.get().lineCount);
+            generator.writeArrayFieldStart("lines");
+            int nextLine = scan(found.get(), query, clampLimit(query.getLimit()), generator).nextLine();
+            generator.writeEndArray();
+            generator.writeNumberField("nextLine", nextLine);
+            generator.writeBooleanField("hasMore", nextLine < found.get().lineCount);
+            generator.writeEndObject();
+        } finally {
+            release(found.get());
+        }
+        return true;
+    }
+
+    /**
+     * Runs the query over every user's log in parallel and streams one result object per user as they complete.
+     * Each user contributes at most app.logs.search.max-matches-per-user lines.
+     */
+    public void writeSearch(LogQuery query, OutputStream output) throws IOException {
+        List<String> usernames = sessionDataService.getUserLogsList();
+        int perUserLimit = Math.min(clampLimit(query.getLimit()), maxMatchesPerUser);
+
+        ExecutorCompletionService<UserSearchResult> completionService = new ExecutorCompletionService<>(taskExecutor);
+        for (String username : usernames) {
+            completionService.submit(() -> searchUser(username, query, perUserLimit));
+        }
+
+        try (JsonGenerator generator = createGenerator(output)) {
+            generator.writeStartObject();
+            generator.writeNumberField("users", usernames.size());
+            generator.writeArrayFieldStart("results");
+            for (int remaining = usernames.size(); remaining > 0; remaining--) {
+                UserSearchResult result;
+                try {
+                    result = completionService.take().get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Log search interrupted", e);
+                } catch (ExecutionException e) {
+                    LoggerUtil.warn(this.getClass(), "Log search failed for one user: " + e.getCause().getMessage());
+                    continue;
+                }
+                if (result.json() != null) {
+                    generator.writeRawValue(result.json());
+                }
+                generator.flush();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    // Runs one user's part of a cross-user search into a buffered JSON object (empty when nothing matched)
+    private UserSearchResult searchUser(String username, LogQuery query, int limit) throws IOException {
+        Optional<LogIndex> found = findIndex(username);
+        if (found.isEmpty()) {
+            return new UserSearchResult(null);
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ScanResult scanResult;
+        try (JsonGenerator generator = createGenerator(buffer)) {
+            generator.writeStartObject();
+            generator.writeStringField("username", username);
+            generator.writeArrayFieldStart("lines");
+            scanResult = scan(found.get(), query, limit, generator);
+            generator.writeEndArray();
+            generator.writeBooleanField("truncated", scanResult.nextLine() < found.get().lineCount);
+            generator.writeEndObject();
+        } finally {
+            release(found.get());
+        }
+
+        // Users without matches are left out of the response
+        return new UserSearchResult(scanResult.matches() > 0 ? buffer.toString(StandardCharsets.UTF_8) : null);
+    }
+
+    // Writes up to limit matching lines; nextLine is where a follow-up scan continues (lineCount when done)
+    private ScanResult scan(LogIndex index, LogQuery query, int limit, JsonGenerator generator) throws IOException {
+        byte minLevel = parseLevelName(query.getLevel());
+        String text = query.getText() != null && !query.getText().isBlank() ? query.getText().toLowerCase(Locale.ROOT) : null;
+
+        int start = query.getFromTime() != null ? lowerBound(index, toLocalMillis(query.getFromTime())) : 0;
+        int end = query.getToTime() != null ? lowerBound(index, toLocalMillis(query.getToTime()) + 1) : index.lineCount;
+        if (query.getFromLine() != null) {
+            start = Math.max(start, query.getFromLine());
+        }
+
+        int written = 0;
+        try (FileChannel channel = FileChannel.open(index.dataFile, StandardOpenOption.READ)) {
+            for (int batchStart = start; batchStart < end; batchStart += SCAN_BATCH_LINES) {
+                int batchEnd = Math.min(end, batchStart + SCAN_BATCH_LINES);
+
+                // Skip the read entirely when no line of the batch has the required level
+                if (minLevel > LEVEL_UNKNOWN && !anyLevelAtLeast(index, batchStart, batchEnd, minLevel)) {
+                    continue;
+                }
+
+                byte[] block = readBlock(channel, index, batchStart, batchEnd);
+                for (int line = batchStart; line < batchEnd; line++) {
+                    if (minLevel > LEVEL_UNKNOWN && index.levels[line] < minLevel) {
+                        continue;
+                    }
+                    String content = decodeLine(block, index, batchStart, line);
+                    if (text != null && !content.toLowerCase(Locale.ROOT).contains(text)) {
+                        continue;
+                    }
+                    writeLine(generator, index, line, content);
+                    if (++written >= limit) {
+                        return new ScanResult(written, line + 1);
+                    }
+                }
+            }
+        }
+        return new ScanResult(written, index.lineCount);
+    }
+
+    // ========================================================================
+    // INDEX
+    // ========================================================================
+
+    // The returned index holds a reader reference; the caller must release() it
+    private Optional<LogIndex> findIndex(String username) throws IOException {
+        Optional<Path> logPath = sessionDataService.getUserLogPath(username);
+        if (logPath.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(getIndex(logPath.get()));
+    }
+
+    // Returns the cached index while the source is unchanged, otherwise rebuilds it (once per source at a time).
+    // The reference is taken under the cache lock, so the index cannot be evicted and deleted in between.
+    private LogIndex getIndex(Path source) throws IOException {
+        long size = Files.size(source);
+        long modified = Files.getLastModifiedTime(source).toMillis();
+
+        synchronized (indexLocks.computeIfAbsent(source, key -> new Object())) {
+            synchronized (indexCache) {
+                LogIndex cached = indexCache.get(source);
+                if (cached != null && cached.sourceSize == size && cached.sourceModified == modified) {
+                    cached.acquire();
+                    return cached;
+                }
+            }
+
+            long startTime = System.currentTimeMillis();
+            LogIndex index = buildIndex(source, size, modified);
+            LoggerUtil.info(this.getClass(), String.format("Indexed log %s: %d lines in %d ms",
+                    source.getFileName(), index.lineCount, System.currentTimeMillis() - startTime));
+
+            synchronized (indexCache) {
+                index.acquire();
+                retire(indexCache.put(source, index));
+                while (indexCache.size() > MAX_CACHED_INDEXES) {
+                    Path eldest = indexCache.keySet().iterator().next();
+                    retire(indexCache.remove(eldest));
+                }
+            }
+            return index;
+        }
+    }
+
+    private LogIndex buildIndex(Path source, long size, long modified) throws IOException {
+        boolean compressed = source.getFileName().toString().endsWith(FileTypeConstants.GZIP_EXTENSION);
+        Path dataFile = source;
+        OutputStream copy = null;
+
+        if (compressed) {
+            Path cacheDir = pathConfig.getLocalPath().resolve(CACHE_FOLDER);
+            Files.createDirectories(cacheDir);
+            String name = source.getFileName().toString();
+            dataFile = cacheDir.resolve(name.substring(0, name.length() - FileTypeConstants.GZIP_EXTENSION.length()) + "." + modified + "-" + size);
+            copy = Files.newOutputStream(dataFile);
+        }
+
+        IndexBuilder builder = new IndexBuilder();
+        try (InputStream input = new BufferedInputStream(logShippingService.openLogStream(source), 64 * 1024)) {
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = input.read(buffer)) > 0) {
+                builder.accept(buffer, read);
+                if (copy != null) {
+                    copy.write(buffer, 0, read);
+                }
+            }
+        } finally {
+            if (copy != null) {
+                copy.close();
+            }
+        }
+
+        return builder.build(source, dataFile, compressed, size, modified);
+    }
+
+    // Drops an index evicted from the cache; its cache file goes once no query reads it anymore
+    private void retire(LogIndex index) {
+        if (index != null && index.retire()) {
+            deleteCacheFile(index);
+        }
+    }
+
+    private void release(LogIndex index) {
+        if (index.release()) {
+            deleteCacheFile(index);
+        }
+    }
+
+    private void deleteCacheFile(LogIndex index) {
+        if (index.cacheFile) {
+            try {
+                Files.deleteIfExists(index.dataFile);
+            } catch (IOException e) {
+                LoggerUtil.debug(this.getClass(), "Could not delete log cache file " + index.dataFile.getFileName() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Line index of one log file. timestamps are local epoch milliseconds (no zone), 0 before the first entry;
+     * lineOffsets has lineCount + 1 entries, the last one being the data length.
+     */
+    private static final class LogIndex {
+        private Path source;
+        private Path dataFile;
+        private boolean cacheFile;
+        private long sourceSize;
+        private long sourceModified;
+        private int lineCount;
+        private long[] lineOffsets;
+        private long[] timestamps;
+        private byte[] levels;
+        private final int[] levelCounts = new int[LEVEL_NAMES.length];
+        // Queries currently reading dataFile, and whether the index left the cache
+        private int readers;
+        private boolean retired;
+
+        private synchronized void acquire() {
+            readers++;
+        }
+
+        // True when this was the last reader of a retired index
+        private synchronized boolean release() {
+            readers--;
+            return retired && readers == 0;
+        }
+
+        // True when no query is reading the index
+        private synchronized boolean retire() {
+            retired = true;
+            return readers == 0;
+        }
+
+        private long dataLength() {
+            return lineOffsets[lineCount];
+        }
+
+        private long firstTimestamp() {
+            for (int i = 0; i < lineCount; i++) {
+                if (timestamps[i] != 0) {
+                    return timestamps[i];
+                }
+            }
+            return 0;
+        }
+    }
+
+    // Single-pass scanner filling the index arrays from raw bytes
+    private static final class IndexBuilder {
+        private long[] offsets = new long[4096];
+        private long[] timestamps = new long[4096];
+        private byte[] levels = new byte[4096];
+        private final int[] levelCounts = new int[LEVEL_NAMES.length];
+        private int count = 0;
+
+        private final byte[] header = new byte[HEADER_BYTES];
+        private int headerLength = 0;
+        private long position = 0;
+        private long lineStart = 0;
+
+        private long lastTimestamp = 0;
+        private byte lastLevel = LEVEL_UNKNOWN;
+        // Cached day of the previous entry, so the date is converted once per day
+        private int cachedDateKey = -1;
+        private long cachedDayMillis = 0;
+
+        void accept(byte[] buffer, int length) {
+            for (int i = 0; i < length; i++) {
+                byte b = buffer[i];
+                if (headerLength < HEADER_BYTES) {
+                    header[headerLength++] = b;
+                }
+                position++;
+                if (b == '\n') {
+                    finishLine();
+                }
+            }
+        }
+
+        LogIndex build(Path source, Path dataFile, boolean cacheFile, long size, long modified) {
+            if (position > lineStart) {
+                finishLine();
+            }
+            ensureCapacity(count + 1);
+            offsets[count] = position;
+
+            LogIndex index = new LogIndex();
+            index.source = source;
+            index.dataFile = dataFile;
+            index.cacheFile = cacheFile;
+            index.sourceSize = size;
+            index.sourceModified = modified;
+            index.lineCount = count;
+            index.lineOffsets = Arrays.copyOf(offsets, count + 1);
+            index.timestamps = Arrays.copyOf(timestamps, count);
+            index.levels = Arrays.copyOf(levels, count);
+            System.arraycopy(levelCounts, 0, index.levelCounts, 0, levelCounts.length);
+            return index;
+        }
+
+        private void finishLine() {
+            ensureCapacity(count + 1);
+            long timestamp = parseTimestamp();
+            if (timestamp != 0) {
+                lastTimestamp = timestamp;
+                lastLevel = parseLevel();
+                if (lastLevel >= 0) {
+                    levelCounts[lastLevel]++;
+                }
+            }
+            offsets[count] = lineStart;
+            timestamps[count] = lastTimestamp;
+            levels[count] = lastLevel;
+            count++;
+
+            lineStart = position;
+            headerLength = 0;
+        }
+
+        // Parses "yyyy-MM-dd HH:mm:ss,SSS" at the line start, 0 when the line is a continuation
+        private long parseTimestamp() {
+            if (headerLength < TIMESTAMP_LENGTH || header[4] != '-' || header[7] != '-' || header[10] != ' '
+                    || header[13] != ':' || header[16] != ':' || (header[19] != ',' && header[19] != '.')) {
+                return 0;
+            }
+            int year = digits(0, 4);
+            int month = digits(5, 2);
+            int day = digits(8, 2);
+            int hour = digits(11, 2);
+            int minute = digits(14, 2);
+            int second = digits(17, 2);
+            int millis = digits(20, 3);
+            if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31 || hour < 0 || minute < 0 || second < 0 || millis < 0) {
+                return 0;
+            }
+
+            int dateKey = (year * 100 + month) * 100 + day;
+            if (dateKey != cachedDateKey) {
+                try {
+                    cachedDayMillis = LocalDate.of(year, month, day).toEpochDay() * 86_400_000L;
+                } catch (Exception e) {
+                    return 0;
+                }
+                cachedDateKey = dateKey;
+            }
+            return cachedDayMillis + ((hour * 60L + minute) * 60L + second) * 1000L + millis;
+        }
+
+        private byte parseLevel() {
+            int start = TIMESTAMP_LENGTH + 1;
+            for (byte code = 0; code < LEVEL_BYTES.length; code++) {
+                byte[] name = LEVEL_BYTES[code];
+                if (start + name.length <= headerLength && Arrays.equals(header, start, start + name.length, name, 0, name.length)) {
+                    return code;
+                }
+            }
+            return LEVEL_UNKNOWN;
+        }
+
+        private int digits(int start, int length) {
+            int value = 0;
+            for (int i = start; i < start + length; i++) {
+                int digit = header[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    return -1;
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= offsets.length) {
+                return;
+            }
+            int capacity = Math.max(required, offsets.length * 2);
+            offsets = Arrays.copyOf(offsets, capacity);
+            timestamps = Arrays.copyOf(timestamps, capacity);
+            levels = Arrays.copyOf(levels, capacity);
+        }
+    }
+
+    private record ScanResult(int matches, int nextLine) {
+    }
+
+    // Buffered JSON object of one user's matches, null when nothing matched
+    private record UserSearchResult(String json) {
+    }
+
+    // ========================================================================
+    // HELPERS
+    // ========================================================================
+
+    private byte[] readBlock(FileChannel channel, LogIndex index, int fromLine, int toLine) throws IOException {
+        long start = index.lineOffsets[fromLine];
+        int length = (int) (index.lineOffsets[toLine] - start);
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) < 0) {
+                break;
+            }
+        }
+        return buffer.array();
+    }
+
+    private String decodeLine(byte[] block, LogIndex index, int blockStartLine, int line) {
+        long base = index.lineOffsets[blockStartLine];
+        int start = (int) (index.lineOffsets[line] - base);
+        int end = (int) (index.lineOffsets[line + 1] - base);
+        while (end > start && (block[end - 1] == '\n' || block[end - 1] == '\r')) {
+            end--;
+        }
+        return new String(block, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private void writeLine(JsonGenerator generator, LogIndex index, int line, String content) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("line", line);
+        byte level = index.levels[line];
+        if (level >= 0) {
+            generator.writeStringField("level", LEVEL_NAMES[level]);
+        }
+        generator.writeStringField("text", content);
+        generator.writeEndObject();
+    }
+
+    private boolean anyLevelAtLeast(LogIndex index, int from, int to, byte minLevel) {
+        for (int line = from; line < to; line++) {
+            if (index.levels[line] >= minLevel) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // First line whose timestamp is >= target (timestamps are non-decreasing in a log)
+    private int lowerBound(LogIndex index, long target) {
+        int low = 0;
+        int high = index.lineCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (index.timestamps[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private byte parseLevelName(String level) {
+        if (level == null || level.isBlank()) {
+            return LEVEL_UNKNOWN;
+        }
+        for (byte code = 0; code < LEVEL_NAMES.length; code++) {
+            if (LEVEL_NAMES[code].equalsIgnoreCase(level.trim())) {
+                return code;
+            }
+        }
+        return LEVEL_UNKNOWN;
+    }
+
+    private int clampLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_PAGE_LINES;
+        }
+        return Math.min(limit, MAX_PAGE_LINES);
+    }
+
+    // The caller owns the output stream (HTTP response), so closing the generator only flushes it
+    private JsonGenerator createGenerator(OutputStream output) throws IOException {
+        return objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private static long toLocalMillis(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().toEpochDay() * 86_400_000L + dateTime.toLocalTime().toNanoOfDay() / 1_000_000L;
+    }
+
+    private static LocalDateTime toDateTime(long localMillis) {
+        if (localMillis == 0) {
+            return null;
+        }
+        LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(localMillis, 86_400_000L));
+        return date.atStartOfDay().plusNanos(Math.floorMod(localMillis, 86_400_000L) * 1_000_000L);
+    }
+}
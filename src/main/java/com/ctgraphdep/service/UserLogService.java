@@ -4,6 +4,9 @@ import com.ctgraphdep.fileOperations.service.SystemAvailabilityService;
 import com.ctgraphdep.fileOperations.data.SessionDataService;
 import com.ctgraphdep.model.User;
 import com.ctgraphdep.model.VersionModelAttribute;
+import com.ctgraphdep.scheduling.JobIoClass;
+import com.ctgraphdep.scheduling.JobPriority;
+import com.ctgraphdep.scheduling.ScheduledJob;
 import com.ctgraphdep.service.cache.MainDefaultUserContextService;
 import com.ctgraphdep.utils.LoggerUtil;
 import lombok.Getter;
@@ -46,6 +49,7 @@ public class UserLogService {
      * Runs every 30 minutes
      */
     @Scheduled(fixedRate = 1800000) // 30 minutes in milliseconds
+    @ScheduledJob(name = "user-log-sync", priority = JobPriority.LOW, io = JobIoClass.NETWORK)
     public void syncLogToNetwork() {
         syncUserLog(getLocalUsername());
     }
@@ -149,19 +149,7 @@ public class WorkScheduleService {
             int hoursPerDay = user.getSchedule() != null ? user.getSchedule() : 8;
 
             // Try to get worktime data from cache first, then fallback to file
-            List<WorkTimeTable> worktimeData;
-            try {
-                worktimeData = worktimeCacheService.getMonthEntriesWithFallback(username, userId, year, month);
-            } catch (Exception e) {
-                LoggerUtil.warn(this.getClass(),
-                        String.format("Could not get worktime from cache, using file: %s", e.getMessage()));
-                worktimeData = worktimeDataService.readUserFromNetworkOnly(username, year, month);
-            }
-
-            // Handle null or empty worktime data gracefully
-            if (worktimeData == null) {
-                worktimeData = List.of();
-            }
+            List<WorkTimeTable> worktimeData = loadMonthWorktime(username, userId, year, month);
 
             // Calculate work days excluding weekends and time off days
             int workDays = calculateWorkDays(year, month, worktimeData);
@@ -210,17 +198,10 @@ public class WorkScheduleService {
             }
 
             // Get worktime data from cache (with fallback to file)
-            List<WorkTimeTable> worktimeData;
-            try {
-                worktimeData = worktimeCacheService.getMonthEntriesWithFallback(username, userId, year, month);
-            } catch (Exception e) {
-                LoggerUtil.warn(this.getClass(),
-                        String.format("Could not get worktime from cache, using file: %s", e.getMessage()));
-                worktimeData = worktimeDataService.readUserFromNetworkOnly(username, year, month);
-            }
+            List<WorkTimeTable> worktimeData = loadMonthWorktime(username, userId, year, month);
 
-            // Handle null or empty worktime data
-            if (worktimeData == null || worktimeData.isEmpty()) {
+            // Handle empty worktime data
+            if (worktimeData.isEmpty()) {
                 LoggerUtil.info(this.getClass(),
                         String.format("No worktime data found for %s (%d-%02d), returning 0 live hours. Refresh the page after adding worktime entries.",
                                 username, year, month));
@@ -233,76 +214,14 @@ public class WorkScheduleService {
                     .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
             int userSchedule = user.getSchedule() != null ? user.getSchedule() : 8;
 
-            // Calculate total worked minutes using the SAME logic as Time Management page
-            int totalRegularMinutes = 0;
-            int totalOvertimeMinutes = 0;
-            int entriesWithWork = 0;
-            int timeOffEntries = 0;
-            int inProcessEntries = 0;
-
-            LoggerUtil.debug(this.getClass(),
-                    String.format("Processing %d worktime entries for %s (%d-%02d) with schedule %d hours",
-                            worktimeData.size(), username, year, month, userSchedule));
-
-            for (WorkTimeTable entry : worktimeData) {
-                // SKIP IN-PROCESS entries (active sessions not yet stopped)
-                if (MergingStatusConstants.USER_IN_PROCESS.equals(entry.getAdminSync())) {
-                    inProcessEntries++;
-                    LoggerUtil.debug(this.getClass(), "Skipping IN_PROCESS entry");
-                    continue;
-                }
-
-                // HANDLE SPECIAL DAY TYPES WITH OVERTIME (SN/CO/CM/W with work) - Check FIRST
-                if (isSpecialDayType(entry.getTimeOffType()) && entry.getTotalOvertimeMinutes() != null && entry.getTotalOvertimeMinutes() > 0) {
-                    // Special day overtime goes directly to overtime totals (NO regular minutes)
-                    totalOvertimeMinutes += entry.getTotalOvertimeMinutes();
-                    LoggerUtil.debug(this.getClass(),
-                            String.format("Special day (%s) with %d overtime mins",
-                                    entry.getTimeOffType(), entry.getTotalOvertimeMinutes()));
-                    continue; // Skip to next entry
-                }
-
-                // SKIP time-off entries without any work (no worked minutes AND no overtime)
-                if (entry.getTimeOffType() != null &&
-                    (entry.getTotalWorkedMinutes() == null || entry.getTotalWorkedMinutes() == 0) &&
-                    (entry.getTotalOvertimeMinutes() == null || entry.getTotalOvertimeMinutes() == 0)) {
-                    timeOffEntries++;
-                    continue;
-                }
-
-                // HANDLE REGULAR WORK ENTRIES (no time off type, has worked minutes)
-                if (entry.getTimeOffType() == null && entry.getTotalWorkedMinutes() != null && entry.getTotalWorkedMinutes() > 0) {
-                    entriesWithWork++;
-
-                    // For regular days, totalWorkedMinutes is RAW time worked
-                    // Process through CalculationService to split into regular + overtime
-                    WorkTimeCalculationResultDTO result = calculationService.calculateWorkTime(
-                            entry.getTotalWorkedMinutes(), userSchedule);
-
-                    // Add BOTH regular and overtime (we want total hours actually worked)
-                    totalRegularMinutes += result.getProcessedMinutes();
-                    totalOvertimeMinutes += result.getOvertimeMinutes();
-
-                    LoggerUtil.debug(this.getClass(),
-                            String.format("Regular day: %d raw mins → %d regular + %d overtime = %d total (lunch: %s)",
-                                    entry.getTotalWorkedMinutes(),
-                                    result.getProcessedMinutes(),
-                                    result.getOvertimeMinutes(),
-                                    result.getProcessedMinutes() + result.getOvertimeMinutes(),
-                                    result.isLunchDeducted() ? "yes" : "no"));
-                }
-            }
-
-            // Total hours = regular + overtime (converted from minutes)
-            double totalMinutes = totalRegularMinutes + totalOvertimeMinutes;
-            double liveWorkHours = Math.round(totalMinutes / 60.0 * 100.0) / 100.0;
+            double liveWorkHours = calculateLiveWorkHours(worktimeData, userSchedule);
 
             // Cache the result
             metricsCacheService.cacheLiveWorkHours(username, year, month, liveWorkHours);
 
             LoggerUtil.info(this.getClass(),
-                    String.format("Calculated live work hours for %s in %d/%02d: %d total entries (%d with work, %d time-off, %d in-process skipped), %d regular mins + %d overtime mins = %.2f hours",
-                            username, year, month, worktimeData.size(), entriesWithWork, timeOffEntries, inProcessEntries, totalRegularMinutes, totalOvertimeMinutes, liveWorkHours));
+                    String.format("Calculated live work hours for %s in %d/%02d: %d total entries = %.2f hours",
+                            username, year, month, worktimeData.size(), liveWorkHours));
 
             return liveWorkHours;
 
@@ -316,6 +235,105 @@ public class WorkScheduleService {
         }
     }
 
+    /**
+     * Loads a user's worktime month, cache first with fallback to the network file.
+     * Exposed so batch callers (team bonus) can load once and derive several metrics.
+     */
+    public List<WorkTimeTable> loadMonthWorktime(String username, Integer userId, int year, int month) {
+        List<WorkTimeTable> worktimeData;
+        try {
+            worktimeData = worktimeCacheService.getMonthEntriesWithFallback(username, userId, year, month);
+        } catch (Exception e) {
+            LoggerUtil.warn(this.getClass(),
+                    String.format("Could not get worktime from cache, using file: %s", e.getMessage()));
+            worktimeData = worktimeDataService.readUserFromNetworkOnly(username, year, month);
+        }
+        return worktimeData != null ? worktimeData : List.of();
+    }
+
+    /**
+     * Standard hours from already loaded worktime data (no cache lookup, no file access).
+     */
+    public double calculateStandardWorkHours(List<WorkTimeTable> worktimeData, int hoursPerDay, int year, int month) {
+        return calculateWorkDays(year, month, worktimeData != null ? worktimeData : List.of()) * hoursPerDay;
+    }
+
+    /**
+     * Live hours from already loaded worktime data (no cache lookup, no file access).
+     * Same rules as calculateLiveWorkHours(username, ...).
+     */
+    public double calculateLiveWorkHours(List<WorkTimeTable> worktimeData, int userSchedule) {
+        if (worktimeData == null || worktimeData.isEmpty()) {
+            return 0.0;
+        }
+
+        // Calculate total worked minutes using the SAME logic as Time Management page
+        int totalRegularMinutes = 0;
+        int totalOvertimeMinutes = 0;
+        int entriesWithWork = 0;
+        int timeOffEntries = 0;
+        int inProcessEntries = 0;
+
+        for (WorkTimeTable entry : worktimeData) {
+            // SKIP IN-PROCESS entries (active sessions not yet stopped)
+            if (MergingStatusConstants.USER_IN_PROCESS.equals(entry.getAdminSync())) {
+                inProcessEntries++;
+                LoggerUtil.debug(this.getClass(), "Skipping IN_PROCESS entry");
+                continue;
+            }
+
+            // HANDLE SPECIAL DAY TYPES WITH OVERTIME (SN/CO/CM/W with work) - Check FIRST
+            if (isSpecialDayType(entry.getTimeOffType()) && entry.getTotalOvertimeMinutes() != null && entry.getTotalOvertimeMinutes() > 0) {
+                // Special day overtime goes directly to overtime totals (NO regular minutes)
+                totalOvertimeMinutes += entry.getTotalOvertimeMinutes();
+                LoggerUtil.debug(this.getClass(),
+                        String.format("Special day (%s) with %d overtime mins",
+                                entry.getTimeOffType(), entry.getTotalOvertimeMinutes()));
+                continue; // Skip to next entry
+            }
+
+            // SKIP time-off entries without any work (no worked minutes AND no overtime)
+            if (entry.getTimeOffType() != null &&
+                (entry.getTotalWorkedMinutes() == null || entry.getTotalWorkedMinutes() == 0) &&
+                (entry.getTotalOvertimeMinutes() == null || entry.getTotalOvertimeMinutes() == 0)) {
+                timeOffEntries++;
+                continue;
+            }
+
+            // HANDLE REGULAR WORK ENTRIES (no time off type, has worked minutes)
+            if (entry.getTimeOffType() == null && entry.getTotalWorkedMinutes() != null && entry.getTotalWorkedMinutes() > 0) {
+                entriesWithWork++;
+
+                // For regular days, totalWorkedMinutes is RAW time worked
+                // Process through CalculationService to split into regular + overtime
+                WorkTimeCalculationResultDTO result = calculationService.calculateWorkTime(
+                        entry.getTotalWorkedMinutes(), userSchedule);
+
+                // Add BOTH regular and overtime (we want total hours actually worked)
+                totalRegularMinutes += result.getProcessedMinutes();
+                totalOvertimeMinutes += result.getOvertimeMinutes();
+
+                LoggerUtil.debug(this.getClass(),
+                        String.format("Regular day: %d raw mins → %d regular + %d overtime = %d total (lunch: %s)",
+                                entry.getTotalWorkedMinutes(),
+                                result.getProcessedMinutes(),
+                                result.getOvertimeMinutes(),
+                                result.getProcessedMinutes() + result.getOvertimeMinutes(),
+                                result.isLunchDeducted() ? "yes" : "no"));
+            }
+        }
+
+        // Total hours = regular + overtime (converted from minutes)
+        double totalMinutes = totalRegularMinutes + totalOvertimeMinutes;
+        double liveWorkHours = Math.round(totalMinutes / 60.0 * 100.0) / 100.0;
+
+        LoggerUtil.debug(this.getClass(),
+                String.format("Live work hours: %d entries (%d with work, %d time-off, %d in-process skipped), %d regular mins + %d overtime mins = %.2f hours",
+                        worktimeData.size(), entriesWithWork, timeOffEntries, inProcessEntries, totalRegularMinutes, totalOvertimeMinutes, liveWorkHours));
+
+        return liveWorkHours;
+    }
+
     /**
      * Check if the time off type is a special day (SN, CO, CM, W)
      * that can have overtime work associated with it
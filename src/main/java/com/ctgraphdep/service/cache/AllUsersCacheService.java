@@ -45,6 +45,8 @@ public class AllUsersCacheService {
     private final UserDataService userDataService;
     private final MainDefaultUserContextService mainDefaultUserContextService;
     private volatile boolean isInitialStartup = true;
+    // Network came back degraded; rebuild from network once it is healthy
+    private volatile boolean rebuildDeferred = false;
     @Getter
     private volatile boolean isRefreshing = false;
 
@@ -92,7 +94,7 @@ public class AllUsersCacheService {
             // Sort by name for consistent ordering
             result.sort(Comparator.comparing(User::getName, String.CASE_INSENSITIVE_ORDER));
 
-            LoggerUtil.debug(this.getClass(), "Retrieved " + result.size() + " users as User objects from cache");
+            LoggerUtil.debug(this.getClass(), "Retrieved {} users as User objects from cache", result.size());
             return result;
 
         } finally {
@@ -110,12 +112,12 @@ public class AllUsersCacheService {
         if (entry != null && entry.isValid()) {
             User user = entry.toUser();
             if (user != null) {
-                LoggerUtil.debug(this.getClass(), "Retrieved user as User object from cache: " + username);
+                LoggerUtil.debug(this.getClass(), "Retrieved user as User object from cache: {}", username);
                 return Optional.of(user);
             }
         }
 
-        LoggerUtil.debug(this.getClass(), "User not found in cache: " + username);
+        LoggerUtil.debug(this.getClass(), "User not found in cache: {}", username);
         return Optional.empty();
     }
 
@@ -131,13 +133,13 @@ public class AllUsersCacheService {
                 if (entry.isValid() && userId.equals(entry.getUserId())) {
                     User user = entry.toUser();
                     if (user != null) {
-                        LoggerUtil.debug(this.getClass(), "Retrieved user by ID as User object from cache: " + userId);
+                        LoggerUtil.debug(this.getClass(), "Retrieved user by ID as User object from cache: {}", userId);
                         return Optional.of(user);
                     }
                 }
             }
 
-            LoggerUtil.debug(this.getClass(), "User not found by ID in cache: " + userId);
+            LoggerUtil.debug(this.getClass(), "User not found by ID in cache: {}", userId);
             return Optional.empty();
 
         } finally {
@@ -163,13 +165,13 @@ public class AllUsersCacheService {
             if (cacheEntry != null && cacheEntry.isValid()) {
                 // Update existing entry
                 cacheEntry.updateFromUser(user);
-                LoggerUtil.debug(this.getClass(), "Updated user in cache: " + username);
+                LoggerUtil.debug(this.getClass(), "Updated user in cache: {}", username);
             } else {
                 // Create new entry from complete user data
                 AllUsersCacheEntry newEntry = new AllUsersCacheEntry();
                 newEntry.initializeFromCompleteUser(user, WorkCode.WORK_OFFLINE);
                 statusCache.put(username, newEntry);
-                LoggerUtil.info(this.getClass(), "Added new user to cache: " + username);
+                LoggerUtil.info(this.getClass(), "Added new user to cache: {}", username);
             }
 
         } catch (Exception e) {
@@ -187,9 +189,9 @@ public class AllUsersCacheService {
             boolean wasRemoved = removed != null;
 
             if (wasRemoved) {
-                LoggerUtil.info(this.getClass(), "Removed user from cache: " + username);
+                LoggerUtil.info(this.getClass(), "Removed user from cache: {}", username);
             } else {
-                LoggerUtil.debug(this.getClass(), "User not found in cache for removal: " + username);
+                LoggerUtil.debug(this.getClass(), "User not found in cache for removal: {}", username);
             }
 
         } catch (Exception e) {
@@ -266,17 +268,15 @@ public class AllUsersCacheService {
                     newEntry.initializeFromCompleteUser(user, WorkCode.WORK_OFFLINE);
                     statusCache.put(user.getUsername(), newEntry);
 
-                    LoggerUtil.info(this.getClass(), String.format(
-                            "Added local user to AllUsersCacheService: %s", user.getUsername()));
+                    LoggerUtil.info(this.getClass(), "Added local user to AllUsersCacheService: {}", user.getUsername());
                 } catch (Exception e) {
                     LoggerUtil.warn(this.getClass(), String.format(
                             "Failed to add local user to AllUsersCacheService: %s - %s",
                             user.getUsername(), e.getMessage()));
                 }
 
-                LoggerUtil.info(this.getClass(), String.format(
-                        "Initialized user context from local file: %s (ID: %d, Role: %s) - Added to both caches",
-                        user.getUsername(), user.getUserId(), user.getRole()));
+                LoggerUtil.info(this.getClass(), "Initialized user context from local file: {} (ID: {}, Role: {}) - Added to both caches",
+                        user.getUsername(), user.getUserId(), user.getRole());
 
             } else {
                 LoggerUtil.warn(this.getClass(), "No local user file found - MainDefaultUserContextService will use system user until login");
@@ -288,25 +288,40 @@ public class AllUsersCacheService {
     }
 
     /**
-     * Listens for network status changes and updates cache when network becomes available
+     * Listens for network status changes and updates cache when network becomes available.
+     * While the share is degraded (slow) the full rebuild is deferred and the cache keeps its
+     * existing data; the rebuild runs once the share is healthy again.
      */
     @EventListener
     public void handleNetworkStatusChanged(NetworkStatusChangedEvent event) {
-        if (event.isNetworkAvailable()) {
-            LoggerUtil.info(this.getClass(), "Received network available event - updating status cache");
-
-            // Add small delay to ensure network is stable
-            CompletableFuture.runAsync(() -> {
-                try {
-                    Thread.sleep(2000); // 2-second delay for network stability
-                    updateCacheFromNetwork();
-                } catch (Exception e) {
-                    LoggerUtil.error(this.getClass(), "Error in delayed cache update: " + e.getMessage());
-                }
-            });
-        } else {
+        if (!event.isNetworkAvailable()) {
             LoggerUtil.debug(this.getClass(), "Network became unavailable - cache will use existing data");
+            return;
         }
+
+        if (event.isDegraded()) {
+            if (event.isAvailabilityChanged()) {
+                rebuildDeferred = true;
+                LoggerUtil.info(this.getClass(), "Network available but degraded - deferring status cache update");
+            }
+            return;
+        }
+
+        if (!event.isAvailabilityChanged() && !rebuildDeferred) {
+            return;
+        }
+        rebuildDeferred = false;
+        LoggerUtil.info(this.getClass(), "Received network available event - updating status cache");
+
+        // Add small delay to ensure network is stable
+        CompletableFuture.runAsync(() -> {
+            try {
+                Thread.sleep(2000); // 2-second delay for network stability
+                updateCacheFromNetwork();
+            } catch (Exception e) {
+                LoggerUtil.error(this.getClass(), "Error in delayed cache update: " + e.getMessage());
+            }
+        });
     }
 
     /**
@@ -325,7 +340,7 @@ public class AllUsersCacheService {
             writeToFile();
 
             int newUserCount = statusCache.size();
-            LoggerUtil.info(this.getClass(), String.format("Status cache updated from network: %d → %d users", currentUserCount, newUserCount));
+            LoggerUtil.info(this.getClass(), "Status cache updated from network: {} → {} users", currentUserCount, newUserCount);
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Error updating status cache from network: " + e.getMessage(), e);
@@ -341,7 +356,7 @@ public class AllUsersCacheService {
             syncFromNetworkFlags();
             writeToFile();
 
-            LoggerUtil.info(this.getClass(), "Startup: Successfully rebuilt cache with " + statusCache.size() + " users");
+            LoggerUtil.info(this.getClass(), "Startup: Successfully rebuilt cache with {} users", statusCache.size());
 
         } catch (Exception e) {
             LoggerUtil.warn(this.getClass(), "Startup: File rebuild failed, falling back to local cache: " + e.getMessage());  // CHANGED: Message
@@ -351,7 +366,7 @@ public class AllUsersCacheService {
                 LocalStatusCache savedCache = sessionDataService.readLocalStatusCache();
                 if (savedCache != null && savedCache.getUserStatuses() != null && !savedCache.getUserStatuses().isEmpty()) {
                     populateCacheFromFile(savedCache);
-                    LoggerUtil.info(this.getClass(), "Startup: Using local cache as fallback with " + statusCache.size() + " users");
+                    LoggerUtil.info(this.getClass(), "Startup: Using local cache as fallback with {} users", statusCache.size());
                 } else {
                     // Even local cache failed - create minimal cache
                     createEmptyCacheFromUserDataServiceWithCompleteData();  // CHANGED: Method name
@@ -402,7 +417,7 @@ public class AllUsersCacheService {
                 if (userOpt.isPresent()) {
                     User user = userOpt.get();
                     cacheEntry.initializeFromCompleteUser(user, status);
-                    LoggerUtil.debug(this.getClass(), "Initialized new cache entry with complete data for user: " + username);
+                    LoggerUtil.debug(this.getClass(), "Initialized new cache entry with complete data for user: {}", username);
                 } else {
                     LoggerUtil.warn(this.getClass(), "Cannot initialize cache entry for unknown user: " + username);
                     return;
@@ -410,13 +425,13 @@ public class AllUsersCacheService {
             }
 
             if (isAdminUser(cacheEntry)) {
-                LoggerUtil.debug(this.getClass(), "Skipping status update for admin user: " + username);
+                LoggerUtil.debug(this.getClass(), "Skipping status update for admin user: {}", username);
                 return;
             }
 
             // Update status
             cacheEntry.updateStatus(status, timestamp);
-            LoggerUtil.debug(this.getClass(), "Updated status in cache for user: " + username + " to " + status);
+            LoggerUtil.debug(this.getClass(), "Updated status in cache for user: {} to {}", username, status);
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Error updating status for user " + username + ": " + e.getMessage(), e);
@@ -462,7 +477,7 @@ public class AllUsersCacheService {
                     })
                     .thenComparing(UserStatusDTO::getName, String.CASE_INSENSITIVE_ORDER));
 
-            LoggerUtil.debug(this.getClass(), "Retrieved " + result.size() + " user statuses from cache");
+            LoggerUtil.debug(this.getClass(), "Retrieved {} user statuses from cache", result.size());
             return result;
 
         } finally {
@@ -494,7 +509,7 @@ public class AllUsersCacheService {
                         })
                         .thenComparing(UserStatusDTO::getName, String.CASE_INSENSITIVE_ORDER));
 
-                LoggerUtil.info(this.getClass(), "Loaded " + result.size() + " user statuses from local file");
+                LoggerUtil.info(this.getClass(), "Loaded {} user statuses from local file", result.size());
                 return result;
             }
 
@@ -539,7 +554,7 @@ public class AllUsersCacheService {
 
                 for (String username : usernamesToRemove) {
                     statusCache.remove(username);
-                    LoggerUtil.info(this.getClass(), "Removed non-existent user from status cache: " + username);
+                    LoggerUtil.info(this.getClass(), "Removed non-existent user from status cache: {}", username);
                 }
 
                 for (User user : allUsers) {
@@ -552,8 +567,8 @@ public class AllUsersCacheService {
                     }
                 }
 
-                LoggerUtil.info(this.getClass(), "Refreshed complete information for " + allUsers.size() +
-                        " users and removed " + usernamesToRemove.size() + " invalid users");
+                LoggerUtil.info(this.getClass(), "Refreshed complete information for {} users and removed {} invalid users",
+                        allUsers.size(), usernamesToRemove.size());
 
             } finally {
                 globalLock.writeLock().unlock();
@@ -583,7 +598,8 @@ public class AllUsersCacheService {
                 statusCache.put(user.getUsername(), cacheEntry);
             }
 
-            LoggerUtil.info(this.getClass(), "Created empty cache from UserDataService with complete data for " + allUsers.size() + " users");
+            LoggerUtil.info(this.getClass(), "Created empty cache from UserDataService with complete data for {} users",
+                    allUsers.size());
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Error creating empty cache from UserDataService: " + e.getMessage(), e);
@@ -672,7 +688,7 @@ public class AllUsersCacheService {
                     cacheEntry.updateStatus(flagInfo.getStatus(), flagInfo.getTimestamp());
                     updatedCount++;
                 } else {
-                    LoggerUtil.debug(this.getClass(), "No cache entry found for user with flag: " + username);
+                    LoggerUtil.debug(this.getClass(), "No cache entry found for user with flag: {}", username);
                 }
             }
 
@@ -685,7 +701,8 @@ public class AllUsersCacheService {
                 }
             }
 
-            LoggerUtil.info(this.getClass(), "Network flag sync completed - Updated: " + updatedCount + ", Set offline: " + offlineCount + " users");
+            LoggerUtil.info(this.getClass(), "Network flag sync completed - Updated: {}, Set offline: {} users",
+                    updatedCount, offlineCount);
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Error syncing from network flags: " + e.getMessage(), e);
@@ -721,7 +738,7 @@ public class AllUsersCacheService {
             // Write to file using SessionDataService
             sessionDataService.writeLocalStatusCache(cacheToSave);
 
-            LoggerUtil.info(this.getClass(), "Successfully wrote status cache to file with " + userStatuses.size() + " users");
+            LoggerUtil.info(this.getClass(), "Successfully wrote status cache to file with {} users", userStatuses.size());
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Error writing status cache to file: " + e.getMessage(), e);
@@ -808,7 +825,7 @@ public class AllUsersCacheService {
             statusCache.put(username, cacheEntry);
         }
 
-        LoggerUtil.info(this.getClass(), "Populated cache from file with " + statusCache.size() + " users");
+        LoggerUtil.info(this.getClass(), "Populated cache from file with {} users", statusCache.size());
     }
 
     /**
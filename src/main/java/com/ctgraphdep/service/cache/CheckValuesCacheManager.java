@@ -53,9 +53,9 @@ public class CheckValuesCacheManager {
         if (username != null) {
             CheckValuesEntry removed = checkValuesCache.remove(username);
             if (removed != null) {
-                LoggerUtil.info(this.getClass(), String.format("Invalidated check values cache for user %s", username));
+                LoggerUtil.info(this.getClass(), "Invalidated check values cache for user {}", username);
             } else {
-                LoggerUtil.debug(this.getClass(), String.format("No cached check values found for user %s", username));
+                LoggerUtil.debug(this.getClass(), "No cached check values found for user {}", username);
             }
         }
     }
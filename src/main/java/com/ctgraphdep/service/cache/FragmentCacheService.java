@@ -0,0 +1,152 @@
+package com.ctgraphdep.service.cache;
+
+import com.ctgraphdep.config.FileTypeConstants;
+import com.ctgraphdep.fileOperations.events.FileWriteSuccessEvent;
+import com.ctgraphdep.model.User;
+import com.ctgraphdep.utils.LoggerUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.*;
+
+/**
+ * Cache of rendered HTML for heavy table fragments (large user x day grids).
+ * Key Principles:
+ * - A fragment is keyed by view, user set, year, month and data version; any change in the users shown or in the
+ *   month data gives a new key, so a cached fragment never shows outdated data
+ * - Fragments must not contain text that changes with the clock (e.g. "edited 5m ago"), it would be frozen at render
+ *   time; such text is added in the browser instead
+ * - Writes of a month's source files evict that month's fragments, so replaced versions do not linger
+ * - Fragments only use model variables (no links, no request state), so they are rendered outside the request
+ *   with the page's template engine and inserted with th:utext
+ * - Bounded by entry count, least recently used dropped first; disabled outside the prod profile so template edits show
+ */
+@Service
+public class FragmentCacheService {
+
+    // Source files whose writes evict the month's fragments
+    private static final Set<String> SOURCE_FILE_TYPES = Set.of(FileTypeConstants.ADMIN_WORKTIME_TARGET);
+
+    private final ITemplateEngine templateEngine;
+    private final boolean enabled;
+    private final int maxEntries;
+
+    private final Map<FragmentKey, String> fragments;
+
+    public FragmentCacheService(ITemplateEngine templateEngine,
+                                @Value("${app.fragments.cache.enabled:true}") boolean enabled,
+                                @Value("${app.fragments.cache.max-entries:8}") int maxEntries) {
+        this.templateEngine = templateEngine;
+        this.enabled = enabled;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.fragments = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FragmentKey, String> eldest) {
+                return size() > FragmentCacheService.this.maxEntries;
+            }
+        };
+        LoggerUtil.initialize(this.getClass(), null);
+    }
+
+    /**
+     * Returns the rendered fragment for the key, rendering and caching it on a miss.
+     *
+     * @param key Fragment key
+     * @param template Template holding the fragment
+     * @param fragment Fragment name (th:fragment)
+     * @param variables Model variables used by the fragment
+     * @return Rendered HTML, or null when disabled or rendering failed (the page then renders the fragment itself)
+     */
+    public String getOrRender(FragmentKey key, String template, String fragment, Map<String, Object> variables) {
+        if (!enabled) {
+            return null;
+        }
+
+        synchronized (fragments) {
+            String cached = fragments.get(key);
+            if (cached != null) {
+                LoggerUtil.debug(this.getClass(), String.format("Serving cached fragment %s", key));
+                return cached;
+            }
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            String html = templateEngine.process(template, Set.of(fragment), new Context(Locale.getDefault(), variables));
+            synchronized (fragments) {
+                fragments.put(key, html);
+            }
+            LoggerUtil.debug(this.getClass(), String.format("Rendered fragment %s in %d ms (%d chars)",
+                    key, System.currentTimeMillis() - start, html.length()));
+            return html;
+
+        } catch (Exception e) {
+            LoggerUtil.warn(this.getClass(), String.format("Failed to render fragment %s, page renders it inline: %s", key, e.getMessage()));
+            return null;
+        }
+    }
+
+    /**
+     * Evicts all fragments of a month.
+     */
+    public void invalidate(int year, int month) {
+        synchronized (fragments) {
+            if (fragments.keySet().removeIf(key -> key.year() == year && key.month() == month)) {
+                LoggerUtil.debug(this.getClass(), String.format("Evicted cached fragments of %d/%d", month, year));
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (fragments) {
+            fragments.clear();
+        }
+    }
+
+    /**
+     * Evicts the month's fragments when one of its source files is written.
+     */
+    @EventListener
+    public void onFileWritten(FileWriteSuccessEvent event) {
+        String fileName = event.getFilePath().getPath().getFileName().toString();
+        if (!SOURCE_FILE_TYPES.contains(FileTypeConstants.extractFileTypeFromFilename(fileName))) {
+            return;
+        }
+
+        // Month files end with "_<year>_<MM>.json"
+        String[] parts = fileName.replace(FileTypeConstants.JSON_EXTENSION, "").split("_");
+        try {
+            invalidate(Integer.parseInt(parts[parts.length - 2]), Integer.parseInt(parts[parts.length - 1]));
+        } catch (Exception e) {
+            LoggerUtil.debug(this.getClass(), "No period in written file name " + fileName);
+        }
+    }
+
+    /**
+     * Key of a rendered fragment.
+     *
+     * @param view View the fragment belongs to
+     * @param userSetVersion Version of the users shown (see userSetVersion)
+     * @param year Year
+     * @param month Month
+     * @param dataVersion Version of the month data shown
+     */
+    public record FragmentKey(String view, String userSetVersion, int year, int month, String dataVersion) {
+
+        public static FragmentKey of(String view, List<User> users, int year, int month, Collection<?> data) {
+            return new FragmentKey(view, userSetVersion(users), year, month, data.size() + ":" + Integer.toHexString(data.hashCode()));
+        }
+
+        // The user fields tables show or compute with
+        public static String userSetVersion(List<User> users) {
+            List<String> fields = new ArrayList<>(users.size());
+            for (User user : users) {
+                fields.add(user.getUserId() + "|" + user.getName() + "|" + user.getEmployeeId() + "|" + user.getSchedule());
+            }
+            return users.size() + ":" + Integer.toHexString(fields.hashCode());
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.ctgraphdep.service.cache;
 
 import com.ctgraphdep.fileOperations.data.UserDataService;
 import com.ctgraphdep.model.User;
+import com.ctgraphdep.scheduling.JobIoClass;
+import com.ctgraphdep.scheduling.JobPriority;
+import com.ctgraphdep.scheduling.ScheduledJob;
 import com.ctgraphdep.utils.LoggerUtil;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -142,31 +145,32 @@ public class MainDefaultUserContextCache {
         try {
             // NEW: Background threads should NEVER get elevated admin
             if (isBackgroundThread()) {
-                LoggerUtil.debug(this.getClass(), String.format(
-                        "Access #%d: Background thread %s requesting original user only",
-                        accessId, Thread.currentThread().getName()));
+                LoggerUtil.debug(this.getClass(), "Access #{}: Background thread {} requesting original user only",
+                        accessId, Thread.currentThread().getName());
                 return getOriginalUserInternal();
             }
             // Check for admin elevation first
             ElevationEntry elevation = elevationEntry.get();
             if (elevation != null && elevation.isValid()) {
-                LoggerUtil.debug(this.getClass(), String.format("Access #%d: Returning elevated admin user: %s", accessId, elevation.adminUser.getUsername()));
+                LoggerUtil.debug(this.getClass(), "Access #{}: Returning elevated admin user: {}",
+                        accessId, elevation.adminUser.getUsername());
                 return elevation.adminUser;
             }
 
             // No elevation - return original user logic
             CacheEntry entry = cacheEntry.get();
 
-            LoggerUtil.debug(this.getClass(), String.format("Access #%d: getCurrentUser() on thread %s, entry: %s", accessId, Thread.currentThread().getName(), entry));
+            LoggerUtil.debug(this.getClass(), "Access #{}: getCurrentUser() on thread {}, entry: {}",
+                    accessId, Thread.currentThread().getName(), entry);
 
             // Check if we have a valid, non-expired entry
             if (entry != null && entry.isValid() && entry.isFresh()) {
-                LoggerUtil.debug(this.getClass(), String.format("Cache hit for user: %s (access #%d)", entry.user.getUsername(), accessId));
+                LoggerUtil.debug(this.getClass(), "Cache hit for user: {} (access #{})", entry.user.getUsername(), accessId);
                 return entry.user;
             }
 
             // Cache miss or expired - need to refresh
-            LoggerUtil.info(this.getClass(), String.format("Cache miss/expired (access #%d): entry=%s, triggering refresh", accessId, entry));
+            LoggerUtil.info(this.getClass(), "Cache miss/expired (access #{}): entry={}, triggering refresh", accessId, entry);
 
         } finally {
             cacheLock.readLock().unlock();
@@ -234,9 +238,8 @@ public class MainDefaultUserContextCache {
             emergencyMode = false;
             lastSuccessfulRefresh = LocalDateTime.now();
 
-            LoggerUtil.info(this.getClass(), String.format(
-                    "Cache updated with provided user: %s (source: login-direct-set, version: %d)",
-                    user.getUsername(), version));
+            LoggerUtil.info(this.getClass(), "Cache updated with provided user: {} (source: login-direct-set, version: {})",
+                    user.getUsername(), version);
 
         } finally {
             cacheLock.writeLock().unlock();
@@ -252,9 +255,8 @@ public class MainDefaultUserContextCache {
         if (isBackgroundThread()) {
             User originalUser = getOriginalUserInternal();
             String username = originalUser != null ? originalUser.getUsername() : SYSTEM_USERNAME;
-            LoggerUtil.debug(this.getClass(), String.format(
-                    "Background thread %s getting original username: %s",
-                    Thread.currentThread().getName(), username));
+            LoggerUtil.debug(this.getClass(), "Background thread {} getting original username: {}",
+                    Thread.currentThread().getName(), username);
             return username;
         }
 
@@ -284,10 +286,8 @@ public class MainDefaultUserContextCache {
             emergencyMode = false;   // Exit emergency mode
             lastSuccessfulRefresh = LocalDateTime.now();
 
-            LoggerUtil.info(this.getClass(), String.format(
-                    "Cache updated from login: %s (ID: %d, Role: %s, version: %d) on thread: %s",
-                    user.getUsername(), user.getUserId(), user.getRole(), version,
-                    Thread.currentThread().getName()));
+            LoggerUtil.info(this.getClass(), "Cache updated from login: {} (ID: {}, Role: {}, version: {}) on thread: {}",
+                    user.getUsername(), user.getUserId(), user.getRole(), version, Thread.currentThread().getName());
 
         } finally {
             cacheLock.writeLock().unlock();
@@ -323,11 +323,8 @@ public class MainDefaultUserContextCache {
             ElevationEntry newElevation = new ElevationEntry(adminUser, "admin-login", version);
             elevationEntry.set(newElevation);
 
-            LoggerUtil.info(this.getClass(), String.format(
-                    "Admin role elevated: %s (original user: %s, version: %d)",
-                    adminUser.getUsername(),
-                    originalEntry != null ? originalEntry.user.getUsername() : "none",
-                    version));
+            LoggerUtil.info(this.getClass(), "Admin role elevated: {} (original user: {}, version: {})",
+                    adminUser.getUsername(), originalEntry != null ? originalEntry.user.getUsername() : "none", version);
 
         } finally {
             cacheLock.writeLock().unlock();
@@ -399,9 +396,8 @@ public class MainDefaultUserContextCache {
             ElevationEntry oldElevation = elevationEntry.get();
             elevationEntry.set(null);
 
-            LoggerUtil.info(this.getClass(), String.format(
-                    "Admin elevation cleared: %s",
-                    oldElevation != null ? oldElevation.toString() : "none"));
+            LoggerUtil.info(this.getClass(), "Admin elevation cleared: {}",
+                    oldElevation != null ? oldElevation.toString() : "none");
 
         } finally {
             cacheLock.writeLock().unlock();
@@ -442,9 +438,8 @@ public class MainDefaultUserContextCache {
             String username = targetUser.getUsername();
             Integer userId = targetUser.getUserId();
 
-            LoggerUtil.info(this.getClass(), String.format(
-                    "Updating paid holiday days for %s (%s): %d -> %d (write-through)",
-                    username, contextType, targetUser.getPaidHolidayDays(), newPaidHolidayDays));
+            LoggerUtil.info(this.getClass(), "Updating paid holiday days for {} ({}): {} -> {} (write-through)",
+                    username, contextType, targetUser.getPaidHolidayDays(), newPaidHolidayDays);
 
             // File update logic (same as before)
             try {
@@ -456,9 +451,8 @@ public class MainDefaultUserContextCache {
                     userDataService.updateUserHolidayDaysAdmin(username, userId, newPaidHolidayDays);
                 }
 
-                LoggerUtil.info(this.getClass(), String.format(
-                        "Successfully updated user file for %s with %d paid holiday days",
-                        username, newPaidHolidayDays));
+                LoggerUtil.info(this.getClass(), "Successfully updated user file for {} with {} paid holiday days",
+                        username, newPaidHolidayDays);
 
             } catch (Exception e) {
                 LoggerUtil.error(this.getClass(), String.format(
@@ -483,9 +477,8 @@ public class MainDefaultUserContextCache {
                     cacheEntry.set(newEntry);
                 }
 
-                LoggerUtil.info(this.getClass(), String.format(
-                        "Cache updated after holiday days change: %s (%s) now has %d days (version: %d)",
-                        username, contextType, newPaidHolidayDays, version));
+                LoggerUtil.info(this.getClass(), "Cache updated after holiday days change: {} ({}) now has {} days (version: {})",
+                        username, contextType, newPaidHolidayDays, version);
 
                 return true;
 
@@ -537,9 +530,8 @@ public class MainDefaultUserContextCache {
         boolean success = updatePaidHolidayDays(newBalance);
 
         if (success) {
-            LoggerUtil.info(this.getClass(), String.format(
-                    "Successfully reduced holiday days by %d: %d -> %d",
-                    daysToReduce, currentDays, newBalance));
+            LoggerUtil.info(this.getClass(), "Successfully reduced holiday days by {}: {} -> {}",
+                    daysToReduce, currentDays, newBalance);
         }
 
         return success;
@@ -578,12 +570,14 @@ public class MainDefaultUserContextCache {
     // ========================================================================
 
     @Scheduled(fixedRate = CACHE_REFRESH_INTERVAL_MINUTES * 60 * 1000)
+    @ScheduledJob(name = "user-context-refresh", priority = JobPriority.HIGH, io = JobIoClass.LOCAL_DISK)
     public void scheduledRefresh() {
         LoggerUtil.info(this.getClass(), "Performing scheduled cache refresh");
         refreshCacheFromFile("scheduled");
     }
 
     @Scheduled(fixedRate = CACHE_HEALTH_CHECK_INTERVAL_MINUTES * 60 * 1000)
+    @ScheduledJob(name = "user-context-cache-check", priority = JobPriority.HIGH)
     public void healthCheck() {
         cacheLock.readLock().lock();
         try {
@@ -658,7 +652,7 @@ public class MainDefaultUserContextCache {
 
     private User attemptCacheRefresh(String trigger) {
         try {
-            LoggerUtil.info(this.getClass(), String.format("Attempting cache refresh (trigger: %s)", trigger));
+            LoggerUtil.info(this.getClass(), "Attempting cache refresh (trigger: {})", trigger);
 
             Optional<User> userOpt = userDataService.scanForAnyLocalUser();
 
@@ -674,9 +668,8 @@ public class MainDefaultUserContextCache {
                     emergencyMode = false;
                     lastSuccessfulRefresh = LocalDateTime.now();
 
-                    LoggerUtil.info(this.getClass(), String.format(
-                            "Cache refreshed successfully: %s (trigger: %s, version: %d)",
-                            user.getUsername(), trigger, version));
+                    LoggerUtil.info(this.getClass(), "Cache refreshed successfully: {} (trigger: {}, version: {})",
+                            user.getUsername(), trigger, version);
 
                     return user;
 
@@ -777,9 +770,8 @@ public class MainDefaultUserContextCache {
                 LoggerUtil.info(this.getClass(), "Admin elevation cleared during midnight reset");
             }
 
-            LoggerUtil.info(this.getClass(), String.format(
-                    "Midnight reset completed - Access counter: %d -> 0, Emergency mode: false, Failures: 0, Elevation cleared: %s",
-                    oldAccessCount, oldElevation != null));
+            LoggerUtil.info(this.getClass(), "Midnight reset completed - Access counter: {} -> 0, Emergency mode: false, Failures: 0, Elevation cleared: {}",
+                    oldAccessCount, oldElevation != null);
 
         } finally {
             cacheLock.writeLock().unlock();
@@ -796,9 +788,8 @@ public class MainDefaultUserContextCache {
         try {
             CacheEntry entry = cacheEntry.get();
             ElevationEntry elevation = elevationEntry.get();
-            LoggerUtil.info(this.getClass(), String.format(
-                    "Final cache state: %s, elevation: %s, access count: %d",
-                    entry, elevation, accessCounter.get()));
+            LoggerUtil.info(this.getClass(), "Final cache state: {}, elevation: {}, access count: {}",
+                    entry, elevation, accessCounter.get());
         } finally {
             cacheLock.writeLock().unlock();
         }
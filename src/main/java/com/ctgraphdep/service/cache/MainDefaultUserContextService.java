@@ -158,9 +158,8 @@ public class MainDefaultUserContextService {
         try {
             if (user != null) {
                 mainDefaultUserContextCache.updateFromLogin(user);
-                LoggerUtil.info(this.getClass(), String.format(
-                        "Initialized user context: %s (ID: %d, Role: %s)",
-                        user.getUsername(), user.getUserId(), user.getRole()));
+                LoggerUtil.info(this.getClass(), "Initialized user context: {} (ID: {}, Role: {})",
+                        user.getUsername(), user.getUserId(), user.getRole());
             } else {
                 LoggerUtil.warn(this.getClass(), "Cannot initialize context with null user");
             }
@@ -238,8 +237,7 @@ public class MainDefaultUserContextService {
 
         try {
             mainDefaultUserContextCache.elevateToAdminRole(adminUser);
-            LoggerUtil.info(this.getClass(), String.format(
-                    "Successfully elevated to admin role: %s", adminUser.getUsername()));
+            LoggerUtil.info(this.getClass(), "Successfully elevated to admin role: {}", adminUser.getUsername());
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), String.format(
                     "Error elevating to admin role for %s: %s", adminUser.getUsername(), e.getMessage()), e);
@@ -304,9 +302,8 @@ public class MainDefaultUserContextService {
             // Elevate to admin role
             mainDefaultUserContextCache.elevateToAdminRole(adminUser);
 
-            LoggerUtil.info(this.getClass(), String.format(
-                    "Admin elevation successful: %s (original user context preserved)",
-                    adminUser.getUsername()));
+            LoggerUtil.info(this.getClass(), "Admin elevation successful: {} (original user context preserved)",
+                    adminUser.getUsername());
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), String.format(
@@ -329,9 +326,8 @@ public class MainDefaultUserContextService {
             // Update cache with regular user
             mainDefaultUserContextCache.updateFromLogin(user);
 
-            LoggerUtil.info(this.getClass(), String.format(
-                    "Regular user login successful: %s (ID: %d, Role: %s)",
-                    user.getUsername(), user.getUserId(), user.getRole()));
+            LoggerUtil.info(this.getClass(), "Regular user login successful: {} (ID: {}, Role: {})",
+                    user.getUsername(), user.getUserId(), user.getRole());
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), String.format(
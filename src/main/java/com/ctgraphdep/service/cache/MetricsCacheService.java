@@ -139,7 +139,7 @@ public class MetricsCacheService {
         standardHoursCache.keySet().removeIf(key -> key.startsWith(username + "-"));
         liveWorkHoursCache.keySet().removeIf(key -> key.startsWith(username + "-"));
         LoggerUtil.info(this.getClass(),
-            String.format("Invalidated all metrics cache for user: %s", username));
+            "Invalidated all metrics cache for user: {}", username);
     }
 
     /**
@@ -151,8 +151,7 @@ public class MetricsCacheService {
         standardHoursCache.clear();
         liveWorkHoursCache.clear();
         LoggerUtil.info(this.getClass(),
-            String.format("Cleared all metrics cache (%d standard hours, %d live hours)",
-                standardCount, liveCount));
+            "Cleared all metrics cache ({} standard hours, {} live hours)", standardCount, liveCount);
     }
 
     /**
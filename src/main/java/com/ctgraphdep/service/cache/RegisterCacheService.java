@@ -2,6 +2,9 @@ package com.ctgraphdep.service.cache;
 
 import com.ctgraphdep.fileOperations.data.RegisterDataService;
 import com.ctgraphdep.model.RegisterEntry;
+import com.ctgraphdep.scheduling.JobIoClass;
+import com.ctgraphdep.scheduling.JobPriority;
+import com.ctgraphdep.scheduling.ScheduledJob;
 import com.ctgraphdep.utils.LoggerUtil;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -70,12 +73,12 @@ public class RegisterCacheService {
             RegisterCacheEntry cacheEntry = registerCache.get(monthKey);
 
             if (cacheEntry != null && cacheEntry.isValid()) {
-                LoggerUtil.debug(this.getClass(), String.format("Cache hit for %s - %d/%d", username, month, year));
+                LoggerUtil.debug(this.getClass(), "Cache hit for {} - {}/{}", username, month, year);
                 return cacheEntry.getAllEntries();
             }
 
             // Cache miss - load from file
-            LoggerUtil.info(this.getClass(), String.format("Loading register entries from file for %s - %d/%d", username, month, year));
+            LoggerUtil.info(this.getClass(), "Loading register entries from file for {} - {}/{}", username, month, year);
             return loadMonthFromFile(username, userId, year, month);
 
         } catch (Exception e) {
@@ -127,7 +130,8 @@ public class RegisterCacheService {
                 return false;
             }
 
-            LoggerUtil.info(this.getClass(), String.format("Successfully added entry %d for %s - %d/%d", entry.getEntryId(), username, month, year));
+            LoggerUtil.info(this.getClass(), "Successfully added entry {} for {} - {}/{}",
+                    entry.getEntryId(), username, month, year);
             return true;
 
         } catch (Exception e) {
@@ -170,8 +174,8 @@ public class RegisterCacheService {
                 return false;
             }
 
-            LoggerUtil.debug(this.getClass(), String.format("Updated entry %d in cache for %s - %d/%d (dirty, will flush in next cycle)",
-                entry.getEntryId(), username, month, year));
+            LoggerUtil.debug(this.getClass(), "Updated entry {} in cache for {} - {}/{} (dirty, will flush in next cycle)",
+                    entry.getEntryId(), username, month, year);
             return true;
 
         } catch (Exception e) {
@@ -214,8 +218,8 @@ public class RegisterCacheService {
                 return false;
             }
 
-            LoggerUtil.debug(this.getClass(), String.format("Deleted entry %d from cache for %s - %d/%d (dirty, will flush in next cycle)",
-                entryId, username, month, year));
+            LoggerUtil.debug(this.getClass(), "Deleted entry {} from cache for {} - {}/{} (dirty, will flush in next cycle)",
+                    entryId, username, month, year);
             return true;
 
         } catch (Exception e) {
@@ -266,7 +270,7 @@ public class RegisterCacheService {
             RegisterCacheEntry removed = registerCache.remove(monthKey);
             if (removed != null) {
                 removed.clear();
-                LoggerUtil.info(this.getClass(), String.format("Cleared cache for %s - %d/%d", username, month, year));
+                LoggerUtil.info(this.getClass(), "Cleared cache for {} - {}/{}", username, month, year);
             }
         } finally {
             globalLock.writeLock().unlock();
@@ -333,8 +337,8 @@ public class RegisterCacheService {
             }
             List<RegisterEntry> entries = cacheEntry.getAllEntries();
 
-            LoggerUtil.debug(this.getClass(), String.format("Writing %d entries from cache to file for %s - %d/%d",
-                    entries.size(), cacheEntry.getUsername(), cacheEntry.getMonth(), cacheEntry.getYear()));
+            LoggerUtil.debug(this.getClass(), "Writing {} entries from cache to file for {} - {}/{}",
+                    entries.size(), cacheEntry.getUsername(), cacheEntry.getMonth(), cacheEntry.getYear());
 
             // Use SystemAvailabilityService to write - this handles all the file operations, backup, and sync
             registerDataService.writeUserLocalWithSyncAndBackup(cacheEntry.getUsername(), cacheEntry.getUserId(), entries, cacheEntry.getYear(), cacheEntry.getMonth());
@@ -342,8 +346,8 @@ public class RegisterCacheService {
             // Mark cache as clean after successful write
             cacheEntry.markClean();
 
-            LoggerUtil.debug(this.getClass(), String.format("Successfully wrote %d entries to file from cache for %s - %d/%d",
-                    entries.size(), cacheEntry.getUsername(), cacheEntry.getMonth(), cacheEntry.getYear()));
+            LoggerUtil.debug(this.getClass(), "Successfully wrote {} entries to file from cache for {} - {}/{}",
+                    entries.size(), cacheEntry.getUsername(), cacheEntry.getMonth(), cacheEntry.getYear());
 
             return true;
 
@@ -382,11 +386,13 @@ public class RegisterCacheService {
      * This is the main mechanism for write-back caching.
      */
     @Scheduled(fixedRate = 30000) // 30 seconds
+    @ScheduledJob(name = "register-cache-flush", priority = JobPriority.HIGH, io = JobIoClass.LOCAL_DISK)
     public void periodicFlush() {
         try {
             int flushedCount = flushAllDirtyEntries();
             if (flushedCount > 0) {
-                LoggerUtil.info(this.getClass(), String.format("Periodic flush completed: %d dirty cache entries written to disk", flushedCount));
+                LoggerUtil.info(this.getClass(), "Periodic flush completed: {} dirty cache entries written to disk",
+                        flushedCount);
             }
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), String.format("Error during periodic flush: %s", e.getMessage()), e);
@@ -439,7 +445,7 @@ public class RegisterCacheService {
                 }
             }
             if (flushedCount > 0) {
-                LoggerUtil.info(this.getClass(), String.format("Flushed %d cache entries for user %s on logout", flushedCount, username));
+                LoggerUtil.info(this.getClass(), "Flushed {} cache entries for user {} on logout", flushedCount, username);
             }
         } finally {
             globalLock.readLock().unlock();
@@ -56,7 +56,7 @@ public class RegisterCheckCacheService {
     public void setCurrentUser(String username, Integer userId) {
         this.currentUsername = username;
         this.currentUserId = userId;
-        LoggerUtil.info(this.getClass(), String.format("Set current user: %s (ID: %d)", username, userId));
+        LoggerUtil.info(this.getClass(), "Set current user: {} (ID: {})", username, userId);
     }
 
     /**
@@ -75,12 +75,12 @@ public class RegisterCheckCacheService {
             RegisterCheckCacheEntry cacheEntry = checkRegisterCache.get(monthKey);
 
             if (cacheEntry != null && cacheEntry.isValid()) {
-                LoggerUtil.debug(this.getClass(), String.format("Cache hit for %s - %d/%d", username, month, year));
+                LoggerUtil.debug(this.getClass(), "Cache hit for {} - {}/{}", username, month, year);
                 return cacheEntry.getAllEntries();
             }
 
             // Cache miss - load from file
-            LoggerUtil.info(this.getClass(), String.format("Loading check register entries from file for %s - %d/%d", username, month, year));
+            LoggerUtil.info(this.getClass(), "Loading check register entries from file for {} - {}/{}", username, month, year);
             return loadMonthFromFile(username, userId, year, month);
 
         } catch (Exception e) {
@@ -132,7 +132,8 @@ public class RegisterCheckCacheService {
                 return false;
             }
 
-            LoggerUtil.info(this.getClass(), String.format("Successfully added entry %d for %s - %d/%d", entry.getEntryId(), username, month, year));
+            LoggerUtil.info(this.getClass(), "Successfully added entry {} for {} - {}/{}",
+                    entry.getEntryId(), username, month, year);
             return true;
 
         } catch (Exception e) {
@@ -182,7 +183,8 @@ public class RegisterCheckCacheService {
                 return false;
             }
 
-            LoggerUtil.info(this.getClass(), String.format("Successfully updated entry %d for %s - %d/%d", entry.getEntryId(), username, month, year));
+            LoggerUtil.info(this.getClass(), "Successfully updated entry {} for {} - {}/{}",
+                    entry.getEntryId(), username, month, year);
             return true;
 
         } catch (Exception e) {
@@ -232,7 +234,7 @@ public class RegisterCheckCacheService {
                 return false;
             }
 
-            LoggerUtil.info(this.getClass(), String.format("Successfully deleted entry %d for %s - %d/%d", entryId, username, month, year));
+            LoggerUtil.info(this.getClass(), "Successfully deleted entry {} for {} - {}/{}", entryId, username, month, year);
             return true;
 
         } catch (Exception e) {
@@ -283,7 +285,7 @@ public class RegisterCheckCacheService {
             RegisterCheckCacheEntry removed = checkRegisterCache.remove(monthKey);
             if (removed != null) {
                 removed.clear();
-                LoggerUtil.info(this.getClass(), String.format("Cleared cache for %s - %d/%d", username, month, year));
+                LoggerUtil.info(this.getClass(), "Cleared cache for {} - {}/{}", username, month, year);
             }
         } finally {
             globalLock.writeLock().unlock();
@@ -372,8 +374,8 @@ public class RegisterCheckCacheService {
 
             List<RegisterCheckEntry> entries = cacheEntry.getAllEntries();
 
-            LoggerUtil.debug(this.getClass(), String.format("Writing %d entries from cache to file for %s - %d/%d",
-                    entries.size(), cacheEntry.getUsername(), cacheEntry.getMonth(), cacheEntry.getYear()));
+            LoggerUtil.debug(this.getClass(), "Writing {} entries from cache to file for {} - {}/{}",
+                    entries.size(), cacheEntry.getUsername(), cacheEntry.getMonth(), cacheEntry.getYear());
 
             // Use CheckRegisterDataService to write - this handles all the file operations, backup, and sync
             checkRegisterDataService.writeUserCheckRegisterWithSyncAndBackup(cacheEntry.getUsername(), cacheEntry.getUserId(), entries, cacheEntry.getYear(), cacheEntry.getMonth());
@@ -381,8 +383,8 @@ public class RegisterCheckCacheService {
             // Mark cache as clean after successful write
             cacheEntry.markClean();
 
-            LoggerUtil.debug(this.getClass(), String.format("Successfully wrote %d entries to file from cache for %s - %d/%d",
-                    entries.size(), cacheEntry.getUsername(), cacheEntry.getMonth(), cacheEntry.getYear()));
+            LoggerUtil.debug(this.getClass(), "Successfully wrote {} entries to file from cache for {} - {}/{}",
+                    entries.size(), cacheEntry.getUsername(), cacheEntry.getMonth(), cacheEntry.getYear());
 
             return true;
 
@@ -53,7 +53,7 @@ public class SessionCacheService {
     // Primary method for reading session data with comprehensive fallback. Read Strategy: Cache → File/Local → Network → Default (create new)
     public WorkUsersSessionsStates readSessionWithFallback(String username, Integer userId) {
         try {
-            LoggerUtil.debug(this.getClass(), String.format("Reading session with fallback for user: %s", username));
+            LoggerUtil.debug(this.getClass(), "Reading session with fallback for user: {}", username);
 
             // Validate this is for current user
             if (isNotCurrentUser(username)) {
@@ -64,17 +64,17 @@ public class SessionCacheService {
             // Step 1: Try cache first (fastest)
             WorkUsersSessionsStates cachedSession = readFromCacheOnly(username);
             if (cachedSession != null) {
-                LoggerUtil.debug(this.getClass(), String.format("Cache hit for user: %s", username));
+                LoggerUtil.debug(this.getClass(), "Cache hit for user: {}", username);
                 return cachedSession;
             }
 
             // Step 2: Cache miss - try file/local
-            LoggerUtil.info(this.getClass(), String.format("Cache miss for user: %s, trying file", username));
+            LoggerUtil.info(this.getClass(), "Cache miss for user: {}, trying file", username);
             WorkUsersSessionsStates fileSession = readFromFileWithFallback(username, userId);
             if (fileSession != null) {
                 // Refresh cache with file data
                 refreshCacheFromSession(fileSession);
-                LoggerUtil.info(this.getClass(), String.format("File read successful, cache refreshed for user: %s", username));
+                LoggerUtil.info(this.getClass(), "File read successful, cache refreshed for user: {}", username);
                 return fileSession;
             }
 
@@ -86,7 +86,7 @@ public class SessionCacheService {
                 boolean fileSaved = writeSessionToFile(networkSession);
                 if (fileSaved) {
                     refreshCacheFromSession(networkSession);
-                    LoggerUtil.info(this.getClass(), String.format("Network read successful, saved to file and cache for user: %s", username));
+                    LoggerUtil.info(this.getClass(), "Network read successful, saved to file and cache for user: {}", username);
                     return networkSession;
                 }
                 // Even if file save failed, at least refresh cache with network data
@@ -103,7 +103,7 @@ public class SessionCacheService {
             boolean defaultSaved = writeSessionToFile(defaultSession);
             refreshCacheFromSession(defaultSession);
             if (defaultSaved) {
-                LoggerUtil.info(this.getClass(), String.format("Default session created and saved for user: %s", username));
+                LoggerUtil.info(this.getClass(), "Default session created and saved for user: {}", username);
             } else {
                 // Even if file save failed, cache the default session
                 LoggerUtil.warn(this.getClass(), String.format("Default session created but file save failed for user: %s", username));
@@ -155,7 +155,7 @@ public class SessionCacheService {
         String username = session.getUsername();
 
         try {
-            LoggerUtil.info(this.getClass(), String.format("Writing session with write-through for user: %s", username));
+            LoggerUtil.info(this.getClass(), "Writing session with write-through for user: {}", username);
 
             // Validate this is for current user
             if (isNotCurrentUser(username)) {
@@ -171,7 +171,7 @@ public class SessionCacheService {
             try {
                 refreshCacheFromSession(session);
                 cacheSuccess = true;
-                LoggerUtil.debug(this.getClass(), String.format("Cache write successful for user: %s", username));
+                LoggerUtil.debug(this.getClass(), "Cache write successful for user: {}", username);
             } catch (Exception cacheError) {
                 LoggerUtil.error(this.getClass(), String.format("Cache write failed for user %s: %s",
                         username, cacheError.getMessage()), cacheError);
@@ -181,7 +181,7 @@ public class SessionCacheService {
             try {
                 fileSuccess = writeSessionToFile(session);
                 if (fileSuccess) {
-                    LoggerUtil.debug(this.getClass(), String.format("File write successful for user: %s", username));
+                    LoggerUtil.debug(this.getClass(), "File write successful for user: {}", username);
                 } else {
                     LoggerUtil.warn(this.getClass(), String.format("File write failed for user: %s", username));
                 }
@@ -196,7 +196,7 @@ public class SessionCacheService {
                     WorkUsersSessionsStates fileSession = readFromFileWithFallback(username, session.getUserId());
                     if (fileSession != null) {
                         refreshCacheFromSession(fileSession);
-                        LoggerUtil.info(this.getClass(), String.format("Cache refreshed from file after write for user: %s", username));
+                        LoggerUtil.info(this.getClass(), "Cache refreshed from file after write for user: {}", username);
                         cacheSuccess = true;
                     }
                 } catch (Exception refreshError) {
@@ -210,7 +210,7 @@ public class SessionCacheService {
 
             if (overallSuccess) {
                 if (cacheSuccess && fileSuccess) {
-                    LoggerUtil.info(this.getClass(), String.format("Session write-through fully successful for user: %s", username));
+                    LoggerUtil.info(this.getClass(), "Session write-through fully successful for user: {}", username);
                 } else if (cacheSuccess) {
                     LoggerUtil.warn(this.getClass(), String.format("Session write-through partial success (cache only) for user: %s", username));
                 } else {
@@ -244,7 +244,7 @@ public class SessionCacheService {
             if (cacheOnly) {
                 // Cache-only mode: just update calculated values
                 refreshCacheFromSession(session);
-                LoggerUtil.debug(this.getClass(), String.format("Session calculations updated in cache-only mode for user: %s", username));
+                LoggerUtil.debug(this.getClass(), "Session calculations updated in cache-only mode for user: {}", username);
                 return true;
             } else {
                 // Normal mode: full write-through
@@ -264,7 +264,7 @@ public class SessionCacheService {
     // Force refresh cache from file
     public boolean forceRefreshFromFile(String username, Integer userId) {
         try {
-            LoggerUtil.info(this.getClass(), String.format("Force refreshing cache from file for user: %s", username));
+            LoggerUtil.info(this.getClass(), "Force refreshing cache from file for user: {}", username);
 
             // Clear current cache
             invalidateUserSession(username);
@@ -273,7 +273,7 @@ public class SessionCacheService {
             WorkUsersSessionsStates fileSession = readFromFileWithFallback(username, userId);
             if (fileSession != null) {
                 refreshCacheFromSession(fileSession);
-                LoggerUtil.info(this.getClass(), String.format("Cache force refresh successful for user: %s", username));
+                LoggerUtil.info(this.getClass(), "Cache force refresh successful for user: {}", username);
                 return true;
             } else {
                 LoggerUtil.warn(this.getClass(), String.format("Cache force refresh failed - no file data for user: %s", username));
@@ -294,7 +294,7 @@ public class SessionCacheService {
             if (currentSessionEntry != null && username.equals(currentSessionEntry.getUsername())) {
                 currentSessionEntry.clear();
                 currentSessionEntry = null;
-                LoggerUtil.info(this.getClass(), String.format("Invalidated session cache for user: %s", username));
+                LoggerUtil.info(this.getClass(), "Invalidated session cache for user: {}", username);
             }
         } finally {
             cacheLock.writeLock().unlock();
@@ -353,7 +353,7 @@ public class SessionCacheService {
             // Try local file first
             WorkUsersSessionsStates session = sessionDataService.readLocalSessionFile(username, userId);
             if (session != null) {
-                LoggerUtil.debug(this.getClass(), String.format("Local file read successful for user: %s", username));
+                LoggerUtil.debug(this.getClass(), "Local file read successful for user: {}", username);
                 return session;
             }
         } catch (Exception e) {
@@ -365,7 +365,7 @@ public class SessionCacheService {
             // Fallback to local read-only
             WorkUsersSessionsStates session = sessionDataService.readLocalSessionFileReadOnly(username, userId);
             if (session != null) {
-                LoggerUtil.debug(this.getClass(), String.format("Local read-only successful for user: %s", username));
+                LoggerUtil.debug(this.getClass(), "Local read-only successful for user: {}", username);
                 return session;
             }
         } catch (Exception e) {
@@ -373,7 +373,7 @@ public class SessionCacheService {
                     username, e.getMessage()));
         }
 
-        LoggerUtil.debug(this.getClass(), String.format("All file read attempts failed for user: %s", username));
+        LoggerUtil.debug(this.getClass(), "All file read attempts failed for user: {}", username);
         return null;
     }
 
@@ -383,7 +383,7 @@ public class SessionCacheService {
             // SessionDataService handles network availability checking internally
             WorkUsersSessionsStates session = sessionDataService.readNetworkSessionFileReadOnly(username, userId);
             if (session != null) {
-                LoggerUtil.debug(this.getClass(), String.format("Network read successful for user: %s", username));
+                LoggerUtil.debug(this.getClass(), "Network read successful for user: {}", username);
                 return session;
             }
         } catch (Exception e) {
@@ -391,7 +391,7 @@ public class SessionCacheService {
                     username, e.getMessage()));
         }
 
-        LoggerUtil.debug(this.getClass(), String.format("Network read returned null for user: %s", username));
+        LoggerUtil.debug(this.getClass(), "Network read returned null for user: {}", username);
         return null;
     }
 
@@ -440,7 +440,7 @@ public class SessionCacheService {
         defaultSession.setLastTemporaryStopTime(null);
         defaultSession.setLastActivity(LocalDateTime.now());
 
-        LoggerUtil.info(this.getClass(), String.format("Created default session for user: %s", username));
+        LoggerUtil.info(this.getClass(), "Created default session for user: {}", username);
         return defaultSession;
     }
 
@@ -462,8 +462,7 @@ public class SessionCacheService {
         if (isBackgroundThread(threadName)) {
             User originalUser = mainDefaultUserContextService.getOriginalUser();
             String username = originalUser != null ? originalUser.getUsername() : "system";
-            LoggerUtil.debug(this.getClass(), String.format(
-                    "Background thread %s using original username: %s", threadName, username));
+            LoggerUtil.debug(this.getClass(), "Background thread {} using original username: {}", threadName, username);
             return username;
         }
 
@@ -24,6 +24,7 @@ public class TimeOffCacheEntry {
     private Integer userId;
     private int year;
     private TimeOffTracker tracker;
+    private TimeOffLedger ledger;
 
     // === CACHE METADATA ===
     private long lastUpdated;
@@ -56,6 +57,7 @@ public class TimeOffCacheEntry {
             this.userId = userId;
             this.year = year;
             this.tracker = tracker;
+            this.ledger = tracker != null ? TimeOffLedger.of(tracker) : null;
 
             // Update metadata
             this.lastServiceLoad = System.currentTimeMillis();
@@ -95,6 +97,9 @@ public class TimeOffCacheEntry {
                 return;
             }
 
+            if (this.tracker != tracker) {
+                this.ledger = TimeOffLedger.of(tracker);
+            }
             this.tracker = tracker;
 
             // Mark as dirty and update timestamp
@@ -124,6 +129,24 @@ public class TimeOffCacheEntry {
         }
     }
 
+    /**
+     * Get date index of the time off tracker (thread-safe)
+     * @return Ledger backed by the cached tracker
+     */
+    public TimeOffLedger getLedger() {
+        lock.readLock().lock();
+        try {
+            if (!initialized) {
+                return null;
+            }
+
+            return ledger;
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
     /**
      * Check if cache entry is initialized and valid
      * @return true if cache has valid data
@@ -147,6 +170,7 @@ public class TimeOffCacheEntry {
             this.userId = null;
             this.year = 0;
             this.tracker = null;
+            this.ledger = null;
 
             this.lastUpdated = 0;
             this.lastServiceLoad = 0;
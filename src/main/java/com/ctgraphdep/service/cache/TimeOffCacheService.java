@@ -1,5 +1,6 @@
 package com.ctgraphdep.service.cache;
 
+import com.ctgraphdep.config.WorkCode;
 import com.ctgraphdep.fileOperations.data.TimeOffDataService;
 import com.ctgraphdep.merge.constants.MergingStatusConstants;
 import com.ctgraphdep.model.TimeOffRequest;
@@ -29,6 +30,7 @@ import java.util.stream.Collectors;
  * - Per-user session cache (yearly timeoff data)
  * - 1h timeout + manual refresh
  * - Write-through persistence
+ * - Date-indexed ledger per session (TimeOffLedger) for summaries, lookups and upcoming time off
  * - Thread-safe operations
  * - No external service dependencies (independent)
  */
@@ -65,12 +67,12 @@ public class TimeOffCacheService {
         try {
             String userKey = createUserKey(username, year);
 
-            LoggerUtil.info(this.getClass(), String.format("Loading timeoff session for %s - %d", username, year));
+            LoggerUtil.info(this.getClass(), "Loading timeoff session for {} - {}", username, year);
 
             // Check if already loaded and valid
             TimeOffCacheEntry existingEntry = userSessions.get(userKey);
             if (existingEntry != null && existingEntry.isValid() && !existingEntry.isExpired()) {
-                LoggerUtil.debug(this.getClass(), String.format("Session already loaded and valid for %s - %d", username, year));
+                LoggerUtil.debug(this.getClass(), "Session already loaded and valid for {} - {}", username, year);
                 return true;
             }
 
@@ -80,8 +82,7 @@ public class TimeOffCacheService {
             if (tracker == null) {
                 // Create new empty tracker if none exists
                 tracker = createEmptyTracker(username, userId, year);
-                LoggerUtil.debug(this.getClass(), String.format(
-                        "Created new empty tracker for %s - %d", username, year));
+                LoggerUtil.debug(this.getClass(), "Created new empty tracker for {} - {}", username, year);
             }
 
             // Create and store cache entry
@@ -90,9 +91,8 @@ public class TimeOffCacheService {
 
             userSessions.put(userKey, cacheEntry);
 
-            LoggerUtil.info(this.getClass(), String.format(
-                    "Successfully loaded timeoff session for %s - %d with %d requests",
-                    username, year, tracker.getRequests() != null ? tracker.getRequests().size() : 0));
+            LoggerUtil.info(this.getClass(), "Successfully loaded timeoff session for {} - {} with {} requests",
+                    username, year, tracker.getRequests() != null ? tracker.getRequests().size() : 0);
 
             return true;
 
@@ -114,7 +114,7 @@ public class TimeOffCacheService {
 
             if (removed != null) {
                 removed.clear();
-                LoggerUtil.info(this.getClass(), String.format("Invalidated timeoff session for %s - %d", username, year));
+                LoggerUtil.info(this.getClass(), "Invalidated timeoff session for {} - {}", username, year);
             }
         } finally {
             globalLock.writeLock().unlock();
@@ -138,7 +138,7 @@ public class TimeOffCacheService {
             }
 
             if (!expiredKeys.isEmpty()) {
-                LoggerUtil.info(this.getClass(), String.format("Cleaned up %d expired timeoff sessions", expiredKeys.size()));
+                LoggerUtil.info(this.getClass(), "Cleaned up {} expired timeoff sessions", expiredKeys.size());
             }
 
         } finally {
@@ -169,12 +169,13 @@ public class TimeOffCacheService {
                 cacheEntry = userSessions.get(userKey);
             }
 
-            LoggerUtil.info(this.getClass(), String.format(
-                    "Adding %d time off requests to cache for %s (%s) [balance-neutral]", dates.size(), username, timeOffType));
+            LoggerUtil.info(this.getClass(), "Adding {} time off requests to cache for {} ({}) [balance-neutral]",
+                    dates.size(), username, timeOffType);
 
-            // Get tracker from cache
+            // Get tracker and its date index from cache
             TimeOffTracker tracker = cacheEntry.getTracker();
-            if (tracker == null) {
+            TimeOffLedger ledger = cacheEntry.getLedger();
+            if (tracker == null || ledger == null) {
                 LoggerUtil.error(this.getClass(), "Tracker is null in cache entry");
                 return;
             }
@@ -183,8 +184,7 @@ public class TimeOffCacheService {
             int addedCount = 0;
             for (LocalDate date : dates) {
                 // Check if request already exists for this date
-                boolean exists = tracker.getRequests() != null && tracker.getRequests().stream()
-                        .anyMatch(req -> date.equals(req.getDate()) && timeOffType.equals(req.getTimeOffType()));
+                boolean exists = ledger.contains(date, timeOffType);
 
                 if (!exists) {
                     TimeOffRequest request = new TimeOffRequest();
@@ -193,22 +193,17 @@ public class TimeOffCacheService {
                     request.setTimeOffType(timeOffType);
                     request.setCreatedAt(LocalDateTime.now());
                     request.setLastUpdated(LocalDateTime.now());
-                    request.setStatus("APPROVED"); // Immediate approval for user requests
+                    request.setStatus(WorkCode.APPROVED); // Immediate approval for user requests
                     request.setEligibleDays(0);
                     request.setNotes("Added via time management interface");
 
-                    // Add to tracker
-                    if (tracker.getRequests() == null) {
-                        tracker.setRequests(new ArrayList<>());
-                    }
-                    tracker.getRequests().add(request);
+                    // Add to tracker (replaces a request of another type on the same date)
+                    ledger.put(request);
                     addedCount++;
 
-                    LoggerUtil.debug(this.getClass(), String.format(
-                            "Added %s request for %s on %s to tracker", timeOffType, username, date));
+                    LoggerUtil.debug(this.getClass(), "Added {} request for {} on {} to tracker", timeOffType, username, date);
                 } else {
-                    LoggerUtil.debug(this.getClass(), String.format(
-                            "Skipped duplicate %s request for %s on %s", timeOffType, username, date));
+                    LoggerUtil.debug(this.getClass(), "Skipped duplicate {} request for {} on {}", timeOffType, username, date);
                 }
             }
 
@@ -222,8 +217,8 @@ public class TimeOffCacheService {
                 // Write-through: Save to file immediately
                 timeOffDataService.writeUserLocalTrackerWithSyncAndBackup(username, userId, tracker, year);
 
-                LoggerUtil.info(this.getClass(), String.format(
-                        "Successfully added and persisted %d new time off requests for %s (balance-neutral)", addedCount, username));
+                LoggerUtil.info(this.getClass(), "Successfully added and persisted {} new time off requests for {} (balance-neutral)",
+                        addedCount, username);
             }
 
         } catch (Exception e) {
@@ -247,29 +242,24 @@ public class TimeOffCacheService {
                 return false;
             }
 
-            LoggerUtil.info(this.getClass(), String.format(
-                    "Removing time off request from cache for %s on %s [balance-neutral]", username, date));
+            LoggerUtil.info(this.getClass(), "Removing time off request from cache for {} on {} [balance-neutral]",
+                    username, date);
 
-            // Get tracker from cache
+            // Get tracker and its date index from cache
             TimeOffTracker tracker = cacheEntry.getTracker();
-            if (tracker == null || tracker.getRequests() == null) {
+            TimeOffLedger ledger = cacheEntry.getLedger();
+            if (tracker == null || ledger == null) {
                 LoggerUtil.warn(this.getClass(), "No requests found in tracker");
                 return false;
             }
 
             // Find and remove request
-            TimeOffRequest removedRequest = null;
-            for (TimeOffRequest request : new ArrayList<>(tracker.getRequests())) {
-                if (date.equals(request.getDate())) {
-                    removedRequest = request;
-                    tracker.getRequests().remove(request);
-                    LoggerUtil.debug(this.getClass(), String.format(
-                            "Removed %s request for %s on %s from tracker", request.getTimeOffType(), username, date));
-                    break;
-                }
-            }
+            TimeOffRequest removedRequest = ledger.remove(date);
 
             if (removedRequest != null) {
+                LoggerUtil.debug(this.getClass(), "Removed {} request for {} on {} from tracker",
+                        removedRequest.getTimeOffType(), username, date);
+
                 // Update tracker metadata
                 tracker.setLastSyncTime(LocalDateTime.now());
 
@@ -279,8 +269,8 @@ public class TimeOffCacheService {
                 // Write-through: Save to file immediately
                 timeOffDataService.writeUserLocalTrackerWithSyncAndBackup(username, userId, tracker, year);
 
-                LoggerUtil.info(this.getClass(), String.format(
-                        "Successfully removed and persisted time off request for %s on %s (balance-neutral)", username, date));
+                LoggerUtil.info(this.getClass(), "Successfully removed and persisted time off request for {} on {} (balance-neutral)",
+                        username, date);
                 return true;
             } else {
                 LoggerUtil.warn(this.getClass(), String.format(
@@ -311,7 +301,7 @@ public class TimeOffCacheService {
                 return cacheEntry.getTracker();
             }
 
-            LoggerUtil.debug(this.getClass(), String.format("No valid cached tracker for %s - %d", username, year));
+            LoggerUtil.debug(this.getClass(), "No valid cached tracker for {} - {}", username, year);
             return null;
 
         } catch (Exception e) {
@@ -320,20 +310,41 @@ public class TimeOffCacheService {
         }
     }
 
+    /**
+     * Get date index of the cached tracker (date lookups, per-type counts, upcoming time off)
+     */
+    public TimeOffLedger getLedger(String username, int year) {
+        try {
+            String userKey = createUserKey(username, year);
+            TimeOffCacheEntry cacheEntry = userSessions.get(userKey);
+
+            if (cacheEntry != null && cacheEntry.isValid() && !cacheEntry.isExpired()) {
+                return cacheEntry.getLedger();
+            }
+
+            LoggerUtil.debug(this.getClass(), "No valid cached ledger for {} - {}", username, year);
+            return null;
+
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), String.format("Error getting ledger from cache for %s - %d: %s", username, year, e.getMessage()));
+            return null;
+        }
+    }
+
     /**
      * Get time off summary from cached tracker (fast display)
      */
     public TimeOffSummaryDTO getSummary(String username, int year) {
         try {
-            TimeOffTracker tracker = getTracker(username, year);
+            TimeOffLedger ledger = getLedger(username, year);
 
-            if (tracker == null) {
-                LoggerUtil.debug(this.getClass(), String.format("No tracker found for summary calculation %s - %d", username, year));
+            if (ledger == null) {
+                LoggerUtil.debug(this.getClass(), "No tracker found for summary calculation {} - {}", username, year);
                 return createEmptySummary(username);
             }
 
-            // Calculate summary from tracker
-            return buildSummaryFromTracker(tracker, username);
+            // Calculate summary from the ledger counters
+            return buildSummaryFromLedger(ledger, username);
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), String.format("Error getting summary from cache for %s - %d: %s", username, year, e.getMessage()));
@@ -346,19 +357,16 @@ public class TimeOffCacheService {
      */
     public List<WorkTimeTable> getUpcomingTimeOff(String username, Integer userId, int year) {
         try {
-            TimeOffTracker tracker = getTracker(username, year);
+            TimeOffLedger ledger = getLedger(username, year);
 
-            if (tracker == null || tracker.getRequests() == null) {
+            if (ledger == null) {
                 return new ArrayList<>();
             }
 
-            // Filter for upcoming entries and convert to WorkTimeTable
-            LocalDate today = LocalDate.now();
-            return tracker.getRequests().stream()
-                    .filter(request -> request.getDate() != null && request.getDate().isAfter(today))
-                    .filter(request -> "APPROVED".equals(request.getStatus()))
+            // Upcoming approved entries (already in date order) converted to WorkTimeTable
+            return ledger.getApprovedAfter(LocalDate.now()).stream()
                     .map(request -> convertToWorkTimeTable(request, userId))
-                    .sorted(Comparator.comparing(WorkTimeTable::getWorkDate)).collect(Collectors.toList());
+                    .collect(Collectors.toList());
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), String.format("Error getting upcoming timeoff from cache for %s - %d: %s", username, year, e.getMessage()));
@@ -419,25 +427,13 @@ public class TimeOffCacheService {
     }
 
     /**
-     * Build summary from tracker data
+     * Build summary from ledger counters
      */
-    private TimeOffSummaryDTO buildSummaryFromTracker(TimeOffTracker tracker, String username) {
+    private TimeOffSummaryDTO buildSummaryFromLedger(TimeOffLedger ledger, String username) {
         try {
-            int coDays = 0;
-            int cmDays = 0;
-            int snDays = 0;
-
-            if (tracker.getRequests() != null) {
-                for (TimeOffRequest request : tracker.getRequests()) {
-                    if ("APPROVED".equals(request.getStatus())) {
-                        switch (request.getTimeOffType()) {
-                            case "CO" -> coDays++;
-                            case "CM" -> cmDays++;
-                            case "SN" -> snDays++;
-                        }
-                    }
-                }
-            }
+            int coDays = ledger.getApprovedCount(WorkCode.TIME_OFF_CODE);
+            int cmDays = ledger.getApprovedCount(WorkCode.MEDICAL_LEAVE_CODE);
+            int snDays = ledger.getApprovedCount(WorkCode.NATIONAL_HOLIDAY_CODE);
 
             // Get available holiday days from user profile
             int availablePaidDays = getHolidayBalance(username);
@@ -492,13 +488,15 @@ public class TimeOffCacheService {
             if (username.equals(currentUsername)) {
                 // For current user - use MainDefaultUserContextCache (authoritative)
                 Integer balance = mainDefaultUserContextCache.getCurrentPaidHolidayDays();
-                LoggerUtil.debug(this.getClass(), String.format("Got holiday balance from MainDefaultUserContextCache for %s: %d", username, balance != null ? balance : 0));
+                LoggerUtil.debug(this.getClass(), "Got holiday balance from MainDefaultUserContextCache for {}: {}",
+                        username, balance != null ? balance : 0);
                 return balance != null ? balance : 0;
             } else {
                 Optional<User> userOpt = allUsersCacheService.getUserAsUserObject(username);
                 if (userOpt.isPresent()) {
                     Integer balance = userOpt.get().getPaidHolidayDays();
-                    LoggerUtil.debug(this.getClass(), String.format("Got holiday balance from AllUsersCacheService for %s: %d", username, balance != null ? balance : 0));
+                    LoggerUtil.debug(this.getClass(), "Got holiday balance from AllUsersCacheService for {}: {}",
+                            username, balance != null ? balance : 0);
                     return balance != null ? balance : 0;
                 } else {
                     LoggerUtil.warn(this.getClass(), String.format("User not found in AllUsersCacheService: %s", username));
@@ -0,0 +1,138 @@
+package com.ctgraphdep.service.cache;
+
+import com.ctgraphdep.config.WorkCode;
+import com.ctgraphdep.model.TimeOffRequest;
+import com.ctgraphdep.model.TimeOffTracker;
+import com.ctgraphdep.utils.LoggerUtil;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Date index over a user's yearly TimeOffTracker.
+ * Key Principles:
+ * - One request per date: adding a request for a date replaces the previous one, in the index and in the tracker list
+ * - Approved request counts per type and the tracker's used holiday days are kept up to date on every change,
+ *   so summaries never walk the request list
+ * - No holiday balance is kept here: the remaining paid days are the user's paidHolidayDays, which the time off
+ *   commands adjust when CO days are added or removed (tracker.availableHolidayDays is a copy taken at login merge).
+ *   The ledger only counts the days used; it is not reconciled against the allowance
+ * - Requests are ordered by date, so upcoming time off is a tail view instead of a filter and sort
+ * - The tracker's request list stays the persisted form; the ledger only changes it through put/remove
+ */
+public class TimeOffLedger {
+
+    private final TimeOffTracker tracker;
+    private final TreeMap<LocalDate, TimeOffRequest> requestsByDate = new TreeMap<>();
+    private final Map<String, Integer> approvedCounts = new HashMap<>();
+
+    private TimeOffLedger(TimeOffTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    /**
+     * Indexes a tracker. Older requests for a date that has a later request are dropped from the tracker list.
+     *
+     * @param tracker Tracker to index (its request list is created if missing)
+     * @return Ledger backed by the tracker
+     */
+    public static TimeOffLedger of(TimeOffTracker tracker) {
+        TimeOffLedger ledger = new TimeOffLedger(tracker);
+        if (tracker.getRequests() == null) {
+            tracker.setRequests(new ArrayList<>());
+        }
+
+        int duplicates = 0;
+        for (TimeOffRequest request : tracker.getRequests()) {
+            if (request.getDate() != null && ledger.requestsByDate.put(request.getDate(), request) != null) {
+                duplicates++;
+            }
+        }
+        if (duplicates > 0) {
+            tracker.getRequests().removeIf(request -> request.getDate() != null && ledger.requestsByDate.get(request.getDate()) != request);
+            LoggerUtil.debug(TimeOffLedger.class, String.format("Dropped %d superseded time off requests for %s - %s",
+                    duplicates, tracker.getUsername(), tracker.getYear()));
+        }
+
+        ledger.requestsByDate.values().forEach(request -> ledger.count(request, 1));
+        ledger.syncUsedHolidayDays();
+        return ledger;
+    }
+
+    public TimeOffTracker getTracker() {
+        return tracker;
+    }
+
+    public synchronized TimeOffRequest get(LocalDate date) {
+        return requestsByDate.get(date);
+    }
+
+    // True if the date already holds a request of this type
+    public synchronized boolean contains(LocalDate date, String timeOffType) {
+        TimeOffRequest request = requestsByDate.get(date);
+        return request != null && Objects.equals(request.getTimeOffType(), timeOffType);
+    }
+
+    /**
+     * Adds a request, replacing any request for the same date.
+     *
+     * @return The replaced request, or null
+     */
+    public synchronized TimeOffRequest put(TimeOffRequest request) {
+        TimeOffRequest previous = requestsByDate.put(request.getDate(), request);
+        if (previous != null) {
+            tracker.getRequests().remove(previous);
+            count(previous, -1);
+        }
+        tracker.getRequests().add(request);
+        count(request, 1);
+        syncUsedHolidayDays();
+        return previous;
+    }
+
+    /**
+     * Removes the request of a date.
+     *
+     * @return The removed request, or null if the date had none
+     */
+    public synchronized TimeOffRequest remove(LocalDate date) {
+        TimeOffRequest removed = requestsByDate.remove(date);
+        if (removed != null) {
+            tracker.getRequests().remove(removed);
+            count(removed, -1);
+            syncUsedHolidayDays();
+        }
+        return removed;
+    }
+
+    // Approved requests of a type (CO, CM, SN)
+    public synchronized int getApprovedCount(String timeOffType) {
+        return approvedCounts.getOrDefault(timeOffType, 0);
+    }
+
+    // Approved requests after the given date, ordered by date
+    public synchronized List<TimeOffRequest> getApprovedAfter(LocalDate date) {
+        List<TimeOffRequest> upcoming = new ArrayList<>();
+        for (TimeOffRequest request : requestsByDate.tailMap(date, false).values()) {
+            if (WorkCode.APPROVED.equals(request.getStatus())) {
+                upcoming.add(request);
+            }
+        }
+        return upcoming;
+    }
+
+    public synchronized int size() {
+        return requestsByDate.size();
+    }
+
+    private void count(TimeOffRequest request, int delta) {
+        if (WorkCode.APPROVED.equals(request.getStatus()) && request.getTimeOffType() != null) {
+            approvedCounts.merge(request.getTimeOffType(), delta, Integer::sum);
+        }
+    }
+
+    // CO days are the paid holiday days taken (a count, not a balance - see class comment)
+    private void syncUsedHolidayDays() {
+        tracker.setUsedHolidayDays(getApprovedCount(WorkCode.TIME_OFF_CODE));
+    }
+}
@@ -64,7 +64,7 @@ public class WorktimeCacheService {
         try {
             String monthKey = createMonthKey(username, year, month);
 
-            LoggerUtil.info(this.getClass(), String.format("Loading worktime session for %s - %d/%d", username, year, month));
+            LoggerUtil.info(this.getClass(), "Loading worktime session for {} - {}/{}", username, year, month);
 
             // Validate this is for current user's own data
             if (isNonCurrentUserData(username)) {
@@ -76,7 +76,7 @@ public class WorktimeCacheService {
             // Check if already loaded and valid
             WorktimeCacheEntry existingEntry = userMonthSessions.get(monthKey);
             if (existingEntry != null && existingEntry.isValid() && !existingEntry.isExpired()) {
-                LoggerUtil.debug(this.getClass(), String.format("Session already loaded and valid for %s - %d/%d", username, year, month));
+                LoggerUtil.debug(this.getClass(), "Session already loaded and valid for {} - {}/{}", username, year, month);
                 return true;
             }
 
@@ -89,8 +89,8 @@ public class WorktimeCacheService {
 
             userMonthSessions.put(monthKey, cacheEntry);
 
-            LoggerUtil.info(this.getClass(), String.format("Successfully loaded worktime session for %s - %d/%d with %d entries",
-                    username, year, month, entries.size()));
+            LoggerUtil.info(this.getClass(), "Successfully loaded worktime session for {} - {}/{} with {} entries",
+                    username, year, month, entries.size());
 
             return true;
 
@@ -105,7 +105,7 @@ public class WorktimeCacheService {
      */
     public boolean switchUserToMonth(String username, Integer userId, int newYear, int newMonth) {
         try {
-            LoggerUtil.info(this.getClass(), String.format("Switching user %s to month %d/%d", username, newYear, newMonth));
+            LoggerUtil.info(this.getClass(), "Switching user {} to month {}/{}", username, newYear, newMonth);
 
             // Invalidate all other months for this user to save memory
             invalidateUserOtherMonths(username, newYear, newMonth);
@@ -133,21 +133,20 @@ public class WorktimeCacheService {
             // Step 1: Try cache first (fastest)
             List<WorkTimeTable> cachedData = getMonthEntriesFromCache(username, year, month);
             if (!cachedData.isEmpty()) {
-                LoggerUtil.debug(this.getClass(), String.format("Cache hit for %s - %d/%d (%d entries)",
-                        username, year, month, cachedData.size()));
+                LoggerUtil.debug(this.getClass(), "Cache hit for {} - {}/{} ({} entries)",
+                        username, year, month, cachedData.size());
                 return cachedData;
             }
 
             // Step 2: Cache miss - load session and try again
-            LoggerUtil.info(this.getClass(), String.format("Cache miss for %s - %d/%d, loading session",
-                    username, year, month));
+            LoggerUtil.info(this.getClass(), "Cache miss for {} - {}/{}, loading session", username, year, month);
 
             boolean sessionLoaded = loadUserMonthSession(username, userId, year, month);
             if (sessionLoaded) {
                 cachedData = getMonthEntriesFromCache(username, year, month);
                 // If session loaded successfully, trust the cache data (even if empty)
-                LoggerUtil.info(this.getClass(), String.format("Cache populated successfully for %s - %d/%d (%d entries)",
-                        username, year, month, cachedData.size()));
+                LoggerUtil.info(this.getClass(), "Cache populated successfully for {} - {}/{} ({} entries)",
+                        username, year, month, cachedData.size());
                 return cachedData;
             }
 
@@ -186,7 +185,8 @@ public class WorktimeCacheService {
                 return false;
             }
 
-            LoggerUtil.info(this.getClass(), String.format("Saving month entries with write-through for %s - %d/%d (%d entries)", username, year, month, entries.size()));
+            LoggerUtil.info(this.getClass(), "Saving month entries with write-through for {} - {}/{} ({} entries)",
+                    username, year, month, entries.size());
 
             boolean fileSuccess = false;
 
@@ -194,7 +194,7 @@ public class WorktimeCacheService {
                 // Step 1: Write to file first (most critical)
                 worktimeDataService.writeUserLocalWithSyncAndBackup(username, entries, year, month);
                 fileSuccess = true;
-                LoggerUtil.debug(this.getClass(), String.format("File write successful for %s - %d/%d", username, year, month));
+                LoggerUtil.debug(this.getClass(), "File write successful for {} - {}/{}", username, year, month);
 
                 // Step 2: Update cache (secondary priority)
                 String monthKey = createMonthKey(username, year, month);
@@ -202,17 +202,18 @@ public class WorktimeCacheService {
 
                 if (cacheEntry != null && cacheEntry.isValid()) {
                     cacheEntry.updateEntries(entries);
-                    LoggerUtil.debug(this.getClass(), String.format("Cache update successful for %s - %d/%d", username, year, month));
+                    LoggerUtil.debug(this.getClass(), "Cache update successful for {} - {}/{}", username, year, month);
                 } else {
                     // Cache not loaded - create new session
                     boolean sessionCreated = loadUserMonthSession(username, userId, year, month);
-                    LoggerUtil.debug(this.getClass(), String.format("Cache session created for %s - %d/%d: %s", username, year, month, sessionCreated));
+                    LoggerUtil.debug(this.getClass(), "Cache session created for {} - {}/{}: {}",
+                            username, year, month, sessionCreated);
                 }
 
                 // Step 3: Invalidate metrics cache since worktime data changed
                 if (metricsCacheService != null) {
                     metricsCacheService.invalidateMonth(username, year, month);
-                    LoggerUtil.debug(this.getClass(), String.format("Invalidated metrics cache for %s - %d/%d", username, year, month));
+                    LoggerUtil.debug(this.getClass(), "Invalidated metrics cache for {} - {}/{}", username, year, month);
                 }
 
                 return true;
@@ -255,7 +256,7 @@ public class WorktimeCacheService {
 
             if (removed != null) {
                 removed.clear();
-                LoggerUtil.info(this.getClass(), String.format("Invalidated worktime session for %s - %d/%d", username, year, month));
+                LoggerUtil.info(this.getClass(), "Invalidated worktime session for {} - {}/{}", username, year, month);
             }
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), String.format("Error invalidating session for %s - %d/%d: %s", username, year, month, e.getMessage()));
@@ -281,8 +282,8 @@ public class WorktimeCacheService {
                 }
             }
 
-            LoggerUtil.info(this.getClass(), String.format(
-                    "Invalidated all worktime sessions for user %s (%d sessions)", username, userKeys.size()));
+            LoggerUtil.info(this.getClass(), "Invalidated all worktime sessions for user {} ({} sessions)",
+                    username, userKeys.size());
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), String.format("Error invalidating all sessions for %s: %s",
@@ -315,8 +316,7 @@ public class WorktimeCacheService {
             }
 
             if (!expiredKeys.isEmpty()) {
-                LoggerUtil.info(this.getClass(), String.format(
-                        "Cleaned up %d expired worktime sessions", expiredKeys.size()));
+                LoggerUtil.info(this.getClass(), "Cleaned up {} expired worktime sessions", expiredKeys.size());
             }
 
         } catch (Exception e) {
@@ -340,7 +340,8 @@ public class WorktimeCacheService {
             // Primary: Read user local file
             List<WorkTimeTable> entries = worktimeDataService.readUserLocalReadOnly(username, year, month, currentUsername);
             if (entries != null) {
-                LoggerUtil.debug(this.getClass(), String.format("Loaded %d entries from file for %s - %d/%d", entries.size(), username, year, month));
+                LoggerUtil.debug(this.getClass(), "Loaded {} entries from file for {} - {}/{}",
+                        entries.size(), username, year, month);
                 return entries;
             }
         } catch (Exception e) {
@@ -351,7 +352,7 @@ public class WorktimeCacheService {
             // Fallback: Try alternative read method
             List<WorkTimeTable> entries = worktimeDataService.readUserLocalReadOnly(username, year, month, username);
             if (entries != null) {
-                LoggerUtil.info(this.getClass(), String.format("Fallback read succeeded for %s - %d/%d", username, year, month));
+                LoggerUtil.info(this.getClass(), "Fallback read succeeded for {} - {}/{}", username, year, month);
                 return entries;
             }
         } catch (Exception e) {
@@ -427,7 +428,8 @@ public class WorktimeCacheService {
             }
 
             if (!userKeysToRemove.isEmpty()) {
-                LoggerUtil.debug(this.getClass(), String.format("Invalidated %d other month sessions for user %s to save memory", userKeysToRemove.size(), username));
+                LoggerUtil.debug(this.getClass(), "Invalidated {} other month sessions for user {} to save memory",
+                        userKeysToRemove.size(), username);
             }
 
         } catch (Exception e) {
@@ -518,8 +520,7 @@ public class WorktimeCacheService {
      */
     public boolean forceRefreshMonthFromFile(String username, Integer userId, int year, int month) {
         try {
-            LoggerUtil.info(this.getClass(), String.format("Force refreshing cache from file for %s - %d/%d",
-                    username, year, month));
+            LoggerUtil.info(this.getClass(), "Force refreshing cache from file for {} - {}/{}", username, year, month);
 
             // Invalidate current session
             invalidateUserMonthSession(username, year, month);
@@ -528,8 +529,7 @@ public class WorktimeCacheService {
             boolean reloaded = loadUserMonthSession(username, userId, year, month);
 
             if (reloaded) {
-                LoggerUtil.info(this.getClass(), String.format("Successfully force refreshed cache for %s - %d/%d",
-                        username, year, month));
+                LoggerUtil.info(this.getClass(), "Successfully force refreshed cache for {} - {}/{}", username, year, month);
             } else {
                 LoggerUtil.warn(this.getClass(), String.format("Force refresh failed for %s - %d/%d",
                         username, year, month));
@@ -0,0 +1,58 @@
+package com.ctgraphdep.session.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Persisted progress of the day rollover pipeline (see SessionMidnightHandler).
+ * One checkpoint per closing day; steps already DONE or SKIPPED are not run again when the
+ * rollover resumes after a crash or a missed midnight.
+ */
+@Data
+@NoArgsConstructor
+public class RolloverCheckpoint {
+    // Day being closed
+    private LocalDate closingDate;
+    private String username;
+    private String trigger;
+    private LocalDateTime startedAt;
+    // Null while the rollover is incomplete
+    private LocalDateTime completedAt;
+    private int attempts;
+    private long totalDurationMs;
+    // Step outcomes in execution order
+    private Map<RolloverStep, StepResult> steps = new LinkedHashMap<>();
+    private String lastError;
+
+    public RolloverCheckpoint(LocalDate closingDate, String username, String trigger, LocalDateTime startedAt) {
+        this.closingDate = closingDate;
+        this.username = username;
+        this.trigger = trigger;
+        this.startedAt = startedAt;
+    }
+
+    public boolean isStepFinished(RolloverStep step) {
+        StepResult result = steps.get(step);
+        return result != null && !StepResult.FAILED.equals(result.getStatus());
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StepResult {
+        public static final String DONE = "DONE";
+        public static final String SKIPPED = "SKIPPED";
+        public static final String FAILED = "FAILED";
+
+        private String status;
+        private long durationMs;
+        private LocalDateTime finishedAt;
+        private String detail;
+    }
+}
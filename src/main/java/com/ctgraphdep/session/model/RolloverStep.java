@@ -0,0 +1,34 @@
+package com.ctgraphdep.session.model;
+
+// Steps of the day rollover pipeline (SessionMidnightHandler), in execution order
+public enum RolloverStep {
+
+    SNAPSHOT_SESSION(true, false),      // Copy of the closing day's session kept in the local backup folder
+    FINALIZE_WORKTIME(true, false),     // Final session calculations up to the end of the closing day
+    RESET_SESSION(false, true),         // Fresh session file and offline status
+    RESET_MONITORING(false, true),      // Monitoring state and session cache
+    REFRESH_STATUS_CACHE(false, false), // Status cache rebuilt from user data and persisted
+    RESET_DAILY_COUNTERS(false, true),  // User context counters, daily login count, backup sync cache
+    ROLL_MONTH_CACHES(false, false),    // Register flush + worktime / time off caches moved to the new month / year
+    WARM_CACHES(false, false),          // New day's month loaded into the worktime, time off and register caches
+    EXPIRE_BROWSER_SESSIONS(false, false), // Browser sessions from the closing day (Remember Me preserved)
+    RESET_NOTIFICATIONS(false, true);   // Notification service and backup task
+
+    // A failed critical step stops the pipeline (later steps would discard data it did not secure)
+    private final boolean critical;
+    // Skipped when the user already started a later day (late catch-up run)
+    private final boolean dayScoped;
+
+    RolloverStep(boolean critical, boolean dayScoped) {
+        this.critical = critical;
+        this.dayScoped = dayScoped;
+    }
+
+    public boolean isCritical() {
+        return critical;
+    }
+
+    public boolean isDayScoped() {
+        return dayScoped;
+    }
+}
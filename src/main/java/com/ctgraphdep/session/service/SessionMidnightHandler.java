@@ -1,7 +1,7 @@
 package com.ctgraphdep.session.service;
 
 import com.ctgraphdep.config.WorkCode;
-import com.ctgraphdep.fileOperations.events.BackupEventListener;
+import com.ctgraphdep.fileOperations.config.PathConfig;
 import com.ctgraphdep.fileOperations.service.BackupService;
 import com.ctgraphdep.merge.login.LoginMergeStrategy;
 import com.ctgraphdep.model.User;
@@ -10,37 +10,68 @@ import com.ctgraphdep.monitoring.MonitoringStateService;
 import com.ctgraphdep.monitoring.SchedulerHealthMonitor;
 import com.ctgraphdep.notification.api.NotificationService;
 import com.ctgraphdep.notification.service.NotificationBackupService;
+import com.ctgraphdep.scheduling.JobIoClass;
+import com.ctgraphdep.scheduling.JobPriority;
+import com.ctgraphdep.scheduling.ScheduledJob;
 import com.ctgraphdep.service.cache.MainDefaultUserContextService;
 import com.ctgraphdep.service.cache.AllUsersCacheService;
+import com.ctgraphdep.service.cache.RegisterCacheService;
+import com.ctgraphdep.service.cache.TimeOffCacheService;
+import com.ctgraphdep.service.cache.WorktimeCacheService;
 import com.ctgraphdep.session.SessionCommandFactory;
 import com.ctgraphdep.session.SessionCommandService;
 import com.ctgraphdep.service.cache.SessionCacheService;
 import com.ctgraphdep.session.commands.SaveSessionCommand;
+import com.ctgraphdep.session.commands.UpdateSessionCalculationsCommand;
+import com.ctgraphdep.session.model.RolloverCheckpoint;
+import com.ctgraphdep.session.model.RolloverStep;
 import com.ctgraphdep.session.query.GetLocalUserQuery;
 import com.ctgraphdep.utils.LoggerUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.session.SessionInformation;
 import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * ENHANCED: Component responsible for resetting sessions at midnight.
+ * ENHANCED: Component responsible for the day rollover (midnight reset).
  * Now includes LoginMergeStrategy integration for daily login optimization.
- * Key responsibilities:
- * 1. Reset user session files to fresh state
- * 2. Clear all monitoring state
- * 3. Reset notification system
- * 4. Refresh status cache with updated user data
- * 5. Clear session cache for fresh start
- * 6. NEW - Reset daily login count for merge optimization
+ * The rollover is a pipeline of idempotent steps (RolloverStep):
+ * 1. Snapshot the closing day's session and finalize its calculations
+ * 2. Reset user session file, monitoring state and session cache
+ * 3. Refresh status cache with updated user data
+ * 4. Reset daily counters (user context, daily login count for merge optimization, backup sync cache)
+ * 5. Roll worktime / time off / register caches to the new month or year and warm them
+ * 6. Expire the closing day's browser sessions and reset the notification system
+ * Progress is checkpointed locally after every step. A rollover interrupted by a crash resumes from
+ * the first unfinished step; a midnight missed while the machine was off or asleep is caught up later,
+ * skipping the day scoped steps if the user already started the new day. SessionMonitorService pauses
+ * its checks and periodic sync while a rollover runs. Step timings are kept in the checkpoint.
  */
 
 @Component
 public class SessionMidnightHandler {
 
+    private static final String CHECKPOINT_FILENAME = "midnight_rollover.json";
+    private static final String SNAPSHOT_DIR = "rollover";
+    // Keep in sync with the resetLocalUserSession cron
+    private static final LocalTime SCHEDULED_ROLLOVER_TIME = LocalTime.of(23, 59);
+
     private final SessionRegistry sessionRegistry;
     private final SessionCommandService commandService;
     private final SessionCommandFactory commandFactory;
@@ -53,14 +84,22 @@ public class SessionMidnightHandler {
     private final MainDefaultUserContextService mainDefaultUserContextService;
     private final LoginMergeStrategy loginMergeStrategy;
     private final BackupService backupService;           // For clearSyncedBackupFilesCache()
-    private final BackupEventListener backupEventListener;
+    private final WorktimeCacheService worktimeCacheService;
+    private final TimeOffCacheService timeOffCacheService;
+    private final RegisterCacheService registerCacheService;
+    private final PathConfig pathConfig;
+    private final ObjectMapper objectMapper;
+    private final long slowRolloverMs;
+
+    private final AtomicBoolean rolloverRunning = new AtomicBoolean(false);
 
     public SessionMidnightHandler(
             SessionRegistry sessionRegistry, SessionCommandService commandService, SessionCommandFactory commandFactory,
             SchedulerHealthMonitor healthMonitor, NotificationService notificationService, NotificationBackupService notificationBackupService,
             MonitoringStateService monitoringStateService, AllUsersCacheService allUsersCacheService, SessionCacheService sessionCacheService,
             MainDefaultUserContextService mainDefaultUserContextService, LoginMergeStrategy loginMergeStrategy, BackupService backupService,
-            BackupEventListener backupEventListener) {
+            WorktimeCacheService worktimeCacheService, TimeOffCacheService timeOffCacheService, RegisterCacheService registerCacheService,
+            PathConfig pathConfig, ObjectMapper objectMapper, @Value("${app.session.rollover.slow-ms:30000}") long slowRolloverMs) {
         this.sessionRegistry = sessionRegistry;
         this.commandService = commandService;
         this.commandFactory = commandFactory;
@@ -73,7 +112,12 @@ public class SessionMidnightHandler {
         this.mainDefaultUserContextService = mainDefaultUserContextService;
         this.loginMergeStrategy = loginMergeStrategy; // NEW ASSIGNMENT
         this.backupService = backupService;
-        this.backupEventListener = backupEventListener;
+        this.worktimeCacheService = worktimeCacheService;
+        this.timeOffCacheService = timeOffCacheService;
+        this.registerCacheService = registerCacheService;
+        this.pathConfig = pathConfig;
+        this.objectMapper = objectMapper;
+        this.slowRolloverMs = slowRolloverMs;
         LoggerUtil.initialize(this.getClass(), null);
     }
 
@@ -89,9 +133,62 @@ public class SessionMidnightHandler {
  */
 
     @Scheduled(cron = "0 59 23 * * *")
+    @ScheduledJob(name = "midnight-session-reset", priority = JobPriority.HIGH, io = JobIoClass.LOCAL_DISK)
     public void resetLocalUserSession() {
+        runRollover(getScheduledClosingDate(LocalDateTime.now()), "scheduled");
+    }
+
+    /**
+     * Day closed by the most recent 23:59 fire time. A run delayed past midnight (machine asleep,
+     * busy scheduler) still closes the day it was scheduled for, not the day that just started.
+     */
+    private static LocalDate getScheduledClosingDate(LocalDateTime now) {
+        return now.toLocalTime().isBefore(SCHEDULED_ROLLOVER_TIME) ? now.toLocalDate().minusDays(1) : now.toLocalDate();
+    }
+
+    /**
+     * Resumes an interrupted rollover, or runs yesterday's rollover if its midnight was missed
+     * (application closed or machine asleep at 23:59).
+     */
+    @Scheduled(initialDelayString = "${app.session.rollover.catchup-initial-delay:60000}",
+            fixedDelayString = "${app.session.rollover.catchup-interval:300000}")
+    @ScheduledJob(name = "midnight-rollover-catchup", priority = JobPriority.HIGH, io = JobIoClass.LOCAL_DISK)
+    public void resumeOrCatchUpRollover() {
+        RolloverCheckpoint checkpoint = loadCheckpoint();
+        if (checkpoint == null || checkpoint.getClosingDate() == null) {
+            // Nothing recorded yet; stale sessions are handled by the startup session check
+            return;
+        }
+
+        if (checkpoint.getCompletedAt() == null) {
+            LoggerUtil.warn(this.getClass(), "Resuming incomplete day rollover for {}", checkpoint.getClosingDate());
+            runRollover(checkpoint.getClosingDate(), "resume");
+            return;
+        }
+
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        if (checkpoint.getClosingDate().isBefore(yesterday)) {
+            LoggerUtil.warn(this.getClass(), "Day rollover for {} was missed (last completed: {}), catching up",
+                    yesterday, checkpoint.getClosingDate());
+            runRollover(yesterday, "catch-up");
+        }
+    }
+
+    public boolean isRolloverInProgress() {
+        return rolloverRunning.get();
+    }
+
+    /**
+     * Runs (or resumes) the rollover pipeline closing the given day.
+     */
+    private void runRollover(LocalDate closingDate, String trigger) {
+        if (!rolloverRunning.compareAndSet(false, true)) {
+            LoggerUtil.info(this.getClass(), "Day rollover already running, ignoring {} trigger", trigger);
+            return;
+        }
+
         try {
-            LoggerUtil.info(this.getClass(), "Starting midnight reset process...");
+            LoggerUtil.info(this.getClass(), "Starting day rollover for {} ({})...", closingDate, trigger);
 
             // Get local user using the new query
             GetLocalUserQuery userQuery = commandFactory.createGetLocalUserQuery();
@@ -103,72 +200,79 @@ public class SessionMidnightHandler {
             }
 
             String username = localUser.getUsername();
-            LoggerUtil.info(this.getClass(), String.format("Performing midnight reset for user: %s", username));
-
-            // STEP 1: Reset the user's session file
-            resetUserSession(localUser);
-
-            // STEP 2: Clear all monitoring state using centralized service
-            monitoringStateService.clearUserState(username);
-            LoggerUtil.info(this.getClass(), String.format("Cleared all monitoring state for user %s", username));
-
-            // STEP 3: Clear session cache for fresh start
-            sessionCacheService.clearAllCache();
-            LoggerUtil.info(this.getClass(), String.format("Cleared session cache for user %s", username));
-
-            // STEP 4: Refresh status cache with updated user data from UserService
-            allUsersCacheService.refreshAllUsersFromUserDataServiceWithCompleteData();
-            LoggerUtil.info(this.getClass(), "Refreshed status cache with updated user data from UserService");
+            RolloverCheckpoint checkpoint = loadCheckpoint();
+            if (checkpoint == null || !closingDate.equals(checkpoint.getClosingDate()) || !username.equals(checkpoint.getUsername())) {
+                checkpoint = new RolloverCheckpoint(closingDate, username, trigger, LocalDateTime.now());
+            }
+            if (checkpoint.getCompletedAt() != null) {
+                LoggerUtil.info(this.getClass(), "Day rollover for {} already completed at {}", closingDate, checkpoint.getCompletedAt());
+                return;
+            }
+            checkpoint.setAttempts(checkpoint.getAttempts() + 1);
+            checkpoint.setLastError(null);
+            saveCheckpoint(checkpoint);
 
-            // STEP 5: Write status cache to file for persistence
-            allUsersCacheService.writeToFile();
-            LoggerUtil.info(this.getClass(), "Persisted status cache to file after user data refresh");
+            // Day scoped steps must not touch a session the user already started after the closing day
+            WorkUsersSessionsStates session = sessionCacheService.readSessionWithFallback(username, localUser.getUserId());
+            boolean laterDayStarted = session != null && session.getDayStartTime() != null
+                    && session.getDayStartTime().toLocalDate().isAfter(closingDate);
 
-            // STEP 6: Reset MainDefaultUserContextCache (access counter, failure state)
-            mainDefaultUserContextService.performMidnightReset();
-            LoggerUtil.info(this.getClass(), "Reset MainDefaultUserContextCache access counter and failure state");
+            LoggerUtil.info(this.getClass(), String.format("Performing day rollover for user: %s", username));
+            long pipelineStart = System.nanoTime();
 
-            // STEP 7: NEW - Reset daily login count for merge optimization
-            String loginStatusBefore = loginMergeStrategy.getStatus();
-            loginMergeStrategy.resetDailyLoginCount();
-            String loginStatusAfter = loginMergeStrategy.getStatus();
+            for (RolloverStep step : RolloverStep.values()) {
+                if (checkpoint.isStepFinished(step)) {
+                    continue;
+                }
 
-            LoggerUtil.info(this.getClass(), String.format("Reset daily login count - Before: [%s], After: [%s]",
-                    loginStatusBefore, loginStatusAfter));
-            LoggerUtil.info(this.getClass(), "Next login will trigger full merge for optimal data synchronization");
+                long stepStart = System.nanoTime();
+                String status;
+                String detail;
+                try {
+                    if (step.isDayScoped() && laterDayStarted) {
+                        status = RolloverCheckpoint.StepResult.SKIPPED;
+                        detail = "User already started " + session.getDayStartTime().toLocalDate();
+                    } else {
+                        detail = executeStep(step, localUser, closingDate);
+                        status = detail != null && detail.startsWith("skipped")
+                                ? RolloverCheckpoint.StepResult.SKIPPED : RolloverCheckpoint.StepResult.DONE;
+                    }
+                } catch (Exception e) {
+                    status = RolloverCheckpoint.StepResult.FAILED;
+                    detail = e.getMessage();
+                    checkpoint.setLastError(step + ": " + e.getMessage());
+                    LoggerUtil.error(this.getClass(), String.format("Day rollover step %s failed: %s", step, e.getMessage()), e);
+                }
 
-            // STEP 8: NEW - Clear backup sync caches for fresh daily state
-            try {
-                // Clear the "already synced files" cache in BackupService
-                backupService.clearSyncedBackupFilesCache();
+                long durationMs = (System.nanoTime() - stepStart) / 1_000_000;
+                checkpoint.getSteps().put(step, new RolloverCheckpoint.StepResult(status, durationMs, LocalDateTime.now(), detail));
+                saveCheckpoint(checkpoint);
+                LoggerUtil.info(this.getClass(), "Day rollover step {} {} in {}ms{}", step, status, durationMs,
+                        detail != null ? " (" + detail + ")" : "");
 
-                // Clear the "user synced this session" cache in BackupEventListener
-                backupEventListener.clearAllBackupSyncCaches();
+                if (RolloverCheckpoint.StepResult.FAILED.equals(status) && step.isCritical()) {
+                    // Later steps would discard the session this step did not secure; retried by the catch-up job
+                    healthMonitor.recordTaskFailure("midnight-reset", "Day rollover stopped at " + step + ": " + detail);
+                    return;
+                }
+            }
 
-                LoggerUtil.info(this.getClass(), "Cleared all backup sync caches for fresh daily state");
-                LoggerUtil.info(this.getClass(), "Tomorrow's first login will sync one fresh backup to network");
+            long pipelineMs = (System.nanoTime() - pipelineStart) / 1_000_000;
+            checkpoint.setTotalDurationMs(checkpoint.getTotalDurationMs() + pipelineMs);
 
-            } catch (Exception e) {
-                LoggerUtil.warn(this.getClass(), "Error clearing backup sync caches: " + e.getMessage());
-                // Don't fail the entire midnight reset for this
+            boolean allFinished = Arrays.stream(RolloverStep.values()).allMatch(checkpoint::isStepFinished);
+            if (allFinished) {
+                checkpoint.setCompletedAt(LocalDateTime.now());
+            } else {
+                healthMonitor.recordTaskFailure("midnight-reset", "Day rollover incomplete: " + checkpoint.getLastError());
             }
+            saveCheckpoint(checkpoint);
 
-            // STEP 9: Invalidate browser sessions for daily reset (preserves Remember Me)
-            try {
-                invalidateAllBrowserSessions();
-                LoggerUtil.info(this.getClass(), "Invalidated all browser sessions - users will need to login tomorrow");
-            } catch (Exception e) {
-                LoggerUtil.warn(this.getClass(), "Error invalidating browser sessions: " + e.getMessage());
-                // Don't fail the entire midnight reset for this
+            if (pipelineMs > slowRolloverMs) {
+                LoggerUtil.warn(this.getClass(), "Slow day rollover: {}ms - {}", pipelineMs, formatStepTimings(checkpoint));
             }
-
-            // STEP 10: Reset notification system
-            resetNotificationSystem(username);
-
-            // STEP 11: Cancel backup task explicitly
-            notificationBackupService.cancelBackupTask(username);
-
-            LoggerUtil.info(this.getClass(), "Completed comprehensive midnight reset for user " + username);
+            LoggerUtil.info(this.getClass(), "Day rollover for {} {} in {}ms for user {}", closingDate,
+                    allFinished ? "completed" : "incomplete (will resume)", pipelineMs, username);
             LoggerUtil.info(this.getClass(), loginMergeStrategy.getPerformanceBenefit());
 
         } catch (Exception e) {
@@ -176,6 +280,116 @@ public class SessionMidnightHandler {
 
             // Report error to health monitor
             healthMonitor.recordTaskFailure("midnight-reset", "Midnight reset failed: " + e.getMessage());
+        } finally {
+            rolloverRunning.set(false);
+        }
+    }
+
+    /**
+     * Runs one rollover step. Every step is idempotent, a resumed rollover may run it again.
+     *
+     * @return Detail for the checkpoint; starting with "skipped" marks the step SKIPPED
+     */
+    private String executeStep(RolloverStep step, User localUser, LocalDate closingDate) throws IOException {
+        String username = localUser.getUsername();
+        Integer userId = localUser.getUserId();
+        LocalDate newDate = closingDate.plusDays(1);
+
+        switch (step) {
+            case SNAPSHOT_SESSION -> {
+                WorkUsersSessionsStates session = sessionCacheService.readSessionWithFallback(username, userId);
+                if (session == null) {
+                    return "skipped - no session";
+                }
+                Path snapshotPath = getSnapshotPath(username, closingDate);
+                Files.createDirectories(snapshotPath.getParent());
+                objectMapper.writeValue(snapshotPath.toFile(), session);
+                return "saved " + snapshotPath.getFileName();
+            }
+            case FINALIZE_WORKTIME -> {
+                WorkUsersSessionsStates session = sessionCacheService.readSessionWithFallback(username, userId);
+                if (session == null || !isActiveSession(session) || session.getDayStartTime() == null
+                        || !session.getDayStartTime().toLocalDate().equals(closingDate)) {
+                    return "skipped - no open session for " + closingDate;
+                }
+
+                // Count work up to the end of the closing day, not up to a late catch-up run
+                LocalDateTime endOfDay = closingDate.atTime(LocalTime.MAX);
+                LocalDateTime endTime = LocalDateTime.now().isBefore(endOfDay) ? LocalDateTime.now() : endOfDay;
+                UpdateSessionCalculationsCommand updateCommand = commandFactory.createUpdateSessionCalculationsCacheOnlyCommand(session, endTime);
+                WorkUsersSessionsStates finalSession = commandService.executeCommand(updateCommand);
+
+                // Final numbers go into the snapshot; the open worktime entry stays for the next day's resolution
+                objectMapper.writeValue(getSnapshotPath(username, closingDate).toFile(), finalSession);
+                return String.format("open session finalized at %s (%d worked minutes), entry left for resolution",
+                        endTime.toLocalTime(), finalSession.getFinalWorkedMinutes());
+            }
+            case RESET_SESSION -> {
+                resetUserSession(localUser);
+                return null;
+            }
+            case RESET_MONITORING -> {
+                // Clear all monitoring state using centralized service
+                monitoringStateService.clearUserState(username);
+                // Clear session cache for fresh start
+                sessionCacheService.clearAllCache();
+                return null;
+            }
+            case REFRESH_STATUS_CACHE -> {
+                // Refresh status cache with updated user data from UserService, then persist it
+                allUsersCacheService.refreshAllUsersFromUserDataServiceWithCompleteData();
+                allUsersCacheService.writeToFile();
+                return null;
+            }
+            case RESET_DAILY_COUNTERS -> {
+                // A late run must not reset the new day's login (admin elevation, a second full merge)
+                if (loginMergeStrategy.hasLoginAfter(closingDate)) {
+                    return "skipped - user already logged in after " + closingDate;
+                }
+
+                // Reset MainDefaultUserContextCache (access counter, failure state)
+                mainDefaultUserContextService.performMidnightReset();
+
+                // Reset daily login count for merge optimization - next login triggers a full merge
+                String loginStatusBefore = loginMergeStrategy.getStatus();
+                loginMergeStrategy.resetDailyLoginCount();
+
+                // Clear the "already synced files" cache used by the walk-based reconciliation
+                // (journal-driven replication keeps its own persisted cursor)
+                backupService.clearSyncedBackupFilesCache();
+                return "login count before: " + loginStatusBefore;
+            }
+            case ROLL_MONTH_CACHES -> {
+                if (newDate.getMonthValue() == closingDate.getMonthValue() && newDate.getYear() == closingDate.getYear()) {
+                    return "skipped - same month";
+                }
+                // Persist pending register edits before the old month leaves the cache
+                int flushed = registerCacheService.flushUser(username);
+                worktimeCacheService.switchUserToMonth(username, userId, newDate.getYear(), newDate.getMonthValue());
+                if (newDate.getYear() != closingDate.getYear()) {
+                    timeOffCacheService.invalidateUserSession(username, closingDate.getYear());
+                }
+                return String.format("rolled to %d/%d, %d register entries flushed", newDate.getMonthValue(), newDate.getYear(), flushed);
+            }
+            case WARM_CACHES -> {
+                boolean worktimeLoaded = worktimeCacheService.loadUserMonthSession(username, userId, newDate.getYear(), newDate.getMonthValue());
+                boolean timeOffLoaded = timeOffCacheService.loadUserSession(username, userId, newDate.getYear());
+                int registerEntries = registerCacheService.getMonthEntries(username, userId, newDate.getYear(), newDate.getMonthValue()).size();
+                return String.format("worktime %s, time off %s, %d register entries", worktimeLoaded ? "loaded" : "not loaded",
+                        timeOffLoaded ? "loaded" : "not loaded", registerEntries);
+            }
+            case EXPIRE_BROWSER_SESSIONS -> {
+                // Invalidate browser sessions for daily reset (preserves Remember Me)
+                int expired = invalidateBrowserSessionsBefore(newDate.atStartOfDay());
+                return expired + " sessions expired";
+            }
+            case RESET_NOTIFICATIONS -> {
+                resetNotificationSystem(username);
+                // Cancel backup task explicitly
+                notificationBackupService.cancelBackupTask(username);
+                return null;
+            }
+            default -> throw new IllegalStateException("Unknown rollover step: " + step);
         }
     }
 
@@ -343,53 +557,115 @@ public class SessionMidnightHandler {
     }
 
     /**
-     * NEW: Invalidate all active browser sessions at midnight.
+     * NEW: Invalidate the browser sessions of the closing day.
      * This forces users to login again the next day while preserving Remember Me cookies.
      * Since there's only one user per PC, this effectively logs out the single user.
+     * Sessions used after the cutoff (user already working on the new day) are kept.
      */
-    private void invalidateAllBrowserSessions() {
-        try {
-            // Get all active browser sessions
-            List<Object> allPrincipals = sessionRegistry.getAllPrincipals();
+    private int invalidateBrowserSessionsBefore(LocalDateTime cutoff) {
+        // Get all active browser sessions
+        List<Object> allPrincipals = sessionRegistry.getAllPrincipals();
 
-            if (allPrincipals.isEmpty()) {
-                LoggerUtil.info(this.getClass(), "No active browser sessions found to invalidate");
-                return;
-            }
+        if (allPrincipals.isEmpty()) {
+            LoggerUtil.info(this.getClass(), "No active browser sessions found to invalidate");
+            return 0;
+        }
 
-            int invalidatedCount = 0;
+        Date cutoffDate = Date.from(cutoff.atZone(ZoneId.systemDefault()).toInstant());
+        int invalidatedCount = 0;
 
-            for (Object principal : allPrincipals) {
-                try {
-                    // Get all sessions for this principal (user)
-                    List<SessionInformation> sessions = sessionRegistry.getAllSessions(principal, false);
-
-                    for (SessionInformation sessionInfo : sessions) {
-                        if (!sessionInfo.isExpired()) {
-                            // Expire the session (this invalidates it)
-                            sessionInfo.expireNow();
-                            invalidatedCount++;
-
-                            LoggerUtil.debug(this.getClass(), String.format(
-                                    "Expired browser session: %s for user: %s",
-                                    sessionInfo.getSessionId(), principal.toString()));
-                        }
+        for (Object principal : allPrincipals) {
+            try {
+                // Get all sessions for this principal (user)
+                List<SessionInformation> sessions = sessionRegistry.getAllSessions(principal, false);
+
+                for (SessionInformation sessionInfo : sessions) {
+                    if (!sessionInfo.isExpired() && sessionInfo.getLastRequest().before(cutoffDate)) {
+                        // Expire the session (this invalidates it)
+                        sessionInfo.expireNow();
+                        invalidatedCount++;
+
+                        LoggerUtil.debug(this.getClass(), String.format(
+                                "Expired browser session: %s for user: %s",
+                                sessionInfo.getSessionId(), principal.toString()));
                     }
-                } catch (Exception e) {
-                    LoggerUtil.warn(this.getClass(), String.format(
-                            "Error invalidating sessions for principal %s: %s", principal, e.getMessage()));
                 }
+            } catch (Exception e) {
+                LoggerUtil.warn(this.getClass(), String.format(
+                        "Error invalidating sessions for principal %s: %s", principal, e.getMessage()));
             }
+        }
 
-            LoggerUtil.info(this.getClass(), String.format(
-                    "Midnight session invalidation completed: %d sessions expired, Remember Me cookies preserved",
-                    invalidatedCount));
+        LoggerUtil.info(this.getClass(), String.format(
+                "Midnight session invalidation completed: %d sessions expired, Remember Me cookies preserved",
+                invalidatedCount));
+        return invalidatedCount;
+    }
 
-        } catch (Exception e) {
-            LoggerUtil.error(this.getClass(), "Error during browser session invalidation: " + e.getMessage(), e);
+    private boolean isActiveSession(WorkUsersSessionsStates session) {
+        return WorkCode.WORK_ONLINE.equals(session.getSessionStatus()) || WorkCode.WORK_TEMPORARY_STOP.equals(session.getSessionStatus());
+    }
+
+    // ========================================================================
+    // ROLLOVER CHECKPOINT
+    // ========================================================================
+
+    /**
+     * Last rollover checkpoint, or null if none was recorded or it cannot be read.
+     */
+    public RolloverCheckpoint loadCheckpoint() {
+        Path checkpointPath = getCheckpointPath();
+        if (!Files.exists(checkpointPath)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(checkpointPath.toFile(), RolloverCheckpoint.class);
+        } catch (IOException e) {
+            LoggerUtil.warn(this.getClass(), "Unreadable day rollover checkpoint, starting fresh: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Persists the checkpoint atomically (temp file + move) so a crash never leaves a half-written checkpoint
+    private void saveCheckpoint(RolloverCheckpoint checkpoint) {
+        Path checkpointPath = getCheckpointPath();
+        Path tempPath = checkpointPath.resolveSibling(CHECKPOINT_FILENAME + ".tmp");
+        try {
+            Files.createDirectories(checkpointPath.getParent());
+            Files.write(tempPath, objectMapper.writeValueAsBytes(checkpoint));
+            try {
+                Files.move(tempPath, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, checkpointPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LoggerUtil.error(this.getClass(), "Failed to persist day rollover checkpoint: " + e.getMessage(), e);
         }
     }
 
+    private String formatStepTimings(RolloverCheckpoint checkpoint) {
+        StringBuilder timings = new StringBuilder();
+        checkpoint.getSteps().forEach((step, result) -> {
+            if (!timings.isEmpty()) {
+                timings.append(", ");
+            }
+            timings.append(step).append('=').append(result.getDurationMs()).append("ms");
+            if (!RolloverCheckpoint.StepResult.DONE.equals(result.getStatus())) {
+                timings.append(' ').append(result.getStatus());
+            }
+        });
+        return timings.toString();
+    }
+
+    private Path getCheckpointPath() {
+        return pathConfig.getLocalPath().resolve(pathConfig.getBackupPath()).resolve(CHECKPOINT_FILENAME);
+    }
+
+    private Path getSnapshotPath(String username, LocalDate closingDate) {
+        return pathConfig.getLocalPath().resolve(pathConfig.getBackupPath()).resolve(SNAPSHOT_DIR)
+                .resolve(String.format("session_%s_%s.json", username, closingDate));
+    }
+
     // Status check method for health monitoring
     public String getMidnightResetStatus() {
         try {
@@ -424,6 +700,15 @@ public class SessionMidnightHandler {
                 status.append("Local User: NOT FOUND\n");
             }
 
+            RolloverCheckpoint checkpoint = loadCheckpoint();
+            if (checkpoint != null) {
+                status.append("Last Rollover: ").append(checkpoint.getClosingDate())
+                        .append(checkpoint.getCompletedAt() != null ? " completed" : " INCOMPLETE")
+                        .append(" (").append(checkpoint.getTrigger()).append(", attempts: ").append(checkpoint.getAttempts())
+                        .append(", ").append(checkpoint.getTotalDurationMs()).append("ms)\n");
+                status.append("Rollover Steps: ").append(formatStepTimings(checkpoint)).append("\n");
+            }
+
             return status.toString();
 
         } catch (Exception e) {
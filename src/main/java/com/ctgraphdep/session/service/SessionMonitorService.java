@@ -26,6 +26,7 @@ import com.ctgraphdep.validation.TimeValidationService;
 import com.ctgraphdep.validation.commands.IsWorkingHoursCommand;
 import com.ctgraphdep.validation.commands.IsWeekdayCommand;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.TaskScheduler;
@@ -43,7 +44,9 @@ import java.util.concurrent.ScheduledFuture;
  * Service responsible for monitoring active user sessions and status synchronization.
  * Now includes both session monitoring and status cache management.
  * Key responsibilities:
- * 1. Monitor active sessions and trigger notifications
+ * 1. Monitor active sessions and trigger notifications. Monitoring is deadline driven: after each check a single
+ *    timer is armed for the next session event (schedule completion, hourly warning, temporary stop threshold,
+ *    automatic end) and re-armed whenever MonitoringStateService reports a state transition.
  * 2. Update session calculations in cache
  * 3. Periodic session file writing for network sync
  * 4. Status cache synchronization from network flags
@@ -69,6 +72,9 @@ public class SessionMonitorService {
     private SessionCacheService sessionCacheService;
     @Autowired
     private AllUsersCacheService allUsersCacheService; // NEW: Status cache integration
+    @Autowired
+    @Lazy
+    private SessionMidnightHandler midnightHandler; // Pauses monitoring while the day rollover runs
 
     // Track last file write times to coordinate with session commands
     private final Map<String, Long> lastFileWrites = new ConcurrentHashMap<>();
@@ -80,9 +86,20 @@ public class SessionMonitorService {
     // Track which users have pending file sync needs
     private final Set<String> pendingFileSyncs = ConcurrentHashMap.newKeySet();
 
+    // Fallback cadence (minutes) while a start day reminder is still pending or a notification could not be shown
     @Value("${app.session.monitoring.interval:30}")
     private int monitoringInterval;
 
+    // Longest time (minutes) the monitor sleeps when no session event is due
+    @Value("${app.session.monitoring.max-idle-interval:120}")
+    private int maxIdleInterval;
+
+    // Deadlines are minute based; checks run slightly after them so the minute calculations already see them as reached
+    private static final long DEADLINE_GRACE_SECONDS = 5;
+    private static final long INITIAL_CHECK_DELAY_MS = 10000;
+    private static final long REARM_DELAY_MS = 2000;
+    private static final Duration ROLLOVER_RETRY_DELAY = Duration.ofMinutes(1);
+
     @Value("${app.session.sync.interval:1800000}") // 30 minutes default
     private long syncInterval;
 
@@ -90,6 +107,7 @@ public class SessionMonitorService {
     private ScheduledFuture<?> syncTask; // NEW: Separate sync task
 
     private volatile boolean isMonitoringInProgress = false;
+    private volatile boolean rearmRequested = false;
     private volatile boolean isInitialized = false;
 
     public SessionMonitorService(SessionCommandService commandService, SessionCommandFactory commandFactory, @Qualifier("sessionMonitorScheduler") TaskScheduler taskScheduler,
@@ -116,7 +134,8 @@ public class SessionMonitorService {
 
     @PostConstruct
     public void registerWithHealthMonitor() {
-        healthMonitor.registerTask("session-monitor", monitoringInterval, status -> {
+        // Idle periods can last up to maxIdleInterval between checks
+        healthMonitor.registerTask("session-monitor", maxIdleInterval, status -> {
             // Recovery action - if we're unhealthy, restart monitoring
             if (monitoringTask == null || monitoringTask.isCancelled()) {
                 startScheduledMonitoring();
@@ -132,6 +151,12 @@ public class SessionMonitorService {
         });
     }
 
+    @PostConstruct
+    public void registerStateChangeListener() {
+        // Any monitoring state transition moves the next deadline
+        monitoringStateService.addStateChangeListener(username -> rearmMonitoring());
+    }
+
     // Delayed initialization to ensure system tray is ready
     private void delayedInitialization() {
         try {
@@ -179,6 +204,11 @@ public class SessionMonitorService {
 
     // Performs periodic sync operations (every 30 minutes) Handles file writing and status cache synchronization
     private void performPeriodicSync() {
+        if (midnightHandler.isRolloverInProgress()) {
+            LoggerUtil.debug(this.getClass(), "Day rollover in progress, skipping periodic sync");
+            return;
+        }
+
         try {
             LoggerUtil.debug(this.getClass(), "Performing periodic sync operations");
 
@@ -275,45 +305,61 @@ public class SessionMonitorService {
         }
     }
 
-    // Starts the scheduled monitoring of user sessions
+    // Starts the deadline driven monitoring of user sessions with a first check shortly after startup
     private void startScheduledMonitoring() {
-        // Cancel any existing task
-        if (monitoringTask != null && !monitoringTask.isCancelled()) {
-            monitoringTask.cancel(false);
-        }
-
-        // Calculate initial delay to align with the next interval mark
-        Duration initialDelay = calculateTimeToNextCheck();
+        armMonitoring(Instant.now().plusMillis(INITIAL_CHECK_DELAY_MS));
+        LoggerUtil.info(this.getClass(), String.format("Scheduled first monitoring check in %d seconds", INITIAL_CHECK_DELAY_MS / 1000));
+    }
 
-        // Schedule the first check
-        monitoringTask = taskScheduler.schedule(this::runAndRescheduleMonitoring, Instant.now().plus(initialDelay));
+    // Re-arms monitoring after a session state transition. The check runs after a short delay so the command that
+    // caused the transition has finished saving; if a check is running it re-arms itself when done.
+    public void rearmMonitoring() {
+        if (!isInitialized) {
+            return;
+        }
+        if (isMonitoringInProgress) {
+            rearmRequested = true;
+            return;
+        }
+        armMonitoring(Instant.now().plusMillis(REARM_DELAY_MS));
+        LoggerUtil.debug(this.getClass(), "Re-armed session monitoring after state transition");
+    }
 
-        LoggerUtil.info(this.getClass(), String.format("Scheduled monitoring task to start in %d minutes and %d seconds", initialDelay.toMinutes(), initialDelay.toSecondsPart()));
+    // Replaces the single pending monitoring timer
+    private synchronized void armMonitoring(Instant runAt) {
+        if (monitoringTask != null && !monitoringTask.isDone()) {
+            monitoringTask.cancel(false);
+        }
+        monitoringTask = taskScheduler.schedule(this::runAndRescheduleMonitoring, runAt);
     }
 
-    // Runs the monitoring task and reschedules for the next check
+    // Runs the monitoring check and arms the timer for the next session deadline
     private void runAndRescheduleMonitoring() {
+        if (midnightHandler.isRolloverInProgress()) {
+            // The rollover resets the session under us - check again once it is done
+            LoggerUtil.debug(this.getClass(), "Day rollover in progress, postponing monitoring check");
+            armMonitoring(Instant.now().plus(ROLLOVER_RETRY_DELAY));
+            return;
+        }
+
         if (isMonitoringInProgress) {
             LoggerUtil.warn(this.getClass(), "Previous monitoring task still in progress, skipping this execution");
-
-            // Still reschedule for next time
-            Duration nextDelay = calculateTimeToNextCheck();
-            monitoringTask = taskScheduler.schedule(this::runAndRescheduleMonitoring, Instant.now().plus(nextDelay));
+            rearmRequested = true;
             return;
         }
 
         isMonitoringInProgress = true;
+        rearmRequested = false;
 
         try {
             // Record task execution in health monitor
             healthMonitor.recordTaskExecution("session-monitor");
 
-            // Run the actual check
-            checkActiveSessions();
-
-            // Always reschedule for the next interval
-            Duration nextDelay = calculateTimeToNextCheck();
-            monitoringTask = taskScheduler.schedule(this::runAndRescheduleMonitoring, Instant.now().plus(nextDelay));
+            // Run the actual check and arm the timer for whatever becomes due next
+            User originalUser = mainDefaultUserContextService.getOriginalUser();
+            WorkUsersSessionsStates session = monitorActiveSession(originalUser);
+            Duration nextDelay = calculateTimeToNextDeadline(session, originalUser);
+            armMonitoring(Instant.now().plus(nextDelay));
 
             LoggerUtil.debug(this.getClass(), String.format("Next monitoring check scheduled in %d minutes and %d seconds", nextDelay.toMinutes(), nextDelay.toSecondsPart()));
         } catch (Exception e) {
@@ -322,27 +368,37 @@ public class SessionMonitorService {
             healthMonitor.recordTaskFailure("session-monitor", e.getMessage());
             // Reschedule anyway to keep the service running even after errors
             Duration retryDelay = Duration.ofMinutes(5); // Shorter retry interval
-            monitoringTask = taskScheduler.schedule(this::runAndRescheduleMonitoring, Instant.now().plus(retryDelay));
+            armMonitoring(Instant.now().plus(retryDelay));
             LoggerUtil.info(this.getClass(), String.format("Rescheduled after error with %d minute retry delay", retryDelay.toMinutes()));
         } finally {
             isMonitoringInProgress = false;
         }
+
+        // A transition arrived while checking - evaluate again with the new state
+        if (rearmRequested) {
+            rearmRequested = false;
+            armMonitoring(Instant.now().plusMillis(REARM_DELAY_MS));
+        }
     }
 
     // Main method for checking active user sessions and triggering notifications. Now focuses only on monitoring, not file I/O
     public void checkActiveSessions() {
+        monitorActiveSession(mainDefaultUserContextService.getOriginalUser());
+    }
+
+    // Checks the original user's session and triggers due notifications. Returns the evaluated session, null if there is none
+    private WorkUsersSessionsStates monitorActiveSession(User originalUser) {
         LoggerUtil.debug(this.getClass(), "Checking active sessions on thread: " + Thread.currentThread().getName());
         if (!isInitialized) {
-            return;
+            return null;
         }
 
         try {
             checkStartDayReminder();
 
-            User originalUser = mainDefaultUserContextService.getOriginalUser();
             if (originalUser == null) {
                 LoggerUtil.debug(this.getClass(), "No original user context for session monitoring");
-                return;
+                return null;
             }
 
             String username = originalUser.getUsername();
@@ -365,7 +421,7 @@ public class SessionMonitorService {
             // Use cache service for active session check
             if (!sessionCacheService.hasActiveSession(username, originalUser.getUserId())) {
                 LoggerUtil.debug(this.getClass(), String.format("No active session found for user: %s", username));
-                return;
+                return session;
             }
 
             // Update calculations in cache-only mode and read back the updated session
@@ -391,8 +447,10 @@ public class SessionMonitorService {
                 // Default to schedule completion check (pass originalUser instead of user)
                 checkScheduleCompletion(session, originalUser);
             }
+            return session;
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), "Error in monitoring: " + e.getMessage(), e);
+            return null;
         }
     }
 
@@ -655,41 +713,92 @@ public class SessionMonitorService {
 
     // ===== UTILITY METHODS =====
 
-    // Calculates time to the next monitoring check based on configured interval
-    private Duration calculateTimeToNextCheck() {
+    // Calculates the delay until the next session event. Never longer than maxIdleInterval.
+    private Duration calculateTimeToNextDeadline(WorkUsersSessionsStates session, User user) {
         LocalDateTime now = getStandardTimeValues().getCurrentTime();
-        LocalDateTime nextCheck;
+        LocalDateTime deadline = now.plusMinutes(maxIdleInterval);
+
+        if (user != null && !user.isAdmin()) {
+            LocalDateTime eventDeadline = isActiveSession(session) && hasActiveSessionToday(session)
+                    ? calculateSessionDeadline(session, user, now)
+                    : calculateStartDayDeadline(session, user.getUsername(), now);
+            deadline = earliest(deadline, eventDeadline);
+
+            // Re-evaluate right after an automatic end so monitoring settles on the ended session
+            LocalDateTime scheduledEnd = monitoringStateService.getScheduledEndTime(user.getUsername());
+            if (scheduledEnd != null && scheduledEnd.isAfter(now)) {
+                deadline = earliest(deadline, scheduledEnd.plusSeconds(DEADLINE_GRACE_SECONDS));
+            }
+        }
 
-        // Use the configured monitoring interval (in minutes) from application properties
-        int monitoringIntervalMinutes = monitoringInterval;
+        Duration delay = Duration.between(now, deadline);
+        return delay.toMillis() < REARM_DELAY_MS ? Duration.ofMillis(REARM_DELAY_MS) : delay;
+    }
 
-        // Calculate next interval mark
-        int minute = now.getMinute();
-        int nextMinute = ((minute / monitoringIntervalMinutes) + 1) * monitoringIntervalMinutes;
+    // Next notification deadline for an active session, following the same dispatch as monitorActiveSession
+    private LocalDateTime calculateSessionDeadline(WorkUsersSessionsStates session, User user, LocalDateTime now) {
+        String username = session.getUsername();
 
-        if (nextMinute >= 60) {
-            // If we need to go to the next hour
-            nextCheck = now.plusHours(1).withMinute(nextMinute % 60).withSecond(0).withNano(0);
-        } else {
-            // Go to the next interval mark in this hour
-            nextCheck = now.withMinute(nextMinute).withSecond(0).withNano(0);
+        if (WorkCode.WORK_TEMPORARY_STOP.equals(session.getSessionStatus())) {
+            LocalDateTime tempStopStart = session.getLastTemporaryStopTime();
+            if (tempStopStart == null || (session.getTotalTemporaryStopMinutes() != null &&
+                    session.getTotalTemporaryStopMinutes() >= WorkCode.MAX_TEMP_STOP_HOURS * WorkCode.HOUR_DURATION)) {
+                return null;
+            }
+            // Temp stop warnings are due on each full interval since the stop started
+            int minutesSinceTempStop = calculationService.calculateMinutesBetween(tempStopStart, now);
+            long nextThreshold = ((long) minutesSinceTempStop / WorkCode.HOURLY_INTERVAL + 1) * WorkCode.HOURLY_INTERVAL;
+            return tempStopStart.plusMinutes(nextThreshold).plusSeconds(DEADLINE_GRACE_SECONDS);
         }
 
-        // Handle special cases for 5:00 AM and 5:00 PM resets
-        LocalDateTime morningReset = now.toLocalDate().atTime(5, 0, 0);
-        LocalDateTime eveningReset = now.toLocalDate().atTime(17, 0, 0);
+        if (MonitoringStateService.MonitoringMode.HOURLY.equals(monitoringStateService.getMonitoringMode(username))) {
+            LocalDateTime lastWarning = monitoringStateService.getLastHourlyWarning(username);
+            if (lastWarning == null) {
+                return null;
+            }
+            LocalDateTime nextWarning = lastWarning.plusMinutes(WorkCode.HOURLY_INTERVAL).plusSeconds(DEADLINE_GRACE_SECONDS);
+            // Already due but the warning could not be shown - retry on the regular cadence
+            return nextWarning.isAfter(now) ? nextWarning : now.plusMinutes(monitoringInterval);
+        }
 
-        // If it's past midnight but before 5:00 AM, check if 5:00 AM is before the next check
-        if (now.getHour() < 5 && morningReset.isAfter(now) && morningReset.isBefore(nextCheck)) {
-            nextCheck = morningReset;
+        if (monitoringStateService.wasScheduleNotificationShown(username)) {
+            return null;
         }
 
-        // If it's between 5:00 AM and 5:00 PM, check if 5:00 PM is before the next check
-        if (now.getHour() >= 5 && now.getHour() < 17 && eveningReset.isAfter(now) && eveningReset.isBefore(nextCheck)) {
-            nextCheck = eveningReset;
+        WorkScheduleQuery query = commandFactory.createWorkScheduleQuery(session.getDayStartTime().toLocalDate(), user.getSchedule());
+        WorkScheduleQuery.ScheduleInfo scheduleInfo = commandService.executeQuery(query);
+        int workedMinutes = session.getTotalWorkedMinutes() != null ? session.getTotalWorkedMinutes() : 0;
+        int remainingMinutes = scheduleInfo.getFullDayDuration() - workedMinutes;
+
+        // Already complete but the notification could not be shown - retry on the regular cadence
+        if (remainingMinutes <= 0) {
+            return now.plusMinutes(monitoringInterval);
         }
+        return now.plusMinutes(remainingMinutes).plusSeconds(DEADLINE_GRACE_SECONDS);
+    }
+
+    // Next start day reminder check when the user has no active session today
+    private LocalDateTime calculateStartDayDeadline(WorkUsersSessionsStates session, String username, LocalDateTime now) {
+        LocalDate today = now.toLocalDate();
+        LocalDateTime nextWorkStart = today.atTime(WorkCode.WORK_START_HOUR, 0);
+        if (!now.isBefore(nextWorkStart)) {
+            nextWorkStart = nextWorkStart.plusDays(1);
+        }
+
+        boolean completedToday = session != null && session.getDayStartTime() != null &&
+                session.getDayStartTime().toLocalDate().equals(today) && Boolean.TRUE.equals(session.getWorkdayCompleted());
+        boolean isWeekday = validationService.execute(validationFactory.createIsWeekdayCommand());
+        boolean isWorkingHours = validationService.execute(validationFactory.createIsWorkingHoursCommand());
+
+        if (!isWeekday || !isWorkingHours || completedToday || monitoringStateService.wasStartDayCheckedToday(username, today)) {
+            return nextWorkStart;
+        }
+        // Reminder still pending (e.g. session status unknown) - keep checking on the regular cadence
+        return now.plusMinutes(monitoringInterval);
+    }
 
-        return Duration.between(now, nextCheck);
+    private static LocalDateTime earliest(LocalDateTime current, LocalDateTime candidate) {
+        return candidate != null && candidate.isBefore(current) ? candidate : current;
     }
 
     // Checks if session has activity today
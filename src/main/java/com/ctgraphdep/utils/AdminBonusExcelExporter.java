@@ -5,23 +5,36 @@ import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
 import org.apache.poi.xssf.usermodel.XSSFColor;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Month;
 import java.util.HashMap;
 import java.util.Map;
 
 @Component
 public class AdminBonusExcelExporter {
-    private Workbook workbook;
 
     public byte[] exportToExcel(Map<Integer, BonusEntryDTO> bonusData, int year, int month) {
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
-            this.workbook = workbook;
-            Sheet sheet = workbook.createSheet("Bonus Report");
-            Map<String, CellStyle> styles = createStyles(workbook);
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            writeToExcel(bonusData, year, month, outputStream);
+            return outputStream.toByteArray();
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error creating Excel export: " + e.getMessage());
+            throw new RuntimeException("Failed to create Excel export", e);
+        }
+    }
+
+    /**
+     * Streams the bonus report to the given output (e.g. the HTTP response).
+     */
+    public void writeToExcel(Map<Integer, BonusEntryDTO> bonusData, int year, int month, OutputStream outputStream) throws IOException {
+        try (StreamingExcelWorkbook excel = new StreamingExcelWorkbook()) {
+            Sheet sheet = excel.createSheet("Bonus Report");
+            Map<String, CellStyle> styles = createStyles(excel.getWorkbook());
 
             int currentRow = 0;
 
@@ -34,17 +47,12 @@ public class AdminBonusExcelExporter {
             currentRow += 2;
 
             // Create data table - pass year and month
-            currentRow = createDataTable(sheet, styles, bonusData, currentRow, year, month);
+            currentRow = createDataTable(sheet, styles, excel.styles(), bonusData, currentRow, year, month);
 
             // Adjust column widths
-            adjustColumnWidths(sheet);
+            adjustColumnWidths(excel, sheet);
 
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            workbook.write(outputStream);
-            return outputStream.toByteArray();
-        } catch (Exception e) {
-            LoggerUtil.error(this.getClass(), "Error creating Excel export: " + e.getMessage());
-            throw new RuntimeException("Failed to create Excel export", e);
+            excel.writeTo(outputStream);
         }
     }
 
@@ -114,7 +122,7 @@ public class AdminBonusExcelExporter {
     }
 
 
-    private int createDataTable(Sheet sheet, Map<String, CellStyle> styles,
+    private int createDataTable(Sheet sheet, Map<String, CellStyle> styles, ExcelStyleRegistry styleRegistry,
                                 Map<Integer, BonusEntryDTO> bonusData, int startRow, int year, int month) {
         // Create table title
         Row tableTitleRow = sheet.createRow(startRow++);
@@ -160,46 +168,30 @@ public class AdminBonusExcelExporter {
             createCell(row, 0, entry.getDisplayName(), baseStyle);
 
             // Number columns with color
-            createCell(row, 1, entry.getEmployeeId(), cloneStyleWithFormat(baseStyle, styles.get("number"), workbook));
-            createCell(row, 2, entry.getEntries(), cloneStyleWithFormat(baseStyle, styles.get("number"), workbook));
-            createCell(row, 3, entry.getArticleNumbers(), cloneStyleWithFormat(baseStyle, styles.get("number"), workbook));
-            createCell(row, 4, entry.getGraphicComplexity(), cloneStyleWithFormat(baseStyle, styles.get("number"), workbook));
-            createCell(row, 5, entry.getMisc(), cloneStyleWithFormat(baseStyle, styles.get("number"), workbook));
-            createCell(row, 6, entry.getWorkedDays(), cloneStyleWithFormat(baseStyle, styles.get("number"), workbook));
+            createCell(row, 1, entry.getEmployeeId(), styleRegistry.withFormat(baseStyle, styles.get("number")));
+            createCell(row, 2, entry.getEntries(), styleRegistry.withFormat(baseStyle, styles.get("number")));
+            createCell(row, 3, entry.getArticleNumbers(), styleRegistry.withFormat(baseStyle, styles.get("number")));
+            createCell(row, 4, entry.getGraphicComplexity(), styleRegistry.withFormat(baseStyle, styles.get("number")));
+            createCell(row, 5, entry.getMisc(), styleRegistry.withFormat(baseStyle, styles.get("number")));
+            createCell(row, 6, entry.getWorkedDays(), styleRegistry.withFormat(baseStyle, styles.get("number")));
 
             // Percentage columns with color
-            createCell(row, 7, entry.getWorkedPercentage() / 100, cloneStyleWithFormat(baseStyle, styles.get("percentage"), workbook));
-            createCell(row, 8, entry.getBonusPercentage() / 100, cloneStyleWithFormat(baseStyle, styles.get("percentage"), workbook));
+            createCell(row, 7, entry.getWorkedPercentage() / 100, styleRegistry.withFormat(baseStyle, styles.get("percentage")));
+            createCell(row, 8, entry.getBonusPercentage() / 100, styleRegistry.withFormat(baseStyle, styles.get("percentage")));
 
             // Currency columns with color
-            createCell(row, 9, entry.getBonusAmount(), cloneStyleWithFormat(baseStyle, styles.get("currency"), workbook));
-            createCell(row, 10, entry.getPreviousMonths().getMonth1(), cloneStyleWithFormat(baseStyle, styles.get("currency"), workbook));
-            createCell(row, 11, entry.getPreviousMonths().getMonth2(), cloneStyleWithFormat(baseStyle, styles.get("currency"), workbook));
-            createCell(row, 12, entry.getPreviousMonths().getMonth3(), cloneStyleWithFormat(baseStyle, styles.get("currency"), workbook));
+            createCell(row, 9, entry.getBonusAmount(), styleRegistry.withFormat(baseStyle, styles.get("currency")));
+            createCell(row, 10, entry.getPreviousMonths().getMonth1(), styleRegistry.withFormat(baseStyle, styles.get("currency")));
+            createCell(row, 11, entry.getPreviousMonths().getMonth2(), styleRegistry.withFormat(baseStyle, styles.get("currency")));
+            createCell(row, 12, entry.getPreviousMonths().getMonth3(), styleRegistry.withFormat(baseStyle, styles.get("currency")));
 
             // Date column with color
-            createCell(row, 13, entry.getCalculationDate(), cloneStyleWithFormat(baseStyle, styles.get("date"), workbook));
+            createCell(row, 13, entry.getCalculationDate(), styleRegistry.withFormat(baseStyle, styles.get("date")));
         }
 
         return startRow;
     }
 
-    // Add this helper method to clone styles while preserving formatting
-    private CellStyle cloneStyleWithFormat(CellStyle colorStyle, CellStyle formatStyle, Workbook workbook) {
-        CellStyle newStyle = workbook.createCellStyle();
-
-        // Copy color properties
-        newStyle.setFillForegroundColor(colorStyle.getFillForegroundColorColor());
-        newStyle.setFillPattern(colorStyle.getFillPattern());
-
-        // Copy formatting properties
-        newStyle.setDataFormat(formatStyle.getDataFormat());
-        newStyle.setAlignment(formatStyle.getAlignment());
-        newStyle.setBorderBottom(formatStyle.getBorderBottom());
-
-        return newStyle;
-    }
-
     private void createCell(Row row, int column, Object value, CellStyle style) {
         Cell cell = row.createCell(column);
         if (value != null) {
@@ -214,23 +206,31 @@ public class AdminBonusExcelExporter {
         cell.setCellStyle(style);
     }
 
-    private void adjustColumnWidths(Sheet sheet) {
-        // Auto-size all columns
-        for (int i = 0; i < 14; i++) {
-            sheet.autoSizeColumn(i);
-        }
-
-        // Set minimum widths for specific columns
-        sheet.setColumnWidth(0, Math.max(sheet.getColumnWidth(0), 20 * 256)); // Name
-        sheet.setColumnWidth(9, Math.max(sheet.getColumnWidth(9), 15 * 256)); // Bonus Amount
-        sheet.setColumnWidth(13, Math.max(sheet.getColumnWidth(13), 25 * 256)); // Calc Date
+    private void adjustColumnWidths(StreamingExcelWorkbook excel, Sheet sheet) {
+        // Measured widths are applied on write; set minimum widths for specific columns
+        excel.setMinimumColumnWidth(sheet, 0, 20); // Name
+        excel.setMinimumColumnWidth(sheet, 9, 15); // Bonus Amount
+        excel.setMinimumColumnWidth(sheet, 13, 25); // Calc Date
     }
 
     public byte[] exportUserToExcel(Map<Integer, BonusEntryDTO> bonusData, int year, int month) {
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
-            this.workbook = workbook;
-            Sheet sheet = workbook.createSheet("Performance Metrics");
-            Map<String, CellStyle> styles = createStyles(workbook);
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            writeUserToExcel(bonusData, year, month, outputStream);
+            return outputStream.toByteArray();
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error creating user Excel export: " + e.getMessage());
+            throw new RuntimeException("Failed to create user Excel export", e);
+        }
+    }
+
+    /**
+     * Streams the performance metrics report to the given output (e.g. the HTTP response).
+     */
+    public void writeUserToExcel(Map<Integer, BonusEntryDTO> bonusData, int year, int month, OutputStream outputStream) throws IOException {
+        try (StreamingExcelWorkbook excel = new StreamingExcelWorkbook()) {
+            Sheet sheet = excel.createSheet("Performance Metrics");
+            Map<String, CellStyle> styles = createStyles(excel.getWorkbook());
 
             int currentRow = 0;
 
@@ -239,23 +239,14 @@ public class AdminBonusExcelExporter {
             currentRow += 2;
 
             // Create data table
-            currentRow = createUserDataTable(sheet, styles, bonusData, currentRow);
+            currentRow = createUserDataTable(sheet, styles, excel.styles(), bonusData, currentRow);
 
-            // Adjust column widths
-            for (int i = 0; i < 10; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            workbook.write(outputStream);
-            return outputStream.toByteArray();
-        } catch (Exception e) {
-            LoggerUtil.error(this.getClass(), "Error creating user Excel export: " + e.getMessage());
-            throw new RuntimeException("Failed to create user Excel export", e);
+            // Column widths are computed from the written data
+            excel.writeTo(outputStream);
         }
     }
 
-    private int createUserDataTable(Sheet sheet, Map<String, CellStyle> styles,
+    private int createUserDataTable(Sheet sheet, Map<String, CellStyle> styles, ExcelStyleRegistry styleRegistry,
                                     Map<Integer, BonusEntryDTO> bonusData, int startRow) {
         // Create table title
         Row tableTitleRow = sheet.createRow(startRow++);
@@ -290,15 +281,15 @@ public class AdminBonusExcelExporter {
 
             // Create cells with appropriate styles
             createCell(row, 0, entry.getDisplayName(), baseStyle);
-            createCell(row, 1, entry.getEmployeeId(), cloneStyleWithFormat(baseStyle, styles.get("number"), workbook));
-            createCell(row, 2, entry.getEntries(), cloneStyleWithFormat(baseStyle, styles.get("number"), workbook));
-            createCell(row, 3, entry.getArticleNumbers(), cloneStyleWithFormat(baseStyle, styles.get("number"), workbook));
-            createCell(row, 4, entry.getGraphicComplexity(), cloneStyleWithFormat(baseStyle, styles.get("number"), workbook));
-            createCell(row, 5, entry.getMisc(), cloneStyleWithFormat(baseStyle, styles.get("number"), workbook));
-            createCell(row, 6, entry.getWorkedDays(), cloneStyleWithFormat(baseStyle, styles.get("number"), workbook));
-            createCell(row, 7, entry.getWorkedPercentage() / 100, cloneStyleWithFormat(baseStyle, styles.get("percentage"), workbook));
-            createCell(row, 8, entry.getBonusPercentage() / 100, cloneStyleWithFormat(baseStyle, styles.get("percentage"), workbook));
-            createCell(row, 9, entry.getCalculationDate(), cloneStyleWithFormat(baseStyle, styles.get("date"), workbook));
+            createCell(row, 1, entry.getEmployeeId(), styleRegistry.withFormat(baseStyle, styles.get("number")));
+            createCell(row, 2, entry.getEntries(), styleRegistry.withFormat(baseStyle, styles.get("number")));
+            createCell(row, 3, entry.getArticleNumbers(), styleRegistry.withFormat(baseStyle, styles.get("number")));
+            createCell(row, 4, entry.getGraphicComplexity(), styleRegistry.withFormat(baseStyle, styles.get("number")));
+            createCell(row, 5, entry.getMisc(), styleRegistry.withFormat(baseStyle, styles.get("number")));
+            createCell(row, 6, entry.getWorkedDays(), styleRegistry.withFormat(baseStyle, styles.get("number")));
+            createCell(row, 7, entry.getWorkedPercentage() / 100, styleRegistry.withFormat(baseStyle, styles.get("percentage")));
+            createCell(row, 8, entry.getBonusPercentage() / 100, styleRegistry.withFormat(baseStyle, styles.get("percentage")));
+            createCell(row, 9, entry.getCalculationDate(), styleRegistry.withFormat(baseStyle, styles.get("date")));
         }
 
         return startRow;
@@ -375,9 +366,8 @@ public class AdminBonusExcelExporter {
         dateStyle.setAlignment(HorizontalAlignment.CENTER);
         styles.put("date", dateStyle);
 
-        XSSFWorkbook xssfWorkbook = (XSSFWorkbook) workbook;
 // High entries - Light blue
-        XSSFCellStyle highEntriesStyle = xssfWorkbook.createCellStyle();
+        XSSFCellStyle highEntriesStyle = (XSSFCellStyle) workbook.createCellStyle();
         highEntriesStyle.cloneStyleFrom(styles.get("text"));
         XSSFColor lightBlue = new XSSFColor(new byte[]{(byte)208, (byte)227, (byte)255}, null);
         highEntriesStyle.setFillForegroundColor(lightBlue);
@@ -385,7 +375,7 @@ public class AdminBonusExcelExporter {
         styles.put("high-entries", highEntriesStyle);
 
 // Medium entries - Light orange
-        XSSFCellStyle mediumEntriesStyle = xssfWorkbook.createCellStyle();
+        XSSFCellStyle mediumEntriesStyle = (XSSFCellStyle) workbook.createCellStyle();
         mediumEntriesStyle.cloneStyleFrom(styles.get("text"));
         XSSFColor lightOrange = new XSSFColor(new byte[]{(byte)255, (byte)228, (byte)196}, null);
         mediumEntriesStyle.setFillForegroundColor(lightOrange);
@@ -393,7 +383,7 @@ public class AdminBonusExcelExporter {
         styles.put("medium-entries", mediumEntriesStyle);
 
 // Low entries - Light red
-        XSSFCellStyle lowEntriesStyle = xssfWorkbook.createCellStyle();
+        XSSFCellStyle lowEntriesStyle = (XSSFCellStyle) workbook.createCellStyle();
         lowEntriesStyle.cloneStyleFrom(styles.get("text"));
         XSSFColor lightRed = new XSSFColor(new byte[]{(byte)255, (byte)204, (byte)204}, null);
         lowEntriesStyle.setFillForegroundColor(lightRed);
@@ -5,10 +5,11 @@ import com.ctgraphdep.model.*;
 import com.ctgraphdep.model.dto.bonus.BonusCalculationResultDTO;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
 
 @Component
@@ -16,10 +17,26 @@ public class AdminRegisterExcelExporter {
 
     public byte[] exportToExcel(User user, List<RegisterEntry> entries, BonusConfiguration bonusConfig,
                                 BonusCalculationResultDTO bonusResult, int year, int month) {
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            writeToExcel(user, entries, bonusConfig, bonusResult, year, month, outputStream);
+            return outputStream.toByteArray();
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error creating Excel file", e);
+            throw new RuntimeException("Failed to export Excel file", e);
+        }
+    }
+
+    /**
+     * Streams the report to the given output (e.g. the HTTP response) without keeping all rows in memory.
+     */
+    public void writeToExcel(User user, List<RegisterEntry> entries, BonusConfiguration bonusConfig,
+                             BonusCalculationResultDTO bonusResult, int year, int month,
+                             OutputStream outputStream) throws IOException {
+        try (StreamingExcelWorkbook excel = new StreamingExcelWorkbook()) {
             LoggerUtil.info(this.getClass(), "Creating Excel export for " + entries.size() + " entries");
-            Sheet sheet = workbook.createSheet("Register Report");
-            Map<String, CellStyle> styles = createStyles(workbook);
+            Sheet sheet = excel.createSheet("Register Report");
+            Map<String, CellStyle> styles = createStyles(excel.getWorkbook());
 
             int currentRow = 0;
 
@@ -44,15 +61,8 @@ public class AdminRegisterExcelExporter {
             // Register Entries Table Section
             currentRow = createRegisterEntriesSection(sheet, styles, entries, currentRow);
 
-            // Autosize columns
-            for (int i = 0; i < 12; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
-            return writeToByteArray(workbook);
-        } catch (Exception e) {
-            LoggerUtil.error(this.getClass(), "Error creating Excel file", e);
-            throw new RuntimeException("Failed to export Excel file", e);
+            // Column widths are computed from the written data
+            excel.writeTo(outputStream);
         }
     }
 
@@ -290,10 +300,4 @@ public class AdminRegisterExcelExporter {
 
         return styles;
     }
-
-    private byte[] writeToByteArray(XSSFWorkbook workbook) throws Exception {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        return outputStream.toByteArray();
-    }
 }
\ No newline at end of file
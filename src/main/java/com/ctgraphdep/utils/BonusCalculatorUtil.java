@@ -1,5 +1,7 @@
 package com.ctgraphdep.utils;
 
+import com.ctgraphdep.model.RegisterMonthColumns;
+import com.ctgraphdep.model.dto.RegisterSummaryDTO;
 import com.ctgraphdep.model.dto.bonus.BonusCalculationResultDTO;
 import com.ctgraphdep.model.BonusConfiguration;
 import org.springframework.stereotype.Component;
@@ -108,6 +110,150 @@ public class BonusCalculatorUtil {
                 .build();
     }
 
+    // ========================================================================
+    // COLUMN KERNELS - same formulas as above, for every user of a month at once
+    // ========================================================================
+
+    /**
+     * Per-user count and sums of bonus-eligible entries, in one pass over the columns.
+     * Index i of every array belongs to columns.getUserIds()[i].
+     */
+    public SegmentTotals sumEligibleEntries(RegisterMonthColumns columns) {
+        int users = columns.userCount();
+        int[] segmentStart = columns.getSegmentStart();
+        int[] articleNumbers = columns.getArticleNumbers();
+        double[] graphicComplexity = columns.getGraphicComplexity();
+        byte[] actionTypeCodes = columns.getActionTypeCodes();
+        boolean[] eligible = RegisterMonthColumns.bonusEligibleCodes();
+
+        int[] entries = new int[users];
+        double[] sumArticleNumbers = new double[users];
+        double[] sumComplexity = new double[users];
+
+        for (int user = 0; user < users; user++) {
+            int count = 0;
+            long articles = 0;
+            double complexity = 0.0;
+            for (int i = segmentStart[user], end = segmentStart[user + 1]; i < end; i++) {
+                byte code = actionTypeCodes[i];
+                if (code >= 0 && eligible[code]) {
+                    count++;
+                    articles += articleNumbers[i];
+                    complexity += graphicComplexity[i];
+                }
+            }
+            entries[user] = count;
+            sumArticleNumbers[user] = articles;
+            sumComplexity[user] = complexity;
+        }
+
+        return new SegmentTotals(entries, sumArticleNumbers, sumComplexity);
+    }
+
+    public double[] calculateEntriesComponents(int[] numberOfEntries, int[] workedDays, double entriesPercentage) {
+        entriesPercentage = validatePercentageAndGetDefault(entriesPercentage);
+        double[] result = new double[numberOfEntries.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = workedDays[i] > 0 ? ((double) numberOfEntries[i] / workedDays[i]) * entriesPercentage : 0.0;
+        }
+        return result;
+    }
+
+    public double[] calculateArticlesComponents(double[] sumArticleNumbers, int[] numberOfEntries, double articlesPercentage) {
+        return averageComponents(sumArticleNumbers, numberOfEntries, validatePercentageAndGetDefault(articlesPercentage));
+    }
+
+    public double[] calculateComplexityComponents(double[] sumComplexity, int[] numberOfEntries, double complexityPercentage) {
+        return averageComponents(sumComplexity, numberOfEntries, validatePercentageAndGetDefault(complexityPercentage));
+    }
+
+    /**
+     * Bonus results for every user of the month; equivalent to calling calculateBonus per user.
+     *
+     * @param workedDays Worked days per user, aligned with columns.getUserIds()
+     */
+    public BonusCalculationResultDTO[] calculateBonuses(RegisterMonthColumns columns, int[] workedDays, BonusConfiguration config) {
+        SegmentTotals totals = sumEligibleEntries(columns);
+        int users = columns.userCount();
+        BonusCalculationResultDTO[] results = new BonusCalculationResultDTO[users];
+
+        if (config == null || config.notValid()) {
+            LoggerUtil.error(this.getClass(), "Bonus calculation failed: configuration is null or invalid");
+            double miscValue = config != null ? config.getMiscValue() : 0;
+            for (int i = 0; i < users; i++) {
+                results[i] = config != null ? emptyResultFromTotals(totals, i, miscValue) : createEmptyBonusResult(0, 0, 0, 0);
+            }
+            return results;
+        }
+
+        double[] entriesResult = calculateEntriesComponents(totals.entries(), workedDays, config.getEntriesPercentage());
+        double[] articlesResult = calculateArticlesComponents(totals.sumArticleNumbers(), totals.entries(), config.getArticlesPercentage());
+        double[] complexityResult = calculateComplexityComponents(totals.sumComplexity(), totals.entries(), config.getComplexityPercentage());
+        double miscResult = calculateMiscComponent(config.getMiscValue(), config.getMiscPercentage());
+
+        for (int i = 0; i < users; i++) {
+            if (workedDays[i] <= 0) {
+                results[i] = emptyResultFromTotals(totals, i, config.getMiscValue());
+                continue;
+            }
+
+            int numberOfEntries = totals.entries()[i];
+            double workedPercentage = entriesResult[i] + articlesResult[i] + complexityResult[i] + miscResult;
+            double bonusPercentage = workedPercentage - config.getNormValue();
+
+            results[i] = BonusCalculationResultDTO.builder()
+                    .entries(numberOfEntries)
+                    .articleNumbers(numberOfEntries > 0 ? totals.sumArticleNumbers()[i] / numberOfEntries : 0)
+                    .graphicComplexity(numberOfEntries > 0 ? totals.sumComplexity()[i] / numberOfEntries : 0)
+                    .misc(config.getMiscValue())
+                    .workedDays(workedDays[i])
+                    .workedPercentage(workedPercentage)
+                    .bonusPercentage(bonusPercentage)
+                    .bonusAmount(bonusPercentage * config.getSumValue())
+                    .build();
+        }
+        return results;
+    }
+
+    /**
+     * Register summaries (eligible entry count and averages) for every user of the month.
+     */
+    public RegisterSummaryDTO[] calculateRegisterSummaries(RegisterMonthColumns columns) {
+        SegmentTotals totals = sumEligibleEntries(columns);
+        RegisterSummaryDTO[] summaries = new RegisterSummaryDTO[columns.userCount()];
+        for (int i = 0; i < summaries.length; i++) {
+            int numberOfEntries = totals.entries()[i];
+            summaries[i] = RegisterSummaryDTO.builder()
+                    .totalEntries(numberOfEntries)
+                    .averageArticleNumbers(numberOfEntries > 0 ? totals.sumArticleNumbers()[i] / numberOfEntries : 0.0)
+                    .averageGraphicComplexity(numberOfEntries > 0 ? totals.sumComplexity()[i] / numberOfEntries : 0.0)
+                    .build();
+        }
+        return summaries;
+    }
+
+    private double[] averageComponents(double[] sums, int[] numberOfEntries, double percentage) {
+        double[] result = new double[sums.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = numberOfEntries[i] > 0 ? (sums[i] / numberOfEntries[i]) * percentage : 0.0;
+        }
+        return result;
+    }
+
+    private BonusCalculationResultDTO emptyResultFromTotals(SegmentTotals totals, int index, double miscValue) {
+        int numberOfEntries = totals.entries()[index];
+        return createEmptyBonusResult(numberOfEntries,
+                numberOfEntries > 0 ? totals.sumArticleNumbers()[index] / numberOfEntries : 0,
+                numberOfEntries > 0 ? totals.sumComplexity()[index] / numberOfEntries : 0,
+                miscValue);
+    }
+
+    /**
+     * Per-user totals of bonus-eligible entries, aligned with RegisterMonthColumns.getUserIds().
+     */
+    public record SegmentTotals(int[] entries, double[] sumArticleNumbers, double[] sumComplexity) {
+    }
+
     // Helper method to create empty bonus result
     private BonusCalculationResultDTO createEmptyBonusResult(int entries, double articleNumbers,
                                                              double graphicComplexity, double miscValue) {
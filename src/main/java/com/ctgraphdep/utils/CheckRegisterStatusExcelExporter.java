@@ -4,10 +4,11 @@ import com.ctgraphdep.model.RegisterCheckEntry;
 import com.ctgraphdep.model.User;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Month;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -29,11 +30,31 @@ public class CheckRegisterStatusExcelExporter {
      * @return Byte array containing the Excel file
      */
     public byte[] exportToExcel(User user, List<RegisterCheckEntry> entries, int year, int month) {
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            writeToExcel(user, entries, year, month, outputStream);
+            return outputStream.toByteArray();
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error creating Excel export: " + e.getMessage(), e);
+            return new byte[0]; // Return empty array on error
+        }
+    }
+
+    /**
+     * Stream check register entries to Excel (e.g. directly to the HTTP response).
+     * Rows are flushed as they are written, so memory does not grow with the entry count.
+     * @param user The user whose check register is being exported
+     * @param entries The check register entries to export
+     * @param year The year of the report
+     * @param month The month of the report
+     * @param outputStream Destination of the Excel file; not closed
+     */
+    public void writeToExcel(User user, List<RegisterCheckEntry> entries, int year, int month, OutputStream outputStream) throws IOException {
+        try (StreamingExcelWorkbook excel = new StreamingExcelWorkbook()) {
             LoggerUtil.info(this.getClass(), "Creating status check register Excel export for " + entries.size() + " entries");
 
-            Sheet sheet = workbook.createSheet("Check Register View");
-            Map<String, CellStyle> styles = createStyles(workbook);
+            Sheet sheet = excel.createSheet("Check Register View");
+            Map<String, CellStyle> styles = createStyles(excel.getWorkbook());
 
             int rowNum = 0;
 
@@ -52,17 +73,8 @@ public class CheckRegisterStatusExcelExporter {
             // Create entries table that matches the status view columns
             createEntriesTable(sheet, styles, entries, rowNum);
 
-            // Auto-size columns for better readability
-            for (int i = 0; i < 13; i++) { // We have 13 columns in the status view
-                sheet.autoSizeColumn(i);
-            }
-
-            // Write to byte array
-            return writeToByteArray(workbook);
-
-        } catch (Exception e) {
-            LoggerUtil.error(this.getClass(), "Error creating Excel export: " + e.getMessage(), e);
-            return new byte[0]; // Return empty array on error
+            // Column widths are computed from the written data
+            excel.writeTo(outputStream);
         }
     }
 
@@ -542,13 +554,4 @@ public class CheckRegisterStatusExcelExporter {
         style.setBorderRight(BorderStyle.THIN);
         styles.put(styleName, style);
     }
-
-    /**
-     * Write workbook to byte array
-     */
-    private byte[] writeToByteArray(XSSFWorkbook workbook) throws Exception {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        return outputStream.toByteArray();
-    }
 }
\ No newline at end of file
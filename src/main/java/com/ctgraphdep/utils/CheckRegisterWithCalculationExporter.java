@@ -5,10 +5,11 @@ import com.ctgraphdep.model.RegisterCheckEntry;
 import com.ctgraphdep.model.User;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Month;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -35,33 +36,51 @@ public class CheckRegisterWithCalculationExporter {
      */
     public byte[] exportToExcel(User user, List<RegisterCheckEntry> entries,
                                 CheckValuesEntry checkValues, int year, int month) {
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            writeToExcel(user, entries, checkValues, year, month, outputStream);
+            return outputStream.toByteArray();
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error creating Excel export: " + e.getMessage(), e);
+            return new byte[0];
+        }
+    }
+
+    /**
+     * Stream the Registry and Calculation sheets to the given output (e.g. the HTTP response)
+     *
+     * @param user The user whose check register is being exported
+     * @param entries The check register entries to export
+     * @param checkValues The check values for this user (contains points/values)
+     * @param year The year of the report
+     * @param month The month of the report
+     * @param outputStream Destination of the Excel file; not closed
+     */
+    public void writeToExcel(User user, List<RegisterCheckEntry> entries, CheckValuesEntry checkValues,
+                             int year, int month, OutputStream outputStream) throws IOException {
+        try (StreamingExcelWorkbook excel = new StreamingExcelWorkbook()) {
             LoggerUtil.info(this.getClass(), "Creating check register Excel export with calculation sheet for " +
                     entries.size() + " entries");
 
-            Map<String, CellStyle> styles = createStyles(workbook);
+            Map<String, CellStyle> styles = createStyles(excel.getWorkbook());
 
             // Create Sheet 1: Registry
-            createRegistrySheet(workbook, styles, user, entries, year, month);
+            createRegistrySheet(excel, styles, user, entries, year, month);
 
             // Create Sheet 2: Calculation
-            createCalculationSheet(workbook, styles, user, entries, checkValues, year, month);
+            createCalculationSheet(excel, styles, user, entries, checkValues, year, month);
 
-            // Write to byte array
-            return writeToByteArray(workbook);
-
-        } catch (Exception e) {
-            LoggerUtil.error(this.getClass(), "Error creating Excel export: " + e.getMessage(), e);
-            return new byte[0];
+            // Column widths are computed from the written data
+            excel.writeTo(outputStream);
         }
     }
 
     /**
      * Create the Registry sheet with all entry data
      */
-    private void createRegistrySheet(XSSFWorkbook workbook, Map<String, CellStyle> styles,
+    private void createRegistrySheet(StreamingExcelWorkbook excel, Map<String, CellStyle> styles,
                                      User user, List<RegisterCheckEntry> entries, int year, int month) {
-        Sheet sheet = workbook.createSheet("Registry");
+        Sheet sheet = excel.createSheet("Registry");
         int rowNum = 0;
 
         // Title section
@@ -79,8 +98,8 @@ public class CheckRegisterWithCalculationExporter {
             Cell cell = headerRow.createCell(i);
             cell.setCellValue(headers[i]);
             cell.setCellStyle(styles.get("header-green"));
-            // Set column width to triple (default ~10 units, so 30)
-            sheet.setColumnWidth(i, 30 * 256);
+            // Column width at least triple (default ~10 units, so 30)
+            excel.setMinimumColumnWidth(sheet, i, 30);
         }
 
         // Line 3: Info row with detailed descriptions
@@ -171,20 +190,15 @@ public class CheckRegisterWithCalculationExporter {
             nameNumberCell.setCellValue("");
             nameNumberCell.setCellStyle(styles.get("cell-center"));
         }
-
-        // Auto-size columns
-        for (int i = 0; i < headers.length; i++) {
-            sheet.autoSizeColumn(i);
-        }
     }
 
     /**
      * Create the Calculation sheet with formulas and summaries
      */
-    private void createCalculationSheet(XSSFWorkbook workbook, Map<String, CellStyle> styles,
+    private void createCalculationSheet(StreamingExcelWorkbook excel, Map<String, CellStyle> styles,
                                        User user, List<RegisterCheckEntry> entries,
                                        CheckValuesEntry checkValues, int year, int month) {
-        Sheet sheet = workbook.createSheet("Calculation");
+        Sheet sheet = excel.createSheet("Calculation");
         int rowNum = 0;
 
         // Title section
@@ -199,11 +213,6 @@ public class CheckRegisterWithCalculationExporter {
 
         // Productivity settings section
         rowNum = createProductivitySection(sheet, styles, checkValues, rowNum);
-
-        // Auto-size columns
-        for (int i = 0; i < 6; i++) {
-            sheet.autoSizeColumn(i);
-        }
     }
 
     /**
@@ -680,15 +689,6 @@ public class CheckRegisterWithCalculationExporter {
         styles.put(styleName, style);
     }
 
-    /**
-     * Write workbook to byte array
-     */
-    private byte[] writeToByteArray(XSSFWorkbook workbook) throws Exception {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        return outputStream.toByteArray();
-    }
-
     /**
      * Extract first name from full name
      * For example: "Oana Radu" -> "Oana"
@@ -0,0 +1,67 @@
+package com.ctgraphdep.utils;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Per-workbook cache of cell styles.
+ * Excel limits a workbook to ~64000 styles and every createCellStyle call adds one, so
+ * styles derived while writing rows must come from here instead of being created per cell.
+ */
+public class ExcelStyleRegistry {
+
+    private static final short DEFAULT_FONT_HEIGHT = 11;
+
+    private final Workbook workbook;
+    private final Map<String, CellStyle> styles = new HashMap<>();
+    private final Map<Integer, Double> fontScales = new HashMap<>();
+
+    public ExcelStyleRegistry(Workbook workbook) {
+        this.workbook = workbook;
+    }
+
+    /**
+     * Returns the style registered under the key, creating it on first use.
+     */
+    public CellStyle getOrCreate(String key, Function<Workbook, CellStyle> factory) {
+        return styles.computeIfAbsent(key, k -> factory.apply(workbook));
+    }
+
+    /**
+     * Style with the fill of colorStyle and the number format, alignment and bottom border of formatStyle.
+     * Created once per combination and reused for every row.
+     */
+    public CellStyle withFormat(CellStyle colorStyle, CellStyle formatStyle) {
+        String key = "derived:" + colorStyle.getIndex() + ":" + formatStyle.getIndex();
+        return getOrCreate(key, wb -> {
+            CellStyle style = wb.createCellStyle();
+
+            // Copy color properties
+            style.setFillForegroundColor(colorStyle.getFillForegroundColorColor());
+            style.setFillPattern(colorStyle.getFillPattern());
+
+            // Copy formatting properties
+            style.setDataFormat(formatStyle.getDataFormat());
+            style.setAlignment(formatStyle.getAlignment());
+            style.setBorderBottom(formatStyle.getBorderBottom());
+            return style;
+        });
+    }
+
+    /**
+     * Width factor of the style's font relative to the default 11pt regular font.
+     * Used by the streaming engine when estimating column widths.
+     */
+    double getFontScale(CellStyle style) {
+        return fontScales.computeIfAbsent(style.getFontIndex(), index -> {
+            Font font = workbook.getFontAt(index);
+            double scale = (double) font.getFontHeightInPoints() / DEFAULT_FONT_HEIGHT;
+            return font.getBold() ? scale * 1.1 : scale;
+        });
+    }
+}
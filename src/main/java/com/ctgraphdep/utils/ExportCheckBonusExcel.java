@@ -5,10 +5,11 @@ import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
 import org.apache.poi.xssf.usermodel.XSSFColor;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Month;
 import java.util.HashMap;
 import java.util.List;
@@ -16,7 +17,6 @@ import java.util.Map;
 
 @Component
 public class ExportCheckBonusExcel {
-    private Workbook workbook;
 
     /**
      * Export bonus data to Excel (Admin version with bonus amounts)
@@ -37,10 +37,25 @@ public class ExportCheckBonusExcel {
      * @param hideBonus if true, hides the bonus amount column (for user export)
      */
     private byte[] exportToExcel(List<CheckBonusEntry> bonusData, int year, int month, boolean hideBonus) {
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
-            this.workbook = workbook;
-            Sheet sheet = workbook.createSheet("Check Bonus Report");
-            Map<String, CellStyle> styles = createStyles(workbook);
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            writeToExcel(bonusData, year, month, hideBonus, outputStream);
+            return outputStream.toByteArray();
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error creating Excel export: " + e.getMessage());
+            throw new RuntimeException("Failed to create Excel export", e);
+        }
+    }
+
+    /**
+     * Stream bonus data to Excel (e.g. directly to the HTTP response)
+     * @param hideBonus if true, hides the bonus amount column (for user export)
+     */
+    public void writeToExcel(List<CheckBonusEntry> bonusData, int year, int month, boolean hideBonus,
+                             OutputStream outputStream) throws IOException {
+        try (StreamingExcelWorkbook excel = new StreamingExcelWorkbook()) {
+            Sheet sheet = excel.createSheet("Check Bonus Report");
+            Map<String, CellStyle> styles = createStyles(excel.getWorkbook());
 
             int currentRow = 0;
 
@@ -55,17 +70,12 @@ public class ExportCheckBonusExcel {
             }
 
             // Create data table
-            currentRow = createDataTable(sheet, styles, bonusData, currentRow, hideBonus);
+            currentRow = createDataTable(sheet, styles, excel.styles(), bonusData, currentRow, hideBonus);
 
-            // Adjust column widths
-            adjustColumnWidths(sheet, hideBonus);
+            // Column widths are computed from the written data, with a bit of padding
+            excel.setColumnPadding(sheet, 6);
 
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            workbook.write(outputStream);
-            return outputStream.toByteArray();
-        } catch (Exception e) {
-            LoggerUtil.error(this.getClass(), "Error creating Excel export: " + e.getMessage());
-            throw new RuntimeException("Failed to create Excel export", e);
+            excel.writeTo(outputStream);
         }
     }
 
@@ -142,7 +152,7 @@ public class ExportCheckBonusExcel {
         }
     }
 
-    private int createDataTable(Sheet sheet, Map<String, CellStyle> styles,
+    private int createDataTable(Sheet sheet, Map<String, CellStyle> styles, ExcelStyleRegistry styleRegistry,
                                 List<CheckBonusEntry> bonusData, int startRow, boolean hideBonus) {
         // Create table title
         Row tableTitleRow = sheet.createRow(startRow++);
@@ -182,9 +192,9 @@ public class ExportCheckBonusExcel {
                 baseStyle = styles.get("lowEfficiency");
             }
 
-            CellStyle numberStyle = createNumberStyleWithBackground(baseStyle);
-            CellStyle currencyStyle = createCurrencyStyleWithBackground(baseStyle);
-            CellStyle percentStyle = createPercentStyleWithBackground(baseStyle);
+            CellStyle numberStyle = createNumberStyleWithBackground(styleRegistry, baseStyle);
+            CellStyle currencyStyle = createCurrencyStyleWithBackground(styleRegistry, baseStyle);
+            CellStyle percentStyle = createPercentStyleWithBackground(styleRegistry, baseStyle);
 
             int colNum = 0;
 
@@ -229,20 +239,11 @@ public class ExportCheckBonusExcel {
         return startRow;
     }
 
-    private void adjustColumnWidths(Sheet sheet, boolean hideBonus) {
-        int numColumns = hideBonus ? 6 : 7;
-        for (int i = 0; i < numColumns; i++) {
-            sheet.autoSizeColumn(i);
-            // Add a bit of padding
-            sheet.setColumnWidth(i, sheet.getColumnWidth(i) + 1000);
-        }
-    }
-
-    private Map<String, CellStyle> createStyles(XSSFWorkbook workbook) {
+    private Map<String, CellStyle> createStyles(Workbook workbook) {
         Map<String, CellStyle> styles = new HashMap<>();
 
         // Title style
-        XSSFCellStyle titleStyle = workbook.createCellStyle();
+        XSSFCellStyle titleStyle = (XSSFCellStyle) workbook.createCellStyle();
         Font titleFont = workbook.createFont();
         titleFont.setBold(true);
         titleFont.setFontHeightInPoints((short) 16);
@@ -255,7 +256,7 @@ public class ExportCheckBonusExcel {
         styles.put("title", titleStyle);
 
         // Sub-header style
-        XSSFCellStyle subHeaderStyle = workbook.createCellStyle();
+        XSSFCellStyle subHeaderStyle = (XSSFCellStyle) workbook.createCellStyle();
         Font subHeaderFont = workbook.createFont();
         subHeaderFont.setBold(true);
         subHeaderFont.setFontHeightInPoints((short) 12);
@@ -265,7 +266,7 @@ public class ExportCheckBonusExcel {
         styles.put("subHeader", subHeaderStyle);
 
         // Column header style
-        XSSFCellStyle columnHeaderStyle = workbook.createCellStyle();
+        XSSFCellStyle columnHeaderStyle = (XSSFCellStyle) workbook.createCellStyle();
         Font headerFont = workbook.createFont();
         headerFont.setBold(true);
         columnHeaderStyle.setFont(headerFont);
@@ -296,7 +297,7 @@ public class ExportCheckBonusExcel {
         styles.put("currency", currencyStyle);
 
         // High efficiency style (green)
-        XSSFCellStyle highEfficiencyStyle = workbook.createCellStyle();
+        XSSFCellStyle highEfficiencyStyle = (XSSFCellStyle) workbook.createCellStyle();
         highEfficiencyStyle.setFillForegroundColor(new XSSFColor(new byte[]{(byte)198, (byte)239, (byte)206}, null));
         highEfficiencyStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
         highEfficiencyStyle.setBorderBottom(BorderStyle.THIN);
@@ -306,7 +307,7 @@ public class ExportCheckBonusExcel {
         styles.put("highEfficiency", highEfficiencyStyle);
 
         // Medium efficiency style (yellow)
-        XSSFCellStyle mediumEfficiencyStyle = workbook.createCellStyle();
+        XSSFCellStyle mediumEfficiencyStyle = (XSSFCellStyle) workbook.createCellStyle();
         mediumEfficiencyStyle.setFillForegroundColor(new XSSFColor(new byte[]{(byte)255, (byte)235, (byte)156}, null));
         mediumEfficiencyStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
         mediumEfficiencyStyle.setBorderBottom(BorderStyle.THIN);
@@ -316,7 +317,7 @@ public class ExportCheckBonusExcel {
         styles.put("mediumEfficiency", mediumEfficiencyStyle);
 
         // Low efficiency style (red)
-        XSSFCellStyle lowEfficiencyStyle = workbook.createCellStyle();
+        XSSFCellStyle lowEfficiencyStyle = (XSSFCellStyle) workbook.createCellStyle();
         lowEfficiencyStyle.setFillForegroundColor(new XSSFColor(new byte[]{(byte)255, (byte)199, (byte)206}, null));
         lowEfficiencyStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
         lowEfficiencyStyle.setBorderBottom(BorderStyle.THIN);
@@ -328,27 +329,34 @@ public class ExportCheckBonusExcel {
         return styles;
     }
 
-    private CellStyle createNumberStyleWithBackground(CellStyle baseStyle) {
-        XSSFCellStyle style = (XSSFCellStyle) workbook.createCellStyle();
-        style.cloneStyleFrom(baseStyle);
-        style.setDataFormat(workbook.createDataFormat().getFormat("0.00"));
-        style.setAlignment(HorizontalAlignment.RIGHT);
-        return style;
+    // Row styles are shared per efficiency level instead of being created for every row
+    private CellStyle createNumberStyleWithBackground(ExcelStyleRegistry styleRegistry, CellStyle baseStyle) {
+        return styleRegistry.getOrCreate("number:" + baseStyle.getIndex(), workbook -> {
+            CellStyle style = workbook.createCellStyle();
+            style.cloneStyleFrom(baseStyle);
+            style.setDataFormat(workbook.createDataFormat().getFormat("0.00"));
+            style.setAlignment(HorizontalAlignment.RIGHT);
+            return style;
+        });
     }
 
-    private CellStyle createCurrencyStyleWithBackground(CellStyle baseStyle) {
-        XSSFCellStyle style = (XSSFCellStyle) workbook.createCellStyle();
-        style.cloneStyleFrom(baseStyle);
-        style.setDataFormat(workbook.createDataFormat().getFormat("#,##0.00"));
-        style.setAlignment(HorizontalAlignment.RIGHT);
-        return style;
+    private CellStyle createCurrencyStyleWithBackground(ExcelStyleRegistry styleRegistry, CellStyle baseStyle) {
+        return styleRegistry.getOrCreate("currency:" + baseStyle.getIndex(), workbook -> {
+            CellStyle style = workbook.createCellStyle();
+            style.cloneStyleFrom(baseStyle);
+            style.setDataFormat(workbook.createDataFormat().getFormat("#,##0.00"));
+            style.setAlignment(HorizontalAlignment.RIGHT);
+            return style;
+        });
     }
 
-    private CellStyle createPercentStyleWithBackground(CellStyle baseStyle) {
-        XSSFCellStyle style = (XSSFCellStyle) workbook.createCellStyle();
-        style.cloneStyleFrom(baseStyle);
-        style.setDataFormat(workbook.createDataFormat().getFormat("0\"%\""));
-        style.setAlignment(HorizontalAlignment.CENTER);
-        return style;
+    private CellStyle createPercentStyleWithBackground(ExcelStyleRegistry styleRegistry, CellStyle baseStyle) {
+        return styleRegistry.getOrCreate("percent:" + baseStyle.getIndex(), workbook -> {
+            CellStyle style = workbook.createCellStyle();
+            style.cloneStyleFrom(baseStyle);
+            style.setDataFormat(workbook.createDataFormat().getFormat("0\"%\""));
+            style.setAlignment(HorizontalAlignment.CENTER);
+            return style;
+        });
     }
 }
\ No newline at end of file
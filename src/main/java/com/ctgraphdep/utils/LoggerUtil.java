@@ -3,14 +3,40 @@ package com.ctgraphdep.utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.function.Supplier;
+
+/**
+ * Static logging facade used across the application.
+ * Loggers are resolved once per class and cached. The parameterized ({} placeholders) and supplier
+ * overloads only build the message when the level is enabled, so hot paths should use them
+ * instead of String.format / concatenation.
+ */
 public final class LoggerUtil {
 
+    private static final ClassValue<Logger> LOGGERS = new ClassValue<>() {
+        @Override
+        protected Logger computeValue(Class<?> type) {
+            return LoggerFactory.getLogger(type);
+        }
+    };
+
     private LoggerUtil() {
         // Private constructor to prevent instantiation
     }
 
+    public static Logger getLogger(Class<?> clazz) {
+        return LOGGERS.get(clazz);
+    }
+
+    public static boolean isDebugEnabled(Class<?> clazz) {
+        return LOGGERS.get(clazz).isDebugEnabled();
+    }
+
     public static void initialize(Class<?> clazz, String additionalInfo) {
-        Logger logger = LoggerFactory.getLogger(clazz);
+        Logger logger = LOGGERS.get(clazz);
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
         String message = "Initializing " + clazz.getSimpleName();
         if (additionalInfo != null && !additionalInfo.isEmpty()) {
             message += ": " + additionalInfo;
@@ -18,28 +44,104 @@ public final class LoggerUtil {
         logger.info(message);
     }
 
+    // ========================================================================
+    // INFO
+    // ========================================================================
+
     public static void info(Class<?> clazz, String message) {
-        LoggerFactory.getLogger(clazz).info(message);
+        LOGGERS.get(clazz).info(message);
+    }
+
+    public static void info(Class<?> clazz, String format, Object arg) {
+        LOGGERS.get(clazz).info(format, arg);
+    }
+
+    public static void info(Class<?> clazz, String format, Object arg1, Object arg2) {
+        LOGGERS.get(clazz).info(format, arg1, arg2);
+    }
+
+    public static void info(Class<?> clazz, String format, Object... args) {
+        LOGGERS.get(clazz).info(format, args);
     }
 
+    public static void info(Class<?> clazz, Supplier<String> message) {
+        Logger logger = LOGGERS.get(clazz);
+        if (logger.isInfoEnabled()) {
+            logger.info(message.get());
+        }
+    }
+
+    // ========================================================================
+    // WARN
+    // ========================================================================
+
     public static void warn(Class<?> clazz, String message) {
-        LoggerFactory.getLogger(clazz).warn(message);
+        LOGGERS.get(clazz).warn(message);
+    }
+
+    public static void warn(Class<?> clazz, String format, Object arg) {
+        LOGGERS.get(clazz).warn(format, arg);
+    }
+
+    public static void warn(Class<?> clazz, String format, Object arg1, Object arg2) {
+        LOGGERS.get(clazz).warn(format, arg1, arg2);
+    }
+
+    public static void warn(Class<?> clazz, String format, Object... args) {
+        LOGGERS.get(clazz).warn(format, args);
     }
 
+    public static void warn(Class<?> clazz, Supplier<String> message) {
+        Logger logger = LOGGERS.get(clazz);
+        if (logger.isWarnEnabled()) {
+            logger.warn(message.get());
+        }
+    }
+
+    // ========================================================================
+    // ERROR
+    // ========================================================================
+
     public static void error(Class<?> clazz, String message) {
-        LoggerFactory.getLogger(clazz).error(message);
+        LOGGERS.get(clazz).error(message);
     }
 
     public static void error(Class<?> clazz, String message, Throwable throwable) {
-        LoggerFactory.getLogger(clazz).error(message, throwable);
+        LOGGERS.get(clazz).error(message, throwable);
     }
 
+    // ========================================================================
+    // DEBUG
+    // ========================================================================
+
     public static void debug(Class<?> clazz, String message) {
-        LoggerFactory.getLogger(clazz).debug(message);
+        LOGGERS.get(clazz).debug(message);
+    }
+
+    public static void debug(Class<?> clazz, String format, Object arg) {
+        LOGGERS.get(clazz).debug(format, arg);
+    }
+
+    public static void debug(Class<?> clazz, String format, Object arg1, Object arg2) {
+        LOGGERS.get(clazz).debug(format, arg1, arg2);
+    }
+
+    public static void debug(Class<?> clazz, String format, Object... args) {
+        Logger logger = LOGGERS.get(clazz);
+        if (logger.isDebugEnabled()) {
+            logger.debug(format, args);
+        }
+    }
+
+    public static void debug(Class<?> clazz, Supplier<String> message) {
+        Logger logger = LOGGERS.get(clazz);
+        if (logger.isDebugEnabled()) {
+            logger.debug(message.get());
+        }
     }
 
     public static void logAndThrow(Class<?> clazz, String message, Exception e) {
-        LoggerFactory.getLogger(clazz).error(message, e);
+        LOGGERS.get(clazz).error(message, e);
         throw new RuntimeException(message, e);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,251 @@
+package com.ctgraphdep.utils;
+
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.GZIPSheetDataWriter;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.streaming.SheetDataWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.*;
+
+/**
+ * Streaming export engine shared by all Excel exporters.
+ * Rows are kept in a bounded window and flushed to compressed temp files as the exporter
+ * moves on, so heap usage does not grow with the number of rows.
+ * Column widths are computed from statistics collected while rows are flushed (longest
+ * formatted value per column) instead of autoSizeColumn, which re-measures every cell.
+ * Exporters must create rows in ascending order and never go back to a flushed row.
+ */
+public class StreamingExcelWorkbook implements Closeable {
+
+    // Rows kept in memory per sheet before they are flushed to disk
+    private static final int DEFAULT_ROW_WINDOW = 200;
+    // Extra characters added to the measured content, similar to autoSizeColumn padding
+    private static final int DEFAULT_PADDING_CHARS = 2;
+    // Upper bound so long notes or comments do not produce huge columns
+    private static final int MAX_COLUMN_CHARS = 100;
+    // Width used for formula cells, which have no cached value to measure
+    private static final int FORMULA_CELL_CHARS = 10;
+
+    private final MeasuringWorkbook workbook;
+    private final ExcelStyleRegistry styleRegistry;
+    private final DataFormatter dataFormatter = new DataFormatter();
+    private final Map<Sheet, ColumnStatistics> statistics = new IdentityHashMap<>();
+
+    public StreamingExcelWorkbook() {
+        this(DEFAULT_ROW_WINDOW);
+    }
+
+    public StreamingExcelWorkbook(int rowWindow) {
+        this.workbook = new MeasuringWorkbook(rowWindow);
+        this.workbook.setCompressTempFiles(true);
+        this.styleRegistry = new ExcelStyleRegistry(workbook);
+    }
+
+    public Workbook getWorkbook() {
+        return workbook;
+    }
+
+    public ExcelStyleRegistry styles() {
+        return styleRegistry;
+    }
+
+    public Sheet createSheet(String name) {
+        Sheet sheet = workbook.createSheet(name);
+        statistics.put(sheet, new ColumnStatistics());
+        return sheet;
+    }
+
+    /**
+     * Ensures a column is at least the given number of characters wide.
+     */
+    public void setMinimumColumnWidth(Sheet sheet, int column, int chars) {
+        getStatistics(sheet).minimumChars.merge(column, chars, Math::max);
+    }
+
+    /**
+     * Uses a fixed width for a column; measured statistics are ignored for it.
+     */
+    public void setFixedColumnWidth(Sheet sheet, int column, int chars) {
+        getStatistics(sheet).fixedChars.put(column, chars);
+    }
+
+    /**
+     * Changes the padding added to every measured column of the sheet.
+     */
+    public void setColumnPadding(Sheet sheet, int chars) {
+        getStatistics(sheet).paddingChars = chars;
+    }
+
+    /**
+     * Flushes the remaining rows, applies the computed column widths and writes the workbook.
+     * The stream is not closed, so it can be the servlet response stream.
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        for (Sheet sheet : workbook) {
+            ((SXSSFSheet) sheet).flushRows();
+            applyColumnWidths(sheet);
+        }
+        workbook.write(outputStream);
+        outputStream.flush();
+    }
+
+    /**
+     * Convenience for callers that still need the whole file in memory (attachments, zips).
+     */
+    public byte[] toByteArray() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeTo(outputStream);
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Removes the temporary sheet files
+        workbook.close();
+    }
+
+    private void applyColumnWidths(Sheet sheet) {
+        ColumnStatistics stats = getStatistics(sheet);
+
+        Set<Integer> columns = new TreeSet<>(stats.measuredChars.keySet());
+        columns.addAll(stats.minimumChars.keySet());
+        columns.addAll(stats.fixedChars.keySet());
+
+        for (int column : columns) {
+            Integer fixed = stats.fixedChars.get(column);
+            double chars;
+            if (fixed != null) {
+                chars = fixed;
+            } else {
+                double measured = stats.measuredChars.getOrDefault(column, 0.0);
+                chars = Math.min(measured, MAX_COLUMN_CHARS) + (measured > 0 ? stats.paddingChars : 0);
+                chars = Math.max(chars, stats.minimumChars.getOrDefault(column, 0));
+            }
+            if (chars > 0) {
+                sheet.setColumnWidth(column, (int) Math.min(255 * 256, Math.round(chars * 256)));
+            }
+        }
+    }
+
+    private ColumnStatistics getStatistics(Sheet sheet) {
+        return statistics.computeIfAbsent(sheet, s -> new ColumnStatistics());
+    }
+
+    /**
+     * Records the width of one cell; called for every cell as its row is flushed.
+     */
+    private void measure(Cell cell) {
+        Sheet sheet = cell.getSheet();
+        ColumnStatistics stats = getStatistics(sheet);
+        if (stats.isInMultiColumnMergedRegion(sheet, cell)) {
+            // Same as autoSizeColumn: titles spanning several columns do not widen the first one
+            return;
+        }
+
+        int length = switch (cell.getCellType()) {
+            case STRING -> longestLine(cell.getStringCellValue());
+            case NUMERIC, BOOLEAN -> dataFormatter.formatCellValue(cell).length();
+            case FORMULA -> FORMULA_CELL_CHARS;
+            default -> 0;
+        };
+        if (length == 0) {
+            return;
+        }
+
+        double chars = length * fontScale(cell.getCellStyle());
+        stats.measuredChars.merge(cell.getColumnIndex(), chars, Math::max);
+    }
+
+    private double fontScale(CellStyle style) {
+        if (style == null) {
+            return 1.0;
+        }
+        return styleRegistry.getFontScale(style);
+    }
+
+    private static int longestLine(String value) {
+        if (value == null || value.isEmpty()) {
+            return 0;
+        }
+        int longest = 0;
+        int current = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '\n') {
+                longest = Math.max(longest, current);
+                current = 0;
+            } else {
+                current++;
+            }
+        }
+        return Math.max(longest, current);
+    }
+
+    /**
+     * Per-sheet width statistics, in characters.
+     */
+    private static class ColumnStatistics {
+        private final Map<Integer, Double> measuredChars = new HashMap<>();
+        private final Map<Integer, Integer> minimumChars = new HashMap<>();
+        private final Map<Integer, Integer> fixedChars = new HashMap<>();
+        private int paddingChars = DEFAULT_PADDING_CHARS;
+
+        // Merged regions spanning more than one column, refreshed when the sheet gains regions
+        private List<CellRangeAddress> multiColumnRegions = List.of();
+        private int knownRegionCount = 0;
+
+        private boolean isInMultiColumnMergedRegion(Sheet sheet, Cell cell) {
+            int regionCount = sheet.getNumMergedRegions();
+            if (regionCount == 0) {
+                return false;
+            }
+            if (regionCount != knownRegionCount) {
+                multiColumnRegions = sheet.getMergedRegions().stream()
+                        .filter(region -> region.getFirstColumn() != region.getLastColumn())
+                        .toList();
+                knownRegionCount = regionCount;
+            }
+            for (CellRangeAddress region : multiColumnRegions) {
+                if (region.isInRange(cell)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * SXSSF workbook whose sheet writers report every flushed cell back to the width statistics.
+     */
+    private class MeasuringWorkbook extends SXSSFWorkbook {
+
+        private MeasuringWorkbook(int rowWindow) {
+            super(rowWindow);
+        }
+
+        @Override
+        protected SheetDataWriter createSheetDataWriter() throws IOException {
+            return new MeasuringSheetDataWriter();
+        }
+    }
+
+    private class MeasuringSheetDataWriter extends GZIPSheetDataWriter {
+
+        private MeasuringSheetDataWriter() throws IOException {
+            super();
+        }
+
+        @Override
+        public void writeCell(int columnIndex, Cell cell) throws IOException {
+            if (cell != null) {
+                measure(cell);
+            }
+            super.writeCell(columnIndex, cell);
+        }
+    }
+}
@@ -6,20 +6,36 @@ import com.ctgraphdep.model.dto.worktime.WorkTimeSummaryDTO;
 import com.ctgraphdep.model.User;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
 
 @Component
 public class UserWorktimeExcelExporter {
 
     public byte[] exportToExcel(User user, List<WorkTimeEntryDTO> worktimeData, WorkTimeSummaryDTO summary, int year, int month) {
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            writeToExcel(user, worktimeData, summary, year, month, outputStream);
+            return outputStream.toByteArray();
+        } catch (Exception e) {
+            LoggerUtil.logAndThrow(this.getClass(), "Error creating Excel file", e);
+            return null;
+        }
+    }
+
+    /**
+     * Streams the report to the given output (e.g. the HTTP response) without keeping all rows in memory.
+     */
+    public void writeToExcel(User user, List<WorkTimeEntryDTO> worktimeData, WorkTimeSummaryDTO summary, int year, int month,
+                             OutputStream outputStream) throws IOException {
+        try (StreamingExcelWorkbook excel = new StreamingExcelWorkbook()) {
             LoggerUtil.info(this.getClass(), "Creating Excel export for " + worktimeData.size() + " entries");
-            Sheet sheet = workbook.createSheet("Work Time Report");
-            Map<String, CellStyle> styles = createStyles(workbook);
+            Sheet sheet = excel.createSheet("Work Time Report");
+            Map<String, CellStyle> styles = createStyles(excel.getWorkbook());
 
             int currentRow = 0;
 
@@ -66,15 +82,8 @@ public class UserWorktimeExcelExporter {
             // Populate summary data starting at the new row
             populateSummaryData(sheet, styles, summary, currentRow);
 
-            // Auto size columns
-            for (int i = 0; i < 7; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
-            return writeToByteArray(workbook);
-        } catch (Exception e) {
-            LoggerUtil.logAndThrow(this.getClass(), "Error creating Excel file", e);
-            return null;
+            // Column widths are computed from the written data
+            excel.writeTo(outputStream);
         }
     }
 
@@ -256,10 +265,4 @@ public class UserWorktimeExcelExporter {
 
         return styles;
     }
-
-    private byte[] writeToByteArray(XSSFWorkbook workbook) throws Exception {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        return outputStream.toByteArray();
-    }
 }
\ No newline at end of file
@@ -7,10 +7,11 @@ import com.ctgraphdep.model.dto.worktime.WorkTimeResultDTO;
 import com.ctgraphdep.model.WorkTimeTable;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -27,15 +28,33 @@ public class WorkTimeExcelExporter {
                                 Map<Integer, Map<LocalDate, WorkTimeTable>> userEntriesMap,
                                 int year,
                                 int month) {
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Work Time Report");
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            writeToExcel(users, userEntriesMap, year, month, outputStream);
+            return outputStream.toByteArray();
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), "Error creating Excel file", e);
+            throw new RuntimeException("Failed to export Excel file", e);
+        }
+    }
+
+    /**
+     * Streams the report to the given output (e.g. the HTTP response) without keeping all rows in memory.
+     */
+    public void writeToExcel(List<User> users,
+                             Map<Integer, Map<LocalDate, WorkTimeTable>> userEntriesMap,
+                             int year,
+                             int month,
+                             OutputStream outputStream) throws IOException {
+        try (StreamingExcelWorkbook excel = new StreamingExcelWorkbook()) {
+            Sheet sheet = excel.createSheet("Work Time Report");
             YearMonth yearMonth = YearMonth.of(year, month);
 
             // Get non-admin users
             List<User> nonAdminUsers = filterNonAdminUsers(users);
 
             // Create all cell styles
-            Map<String, CellStyle> styles = createStyles(workbook);
+            Map<String, CellStyle> styles = createStyles(excel.getWorkbook());
 
             // Setup sheet structure
             int columnCount = yearMonth.lengthOfMonth() + 5; // Name, ID, days, Hours, OT, Total
@@ -44,15 +63,8 @@ public class WorkTimeExcelExporter {
             // Add data rows
             populateSheetData(sheet, yearMonth, nonAdminUsers, userEntriesMap, styles, columnCount);
 
-            // Final formatting
-            for (int i = 0; i < columnCount; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
-            return writeToByteArray(workbook);
-        } catch (Exception e) {
-            LoggerUtil.error(this.getClass(), "Error creating Excel file", e);
-            throw new RuntimeException("Failed to export Excel file", e);
+            // Column widths are computed from the written data
+            excel.writeTo(outputStream);
         }
     }
 
@@ -388,12 +400,6 @@ public class WorkTimeExcelExporter {
         cell.setCellStyle(style);
     }
 
-    private byte[] writeToByteArray(XSSFWorkbook workbook) throws Exception {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        return outputStream.toByteArray();
-    }
-
     private Map<String, CellStyle> createStyles(Workbook workbook) {
         Map<String, CellStyle> styles = new HashMap<>();
         styles.put("title", createTitleStyle(workbook));
@@ -5,7 +5,7 @@ import com.ctgraphdep.merge.constants.MergingStatusConstants;
 import com.ctgraphdep.model.User;
 import com.ctgraphdep.model.WorkTimeTable;
 import com.ctgraphdep.worktime.context.WorktimeOperationContext;
-import com.ctgraphdep.worktime.accessor.WorktimeDataAccessor;
+import com.ctgraphdep.worktime.model.AdminWorktimeMonth;
 import com.ctgraphdep.worktime.model.OperationResult;
 import com.ctgraphdep.merge.status.StatusAssignmentEngine;
 import com.ctgraphdep.merge.status.StatusAssignmentResult;
@@ -60,16 +60,10 @@ public class AddNationalHolidayCommand extends WorktimeOperationCommand<List<Wor
         int month = date.getMonthValue();
 
         try {
-            LoggerUtil.info(this.getClass(), String.format("Adding national holiday for %s using AdminOwnDataAccessor with proper entry transformation", date));
+            LoggerUtil.info(this.getClass(), String.format("Adding national holiday for %s using indexed admin month with proper entry transformation", date));
 
-            // Use AdminOwnDataAccessor for admin worktime operations
-            WorktimeDataAccessor accessor = context.getDataAccessor("admin");
-
-            // Load admin entries for the month
-            List<WorkTimeTable> adminEntries = accessor.readWorktime("admin", year, month);
-            if (adminEntries == null) {
-                adminEntries = new ArrayList<>();
-            }
+            // Load admin entries for the month, indexed by user and day
+            AdminWorktimeMonth adminMonth = context.loadAdminWorktimeMonthForUpdate(year, month);
 
             // Get all non-admin users
             List<User> nonAdminUsers = context.getNonAdminUsers();
@@ -79,21 +73,17 @@ public class AddNationalHolidayCommand extends WorktimeOperationCommand<List<Wor
             }
 
             // Process each user individually with proper transformation logic
-            List<WorkTimeTable> processedEntries = new ArrayList<>();
-            HolidayBalanceTracker balanceTracker = new HolidayBalanceTracker();
+            List<User> restoredUsers = new ArrayList<>();
+            List<WorkTimeTable> processedEntries = applyToMonth(adminMonth, nonAdminUsers, restoredUsers);
 
-            for (User user : nonAdminUsers) {
-                EntryTransformationResult result = processUserForNationalHoliday(adminEntries, user, balanceTracker);
-                if (result.getTransformedEntry() != null) {
-                    processedEntries.add(result.getTransformedEntry());
-                }
-            }
-
-            // Sort entries for consistency
-            sortEntries(adminEntries);
+            // Save only if something changed; users without changes are written back as read
+            context.saveAdminWorktimeMonth(adminMonth);
 
-            // Save using AdminOwnDataAccessor
-            accessor.writeWorktimeWithStatus("admin", adminEntries, year, month, context.getCurrentUser().getRole());
+            // Give back the vacation days of CO entries converted to SN
+            HolidayBalanceTracker balanceTracker = new HolidayBalanceTracker();
+            for (User user : restoredUsers) {
+                restoreHolidayBalanceForUser(user, balanceTracker);
+            }
 
             // Create success result with comprehensive statistics
             String successMessage = createSuccessMessage(nonAdminUsers.size(), processedEntries.size(), balanceTracker);
@@ -127,22 +117,41 @@ public class AddNationalHolidayCommand extends WorktimeOperationCommand<List<Wor
         }
     }
 
+    // Applies the holiday to an admin month loaded by the caller, without saving it or writing holiday balances.
+    // Users whose CO entry became SN are added to restoredUsers - the caller gives them their vacation day back.
+    // Also used by BulkTimeOffCommand.
+    List<WorkTimeTable> applyToMonth(AdminWorktimeMonth adminMonth, List<User> users, List<User> restoredUsers) {
+        // CO days only come back when the date was not a national holiday already (checked before any SN is added)
+        boolean restoresVacation = !adminMonth.anyOnDate(date, entry -> WorkCode.NATIONAL_HOLIDAY_CODE.equals(entry.getTimeOffType()));
+
+        List<WorkTimeTable> processedEntries = new ArrayList<>();
+        for (User user : users) {
+            EntryTransformationResult result = processUserForNationalHoliday(adminMonth, user);
+            if (result.getTransformedEntry() != null) {
+                processedEntries.add(result.getTransformedEntry());
+            }
+            if (restoresVacation && WorkCode.TIME_OFF_CODE.equals(result.getOriginalType())) {
+                restoredUsers.add(user);
+            }
+        }
+        return processedEntries;
+    }
+
     // Process individual user for national holiday with proper transformation logic
-    private EntryTransformationResult processUserForNationalHoliday(List<WorkTimeTable> adminEntries, User user, HolidayBalanceTracker balanceTracker) {
-        Integer userId = user.getUserId();
-        WorkTimeTable existingEntry = findExistingEntry(adminEntries, userId, date);
+    private EntryTransformationResult processUserForNationalHoliday(AdminWorktimeMonth adminMonth, User user) {
+        WorkTimeTable existingEntry = adminMonth.get(user.getUserId(), date);
 
         if (existingEntry != null) {
             // Transform existing entry based on its current type
-            return transformExistingEntryToNationalHoliday(adminEntries, existingEntry, user, balanceTracker);
+            return transformExistingEntryToNationalHoliday(adminMonth, existingEntry, user);
         } else {
             // Create new SN entry for user with no existing entry
-            return createNewNationalHolidayEntry(adminEntries, user);
+            return createNewNationalHolidayEntry(adminMonth, user);
         }
     }
 
     // Transform existing entry to national holiday based on entry type
-    private EntryTransformationResult transformExistingEntryToNationalHoliday(List<WorkTimeTable> adminEntries, WorkTimeTable existingEntry, User user, HolidayBalanceTracker balanceTracker) {
+    private EntryTransformationResult transformExistingEntryToNationalHoliday(AdminWorktimeMonth adminMonth, WorkTimeTable existingEntry, User user) {
         String originalType = determineOriginalEntryType(existingEntry);
         WorkTimeTable transformedEntry;
 
@@ -159,11 +168,10 @@ public class AddNationalHolidayCommand extends WorktimeOperationCommand<List<Wor
                         existingEntry.getTotalWorkedMinutes(), transformedEntry.getTotalOvertimeMinutes()));
             }
             case "CO" -> {
-                // CO → SN + restore holiday balance
+                // CO → SN (holiday balance restored by the caller)
                 transformedEntry = transformTimeOffToNationalHoliday(existingEntry);
-                restoreHolidayBalanceForUser(user, balanceTracker);
                 LoggerUtil.debug(this.getClass(), String.format(
-                        "Transformed CO entry to SN and restored holiday balance for user %s", user.getUsername()));
+                        "Transformed CO entry to SN for user %s", user.getUsername()));
             }
             case "CM" -> {
                 // CM → SN (no balance change)
@@ -183,14 +191,14 @@ public class AddNationalHolidayCommand extends WorktimeOperationCommand<List<Wor
         // Apply status using StatusAssignmentEngine (existing entry → ADMIN_EDITED)
         applyStatusToEntry(transformedEntry);
 
-        // Replace entry in list
-        addOrReplaceEntry(adminEntries, transformedEntry);
+        // Replace entry in the admin month (marks the user changed)
+        adminMonth.put(transformedEntry);
 
         return new EntryTransformationResult(transformedEntry, originalType, "TRANSFORMED");
     }
 
     // Create new national holiday entry for user with no existing entry
-    private EntryTransformationResult createNewNationalHolidayEntry(List<WorkTimeTable> adminEntries, User user) {
+    private EntryTransformationResult createNewNationalHolidayEntry(AdminWorktimeMonth adminMonth, User user) {
         LoggerUtil.info(this.getClass(), String.format(
                 "Creating new SN entry for user %s (%d) on %s",
                 user.getUsername(), user.getUserId(), date));
@@ -200,7 +208,7 @@ public class AddNationalHolidayCommand extends WorktimeOperationCommand<List<Wor
         // Apply status using StatusAssignmentEngine (new entry → ADMIN_INPUT)
         applyStatusToEntry(holidayEntry);
 
-        adminEntries.add(holidayEntry);
+        adminMonth.put(holidayEntry);
 
         LoggerUtil.debug(this.getClass(), String.format(
                 "Created new SN entry for user %s with status %s", user.getUsername(), holidayEntry.getAdminSync()));
@@ -263,16 +271,13 @@ public class AddNationalHolidayCommand extends WorktimeOperationCommand<List<Wor
     // NEW: Restore holiday balance for user when CO→SN transformation
     private void restoreHolidayBalanceForUser(User user, HolidayBalanceTracker balanceTracker) {
         try {
-            // Check if this date should restore vacation balance (not on existing national holidays)
-            if (context.shouldProcessVacationDay(date, "convert CO to SN")) {
-                Integer oldBalance = user.getPaidHolidayDays();
-                boolean updated = context.updateUserHolidayBalance(user.getUserId(), oldBalance + 1);
-
-                if (updated) {
-                    balanceTracker.recordBalanceChange(user.getUsername(), oldBalance, oldBalance + 1);
-                    LoggerUtil.info(this.getClass(), String.format("Restored holiday balance for %s: %d → %d (CO converted to SN)",
-                            user.getUsername(), oldBalance, oldBalance + 1));
-                }
+            Integer oldBalance = user.getPaidHolidayDays();
+            boolean updated = context.updateUserHolidayBalance(user.getUserId(), oldBalance + 1);
+
+            if (updated) {
+                balanceTracker.recordBalanceChange(user.getUsername(), oldBalance, oldBalance + 1);
+                LoggerUtil.info(this.getClass(), String.format("Restored holiday balance for %s: %d → %d (CO converted to SN)",
+                        user.getUsername(), oldBalance, oldBalance + 1));
             }
         } catch (Exception e) {
             LoggerUtil.warn(this.getClass(), String.format("Failed to restore holiday balance for user %s: %s", user.getUsername(), e.getMessage()));
@@ -311,33 +316,6 @@ public class AddNationalHolidayCommand extends WorktimeOperationCommand<List<Wor
 
         return message.toString();
     }
-    // ========================================================================
-    // UTILITY METHODS - PRESERVED FROM ORIGINAL
-    // ========================================================================
-
-    // Find existing admin entry for the user and date
-    private WorkTimeTable findExistingEntry(List<WorkTimeTable> adminEntries, Integer userId, LocalDate date) {
-        return adminEntries.stream()
-                .filter(entry -> userId.equals(entry.getUserId()) && date.equals(entry.getWorkDate()))
-                .findFirst()
-                .orElse(null);
-    }
-
-    // Add or replace entry in list
-    private void addOrReplaceEntry(List<WorkTimeTable> entries, WorkTimeTable newEntry) {
-        entries.removeIf(entry ->
-                newEntry.getUserId().equals(entry.getUserId()) &&
-                        newEntry.getWorkDate().equals(entry.getWorkDate())
-        );
-        entries.add(newEntry);
-    }
-
-    // Sort entries by date and user ID - ORIGINAL LOGIC
-    private void sortEntries(List<WorkTimeTable> entries) {
-        entries.sort(java.util.Comparator.comparing(WorkTimeTable::getWorkDate)
-                .thenComparingInt(WorkTimeTable::getUserId));
-    }
-
     @Override
     protected String getCommandName() {
         return String.format("AddNationalHoliday[date=%s]", date);
@@ -14,6 +14,7 @@ import lombok.Getter;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -176,13 +177,21 @@ public class AddTimeOffCommand extends WorktimeOperationCommand<List<WorkTimeTab
 
             LoggerUtil.debug(this.getClass(), String.format("Loaded %d existing entries for TIME OFF conflict checking", existingEntries.size()));
 
+            // Index the user's entries by date once, so each requested date is a single lookup
+            Map<LocalDate, WorkTimeTable> entriesByDate = new HashMap<>();
+            for (WorkTimeTable entry : existingEntries) {
+                if (userId.equals(entry.getUserId()) && entry.getWorkDate() != null) {
+                    entriesByDate.putIfAbsent(entry.getWorkDate(), entry);
+                }
+            }
+
             // Check each date in this month for conflicts
             for (LocalDate date : monthDates) {
+                WorkTimeTable existingEntry = entriesByDate.get(date);
+
                 // STEP 1: Check if date has existing WORK TIME that cannot be overlaid
-                boolean hasWorkTime = existingEntries.stream()
-                        .anyMatch(entry -> entry.getUserId().equals(userId) &&
-                                entry.getWorkDate().equals(date) &&
-                                (entry.getDayStartTime() != null || entry.getDayEndTime() != null));
+                boolean hasWorkTime = existingEntry != null &&
+                        (existingEntry.getDayStartTime() != null || existingEntry.getDayEndTime() != null);
 
                 if (hasWorkTime && timeOffRules.requiresClearWorktime(timeOffType)) {
                     String reason = timeOffRules.getCannotAddOverWorktimeReason(timeOffType);
@@ -192,11 +201,9 @@ public class AddTimeOffCommand extends WorktimeOperationCommand<List<WorkTimeTab
                 }
 
                 // STEP 1.5: Special check - W (Weekend) cannot be changed to other types
-                boolean hasWeekendLock = existingEntries.stream()
-                        .anyMatch(entry -> entry.getUserId().equals(userId) &&
-                                entry.getWorkDate().equals(date) &&
-                                WorkCode.WEEKEND_CODE.equalsIgnoreCase(entry.getTimeOffType()) &&
-                                !WorkCode.WEEKEND_CODE.equalsIgnoreCase(timeOffType));
+                boolean hasWeekendLock = existingEntry != null &&
+                        WorkCode.WEEKEND_CODE.equalsIgnoreCase(existingEntry.getTimeOffType()) &&
+                        !WorkCode.WEEKEND_CODE.equalsIgnoreCase(timeOffType);
 
                 if (hasWeekendLock) {
                     skippedConflicts.add(date);
@@ -207,19 +214,13 @@ public class AddTimeOffCommand extends WorktimeOperationCommand<List<WorkTimeTab
                 }
 
                 // STEP 2: Check for TIME OFF conflicts only
-                boolean hasTimeOffConflict = existingEntries.stream()
-                        .anyMatch(entry -> entry.getUserId().equals(userId) &&
-                                entry.getWorkDate().equals(date) &&
-                                entry.getTimeOffType() != null &&
-                                !entry.getTimeOffType().trim().isEmpty() &&
-                                !entry.getTimeOffType().equals(timeOffType)); // NEW: Allow overwriting same type
+                boolean hasTimeOffConflict = existingEntry != null &&
+                        existingEntry.getTimeOffType() != null &&
+                        !existingEntry.getTimeOffType().trim().isEmpty() &&
+                        !existingEntry.getTimeOffType().equals(timeOffType); // NEW: Allow overwriting same type
 
                 if (hasTimeOffConflict) {
-                    Optional<WorkTimeTable> conflictingEntry = existingEntries.stream()
-                            .filter(entry -> entry.getUserId().equals(userId) && entry.getWorkDate().equals(date))
-                            .findFirst();
-
-                    String conflictType = conflictingEntry.map(WorkTimeTable::getTimeOffType).orElse("unknown");
+                    String conflictType = existingEntry.getTimeOffType();
                     skippedConflicts.add(date);
                     LoggerUtil.info(this.getClass(), String.format("TIME OFF CONFLICT: Skipping %s - already has different time off %s (requesting %s)",
                             date, conflictType, timeOffType));
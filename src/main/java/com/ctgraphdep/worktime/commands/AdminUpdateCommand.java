@@ -5,7 +5,7 @@ import com.ctgraphdep.config.WorkCode;
 import com.ctgraphdep.model.User;
 import com.ctgraphdep.model.WorkTimeTable;
 import com.ctgraphdep.worktime.context.WorktimeOperationContext;
-import com.ctgraphdep.worktime.accessor.WorktimeDataAccessor;
+import com.ctgraphdep.worktime.model.AdminWorktimeMonth;
 import com.ctgraphdep.worktime.model.OperationResult;
 import com.ctgraphdep.merge.status.StatusAssignmentEngine;
 import com.ctgraphdep.merge.status.StatusAssignmentResult;
@@ -14,7 +14,6 @@ import com.ctgraphdep.utils.LoggerUtil;
 import lombok.Getter;
 
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Optional;
 
 public class AdminUpdateCommand extends WorktimeOperationCommand<WorkTimeTable> {
@@ -71,17 +70,11 @@ public class AdminUpdateCommand extends WorktimeOperationCommand<WorkTimeTable>
         int month = date.getMonthValue();
 
         try {
-            // Use AdminOwnDataAccessor for admin worktime operations
-            WorktimeDataAccessor accessor = context.getDataAccessor("admin");
-
-            // Load admin entries for the month
-            List<WorkTimeTable> adminEntries = accessor.readWorktime("admin", year, month);
-            if (adminEntries == null) {
-                adminEntries = new java.util.ArrayList<>();
-            }
+            // Load admin entries for the month, indexed by user and day
+            AdminWorktimeMonth adminMonth = context.loadAdminWorktimeMonthForUpdate(year, month);
 
             // Find existing entry to track holiday balance changes AND determine if entry exists
-            WorkTimeTable existingEntry = findExistingEntry(adminEntries, userId, date);
+            WorkTimeTable existingEntry = adminMonth.get(userId, date);
 
             LoggerUtil.debug(this.getClass(), String.format(
                     "Existing entry for user %d on %s: %s", userId, date,
@@ -93,13 +86,13 @@ public class AdminUpdateCommand extends WorktimeOperationCommand<WorkTimeTable>
                             "NONE"));
 
             // Calculate holiday balance change BEFORE making changes
-            HolidayBalanceChange balanceChange = calculateHolidayBalanceChange(existingEntry, value);
+            HolidayBalanceChange balanceChange = calculateHolidayBalanceChange(existingEntry, value, getUserHolidayBalance(userId));
 
             // Process the admin update
-            AdminUpdateResult updateResult = processAdminUpdate(adminEntries, userId, date, value);
+            AdminUpdateResult updateResult = processAdminUpdate(adminMonth, userId, date, value);
 
-            // Save updated entries using accessor
-            accessor.writeWorktimeWithStatus("admin", adminEntries, year, month, context.getCurrentUser().getRole());
+            // Save updated month - only this user's entries are serialized again
+            context.saveAdminWorktimeMonth(adminMonth);
 
             // Apply holiday balance changes if needed
             OperationResult.OperationSideEffects.Builder sideEffectsBuilder =
@@ -144,16 +137,23 @@ public class AdminUpdateCommand extends WorktimeOperationCommand<WorkTimeTable>
         }
     }
 
+    // Applies this update to an admin month loaded by the caller, without saving it or writing the holiday balance.
+    // Used by BulkTimeOffCommand; returns the holiday day change (-1 deducted, +1 restored, 0 none).
+    int applyToMonth(AdminWorktimeMonth adminMonth, int currentBalance) {
+        HolidayBalanceChange balanceChange = calculateHolidayBalanceChange(adminMonth.get(userId, date), value, currentBalance);
+        processAdminUpdate(adminMonth, userId, date, value);
+        return balanceChange.getNewBalance() - balanceChange.getOldBalance();
+    }
+
     // Process admin update using StatusAssignmentEngine and WorktimeEntityBuilder methods
-    private AdminUpdateResult processAdminUpdate(List<WorkTimeTable> adminEntries, Integer userId, LocalDate date, String value) {
+    private AdminUpdateResult processAdminUpdate(AdminWorktimeMonth adminMonth, Integer userId, LocalDate date, String value) {
         if (value == null || value.trim().isEmpty() || "BLANK".equalsIgnoreCase(value.trim()) || "REMOVE".equalsIgnoreCase(value.trim())) {
             // Find or create entry to reset
-            WorkTimeTable entryToReset = findExistingEntry(adminEntries, userId, date);
+            WorkTimeTable entryToReset = adminMonth.get(userId, date);
 
             if (entryToReset == null) {
                 // Create empty entry for reset
                 entryToReset = WorktimeEntityBuilder.createEmptyEntry(userId, date);
-                adminEntries.add(entryToReset);
             }
 
             // Reset to empty state
@@ -162,8 +162,8 @@ public class AdminUpdateCommand extends WorktimeOperationCommand<WorkTimeTable>
             // Assign admin edit status
             assignStatusToEntry(entryToReset);
 
-            // Replace in list
-            addOrReplaceEntry(adminEntries, entryToReset);
+            // Replace in admin month
+            adminMonth.put(entryToReset);
 
             String message = String.format("Admin reset entry to empty for user %d on %s", userId, date);
             LoggerUtil.debug(this.getClass(), String.format("Reset admin entry: userId=%d, date=%s", userId, date));
@@ -175,7 +175,7 @@ public class AdminUpdateCommand extends WorktimeOperationCommand<WorkTimeTable>
 
         // Check for special day work format first (TYPE:HOURS)
         if (isSpecialDayWorkFormat(trimmedValue)) {
-            return processSpecialDayWorkUpdate(adminEntries, userId, date, trimmedValue);
+            return processSpecialDayWorkUpdate(adminMonth, userId, date, trimmedValue);
         }
 
         // Handle regular admin updates using existing WorktimeEntityBuilder methods
@@ -184,8 +184,8 @@ public class AdminUpdateCommand extends WorktimeOperationCommand<WorkTimeTable>
         // Use StatusAssignmentEngine for status assignment
         assignStatusToEntry(newEntry);
 
-        // Add or replace entry in list
-        addOrReplaceEntry(adminEntries, newEntry);
+        // Add or replace entry in admin month
+        adminMonth.put(newEntry);
 
         String operation = determineOperation(trimmedValue);
         String message = String.format("Admin %s for user %d on %s (Status: %s)",
@@ -199,12 +199,12 @@ public class AdminUpdateCommand extends WorktimeOperationCommand<WorkTimeTable>
     }
 
     // Process special day work update using WorktimeEntityBuilder methods
-    private AdminUpdateResult processSpecialDayWorkUpdate(List<WorkTimeTable> adminEntries, Integer userId, LocalDate date, String specialDayValue) {
+    private AdminUpdateResult processSpecialDayWorkUpdate(AdminWorktimeMonth adminMonth, Integer userId, LocalDate date, String specialDayValue) {
         // Parse special day value (e.g., "SN:5" -> type="SN", hours=5.0)
         SpecialDayParseResult parseResult = parseSpecialDayValue(specialDayValue);
 
         WorkTimeTable entry;
-        WorkTimeTable existingEntry = findExistingEntry(adminEntries, userId, date);
+        WorkTimeTable existingEntry = adminMonth.get(userId, date);
 
         if (existingEntry != null) {
             // Update existing entry using WorktimeEntityBuilder
@@ -215,7 +215,6 @@ public class AdminUpdateCommand extends WorktimeOperationCommand<WorkTimeTable>
         } else {
             // Create new entry using WorktimeEntityBuilder
             entry = WorktimeEntityBuilder.createSpecialDayWithWorkTime(userId, date, parseResult.timeOffType, parseResult.workHours);
-            adminEntries.add(entry);
             LoggerUtil.info(this.getClass(), String.format(
                     "Created new entry using WorktimeEntityBuilder.createSpecialDayWithWorkTime() for %s:%.2f",
                     parseResult.timeOffType, parseResult.workHours));
@@ -224,8 +223,8 @@ public class AdminUpdateCommand extends WorktimeOperationCommand<WorkTimeTable>
         // Use StatusAssignmentEngine for status assignment
         assignStatusToEntry(entry);
 
-        // Replace entry in list (in case it was updated)
-        addOrReplaceEntry(adminEntries, entry);
+        // Replace entry in admin month (in case it was updated)
+        adminMonth.put(entry);
 
         String message = String.format("Admin special day work (%s:%.2fh) for user %d on %s (Status: %s)",
                 parseResult.timeOffType, parseResult.workHours, userId, date, entry.getAdminSync());
@@ -319,39 +318,12 @@ public class AdminUpdateCommand extends WorktimeOperationCommand<WorkTimeTable>
         }
     }
 
-    // Find existing admin entry for the user and date
-    private WorkTimeTable findExistingEntry(List<WorkTimeTable> adminEntries, Integer userId, LocalDate date) {
-        return adminEntries.stream()
-                .filter(entry -> userId.equals(entry.getUserId()) && date.equals(entry.getWorkDate()))
-                .findFirst()
-                .orElse(null);
-    }
-
-//    // Remove entry by date and user ID - UTILITY METHOD
-//    private boolean removeEntryByDate(List<WorkTimeTable> entries, Integer userId, LocalDate date) {
-//        return entries.removeIf(entry -> userId.equals(entry.getUserId()) && date.equals(entry.getWorkDate()));
-//    }
-
-    // Add or replace entry in list - UTILITY METHOD
-    private void addOrReplaceEntry(List<WorkTimeTable> entries, WorkTimeTable updatedEntry) {
-        entries.removeIf(entry ->
-                updatedEntry.getUserId().equals(entry.getUserId()) &&
-                        updatedEntry.getWorkDate().equals(entry.getWorkDate())
-        );
-        entries.add(updatedEntry);
-        entries.sort(java.util.Comparator.comparing(WorkTimeTable::getWorkDate)
-                .thenComparingInt(WorkTimeTable::getUserId));
-    }
-
     // ========================================================================
     // HOLIDAY BALANCE LOGIC - UNCHANGED
     // ========================================================================
 
     // Calculate holiday balance change needed based on the operation
-    private HolidayBalanceChange calculateHolidayBalanceChange(WorkTimeTable existingEntry, String newValue) {
-        // Get current balance for tracking - using context method
-        Integer currentBalance = getUserHolidayBalance(userId);
-
+    private HolidayBalanceChange calculateHolidayBalanceChange(WorkTimeTable existingEntry, String newValue, Integer currentBalance) {
         boolean wasVacation = isVacationEntry(existingEntry);
         boolean willBeVacation = isVacationValue(newValue);
 
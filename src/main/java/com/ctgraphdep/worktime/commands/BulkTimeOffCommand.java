@@ -0,0 +1,276 @@
+package com.ctgraphdep.worktime.commands;
+
+import com.ctgraphdep.config.TimeOffTypeRegistry;
+import com.ctgraphdep.config.WorkCode;
+import com.ctgraphdep.model.User;
+import com.ctgraphdep.model.WorkTimeTable;
+import com.ctgraphdep.utils.LoggerUtil;
+import com.ctgraphdep.worktime.context.WorktimeOperationContext;
+import com.ctgraphdep.worktime.model.AdminWorktimeMonth;
+import com.ctgraphdep.worktime.model.OperationResult;
+import com.ctgraphdep.worktime.util.WorkTimeEntryUtil;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Applies many admin time off and national holiday changes at once.
+ * Each (user, date range, type) change is expanded to days and applied to the admin month with the same logic as
+ * AdminUpdateCommand (one user, one day) and AddNationalHolidayCommand (all users, one day), in request order.
+ * Like time off requests (TimeValidationService), ranges of several days skip weekends; a single day is taken as given.
+ * All changes are applied in memory first, so an invalid change or an insufficient holiday balance fails the whole
+ * batch before anything is written. Then each admin month file is written once and each user's holiday balance
+ * is updated once with the net change.
+ */
+public class BulkTimeOffCommand extends WorktimeOperationCommand<List<WorkTimeTable>> {
+
+    // Longest date range accepted for one change
+    private static final int MAX_DAYS_PER_CHANGE = 366;
+
+    private final List<TimeOffChange> changes;
+
+    private BulkTimeOffCommand(WorktimeOperationContext context, List<TimeOffChange> changes) {
+        super(context);
+        this.changes = changes;
+    }
+
+    // FACTORY METHOD: Create command for a batch of time off changes
+    public static BulkTimeOffCommand forChanges(WorktimeOperationContext context, List<TimeOffChange> changes) {
+        if (changes == null || changes.isEmpty()) {
+            throw new IllegalArgumentException("Changes required for bulk time off");
+        }
+
+        return new BulkTimeOffCommand(context, List.copyOf(changes));
+    }
+
+    @Override
+    protected void validate() {
+        if (!context.isCurrentUserAdmin()) {
+            throw new SecurityException("Only administrators can apply bulk time off");
+        }
+
+        for (TimeOffChange change : changes) {
+            if (change.startDate() == null || change.endDate() == null) {
+                throw new IllegalArgumentException("Start and end date required for every change");
+            }
+            if (change.endDate().isBefore(change.startDate())) {
+                throw new IllegalArgumentException(String.format("End date %s is before start date %s", change.endDate(), change.startDate()));
+            }
+            if (change.startDate().plusDays(MAX_DAYS_PER_CHANGE).isBefore(change.endDate())) {
+                throw new IllegalArgumentException(String.format("Date range %s - %s is longer than %d days",
+                        change.startDate(), change.endDate(), MAX_DAYS_PER_CHANGE));
+            }
+            if (change.dates().isEmpty()) {
+                throw new IllegalArgumentException(String.format("Date range %s - %s has no working days",
+                        change.startDate(), change.endDate()));
+            }
+
+            if (change.userId() == null && !change.isNationalHoliday()) {
+                // A missing or misspelled userId must not turn a user change into an all-users change
+                throw new IllegalArgumentException(String.format("User ID required for %s change. Only %s applies to all users",
+                        change.timeOffType(), WorkCode.NATIONAL_HOLIDAY_CODE));
+            }
+
+            if (change.isNationalHoliday()) {
+                change.dates().forEach(context::validateHolidayDate);
+            } else {
+                if (!TimeOffTypeRegistry.isValidTimeOffType(change.timeOffType()) && !isRemoval(change.timeOffType())) {
+                    throw new IllegalArgumentException(String.format("Invalid time off type %s. Expected: %s or REMOVE",
+                            change.timeOffType(), TimeOffTypeRegistry.getAllTimeOffTypesDisplay()));
+                }
+                if (context.getUserById(change.userId()).isEmpty()) {
+                    throw new IllegalArgumentException("User not found with ID: " + change.userId());
+                }
+            }
+        }
+
+        LoggerUtil.info(this.getClass(), String.format("Validated bulk time off: %d changes", changes.size()));
+    }
+
+    @Override
+    protected OperationResult executeCommand() {
+        try {
+            // Days of all changes grouped by admin month file, request order kept within a month
+            Map<YearMonth, List<DayChange>> daysByMonth = new TreeMap<>();
+            for (TimeOffChange change : changes) {
+                for (LocalDate date : change.dates()) {
+                    daysByMonth.computeIfAbsent(YearMonth.from(date), k -> new ArrayList<>()).add(new DayChange(change, date));
+                }
+            }
+
+            boolean hasNationalHolidays = changes.stream().anyMatch(TimeOffChange::isNationalHoliday);
+            List<User> nonAdminUsers = hasNationalHolidays ? context.getNonAdminUsers() : List.of();
+
+            // PHASE 1: apply everything in memory, with running holiday balances
+            Map<Integer, Integer> originalBalances = new HashMap<>();
+            Map<Integer, Integer> balances = new HashMap<>();
+            List<AdminWorktimeMonth> months = new ArrayList<>();
+            List<WorkTimeTable> processedEntries = new ArrayList<>();
+            int daysApplied = 0;
+
+            for (Map.Entry<YearMonth, List<DayChange>> monthGroup : daysByMonth.entrySet()) {
+                YearMonth yearMonth = monthGroup.getKey();
+                AdminWorktimeMonth adminMonth = context.loadAdminWorktimeMonthForUpdate(yearMonth.getYear(), yearMonth.getMonthValue());
+                months.add(adminMonth);
+
+                for (DayChange day : monthGroup.getValue()) {
+                    try {
+                        if (day.change().isNationalHoliday()) {
+                            List<User> restoredUsers = new ArrayList<>();
+                            processedEntries.addAll(AddNationalHolidayCommand.forDate(context, day.date())
+                                    .applyToMonth(adminMonth, nonAdminUsers, restoredUsers));
+                            for (User user : restoredUsers) {
+                                balances.put(user.getUserId(), getBalance(user.getUserId(), originalBalances, balances) + 1);
+                            }
+                        } else {
+                            Integer userId = day.change().userId();
+                            int balance = getBalance(userId, originalBalances, balances);
+                            balances.put(userId, balance + AdminUpdateCommand.forUpdate(context, userId, day.date(), day.change().timeOffType())
+                                    .applyToMonth(adminMonth, balance));
+                            // Nothing left to report for a removal
+                            WorkTimeTable entry = adminMonth.get(userId, day.date());
+                            if (entry != null) {
+                                processedEntries.add(entry);
+                            }
+                        }
+                        daysApplied++;
+                    } catch (IllegalArgumentException e) {
+                        // Nothing has been written yet - reject the whole batch
+                        throw new IllegalArgumentException(String.format("%s on %s: %s", describe(day.change()), day.date(), e.getMessage()), e);
+                    }
+                }
+            }
+
+            // PHASE 2: one write per admin month file
+            int filesWritten = 0;
+            for (AdminWorktimeMonth adminMonth : months) {
+                if (context.saveAdminWorktimeMonth(adminMonth)) {
+                    filesWritten++;
+                }
+            }
+
+            // PHASE 3: one balance update per user with the net change
+            OperationResult.OperationSideEffects.Builder sideEffectsBuilder = OperationResult.OperationSideEffects.builder();
+            if (!months.isEmpty()) {
+                sideEffectsBuilder.fileUpdated(months.stream()
+                        .map(month -> String.format("admin/%d/%d", month.getYear(), month.getMonth()))
+                        .collect(Collectors.joining(", ")));
+            }
+
+            int balancesUpdated = 0;
+            List<String> balanceFailures = new ArrayList<>();
+            Integer singleOldBalance = null;
+            Integer singleNewBalance = null;
+            for (Map.Entry<Integer, Integer> balance : balances.entrySet()) {
+                Integer userId = balance.getKey();
+                Integer oldBalance = originalBalances.get(userId);
+                if (Objects.equals(oldBalance, balance.getValue())) {
+                    continue;
+                }
+                if (context.updateUserHolidayBalance(userId, balance.getValue())) {
+                    balancesUpdated++;
+                    singleOldBalance = oldBalance;
+                    singleNewBalance = balance.getValue();
+                    LoggerUtil.info(this.getClass(), String.format("Holiday balance updated for user %d: %d → %d (bulk time off)",
+                            userId, oldBalance, balance.getValue()));
+                } else {
+                    balanceFailures.add(String.valueOf(userId));
+                }
+            }
+            if (balancesUpdated == 1) {
+                sideEffectsBuilder.holidayBalanceChanged(singleOldBalance, singleNewBalance);
+            } else if (balancesUpdated > 1) {
+                // Multiple users affected - use null to indicate aggregate operation
+                sideEffectsBuilder.holidayBalanceChanged(null, null);
+            }
+
+            String message = String.format("Applied %d time off changes (%d days) to %d admin month files, %d holiday balances updated",
+                    changes.size(), daysApplied, filesWritten, balancesUpdated);
+            if (!balanceFailures.isEmpty()) {
+                message += String.format(". Holiday balance update failed for users: %s", String.join(", ", balanceFailures));
+            }
+            LoggerUtil.info(this.getClass(), message);
+
+            return OperationResult.successWithSideEffects(message, getOperationType(), processedEntries, sideEffectsBuilder.build());
+
+        } catch (IllegalArgumentException e) {
+            LoggerUtil.warn(this.getClass(), "Bulk time off rejected: " + e.getMessage());
+            return OperationResult.validationFailure(e.getMessage(), getOperationType());
+
+        } catch (Exception e) {
+            String errorMessage = String.format("Failed to apply bulk time off: %s", e.getMessage());
+            LoggerUtil.error(this.getClass(), errorMessage, e);
+            return OperationResult.failure(errorMessage, getOperationType());
+        }
+    }
+
+    // Running balance of a user, read once from the user cache
+    private int getBalance(Integer userId, Map<Integer, Integer> originalBalances, Map<Integer, Integer> balances) {
+        Integer balance = balances.get(userId);
+        if (balance == null) {
+            balance = context.getUserById(userId).map(User::getPaidHolidayDays).orElse(0);
+            originalBalances.put(userId, balance);
+            balances.put(userId, balance);
+        }
+        return balance;
+    }
+
+    private static boolean isRemoval(String value) {
+        return value != null && ("REMOVE".equalsIgnoreCase(value.trim()) || "BLANK".equalsIgnoreCase(value.trim()));
+    }
+
+    private static String describe(TimeOffChange change) {
+        return change.isNationalHoliday() ? "National holiday" : String.format("%s for user %d", change.timeOffType(), change.userId());
+    }
+
+    @Override
+    protected String getCommandName() {
+        return String.format("BulkTimeOff[changes=%d]", changes.size());
+    }
+
+    @Override
+    protected String getOperationType() {
+        return OperationResult.OperationType.BULK_TIME_OFF;
+    }
+
+    // ========================================================================
+    // HELPER CLASSES
+    // ========================================================================
+
+    /**
+     * One change of a bulk request: a time off type for a user over a date range (inclusive),
+     * or a national holiday for all non-admin users when userId is null and the type is SN.
+     */
+    public record TimeOffChange(Integer userId, LocalDate startDate, LocalDate endDate, String timeOffType) {
+
+        public static TimeOffChange forUser(Integer userId, LocalDate startDate, LocalDate endDate, String timeOffType) {
+            if (userId == null) {
+                throw new IllegalArgumentException("User ID required for user time off change");
+            }
+            return new TimeOffChange(userId, startDate, endDate, timeOffType);
+        }
+
+        public static TimeOffChange nationalHoliday(LocalDate startDate, LocalDate endDate) {
+            return new TimeOffChange(null, startDate, endDate, WorkCode.NATIONAL_HOLIDAY_CODE);
+        }
+
+        public boolean isNationalHoliday() {
+            return userId == null && WorkCode.NATIONAL_HOLIDAY_CODE.equals(timeOffType);
+        }
+
+        // Days of the range; weekends are skipped unless the range is a single day
+        public List<LocalDate> dates() {
+            if (startDate.equals(endDate)) {
+                return List.of(startDate);
+            }
+            return startDate.datesUntil(endDate.plusDays(1))
+                    .filter(date -> !WorkTimeEntryUtil.isDateWeekend(date))
+                    .toList();
+        }
+    }
+
+    private record DayChange(TimeOffChange change, LocalDate date) {
+    }
+}
@@ -3,34 +3,55 @@ package com.ctgraphdep.worktime.commands;
 import com.ctgraphdep.merge.constants.MergingStatusConstants;
 import com.ctgraphdep.model.User;
 import com.ctgraphdep.model.WorkTimeTable;
+import com.ctgraphdep.worktime.service.ConsolidationFingerprintService;
 import com.ctgraphdep.worktime.service.WorktimeMergeService;
 import com.ctgraphdep.worktime.context.WorktimeOperationContext;
-import com.ctgraphdep.worktime.accessor.WorktimeDataAccessor;
 import com.ctgraphdep.worktime.accessor.NetworkOnlyAccessor;
+import com.ctgraphdep.worktime.model.AdminWorktimeMonth;
 import com.ctgraphdep.worktime.model.OperationResult;
 import com.ctgraphdep.utils.LoggerUtil;
 import com.ctgraphdep.utils.CalculateWorkHoursUtil;
 import com.ctgraphdep.worktime.util.StatusCleanupUtil;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.*;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+/**
+ * Consolidates the network worktime of all non-admin users into the admin general file of a month.
+ * Incremental: users whose sources are unchanged since the last consolidation (same network file stamp,
+ * schedule and admin slice - see ConsolidationFingerprintService) are skipped. The remaining users are
+ * read and merged in parallel on the consolidation executor; only their slices of the admin month change.
+ */
 public class ConsolidateWorkTimeCommand extends WorktimeOperationCommand<Map<String, Object>> {
     private final WorktimeMergeService worktimeMergeService;
+    private final ConsolidationFingerprintService fingerprintService;
+    private final Executor consolidationExecutor;
     private final int year;
     private final int month;
 
-    private ConsolidateWorkTimeCommand(WorktimeOperationContext context, WorktimeMergeService worktimeMergeService, int year, int month) {
+    private ConsolidateWorkTimeCommand(WorktimeOperationContext context, WorktimeMergeService worktimeMergeService,
+                                       ConsolidationFingerprintService fingerprintService, Executor consolidationExecutor, int year, int month) {
         super(context);
         this.worktimeMergeService = worktimeMergeService;
+        this.fingerprintService = fingerprintService;
+        this.consolidationExecutor = consolidationExecutor;
         this.year = year;
         this.month = month;
     }
 
     // FACTORY METHOD: Create command for worktime consolidation
-    public static ConsolidateWorkTimeCommand forPeriod(WorktimeOperationContext context, WorktimeMergeService worktimeMergeService, int year, int month) {
+    public static ConsolidateWorkTimeCommand forPeriod(WorktimeOperationContext context, WorktimeMergeService worktimeMergeService,
+                                                       ConsolidationFingerprintService fingerprintService, Executor consolidationExecutor,
+                                                       int year, int month) {
         if (year < 2000 || year > 2100) {
             throw new IllegalArgumentException("Invalid year for consolidation: " + year);
         }
@@ -38,7 +59,7 @@ public class ConsolidateWorkTimeCommand extends WorktimeOperationCommand<Map<Str
             throw new IllegalArgumentException("Invalid month for consolidation: " + month);
         }
 
-        return new ConsolidateWorkTimeCommand(context, worktimeMergeService, year, month);
+        return new ConsolidateWorkTimeCommand(context, worktimeMergeService, fingerprintService, consolidationExecutor, year, month);
     }
 
     @Override
@@ -67,14 +88,8 @@ public class ConsolidateWorkTimeCommand extends WorktimeOperationCommand<Map<Str
         LoggerUtil.info(this.getClass(), String.format("Starting admin worktime consolidation with Universal Merge for %d/%d", month, year));
 
         try {
-            // Use AdminOwnDataAccessor for admin operations
-            WorktimeDataAccessor adminAccessor = context.getDataAccessor("admin");
-
-            // STEP 1: Load current admin general file for optimization check
-            List<WorkTimeTable> currentAdminGeneral = adminAccessor.readWorktime("admin", year, month);
-            if (currentAdminGeneral == null) {
-                currentAdminGeneral = new ArrayList<>();
-            }
+            // STEP 1: Load current admin general file, indexed by user and day
+            AdminWorktimeMonth adminMonth = context.loadAdminWorktimeMonthForUpdate(year, month);
 
             // STEP 2: Get all non-admin users to process
             List<User> nonAdminUsers = context.getNonAdminUsers();
@@ -83,45 +98,72 @@ public class ConsolidateWorkTimeCommand extends WorktimeOperationCommand<Map<Str
                 return OperationResult.success("No non-admin users found - nothing to consolidate", getOperationType());
             }
 
-            LoggerUtil.info(this.getClass(), String.format("Processing Universal Merge consolidation for %d non-admin users", nonAdminUsers.size()));
+            boolean adminCleanupNeeded = StatusCleanupUtil.cleanupStatuses(
+                    adminMonth.toList(), String.format("admin file: %d/%d (consolidation)", year, month));
+            if (adminCleanupNeeded) {
+                // Statuses were cleaned in place - the JSON kept at read time no longer matches
+                adminMonth.getUserIds().forEach(adminMonth::invalidateSerialized);
+            }
+
+            // STEP 3: Skip users whose sources did not change since the last consolidation
+            ConsolidationPlan plan = planConsolidation(nonAdminUsers, adminMonth);
 
-            // STEP 3: Calculate expected consolidation result using Universal Merge
-            ConsolidationResult consolidationResult = calculateUniversalMergeConsolidationResult(nonAdminUsers, currentAdminGeneral);
+            LoggerUtil.info(this.getClass(), String.format("Processing Universal Merge consolidation for %d non-admin users: %d to merge, %d unchanged",
+                    nonAdminUsers.size(), plan.usersToMerge.size(), plan.skippedUserIds.size()));
 
-            // STEP 3.5: POST-CONSOLIDATION ZS VALIDATION - Apply ZS logic to all consolidated entries
-            boolean zsUpdated = validateAndApplyShortDayLogicForAllUsers(consolidationResult.consolidatedEntries, nonAdminUsers);
+            // STEP 4: Calculate expected consolidation result of the changed users using Universal Merge, in parallel
+            ConsolidationResult consolidationResult = calculateUniversalMergeConsolidationResult(plan.usersToMerge, adminMonth);
+            consolidationResult.mergeStatistics.put("adminFileCleanupNeeded", adminCleanupNeeded ? 1 : 0);
+
+            // STEP 4.5: POST-CONSOLIDATION ZS VALIDATION - Apply ZS logic to the merged entries
+            // (skipped users were validated by the consolidation that produced their fingerprint)
+            boolean zsUpdated = validateAndApplyShortDayLogicForAllUsers(consolidationResult.consolidatedEntries, plan.usersToMerge);
             if (zsUpdated) {
                 LoggerUtil.info(this.getClass(), "POST-CONSOLIDATION: ZS validation updated entries");
+                // Merged entries can be the admin entries themselves, changed in place by the ZS logic
+                consolidationResult.entriesByUser.keySet().forEach(adminMonth::invalidateSerialized);
             }
 
-            // STEP 4: OPTIMIZATION - Check if consolidation is needed
-            if (isConsolidationUpToDate(currentAdminGeneral, consolidationResult.consolidatedEntries)) {
-                LoggerUtil.info(this.getClass(), String.format("Admin general file already up-to-date for %d/%d - skipping consolidation", month, year));
-                return OperationResult.success(String.format("Admin worktime already consolidated for %d/%d", month, year), getOperationType());
-            }
-
-            // STEP 5: Perform actual consolidation (data has changed)
-            LoggerUtil.info(this.getClass(), String.format("Universal Merge consolidation needed: %d users, %d total entries, %d merge operations",
-                    nonAdminUsers.size(), consolidationResult.consolidatedEntries.size(), consolidationResult.totalMergeOperations));
+            // STEP 5: OPTIMIZATION - Apply only the users whose entries changed, skip the write if none did
+            Set<Integer> consolidatedUserIds = new HashSet<>(plan.skippedUserIds);
+            plan.usersToMerge.forEach(user -> consolidatedUserIds.add(user.getUserId()));
+            int changedUsers = applyConsolidationResult(adminMonth, consolidationResult.entriesByUser, consolidatedUserIds);
 
-            // Save consolidated result to admin general file using AdminOwnDataAccessor
-            adminAccessor.writeWorktimeWithStatus("admin", consolidationResult.consolidatedEntries, year, month, context.getCurrentUser().getRole());
-
-            // Create comprehensive result data
             Map<String, Object> resultData = new HashMap<>();
             resultData.put("usersProcessed", nonAdminUsers.size());
-            resultData.put("totalConsolidatedEntries", consolidationResult.consolidatedEntries.size());
+            resultData.put("usersSkipped", plan.skippedUserIds.size());
+            resultData.put("usersMerged", consolidationResult.entriesByUser.size());
+            resultData.put("usersFailed", consolidationResult.failedUserIds.size());
+            resultData.put("usersChanged", changedUsers);
+            resultData.put("userMergeTimings", consolidationResult.userMergeTimings);
             resultData.put("totalMergeOperations", consolidationResult.totalMergeOperations);
             resultData.put("universalMergeStatistics", consolidationResult.mergeStatistics);
             resultData.put("processedUsernames", nonAdminUsers.stream().map(User::getUsername).collect(Collectors.toList()));
 
+            if (!adminMonth.isDirty()) {
+                recordFingerprints(plan, consolidationResult, adminMonth);
+                LoggerUtil.info(this.getClass(), String.format("Admin general file already up-to-date for %d/%d - skipping consolidation (%d users unchanged, %d merged)",
+                        month, year, plan.skippedUserIds.size(), consolidationResult.entriesByUser.size()));
+                return OperationResult.success(String.format("Admin worktime already consolidated for %d/%d", month, year), getOperationType(), resultData);
+            }
+
+            // STEP 6: Perform actual consolidation (data has changed)
+            LoggerUtil.info(this.getClass(), String.format("Universal Merge consolidation needed: %d users (%d merged, %d changed), %d merge operations",
+                    nonAdminUsers.size(), consolidationResult.entriesByUser.size(), changedUsers, consolidationResult.totalMergeOperations));
+
+            // Save consolidated result to admin general file - only changed users are serialized again
+            context.saveAdminWorktimeMonth(adminMonth);
+            recordFingerprints(plan, consolidationResult, adminMonth);
+
+            resultData.put("totalConsolidatedEntries", adminMonth.size());
+
             // Create side effects tracking
             OperationResult.OperationSideEffects sideEffects = OperationResult.OperationSideEffects.builder()
                     .fileUpdated(String.format("admin-general/%d/%d", year, month))
                     .build();
 
-            String successMessage = String.format("Universal Merge consolidation completed for %d/%d: %d users processed, %d entries consolidated, %d merge operations",
-                    month, year, nonAdminUsers.size(), consolidationResult.consolidatedEntries.size(), consolidationResult.totalMergeOperations);
+            String successMessage = String.format("Universal Merge consolidation completed for %d/%d: %d users processed (%d unchanged skipped), %d entries consolidated, %d merge operations",
+                    month, year, nonAdminUsers.size(), plan.skippedUserIds.size(), adminMonth.size(), consolidationResult.totalMergeOperations);
 
             LoggerUtil.info(this.getClass(), successMessage);
 
@@ -134,32 +176,63 @@ public class ConsolidateWorkTimeCommand extends WorktimeOperationCommand<Map<Str
         }
     }
 
-    // Calculate consolidation result using Universal Merge Engine with accessor pattern - ORIGINAL LOGIC
-    private ConsolidationResult calculateUniversalMergeConsolidationResult(List<User> users, List<WorkTimeTable> adminLocalEntries) {
+    // Split users into unchanged (fingerprint matches the last consolidation) and users to merge.
+    // Users that cannot be fingerprinted (network unavailable) are always merged.
+    private ConsolidationPlan planConsolidation(List<User> users, AdminWorktimeMonth adminMonth) {
+        List<User> usersToMerge = new ArrayList<>();
+        Set<Integer> skippedUserIds = new HashSet<>();
+        Map<Integer, String> networkStamps = new HashMap<>();
+
+        for (User user : users) {
+            // Stamp taken before the merge reads the file - a write in between only causes one more merge next time
+            String stamp = context.getWorktimeDataService().getUserNetworkFileStamp(user.getUsername(), year, month);
+            String fingerprint = ConsolidationFingerprintService.fingerprint(
+                    stamp, user.getSchedule(), adminMonth.getUserEntries(user.getUserId()).hashCode());
+
+            if (fingerprint != null && fingerprint.equals(fingerprintService.getFingerprint(year, month, user.getUserId()))) {
+                skippedUserIds.add(user.getUserId());
+            } else {
+                usersToMerge.add(user);
+                networkStamps.put(user.getUserId(), stamp);
+            }
+        }
+
+        return new ConsolidationPlan(usersToMerge, skippedUserIds, networkStamps);
+    }
+
+    // Fingerprint merged users against the admin slices as saved; failed users are forgotten so they merge again
+    private void recordFingerprints(ConsolidationPlan plan, ConsolidationResult consolidationResult, AdminWorktimeMonth adminMonth) {
+        Map<Integer, String> fingerprints = new HashMap<>();
+        for (User user : plan.usersToMerge) {
+            Integer userId = user.getUserId();
+            fingerprints.put(userId, consolidationResult.failedUserIds.contains(userId) ? null :
+                    ConsolidationFingerprintService.fingerprint(plan.networkStamps.get(userId), user.getSchedule(),
+                            adminMonth.getUserEntries(userId).hashCode()));
+        }
+        fingerprintService.record(year, month, fingerprints);
+    }
+
+    // Calculate consolidation result using Universal Merge Engine with accessor pattern.
+    // Users are merged concurrently; each task only reads its own network file and its own copy of the admin slice.
+    private ConsolidationResult calculateUniversalMergeConsolidationResult(List<User> users, AdminWorktimeMonth adminMonth) throws InterruptedException {
         List<WorkTimeTable> consolidatedEntries = new ArrayList<>();
+        Map<Integer, List<WorkTimeTable>> entriesByUser = new LinkedHashMap<>();
+        Map<String, Long> userMergeTimings = new TreeMap<>();
+        Set<Integer> failedUserIds = new HashSet<>();
         int totalMergeOperations = 0;
         Map<String, Integer> mergeStatistics = new HashMap<>();
 
         // Initialize statistics - ORIGINAL LOGIC
         mergeStatistics.put("usersProcessed", 0);
         mergeStatistics.put("userEntriesProcessed", 0);
-        mergeStatistics.put("adminEntriesProcessed", 0);
+        mergeStatistics.put("adminEntriesProcessed", adminMonth.size());
         mergeStatistics.put("successfulMerges", 0);
         mergeStatistics.put("skippedInProcessEntries", 0);
 
-        boolean adminCleanupNeeded = StatusCleanupUtil.cleanupStatuses(
-                adminLocalEntries, String.format("admin file: %d/%d (consolidation)", year, month));
-
-        if (adminCleanupNeeded) {
-            mergeStatistics.put("adminFileCleanupNeeded", 1);
+        if (users.isEmpty()) {
+            return new ConsolidationResult(consolidatedEntries, entriesByUser, totalMergeOperations, mergeStatistics, userMergeTimings, failedUserIds);
         }
 
-        Map<String, WorkTimeTable> adminEntriesMap = createEntriesMap(adminLocalEntries);
-
-        LoggerUtil.info(this.getClass(), String.format("Universal Merge consolidation: loaded %d admin local entries as base, cleanup needed: %s",
-                adminLocalEntries.size(), adminCleanupNeeded));
-        mergeStatistics.put("adminEntriesProcessed", adminLocalEntries.size());
-
         // Create NetworkOnlyAccessor for reading user network data
         NetworkOnlyAccessor networkAccessor = new NetworkOnlyAccessor(
                 context.getWorktimeDataService(),
@@ -168,43 +241,64 @@ public class ConsolidateWorkTimeCommand extends WorktimeOperationCommand<Map<Str
                 context.getTimeOffDataService()
         );
 
-        // Process each user's network data with Universal Merge - ORIGINAL LOGIC
+        // Admin slices are copied here - the month index itself is never touched by the merge threads
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        CompletionService<UserConsolidationResult> completionService = new ExecutorCompletionService<>(consolidationExecutor);
         for (User user : users) {
+            List<WorkTimeTable> userAdminEntries = adminMonth.getUserEntries(user.getUserId());
+            completionService.submit(new DelegatingSecurityContextCallable<>(
+                    () -> processUserForUniversalMergeConsolidation(user, userAdminEntries, networkAccessor), securityContext));
+        }
+
+        for (int i = 0; i < users.size(); i++) {
+            UserConsolidationResult userResult;
             try {
-                UserConsolidationResult userResult = processUserForUniversalMergeConsolidation(user, adminEntriesMap, networkAccessor);
+                userResult = completionService.take().get();
+            } catch (ExecutionException e) {
+                // processUserForUniversalMergeConsolidation handles its own errors - only reached on unexpected failures
+                LoggerUtil.error(this.getClass(), "Unexpected error in parallel Universal Merge consolidation: " + e.getMessage(), e);
+                continue;
+            }
 
-                consolidatedEntries.addAll(userResult.entries);
-                totalMergeOperations += userResult.mergeOperations;
+            User user = userResult.user;
+            userMergeTimings.put(user.getUsername(), userResult.mergeMillis);
+            if (userResult.failed) {
+                // Keep the user's admin entries as they are rather than replacing them with an empty merge
+                failedUserIds.add(user.getUserId());
+                continue;
+            }
 
-                // Update statistics
-                mergeStatistics.put("usersProcessed", mergeStatistics.get("usersProcessed") + 1);
-                mergeStatistics.put("userEntriesProcessed", mergeStatistics.get("userEntriesProcessed") + userResult.userEntriesCount);
-                mergeStatistics.put("successfulMerges", mergeStatistics.get("successfulMerges") + userResult.mergeOperations);
-                mergeStatistics.put("skippedInProcessEntries", mergeStatistics.get("skippedInProcessEntries") + userResult.skippedInProcessEntries);
+            consolidatedEntries.addAll(userResult.entries);
+            entriesByUser.put(user.getUserId(), userResult.entries);
+            totalMergeOperations += userResult.mergeOperations;
 
-                LoggerUtil.debug(this.getClass(), String.format("Universal Merge processed %d entries for user %s (%d merge operations)",
-                        userResult.entries.size(), user.getUsername(), userResult.mergeOperations));
+            // Update statistics
+            mergeStatistics.merge("usersProcessed", 1, Integer::sum);
+            mergeStatistics.merge("userEntriesProcessed", userResult.userEntriesCount, Integer::sum);
+            mergeStatistics.merge("successfulMerges", userResult.mergeOperations, Integer::sum);
+            mergeStatistics.merge("skippedInProcessEntries", userResult.skippedInProcessEntries, Integer::sum);
 
-            } catch (Exception e) {
-                LoggerUtil.error(this.getClass(), String.format("Error processing user %s for Universal Merge consolidation: %s",
-                        user.getUsername(), e.getMessage()), e);
-                // Continue with other users - don't fail entire consolidation
-            }
+            LoggerUtil.debug(this.getClass(), String.format("Universal Merge processed %d entries for user %s (%d merge operations, %d ms)",
+                    userResult.entries.size(), user.getUsername(), userResult.mergeOperations, userResult.mergeMillis));
         }
 
+        // Users whose task never completed keep their admin entries too, and merge again next time
+        users.stream().map(User::getUserId).filter(userId -> !entriesByUser.containsKey(userId)).forEach(failedUserIds::add);
+
         // Sort consolidated entries for consistency - ORIGINAL LOGIC
         consolidatedEntries.sort(Comparator.comparing(WorkTimeTable::getWorkDate).thenComparingInt(WorkTimeTable::getUserId));
 
         LoggerUtil.info(this.getClass(), String.format("Universal Merge consolidation calculated: %d total entries, %d merge operations, %d users processed",
                 consolidatedEntries.size(), totalMergeOperations, mergeStatistics.get("usersProcessed")));
 
-        return new ConsolidationResult(consolidatedEntries, totalMergeOperations, mergeStatistics);
+        return new ConsolidationResult(consolidatedEntries, entriesByUser, totalMergeOperations, mergeStatistics, userMergeTimings, failedUserIds);
     }
 
     // Process individual user using Universal Merge Engine with NetworkOnlyAccessor - ORIGINAL LOGIC
-    private UserConsolidationResult processUserForUniversalMergeConsolidation(User user, Map<String, WorkTimeTable> adminEntriesMap, NetworkOnlyAccessor networkAccessor) {
+    private UserConsolidationResult processUserForUniversalMergeConsolidation(User user, List<WorkTimeTable> userAdminEntries, NetworkOnlyAccessor networkAccessor) {
         String username = user.getUsername();
         Integer userId = user.getUserId();
+        long startNanos = System.nanoTime();
 
         LoggerUtil.debug(this.getClass(), String.format("Processing Universal Merge consolidation for user %s (ID: %d)", username, userId));
 
@@ -218,11 +312,6 @@ public class ConsolidateWorkTimeCommand extends WorktimeOperationCommand<Map<Str
             boolean userCleanupNeeded = StatusCleanupUtil.cleanupStatuses(
                     userNetworkEntries, String.format("user file: %s-%d/%d (consolidation-readonly)", username, year, month));
 
-            // Filter admin entries for this specific user - ORIGINAL LOGIC
-            List<WorkTimeTable> userAdminEntries = adminEntriesMap.values().stream()
-                    .filter(entry -> userId.equals(entry.getUserId()))
-                    .collect(Collectors.toList());
-
             LoggerUtil.debug(this.getClass(), String.format("User %s Universal Merge input: %d network entries, %d admin entries",
                     username, userNetworkEntries.size(), userAdminEntries.size()));
 
@@ -239,27 +328,40 @@ public class ConsolidateWorkTimeCommand extends WorktimeOperationCommand<Map<Str
             LoggerUtil.debug(this.getClass(), String.format("User %s Universal Merge result: %d merged entries, %d operations, %d skipped in-process",
                     username, mergedEntries.size(), mergeOperations, skippedInProcessEntries));
 
-            return new UserConsolidationResult(mergedEntries, mergeOperations, userNetworkEntries.size(), skippedInProcessEntries, userCleanupNeeded);
+            return new UserConsolidationResult(user, mergedEntries, mergeOperations, userNetworkEntries.size(), skippedInProcessEntries,
+                    userCleanupNeeded, elapsedMillis(startNanos), false);
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), String.format("Error in Universal Merge for user %s: %s", username, e.getMessage()), e);
-            return new UserConsolidationResult(new ArrayList<>(), 0, 0, 0, false);
+            return new UserConsolidationResult(user, new ArrayList<>(), 0, 0, 0, false, elapsedMillis(startNanos), true);
         }
     }
 
-    // Check if consolidation is up to date - ORIGINAL LOGIC
-    private boolean isConsolidationUpToDate(List<WorkTimeTable> currentAdminGeneral, List<WorkTimeTable> expectedConsolidation) {
-        if (currentAdminGeneral.size() != expectedConsolidation.size()) {
-            return false;
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    // Replace the admin entries of every user whose consolidated entries differ, drop users no longer consolidated.
+    // Returns the number of users replaced; unchanged users stay clean and are not serialized again.
+    private int applyConsolidationResult(AdminWorktimeMonth adminMonth, Map<Integer, List<WorkTimeTable>> entriesByUser,
+                                         Set<Integer> consolidatedUserIds) {
+        int changedUsers = 0;
+
+        for (Map.Entry<Integer, List<WorkTimeTable>> userEntries : entriesByUser.entrySet()) {
+            List<WorkTimeTable> expected = new ArrayList<>(userEntries.getValue());
+            expected.sort(Comparator.comparing(WorkTimeTable::getWorkDate));
+
+            if (!compareWorkTimeEntriesWithUniversalStatus(adminMonth.getUserEntries(userEntries.getKey()), expected)) {
+                adminMonth.replaceUserEntries(userEntries.getKey(), expected);
+                changedUsers++;
+            }
         }
 
-        // Sort both lists for comparison
-        currentAdminGeneral.sort(Comparator.comparing(WorkTimeTable::getWorkDate).thenComparingInt(WorkTimeTable::getUserId));
-        expectedConsolidation.sort(Comparator.comparing(WorkTimeTable::getWorkDate).thenComparingInt(WorkTimeTable::getUserId));
+        adminMonth.retainUsers(consolidatedUserIds);
 
-        boolean isEqual = compareWorkTimeEntriesWithUniversalStatus(currentAdminGeneral, expectedConsolidation);
-        LoggerUtil.debug(this.getClass(), String.format("Consolidation up-to-date check: %s", isEqual ? "YES" : "NO"));
-        return isEqual;
+        LoggerUtil.debug(this.getClass(), String.format("Consolidation up-to-date check: %d of %d users changed, admin file %s",
+                changedUsers, entriesByUser.size(), adminMonth.isDirty() ? "needs update" : "up to date"));
+        return changedUsers;
     }
 
     // Compare work time entries with Universal Status - ORIGINAL LOGIC
@@ -288,21 +390,6 @@ public class ConsolidateWorkTimeCommand extends WorktimeOperationCommand<Map<Str
         return true;
     }
 
-    // Create a map of entries by user-date key for efficient lookup - ORIGINAL LOGIC
-    private Map<String, WorkTimeTable> createEntriesMap(List<WorkTimeTable> entries) {
-        if (entries == null) {
-            return new HashMap<>();
-        }
-
-        return entries.stream().collect(Collectors.toMap(entry -> createEntryKey(entry.getUserId(), entry.getWorkDate()),
-                entry -> entry, (existing, replacement) -> replacement));
-    }
-
-    // Create unique key for entry lookup - ORIGINAL LOGIC
-    private String createEntryKey(Integer userId, LocalDate date) {
-        return userId + "_" + date.toString();
-    }
-
     // ========================================================================
     // POST-CONSOLIDATION ZS (SHORT DAY) VALIDATION
     // ========================================================================
@@ -423,11 +510,17 @@ public class ConsolidateWorkTimeCommand extends WorktimeOperationCommand<Map<Str
     // ========================================================================
 
     // Result of overall consolidation operation
-    private record ConsolidationResult(List<WorkTimeTable> consolidatedEntries, int totalMergeOperations, Map<String, Integer> mergeStatistics) {
+    private record ConsolidationResult(List<WorkTimeTable> consolidatedEntries, Map<Integer, List<WorkTimeTable>> entriesByUser,
+                                       int totalMergeOperations, Map<String, Integer> mergeStatistics,
+                                       Map<String, Long> userMergeTimings, Set<Integer> failedUserIds) {
+    }
+
+    // Users to merge and users skipped as unchanged, with the network stamps the merged users were planned with
+    private record ConsolidationPlan(List<User> usersToMerge, Set<Integer> skippedUserIds, Map<Integer, String> networkStamps) {
     }
 
     // Result of processing single user for consolidation
-    private record UserConsolidationResult(List<WorkTimeTable> entries, int mergeOperations, int userEntriesCount,
-                                           int skippedInProcessEntries, boolean hadOldStatuses) {
+    private record UserConsolidationResult(User user, List<WorkTimeTable> entries, int mergeOperations, int userEntriesCount,
+                                           int skippedInProcessEntries, boolean hadOldStatuses, long mergeMillis, boolean failed) {
     }
 }
\ No newline at end of file
@@ -2,7 +2,7 @@ package com.ctgraphdep.worktime.commands.team;
 
 import com.ctgraphdep.config.WorkCode;
 import com.ctgraphdep.model.RegisterEntry;
-import com.ctgraphdep.model.WorkTimeTable;
+import com.ctgraphdep.model.UserMonthSummary;
 import com.ctgraphdep.model.WorkUsersSessionsStates;
 import com.ctgraphdep.model.dto.TeamMemberDTO;
 import com.ctgraphdep.model.dto.team.*;
@@ -13,19 +13,33 @@ import com.ctgraphdep.worktime.accessor.WorktimeDataAccessor;
 import com.ctgraphdep.worktime.accessor.NetworkOnlyAccessor;
 import com.ctgraphdep.worktime.model.OperationResult;
 import com.ctgraphdep.utils.LoggerUtil;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.stream.Collectors;
 
 public class UpdateTeamStatisticsCommand extends WorktimeOperationCommand<Object> {
+    // Keys of TeamMemberDTO.sourceStamps
+    private static final String STAMP_WORKTIME = "worktime";
+    private static final String STAMP_REGISTER = "register";
+    private static final String STAMP_SESSION = "session";
+
+    private final Executor executor;
     private final String teamLeadUsername;
     private final int year;
     private final int month;
 
-    public UpdateTeamStatisticsCommand(WorktimeOperationContext context, String teamLeadUsername, int year, int month) {
+    public UpdateTeamStatisticsCommand(WorktimeOperationContext context, Executor executor, String teamLeadUsername, int year, int month) {
         super(context);
+        this.executor = executor;
         this.teamLeadUsername = teamLeadUsername;
         this.year = year;
         this.month = month;
@@ -73,42 +87,38 @@ public class UpdateTeamStatisticsCommand extends WorktimeOperationCommand<Object
 
             LoggerUtil.info(this.getClass(), String.format("Found %d team members to update", teamMemberDTOS.size()));
 
+            long startTime = System.currentTimeMillis();
+            List<MemberRefresh> refreshes = refreshMembers(teamMemberDTOS);
+
             int successfulUpdates = 0;
+            int skippedMembers = 0;
+            int changedMembers = 0;
             List<String> updateErrors = new ArrayList<>();
 
-            for (TeamMemberDTO member : teamMemberDTOS) {
-                try {
-                    // Update work time statistics
-                    updateWorkTimeStats(member, year, month);
-
-                    // Update register statistics
-                    updateRegisterStats(member, year, month);
-
-                    // Update session details
-                    updateSessionDetails(member);
-
-                    // Update time off information
-                    updateTimeOffList(member, year, month);
-
-                    successfulUpdates++;
-
-                    LoggerUtil.debug(this.getClass(), String.format("Successfully updated statistics for team member: %s", member.getUsername()));
-
-                } catch (Exception e) {
-                    String errorMsg = String.format("Failed to update statistics for %s: %s", member.getUsername(), e.getMessage());
-                    updateErrors.add(errorMsg);
-                    LoggerUtil.error(this.getClass(), errorMsg, e);
-                    // Continue with other members
+            for (MemberRefresh refresh : refreshes) {
+                if (refresh.error != null) {
+                    updateErrors.add(refresh.error);
+                    continue;
+                }
+                successfulUpdates++;
+                if (refresh.skipped) {
+                    skippedMembers++;
+                }
+                if (refresh.changed) {
+                    changedMembers++;
                 }
             }
 
-            // Save updated team members
-            context.writeTeamMembers(teamMemberDTOS, teamLeadUsername, year, month);
+            // Save updated team members once, and only when a member's statistics or source stamps changed
+            if (changedMembers > 0) {
+                context.writeTeamMembers(teamMemberDTOS, teamLeadUsername, year, month);
+            }
 
             // Create result message
             String message;
             if (updateErrors.isEmpty()) {
-                message = String.format("Successfully updated statistics for all %d team members for %s - %d/%d", successfulUpdates, teamLeadUsername, year, month);
+                message = String.format("Successfully updated statistics for all %d team members for %s - %d/%d (%d unchanged inputs, %d changed, %d ms)",
+                        successfulUpdates, teamLeadUsername, year, month, skippedMembers, changedMembers, System.currentTimeMillis() - startTime);
             } else {
                 message = String.format("Updated statistics for %d/%d team members for %s - %d/%d. %d failures: %s",
                         successfulUpdates, teamMemberDTOS.size(), teamLeadUsername, year, month,
@@ -118,10 +128,12 @@ public class UpdateTeamStatisticsCommand extends WorktimeOperationCommand<Object
             LoggerUtil.info(this.getClass(), message);
 
             // Create side effects tracking
-            OperationResult.OperationSideEffects sideEffects = OperationResult.OperationSideEffects.builder()
-                    .fileUpdated(String.format("team/%s/%d/%d", teamLeadUsername, year, month)).build();
+            OperationResult.OperationSideEffects.Builder sideEffects = OperationResult.OperationSideEffects.builder();
+            if (changedMembers > 0) {
+                sideEffects.fileUpdated(String.format("team/%s/%d/%d", teamLeadUsername, year, month));
+            }
 
-            return OperationResult.successWithSideEffects(message, getOperationType(), teamMemberDTOS, sideEffects);
+            return OperationResult.successWithSideEffects(message, getOperationType(), teamMemberDTOS, sideEffects.build());
 
         } catch (Exception e) {
             String errorMessage = String.format("Error updating team statistics for %s - %d/%d: %s", teamLeadUsername, year, month, e.getMessage());
@@ -132,8 +144,109 @@ public class UpdateTeamStatisticsCommand extends WorktimeOperationCommand<Object
         }
     }
 
-    // Update work time statistics for a team member - ORIGINAL LOGIC with NetworkOnlyAccessor
-    private void updateWorkTimeStats(TeamMemberDTO member, int year, int month) {
+    // Refreshes all members concurrently; the executor's pool size bounds the number of parallel network reads.
+    // Each task only touches its own member.
+    private List<MemberRefresh> refreshMembers(List<TeamMemberDTO> members) throws InterruptedException {
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        CompletionService<MemberRefresh> completionService = new ExecutorCompletionService<>(executor);
+        for (TeamMemberDTO member : members) {
+            completionService.submit(new DelegatingSecurityContextCallable<>(() -> refreshMember(member), securityContext));
+        }
+
+        List<MemberRefresh> refreshes = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            try {
+                refreshes.add(completionService.take().get());
+            } catch (ExecutionException e) {
+                // refreshMember handles its own errors - only reached on unexpected failures
+                LoggerUtil.error(this.getClass(), "Unexpected error in parallel team statistics update: " + e.getMessage(), e);
+                refreshes.add(new MemberRefresh(false, false, "Unexpected error: " + e.getMessage()));
+            }
+        }
+        return refreshes;
+    }
+
+    // Recomputes the statistics of one member whose source files changed since the last refresh.
+    // Source files are compared by their network stamps (size and last modified); a null stamp always recomputes.
+    // A source whose read failed keeps no stamp, so the next refresh retries it instead of trusting stale statistics.
+    private MemberRefresh refreshMember(TeamMemberDTO member) {
+        try {
+            Map<String, String> oldStamps = member.getSourceStamps() != null ? member.getSourceStamps() : Map.of();
+            Map<String, String> newStamps = new HashMap<>();
+            newStamps.put(STAMP_WORKTIME, context.getWorktimeDataService().getUserNetworkFileStamp(member.getUsername(), year, month));
+            newStamps.put(STAMP_REGISTER, context.getRegisterDataService().getUserNetworkFileStamp(member.getUsername(), member.getUserId(), year, month));
+            newStamps.put(STAMP_SESSION, context.getSessionDataService().getNetworkSessionFileStamp(member.getUsername(), member.getUserId()));
+
+            // The team lead's own statistics are read from local files, which the network stamps do not cover
+            boolean ownData = teamLeadUsername.equals(member.getUsername());
+            boolean worktimeChanged = ownData || isChanged(STAMP_WORKTIME, oldStamps, newStamps);
+            boolean registerChanged = ownData || isChanged(STAMP_REGISTER, oldStamps, newStamps);
+            boolean sessionChanged = isChanged(STAMP_SESSION, oldStamps, newStamps);
+
+            if (!worktimeChanged && !registerChanged && !sessionChanged) {
+                LoggerUtil.debug(this.getClass(), String.format("Source files of team member %s unchanged, keeping statistics", member.getUsername()));
+                return new MemberRefresh(false, true, null);
+            }
+
+            MemberStatsSnapshot before = MemberStatsSnapshot.of(member);
+
+            if (worktimeChanged) {
+                // Worktime aggregates from the member's published summary, or from the full month file
+                UserMonthSummary.WorktimeSummary worktimeSummary = loadWorktimeSummary(member, year, month);
+
+                boolean worktimeUpdated = false;
+                if (worktimeSummary != null) {
+                    // Update work time statistics
+                    boolean statsUpdated = updateWorkTimeStats(member, worktimeSummary);
+
+                    // Update time off information
+                    boolean timeOffUpdated = updateTimeOffList(member, worktimeSummary);
+                    worktimeUpdated = statsUpdated && timeOffUpdated;
+                }
+                if (!worktimeUpdated) {
+                    newStamps.remove(STAMP_WORKTIME);
+                }
+            }
+
+            if (registerChanged && !updateRegisterStats(member, year, month)) {
+                newStamps.remove(STAMP_REGISTER);
+            }
+
+            if (sessionChanged && !updateSessionDetails(member)) {
+                newStamps.remove(STAMP_SESSION);
+            }
+
+            member.setSourceStamps(newStamps);
+            boolean changed = !before.equals(MemberStatsSnapshot.of(member)) || !newStamps.equals(oldStamps);
+
+            LoggerUtil.debug(this.getClass(), String.format("Successfully updated statistics for team member: %s (worktime=%b, register=%b, session=%b, changed=%b)",
+                    member.getUsername(), worktimeChanged, registerChanged, sessionChanged, changed));
+
+            return new MemberRefresh(changed, false, null);
+
+        } catch (Exception e) {
+            String errorMsg = String.format("Failed to update statistics for %s: %s", member.getUsername(), e.getMessage());
+            LoggerUtil.error(this.getClass(), errorMsg, e);
+            // Continue with other members
+            return new MemberRefresh(false, false, errorMsg);
+        }
+    }
+
+    private static boolean isChanged(String source, Map<String, String> oldStamps, Map<String, String> newStamps) {
+        String stamp = newStamps.get(source);
+        return stamp == null || !stamp.equals(oldStamps.get(source));
+    }
+
+    // Worktime aggregates of a team member: the published month summary when it is current,
+    // otherwise computed from the member's network worktime file (read once for both work time and time off stats).
+    // Returns null if the worktime file could not be read.
+    private UserMonthSummary.WorktimeSummary loadWorktimeSummary(TeamMemberDTO member, int year, int month) {
+        UserMonthSummary published = context.readPublishedMonthSummary(member.getUsername(), member.getUserId(), year, month);
+        if (published != null && published.getWorktime() != null) {
+            LoggerUtil.debug(this.getClass(), String.format("Using published month summary for member %s", member.getUsername()));
+            return published.getWorktime();
+        }
+
         try {
             // Use NetworkOnlyAccessor for consistent cross-user data access
             WorktimeDataAccessor accessor = new NetworkOnlyAccessor(
@@ -143,56 +256,48 @@ public class UpdateTeamStatisticsCommand extends WorktimeOperationCommand<Object
                     context.getTimeOffDataService()
             );
 
-            List<WorkTimeTable> worktime = accessor.readWorktime(member.getUsername(), year, month);
+            return UserMonthSummary.WorktimeSummary.of(accessor.readWorktime(member.getUsername(), year, month));
 
-            if (worktime == null || worktime.isEmpty()) {
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), String.format("Error loading worktime for %s: %s", member.getUsername(), e.getMessage()));
+            return null;
+        }
+    }
+
+    // Update work time statistics for a team member - ORIGINAL LOGIC on worktime aggregates
+    private boolean updateWorkTimeStats(TeamMemberDTO member, UserMonthSummary.WorktimeSummary worktime) {
+        try {
+            if (worktime.getEntries() == 0) {
                 LoggerUtil.debug(this.getClass(), String.format("No worktime data found for member %s", member.getUsername()));
-                return;
+                return true;
             }
 
-            // Calculate average start and end times - ORIGINAL LOGIC
-            OptionalDouble avgStartHour = worktime.stream()
-                    .filter(wt -> wt.getDayStartTime() != null)
-                    .mapToInt(wt -> wt.getDayStartTime().getHour())
-                    .average();
-
-            OptionalDouble avgStartMinute = worktime.stream()
-                    .filter(wt -> wt.getDayStartTime() != null)
-                    .mapToInt(wt -> wt.getDayStartTime().getMinute())
-                    .average();
-
-            OptionalDouble avgEndHour = worktime.stream()
-                    .filter(wt -> wt.getDayEndTime() != null)
-                    .mapToInt(wt -> wt.getDayEndTime().getHour())
-                    .average();
-
-            OptionalDouble avgEndMinute = worktime.stream()
-                    .filter(wt -> wt.getDayEndTime() != null)
-                    .mapToInt(wt -> wt.getDayEndTime().getMinute())
-                    .average();
-
-            if (avgStartHour.isPresent() && avgStartMinute.isPresent()) {
+            // Average start and end times - ORIGINAL LOGIC (hour and minute parts averaged separately)
+            if (worktime.getAverageStartHour() != null && worktime.getAverageStartMinute() != null) {
                 member.getCurrentMonthWorkStatsDTO().setAverageStartTime(
-                        LocalTime.of((int) avgStartHour.getAsDouble(),
-                                (int) avgStartMinute.getAsDouble()));
+                        LocalTime.of(worktime.getAverageStartHour().intValue(),
+                                worktime.getAverageStartMinute().intValue()));
             }
 
-            if (avgEndHour.isPresent() && avgEndMinute.isPresent()) {
+            if (worktime.getAverageEndHour() != null && worktime.getAverageEndMinute() != null) {
                 member.getCurrentMonthWorkStatsDTO().setAverageEndTime(
-                        LocalTime.of((int) avgEndHour.getAsDouble(),
-                                (int) avgEndMinute.getAsDouble()));
+                        LocalTime.of(worktime.getAverageEndHour().intValue(),
+                                worktime.getAverageEndMinute().intValue()));
             }
 
             LoggerUtil.debug(this.getClass(), String.format("Updated work time stats for %s", member.getUsername()));
+            return true;
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), String.format("Error updating work time stats for %s: %s", member.getUsername(), e.getMessage()));
             // Don't throw - continue with other updates
+            return false;
         }
     }
 
     // Update register statistics for a team member - ORIGINAL LOGIC
-    private void updateRegisterStats(TeamMemberDTO member, int year, int month) {
+    // On a read failure the previous statistics are kept and false is returned
+    private boolean updateRegisterStats(TeamMemberDTO member, int year, int month) {
         try {
             LoggerUtil.debug(this.getClass(), String.format("Loading register entries for team member %s - %d/%d",
                     member.getUsername(), year, month));
@@ -208,7 +313,7 @@ public class UpdateTeamStatisticsCommand extends WorktimeOperationCommand<Object
                     // Set empty stats for this member
                     member.getRegisterStats().setMonthSummaryDTO(createEmptyMonthSummary());
                     member.getRegisterStats().setClientSpecificStats(new HashMap<>());
-                    return;
+                    return true;
                 }
 
                 // Log warnings if any
@@ -227,29 +332,26 @@ public class UpdateTeamStatisticsCommand extends WorktimeOperationCommand<Object
 
                 LoggerUtil.debug(this.getClass(), String.format("Successfully updated register stats for %s: %d entries, %d clients",
                         member.getUsername(), entries.size(), clientStats.size()));
+                return true;
 
             } else {
-                // Handle service failure gracefully
+                // Handle service failure gracefully - keep the previous stats instead of failing the entire operation
                 LoggerUtil.warn(this.getClass(), String.format("Failed to load register entries for team member %s - %d/%d: %s",
                         member.getUsername(), year, month, entriesResult.getErrorMessage()));
-
-                // Set empty stats for this member instead of failing the entire operation
-                member.getRegisterStats().setMonthSummaryDTO(createEmptyMonthSummary());
-                member.getRegisterStats().setClientSpecificStats(new HashMap<>());
+                return false;
             }
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), String.format("Unexpected error updating register stats for team member %s - %d/%d: %s",
                     member.getUsername(), year, month, e.getMessage()), e);
 
-            // Set empty stats for this member to prevent the entire team statistics update from failing
-            member.getRegisterStats().setMonthSummaryDTO(createEmptyMonthSummary());
-            member.getRegisterStats().setClientSpecificStats(new HashMap<>());
+            // Keep the previous stats to prevent the entire team statistics update from failing
+            return false;
         }
     }
 
     // Update session details for a team member - ORIGINAL LOGIC
-    private void updateSessionDetails(TeamMemberDTO member) {
+    private boolean updateSessionDetails(TeamMemberDTO member) {
         try {
             WorkUsersSessionsStates session = context.readNetworkSessionFile(member.getUsername(), member.getUserId());
 
@@ -277,36 +379,25 @@ public class UpdateTeamStatisticsCommand extends WorktimeOperationCommand<Object
             } else {
                 LoggerUtil.debug(this.getClass(), String.format("No session data found for member %s", member.getUsername()));
             }
+            return true;
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), String.format("Error updating session details for %s: %s", member.getUsername(), e.getMessage()));
             // Don't throw - continue with other updates
+            return false;
         }
     }
 
-    // Update time off list for a team member - ORIGINAL LOGIC with NetworkOnlyAccessor
-    private void updateTimeOffList(TeamMemberDTO member, int year, int month) {
+    // Update time off list for a team member - ORIGINAL LOGIC on worktime aggregates
+    private boolean updateTimeOffList(TeamMemberDTO member, UserMonthSummary.WorktimeSummary worktime) {
         try {
-            // Use NetworkOnlyAccessor for consistent cross-user data access
-            WorktimeDataAccessor accessor = new NetworkOnlyAccessor(
-                    context.getWorktimeDataService(),
-                    context.getRegisterDataService(),
-                    context.getCheckRegisterDataService(),
-                    context.getTimeOffDataService()
-            );
-
-            // Load work time entries to get time off information - ORIGINAL LOGIC
-            List<WorkTimeTable> worktime = accessor.readWorktime(member.getUsername(), year, month);
-
-            if (worktime == null || worktime.isEmpty()) {
+            if (worktime.getEntries() == 0) {
                 LoggerUtil.debug(this.getClass(), String.format("No worktime data found for time off calculation for member %s", member.getUsername()));
-                return;
+                return true;
             }
 
-            // Group by time off type - ORIGINAL LOGIC
-            Map<String, List<LocalDate>> timeOffDays = worktime.stream().filter(wt -> wt.getTimeOffType() != null)
-                    .collect(Collectors.groupingBy(WorkTimeTable::getTimeOffType,
-                            Collectors.mapping(WorkTimeTable::getWorkDate, Collectors.toList())));
+            // Days grouped by time off type - ORIGINAL LOGIC
+            Map<String, List<LocalDate>> timeOffDays = worktime.getTimeOffDays();
 
             // Create time off entries - ORIGINAL LOGIC
             List<TimeOffEntryDTO> coEntries = createTimeOffEntries(WorkCode.TIME_OFF_CODE, timeOffDays.get(WorkCode.TIME_OFF_CODE));
@@ -317,10 +408,12 @@ public class UpdateTeamStatisticsCommand extends WorktimeOperationCommand<Object
 
             LoggerUtil.debug(this.getClass(), String.format("Updated time off list for %s: CO=%d, CM=%d, SN=%d",
                     member.getUsername(), coEntries.size(), cmEntries.size(), snEntries.size()));
+            return true;
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), String.format("Error updating time off list for %s: %s", member.getUsername(), e.getMessage()));
             // Don't throw - continue with other updates
+            return false;
         }
     }
 
@@ -460,6 +553,28 @@ public class UpdateTeamStatisticsCommand extends WorktimeOperationCommand<Object
         return List.of(TimeOffEntryDTO.builder().timeOffType(type).days(new ArrayList<>(days)).build());
     }
 
+    // Outcome of one member's refresh: statistics or stamps changed, skipped (unchanged sources), or the error message
+    private record MemberRefresh(boolean changed, boolean skipped, String error) {
+    }
+
+    // Statistics of a member before a refresh, to tell whether the refresh changed anything
+    private record MemberStatsSnapshot(LocalTime averageStartTime, LocalTime averageEndTime, TimeOffListDTO timeOffList,
+                                       SessionDetailsDTO sessionDetails, MonthSummaryDTO monthSummary,
+                                       Map<String, ClientDetailedStatsDTO> clientStats) {
+
+        static MemberStatsSnapshot of(TeamMemberDTO member) {
+            CurrentMonthWorkStatsDTO workStats = member.getCurrentMonthWorkStatsDTO();
+            TeamMemberRegisterStatsDTO registerStats = member.getRegisterStats();
+            return new MemberStatsSnapshot(
+                    workStats != null ? workStats.getAverageStartTime() : null,
+                    workStats != null ? workStats.getAverageEndTime() : null,
+                    member.getTimeOffListDTO(),
+                    member.getSessionDetailsDTO(),
+                    registerStats != null ? registerStats.getMonthSummaryDTO() : null,
+                    registerStats != null ? registerStats.getClientSpecificStats() : null);
+        }
+    }
+
     @Override
     protected String getCommandName() {
         return String.format("UpdateTeamStatistics[lead=%s, period=%d/%d]", teamLeadUsername, year, month);
@@ -11,6 +11,7 @@ import com.ctgraphdep.register.service.UserRegisterService;
 import com.ctgraphdep.service.result.ServiceResult;
 import com.ctgraphdep.utils.LoggerUtil;
 import com.ctgraphdep.validation.TimeValidationService;
+import com.ctgraphdep.worktime.model.AdminWorktimeMonth;
 import com.ctgraphdep.worktime.accessor.*;
 import lombok.Getter;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -46,6 +47,7 @@ public class WorktimeOperationContext {
     private final CheckRegisterDataService checkRegisterDataService;
     private final UserDataService userDataService;
     private final SessionDataService sessionDataService;
+    private final MonthSummaryDataService monthSummaryDataService;
     private final UserRegisterService userRegisterService;
 
     // Cache Services
@@ -71,6 +73,7 @@ public class WorktimeOperationContext {
             CheckRegisterDataService checkRegisterDataService,
             UserDataService userDataService,
             SessionDataService sessionDataService,
+            MonthSummaryDataService monthSummaryDataService,
             UserRegisterService userRegisterService,
 
             // Cache services
@@ -90,6 +93,7 @@ public class WorktimeOperationContext {
         this.checkRegisterDataService = checkRegisterDataService;
         this.userDataService = userDataService;
         this.sessionDataService = sessionDataService;
+        this.monthSummaryDataService = monthSummaryDataService;
         this.userRegisterService = userRegisterService;
 
         this.worktimeCacheService = worktimeCacheService;
@@ -336,11 +340,8 @@ public class WorktimeOperationContext {
         if (date == null) return false;
 
         try {
-            List<WorkTimeTable> adminEntries = loadAdminWorktime(date.getYear(), date.getMonthValue());
-            return adminEntries.stream().anyMatch(entry ->
-                    date.equals(entry.getWorkDate()) &&
-                            WorkCode.NATIONAL_HOLIDAY_CODE.equals(entry.getTimeOffType())
-            );
+            AdminWorktimeMonth adminMonth = loadAdminWorktimeMonth(date.getYear(), date.getMonthValue());
+            return adminMonth.anyOnDate(date, entry -> WorkCode.NATIONAL_HOLIDAY_CODE.equals(entry.getTimeOffType()));
         } catch (Exception e) {
             LoggerUtil.warn(this.getClass(), String.format(
                     "Error checking existing holiday for date %s: %s", date, e.getMessage()));
@@ -421,6 +422,27 @@ public class WorktimeOperationContext {
         }
     }
 
+    // Load admin worktime indexed by user and day (same source as loadAdminWorktime)
+    public AdminWorktimeMonth loadAdminWorktimeMonth(int year, int month) {
+        return AdminWorktimeMonth.of(year, month, loadAdminWorktime(year, month));
+    }
+
+    // Load admin worktime for a read-modify-write operation (local admin file, per-user JSON kept for the save)
+    public AdminWorktimeMonth loadAdminWorktimeMonthForUpdate(int year, int month) {
+        return worktimeDataService.readAdminMonthLocalForUpdate(year, month);
+    }
+
+    // Save admin worktime month if it has changes; true if the file was written
+    public boolean saveAdminWorktimeMonth(AdminWorktimeMonth adminMonth) {
+        try {
+            return worktimeDataService.writeAdminMonthLocalWithSyncAndBackup(adminMonth);
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), String.format("Error saving admin worktime for %d/%d: %s",
+                    adminMonth.getYear(), adminMonth.getMonth(), e.getMessage()));
+            throw new RuntimeException("Failed to save admin worktime entries", e);
+        }
+    }
+
     // ========================================================================
     // TEAM OPERATIONS
     // ========================================================================
@@ -445,6 +467,16 @@ public class WorktimeOperationContext {
         }
     }
 
+    // Read a user's published month summary, null when missing or older than the user's data
+    public UserMonthSummary readPublishedMonthSummary(String username, Integer userId, int year, int month) {
+        try {
+            return monthSummaryDataService.readNetworkMonthSummaryIfCurrent(username, userId, year, month).orElse(null);
+        } catch (Exception e) {
+            LoggerUtil.debug(this.getClass(), String.format("Error reading month summary for %s - %d/%d: %s", username, year, month, e.getMessage()));
+            return null;
+        }
+    }
+
     // Write team members to file
     public void writeTeamMembers(List<TeamMemberDTO> teamMembers, String teamLeadUsername, int year, int month) {
         try {
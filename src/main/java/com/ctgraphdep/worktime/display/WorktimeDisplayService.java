@@ -20,6 +20,7 @@ import com.ctgraphdep.service.cache.TimeOffCacheService;
 import com.ctgraphdep.service.cache.WorktimeCacheService;
 import com.ctgraphdep.service.dto.WorkTimeDisplayDTOFactory;
 import com.ctgraphdep.service.dto.WorkTimeEntryDTOFactory;
+import com.ctgraphdep.worktime.model.AdminWorktimeMonth;
 import com.ctgraphdep.worktime.service.WorktimeOperationService;
 import com.ctgraphdep.utils.LoggerUtil;
 import com.ctgraphdep.worktime.util.WorkTimeEntryUtil;
@@ -333,6 +334,56 @@ public class WorktimeDisplayService {
         LoggerUtil.info(this.getClass(), "Successfully prepared worktime model with display DTOs");
     }
 
+    // Compact month grid for client side rendering of the admin worktime table (same cells and totals as the page)
+    public WorkTimeGridDTO prepareWorkTimeGrid(int year, int month, List<User> nonAdminUsers, Map<Integer, Map<LocalDate, WorkTimeTable>> userEntriesMap) {
+
+        LoggerUtil.info(this.getClass(), String.format("Preparing worktime grid for %d/%d", month, year));
+
+        Map<Integer, Map<LocalDate, WorkTimeDisplayDTO>> displayDTOs = prepareDisplayDTOs(nonAdminUsers, userEntriesMap, year, month);
+        Map<Integer, WorkTimeSummary> summaries = calculateUserSummariesFromDTOs(displayDTOs, nonAdminUsers, year, month);
+
+        YearMonth yearMonth = YearMonth.of(year, month);
+        WorkTimeGridDTO grid = new WorkTimeGridDTO();
+        grid.setYear(year);
+        grid.setMonth(month);
+        grid.setDaysInMonth(yearMonth.lengthOfMonth());
+        for (Map<String, String> header : prepareDayHeaders(yearMonth)) {
+            grid.getDayInitials().add(header.get("initial"));
+            grid.getWeekend().add(Boolean.parseBoolean(header.get("isWeekend")));
+        }
+
+        // CSS class -> legend index, in order of first use
+        Map<String, Integer> legend = new LinkedHashMap<>();
+        legend.put("", 0);
+
+        for (User user : nonAdminUsers) {
+            WorkTimeGridDTO.Row row = new WorkTimeGridDTO.Row();
+            row.setUserId(user.getUserId());
+            row.setName(user.getName());
+            row.setEmployeeId(user.getEmployeeId());
+
+            Map<LocalDate, WorkTimeDisplayDTO> userDTOs = displayDTOs.getOrDefault(user.getUserId(), Map.of());
+            for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+                WorkTimeDisplayDTO dto = userDTOs.get(yearMonth.atDay(day));
+                boolean hasEntry = dto != null && dto.isHasEntry();
+                String cssClass = hasEntry && dto.getCssClass() != null ? dto.getCssClass() : "";
+                row.getCodes().add(hasEntry ? dto.getDisplayText() : null);
+                row.getStyles().add(legend.computeIfAbsent(cssClass, k -> legend.size()));
+            }
+
+            WorkTimeSummary summary = summaries.get(user.getUserId());
+            row.setTotals(summary == null ? new int[4] : new int[]{summary.getTotalRegularMinutes(),
+                    summary.getTotalOvertimeMinutes(), summary.getDaysWorked(), summary.getTotalTimeOffDays()});
+            grid.getRows().add(row);
+        }
+        grid.getLegend().addAll(legend.keySet());
+
+        LoggerUtil.info(this.getClass(), String.format("Prepared worktime grid for %d/%d: %d users, %d styles",
+                month, year, grid.getRows().size(), legend.size()));
+
+        return grid;
+    }
+
     // Calculate entry counts for statistics (moved from AdminWorkTimeController)
     // ✅ REFACTORED: Now uses TimeOffDayCounter for time-off counting
     private Map<String, Long> calculateEntryCounts(Map<Integer, Map<LocalDate, WorkTimeTable>> userEntriesMap) {
@@ -613,12 +664,10 @@ public class WorktimeDisplayService {
         User user = userOpt.get();
 
         // Use the SAME admin worktime file loading as the admin view
-        List<WorkTimeTable> viewableEntries = worktimeOperationService.getViewableEntries(year, month);
-        Map<Integer, Map<LocalDate, WorkTimeTable>> userEntriesMap = convertToUserEntriesMap(viewableEntries);
+        AdminWorktimeMonth viewableMonth = worktimeOperationService.getViewableAdminMonth(year, month);
 
-        // Get the specific user's entries from the admin worktime data
-        Map<LocalDate, WorkTimeTable> userEntries = userEntriesMap.get(userId);
-        WorkTimeTable entry = userEntries != null ? userEntries.get(date) : null;
+        // Get the specific user's entry straight from the indexed admin worktime data
+        WorkTimeTable entry = viewableMonth.get(userId, date);
 
         // Phase 2: Delegate response building to EntryDetailResponseBuilder
         Map<String, Object> response = responseBuilder.buildDetailedResponse(user, date, entry);
@@ -633,25 +682,6 @@ public class WorktimeDisplayService {
         return response;
     }
 
-    private Map<Integer, Map<LocalDate, WorkTimeTable>> convertToUserEntriesMap(List<WorkTimeTable> viewableEntries) {
-        Map<Integer, Map<LocalDate, WorkTimeTable>> userEntriesMap = new HashMap<>();
-
-        for (WorkTimeTable entry : viewableEntries) {
-            Integer userId = entry.getUserId();
-            LocalDate workDate = entry.getWorkDate();
-
-            // Get or create user's entry map
-            Map<LocalDate, WorkTimeTable> userEntries = userEntriesMap.computeIfAbsent(userId, k -> new HashMap<>());
-
-            // Add entry to user's map
-            userEntries.put(workDate, entry);
-        }
-
-        LoggerUtil.debug(this.getClass(), String.format("Converted %d admin worktime entries to user entries map for %d users", viewableEntries.size(), userEntriesMap.size()));
-
-        return userEntriesMap;
-    }
-
     // Build response for cases where no entry exists
     // ✅ REFACTORED: All response building and label mapping methods extracted to:
     // - EntryDetailResponseBuilder (buildNoEntryResponse, buildDetailedEntryResponse, addXXX methods)
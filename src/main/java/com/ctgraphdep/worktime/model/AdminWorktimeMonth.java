@@ -0,0 +1,428 @@
+package com.ctgraphdep.worktime.model;
+
+import com.ctgraphdep.model.WorkTimeTable;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Indexed admin consolidated month (general_worktime_YYYY_MM.json).
+ * Entries are held as userId → dense day-of-month array, so a user/date lookup is O(1) and a user's month
+ * is read without scanning the other users' entries.
+ * Changes made through put/replaceUserEntries/removeUser/retainUsers mark the user dirty; entries changed in place
+ * must be reported with markDirty. Nothing dirty means nothing to save.
+ * When loaded with fromJson, each user's JSON is kept as read. On save only the dirty users are serialized again,
+ * the others are written back from the kept JSON (the class serializes itself as the JSON array of the file).
+ * Not thread-safe - one instance belongs to one operation (admin worktime operations run under the admin lock).
+ */
+public class AdminWorktimeMonth implements JsonSerializable {
+
+    @Getter
+    private final int year;
+    @Getter
+    private final int month;
+    private final int daysInMonth;
+
+    private final Map<Integer, WorkTimeTable[]> days = new TreeMap<>();
+    private final Map<Integer, Integer> entryCounts = new HashMap<>();
+    // Entries outside the index (no user or date, other month, duplicate user/day) - kept so a save never loses them
+    private final List<WorkTimeTable> unindexed = new ArrayList<>();
+
+    // Per-user JSON as last read or written; missing for dirty users and users changed in place
+    private final Map<Integer, String> userJson = new HashMap<>();
+    private final Set<Integer> dirtyUsers = new TreeSet<>();
+    private boolean unindexedDirty = false;
+
+    public AdminWorktimeMonth(int year, int month) {
+        this.year = year;
+        this.month = month;
+        this.daysInMonth = YearMonth.of(year, month).lengthOfMonth();
+    }
+
+    // Index a list of entries (read-only use, or a first save of the list)
+    public static AdminWorktimeMonth of(int year, int month, List<WorkTimeTable> entries) {
+        AdminWorktimeMonth adminMonth = new AdminWorktimeMonth(year, month);
+        if (entries != null) {
+            for (WorkTimeTable entry : entries) {
+                adminMonth.index(entry);
+            }
+        }
+        return adminMonth;
+    }
+
+    // Index the entries of a file read as JSON nodes, keeping each user's JSON for partial serialization
+    public static AdminWorktimeMonth fromJson(int year, int month, List<JsonNode> nodes, ObjectMapper objectMapper) throws JsonProcessingException {
+        AdminWorktimeMonth adminMonth = new AdminWorktimeMonth(year, month);
+        if (nodes == null) {
+            return adminMonth;
+        }
+
+        Map<Integer, StringBuilder> json = new HashMap<>();
+        Set<Integer> uncached = new HashSet<>();
+        for (JsonNode node : nodes) {
+            WorkTimeTable entry = objectMapper.treeToValue(node, WorkTimeTable.class);
+            if (!adminMonth.index(entry)) {
+                // Duplicate day or foreign entry - the user's kept JSON would no longer match the index
+                if (entry.getUserId() != null) {
+                    uncached.add(entry.getUserId());
+                }
+                continue;
+            }
+            StringBuilder userJson = json.computeIfAbsent(entry.getUserId(), k -> new StringBuilder());
+            if (!userJson.isEmpty()) {
+                userJson.append(',');
+            }
+            userJson.append(node);
+        }
+
+        json.forEach((userId, userJson) -> {
+            if (!uncached.contains(userId)) {
+                adminMonth.userJson.put(userId, userJson.toString());
+            }
+        });
+        return adminMonth;
+    }
+
+    // Adds the entry to the index; false when it went to the unindexed list instead
+    private boolean index(WorkTimeTable entry) {
+        if (!fitsIndex(entry)) {
+            unindexed.add(entry);
+            return false;
+        }
+
+        WorkTimeTable[] userDays = days.computeIfAbsent(entry.getUserId(), k -> new WorkTimeTable[daysInMonth]);
+        int slot = entry.getWorkDate().getDayOfMonth() - 1;
+        if (userDays[slot] != null) {
+            // Same user and day twice: last one wins (as the merge maps did), the earlier one is kept aside
+            unindexed.add(userDays[slot]);
+            userJson.remove(entry.getUserId());
+            userDays[slot] = entry;
+            return false;
+        }
+
+        userDays[slot] = entry;
+        entryCounts.merge(entry.getUserId(), 1, Integer::sum);
+        return true;
+    }
+
+    private boolean fitsIndex(WorkTimeTable entry) {
+        return entry != null && entry.getUserId() != null && entry.getWorkDate() != null
+                && entry.getWorkDate().getYear() == year && entry.getWorkDate().getMonthValue() == month;
+    }
+
+    // ========================================================================
+    // LOOKUPS
+    // ========================================================================
+
+    public WorkTimeTable get(Integer userId, LocalDate date) {
+        if (userId == null || date == null || date.getYear() != year || date.getMonthValue() != month) {
+            return null;
+        }
+        return getDay(userId, date.getDayOfMonth());
+    }
+
+    public WorkTimeTable getDay(Integer userId, int dayOfMonth) {
+        WorkTimeTable[] userDays = userId != null ? days.get(userId) : null;
+        if (userDays == null || dayOfMonth < 1 || dayOfMonth > daysInMonth) {
+            return null;
+        }
+        return userDays[dayOfMonth - 1];
+    }
+
+    // The user's entries in day order (new list, same entry objects)
+    public List<WorkTimeTable> getUserEntries(Integer userId) {
+        WorkTimeTable[] userDays = userId != null ? days.get(userId) : null;
+        if (userDays == null) {
+            return new ArrayList<>();
+        }
+        List<WorkTimeTable> entries = new ArrayList<>(entryCounts.getOrDefault(userId, 0));
+        for (WorkTimeTable entry : userDays) {
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    public boolean hasUser(Integer userId) {
+        return entryCounts.getOrDefault(userId, 0) > 0;
+    }
+
+    // Users with at least one entry, ascending
+    public Set<Integer> getUserIds() {
+        Set<Integer> userIds = new TreeSet<>();
+        for (Integer userId : days.keySet()) {
+            if (hasUser(userId)) {
+                userIds.add(userId);
+            }
+        }
+        return userIds;
+    }
+
+    // True when any user has an entry on the date matching the predicate
+    public boolean anyOnDate(LocalDate date, Predicate<WorkTimeTable> predicate) {
+        if (date == null || date.getYear() != year || date.getMonthValue() != month) {
+            return false;
+        }
+        int slot = date.getDayOfMonth() - 1;
+        for (WorkTimeTable[] userDays : days.values()) {
+            if (userDays[slot] != null && predicate.test(userDays[slot])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        int size = unindexed.size();
+        for (int count : entryCounts.values()) {
+            size += count;
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // All entries, user by user in day order, followed by the unindexed ones
+    public List<WorkTimeTable> toList() {
+        List<WorkTimeTable> entries = new ArrayList<>(size());
+        for (Integer userId : days.keySet()) {
+            entries.addAll(getUserEntries(userId));
+        }
+        entries.addAll(unindexed);
+        return entries;
+    }
+
+    // Indexed copy with only the matching entries (for display, not meant to be saved)
+    public AdminWorktimeMonth filter(Predicate<WorkTimeTable> predicate) {
+        AdminWorktimeMonth filtered = new AdminWorktimeMonth(year, month);
+        days.forEach((userId, userDays) -> {
+            for (WorkTimeTable entry : userDays) {
+                if (entry != null && predicate.test(entry)) {
+                    filtered.index(entry);
+                }
+            }
+        });
+        return filtered;
+    }
+
+    /**
+     * userId → (date → entry) view over the index, dates in ascending order.
+     * Lookups go straight to the day arrays; the view follows later changes of this month.
+     */
+    public Map<Integer, Map<LocalDate, WorkTimeTable>> toUserEntriesMap() {
+        Map<Integer, Map<LocalDate, WorkTimeTable>> userEntriesMap = new LinkedHashMap<>();
+        for (Integer userId : days.keySet()) {
+            if (hasUser(userId)) {
+                userEntriesMap.put(userId, new UserDaysView(userId));
+            }
+        }
+        return userEntriesMap;
+    }
+
+    // ========================================================================
+    // CHANGES
+    // ========================================================================
+
+    // Adds or replaces the entry for its user and date
+    public void put(WorkTimeTable entry) {
+        if (!fitsIndex(entry)) {
+            throw new IllegalArgumentException(String.format("Entry does not belong to admin month %d/%d: %s",
+                    month, year, entry != null ? entry.getWorkDate() : null));
+        }
+
+        Integer userId = entry.getUserId();
+        WorkTimeTable[] userDays = days.computeIfAbsent(userId, k -> new WorkTimeTable[daysInMonth]);
+        int slot = entry.getWorkDate().getDayOfMonth() - 1;
+        if (userDays[slot] == null) {
+            entryCounts.merge(userId, 1, Integer::sum);
+        }
+        userDays[slot] = entry;
+        removeUnindexed(e -> userId.equals(e.getUserId()) && entry.getWorkDate().equals(e.getWorkDate()));
+        markDirty(userId);
+    }
+
+    public WorkTimeTable remove(Integer userId, LocalDate date) {
+        WorkTimeTable existing = get(userId, date);
+        if (existing != null) {
+            days.get(userId)[date.getDayOfMonth() - 1] = null;
+            entryCounts.merge(userId, -1, Integer::sum);
+            markDirty(userId);
+        }
+        return existing;
+    }
+
+    // Replaces all of the user's entries (entries of other months are ignored)
+    public void replaceUserEntries(Integer userId, List<WorkTimeTable> entries) {
+        days.remove(userId);
+        entryCounts.remove(userId);
+        removeUnindexed(e -> userId.equals(e.getUserId()));
+        markDirty(userId);
+
+        WorkTimeTable[] userDays = new WorkTimeTable[daysInMonth];
+        days.put(userId, userDays);
+        int count = 0;
+        for (WorkTimeTable entry : entries) {
+            if (fitsIndex(entry) && userId.equals(entry.getUserId())) {
+                int slot = entry.getWorkDate().getDayOfMonth() - 1;
+                if (userDays[slot] == null) {
+                    count++;
+                }
+                userDays[slot] = entry;
+            }
+        }
+        entryCounts.put(userId, count);
+    }
+
+    public void removeUser(Integer userId) {
+        if (days.remove(userId) != null) {
+            entryCounts.remove(userId);
+            markDirty(userId);
+        }
+        removeUnindexed(e -> userId.equals(e.getUserId()));
+    }
+
+    // Drops every user not in the set, and the unindexed entries
+    public void retainUsers(Set<Integer> userIds) {
+        for (Integer userId : new ArrayList<>(days.keySet())) {
+            if (!userIds.contains(userId)) {
+                removeUser(userId);
+            }
+        }
+        removeUnindexed(e -> true);
+    }
+
+    // Reports entries of the user changed in place; the user is saved and serialized again
+    public void markDirty(Integer userId) {
+        dirtyUsers.add(userId);
+        userJson.remove(userId);
+    }
+
+    // Entries of the user changed in place without needing a save of their own (e.g. status cleanup)
+    public void invalidateSerialized(Integer userId) {
+        userJson.remove(userId);
+    }
+
+    private void removeUnindexed(Predicate<WorkTimeTable> predicate) {
+        if (unindexed.removeIf(predicate)) {
+            unindexedDirty = true;
+        }
+    }
+
+    public boolean isDirty() {
+        return !dirtyUsers.isEmpty() || unindexedDirty;
+    }
+
+    public Set<Integer> getDirtyUsers() {
+        return Collections.unmodifiableSet(dirtyUsers);
+    }
+
+    // Called after a successful save
+    public void markSaved() {
+        dirtyUsers.clear();
+        unindexedDirty = false;
+    }
+
+    // ========================================================================
+    // SERIALIZATION - the file's JSON array, users without changes written from their kept JSON
+    // ========================================================================
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        ObjectWriter entryWriter = gen.getCodec() instanceof ObjectMapper mapper
+                ? mapper.writer().without(SerializationFeature.INDENT_OUTPUT) : null;
+
+        gen.writeStartArray();
+        for (Integer userId : days.keySet()) {
+            if (!hasUser(userId)) {
+                continue;
+            }
+            String json = userJson.get(userId);
+            if (json == null && entryWriter != null) {
+                json = serializeUser(userId, entryWriter);
+                userJson.put(userId, json);
+            }
+
+            if (json != null) {
+                // One raw value holding all of the user's comma separated entries
+                gen.writeRawValue(json);
+            } else {
+                for (WorkTimeTable entry : getUserEntries(userId)) {
+                    serializers.defaultSerializeValue(entry, gen);
+                }
+            }
+        }
+        for (WorkTimeTable entry : unindexed) {
+            serializers.defaultSerializeValue(entry, gen);
+        }
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(this, JsonToken.START_ARRAY));
+        serialize(gen, serializers);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    private String serializeUser(Integer userId, ObjectWriter entryWriter) throws IOException {
+        StringBuilder json = new StringBuilder();
+        for (WorkTimeTable entry : getUserEntries(userId)) {
+            if (!json.isEmpty()) {
+                json.append(',');
+            }
+            json.append(entryWriter.writeValueAsString(entry));
+        }
+        return json.toString();
+    }
+
+    // Read-only date → entry map over one user's day array
+    private class UserDaysView extends AbstractMap<LocalDate, WorkTimeTable> {
+        private final Integer userId;
+
+        private UserDaysView(Integer userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public WorkTimeTable get(Object key) {
+            return key instanceof LocalDate date ? AdminWorktimeMonth.this.get(userId, date) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            return entryCounts.getOrDefault(userId, 0);
+        }
+
+        @Override
+        public Set<Entry<LocalDate, WorkTimeTable>> entrySet() {
+            Set<Entry<LocalDate, WorkTimeTable>> entries = new LinkedHashSet<>();
+            for (WorkTimeTable entry : getUserEntries(userId)) {
+                entries.add(new SimpleImmutableEntry<>(entry.getWorkDate(), entry));
+            }
+            return entries;
+        }
+    }
+}
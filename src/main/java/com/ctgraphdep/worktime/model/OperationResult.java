@@ -119,6 +119,7 @@ public class OperationResult {
         // Admin operations
         public static final String ADMIN_UPDATE = "ADMIN_UPDATE";
         public static final String ADD_NATIONAL_HOLIDAY = "ADD_NATIONAL_HOLIDAY";
+        public static final String BULK_TIME_OFF = "BULK_TIME_OFF";
         public static final String FINALIZE_WORKTIME = "FINALIZE_WORKTIME";
 
         public static final String UPDATE_HOLIDAY_BALANCE = "UPDATE_HOLIDAY_BALANCE";
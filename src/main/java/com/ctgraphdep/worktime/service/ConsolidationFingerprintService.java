@@ -0,0 +1,130 @@
+package com.ctgraphdep.worktime.service;
+
+import com.ctgraphdep.fileOperations.config.PathConfig;
+import com.ctgraphdep.utils.LoggerUtil;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-user source fingerprints of the last admin worktime consolidation, by month.
+ * A fingerprint combines the user's network worktime file (size + last modified), the user's schedule and the
+ * user's slice of the admin month as written by that consolidation. When all three are unchanged the user's
+ * merge would give the same result, so ConsolidateWorkTimeCommand skips the user.
+ * Changes made outside the merge (user file writes, admin edits of the month, schedule changes) alter one of the
+ * three parts, so fingerprints never need to be invalidated.
+ * Kept in memory and persisted locally so the first consolidation after a restart is incremental too.
+ */
+@Service
+public class ConsolidationFingerprintService {
+
+    private static final String FINGERPRINT_FILENAME = "consolidation_fingerprints.json";
+    // Months kept in the file; older months are rarely consolidated again and simply merge in full
+    private static final int MONTHS_KEPT = 13;
+
+    private final PathConfig pathConfig;
+    private final ObjectMapper objectMapper;
+
+    // "yyyy-MM" -> userId -> fingerprint
+    private TreeMap<String, Map<Integer, String>> fingerprints;
+
+    public ConsolidationFingerprintService(PathConfig pathConfig, ObjectMapper objectMapper) {
+        this.pathConfig = pathConfig;
+        this.objectMapper = objectMapper;
+        LoggerUtil.initialize(this.getClass(), null);
+    }
+
+    /**
+     * Fingerprint of one user's consolidation sources.
+     *
+     * @param networkFileStamp Stamp of the user's network worktime file, null if it could not be read
+     * @param schedule User schedule in hours
+     * @param adminSliceHash Hash of the user's entries in the admin month
+     * @return Fingerprint, or null when the sources cannot be fingerprinted (always merge)
+     */
+    public static String fingerprint(String networkFileStamp, Integer schedule, int adminSliceHash) {
+        if (networkFileStamp == null) {
+            return null;
+        }
+        return networkFileStamp + "|" + schedule + "|" + Integer.toHexString(adminSliceHash);
+    }
+
+    public synchronized String getFingerprint(int year, int month, Integer userId) {
+        Map<Integer, String> monthFingerprints = getFingerprints().get(monthKey(year, month));
+        return monthFingerprints != null ? monthFingerprints.get(userId) : null;
+    }
+
+    /**
+     * Records the fingerprints of a consolidation that was saved (or needed no save). Null fingerprints are removed.
+     */
+    public synchronized void record(int year, int month, Map<Integer, String> userFingerprints) {
+        if (userFingerprints.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, String> monthFingerprints = getFingerprints().computeIfAbsent(monthKey(year, month), k -> new HashMap<>());
+        userFingerprints.forEach((userId, fingerprint) -> {
+            if (fingerprint != null) {
+                monthFingerprints.put(userId, fingerprint);
+            } else {
+                monthFingerprints.remove(userId);
+            }
+        });
+
+        // Keys sort by month, drop the oldest
+        while (fingerprints.size() > MONTHS_KEPT) {
+            fingerprints.pollFirstEntry();
+        }
+        save();
+    }
+
+    private TreeMap<String, Map<Integer, String>> getFingerprints() {
+        if (fingerprints == null) {
+            fingerprints = new TreeMap<>();
+            Path path = getFingerprintPath();
+            if (Files.exists(path)) {
+                try {
+                    fingerprints.putAll(objectMapper.readValue(path.toFile(), new TypeReference<Map<String, Map<Integer, String>>>() {}));
+                } catch (IOException e) {
+                    LoggerUtil.warn(this.getClass(), "Unreadable consolidation fingerprints, next consolidations merge in full: " + e.getMessage());
+                }
+            }
+        }
+        return fingerprints;
+    }
+
+    private void save() {
+        Path path = getFingerprintPath();
+        Path tempPath = path.resolveSibling(FINGERPRINT_FILENAME + ".tmp");
+        try {
+            Files.createDirectories(path.getParent());
+            Files.write(tempPath, objectMapper.writeValueAsBytes(fingerprints));
+            try {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // Only costs a full merge after restart
+            LoggerUtil.warn(this.getClass(), "Failed to persist consolidation fingerprints: " + e.getMessage());
+        }
+    }
+
+    private String monthKey(int year, int month) {
+        return YearMonth.of(year, month).toString();
+    }
+
+    private Path getFingerprintPath() {
+        return pathConfig.getLocalPath().resolve(pathConfig.getBackupPath()).resolve(FINGERPRINT_FILENAME);
+    }
+}
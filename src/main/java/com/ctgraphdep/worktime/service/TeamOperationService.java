@@ -7,6 +7,8 @@ import com.ctgraphdep.worktime.commands.team.UpdateTeamStatisticsCommand;
 import com.ctgraphdep.worktime.context.WorktimeOperationContext;
 import com.ctgraphdep.worktime.model.OperationResult;
 import com.ctgraphdep.utils.LoggerUtil;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -20,9 +22,12 @@ import java.util.List;
 public class TeamOperationService {
 
     private final WorktimeOperationContext context;
+    private final TaskExecutor teamStatsExecutor;
 
-    public TeamOperationService(WorktimeOperationContext context) {
+    public TeamOperationService(WorktimeOperationContext context,
+                                @Qualifier("teamStatsTaskExecutor") TaskExecutor teamStatsExecutor) {
         this.context = context;
+        this.teamStatsExecutor = teamStatsExecutor;
         LoggerUtil.initialize(this.getClass(), null);
     }
 
@@ -57,7 +62,7 @@ public class TeamOperationService {
         try {
             LoggerUtil.info(this.getClass(), String.format("Updating team statistics for team lead %s - %d/%d", teamLeadUsername, year, month));
 
-            return new UpdateTeamStatisticsCommand(context, teamLeadUsername, year, month).execute();
+            return new UpdateTeamStatisticsCommand(context, teamStatsExecutor, teamLeadUsername, year, month).execute();
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), String.format("Error during team statistics update for %s: %s", teamLeadUsername, e.getMessage()), e);
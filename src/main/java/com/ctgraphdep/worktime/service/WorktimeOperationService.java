@@ -6,11 +6,14 @@ import com.ctgraphdep.worktime.accessor.WorktimeDataAccessor;
 import com.ctgraphdep.worktime.commands.*;
 import com.ctgraphdep.worktime.context.WorktimeOperationContext;
 import com.ctgraphdep.worktime.display.counters.WorkDayCounter;
+import com.ctgraphdep.worktime.model.AdminWorktimeMonth;
 import com.ctgraphdep.worktime.model.OperationResult;
 import com.ctgraphdep.merge.constants.MergingStatusConstants;
 import com.ctgraphdep.model.User;
 import com.ctgraphdep.model.WorkTimeTable;
 import com.ctgraphdep.utils.LoggerUtil;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -28,6 +31,8 @@ public class WorktimeOperationService {
     private final WorktimeMergeService worktimeMergeService;
     private final com.ctgraphdep.worktime.rules.TimeOffOperationRules timeOffRules;
     private final WorkDayCounter workDayCounter;
+    private final ConsolidationFingerprintService fingerprintService;
+    private final TaskExecutor consolidationTaskExecutor;
 
     // Locks for concurrent operations
     private final ReentrantReadWriteLock userLock = new ReentrantReadWriteLock();
@@ -38,11 +43,15 @@ public class WorktimeOperationService {
             WorktimeOperationContext context,
             WorktimeMergeService worktimeMergeService,
             com.ctgraphdep.worktime.rules.TimeOffOperationRules timeOffRules,
-            WorkDayCounter workDayCounter) {
+            WorkDayCounter workDayCounter,
+            ConsolidationFingerprintService fingerprintService,
+            @Qualifier("consolidationTaskExecutor") TaskExecutor consolidationTaskExecutor) {
         this.context = context;
         this.worktimeMergeService = worktimeMergeService;
         this.timeOffRules = timeOffRules;
         this.workDayCounter = workDayCounter;
+        this.fingerprintService = fingerprintService;
+        this.consolidationTaskExecutor = consolidationTaskExecutor;
         LoggerUtil.initialize(this.getClass(), null);
     }
 
@@ -191,6 +200,21 @@ public class WorktimeOperationService {
         }
     }
 
+    // Apply many admin time off / national holiday changes with one write per admin month and per holiday balance
+    @PreAuthorize("hasRole('ADMIN')")
+    public OperationResult applyBulkTimeOff(List<BulkTimeOffCommand.TimeOffChange> changes) {
+        adminLock.lock();
+        try {
+            LoggerUtil.debug(this.getClass(), String.format("Executing bulk time off: %d changes", changes != null ? changes.size() : 0));
+
+            BulkTimeOffCommand command = BulkTimeOffCommand.forChanges(context, changes);
+            return command.execute();
+
+        } finally {
+            adminLock.unlock();
+        }
+    }
+
     // Finalize worktime entries for a period
     @PreAuthorize("hasRole('ADMIN')")
     public OperationResult finalizeWorktimePeriod(int year, int month, Integer userId) {
@@ -270,13 +294,8 @@ public class WorktimeOperationService {
                 return new ArrayList<>();
             }
 
-            // Option 1: Check admin consolidated file first (fastest for admin)
-            List<WorkTimeTable> adminEntries = context.loadAdminWorktime(year, month);
-
-            // Filter for specific user
-            List<WorkTimeTable> userEntriesFromAdmin = adminEntries.stream()
-                    .filter(entry -> userId.equals(entry.getUserId()))
-                    .collect(Collectors.toList());
+            // Option 1: Check admin consolidated file first (fastest for admin), indexed by user
+            List<WorkTimeTable> userEntriesFromAdmin = context.loadAdminWorktimeMonth(year, month).getUserEntries(userId);
 
             if (!userEntriesFromAdmin.isEmpty()) {
                 LoggerUtil.debug(this.getClass(), String.format(
@@ -482,7 +501,8 @@ public class WorktimeOperationService {
         try {
             LoggerUtil.info(this.getClass(), String.format("Starting worktime consolidation for %d/%d", year, month));
 
-            ConsolidateWorkTimeCommand command = ConsolidateWorkTimeCommand.forPeriod(context, worktimeMergeService, year, month);
+            ConsolidateWorkTimeCommand command = ConsolidateWorkTimeCommand.forPeriod(
+                    context, worktimeMergeService, fingerprintService, consolidationTaskExecutor, year, month);
             OperationResult result = command.execute();
 
             LoggerUtil.info(this.getClass(), String.format("Worktime consolidation completed for %d/%d: %s",
@@ -565,25 +585,54 @@ public class WorktimeOperationService {
         }
     }
 
+    // Worked days for several users from a single read of the admin consolidated file.
+    // Users without admin entries fall back to getWorkedDays, same as the per-user path.
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<Integer, Integer> getWorkedDaysByUser(Collection<Integer> userIds, int year, int month) {
+        Map<Integer, Integer> workedDays = new HashMap<>();
+        try {
+            AdminWorktimeMonth adminMonth = context.loadAdminWorktimeMonth(year, month);
+
+            for (Integer userId : userIds) {
+                workedDays.put(userId, adminMonth.hasUser(userId)
+                        ? workDayCounter.countFromEntries(adminMonth.getUserEntries(userId))
+                        : getWorkedDays(userId, year, month));
+            }
+
+            LoggerUtil.debug(this.getClass(), String.format(
+                    "Counted worked days for %d users in %d/%d (%d from admin file)",
+                    userIds.size(), month, year, adminMonth.getUserIds().size()));
+
+        } catch (Exception e) {
+            LoggerUtil.error(this.getClass(), String.format(
+                    "Error getting worked days for %d/%d: %s", year, month, e.getMessage()));
+        }
+        return workedDays;
+    }
+
     // Get viewable entries for admin display (filtering out USER_IN_PROCESS entries)
     @PreAuthorize("hasRole('ADMIN')")
     public List<WorkTimeTable> getViewableEntries(int year, int month) {
+        return getViewableAdminMonth(year, month).toList();
+    }
+
+    // Viewable admin entries indexed by user and day - use toUserEntriesMap() for the display maps
+    @PreAuthorize("hasRole('ADMIN')")
+    public AdminWorktimeMonth getViewableAdminMonth(int year, int month) {
         try {
-            List<WorkTimeTable> allEntries = context.loadAdminWorktime(year, month);
+            AdminWorktimeMonth adminMonth = context.loadAdminWorktimeMonth(year, month);
 
             // Filter out USER_IN_PROCESS entries for admin display
-            List<WorkTimeTable> viewableEntries = allEntries.stream()
-                    .filter(entry -> !MergingStatusConstants.USER_IN_PROCESS.equals(entry.getAdminSync()))
-                    .collect(Collectors.toList());
+            AdminWorktimeMonth viewableMonth = adminMonth.filter(entry -> !MergingStatusConstants.USER_IN_PROCESS.equals(entry.getAdminSync()));
 
             LoggerUtil.debug(this.getClass(), String.format("Filtered %d admin entries to %d viewable entries for %d/%d",
-                    allEntries.size(), viewableEntries.size(), month, year));
+                    adminMonth.size(), viewableMonth.size(), month, year));
 
-            return viewableEntries;
+            return viewableMonth;
 
         } catch (Exception e) {
             LoggerUtil.error(this.getClass(), String.format("Error getting viewable entries for %d/%d: %s", year, month, e.getMessage()));
-            return new ArrayList<>();
+            return new AdminWorktimeMonth(year, month);
         }
     }
 
@@ -1,6 +1,8 @@
 /**
  * Check Bonus Fragment JavaScript
- * Handles individual user bonus calculation in team-check-register.html
+ * Handles bonus calculation in team-check-register.html.
+ * One request calculates the whole team (/calculate-team-bonus); the selected user is shown first
+ * and is the one saved, the other team members are listed below for comparison.
  */
 
 (function() {
@@ -225,21 +227,19 @@
         calculateBtn.innerHTML = '<span class="spinner-border spinner-border-sm me-2"></span>Calculating...';
 
         try {
-            // Make API call to calculate bonus
-            const response = await fetch('/team/check-register/calculate-bonus', {
+            // One call for the whole team - manual hours only apply to the selected user
+            const response = await fetch('/team/check-register/calculate-team-bonus', {
                 method: 'POST',
                 headers: {
                     [header]: token,
                     'Content-Type': 'application/json'
                 },
                 body: JSON.stringify({
-                    username: username,
-                    userId: userId,
                     year: year,
                     month: month,
                     bonusSum: bonusSum,
                     hoursOption: hoursOption,
-                    manualHours: manualHours
+                    manualHours: manualHours !== null ? { [userId]: manualHours } : {}
                 })
             });
 
@@ -248,10 +248,18 @@
                 throw new Error(errorData.message || 'Failed to calculate bonus');
             }
 
-            const bonusData = await response.json();
+            const teamData = await response.json();
+            const entries = teamData.entries || [];
+            const bonusData = entries.find(entry => entry.username === username && String(entry.employeeId) === String(userId));
 
-            // Display results
+            if (!bonusData) {
+                const warning = (teamData.warnings || []).find(message => message.endsWith(' ' + username));
+                throw new Error(warning || 'No bonus calculated for ' + username);
+            }
+
+            // Display results - selected user first, rest of the team below
             displayBonusResults(bonusData);
+            displayTeamRows(entries.filter(entry => entry !== bonusData));
             showSuccess('Bonus calculated successfully!');
 
         } catch (error) {
@@ -330,6 +338,7 @@
         if (bonusUserName) {
             bonusUserName.textContent = bonusData.name || bonusData.username || 'Unknown User';
         }
+        updateCell('result-name', bonusData.name || bonusData.username || 'Unknown User');
 
         // Update result cells with null-safe handling
         updateCell('result-totalWUM', formatNumber(bonusData.totalWUM));
@@ -351,6 +360,38 @@
         }
     }
 
+    /**
+     * Show the other team members' results below the selected user's row (read only, not saved)
+     */
+    function displayTeamRows(entries) {
+        const body = document.getElementById('bonusResultsBody');
+        if (!body) {
+            return;
+        }
+
+        body.querySelectorAll('tr.team-bonus-row').forEach(row => row.remove());
+
+        entries.forEach(entry => {
+            const row = document.createElement('tr');
+            row.className = 'team-bonus-row text-muted';
+            [
+                entry.name || entry.username,
+                formatNumber(entry.totalWUM),
+                formatNumber(entry.workingHours),
+                formatNumber(entry.targetWUHR),
+                formatNumber(entry.totalWUHRM),
+                formatPercent(entry.efficiencyPercent),
+                formatCurrency(entry.bonusAmount)
+            ].forEach((value, index) => {
+                const cell = document.createElement('td');
+                cell.className = index === 0 ? '' : 'text-center';
+                cell.textContent = value;
+                row.appendChild(cell);
+            });
+            body.appendChild(row);
+        });
+    }
+
     /**
      * Update cell content
      */
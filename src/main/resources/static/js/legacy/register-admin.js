@@ -574,6 +574,7 @@ function initializeControllers() {
 function initializeEventListeners() {
     const listeners = {
         'calculateBonusBtn': calculateBonus,
+        'calculateMonthBonusesBtn': calculateMonthBonuses,
         'saveChanges': saveChanges,
         'clearTable': clearTable
     };
@@ -807,6 +808,43 @@ async function calculateBonus() {
     }
 }
 
+// Bonus for every user of the month in one request (saved registers, not the filtered table)
+async function calculateMonthBonuses() {
+    const year = parseInt(document.getElementById('yearSelect')?.value) || state.currentYear;
+    const month = parseInt(document.getElementById('monthSelect')?.value) || state.currentMonth;
+    if (!year || !month) {
+        showWarning('Please select a period before calculating bonuses.');
+        return;
+    }
+
+    const config = getBonusConfig();
+    if (!validateBonusConfig(config)) return;
+
+    try {
+        const response = await fetch('/admin/register/calculate-month-bonuses', {
+            method: 'POST',
+            headers: { 'Content-Type': 'application/json' },
+            body: JSON.stringify({
+                year: year,
+                month: month,
+                bonusConfig: config
+            })
+        });
+
+        if (!response.ok) {
+            const errorText = await response.text();
+            console.error('Server response:', response.status, errorText);
+            throw new Error(`Bonus calculation failed: ${errorText || response.statusText}`);
+        }
+
+        const resultsByUser = await response.json();
+        displayMonthBonusResults(resultsByUser, year, month);
+    } catch (error) {
+        console.error('Month bonus calculation error:', error);
+        showError(`Failed to calculate bonuses: ${error.message}`);
+    }
+}
+
 // Utility Functions
 function updateSummaryDisplay() {
     try {
@@ -1282,6 +1320,75 @@ function displayBonusResults(result) {
     bonusResults.style.display = 'block';
 }
 
+// One row per user, names taken from the user selector
+function displayMonthBonusResults(resultsByUser, year, month) {
+    const bonusResults = document.getElementById('bonusResults');
+    const tbody = document.getElementById('bonusResultsBody');
+
+    if (!bonusResults || !tbody || !resultsByUser) {
+        return;
+    }
+
+    const userNames = {};
+    document.querySelectorAll('#userSelect option').forEach(option => {
+        if (option.value) {
+            userNames[option.value] = option.textContent.trim();
+        }
+    });
+
+    // Previous month headers, same as the single user view
+    const currentDate = new Date(year, month - 1);
+    const prevMonths = [];
+    for (let i = 1; i <= 3; i++) {
+        const prevDate = new Date(currentDate);
+        prevDate.setMonth(currentDate.getMonth() - i);
+        prevMonths.push(`${prevDate.toLocaleString('en-US', { month: 'short' })}/${prevDate.getFullYear().toString().slice(2)}`);
+    }
+
+    const thead = bonusResults.querySelector('thead tr');
+    if (thead) {
+        thead.innerHTML = `
+            <th>Name</th>
+            <th>Entries</th>
+            <th>Art Nr.</th>
+            <th>CG</th>
+            <th>Misc</th>
+            <th>Worked D</th>
+            <th>Worked%</th>
+            <th>Bonus%</th>
+            <th>Bonus$</th>
+            <th>${prevMonths[0]}</th>
+            <th>${prevMonths[1]}</th>
+            <th>${prevMonths[2]}</th>
+        `;
+    }
+
+    const userIds = Object.keys(resultsByUser);
+    tbody.innerHTML = userIds.map(userId => resultsByUser[userId]).map(result => `
+        <tr class="${result.workedDays <= 0 ? 'table-warning' : ''}">
+            <td></td>
+            <td>${result.entries || 0}</td>
+            <td>${(result.articleNumbers || 0).toFixed(2)}</td>
+            <td>${(result.graphicComplexity || 0).toFixed(2)}</td>
+            <td>${(result.misc || 0).toFixed(2)}</td>
+            <td>${result.workedDays || 0}</td>
+            <td>${(result.workedPercentage || 0).toFixed(2)}</td>
+            <td>${(result.bonusPercentage || 0).toFixed(2)}</td>
+            <td>${(result.bonusAmount || 0).toFixed(2)}</td>
+            <td>${(result.previousMonths?.month1 || 0).toFixed(2)}</td>
+            <td>${(result.previousMonths?.month2 || 0).toFixed(2)}</td>
+            <td>${(result.previousMonths?.month3 || 0).toFixed(2)}</td>
+        </tr>
+    `).join('');
+
+    // Names set as text, not markup
+    Array.from(tbody.rows).forEach((row, index) => {
+        row.cells[0].textContent = userNames[userIds[index]] || userIds[index];
+    });
+
+    bonusResults.style.display = 'block';
+}
+
 function validateUserContext() {
     // Detailed validation
     if (!state.currentUser) {
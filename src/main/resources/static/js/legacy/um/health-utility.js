@@ -66,6 +66,34 @@ $(document).ready(function() {
                 });
             }
         });
+
+        loadSyncQueueStats();
+    }
+
+    function loadSyncQueueStats() {
+        $.ajax({
+            url: '/utility/health/sync-queue',
+            method: 'GET',
+            success: function(response) {
+                if (response.success) {
+                    updateSyncQueueStats(response.stats || {});
+                }
+            }
+        });
+    }
+
+    function updateSyncQueueStats(stats) {
+        const pending = stats.pending || 0;
+        $('#sync-queue-pending').text(pending)
+            .css('color', pending > 0 ? '#ffc107' : '#28a745');
+        $('#sync-queue-oldest').text(pending > 0 ? formatAge(stats.oldestAgeSeconds || 0) : '-');
+    }
+
+    function formatAge(seconds) {
+        if (seconds < 60) return `${seconds}s`;
+        if (seconds < 3600) return `${Math.floor(seconds / 60)}m`;
+        if (seconds < 86400) return `${Math.floor(seconds / 3600)}h ${Math.floor((seconds % 3600) / 60)}m`;
+        return `${Math.floor(seconds / 86400)}d ${Math.floor((seconds % 86400) / 3600)}h`;
     }
 
     function updateHealthStats(data) {
@@ -1,10 +1,17 @@
 /**
  * Log Viewer JavaScript
- * Handles the functionality for the log viewer interface
+ * Handles the functionality for the log viewer interface.
+ * Logs are read in pages from the indexed log endpoints: the tail is shown first,
+ * older lines are loaded on demand and filtering/searching runs on the server.
  */
 document.addEventListener('DOMContentLoaded', function() {
+    const PAGE_LINES = 2000;
+
     let currentUsername = null;
-    let logData = null;
+    let logLines = [];          // Loaded lines ({line, level, text}) in file order
+    let firstLoadedLine = 0;    // Line number of the first loaded line (older lines start before it)
+    let logSummary = null;
+    let activeQuery = null;     // Server-side filter currently shown, with its continuation line
     let autoScroll = true;
     let textWrap = true;
 
@@ -49,19 +56,34 @@ document.addEventListener('DOMContentLoaded', function() {
         }
     });
 
+    // Search all users' logs
+    $('#searchAllBtn').click(function() {
+        searchAllLogs();
+    });
+
     // Clear filters
     $('#clearFilterBtn').click(function() {
         $('#logSearch').val('');
-        if (logData) {
-            displayLogData(logData);
+        activeQuery = null;
+        if (currentUsername) {
+            loadUserLog(currentUsername);
         }
     });
 
+    // Load older lines / more matches
+    $(document).on('click', '#loadOlderBtn', function() {
+        loadOlderLines();
+    });
+
+    $(document).on('click', '#loadMoreMatchesBtn', function() {
+        loadMoreMatches();
+    });
+
     // Auto-scroll toggle
     $('#autoScrollBtn').click(function() {
         $(this).toggleClass('active');
         autoScroll = $(this).hasClass('active');
-        if (autoScroll && logData) {
+        if (autoScroll && logLines.length) {
             scrollToBottom();
         }
     });
@@ -73,19 +95,29 @@ document.addEventListener('DOMContentLoaded', function() {
         $('#logContent').toggleClass('nowrap', !textWrap);
     });
 
-    // Export button
+    // Export button - downloads the complete log, not only the loaded pages
     $('#exportBtn').click(function() {
-        if (!logData || !currentUsername) return;
-
-        const blob = new Blob([logData], { type: 'text/plain' });
-        const url = URL.createObjectURL(blob);
-        const a = document.createElement('a');
-        a.href = url;
-        a.download = `log_${currentUsername}_${formatDate(new Date())}.log`;
-        document.body.appendChild(a);
-        a.click();
-        document.body.removeChild(a);
-        URL.revokeObjectURL(url);
+        if (!currentUsername) return;
+
+        const username = currentUsername;
+        $.ajax({
+            url: `/logs/${encodeURIComponent(username)}`,
+            method: 'GET',
+            success: function(data) {
+                const blob = new Blob([data], { type: 'text/plain' });
+                const url = URL.createObjectURL(blob);
+                const a = document.createElement('a');
+                a.href = url;
+                a.download = `log_${username}_${formatDate(new Date())}.log`;
+                document.body.appendChild(a);
+                a.click();
+                document.body.removeChild(a);
+                URL.revokeObjectURL(url);
+            },
+            error: function(xhr, status, error) {
+                window.showToast('Error', 'Failed to export log: ' + error, 'error');
+            }
+        });
     });
 
     // Function to update user count
@@ -110,21 +142,38 @@ document.addEventListener('DOMContentLoaded', function() {
         logContent.scrollTop = logContent.scrollHeight;
     }
 
-    // Function to load user log
+    // Function to load user log: summary for the stats, then the last page of lines
     function loadUserLog(username) {
-        $('#currentLogTitle').html(`<i class="bi bi-file-text me-2"></i>Log for <strong>${username}</strong>`);
+        $('#currentLogTitle').html(`<i class="bi bi-file-text me-2"></i>Log for <strong>${escapeHtml(username)}</strong>`);
         $('#logContent').html('<div class="log-loading"><div class="spinner-border text-primary" role="status"></div><p>Loading logs...</p></div>');
         $('#exportBtn').prop('disabled', true);
+        logLines = [];
+        logSummary = null;
+        activeQuery = null;
 
-        // Get log data
         $.ajax({
-            url: `/logs/${username}`,
+            url: `/logs/${encodeURIComponent(username)}/summary`,
             method: 'GET',
-            success: function(data) {
-                logData = data;
-                if (data) {
-                    displayLogData(data);
+            success: function(summary) {
+                logSummary = summary;
+                updateStats();
+            }
+        });
+
+        $.ajax({
+            url: `/logs/${encodeURIComponent(username)}/tail`,
+            method: 'GET',
+            data: { limit: PAGE_LINES },
+            success: function(page) {
+                if (username !== currentUsername) return;
+                logLines = page.lines || [];
+                firstLoadedLine = page.fromLine || 0;
+                if (logLines.length) {
+                    displayLogLines();
                     $('#exportBtn').prop('disabled', false);
+                    if (autoScroll) {
+                        scrollToBottom();
+                    }
                 } else {
                     $('#logContent').html('<div class="log-placeholder"><div class="text-center"><i class="bi bi-exclamation-circle text-muted fs-1 mb-3"></i><p>No log entries found for this user</p></div></div>');
                     $('#logStats').text('No log entries found');
@@ -139,114 +188,223 @@ document.addEventListener('DOMContentLoaded', function() {
         });
     }
 
-    // Function to display log data with formatting
-    function displayLogData(logText) {
-        if (!logText) {
+    // Loads the page of lines before the first loaded line and keeps the scroll position
+    function loadOlderLines() {
+        if (!currentUsername || firstLoadedLine <= 0) return;
+
+        const from = Math.max(0, firstLoadedLine - PAGE_LINES);
+        const logContent = document.getElementById('logContent');
+        const previousHeight = logContent.scrollHeight;
+
+        $('#loadOlderBtn').prop('disabled', true).text('Loading...');
+        $.ajax({
+            url: `/logs/${encodeURIComponent(currentUsername)}/lines`,
+            method: 'GET',
+            data: { from: from, limit: firstLoadedLine - from },
+            success: function(page) {
+                logLines = (page.lines || []).concat(logLines);
+                firstLoadedLine = page.fromLine;
+                displayLogLines();
+                logContent.scrollTop = logContent.scrollHeight - previousHeight;
+            },
+            error: function(xhr, status, error) {
+                window.showToast('Error', 'Failed to load older lines: ' + error, 'error');
+                $('#loadOlderBtn').prop('disabled', false).text('Load older lines');
+            }
+        });
+    }
+
+    // Function to display loaded log lines with formatting
+    function displayLogLines(matchInfo) {
+        if (!logLines.length) {
             $('#logContent').html('<div class="log-placeholder"><div class="text-center"><i class="bi bi-exclamation-circle text-muted fs-1 mb-3"></i><p>No log entries found</p></div></div>');
             $('#logStats').text('No logs to display');
             return;
         }
 
-        const lines = logText.split('\n');
-        let formattedHtml = '<div class="log-lines">';
-        let lineCount = 0;
-        let errorCount = 0;
-        let warningCount = 0;
-        let infoCount = 0;
-
-        lines.forEach((line, index) => {
-            if (!line.trim()) return;
-
-            lineCount++;
-            let lineClass = '';
-
-            // Detect log levels
-            if (line.includes(' ERROR ') || line.includes('[ERROR]')) {
-                lineClass = 'log-error';
-                errorCount++;
-            } else if (line.includes(' WARN ') || line.includes('[WARN]')) {
-                lineClass = 'log-warning';
-                warningCount++;
-            } else if (line.includes(' INFO ') || line.includes('[INFO]')) {
-                lineClass = 'log-info';
-                infoCount++;
-            }
+        let formattedHtml = '';
+        if (!activeQuery && firstLoadedLine > 0) {
+            formattedHtml += `<div class="text-center my-2"><button id="loadOlderBtn" class="btn btn-sm btn-outline-secondary">Load older lines (${firstLoadedLine} more)</button></div>`;
+        }
+        formattedHtml += '<div class="log-lines">' + logLines.map(formatLogLine).join('') + '</div>';
+        if (activeQuery && activeQuery.hasMore) {
+            formattedHtml += '<div class="text-center my-2"><button id="loadMoreMatchesBtn" class="btn btn-sm btn-outline-secondary">Load more matches</button></div>';
+        }
+        $('#logContent').html(formattedHtml);
 
-            // Try to parse timestamp, class name/username, and message
-            const timestampMatch = line.match(/^(\d{4}-\d{2}-\d{2} \d{2}:\d{2}:\d{2})/);
-            if (timestampMatch) {
-                const timestamp = timestampMatch[1];
-                const rest = line.substring(timestamp.length);
-
-                // Try to extract class name or username
-                const contextMatch = rest.match(/\[(.*?)\]/);
-                if (contextMatch) {
-                    const context = contextMatch[1];
-                    const message = rest.substring(contextMatch[0].length);
-
-                    formattedHtml += `<div class="log-line ${lineClass}" data-line="${index}">
-                        <span class="log-timestamp">${timestamp}</span>
-                        <span class="log-context">[${context}]</span>
-                        <span class="log-message">${message}</span>
-                    </div>`;
-                } else {
-                    formattedHtml += `<div class="log-line ${lineClass}" data-line="${index}">
-                        <span class="log-timestamp">${timestamp}</span>
-                        <span class="log-message">${rest}</span>
-                    </div>`;
-                }
-            } else {
-                formattedHtml += `<div class="log-line ${lineClass}" data-line="${index}">${line}</div>`;
-            }
-        });
+        updateStats(matchInfo);
+    }
 
-        formattedHtml += '</div>';
-        $('#logContent').html(formattedHtml);
+    // Formats one log line: timestamp, [context] and message when the line has them
+    function formatLogLine(logLine) {
+        const line = logLine.text || '';
+        let lineClass = '';
+        if (logLine.level === 'ERROR') {
+            lineClass = 'log-error';
+        } else if (logLine.level === 'WARN') {
+            lineClass = 'log-warning';
+        } else if (logLine.level === 'INFO') {
+            lineClass = 'log-info';
+        }
 
-        // Update stats
-        $('#logStats').html(`
-            <span class="me-3"><i class="bi bi-list-ul me-1"></i>${lineCount} lines</span>
-            <span class="badge bg-danger me-1">${errorCount} errors</span>
-            <span class="badge bg-warning text-dark me-1">${warningCount} warnings</span>
-            <span class="badge bg-info text-dark">${infoCount} info</span>
-        `);
+        // Try to parse timestamp, class name/username, and message
+        const timestampMatch = line.match(/^(\d{4}-\d{2}-\d{2} \d{2}:\d{2}:\d{2})/);
+        if (timestampMatch) {
+            const timestamp = timestampMatch[1];
+            const rest = line.substring(timestamp.length);
+
+            // Try to extract class name or username
+            const contextMatch = rest.match(/\[(.*?)\]/);
+            if (contextMatch) {
+                const context = contextMatch[1];
+                const message = rest.substring(contextMatch.index + contextMatch[0].length);
+                const before = rest.substring(0, contextMatch.index);
+
+                return `<div class="log-line ${lineClass}" data-line="${logLine.line}">
+                    <span class="log-timestamp">${timestamp}</span>${escapeHtml(before)}
+                    <span class="log-context">[${escapeHtml(context)}]</span>
+                    <span class="log-message">${escapeHtml(message)}</span>
+                </div>`;
+            }
+            return `<div class="log-line ${lineClass}" data-line="${logLine.line}">
+                <span class="log-timestamp">${timestamp}</span>
+                <span class="log-message">${escapeHtml(rest)}</span>
+            </div>`;
+        }
+        return `<div class="log-line ${lineClass}" data-line="${logLine.line}">${escapeHtml(line)}</div>`;
+    }
 
-        // Scroll to bottom if auto-scroll is enabled
-        if (autoScroll) {
-            scrollToBottom();
+    // Stats come from the log index (whole file), not from the loaded pages
+    function updateStats(matchInfo) {
+        if (!logSummary) {
+            $('#logStats').html(`<span class="me-3"><i class="bi bi-list-ul me-1"></i>${logLines.length} lines loaded</span>`);
+            return;
         }
+        let html = matchInfo ? `<span class="badge bg-primary me-3">${matchInfo}</span> ` : '';
+        html += `
+            <span class="me-3"><i class="bi bi-list-ul me-1"></i>${logLines.length}/${logSummary.totalLines} lines</span>
+            <span class="badge bg-danger me-1">${logSummary.errorCount} errors</span>
+            <span class="badge bg-warning text-dark me-1">${logSummary.warnCount} warnings</span>
+            <span class="badge bg-info text-dark">${logSummary.infoCount} info</span>`;
+        $('#logStats').html(html);
     }
 
-    // Function to filter logs
+    // Function to filter logs - runs on the server over the whole log
     function filterLogs() {
-        if (!logData) return;
+        if (!currentUsername) return;
 
-        const searchTerm = $('#logSearch').val().toLowerCase();
+        const searchTerm = $('#logSearch').val();
         if (!searchTerm) {
-            displayLogData(logData);
+            activeQuery = null;
+            loadUserLog(currentUsername);
             return;
         }
 
-        const lines = logData.split('\n');
-        let filteredLines = [];
+        activeQuery = { text: searchTerm, nextLine: 0, hasMore: false };
+        logLines = [];
+        runQuery(true);
+    }
+
+    function loadMoreMatches() {
+        if (activeQuery && activeQuery.hasMore) {
+            runQuery(false);
+        }
+    }
+
+    function runQuery(firstPage) {
+        const query = activeQuery;
+        $.ajax({
+            url: `/logs/${encodeURIComponent(currentUsername)}/query`,
+            method: 'GET',
+            data: { text: query.text, fromLine: query.nextLine, limit: PAGE_LINES },
+            success: function(page) {
+                if (query !== activeQuery) return;
+                logLines = logLines.concat(page.lines || []);
+                query.nextLine = page.nextLine;
+                query.hasMore = page.hasMore;
+
+                if (!logLines.length) {
+                    $('#logContent').html(`<div class="log-placeholder"><div class="text-center"><i class="bi bi-search text-muted fs-1 mb-3"></i><p>No matching logs found for "${escapeHtml(query.text)}"</p></div></div>`);
+                    $('#logStats').html(`<span>No matches for "${escapeHtml(query.text)}"</span>`);
+                    // Using the new toast alert system
+                    window.showToast('Search Results', `No matches found for "${query.text}"`, 'info');
+                    return;
+                }
 
-        lines.forEach(line => {
-            if (line.toLowerCase().includes(searchTerm)) {
-                filteredLines.push(line);
+                displayLogLines(`Filtered: ${logLines.length}${query.hasMore ? '+' : ''}`);
+                if (firstPage) {
+                    // Using the new toast alert system
+                    window.showToast('Search Results', `Found ${logLines.length}${query.hasMore ? '+' : ''} matches for "${query.text}"`, 'success');
+                }
+            },
+            error: function(xhr, status, error) {
+                window.showToast('Error', 'Failed to filter logs: ' + error, 'error');
             }
         });
+    }
 
-        if (filteredLines.length === 0) {
-            $('#logContent').html(`<div class="log-placeholder"><div class="text-center"><i class="bi bi-search text-muted fs-1 mb-3"></i><p>No matching logs found for "${searchTerm}"</p></div></div>`);
-            $('#logStats').html(`<span>No matches for "${searchTerm}"</span>`);
-            // Using the new toast alert system
-            window.showToast('Search Results', `No matches found for "${searchTerm}"`, 'info');
-        } else {
-            displayLogData(filteredLines.join('\n'));
-            $('#logStats').prepend(`<span class="badge bg-primary me-3">Filtered: ${filteredLines.length}/${lines.length}</span> `);
-            // Using the new toast alert system
-            window.showToast('Search Results', `Found ${filteredLines.length} matches for "${searchTerm}"`, 'success');
+    // Searches every user's log on the server (in parallel) and shows matches grouped by user
+    function searchAllLogs() {
+        const searchTerm = $('#logSearch').val();
+        if (!searchTerm) {
+            window.showToast('Search', 'Enter a text to search in all logs', 'info');
+            return;
         }
+
+        $('.user-item').removeClass('active');
+        currentUsername = null;
+        activeQuery = null;
+        logLines = [];
+        $('#exportBtn').prop('disabled', true);
+        $('#currentLogTitle').html(`<i class="bi bi-people me-2"></i>Search in all logs: <strong>${escapeHtml(searchTerm)}</strong>`);
+        $('#logContent').html('<div class="log-loading"><div class="spinner-border text-primary" role="status"></div><p>Searching all logs...</p></div>');
+
+        $.ajax({
+            url: '/logs/search',
+            method: 'GET',
+            data: { text: searchTerm },
+            success: function(response) {
+                const results = response.results || [];
+                if (!results.length) {
+                    $('#logContent').html(`<div class="log-placeholder"><div class="text-center"><i class="bi bi-search text-muted fs-1 mb-3"></i><p>No matches in ${response.users} logs</p></div></div>`);
+                    $('#logStats').text(`No matches in ${response.users} logs`);
+                    return;
+                }
+
+                let matchCount = 0;
+                let html = '';
+                results.sort((a, b) => a.username.localeCompare(b.username)).forEach(result => {
+                    matchCount += result.lines.length;
+                    html += `<div class="log-line fw-bold mt-2"><a href="#" class="search-user-link" data-username="${escapeHtml(result.username)}">${escapeHtml(result.username)}</a>
+                        <span class="text-muted">(${result.lines.length}${result.truncated ? '+' : ''} matches)</span></div>`;
+                    html += '<div class="log-lines">' + result.lines.map(formatLogLine).join('') + '</div>';
+                });
+                $('#logContent').html(html);
+                $('#logStats').html(`<span class="badge bg-primary me-3">${matchCount} matches</span><span>${results.length}/${response.users} users</span>`);
+            },
+            error: function(xhr, status, error) {
+                $('#logContent').html(`<div class="log-error"><div class="text-center"><i class="bi bi-exclamation-triangle text-danger fs-1 mb-3"></i><p>Error searching logs: ${error}</p></div></div>`);
+                window.showToast('Error', 'Failed to search logs: ' + error, 'error');
+            }
+        });
+    }
+
+    // Open a user's log from the cross-user search results
+    $(document).on('click', '.search-user-link', function(e) {
+        e.preventDefault();
+        const username = $(this).data('username');
+        $('.user-item').removeClass('active');
+        $(`.user-item[data-username="${username}"]`).addClass('active');
+        currentUsername = username;
+        loadUserLog(username);
+    });
+
+    function escapeHtml(text) {
+        return String(text)
+            .replace(/&/g, '&amp;')
+            .replace(/</g, '&lt;')
+            .replace(/>/g, '&gt;')
+            .replace(/"/g, '&quot;');
     }
 
     // Function to refresh logs list with version information
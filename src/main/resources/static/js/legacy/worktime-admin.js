@@ -22,8 +22,57 @@ document.addEventListener('DOMContentLoaded', function() {
 
     // Initialize click-outside handler
     initializeClickOutsideHandler();
+
+    initializeEditedTimeTooltips();
 });
 
+/**
+ * The server rendered grid may be served from cache, so its tooltips leave out the relative edit time.
+ * Add it on hover, computed from the cell's data-edited-at (the status line is the tooltip's last line).
+ */
+function initializeEditedTimeTooltips() {
+    document.addEventListener('mouseover', function(event) {
+        const cell = event.target.closest ? event.target.closest('.worktime-cell[data-edited-at]') : null;
+        if (!cell) {
+            return;
+        }
+
+        const editedAt = new Date(cell.dataset.editedAt);
+        if (isNaN(editedAt.getTime())) {
+            return;
+        }
+        if (cell.dataset.baseTitle === undefined) {
+            cell.dataset.baseTitle = cell.title;
+        }
+        cell.title = `${cell.dataset.baseTitle} (${formatEditedTimeAgo(editedAt)})`;
+    });
+}
+
+/**
+ * Same wording as StatusDTOConverter.formatTimeAgo
+ */
+function formatEditedTimeAgo(editedAt) {
+    const now = new Date();
+    const minutes = Math.floor((now.getTime() - editedAt.getTime()) / 60000);
+    if (minutes < 1) return 'Just now';
+    if (minutes < 60) return `${minutes}m ago`;
+
+    const hours = Math.floor(minutes / 60);
+    if (hours < 24) return `${hours}h ago`;
+
+    const days = Math.floor(hours / 24);
+    if (days < 7) return `${days}d ago`;
+
+    const weeks = Math.floor(days / 7);
+    if (weeks < 4) return `${weeks}w ago`;
+
+    let months = (now.getFullYear() - editedAt.getFullYear()) * 12 + now.getMonth() - editedAt.getMonth();
+    if (now.getDate() < editedAt.getDate()) months--;
+    if (months < 12) return `${months} mo ago`;
+
+    return `${Math.floor(months / 12)}y ago`;
+}
+
 /**
  * Show editor popup for worktime cell
  * Enhanced with dynamic entry information display
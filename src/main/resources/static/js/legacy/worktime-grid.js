@@ -0,0 +1,272 @@
+/**
+ * Client rendered admin worktime grid
+ *
+ * Loads the month from /admin/worktime/grid-data (compact JSON, revalidated with ETag) and renders only the rows
+ * visible in the scroll container, plus a few above and below. Rows outside are replaced by two spacer rows,
+ * so the scrollbar still covers the whole table.
+ *
+ * Cells carry the same data-user-id / data-date attributes and onclick as the server rendered grid, so
+ * worktime-admin.js handles editing unchanged. The cells have no editor of their own: one shared editor
+ * is moved into the clicked cell, and its entry details are loaded on demand (entry-details endpoint).
+ *
+ * Payload size and render time are logged to the console; open the page with render=server
+ * to log the same for the server rendered grid.
+ */
+
+// Rows rendered above and below the visible ones
+const GRID_OVERSCAN_ROWS = 10;
+
+const gridState = {
+    data: null,
+    container: null,
+    table: null,
+    rowHeight: 33,          // Measured after the first render
+    rowHeightMeasured: false,
+    firstRow: -1,
+    lastRow: -1,
+    scrollScheduled: false
+};
+
+document.addEventListener('DOMContentLoaded', function() {
+    const table = document.getElementById('worktimeGrid');
+    if (!table) {
+        logServerRenderedGridMetrics();
+        return;
+    }
+
+    gridState.table = table;
+    gridState.container = document.getElementById('worktimeGridContainer');
+    loadGrid(table.dataset.year, table.dataset.month);
+});
+
+/**
+ * Fetch the month grid and render it
+ */
+async function loadGrid(year, month) {
+    const url = `/admin/worktime/grid-data?year=${year}&month=${month}`;
+    const fetchStart = performance.now();
+
+    try {
+        const response = await fetch(url, {
+            headers: { 'Accept': 'application/json' }
+        });
+
+        if (!response.ok) {
+            throw new Error(`HTTP error! status: ${response.status}`);
+        }
+
+        const text = await response.text();
+        const fetchTime = performance.now() - fetchStart;
+        gridState.data = JSON.parse(text);
+
+        const renderStart = performance.now();
+        renderGridHeader();
+        renderVisibleRows(true);
+        const renderTime = performance.now() - renderStart;
+
+        const timing = performance.getEntriesByName(new URL(url, window.location.origin).href)[0];
+        console.log(`Worktime grid (client rendered): ${gridState.data.rows.length} users, ` +
+            `${(text.length / 1024).toFixed(1)} KB JSON (${timing ? timing.transferSize : '?'} bytes transferred), ` +
+            `fetched in ${fetchTime.toFixed(0)} ms, first render ${renderTime.toFixed(1)} ms`);
+
+        gridState.container.addEventListener('scroll', scheduleRender, { passive: true });
+        window.addEventListener('resize', scheduleRender);
+
+    } catch (error) {
+        console.error('Error loading worktime grid:', error);
+        const tbody = gridState.table.tBodies[0];
+        tbody.innerHTML = `<tr><td class="text-center text-danger py-4">
+            Failed to load worktime data. <a href="?year=${year}&month=${month}&render=server">Show server rendered table</a>
+        </td></tr>`;
+    }
+}
+
+/**
+ * Render the header row (same columns as the server rendered grid)
+ */
+function renderGridHeader() {
+    const data = gridState.data;
+    let html = '<th class="align-middle">Name</th><th class="align-middle">ID</th>';
+
+    for (let i = 0; i < data.daysInMonth; i++) {
+        html += `<th class="day-column align-middle${data.weekend[i] ? ' weekend' : ''}">
+            <div class="day-header">
+                <div class="day-initial">${escapeGridHtml(data.dayInitials[i])}</div>
+                <div class="day-number">${i + 1}</div>
+            </div>
+        </th>`;
+    }
+
+    html += '<th class="text-center align-middle summary-col">Reg.Hrs</th>' +
+        '<th class="text-center align-middle summary-col">OT</th>' +
+        '<th class="text-center align-middle summary-col">Days</th>' +
+        '<th class="text-center align-middle summary-col">Off</th>';
+
+    gridState.table.tHead.rows[0].innerHTML = html;
+}
+
+/**
+ * Render the rows in and around the visible part of the scroll container
+ * @param {boolean} force - render even if the visible rows did not change
+ */
+function renderVisibleRows(force) {
+    const rows = gridState.data.rows;
+    const container = gridState.container;
+    const rowHeight = gridState.rowHeight;
+
+    const bodyScrollTop = Math.max(0, container.scrollTop - gridState.table.tHead.offsetHeight);
+    const firstRow = Math.max(0, Math.floor(bodyScrollTop / rowHeight) - GRID_OVERSCAN_ROWS);
+    const lastRow = Math.min(rows.length, firstRow + Math.ceil(container.clientHeight / rowHeight) + 2 * GRID_OVERSCAN_ROWS);
+
+    if (!force && firstRow === gridState.firstRow && lastRow === gridState.lastRow) {
+        return;
+    }
+    gridState.firstRow = firstRow;
+    gridState.lastRow = lastRow;
+
+    // The shared editor may sit in a cell that is about to be replaced
+    detachSharedEditor();
+
+    const columnCount = gridState.data.daysInMonth + 6;
+    let html = renderSpacerRow(firstRow * rowHeight, columnCount);
+    for (let i = firstRow; i < lastRow; i++) {
+        html += renderRow(rows[i]);
+    }
+    html += renderSpacerRow((rows.length - lastRow) * rowHeight, columnCount);
+    gridState.table.tBodies[0].innerHTML = html;
+
+    // Spacer heights assume a row height - measure the real one once and render again
+    if (!gridState.rowHeightMeasured && lastRow > firstRow) {
+        gridState.rowHeightMeasured = true;
+        const renderedRow = gridState.table.tBodies[0].querySelector('tr[data-row]');
+        if (renderedRow && renderedRow.offsetHeight > 0 && renderedRow.offsetHeight !== rowHeight) {
+            gridState.rowHeight = renderedRow.offsetHeight;
+            renderVisibleRows(true);
+        }
+    }
+}
+
+/**
+ * Render one user row
+ */
+function renderRow(row) {
+    const data = gridState.data;
+    let html = `<tr data-row="${row.userId}">
+        <td>${escapeGridHtml(row.name)}</td>
+        <td class="text-monospace">${row.employeeId != null ? row.employeeId : ''}</td>`;
+
+    for (let i = 0; i < data.daysInMonth; i++) {
+        const code = row.codes[i];
+        const cssClass = data.legend[row.styles[i]];
+        const date = `${data.year}-${data.month}-${i + 1}`;  // Same format as WorkTimeDisplayDTO.dateString
+
+        let content;
+        if (code == null) {
+            content = '<span>-</span>';
+        } else if (cssClass) {
+            content = `<span class="${escapeGridHtml(cssClass)}">${escapeGridHtml(code)}</span>`;
+        } else {
+            content = `<span>${escapeGridHtml(code)}</span>`;
+        }
+
+        html += `<td class="text-center align-middle worktime-cell${data.weekend[i] ? ' weekend' : ''}"
+            data-user-id="${row.userId}" data-date="${date}" onclick="showGridEditor(this)">${content}</td>`;
+    }
+
+    const totals = row.totals || [0, 0, 0, 0];
+    html += `<td class="summary-col text-center"><span>${formatGridMinutes(totals[0])}</span></td>
+        <td class="summary-col text-center"><span>${formatGridMinutes(totals[1])}</span></td>
+        <td class="summary-col text-center"><span>${totals[2]}</span></td>
+        <td class="summary-col text-center"><span>${totals[3]}</span></td>
+    </tr>`;
+
+    return html;
+}
+
+function renderSpacerRow(height, columnCount) {
+    if (height <= 0) {
+        return '';
+    }
+    return `<tr class="grid-spacer" aria-hidden="true">
+        <td colspan="${columnCount}" style="height: ${height}px; padding: 0 !important; border: 0;"></td>
+    </tr>`;
+}
+
+/**
+ * Re-render on scroll / resize, at most once per frame
+ */
+function scheduleRender() {
+    if (gridState.scrollScheduled) {
+        return;
+    }
+    gridState.scrollScheduled = true;
+    requestAnimationFrame(() => {
+        gridState.scrollScheduled = false;
+        renderVisibleRows(false);
+    });
+}
+
+/**
+ * Move the shared editor into the clicked cell and show it (see showEditor in worktime-admin.js)
+ */
+function showGridEditor(cell) {
+    const editor = getSharedEditor();
+    if (editor && editor.parentElement !== cell) {
+        hideAllEditors();
+        cell.appendChild(editor);
+    }
+    showEditor(cell);
+}
+
+/**
+ * Put the shared editor back in its holder, hidden
+ */
+function detachSharedEditor() {
+    const editor = getSharedEditor();
+    const holder = document.getElementById('worktimeEditorHolder');
+    if (editor && holder && editor.parentElement !== holder) {
+        editor.classList.remove('show');
+        editor.style.display = 'none';
+        holder.appendChild(editor);
+    }
+}
+
+function getSharedEditor() {
+    return document.querySelector('#worktimeEditorHolder .worktime-editor, #worktimeGrid .worktime-editor');
+}
+
+/**
+ * Format minutes as HH:mm (same as CalculateWorkHoursUtil.minutesToHHmm)
+ */
+function formatGridMinutes(minutes) {
+    const absMinutes = Math.abs(minutes || 0);
+    const formatted = `${String(Math.floor(absMinutes / 60)).padStart(2, '0')}:${String(absMinutes % 60).padStart(2, '0')}`;
+    return minutes < 0 ? '-' + formatted : formatted;
+}
+
+function escapeGridHtml(value) {
+    if (value == null) {
+        return '';
+    }
+    return String(value)
+        .replace(/&/g, '&amp;')
+        .replace(/</g, '&lt;')
+        .replace(/>/g, '&gt;')
+        .replace(/"/g, '&quot;')
+        .replace(/'/g, '&#39;');
+}
+
+/**
+ * Log size and timing of the server rendered grid, for comparison with the client rendered one
+ */
+function logServerRenderedGridMetrics() {
+    const table = document.querySelector('.worktime-table');
+    if (!table) {
+        return;
+    }
+
+    const navigation = performance.getEntriesByType('navigation')[0];
+    console.log(`Worktime grid (server rendered): ${table.tBodies[0].rows.length} users, ` +
+        `${(table.outerHTML.length / 1024).toFixed(1)} KB table HTML` +
+        (navigation ? `, page ${navigation.transferSize} bytes transferred, DOM ready in ${navigation.domContentLoadedEventEnd.toFixed(0)} ms` : ''));
+}
@@ -0,0 +1,139 @@
+import com.ctgraphdep.enums.ActionType;
+import com.ctgraphdep.model.BonusConfiguration;
+import com.ctgraphdep.model.RegisterEntry;
+import com.ctgraphdep.model.RegisterMonthColumns;
+import com.ctgraphdep.model.dto.RegisterSummaryDTO;
+import com.ctgraphdep.model.dto.bonus.BonusCalculationResultDTO;
+import com.ctgraphdep.utils.BonusCalculatorUtil;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the per-user bonus path (List<RegisterEntry> per user, as in AdminRegisterService.calculateBonus)
+ * with the column kernels (RegisterMonthColumns + BonusCalculatorUtil.calculateBonuses) on synthetic data.
+ * Only the computation is measured; the file reads saved by the month path (one admin worktime read
+ * instead of one per user, three bonus files instead of three per user) come on top of this.
+ * Run from the IDE: main(users, entriesPerUser, iterations), defaults 40 / 400 / 200.
+ */
+public class BonusKernelBenchmark {
+
+    public static void main(String[] args) {
+        int users = args.length > 0 ? Integer.parseInt(args[0]) : 40;
+        int entriesPerUser = args.length > 1 ? Integer.parseInt(args[1]) : 400;
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+
+        BonusCalculatorUtil calculator = new BonusCalculatorUtil();
+        BonusConfiguration config = BonusConfiguration.getDefaultConfig();
+
+        List<List<RegisterEntry>> registers = generateRegisters(users, entriesPerUser);
+        int[] workedDays = new int[users];
+        for (int i = 0; i < users; i++) {
+            workedDays[i] = 15 + (i % 8);
+        }
+
+        // Results must match before timings mean anything
+        BonusCalculationResultDTO[] perUser = perUserBonuses(calculator, registers, workedDays, config);
+        BonusCalculationResultDTO[] columnar = calculator.calculateBonuses(buildColumns(registers), workedDays, config);
+        for (int i = 0; i < users; i++) {
+            if (Math.abs(perUser[i].getBonusAmount() - columnar[i].getBonusAmount()) > 1e-9
+                    || perUser[i].getEntries() != columnar[i].getEntries()) {
+                throw new IllegalStateException("Result mismatch for user " + i + ": " + perUser[i] + " vs " + columnar[i]);
+            }
+        }
+
+        // Warm up both paths
+        for (int i = 0; i < iterations; i++) {
+            perUserBonuses(calculator, registers, workedDays, config);
+            calculator.calculateBonuses(buildColumns(registers), workedDays, config);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            perUserBonuses(calculator, registers, workedDays, config);
+            perUserSummaries(registers);
+        }
+        long perUserNanos = System.nanoTime() - start;
+
+        // Columns are rebuilt every iteration, as the month path does once per request
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            RegisterMonthColumns columns = buildColumns(registers);
+            calculator.calculateBonuses(columns, workedDays, config);
+            calculator.calculateRegisterSummaries(columns);
+        }
+        long columnarNanos = System.nanoTime() - start;
+
+        System.out.println("Bonus kernel benchmark");
+        System.out.println("----------------------");
+        System.out.printf("Users: %d, entries per user: %d, iterations: %d%n", users, entriesPerUser, iterations);
+        System.out.printf("Per-user path: %.3f ms per month%n", perUserNanos / 1_000_000.0 / iterations);
+        System.out.printf("Column path:   %.3f ms per month%n", columnarNanos / 1_000_000.0 / iterations);
+        System.out.printf("Speed-up:      %.2fx%n", (double) perUserNanos / columnarNanos);
+    }
+
+    private static BonusCalculationResultDTO[] perUserBonuses(BonusCalculatorUtil calculator, List<List<RegisterEntry>> registers,
+                                                              int[] workedDays, BonusConfiguration config) {
+        List<String> eligibleTypes = ActionType.getBonusEligibleValues();
+        BonusCalculationResultDTO[] results = new BonusCalculationResultDTO[registers.size()];
+        for (int i = 0; i < registers.size(); i++) {
+            List<RegisterEntry> validEntries = registers.get(i).stream()
+                    .filter(entry -> eligibleTypes.contains(entry.getActionType()))
+                    .collect(Collectors.toList());
+            double sumArticleNumbers = validEntries.stream().mapToDouble(RegisterEntry::getArticleNumbers).sum();
+            double sumComplexity = validEntries.stream().mapToDouble(RegisterEntry::getGraphicComplexity).sum();
+            results[i] = calculator.calculateBonus(validEntries.size(), workedDays[i], sumArticleNumbers, sumComplexity, config);
+        }
+        return results;
+    }
+
+    private static RegisterSummaryDTO[] perUserSummaries(List<List<RegisterEntry>> registers) {
+        List<String> eligibleTypes = ActionType.getBonusEligibleValues();
+        RegisterSummaryDTO[] summaries = new RegisterSummaryDTO[registers.size()];
+        for (int i = 0; i < registers.size(); i++) {
+            List<RegisterEntry> validEntries = registers.get(i).stream()
+                    .filter(entry -> eligibleTypes.contains(entry.getActionType()))
+                    .collect(Collectors.toList());
+            summaries[i] = RegisterSummaryDTO.builder()
+                    .totalEntries(validEntries.size())
+                    .averageArticleNumbers(validEntries.stream().mapToDouble(RegisterEntry::getArticleNumbers).average().orElse(0.0))
+                    .averageGraphicComplexity(validEntries.stream().mapToDouble(RegisterEntry::getGraphicComplexity).average().orElse(0.0))
+                    .build();
+        }
+        return summaries;
+    }
+
+    private static RegisterMonthColumns buildColumns(List<List<RegisterEntry>> registers) {
+        RegisterMonthColumns.Builder builder = RegisterMonthColumns.builder(2025, 1);
+        for (int i = 0; i < registers.size(); i++) {
+            builder.addUser(i + 1, registers.get(i));
+        }
+        return builder.build();
+    }
+
+    private static List<List<RegisterEntry>> generateRegisters(int users, int entriesPerUser) {
+        Random random = new Random(42);
+        List<String> actionTypes = ActionType.getValues();
+        LocalDate firstDay = LocalDate.of(2025, 1, 1);
+
+        List<List<RegisterEntry>> registers = new ArrayList<>();
+        for (int user = 1; user <= users; user++) {
+            List<RegisterEntry> entries = new ArrayList<>(entriesPerUser);
+            for (int i = 0; i < entriesPerUser; i++) {
+                entries.add(RegisterEntry.builder()
+                        .entryId(i + 1)
+                        .userId(user)
+                        .date(firstDay.plusDays(random.nextInt(31)))
+                        .actionType(actionTypes.get(random.nextInt(actionTypes.size())))
+                        .articleNumbers(1 + random.nextInt(20))
+                        .graphicComplexity(0.5 * (1 + random.nextInt(8)))
+                        .build());
+            }
+            registers.add(entries);
+        }
+        return registers;
+    }
+}
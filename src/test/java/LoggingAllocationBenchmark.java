@@ -0,0 +1,154 @@
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import com.ctgraphdep.fileOperations.service.FileWriterService;
+import com.ctgraphdep.merge.constants.MergingStatusConstants;
+import com.ctgraphdep.merge.engine.UniversalMergeEngine;
+import com.ctgraphdep.merge.enums.EntityType;
+import com.ctgraphdep.utils.LoggerUtil;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Measures bytes allocated per file write and per merge by the logging done on those paths:
+ * the old call shape (String.format + LoggerUtil.debug/info(String), LoggerFactory lookup per call,
+ * Arrays.stream(values()) rule dispatch) against the new one (parameterized LoggerUtil overloads,
+ * cached loggers, rule loop over a cached array).
+ * Runs with com.ctgraphdep at INFO (debug disabled) and at DEBUG. The appender only formats the message
+ * (as the async appender does on the caller thread) and discards it, so I/O is not part of the numbers.
+ * The real UniversalMergeEngine.merge is measured as well for reference.
+ * Run from the IDE: main(iterations), default 200000.
+ */
+public class LoggingAllocationBenchmark {
+
+    private static final Class<?> WRITER = FileWriterService.class;
+    private static final Class<?> ENGINE = UniversalMergeEngine.class;
+    private static final UniversalMergeEngine[] RULES = UniversalMergeEngine.values();
+
+    private static final Path PATH = Path.of("dbj/user/worktime/worktime_john_2025_01.json");
+
+    private static final UniversalMergeEngine.UniversalMergeableEntity USER_INPUT = entity(MergingStatusConstants.USER_INPUT);
+    private static final UniversalMergeEngine.UniversalMergeableEntity ADMIN_INPUT = entity(MergingStatusConstants.ADMIN_INPUT);
+
+    private static volatile Object sink;
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Logger appLogger = configureLogback();
+
+        System.out.println("Logging allocation benchmark");
+        System.out.println("----------------------------");
+        System.out.printf("Iterations: %d%n", iterations);
+
+        for (Level level : new Level[]{Level.INFO, Level.DEBUG}) {
+            appLogger.setLevel(level);
+            System.out.printf("%ncom.ctgraphdep at %s%n", level);
+
+            long oldWrite = measure(threads, iterations, LoggingAllocationBenchmark::legacyFileWriteLogging);
+            long newWrite = measure(threads, iterations, LoggingAllocationBenchmark::fileWriteLogging);
+            long oldMerge = measure(threads, iterations, LoggingAllocationBenchmark::legacyMergeLogging);
+            long newMerge = measure(threads, iterations, LoggingAllocationBenchmark::mergeLogging);
+            long realMerge = measure(threads, iterations, () -> sink = UniversalMergeEngine.merge(USER_INPUT, ADMIN_INPUT, EntityType.WORKTIME));
+
+            System.out.printf("Per file write: %6d B -> %6d B%n", oldWrite, newWrite);
+            System.out.printf("Per merge:      %6d B -> %6d B%n", oldMerge, newMerge);
+            System.out.printf("UniversalMergeEngine.merge (current code): %d B%n", realMerge);
+        }
+    }
+
+    // Log statements executed by FileWriterService for one successful write, old shape
+    private static void legacyFileWriteLogging() {
+        LoggerFactory.getLogger(WRITER).info(String.format(
+                "Starting file write operation: %s (user: %s, backup: %s)", PATH.getFileName(), "john", true));
+        LoggerFactory.getLogger(WRITER).info(String.format(
+                "Successfully wrote file: %s (duration: %dms)", PATH, 3L));
+        LoggerFactory.getLogger(WRITER).info(String.format(
+                "Network sync initiated for: %s", PATH.getFileName()));
+    }
+
+    private static void fileWriteLogging() {
+        LoggerUtil.info(WRITER, "Starting file write operation: {} (user: {}, backup: {})", PATH.getFileName(), "john", true);
+        LoggerUtil.info(WRITER, "Successfully wrote file: {} (duration: {}ms)", PATH, 3L);
+        LoggerUtil.info(WRITER, "Network sync initiated for: {}", PATH.getFileName());
+    }
+
+    // Log statements and rule dispatch of one base-input merge (USER_INPUT vs ADMIN_INPUT), old shape
+    private static void legacyMergeLogging() {
+        LoggerFactory.getLogger(ENGINE).debug(String.format("Universal merge [%s]: entry1=%s, entry2=%s",
+                EntityType.WORKTIME, USER_INPUT.getUniversalStatus(), ADMIN_INPUT.getUniversalStatus()));
+        sink = Arrays.stream(UniversalMergeEngine.values())
+                .filter(rule -> rule == UniversalMergeEngine.BASE_INPUT_HIERARCHY)
+                .findFirst()
+                .orElse(null);
+        LoggerFactory.getLogger(ENGINE).debug(String.format("Base input rule: %s(priority=%d) vs %s(priority=%d), winner=%s",
+                USER_INPUT.getUniversalStatus(), 1, ADMIN_INPUT.getUniversalStatus(), 3, ADMIN_INPUT.getUniversalStatus()));
+        LoggerFactory.getLogger(ENGINE).debug(String.format("Merge result [%s]: %s",
+                EntityType.WORKTIME, ADMIN_INPUT.getUniversalStatus()));
+    }
+
+    private static void mergeLogging() {
+        LoggerUtil.debug(ENGINE, "Universal merge [{}]: entry1={}, entry2={}",
+                EntityType.WORKTIME, USER_INPUT.getUniversalStatus(), ADMIN_INPUT.getUniversalStatus());
+        for (UniversalMergeEngine rule : RULES) {
+            if (rule == UniversalMergeEngine.BASE_INPUT_HIERARCHY) {
+                sink = rule;
+                break;
+            }
+        }
+        LoggerUtil.debug(ENGINE, "Base input rule: {}(priority={}) vs {}(priority={}), winner={}",
+                USER_INPUT.getUniversalStatus(), 1, ADMIN_INPUT.getUniversalStatus(), 3, ADMIN_INPUT.getUniversalStatus());
+        LoggerUtil.debug(ENGINE, "Merge result [{}]: {}", EntityType.WORKTIME, ADMIN_INPUT.getUniversalStatus());
+    }
+
+    private static long measure(com.sun.management.ThreadMXBean threads, int iterations, Runnable operation) {
+        // Warm up so the JIT has compiled (and escape-analysed) the call sites
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / iterations;
+    }
+
+    private static Logger configureLogback() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        AppenderBase<ILoggingEvent> formattingAppender = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                sink = event.getFormattedMessage();
+            }
+        };
+        formattingAppender.setContext(context);
+        formattingAppender.start();
+
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.WARN);
+        root.addAppender(formattingAppender);
+        return context.getLogger("com.ctgraphdep");
+    }
+
+    private static UniversalMergeEngine.UniversalMergeableEntity entity(String status) {
+        return new UniversalMergeEngine.UniversalMergeableEntity() {
+            @Override
+            public String getUniversalStatus() {
+                return status;
+            }
+
+            @Override
+            public Object getIdentifier() {
+                return status;
+            }
+        };
+    }
+}